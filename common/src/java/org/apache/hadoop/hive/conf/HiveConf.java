@@ -164,6 +164,13 @@ public class HiveConf extends Configuration {
     METASTORESERVERMINTHREADS("hive.metastore.server.min.threads", 200),
     METASTORESERVERMAXTHREADS("hive.metastore.server.max.threads", Integer.MAX_VALUE),
     METASTORE_TCP_KEEP_ALIVE("hive.metastore.server.tcp.keepalive", true),
+    METASTORE_SERVER_NONBLOCKING("hive.metastore.server.nonblocking", false),
+    METASTORE_SERVER_WORKER_THREADS("hive.metastore.server.worker.threads", 100),
+    METASTORE_SERVER_WORKER_QUEUE_SIZE("hive.metastore.server.worker.queue.size", 10000),
+    METASTORE_SERVER_MAX_MESSAGE_SIZE("hive.metastore.server.max.message.size", 100L * 1024 * 1024),
+    METASTORE_USE_THRIFT_FRAMED_TRANSPORT("hive.metastore.thrift.framed.transport.enabled", false),
+    METASTORE_METRICS_ENABLED("hive.metastore.metrics.enabled", true),
+    METASTORE_METRICS_LOG_INTERVAL("hive.metastore.metrics.log.interval", 0),
     // Intermediate dir suffixes used for archiving. Not important what they
     // are, as long as collisions are avoided
     METASTORE_INT_ORIGINAL("hive.metastore.archive.intermediate.original",
@@ -176,6 +183,9 @@ public class HiveConf extends Configuration {
     METASTORE_KERBEROS_PRINCIPAL("hive.metastore.kerberos.principal", ""),
     METASTORE_USE_THRIFT_SASL("hive.metastore.sasl.enabled", false),
     METASTORE_CACHE_PINOBJTYPES("hive.metastore.cache.pinobjtypes", "Table,StorageDescriptor,SerDeInfo,Partition,Database,Type,FieldSchema,Order"),
+    METASTORE_SERVER_CACHE_ENABLED("hive.metastore.server.cache.enabled", false),
+    METASTORE_SERVER_CACHE_SIZE("hive.metastore.server.cache.size", 10000),
+    METASTORE_TRY_DIRECT_SQL("hive.metastore.try.direct.sql", false),
 
     // Default parameters for creating tables
     NEWTABLEDEFAULTPARA("hive.table.parameters.default",""),
@@ -222,9 +232,15 @@ public class HiveConf extends Configuration {
     HIVEALIAS("hive.alias", ""),
     HIVEMAPSIDEAGGREGATE("hive.map.aggr", "true"),
     HIVEGROUPBYSKEW("hive.groupby.skewindata", "false"),
+    // plan a single distinct aggregation in two stages for large inputs
+    HIVEGROUPBYDISTINCTTWOSTAGE("hive.groupby.distinct.twostage", true),
+    HIVEGROUPBYDISTINCTTWOSTAGETHRESHOLD("hive.groupby.distinct.twostage.threshold", 10000000L),
     HIVEJOINEMITINTERVAL("hive.join.emit.interval", 1000),
     HIVEJOINCACHESIZE("hive.join.cache.size", 25000),
     HIVEMAPJOINBUCKETCACHESIZE("hive.mapjoin.bucket.cache.size", 100),
+    // rows of each small table read ahead by a sorted merge map join, 0 to
+    // read them on the join's own thread
+    HIVESMBJOINPREFETCHROWS("hive.smbjoin.prefetch.rows", 1000),
     HIVEMAPJOINROWSIZE("hive.mapjoin.size.key", 10000),
     HIVEMAPJOINCACHEROWS("hive.mapjoin.cache.numrows", 25000),
     HIVEGROUPBYMAPINTERVAL("hive.groupby.mapaggr.checkinterval", 100000),
@@ -278,6 +294,9 @@ public class HiveConf extends Configuration {
     HIVESKEWJOINKEY("hive.skewjoin.key", 1000000),
     HIVESKEWJOINMAPJOINNUMMAPTASK("hive.skewjoin.mapjoin.map.tasks", 10000),
     HIVESKEWJOINMAPJOINMINSPLIT("hive.skewjoin.mapjoin.min.split", 33554432L), //32M
+    HIVESKEWJOINADAPTIVE("hive.optimize.skewjoin.adaptive", false),
+    HIVESKEWJOINADAPTIVESAMPLES("hive.optimize.skewjoin.adaptive.samples", 10000),
+    HIVESKEWJOINADAPTIVESPLITS("hive.optimize.skewjoin.adaptive.splits", 10),
     MAPREDMINSPLITSIZE("mapred.min.split.size", 1L),
     HIVEMERGEMAPONLY("hive.mergejob.maponly", true),
 
@@ -301,6 +320,9 @@ public class HiveConf extends Configuration {
 
     HIVESCRIPTOPERATORTRUST("hive.exec.script.trust", false),
 
+    // compile filter and select expressions into bytecode
+    HIVEEXPRCOMPILE("hive.exec.compile.expressions", false),
+
     HIVE_COMBINE_INPUT_FORMAT_SUPPORTS_SPLITTABLE("hive.hadoop.supports.splittable.combineinputformat", false),
 
     // Optimizer
@@ -308,10 +330,26 @@ public class HiveConf extends Configuration {
     HIVEOPTPPD("hive.optimize.ppd", true), // predicate pushdown
     // push predicates down to storage handlers
     HIVEOPTPPD_STORAGE("hive.optimize.ppd.storage", true),
+    // evaluate pushed predicates in the RCFile reader
+    HIVEOPTPPD_RCFILE("hive.optimize.ppd.rcfile", false),
+    // read only the blocks selected by an index on the filtered columns
+    HIVEOPTINDEXFILTER("hive.optimize.index.filter", false),
+    HIVEOPTINDEXFILTER_COMPACT_MINSIZE("hive.optimize.index.filter.compact.minsize", 5368709120L),
     HIVEOPTGROUPBY("hive.optimize.groupby", true), // optimize group by
     HIVEOPTBUCKETMAPJOIN("hive.optimize.bucketmapjoin", false), // optimize bucket map join
     HIVEOPTSORTMERGEBUCKETMAPJOIN("hive.optimize.bucketmapjoin.sortedmerge", false), // try to use sorted merge bucket map join
     HIVEOPTREDUCEDEDUPLICATION("hive.optimize.reducededuplication", true),
+    // answer simple aggregations from metastore statistics
+    HIVE_COMPUTE_QUERY_USING_STATS("hive.compute.query.using.stats", false),
+    // sample ORDER BY keys and range partition them across many reducers
+    HIVESAMPLINGFORORDERBY("hive.optimize.sampling.orderby", false),
+    HIVESAMPLINGNUMBERFORORDERBY("hive.optimize.sampling.orderby.number", 1000),
+    HIVESAMPLINGSPLITSFORORDERBY("hive.optimize.sampling.orderby.splits", 10),
+    // keep only the first rows of each mapper for ORDER BY ... LIMIT
+    HIVEOPTTOPN("hive.optimize.topn", true),
+    HIVEOPTTOPNMAXROWS("hive.optimize.topn.max.rows", 10000),
+    // let get_json_object calls on the same input share one scan of the text
+    HIVEOPTSHAREDJSONPARSE("hive.optimize.json.sharedparse", true),
 
     // Statistics
     HIVESTATSAUTOGATHER("hive.stats.autogather", true),
@@ -349,6 +387,12 @@ public class HiveConf extends Configuration {
 
     // Serde for FetchTask
     HIVEFETCHOUTPUTSERDE("hive.fetch.output.serde", "org.apache.hadoop.hive.serde2.DelimitedJSONSerDe"),
+    // Run LIMIT queries over a single table in the FetchTask
+    HIVEFETCHTASKCONVERSION("hive.fetch.task.conversion", false),
+    HIVEFETCHTASKCONVERSIONMAXROWS("hive.fetch.task.conversion.max.rows", 10000),
+
+    // Cache table and partition metadata for the duration of a query
+    HIVEQUERYMETADATACACHE("hive.query.metadata.cache", true),
 
     // Hive Variables
     HIVEVARIABLESUBSTITUTE("hive.variable.substitute", true),
@@ -368,6 +412,7 @@ public class HiveConf extends Configuration {
 
     HIVE_ERROR_ON_EMPTY_PARTITION("hive.error.on.empty.partition", false),
 
+    HIVE_INDEX_COMPACT_FILE("hive.index.compact.file", ""),
     HIVE_INDEX_IGNORE_HDFS_LOC("hive.index.compact.file.ignore.hdfs", false), 
     ;
 
@@ -62,6 +62,8 @@ public class HBaseSerDe implements SerDe {
   public static final String HBASE_COLUMNS_MAPPING = "hbase.columns.mapping";
   public static final String HBASE_TABLE_NAME = "hbase.table.name";
   public static final String HBASE_KEY_COL = ":key";
+  public static final String HBASE_SCAN_CACHE = "hbase.scan.cache";
+  public static final String HBASE_SCAN_CACHEBLOCKS = "hbase.scan.cacheblock";
   public static final Log LOG = LogFactory.getLog(HBaseSerDe.class);
 
   private ObjectInspector cachedObjectInspector;
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -41,15 +42,20 @@ import org.apache.hadoop.hive.metastore.MetaStoreUtils;
 import org.apache.hadoop.hive.metastore.api.Constants;
 import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
 import org.apache.hadoop.hive.ql.index.IndexPredicateAnalyzer;
 import org.apache.hadoop.hive.ql.index.IndexSearchCondition;
 import org.apache.hadoop.hive.ql.metadata.DefaultStorageHandler;
 import org.apache.hadoop.hive.ql.metadata.HiveStoragePredicateHandler;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
 import org.apache.hadoop.hive.ql.plan.TableDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
 import org.apache.hadoop.hive.serde2.Deserializer;
 import org.apache.hadoop.hive.serde2.SerDe;
 import org.apache.hadoop.hive.serde2.SerDeException;
+import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.OutputFormat;
@@ -270,6 +276,15 @@ public class HBaseStorageHandler extends DefaultStorageHandler
         tableProperties.getProperty(Constants.META_TABLE_NAME);
     }
     jobProperties.put(HBaseSerDe.HBASE_TABLE_NAME, tableName);
+
+    // scan settings of the table take precedence over those of the session
+    for (String property : new String[] {
+        HBaseSerDe.HBASE_SCAN_CACHE, HBaseSerDe.HBASE_SCAN_CACHEBLOCKS}) {
+      String value = tableProperties.getProperty(property);
+      if (value != null) {
+        jobProperties.put(property, value);
+      }
+    }
   }
 
   @Override
@@ -283,19 +298,29 @@ public class HBaseStorageHandler extends DefaultStorageHandler
     List<String> columnNames =
       Arrays.asList(columnNameProperty.split(","));
     HBaseSerDe hbaseSerde = (HBaseSerDe) deserializer;
+    int iKey = hbaseSerde.getKeyColumnOffset();
+    // HBase sorts the row keys as bytes, which is the order of Hive strings
+    // but not of the text of numbers
+    boolean allowRanges =
+      org.apache.hadoop.hive.serde.Constants.STRING_TYPE_NAME.equals(
+      getKeyTypeName(hbaseSerde, iKey));
     IndexPredicateAnalyzer analyzer =
       HiveHBaseTableInputFormat.newIndexPredicateAnalyzer(
-        columnNames.get(hbaseSerde.getKeyColumnOffset()));
+        columnNames.get(iKey), allowRanges);
     List<IndexSearchCondition> searchConditions =
       new ArrayList<IndexSearchCondition>();
     ExprNodeDesc residualPredicate =
       analyzer.analyzePredicate(predicate, searchConditions);
-    if (searchConditions.size() != 1) {
-      // Either there was nothing which could be pushed down (size = 0),
-      // or more than one predicate (size > 1); in the latter case,
-      // we bail out for now since multiple lookups on the key are
-      // either contradictory or redundant.  We'll need to handle
-      // this better later when we support more interesting predicates.
+    if (allowRanges) {
+      residualPredicate =
+        keepStringRanges(searchConditions, residualPredicate);
+    }
+    if (searchConditions.isEmpty()
+        || (!allowRanges && searchConditions.size() > 1)) {
+      // Either there was nothing which could be pushed down, or more than
+      // one lookup on a key which does not support ranges; in the latter
+      // case, we bail out for now since multiple lookups on the key are
+      // either contradictory or redundant.
       return null;
     }
 
@@ -305,4 +330,54 @@ public class HBaseStorageHandler extends DefaultStorageHandler
     decomposedPredicate.residualPredicate = residualPredicate;
     return decomposedPredicate;
   }
+
+  /**
+   * Moves the range comparisons of the string key with a constant of another
+   * type back into the residual predicate.  Hive evaluates those by
+   * converting both sides to double, so key > 5 holds for "10" but not for
+   * "5a", which the byte order of the row keys cannot express.
+   *
+   * @return the residual predicate including the comparisons moved out of
+   * searchConditions
+   */
+  private static ExprNodeDesc keepStringRanges(
+    List<IndexSearchCondition> searchConditions,
+    ExprNodeDesc residualPredicate) {
+    Iterator<IndexSearchCondition> iter = searchConditions.iterator();
+    while (iter.hasNext()) {
+      IndexSearchCondition sc = iter.next();
+      if (sc.getComparisonOp().equals(GenericUDFOPEqual.class.getName())
+        || sc.getConstantDesc().getTypeInfo().equals(
+          TypeInfoFactory.stringTypeInfo)) {
+        continue;
+      }
+      iter.remove();
+      if (residualPredicate == null) {
+        residualPredicate = sc.getComparisonExpr();
+      } else {
+        List<ExprNodeDesc> children = new ArrayList<ExprNodeDesc>();
+        children.add(residualPredicate);
+        children.add(sc.getComparisonExpr());
+        residualPredicate = new ExprNodeGenericFuncDesc(
+          TypeInfoFactory.booleanTypeInfo,
+          FunctionRegistry.getGenericUDFForAnd(),
+          children);
+      }
+    }
+    return residualPredicate;
+  }
+
+  /**
+   * @return the Hive type name of the column mapped to the row key, or null
+   */
+  private static String getKeyTypeName(HBaseSerDe hbaseSerde, int iKey) {
+    try {
+      StructObjectInspector rowOI =
+        (StructObjectInspector) hbaseSerde.getObjectInspector();
+      return rowOI.getAllStructFieldRefs().get(iKey)
+        .getFieldObjectInspector().getTypeName();
+    } catch (SerDeException e) {
+      return null;
+    }
+  }
 }
@@ -27,13 +27,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.client.HTable;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Scan;
-import org.apache.hadoop.hbase.filter.BinaryComparator;
-import org.apache.hadoop.hbase.filter.CompareFilter;
-import org.apache.hadoop.hbase.filter.RowFilter;
-import org.apache.hadoop.hbase.filter.WhileMatchFilter;
 import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
 import org.apache.hadoop.hbase.mapreduce.TableInputFormatBase;
 import org.apache.hadoop.hbase.mapreduce.TableSplit;
@@ -45,8 +42,14 @@ import org.apache.hadoop.hive.ql.index.IndexPredicateAnalyzer;
 import org.apache.hadoop.hive.ql.index.IndexSearchCondition;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
 import org.apache.hadoop.hive.ql.metadata.HiveStoragePredicateHandler;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
 import org.apache.hadoop.hive.ql.plan.TableScanDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
 import org.apache.hadoop.hive.serde.Constants;
 import org.apache.hadoop.hive.serde2.ByteStream;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
@@ -152,6 +155,14 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
     // HBase scan form now.
     tableSplit = convertFilter(jobConf, scan, tableSplit, iKey);
 
+    int scanCaching = jobConf.getInt(HBaseSerDe.HBASE_SCAN_CACHE, -1);
+    if (scanCaching > 0) {
+      scan.setCaching(scanCaching);
+    }
+    // a full scan should not evict the blocks used by random reads
+    scan.setCacheBlocks(
+      jobConf.getBoolean(HBaseSerDe.HBASE_SCAN_CACHEBLOCKS, false));
+
     setScan(scan);
 
     Job job = new Job(jobConf);
@@ -258,8 +269,10 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
     List<String> columnNames =
       Arrays.asList(columnNameProperty.split(","));
 
+    // The pushed filter only contains the comparisons accepted by
+    // HBaseStorageHandler.decomposePredicate, so ranges can be allowed here.
     IndexPredicateAnalyzer analyzer =
-      newIndexPredicateAnalyzer(columnNames.get(iKey));
+      newIndexPredicateAnalyzer(columnNames.get(iKey), true);
 
     List<IndexSearchCondition> searchConditions =
       new ArrayList<IndexSearchCondition>();
@@ -273,18 +286,75 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
         "Unexpected residual predicate " + residualPredicate.getExprString());
     }
 
-    // There should be exactly one predicate since we already
-    // negotiated that also.
-    if (searchConditions.size() != 1) {
+    if (searchConditions.isEmpty()) {
       throw new RuntimeException(
-        "Exactly one search condition expected in push down");
+        "At least one search condition expected in push down");
+    }
+
+    // Convert the search conditions into the range of row keys to scan;
+    // an empty start or stop row means the range is unbounded
+    byte [] startRow = HConstants.EMPTY_START_ROW;
+    byte [] stopRow = HConstants.EMPTY_END_ROW;
+    boolean noRows = false;
+    for (IndexSearchCondition sc : searchConditions) {
+      byte [] constant = getConstantBytes(sc);
+      String op = sc.getComparisonOp();
+      if (sc.getComparisonExpr().getChildren().get(0)
+          instanceof ExprNodeConstantDesc) {
+        // CONSTANT <op> KEY
+        op = getSwappedOp(op);
+      }
+      if (op.equals(GenericUDFOPEqual.class.getName())) {
+        startRow = maxStartRow(startRow, constant);
+        stopRow = minStopRow(stopRow, nextRow(constant));
+      } else if (op.equals(GenericUDFOPEqualOrGreaterThan.class.getName())) {
+        startRow = maxStartRow(startRow, constant);
+      } else if (op.equals(GenericUDFOPGreaterThan.class.getName())) {
+        startRow = maxStartRow(startRow, nextRow(constant));
+      } else if (op.equals(GenericUDFOPLessThan.class.getName())) {
+        if (constant.length == 0) {
+          // no key is less than the empty key, but as a stop row it would
+          // mean the end of the table
+          noRows = true;
+        }
+        stopRow = minStopRow(stopRow, constant);
+      } else if (op.equals(GenericUDFOPEqualOrLessThan.class.getName())) {
+        stopRow = minStopRow(stopRow, nextRow(constant));
+      } else {
+        throw new IOException("Unexpected comparison " + op);
+      }
+    }
+
+    if (tableSplit != null) {
+      startRow = maxStartRow(startRow, tableSplit.getStartRow());
+      stopRow = minStopRow(stopRow, tableSplit.getEndRow());
+    }
+    if (noRows || isEmptyRange(startRow, stopRow)) {
+      // e.g. contradictory conditions; getSplits returns no splits for a
+      // range stopping at its (non-empty) start row
+      if (startRow.length == 0) {
+        startRow = nextRow(startRow);
+      }
+      stopRow = startRow;
     }
+    if (tableSplit != null) {
+      tableSplit = new TableSplit(
+        tableSplit.getTableName(),
+        startRow,
+        stopRow,
+        tableSplit.getRegionLocation());
+    }
+    scan.setStartRow(startRow);
+    scan.setStopRow(stopRow);
+    return tableSplit;
+  }
 
-    // Convert the search condition into a restriction on the HBase scan
-    IndexSearchCondition sc = searchConditions.get(0);
+  /**
+   * @return the row key for the constant of a search condition
+   */
+  private byte [] getConstantBytes(IndexSearchCondition sc) throws IOException {
     ExprNodeConstantEvaluator eval =
       new ExprNodeConstantEvaluator(sc.getConstantDesc());
-    byte [] startRow;
     try {
       ObjectInspector objInspector = eval.initialize(null);
       Object writable = eval.evaluate(null);
@@ -296,38 +366,56 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
         false,
         (byte) 0,
         null);
-      startRow = new byte[serializeStream.getCount()];
+      byte [] constant = new byte[serializeStream.getCount()];
       System.arraycopy(
         serializeStream.getData(), 0,
-        startRow, 0, serializeStream.getCount());
+        constant, 0, serializeStream.getCount());
+      return constant;
     } catch (HiveException ex) {
       throw new IOException(ex);
     }
+  }
 
-    // stopRow is exclusive, so pad it with a trailing 0 byte to
-    // make it compare as the very next value after startRow
-    byte [] stopRow = new byte[startRow.length + 1];
-    System.arraycopy(startRow, 0, stopRow, 0, startRow.length);
-
-    if (tableSplit != null) {
-      tableSplit = new TableSplit(
-        tableSplit.getTableName(),
-        startRow,
-        stopRow,
-        tableSplit.getRegionLocation());
+  private static String getSwappedOp(String op) {
+    if (op.equals(GenericUDFOPLessThan.class.getName())) {
+      return GenericUDFOPGreaterThan.class.getName();
+    } else if (op.equals(GenericUDFOPEqualOrLessThan.class.getName())) {
+      return GenericUDFOPEqualOrGreaterThan.class.getName();
+    } else if (op.equals(GenericUDFOPGreaterThan.class.getName())) {
+      return GenericUDFOPLessThan.class.getName();
+    } else if (op.equals(GenericUDFOPEqualOrGreaterThan.class.getName())) {
+      return GenericUDFOPEqualOrLessThan.class.getName();
     }
-    scan.setStartRow(startRow);
-    scan.setStopRow(stopRow);
+    return op;
+  }
 
-    // Add a WhileMatchFilter to make the scan terminate as soon
-    // as we see a non-matching key.  This is probably redundant
-    // since the stopRow above should already take care of it for us.
-    scan.setFilter(
-      new WhileMatchFilter(
-        new RowFilter(
-          CompareFilter.CompareOp.EQUAL,
-          new BinaryComparator(startRow))));
-    return tableSplit;
+  /**
+   * @return the smallest row key after row, which is row padded with a
+   * trailing 0 byte
+   */
+  private static byte [] nextRow(byte [] row) {
+    byte [] next = new byte[row.length + 1];
+    System.arraycopy(row, 0, next, 0, row.length);
+    return next;
+  }
+
+  private static boolean isEmptyRange(byte [] startRow, byte [] stopRow) {
+    return stopRow.length > 0 && Bytes.compareTo(startRow, stopRow) >= 0;
+  }
+
+  private static byte [] maxStartRow(byte [] a, byte [] b) {
+    return Bytes.compareTo(a, b) >= 0 ? a : b;
+  }
+
+  private static byte [] minStopRow(byte [] a, byte [] b) {
+    // an empty stop row is the end of the table
+    if (a.length == 0) {
+      return b;
+    }
+    if (b.length == 0) {
+      return a;
+    }
+    return Bytes.compareTo(a, b) <= 0 ? a : b;
   }
 
   /**
@@ -337,16 +425,24 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
    *
    * @param keyColumnName name of the Hive column mapped to the HBase row key
    *
+   * @param allowRanges whether range comparisons on the key can be pushed
+   * down, which is the case when the order of the keys in HBase is the order
+   * of the key column in Hive
+   *
    * @return preconfigured predicate analyzer
    */
   static IndexPredicateAnalyzer newIndexPredicateAnalyzer(
-    String keyColumnName) {
+    String keyColumnName, boolean allowRanges) {
 
     IndexPredicateAnalyzer analyzer = new IndexPredicateAnalyzer();
 
-    // for now, we only support equality comparisons
-    analyzer.addComparisonOp(
-      "org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual");
+    analyzer.addComparisonOp(GenericUDFOPEqual.class.getName());
+    if (allowRanges) {
+      analyzer.addComparisonOp(GenericUDFOPLessThan.class.getName());
+      analyzer.addComparisonOp(GenericUDFOPEqualOrLessThan.class.getName());
+      analyzer.addComparisonOp(GenericUDFOPGreaterThan.class.getName());
+      analyzer.addComparisonOp(GenericUDFOPEqualOrGreaterThan.class.getName());
+    }
 
     // and only on the key column
     analyzer.clearAllowedColumnNames();
@@ -354,7 +450,7 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
 
     return analyzer;
   }
-  
+
   @Override
   public InputSplit[] getSplits(JobConf jobConf, int numSplits) throws IOException {
 
@@ -386,8 +482,13 @@ public class HiveHBaseTableInputFormat extends TableInputFormatBase
     // the Javadoc for the superclass getSplits says that it returns one
     // split per region, the implementation actually takes the scan
     // definition into account and excludes regions which don't satisfy
-    // the start/stop row conditions (HBASE-1829).
+    // the start/stop row conditions (HBASE-1829), and restricts the
+    // splits of the remaining regions to the scanned range.
     convertFilter(jobConf, scan, null, iKey);
+    if (isEmptyRange(scan.getStartRow(), scan.getStopRow())) {
+      // no row can satisfy the filter
+      return new InputSplit[0];
+    }
 
     // REVIEW:  are we supposed to be applying the getReadColumnIDs
     // same as in getRecordReader?
@@ -255,6 +255,10 @@ service ThriftHiveMetastore extends fb303.FacebookService
   // * See notes on DDL_TIME
   Partition add_partition(1:Partition new_part)
                        throws(1:InvalidObjectException o1, 2:AlreadyExistsException o2, 3:MetaException o3)
+  // adds all the partitions in one metastore transaction. the partitions may
+  // belong to different tables. returns the number of partitions added.
+  i32 add_partitions(1:list<Partition> new_parts)
+                       throws(1:InvalidObjectException o1, 2:AlreadyExistsException o2, 3:MetaException o3)
   Partition append_partition(1:string db_name, 2:string tbl_name, 3:list<string> part_vals)
                        throws (1:InvalidObjectException o1, 2:AlreadyExistsException o2, 3:MetaException o3)
   Partition append_partition_by_name(1:string db_name, 2:string tbl_name, 3:string part_name)
@@ -309,6 +313,11 @@ service ThriftHiveMetastore extends fb303.FacebookService
   void alter_partition(1:string db_name, 2:string tbl_name, 3:Partition new_part)
                        throws(1:InvalidOperationException o1, 2:MetaException o2)
 
+  // changes all the given partitions of a table in one metastore transaction
+  // * See notes on DDL_TIME
+  void alter_partitions(1:string db_name, 2:string tbl_name, 3:list<Partition> new_parts)
+                       throws(1:InvalidOperationException o1, 2:MetaException o2)
+
   // gets the value of the configuration key in the metastore server. returns
   // defaultValue if the key does not exist. if the configuration key does not
   // begin with "hive", "mapred", or "hdfs", a ConfigValSecurityException is
@@ -0,0 +1,52 @@
+-- Shared column descriptors: the columns of a storage descriptor are moved
+-- from COLUMNS into COLUMNS_V2, keyed by a column descriptor (CDS) that the
+-- table and all partitions with the same columns reference from SDS.CD_ID.
+-- The old COLUMNS table is left in place and can be dropped once the
+-- upgrade has been verified.
+CREATE TABLE "CDS" ("CD_ID" BIGINT NOT NULL);
+ALTER TABLE "CDS" ADD CONSTRAINT "CDS_PK" PRIMARY KEY ("CD_ID");
+
+CREATE TABLE "COLUMNS_V2" ("CD_ID" BIGINT NOT NULL, "COMMENT" VARCHAR(256), "COLUMN_NAME" VARCHAR(128) NOT NULL, "TYPE_NAME" VARCHAR(4000), "INTEGER_IDX" INTEGER NOT NULL);
+ALTER TABLE "COLUMNS_V2" ADD CONSTRAINT "COLUMNS_V2_PK" PRIMARY KEY ("CD_ID", "COLUMN_NAME");
+ALTER TABLE "COLUMNS_V2" ADD CONSTRAINT "COLUMNS_V2_FK1" FOREIGN KEY ("CD_ID") REFERENCES "CDS" ("CD_ID") ON DELETE NO ACTION ON UPDATE NO ACTION;
+
+ALTER TABLE "SDS" ADD "CD_ID" BIGINT;
+ALTER TABLE "SDS" ADD CONSTRAINT "SDS_FK2" FOREIGN KEY ("CD_ID") REFERENCES "CDS" ("CD_ID") ON DELETE NO ACTION ON UPDATE NO ACTION;
+CREATE INDEX "SDS_N50" ON "SDS" ("CD_ID");
+
+-- First give every storage descriptor its own column descriptor, reusing
+-- the storage descriptor id.
+INSERT INTO "CDS" ("CD_ID") SELECT "SD_ID" FROM "SDS";
+INSERT INTO "COLUMNS_V2" ("CD_ID", "COMMENT", "COLUMN_NAME", "TYPE_NAME", "INTEGER_IDX")
+  SELECT "SD_ID", "COMMENT", "COLUMN_NAME", "TYPE_NAME", "INTEGER_IDX" FROM "COLUMNS";
+UPDATE "SDS" SET "CD_ID" = "SD_ID";
+
+-- Then let partitions with exactly the columns of their table share the
+-- column descriptor of the table.
+UPDATE "SDS" SET "CD_ID" = (
+  SELECT TB."SD_ID" FROM "PARTITIONS" P, "TBLS" TB
+  WHERE P."SD_ID" = "SDS"."SD_ID" AND TB."TBL_ID" = P."TBL_ID")
+WHERE "SD_ID" IN (
+  SELECT P."SD_ID" FROM "PARTITIONS" P, "TBLS" TB
+  WHERE TB."TBL_ID" = P."TBL_ID"
+  AND NOT EXISTS (
+    SELECT 1 FROM "COLUMNS_V2" A WHERE A."CD_ID" = P."SD_ID"
+    AND NOT EXISTS (
+      SELECT 1 FROM "COLUMNS_V2" B WHERE B."CD_ID" = TB."SD_ID"
+      AND B."COLUMN_NAME" = A."COLUMN_NAME"
+      AND (B."TYPE_NAME" = A."TYPE_NAME" OR (B."TYPE_NAME" IS NULL AND A."TYPE_NAME" IS NULL))
+      AND B."INTEGER_IDX" = A."INTEGER_IDX"
+      AND (B."COMMENT" = A."COMMENT" OR (B."COMMENT" IS NULL AND A."COMMENT" IS NULL))))
+  AND NOT EXISTS (
+    SELECT 1 FROM "COLUMNS_V2" B WHERE B."CD_ID" = TB."SD_ID"
+    AND NOT EXISTS (
+      SELECT 1 FROM "COLUMNS_V2" A WHERE A."CD_ID" = P."SD_ID"
+      AND A."COLUMN_NAME" = B."COLUMN_NAME")));
+
+-- Remove the column descriptors that are no longer referenced.
+DELETE FROM "COLUMNS_V2" WHERE "CD_ID" NOT IN (SELECT "CD_ID" FROM "SDS" WHERE "CD_ID" IS NOT NULL);
+DELETE FROM "CDS" WHERE "CD_ID" NOT IN (SELECT "CD_ID" FROM "SDS" WHERE "CD_ID" IS NOT NULL);
+
+-- New column descriptor ids must not collide with the ones created above.
+INSERT INTO "SEQUENCE_TABLE" ("SEQUENCE_NAME", "NEXT_VAL")
+  SELECT 'org.apache.hadoop.hive.metastore.model.MColumnDescriptor', COALESCE(MAX("SD_ID"), 0) + 1 FROM "SDS";
@@ -0,0 +1,59 @@
+-- Shared column descriptors: the columns of a storage descriptor are moved
+-- from COLUMNS into COLUMNS_V2, keyed by a column descriptor (CDS) that the
+-- table and all partitions with the same columns reference from SDS.CD_ID.
+-- The old COLUMNS table is left in place and can be dropped once the
+-- upgrade has been verified.
+CREATE TABLE IF NOT EXISTS `CDS` (
+  `CD_ID` bigint(20) NOT NULL,
+  PRIMARY KEY (`CD_ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+
+CREATE TABLE IF NOT EXISTS `COLUMNS_V2` (
+  `CD_ID` bigint(20) NOT NULL,
+  `COMMENT` varchar(256) CHARACTER SET latin1 COLLATE latin1_bin DEFAULT NULL,
+  `COLUMN_NAME` varchar(128) CHARACTER SET latin1 COLLATE latin1_bin NOT NULL,
+  `TYPE_NAME` varchar(4000) DEFAULT NULL,
+  `INTEGER_IDX` int(11) NOT NULL,
+  PRIMARY KEY (`CD_ID`,`COLUMN_NAME`),
+  KEY `COLUMNS_V2_N49` (`CD_ID`),
+  CONSTRAINT `COLUMNS_V2_FK1` FOREIGN KEY (`CD_ID`) REFERENCES `CDS` (`CD_ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+
+ALTER TABLE `SDS` ADD `CD_ID` bigint(20) DEFAULT NULL;
+ALTER TABLE `SDS` ADD KEY `SDS_N50` (`CD_ID`);
+ALTER TABLE `SDS` ADD CONSTRAINT `SDS_FK2` FOREIGN KEY (`CD_ID`) REFERENCES `CDS` (`CD_ID`);
+
+-- First give every storage descriptor its own column descriptor, reusing
+-- the storage descriptor id.
+INSERT INTO `CDS` (`CD_ID`) SELECT `SD_ID` FROM `SDS`;
+INSERT INTO `COLUMNS_V2` (`CD_ID`, `COMMENT`, `COLUMN_NAME`, `TYPE_NAME`, `INTEGER_IDX`)
+  SELECT `SD_ID`, `COMMENT`, `COLUMN_NAME`, `TYPE_NAME`, `INTEGER_IDX` FROM `COLUMNS`;
+UPDATE `SDS` SET `CD_ID` = `SD_ID`;
+
+-- Then let partitions with exactly the columns of their table share the
+-- column descriptor of the table. MySQL cannot update SDS while selecting
+-- from it, so collect the partitions first.
+CREATE TEMPORARY TABLE `SHARED_CDS` AS
+  SELECT P.`SD_ID` AS `SD_ID`, TB.`SD_ID` AS `TBL_SD_ID`
+  FROM `PARTITIONS` P JOIN `TBLS` TB ON TB.`TBL_ID` = P.`TBL_ID`
+  WHERE NOT EXISTS (
+    SELECT 1 FROM `COLUMNS_V2` A WHERE A.`CD_ID` = P.`SD_ID`
+    AND NOT EXISTS (
+      SELECT 1 FROM `COLUMNS_V2` B WHERE B.`CD_ID` = TB.`SD_ID`
+      AND B.`COLUMN_NAME` = A.`COLUMN_NAME` AND B.`TYPE_NAME` <=> A.`TYPE_NAME`
+      AND B.`INTEGER_IDX` = A.`INTEGER_IDX` AND B.`COMMENT` <=> A.`COMMENT`))
+  AND NOT EXISTS (
+    SELECT 1 FROM `COLUMNS_V2` B WHERE B.`CD_ID` = TB.`SD_ID`
+    AND NOT EXISTS (
+      SELECT 1 FROM `COLUMNS_V2` A WHERE A.`CD_ID` = P.`SD_ID`
+      AND A.`COLUMN_NAME` = B.`COLUMN_NAME`));
+UPDATE `SDS` JOIN `SHARED_CDS` S ON `SDS`.`SD_ID` = S.`SD_ID` SET `SDS`.`CD_ID` = S.`TBL_SD_ID`;
+DROP TEMPORARY TABLE `SHARED_CDS`;
+
+-- Remove the column descriptors that are no longer referenced.
+DELETE FROM `COLUMNS_V2` WHERE `CD_ID` NOT IN (SELECT `CD_ID` FROM `SDS` WHERE `CD_ID` IS NOT NULL);
+DELETE FROM `CDS` WHERE `CD_ID` NOT IN (SELECT `CD_ID` FROM `SDS` WHERE `CD_ID` IS NOT NULL);
+
+-- New column descriptor ids must not collide with the ones created above.
+INSERT INTO `SEQUENCE_TABLE` (`SEQUENCE_NAME`, `NEXT_VAL`)
+  SELECT 'org.apache.hadoop.hive.metastore.model.MColumnDescriptor', COALESCE(MAX(`SD_ID`), 0) + 1 FROM `SDS`;
@@ -0,0 +1,61 @@
+-- Shared column descriptors: the columns of a storage descriptor are moved
+-- from COLUMNS into COLUMNS_V2, keyed by a column descriptor (CDS) that the
+-- table and all partitions with the same columns reference from SDS.CD_ID.
+-- The old COLUMNS table is left in place and can be dropped once the
+-- upgrade has been verified.
+CREATE TABLE "CDS" (
+  "CD_ID" bigint NOT NULL,
+  PRIMARY KEY ("CD_ID")
+);
+
+CREATE TABLE "COLUMNS_V2" (
+  "CD_ID" bigint NOT NULL,
+  "COMMENT" character varying(256) DEFAULT NULL::character varying,
+  "COLUMN_NAME" character varying(128) NOT NULL,
+  "TYPE_NAME" character varying(4000),
+  "INTEGER_IDX" integer NOT NULL,
+  PRIMARY KEY ("CD_ID", "COLUMN_NAME")
+);
+ALTER TABLE "COLUMNS_V2" ADD CONSTRAINT "COLUMNS_V2_FK1" FOREIGN KEY ("CD_ID") REFERENCES "CDS" ("CD_ID") DEFERRABLE;
+CREATE INDEX "COLUMNS_V2_N49" ON "COLUMNS_V2" USING btree ("CD_ID");
+
+ALTER TABLE "SDS" ADD COLUMN "CD_ID" bigint;
+ALTER TABLE "SDS" ADD CONSTRAINT "SDS_FK2" FOREIGN KEY ("CD_ID") REFERENCES "CDS" ("CD_ID") DEFERRABLE;
+CREATE INDEX "SDS_N50" ON "SDS" USING btree ("CD_ID");
+
+-- First give every storage descriptor its own column descriptor, reusing
+-- the storage descriptor id.
+INSERT INTO "CDS" ("CD_ID") SELECT "SD_ID" FROM "SDS";
+INSERT INTO "COLUMNS_V2" ("CD_ID", "COMMENT", "COLUMN_NAME", "TYPE_NAME", "INTEGER_IDX")
+  SELECT "SD_ID", "COMMENT", "COLUMN_NAME", "TYPE_NAME", "INTEGER_IDX" FROM "COLUMNS";
+UPDATE "SDS" SET "CD_ID" = "SD_ID";
+
+-- Then let partitions with exactly the columns of their table share the
+-- column descriptor of the table.
+UPDATE "SDS" SET "CD_ID" = S."TBL_SD_ID"
+FROM (
+  SELECT P."SD_ID" AS "SD_ID", TB."SD_ID" AS "TBL_SD_ID"
+  FROM "PARTITIONS" P JOIN "TBLS" TB ON TB."TBL_ID" = P."TBL_ID"
+  WHERE NOT EXISTS (
+    SELECT 1 FROM "COLUMNS_V2" A WHERE A."CD_ID" = P."SD_ID"
+    AND NOT EXISTS (
+      SELECT 1 FROM "COLUMNS_V2" B WHERE B."CD_ID" = TB."SD_ID"
+      AND B."COLUMN_NAME" = A."COLUMN_NAME"
+      AND B."TYPE_NAME" IS NOT DISTINCT FROM A."TYPE_NAME"
+      AND B."INTEGER_IDX" = A."INTEGER_IDX"
+      AND B."COMMENT" IS NOT DISTINCT FROM A."COMMENT"))
+  AND NOT EXISTS (
+    SELECT 1 FROM "COLUMNS_V2" B WHERE B."CD_ID" = TB."SD_ID"
+    AND NOT EXISTS (
+      SELECT 1 FROM "COLUMNS_V2" A WHERE A."CD_ID" = P."SD_ID"
+      AND A."COLUMN_NAME" = B."COLUMN_NAME"))
+) S
+WHERE "SDS"."SD_ID" = S."SD_ID";
+
+-- Remove the column descriptors that are no longer referenced.
+DELETE FROM "COLUMNS_V2" WHERE "CD_ID" NOT IN (SELECT "CD_ID" FROM "SDS" WHERE "CD_ID" IS NOT NULL);
+DELETE FROM "CDS" WHERE "CD_ID" NOT IN (SELECT "CD_ID" FROM "SDS" WHERE "CD_ID" IS NOT NULL);
+
+-- New column descriptor ids must not collide with the ones created above.
+INSERT INTO "SEQUENCE_TABLE" ("SEQUENCE_NAME", "NEXT_VAL")
+  SELECT 'org.apache.hadoop.hive.metastore.model.MColumnDescriptor', COALESCE(MAX("SD_ID"), 0) + 1 FROM "SDS";
@@ -117,6 +117,11 @@ class ThriftHiveMetastoreHandler : virtual public ThriftHiveMetastoreIf {
     printf("add_partition\n");
   }
 
+  int32_t add_partitions(const std::vector<Partition> & new_parts) {
+    // Your implementation goes here
+    printf("add_partitions\n");
+  }
+
   void append_partition(Partition& _return, const std::string& db_name, const std::string& tbl_name, const std::vector<std::string> & part_vals) {
     // Your implementation goes here
     printf("append_partition\n");
@@ -192,6 +197,11 @@ class ThriftHiveMetastoreHandler : virtual public ThriftHiveMetastoreIf {
     printf("alter_partition\n");
   }
 
+  void alter_partitions(const std::string& db_name, const std::string& tbl_name, const std::vector<Partition> & new_parts) {
+    // Your implementation goes here
+    printf("alter_partitions\n");
+  }
+
   void get_config_value(std::string& _return, const std::string& name, const std::string& defaultValue) {
     // Your implementation goes here
     printf("get_config_value\n");
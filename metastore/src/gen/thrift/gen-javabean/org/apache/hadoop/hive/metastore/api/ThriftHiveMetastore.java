@@ -71,6 +71,8 @@ public class ThriftHiveMetastore {
 
     public Partition add_partition(Partition new_part) throws InvalidObjectException, AlreadyExistsException, MetaException, TException;
 
+    public int add_partitions(List<Partition> new_parts) throws InvalidObjectException, AlreadyExistsException, MetaException, TException;
+
     public Partition append_partition(String db_name, String tbl_name, List<String> part_vals) throws InvalidObjectException, AlreadyExistsException, MetaException, TException;
 
     public Partition append_partition_by_name(String db_name, String tbl_name, String part_name) throws InvalidObjectException, AlreadyExistsException, MetaException, TException;
@@ -101,6 +103,8 @@ public class ThriftHiveMetastore {
 
     public void alter_partition(String db_name, String tbl_name, Partition new_part) throws InvalidOperationException, MetaException, TException;
 
+    public void alter_partitions(String db_name, String tbl_name, List<Partition> new_parts) throws InvalidOperationException, MetaException, TException;
+
     public String get_config_value(String name, String defaultValue) throws ConfigValSecurityException, TException;
 
     public List<String> partition_name_to_vals(String part_name) throws MetaException, TException;
@@ -189,6 +193,8 @@ public class ThriftHiveMetastore {
 
     public void add_partition(Partition new_part, AsyncMethodCallback<AsyncClient.add_partition_call> resultHandler) throws TException;
 
+    public void add_partitions(List<Partition> new_parts, AsyncMethodCallback<AsyncClient.add_partitions_call> resultHandler) throws TException;
+
     public void append_partition(String db_name, String tbl_name, List<String> part_vals, AsyncMethodCallback<AsyncClient.append_partition_call> resultHandler) throws TException;
 
     public void append_partition_by_name(String db_name, String tbl_name, String part_name, AsyncMethodCallback<AsyncClient.append_partition_by_name_call> resultHandler) throws TException;
@@ -219,6 +225,8 @@ public class ThriftHiveMetastore {
 
     public void alter_partition(String db_name, String tbl_name, Partition new_part, AsyncMethodCallback<AsyncClient.alter_partition_call> resultHandler) throws TException;
 
+    public void alter_partitions(String db_name, String tbl_name, List<Partition> new_parts, AsyncMethodCallback<AsyncClient.alter_partitions_call> resultHandler) throws TException;
+
     public void get_config_value(String name, String defaultValue, AsyncMethodCallback<AsyncClient.get_config_value_call> resultHandler) throws TException;
 
     public void partition_name_to_vals(String part_name, AsyncMethodCallback<AsyncClient.partition_name_to_vals_call> resultHandler) throws TException;
@@ -1086,6 +1094,51 @@ public class ThriftHiveMetastore {
       throw new TApplicationException(TApplicationException.MISSING_RESULT, "add_partition failed: unknown result");
     }
 
+    public int add_partitions(List<Partition> new_parts) throws InvalidObjectException, AlreadyExistsException, MetaException, TException
+    {
+      send_add_partitions(new_parts);
+      return recv_add_partitions();
+    }
+
+    public void send_add_partitions(List<Partition> new_parts) throws TException
+    {
+      oprot_.writeMessageBegin(new TMessage("add_partitions", TMessageType.CALL, ++seqid_));
+      add_partitions_args args = new add_partitions_args();
+      args.setNew_parts(new_parts);
+      args.write(oprot_);
+      oprot_.writeMessageEnd();
+      oprot_.getTransport().flush();
+    }
+
+    public int recv_add_partitions() throws InvalidObjectException, AlreadyExistsException, MetaException, TException
+    {
+      TMessage msg = iprot_.readMessageBegin();
+      if (msg.type == TMessageType.EXCEPTION) {
+        TApplicationException x = TApplicationException.read(iprot_);
+        iprot_.readMessageEnd();
+        throw x;
+      }
+      if (msg.seqid != seqid_) {
+        throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "add_partitions failed: out of sequence response");
+      }
+      add_partitions_result result = new add_partitions_result();
+      result.read(iprot_);
+      iprot_.readMessageEnd();
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.o1 != null) {
+        throw result.o1;
+      }
+      if (result.o2 != null) {
+        throw result.o2;
+      }
+      if (result.o3 != null) {
+        throw result.o3;
+      }
+      throw new TApplicationException(TApplicationException.MISSING_RESULT, "add_partitions failed: unknown result");
+    }
+
     public Partition append_partition(String db_name, String tbl_name, List<String> part_vals) throws InvalidObjectException, AlreadyExistsException, MetaException, TException
     {
       send_append_partition(db_name, tbl_name, part_vals);
@@ -1752,6 +1805,47 @@ public class ThriftHiveMetastore {
       return;
     }
 
+    public void alter_partitions(String db_name, String tbl_name, List<Partition> new_parts) throws InvalidOperationException, MetaException, TException
+    {
+      send_alter_partitions(db_name, tbl_name, new_parts);
+      recv_alter_partitions();
+    }
+
+    public void send_alter_partitions(String db_name, String tbl_name, List<Partition> new_parts) throws TException
+    {
+      oprot_.writeMessageBegin(new TMessage("alter_partitions", TMessageType.CALL, ++seqid_));
+      alter_partitions_args args = new alter_partitions_args();
+      args.setDb_name(db_name);
+      args.setTbl_name(tbl_name);
+      args.setNew_parts(new_parts);
+      args.write(oprot_);
+      oprot_.writeMessageEnd();
+      oprot_.getTransport().flush();
+    }
+
+    public void recv_alter_partitions() throws InvalidOperationException, MetaException, TException
+    {
+      TMessage msg = iprot_.readMessageBegin();
+      if (msg.type == TMessageType.EXCEPTION) {
+        TApplicationException x = TApplicationException.read(iprot_);
+        iprot_.readMessageEnd();
+        throw x;
+      }
+      if (msg.seqid != seqid_) {
+        throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "alter_partitions failed: out of sequence response");
+      }
+      alter_partitions_result result = new alter_partitions_result();
+      result.read(iprot_);
+      iprot_.readMessageEnd();
+      if (result.o1 != null) {
+        throw result.o1;
+      }
+      if (result.o2 != null) {
+        throw result.o2;
+      }
+      return;
+    }
+
     public String get_config_value(String name, String defaultValue) throws ConfigValSecurityException, TException
     {
       send_get_config_value(name, defaultValue);
@@ -3321,6 +3415,37 @@ public class ThriftHiveMetastore {
       }
     }
 
+    public void add_partitions(List<Partition> new_parts, AsyncMethodCallback<add_partitions_call> resultHandler) throws TException {
+      checkReady();
+      add_partitions_call method_call = new add_partitions_call(new_parts, resultHandler, this, protocolFactory, transport);
+      manager.call(method_call);
+    }
+
+    public static class add_partitions_call extends TAsyncMethodCall {
+      private List<Partition> new_parts;
+      public add_partitions_call(List<Partition> new_parts, AsyncMethodCallback<add_partitions_call> resultHandler, TAsyncClient client, TProtocolFactory protocolFactory, TNonblockingTransport transport) throws TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.new_parts = new_parts;
+      }
+
+      public void write_args(TProtocol prot) throws TException {
+        prot.writeMessageBegin(new TMessage("add_partitions", TMessageType.CALL, 0));
+        add_partitions_args args = new add_partitions_args();
+        args.setNew_parts(new_parts);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public int getResult() throws InvalidObjectException, AlreadyExistsException, MetaException, TException {
+        if (getState() != State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        TMemoryInputTransport memoryTransport = new TMemoryInputTransport(getFrameBuffer().array());
+        TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_add_partitions();
+      }
+    }
+
     public void append_partition(String db_name, String tbl_name, List<String> part_vals, AsyncMethodCallback<append_partition_call> resultHandler) throws TException {
       checkReady();
       append_partition_call method_call = new append_partition_call(db_name, tbl_name, part_vals, resultHandler, this, protocolFactory, transport);
@@ -3912,6 +4037,43 @@ public class ThriftHiveMetastore {
       }
     }
 
+    public void alter_partitions(String db_name, String tbl_name, List<Partition> new_parts, AsyncMethodCallback<alter_partitions_call> resultHandler) throws TException {
+      checkReady();
+      alter_partitions_call method_call = new alter_partitions_call(db_name, tbl_name, new_parts, resultHandler, this, protocolFactory, transport);
+      manager.call(method_call);
+    }
+
+    public static class alter_partitions_call extends TAsyncMethodCall {
+      private String db_name;
+      private String tbl_name;
+      private List<Partition> new_parts;
+      public alter_partitions_call(String db_name, String tbl_name, List<Partition> new_parts, AsyncMethodCallback<alter_partitions_call> resultHandler, TAsyncClient client, TProtocolFactory protocolFactory, TNonblockingTransport transport) throws TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.db_name = db_name;
+        this.tbl_name = tbl_name;
+        this.new_parts = new_parts;
+      }
+
+      public void write_args(TProtocol prot) throws TException {
+        prot.writeMessageBegin(new TMessage("alter_partitions", TMessageType.CALL, 0));
+        alter_partitions_args args = new alter_partitions_args();
+        args.setDb_name(db_name);
+        args.setTbl_name(tbl_name);
+        args.setNew_parts(new_parts);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws InvalidOperationException, MetaException, TException {
+        if (getState() != State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        TMemoryInputTransport memoryTransport = new TMemoryInputTransport(getFrameBuffer().array());
+        TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_alter_partitions();
+      }
+    }
+
     public void get_config_value(String name, String defaultValue, AsyncMethodCallback<get_config_value_call> resultHandler) throws TException {
       checkReady();
       get_config_value_call method_call = new get_config_value_call(name, defaultValue, resultHandler, this, protocolFactory, transport);
@@ -4730,6 +4892,7 @@ public class ThriftHiveMetastore {
       processMap_.put("get_table", new get_table());
       processMap_.put("alter_table", new alter_table());
       processMap_.put("add_partition", new add_partition());
+      processMap_.put("add_partitions", new add_partitions());
       processMap_.put("append_partition", new append_partition());
       processMap_.put("append_partition_by_name", new append_partition_by_name());
       processMap_.put("drop_partition", new drop_partition());
@@ -4745,6 +4908,7 @@ public class ThriftHiveMetastore {
       processMap_.put("get_partition_names_ps", new get_partition_names_ps());
       processMap_.put("get_partitions_by_filter", new get_partitions_by_filter());
       processMap_.put("alter_partition", new alter_partition());
+      processMap_.put("alter_partitions", new alter_partitions());
       processMap_.put("get_config_value", new get_config_value());
       processMap_.put("partition_name_to_vals", new partition_name_to_vals());
       processMap_.put("partition_name_to_spec", new partition_name_to_spec());
@@ -5558,6 +5722,49 @@ public class ThriftHiveMetastore {
 
     }
 
+    private class add_partitions implements ProcessFunction {
+      public void process(int seqid, TProtocol iprot, TProtocol oprot) throws TException
+      {
+        add_partitions_args args = new add_partitions_args();
+        try {
+          args.read(iprot);
+        } catch (TProtocolException e) {
+          iprot.readMessageEnd();
+          TApplicationException x = new TApplicationException(TApplicationException.PROTOCOL_ERROR, e.getMessage());
+          oprot.writeMessageBegin(new TMessage("add_partitions", TMessageType.EXCEPTION, seqid));
+          x.write(oprot);
+          oprot.writeMessageEnd();
+          oprot.getTransport().flush();
+          return;
+        }
+        iprot.readMessageEnd();
+        add_partitions_result result = new add_partitions_result();
+        try {
+          result.success = iface_.add_partitions(args.new_parts);
+          result.setSuccessIsSet(true);
+        } catch (InvalidObjectException o1) {
+          result.o1 = o1;
+        } catch (AlreadyExistsException o2) {
+          result.o2 = o2;
+        } catch (MetaException o3) {
+          result.o3 = o3;
+        } catch (Throwable th) {
+          LOGGER.error("Internal error processing add_partitions", th);
+          TApplicationException x = new TApplicationException(TApplicationException.INTERNAL_ERROR, "Internal error processing add_partitions");
+          oprot.writeMessageBegin(new TMessage("add_partitions", TMessageType.EXCEPTION, seqid));
+          x.write(oprot);
+          oprot.writeMessageEnd();
+          oprot.getTransport().flush();
+          return;
+        }
+        oprot.writeMessageBegin(new TMessage("add_partitions", TMessageType.REPLY, seqid));
+        result.write(oprot);
+        oprot.writeMessageEnd();
+        oprot.getTransport().flush();
+      }
+
+    }
+
     private class append_partition implements ProcessFunction {
       public void process(int seqid, TProtocol iprot, TProtocol oprot) throws TException
       {
@@ -6158,6 +6365,46 @@ public class ThriftHiveMetastore {
 
     }
 
+    private class alter_partitions implements ProcessFunction {
+      public void process(int seqid, TProtocol iprot, TProtocol oprot) throws TException
+      {
+        alter_partitions_args args = new alter_partitions_args();
+        try {
+          args.read(iprot);
+        } catch (TProtocolException e) {
+          iprot.readMessageEnd();
+          TApplicationException x = new TApplicationException(TApplicationException.PROTOCOL_ERROR, e.getMessage());
+          oprot.writeMessageBegin(new TMessage("alter_partitions", TMessageType.EXCEPTION, seqid));
+          x.write(oprot);
+          oprot.writeMessageEnd();
+          oprot.getTransport().flush();
+          return;
+        }
+        iprot.readMessageEnd();
+        alter_partitions_result result = new alter_partitions_result();
+        try {
+          iface_.alter_partitions(args.db_name, args.tbl_name, args.new_parts);
+        } catch (InvalidOperationException o1) {
+          result.o1 = o1;
+        } catch (MetaException o2) {
+          result.o2 = o2;
+        } catch (Throwable th) {
+          LOGGER.error("Internal error processing alter_partitions", th);
+          TApplicationException x = new TApplicationException(TApplicationException.INTERNAL_ERROR, "Internal error processing alter_partitions");
+          oprot.writeMessageBegin(new TMessage("alter_partitions", TMessageType.EXCEPTION, seqid));
+          x.write(oprot);
+          oprot.writeMessageEnd();
+          oprot.getTransport().flush();
+          return;
+        }
+        oprot.writeMessageBegin(new TMessage("alter_partitions", TMessageType.REPLY, seqid));
+        result.write(oprot);
+        oprot.writeMessageEnd();
+        oprot.getTransport().flush();
+      }
+
+    }
+
     private class get_config_value implements ProcessFunction {
       public void process(int seqid, TProtocol iprot, TProtocol oprot) throws TException
       {
@@ -21518,12 +21765,1902 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof add_partition_result)
-        return this.equals((add_partition_result)that);
+      if (that instanceof add_partition_result)
+        return this.equals((add_partition_result)that);
+      return false;
+    }
+
+    public boolean equals(add_partition_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_o1 = true && this.isSetO1();
+      boolean that_present_o1 = true && that.isSetO1();
+      if (this_present_o1 || that_present_o1) {
+        if (!(this_present_o1 && that_present_o1))
+          return false;
+        if (!this.o1.equals(that.o1))
+          return false;
+      }
+
+      boolean this_present_o2 = true && this.isSetO2();
+      boolean that_present_o2 = true && that.isSetO2();
+      if (this_present_o2 || that_present_o2) {
+        if (!(this_present_o2 && that_present_o2))
+          return false;
+        if (!this.o2.equals(that.o2))
+          return false;
+      }
+
+      boolean this_present_o3 = true && this.isSetO3();
+      boolean that_present_o3 = true && that.isSetO3();
+      if (this_present_o3 || that_present_o3) {
+        if (!(this_present_o3 && that_present_o3))
+          return false;
+        if (!this.o3.equals(that.o3))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(add_partition_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      add_partition_result typedOther = (add_partition_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetO1()).compareTo(typedOther.isSetO1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO1()) {
+        lastComparison = TBaseHelper.compareTo(this.o1, typedOther.o1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO2()) {
+        lastComparison = TBaseHelper.compareTo(this.o2, typedOther.o2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetO3()).compareTo(typedOther.isSetO3());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO3()) {
+        lastComparison = TBaseHelper.compareTo(this.o3, typedOther.o3);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == TType.STRUCT) {
+              this.success = new Partition();
+              this.success.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 1: // O1
+            if (field.type == TType.STRUCT) {
+              this.o1 = new InvalidObjectException();
+              this.o1.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 2: // O2
+            if (field.type == TType.STRUCT) {
+              this.o2 = new AlreadyExistsException();
+              this.o2.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 3: // O3
+            if (field.type == TType.STRUCT) {
+              this.o3 = new MetaException();
+              this.o3.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      if (this.isSetSuccess()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        this.success.write(oprot);
+        oprot.writeFieldEnd();
+      } else if (this.isSetO1()) {
+        oprot.writeFieldBegin(O1_FIELD_DESC);
+        this.o1.write(oprot);
+        oprot.writeFieldEnd();
+      } else if (this.isSetO2()) {
+        oprot.writeFieldBegin(O2_FIELD_DESC);
+        this.o2.write(oprot);
+        oprot.writeFieldEnd();
+      } else if (this.isSetO3()) {
+        oprot.writeFieldBegin(O3_FIELD_DESC);
+        this.o3.write(oprot);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("add_partition_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("o1:");
+      if (this.o1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("o2:");
+      if (this.o2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("o3:");
+      if (this.o3 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o3);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+    }
+
+  }
+
+  public static class add_partitions_args implements TBase<add_partitions_args, add_partitions_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("add_partitions_args");
+
+    private static final TField NEW_PARTS_FIELD_DESC = new TField("new_parts", TType.LIST, (short)1);
+
+    private List<Partition> new_parts;
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      NEW_PARTS((short)1, "new_parts");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NEW_PARTS
+            return NEW_PARTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NEW_PARTS, new FieldMetaData("new_parts", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new StructMetaData(TType.STRUCT, Partition.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(add_partitions_args.class, metaDataMap);
+    }
+
+    public add_partitions_args() {
+    }
+
+    public add_partitions_args(
+      List<Partition> new_parts)
+    {
+      this();
+      this.new_parts = new_parts;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public add_partitions_args(add_partitions_args other) {
+      if (other.isSetNew_parts()) {
+        List<Partition> __this__new_parts = new ArrayList<Partition>();
+        for (Partition other_element : other.new_parts) {
+          __this__new_parts.add(new Partition(other_element));
+        }
+        this.new_parts = __this__new_parts;
+      }
+    }
+
+    public add_partitions_args deepCopy() {
+      return new add_partitions_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.new_parts = null;
+    }
+
+    public int getNew_partsSize() {
+      return (this.new_parts == null) ? 0 : this.new_parts.size();
+    }
+
+    public java.util.Iterator<Partition> getNew_partsIterator() {
+      return (this.new_parts == null) ? null : this.new_parts.iterator();
+    }
+
+    public void addToNew_parts(Partition elem) {
+      if (this.new_parts == null) {
+        this.new_parts = new ArrayList<Partition>();
+      }
+      this.new_parts.add(elem);
+    }
+
+    public List<Partition> getNew_parts() {
+      return this.new_parts;
+    }
+
+    public void setNew_parts(List<Partition> new_parts) {
+      this.new_parts = new_parts;
+    }
+
+    public void unsetNew_parts() {
+      this.new_parts = null;
+    }
+
+    /** Returns true if field new_parts is set (has been asigned a value) and false otherwise */
+    public boolean isSetNew_parts() {
+      return this.new_parts != null;
+    }
+
+    public void setNew_partsIsSet(boolean value) {
+      if (!value) {
+        this.new_parts = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NEW_PARTS:
+        if (value == null) {
+          unsetNew_parts();
+        } else {
+          setNew_parts((List<Partition>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NEW_PARTS:
+        return getNew_parts();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been asigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NEW_PARTS:
+        return isSetNew_parts();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof add_partitions_args)
+        return this.equals((add_partitions_args)that);
+      return false;
+    }
+
+    public boolean equals(add_partitions_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_new_parts = true && this.isSetNew_parts();
+      boolean that_present_new_parts = true && that.isSetNew_parts();
+      if (this_present_new_parts || that_present_new_parts) {
+        if (!(this_present_new_parts && that_present_new_parts))
+          return false;
+        if (!this.new_parts.equals(that.new_parts))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(add_partitions_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      add_partitions_args typedOther = (add_partitions_args)other;
+
+      lastComparison = Boolean.valueOf(isSetNew_parts()).compareTo(typedOther.isSetNew_parts());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNew_parts()) {
+        lastComparison = TBaseHelper.compareTo(this.new_parts, typedOther.new_parts);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // NEW_PARTS
+            if (field.type == TType.LIST) {
+              {
+                TList _list228 = iprot.readListBegin();
+                this.new_parts = new ArrayList<Partition>(_list228.size);
+                for (int _i229 = 0; _i229 < _list228.size; ++_i229)
+                {
+                  Partition _elem230;
+                  _elem230 = new Partition();
+                  _elem230.read(iprot);
+                  this.new_parts.add(_elem230);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (this.new_parts != null) {
+        oprot.writeFieldBegin(NEW_PARTS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRUCT, this.new_parts.size()));
+          for (Partition _iter231 : this.new_parts)
+          {
+            _iter231.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("add_partitions_args(");
+      boolean first = true;
+
+      sb.append("new_parts:");
+      if (this.new_parts == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.new_parts);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+    }
+
+  }
+
+  public static class add_partitions_result implements TBase<add_partitions_result, add_partitions_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("add_partitions_result");
+
+    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.I32, (short)0);
+    private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
+    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
+    private static final TField O3_FIELD_DESC = new TField("o3", TType.STRUCT, (short)3);
+
+    private int success;
+    private InvalidObjectException o1;
+    private AlreadyExistsException o2;
+    private MetaException o3;
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      O1((short)1, "o1"),
+      O2((short)2, "o2"),
+      O3((short)3, "o3");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // O1
+            return O1;
+          case 2: // O2
+            return O2;
+          case 3: // O3
+            return O3;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.I32)));
+      tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
+      tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
+      tmpMap.put(_Fields.O3, new FieldMetaData("o3", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(add_partitions_result.class, metaDataMap);
+    }
+
+    public add_partitions_result() {
+    }
+
+    public add_partitions_result(
+      int success,
+      InvalidObjectException o1,
+      AlreadyExistsException o2,
+      MetaException o3)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.o1 = o1;
+      this.o2 = o2;
+      this.o3 = o3;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public add_partitions_result(add_partitions_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+      if (other.isSetO1()) {
+        this.o1 = new InvalidObjectException(other.o1);
+      }
+      if (other.isSetO2()) {
+        this.o2 = new AlreadyExistsException(other.o2);
+      }
+      if (other.isSetO3()) {
+        this.o3 = new MetaException(other.o3);
+      }
+    }
+
+    public add_partitions_result deepCopy() {
+      return new add_partitions_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.o1 = null;
+      this.o2 = null;
+      this.o3 = null;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public void setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been asigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public InvalidObjectException getO1() {
+      return this.o1;
+    }
+
+    public void setO1(InvalidObjectException o1) {
+      this.o1 = o1;
+    }
+
+    public void unsetO1() {
+      this.o1 = null;
+    }
+
+    /** Returns true if field o1 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO1() {
+      return this.o1 != null;
+    }
+
+    public void setO1IsSet(boolean value) {
+      if (!value) {
+        this.o1 = null;
+      }
+    }
+
+    public AlreadyExistsException getO2() {
+      return this.o2;
+    }
+
+    public void setO2(AlreadyExistsException o2) {
+      this.o2 = o2;
+    }
+
+    public void unsetO2() {
+      this.o2 = null;
+    }
+
+    /** Returns true if field o2 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO2() {
+      return this.o2 != null;
+    }
+
+    public void setO2IsSet(boolean value) {
+      if (!value) {
+        this.o2 = null;
+      }
+    }
+
+    public MetaException getO3() {
+      return this.o3;
+    }
+
+    public void setO3(MetaException o3) {
+      this.o3 = o3;
+    }
+
+    public void unsetO3() {
+      this.o3 = null;
+    }
+
+    /** Returns true if field o3 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO3() {
+      return this.o3 != null;
+    }
+
+    public void setO3IsSet(boolean value) {
+      if (!value) {
+        this.o3 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Integer)value);
+        }
+        break;
+
+      case O1:
+        if (value == null) {
+          unsetO1();
+        } else {
+          setO1((InvalidObjectException)value);
+        }
+        break;
+
+      case O2:
+        if (value == null) {
+          unsetO2();
+        } else {
+          setO2((AlreadyExistsException)value);
+        }
+        break;
+
+      case O3:
+        if (value == null) {
+          unsetO3();
+        } else {
+          setO3((MetaException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return new Integer(getSuccess());
+
+      case O1:
+        return getO1();
+
+      case O2:
+        return getO2();
+
+      case O3:
+        return getO3();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been asigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case O1:
+        return isSetO1();
+      case O2:
+        return isSetO2();
+      case O3:
+        return isSetO3();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof add_partitions_result)
+        return this.equals((add_partitions_result)that);
+      return false;
+    }
+
+    public boolean equals(add_partitions_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_o1 = true && this.isSetO1();
+      boolean that_present_o1 = true && that.isSetO1();
+      if (this_present_o1 || that_present_o1) {
+        if (!(this_present_o1 && that_present_o1))
+          return false;
+        if (!this.o1.equals(that.o1))
+          return false;
+      }
+
+      boolean this_present_o2 = true && this.isSetO2();
+      boolean that_present_o2 = true && that.isSetO2();
+      if (this_present_o2 || that_present_o2) {
+        if (!(this_present_o2 && that_present_o2))
+          return false;
+        if (!this.o2.equals(that.o2))
+          return false;
+      }
+
+      boolean this_present_o3 = true && this.isSetO3();
+      boolean that_present_o3 = true && that.isSetO3();
+      if (this_present_o3 || that_present_o3) {
+        if (!(this_present_o3 && that_present_o3))
+          return false;
+        if (!this.o3.equals(that.o3))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(add_partitions_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      add_partitions_result typedOther = (add_partitions_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetO1()).compareTo(typedOther.isSetO1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO1()) {
+        lastComparison = TBaseHelper.compareTo(this.o1, typedOther.o1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO2()) {
+        lastComparison = TBaseHelper.compareTo(this.o2, typedOther.o2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetO3()).compareTo(typedOther.isSetO3());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO3()) {
+        lastComparison = TBaseHelper.compareTo(this.o3, typedOther.o3);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == TType.I32) {
+              this.success = iprot.readI32();
+              setSuccessIsSet(true);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 1: // O1
+            if (field.type == TType.STRUCT) {
+              this.o1 = new InvalidObjectException();
+              this.o1.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 2: // O2
+            if (field.type == TType.STRUCT) {
+              this.o2 = new AlreadyExistsException();
+              this.o2.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 3: // O3
+            if (field.type == TType.STRUCT) {
+              this.o3 = new MetaException();
+              this.o3.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      if (this.isSetSuccess()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI32(this.success);
+        oprot.writeFieldEnd();
+      } else if (this.isSetO1()) {
+        oprot.writeFieldBegin(O1_FIELD_DESC);
+        this.o1.write(oprot);
+        oprot.writeFieldEnd();
+      } else if (this.isSetO2()) {
+        oprot.writeFieldBegin(O2_FIELD_DESC);
+        this.o2.write(oprot);
+        oprot.writeFieldEnd();
+      } else if (this.isSetO3()) {
+        oprot.writeFieldBegin(O3_FIELD_DESC);
+        this.o3.write(oprot);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("add_partitions_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("o1:");
+      if (this.o1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("o2:");
+      if (this.o2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("o3:");
+      if (this.o3 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o3);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+    }
+
+  }
+
+  public static class append_partition_args implements TBase<append_partition_args, append_partition_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("append_partition_args");
+
+    private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
+    private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
+    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+
+    private String db_name;
+    private String tbl_name;
+    private List<String> part_vals;
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      DB_NAME((short)1, "db_name"),
+      TBL_NAME((short)2, "tbl_name"),
+      PART_VALS((short)3, "part_vals");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DB_NAME
+            return DB_NAME;
+          case 2: // TBL_NAME
+            return TBL_NAME;
+          case 3: // PART_VALS
+            return PART_VALS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DB_NAME, new FieldMetaData("db_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(append_partition_args.class, metaDataMap);
+    }
+
+    public append_partition_args() {
+    }
+
+    public append_partition_args(
+      String db_name,
+      String tbl_name,
+      List<String> part_vals)
+    {
+      this();
+      this.db_name = db_name;
+      this.tbl_name = tbl_name;
+      this.part_vals = part_vals;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public append_partition_args(append_partition_args other) {
+      if (other.isSetDb_name()) {
+        this.db_name = other.db_name;
+      }
+      if (other.isSetTbl_name()) {
+        this.tbl_name = other.tbl_name;
+      }
+      if (other.isSetPart_vals()) {
+        List<String> __this__part_vals = new ArrayList<String>();
+        for (String other_element : other.part_vals) {
+          __this__part_vals.add(other_element);
+        }
+        this.part_vals = __this__part_vals;
+      }
+    }
+
+    public append_partition_args deepCopy() {
+      return new append_partition_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.db_name = null;
+      this.tbl_name = null;
+      this.part_vals = null;
+    }
+
+    public String getDb_name() {
+      return this.db_name;
+    }
+
+    public void setDb_name(String db_name) {
+      this.db_name = db_name;
+    }
+
+    public void unsetDb_name() {
+      this.db_name = null;
+    }
+
+    /** Returns true if field db_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetDb_name() {
+      return this.db_name != null;
+    }
+
+    public void setDb_nameIsSet(boolean value) {
+      if (!value) {
+        this.db_name = null;
+      }
+    }
+
+    public String getTbl_name() {
+      return this.tbl_name;
+    }
+
+    public void setTbl_name(String tbl_name) {
+      this.tbl_name = tbl_name;
+    }
+
+    public void unsetTbl_name() {
+      this.tbl_name = null;
+    }
+
+    /** Returns true if field tbl_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetTbl_name() {
+      return this.tbl_name != null;
+    }
+
+    public void setTbl_nameIsSet(boolean value) {
+      if (!value) {
+        this.tbl_name = null;
+      }
+    }
+
+    public int getPart_valsSize() {
+      return (this.part_vals == null) ? 0 : this.part_vals.size();
+    }
+
+    public java.util.Iterator<String> getPart_valsIterator() {
+      return (this.part_vals == null) ? null : this.part_vals.iterator();
+    }
+
+    public void addToPart_vals(String elem) {
+      if (this.part_vals == null) {
+        this.part_vals = new ArrayList<String>();
+      }
+      this.part_vals.add(elem);
+    }
+
+    public List<String> getPart_vals() {
+      return this.part_vals;
+    }
+
+    public void setPart_vals(List<String> part_vals) {
+      this.part_vals = part_vals;
+    }
+
+    public void unsetPart_vals() {
+      this.part_vals = null;
+    }
+
+    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_vals() {
+      return this.part_vals != null;
+    }
+
+    public void setPart_valsIsSet(boolean value) {
+      if (!value) {
+        this.part_vals = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DB_NAME:
+        if (value == null) {
+          unsetDb_name();
+        } else {
+          setDb_name((String)value);
+        }
+        break;
+
+      case TBL_NAME:
+        if (value == null) {
+          unsetTbl_name();
+        } else {
+          setTbl_name((String)value);
+        }
+        break;
+
+      case PART_VALS:
+        if (value == null) {
+          unsetPart_vals();
+        } else {
+          setPart_vals((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DB_NAME:
+        return getDb_name();
+
+      case TBL_NAME:
+        return getTbl_name();
+
+      case PART_VALS:
+        return getPart_vals();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been asigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DB_NAME:
+        return isSetDb_name();
+      case TBL_NAME:
+        return isSetTbl_name();
+      case PART_VALS:
+        return isSetPart_vals();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof append_partition_args)
+        return this.equals((append_partition_args)that);
+      return false;
+    }
+
+    public boolean equals(append_partition_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_db_name = true && this.isSetDb_name();
+      boolean that_present_db_name = true && that.isSetDb_name();
+      if (this_present_db_name || that_present_db_name) {
+        if (!(this_present_db_name && that_present_db_name))
+          return false;
+        if (!this.db_name.equals(that.db_name))
+          return false;
+      }
+
+      boolean this_present_tbl_name = true && this.isSetTbl_name();
+      boolean that_present_tbl_name = true && that.isSetTbl_name();
+      if (this_present_tbl_name || that_present_tbl_name) {
+        if (!(this_present_tbl_name && that_present_tbl_name))
+          return false;
+        if (!this.tbl_name.equals(that.tbl_name))
+          return false;
+      }
+
+      boolean this_present_part_vals = true && this.isSetPart_vals();
+      boolean that_present_part_vals = true && that.isSetPart_vals();
+      if (this_present_part_vals || that_present_part_vals) {
+        if (!(this_present_part_vals && that_present_part_vals))
+          return false;
+        if (!this.part_vals.equals(that.part_vals))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(append_partition_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      append_partition_args typedOther = (append_partition_args)other;
+
+      lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDb_name()) {
+        lastComparison = TBaseHelper.compareTo(this.db_name, typedOther.db_name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTbl_name()).compareTo(typedOther.isSetTbl_name());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTbl_name()) {
+        lastComparison = TBaseHelper.compareTo(this.tbl_name, typedOther.tbl_name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPart_vals()) {
+        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // DB_NAME
+            if (field.type == TType.STRING) {
+              this.db_name = iprot.readString();
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 2: // TBL_NAME
+            if (field.type == TType.STRING) {
+              this.tbl_name = iprot.readString();
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 3: // PART_VALS
+            if (field.type == TType.LIST) {
+              {
+                TList _list127 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list127.size);
+                for (int _i128 = 0; _i128 < _list127.size; ++_i128)
+                {
+                  String _elem129;
+                  _elem129 = iprot.readString();
+                  this.part_vals.add(_elem129);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (this.db_name != null) {
+        oprot.writeFieldBegin(DB_NAME_FIELD_DESC);
+        oprot.writeString(this.db_name);
+        oprot.writeFieldEnd();
+      }
+      if (this.tbl_name != null) {
+        oprot.writeFieldBegin(TBL_NAME_FIELD_DESC);
+        oprot.writeString(this.tbl_name);
+        oprot.writeFieldEnd();
+      }
+      if (this.part_vals != null) {
+        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
+          for (String _iter130 : this.part_vals)
+          {
+            oprot.writeString(_iter130);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("append_partition_args(");
+      boolean first = true;
+
+      sb.append("db_name:");
+      if (this.db_name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.db_name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("tbl_name:");
+      if (this.tbl_name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tbl_name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("part_vals:");
+      if (this.part_vals == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.part_vals);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+    }
+
+  }
+
+  public static class append_partition_result implements TBase<append_partition_result, append_partition_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("append_partition_result");
+
+    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
+    private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
+    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
+    private static final TField O3_FIELD_DESC = new TField("o3", TType.STRUCT, (short)3);
+
+    private Partition success;
+    private InvalidObjectException o1;
+    private AlreadyExistsException o2;
+    private MetaException o3;
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      O1((short)1, "o1"),
+      O2((short)2, "o2"),
+      O3((short)3, "o3");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // O1
+            return O1;
+          case 2: // O2
+            return O2;
+          case 3: // O3
+            return O3;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
+          new StructMetaData(TType.STRUCT, Partition.class)));
+      tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
+      tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
+      tmpMap.put(_Fields.O3, new FieldMetaData("o3", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(append_partition_result.class, metaDataMap);
+    }
+
+    public append_partition_result() {
+    }
+
+    public append_partition_result(
+      Partition success,
+      InvalidObjectException o1,
+      AlreadyExistsException o2,
+      MetaException o3)
+    {
+      this();
+      this.success = success;
+      this.o1 = o1;
+      this.o2 = o2;
+      this.o3 = o3;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public append_partition_result(append_partition_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Partition(other.success);
+      }
+      if (other.isSetO1()) {
+        this.o1 = new InvalidObjectException(other.o1);
+      }
+      if (other.isSetO2()) {
+        this.o2 = new AlreadyExistsException(other.o2);
+      }
+      if (other.isSetO3()) {
+        this.o3 = new MetaException(other.o3);
+      }
+    }
+
+    public append_partition_result deepCopy() {
+      return new append_partition_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.o1 = null;
+      this.o2 = null;
+      this.o3 = null;
+    }
+
+    public Partition getSuccess() {
+      return this.success;
+    }
+
+    public void setSuccess(Partition success) {
+      this.success = success;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been asigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public InvalidObjectException getO1() {
+      return this.o1;
+    }
+
+    public void setO1(InvalidObjectException o1) {
+      this.o1 = o1;
+    }
+
+    public void unsetO1() {
+      this.o1 = null;
+    }
+
+    /** Returns true if field o1 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO1() {
+      return this.o1 != null;
+    }
+
+    public void setO1IsSet(boolean value) {
+      if (!value) {
+        this.o1 = null;
+      }
+    }
+
+    public AlreadyExistsException getO2() {
+      return this.o2;
+    }
+
+    public void setO2(AlreadyExistsException o2) {
+      this.o2 = o2;
+    }
+
+    public void unsetO2() {
+      this.o2 = null;
+    }
+
+    /** Returns true if field o2 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO2() {
+      return this.o2 != null;
+    }
+
+    public void setO2IsSet(boolean value) {
+      if (!value) {
+        this.o2 = null;
+      }
+    }
+
+    public MetaException getO3() {
+      return this.o3;
+    }
+
+    public void setO3(MetaException o3) {
+      this.o3 = o3;
+    }
+
+    public void unsetO3() {
+      this.o3 = null;
+    }
+
+    /** Returns true if field o3 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO3() {
+      return this.o3 != null;
+    }
+
+    public void setO3IsSet(boolean value) {
+      if (!value) {
+        this.o3 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Partition)value);
+        }
+        break;
+
+      case O1:
+        if (value == null) {
+          unsetO1();
+        } else {
+          setO1((InvalidObjectException)value);
+        }
+        break;
+
+      case O2:
+        if (value == null) {
+          unsetO2();
+        } else {
+          setO2((AlreadyExistsException)value);
+        }
+        break;
+
+      case O3:
+        if (value == null) {
+          unsetO3();
+        } else {
+          setO3((MetaException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case O1:
+        return getO1();
+
+      case O2:
+        return getO2();
+
+      case O3:
+        return getO3();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been asigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case O1:
+        return isSetO1();
+      case O2:
+        return isSetO2();
+      case O3:
+        return isSetO3();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof append_partition_result)
+        return this.equals((append_partition_result)that);
       return false;
     }
 
-    public boolean equals(add_partition_result that) {
+    public boolean equals(append_partition_result that) {
       if (that == null)
         return false;
 
@@ -21571,13 +23708,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(add_partition_result other) {
+    public int compareTo(append_partition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      add_partition_result typedOther = (add_partition_result)other;
+      append_partition_result typedOther = (append_partition_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -21703,7 +23840,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("add_partition_result(");
+      StringBuilder sb = new StringBuilder("append_partition_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -21747,22 +23884,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class append_partition_args implements TBase<append_partition_args, append_partition_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("append_partition_args");
+  public static class append_partition_by_name_args implements TBase<append_partition_by_name_args, append_partition_by_name_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("append_partition_by_name_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+    private static final TField PART_NAME_FIELD_DESC = new TField("part_name", TType.STRING, (short)3);
 
     private String db_name;
     private String tbl_name;
-    private List<String> part_vals;
+    private String part_name;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_VALS((short)3, "part_vals");
+      PART_NAME((short)3, "part_name");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -21781,8 +23918,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_VALS
-            return PART_VALS;
+          case 3: // PART_NAME
+            return PART_NAME;
           default:
             return null;
         }
@@ -21831,55 +23968,50 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
+      tmpMap.put(_Fields.PART_NAME, new FieldMetaData("part_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(append_partition_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(append_partition_by_name_args.class, metaDataMap);
     }
 
-    public append_partition_args() {
+    public append_partition_by_name_args() {
     }
 
-    public append_partition_args(
+    public append_partition_by_name_args(
       String db_name,
       String tbl_name,
-      List<String> part_vals)
+      String part_name)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_vals = part_vals;
+      this.part_name = part_name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public append_partition_args(append_partition_args other) {
+    public append_partition_by_name_args(append_partition_by_name_args other) {
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_vals()) {
-        List<String> __this__part_vals = new ArrayList<String>();
-        for (String other_element : other.part_vals) {
-          __this__part_vals.add(other_element);
-        }
-        this.part_vals = __this__part_vals;
+      if (other.isSetPart_name()) {
+        this.part_name = other.part_name;
       }
     }
 
-    public append_partition_args deepCopy() {
-      return new append_partition_args(this);
+    public append_partition_by_name_args deepCopy() {
+      return new append_partition_by_name_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_vals = null;
+      this.part_name = null;
     }
 
     public String getDb_name() {
@@ -21928,41 +24060,26 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public int getPart_valsSize() {
-      return (this.part_vals == null) ? 0 : this.part_vals.size();
-    }
-
-    public java.util.Iterator<String> getPart_valsIterator() {
-      return (this.part_vals == null) ? null : this.part_vals.iterator();
-    }
-
-    public void addToPart_vals(String elem) {
-      if (this.part_vals == null) {
-        this.part_vals = new ArrayList<String>();
-      }
-      this.part_vals.add(elem);
-    }
-
-    public List<String> getPart_vals() {
-      return this.part_vals;
+    public String getPart_name() {
+      return this.part_name;
     }
 
-    public void setPart_vals(List<String> part_vals) {
-      this.part_vals = part_vals;
+    public void setPart_name(String part_name) {
+      this.part_name = part_name;
     }
 
-    public void unsetPart_vals() {
-      this.part_vals = null;
+    public void unsetPart_name() {
+      this.part_name = null;
     }
 
-    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_vals() {
-      return this.part_vals != null;
+    /** Returns true if field part_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_name() {
+      return this.part_name != null;
     }
 
-    public void setPart_valsIsSet(boolean value) {
+    public void setPart_nameIsSet(boolean value) {
       if (!value) {
-        this.part_vals = null;
+        this.part_name = null;
       }
     }
 
@@ -21984,11 +24101,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_VALS:
+      case PART_NAME:
         if (value == null) {
-          unsetPart_vals();
+          unsetPart_name();
         } else {
-          setPart_vals((List<String>)value);
+          setPart_name((String)value);
         }
         break;
 
@@ -22003,8 +24120,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_VALS:
-        return getPart_vals();
+      case PART_NAME:
+        return getPart_name();
 
       }
       throw new IllegalStateException();
@@ -22021,8 +24138,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_VALS:
-        return isSetPart_vals();
+      case PART_NAME:
+        return isSetPart_name();
       }
       throw new IllegalStateException();
     }
@@ -22031,12 +24148,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof append_partition_args)
-        return this.equals((append_partition_args)that);
+      if (that instanceof append_partition_by_name_args)
+        return this.equals((append_partition_by_name_args)that);
       return false;
     }
 
-    public boolean equals(append_partition_args that) {
+    public boolean equals(append_partition_by_name_args that) {
       if (that == null)
         return false;
 
@@ -22058,12 +24175,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_vals = true && this.isSetPart_vals();
-      boolean that_present_part_vals = true && that.isSetPart_vals();
-      if (this_present_part_vals || that_present_part_vals) {
-        if (!(this_present_part_vals && that_present_part_vals))
+      boolean this_present_part_name = true && this.isSetPart_name();
+      boolean that_present_part_name = true && that.isSetPart_name();
+      if (this_present_part_name || that_present_part_name) {
+        if (!(this_present_part_name && that_present_part_name))
           return false;
-        if (!this.part_vals.equals(that.part_vals))
+        if (!this.part_name.equals(that.part_name))
           return false;
       }
 
@@ -22075,13 +24192,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(append_partition_args other) {
+    public int compareTo(append_partition_by_name_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      append_partition_args typedOther = (append_partition_args)other;
+      append_partition_by_name_args typedOther = (append_partition_by_name_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -22103,12 +24220,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
+      lastComparison = Boolean.valueOf(isSetPart_name()).compareTo(typedOther.isSetPart_name());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart_vals()) {
-        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
+      if (isSetPart_name()) {
+        lastComparison = TBaseHelper.compareTo(this.part_name, typedOther.part_name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -22144,19 +24261,9 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_VALS
-            if (field.type == TType.LIST) {
-              {
-                TList _list127 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list127.size);
-                for (int _i128 = 0; _i128 < _list127.size; ++_i128)
-                {
-                  String _elem129;
-                  _elem129 = iprot.readString();
-                  this.part_vals.add(_elem129);
-                }
-                iprot.readListEnd();
-              }
+          case 3: // PART_NAME
+            if (field.type == TType.STRING) {
+              this.part_name = iprot.readString();
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -22184,16 +24291,9 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_vals != null) {
-        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter130 : this.part_vals)
-          {
-            oprot.writeString(_iter130);
-          }
-          oprot.writeListEnd();
-        }
+      if (this.part_name != null) {
+        oprot.writeFieldBegin(PART_NAME_FIELD_DESC);
+        oprot.writeString(this.part_name);
         oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
@@ -22202,7 +24302,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("append_partition_args(");
+      StringBuilder sb = new StringBuilder("append_partition_by_name_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -22221,11 +24321,11 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_vals:");
-      if (this.part_vals == null) {
+      sb.append("part_name:");
+      if (this.part_name == null) {
         sb.append("null");
       } else {
-        sb.append(this.part_vals);
+        sb.append(this.part_name);
       }
       first = false;
       sb.append(")");
@@ -22238,8 +24338,8 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class append_partition_result implements TBase<append_partition_result, append_partition_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("append_partition_result");
+  public static class append_partition_by_name_result implements TBase<append_partition_by_name_result, append_partition_by_name_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("append_partition_by_name_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
@@ -22332,13 +24432,13 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.O3, new FieldMetaData("o3", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(append_partition_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(append_partition_by_name_result.class, metaDataMap);
     }
 
-    public append_partition_result() {
+    public append_partition_by_name_result() {
     }
 
-    public append_partition_result(
+    public append_partition_by_name_result(
       Partition success,
       InvalidObjectException o1,
       AlreadyExistsException o2,
@@ -22354,7 +24454,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public append_partition_result(append_partition_result other) {
+    public append_partition_by_name_result(append_partition_by_name_result other) {
       if (other.isSetSuccess()) {
         this.success = new Partition(other.success);
       }
@@ -22369,8 +24469,8 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public append_partition_result deepCopy() {
-      return new append_partition_result(this);
+    public append_partition_by_name_result deepCopy() {
+      return new append_partition_by_name_result(this);
     }
 
     @Override
@@ -22551,12 +24651,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof append_partition_result)
-        return this.equals((append_partition_result)that);
+      if (that instanceof append_partition_by_name_result)
+        return this.equals((append_partition_by_name_result)that);
       return false;
     }
 
-    public boolean equals(append_partition_result that) {
+    public boolean equals(append_partition_by_name_result that) {
       if (that == null)
         return false;
 
@@ -22604,13 +24704,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(append_partition_result other) {
+    public int compareTo(append_partition_by_name_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      append_partition_result typedOther = (append_partition_result)other;
+      append_partition_by_name_result typedOther = (append_partition_by_name_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -22736,7 +24836,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("append_partition_result(");
+      StringBuilder sb = new StringBuilder("append_partition_by_name_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -22780,22 +24880,25 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class append_partition_by_name_args implements TBase<append_partition_by_name_args, append_partition_by_name_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("append_partition_by_name_args");
+  public static class drop_partition_args implements TBase<drop_partition_args, drop_partition_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_NAME_FIELD_DESC = new TField("part_name", TType.STRING, (short)3);
+    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+    private static final TField DELETE_DATA_FIELD_DESC = new TField("deleteData", TType.BOOL, (short)4);
 
     private String db_name;
     private String tbl_name;
-    private String part_name;
+    private List<String> part_vals;
+    private boolean deleteData;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_NAME((short)3, "part_name");
+      PART_VALS((short)3, "part_vals"),
+      DELETE_DATA((short)4, "deleteData");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22814,8 +24917,10 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_NAME
-            return PART_NAME;
+          case 3: // PART_VALS
+            return PART_VALS;
+          case 4: // DELETE_DATA
+            return DELETE_DATA;
           default:
             return null;
         }
@@ -22856,6 +24961,8 @@ public class ThriftHiveMetastore {
     }
 
     // isset id assignments
+    private static final int __DELETEDATA_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
 
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
@@ -22864,50 +24971,65 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_NAME, new FieldMetaData("part_name", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
+      tmpMap.put(_Fields.DELETE_DATA, new FieldMetaData("deleteData", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(append_partition_by_name_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(drop_partition_args.class, metaDataMap);
     }
 
-    public append_partition_by_name_args() {
+    public drop_partition_args() {
     }
 
-    public append_partition_by_name_args(
+    public drop_partition_args(
       String db_name,
       String tbl_name,
-      String part_name)
+      List<String> part_vals,
+      boolean deleteData)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_name = part_name;
+      this.part_vals = part_vals;
+      this.deleteData = deleteData;
+      setDeleteDataIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public append_partition_by_name_args(append_partition_by_name_args other) {
+    public drop_partition_args(drop_partition_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_name()) {
-        this.part_name = other.part_name;
+      if (other.isSetPart_vals()) {
+        List<String> __this__part_vals = new ArrayList<String>();
+        for (String other_element : other.part_vals) {
+          __this__part_vals.add(other_element);
+        }
+        this.part_vals = __this__part_vals;
       }
+      this.deleteData = other.deleteData;
     }
 
-    public append_partition_by_name_args deepCopy() {
-      return new append_partition_by_name_args(this);
+    public drop_partition_args deepCopy() {
+      return new drop_partition_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_name = null;
+      this.part_vals = null;
+      setDeleteDataIsSet(false);
+      this.deleteData = false;
     }
 
     public String getDb_name() {
@@ -22956,29 +25078,66 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public String getPart_name() {
-      return this.part_name;
+    public int getPart_valsSize() {
+      return (this.part_vals == null) ? 0 : this.part_vals.size();
     }
 
-    public void setPart_name(String part_name) {
-      this.part_name = part_name;
+    public java.util.Iterator<String> getPart_valsIterator() {
+      return (this.part_vals == null) ? null : this.part_vals.iterator();
     }
 
-    public void unsetPart_name() {
-      this.part_name = null;
+    public void addToPart_vals(String elem) {
+      if (this.part_vals == null) {
+        this.part_vals = new ArrayList<String>();
+      }
+      this.part_vals.add(elem);
     }
 
-    /** Returns true if field part_name is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_name() {
-      return this.part_name != null;
+    public List<String> getPart_vals() {
+      return this.part_vals;
     }
 
-    public void setPart_nameIsSet(boolean value) {
+    public void setPart_vals(List<String> part_vals) {
+      this.part_vals = part_vals;
+    }
+
+    public void unsetPart_vals() {
+      this.part_vals = null;
+    }
+
+    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_vals() {
+      return this.part_vals != null;
+    }
+
+    public void setPart_valsIsSet(boolean value) {
       if (!value) {
-        this.part_name = null;
+        this.part_vals = null;
       }
     }
 
+    public boolean isDeleteData() {
+      return this.deleteData;
+    }
+
+    public void setDeleteData(boolean deleteData) {
+      this.deleteData = deleteData;
+      setDeleteDataIsSet(true);
+    }
+
+    public void unsetDeleteData() {
+      __isset_bit_vector.clear(__DELETEDATA_ISSET_ID);
+    }
+
+    /** Returns true if field deleteData is set (has been asigned a value) and false otherwise */
+    public boolean isSetDeleteData() {
+      return __isset_bit_vector.get(__DELETEDATA_ISSET_ID);
+    }
+
+    public void setDeleteDataIsSet(boolean value) {
+      __isset_bit_vector.set(__DELETEDATA_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -22997,11 +25156,19 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_NAME:
+      case PART_VALS:
         if (value == null) {
-          unsetPart_name();
+          unsetPart_vals();
         } else {
-          setPart_name((String)value);
+          setPart_vals((List<String>)value);
+        }
+        break;
+
+      case DELETE_DATA:
+        if (value == null) {
+          unsetDeleteData();
+        } else {
+          setDeleteData((Boolean)value);
         }
         break;
 
@@ -23016,8 +25183,11 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_NAME:
-        return getPart_name();
+      case PART_VALS:
+        return getPart_vals();
+
+      case DELETE_DATA:
+        return new Boolean(isDeleteData());
 
       }
       throw new IllegalStateException();
@@ -23034,8 +25204,10 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_NAME:
-        return isSetPart_name();
+      case PART_VALS:
+        return isSetPart_vals();
+      case DELETE_DATA:
+        return isSetDeleteData();
       }
       throw new IllegalStateException();
     }
@@ -23044,12 +25216,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof append_partition_by_name_args)
-        return this.equals((append_partition_by_name_args)that);
+      if (that instanceof drop_partition_args)
+        return this.equals((drop_partition_args)that);
       return false;
     }
 
-    public boolean equals(append_partition_by_name_args that) {
+    public boolean equals(drop_partition_args that) {
       if (that == null)
         return false;
 
@@ -23071,12 +25243,21 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_name = true && this.isSetPart_name();
-      boolean that_present_part_name = true && that.isSetPart_name();
-      if (this_present_part_name || that_present_part_name) {
-        if (!(this_present_part_name && that_present_part_name))
+      boolean this_present_part_vals = true && this.isSetPart_vals();
+      boolean that_present_part_vals = true && that.isSetPart_vals();
+      if (this_present_part_vals || that_present_part_vals) {
+        if (!(this_present_part_vals && that_present_part_vals))
           return false;
-        if (!this.part_name.equals(that.part_name))
+        if (!this.part_vals.equals(that.part_vals))
+          return false;
+      }
+
+      boolean this_present_deleteData = true;
+      boolean that_present_deleteData = true;
+      if (this_present_deleteData || that_present_deleteData) {
+        if (!(this_present_deleteData && that_present_deleteData))
+          return false;
+        if (this.deleteData != that.deleteData)
           return false;
       }
 
@@ -23088,13 +25269,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(append_partition_by_name_args other) {
+    public int compareTo(drop_partition_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      append_partition_by_name_args typedOther = (append_partition_by_name_args)other;
+      drop_partition_args typedOther = (drop_partition_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -23116,12 +25297,22 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_name()).compareTo(typedOther.isSetPart_name());
+      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart_name()) {
-        lastComparison = TBaseHelper.compareTo(this.part_name, typedOther.part_name);
+      if (isSetPart_vals()) {
+        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDeleteData()).compareTo(typedOther.isSetDeleteData());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDeleteData()) {
+        lastComparison = TBaseHelper.compareTo(this.deleteData, typedOther.deleteData);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -23157,9 +25348,27 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_NAME
-            if (field.type == TType.STRING) {
-              this.part_name = iprot.readString();
+          case 3: // PART_VALS
+            if (field.type == TType.LIST) {
+              {
+                TList _list131 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list131.size);
+                for (int _i132 = 0; _i132 < _list131.size; ++_i132)
+                {
+                  String _elem133;
+                  _elem133 = iprot.readString();
+                  this.part_vals.add(_elem133);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 4: // DELETE_DATA
+            if (field.type == TType.BOOL) {
+              this.deleteData = iprot.readBool();
+              setDeleteDataIsSet(true);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -23187,18 +25396,28 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_name != null) {
-        oprot.writeFieldBegin(PART_NAME_FIELD_DESC);
-        oprot.writeString(this.part_name);
+      if (this.part_vals != null) {
+        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
+          for (String _iter134 : this.part_vals)
+          {
+            oprot.writeString(_iter134);
+          }
+          oprot.writeListEnd();
+        }
         oprot.writeFieldEnd();
       }
+      oprot.writeFieldBegin(DELETE_DATA_FIELD_DESC);
+      oprot.writeBool(this.deleteData);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("append_partition_by_name_args(");
+      StringBuilder sb = new StringBuilder("drop_partition_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -23217,13 +25436,17 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_name:");
-      if (this.part_name == null) {
+      sb.append("part_vals:");
+      if (this.part_vals == null) {
         sb.append("null");
       } else {
-        sb.append(this.part_name);
+        sb.append(this.part_vals);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("deleteData:");
+      sb.append(this.deleteData);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -23234,25 +25457,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class append_partition_by_name_result implements TBase<append_partition_by_name_result, append_partition_by_name_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("append_partition_by_name_result");
+  public static class drop_partition_result implements TBase<drop_partition_result, drop_partition_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_result");
 
-    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
+    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.BOOL, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
     private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
-    private static final TField O3_FIELD_DESC = new TField("o3", TType.STRUCT, (short)3);
 
-    private Partition success;
-    private InvalidObjectException o1;
-    private AlreadyExistsException o2;
-    private MetaException o3;
+    private boolean success;
+    private NoSuchObjectException o1;
+    private MetaException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       SUCCESS((short)0, "success"),
       O1((short)1, "o1"),
-      O2((short)2, "o2"),
-      O3((short)3, "o3");
+      O2((short)2, "o2");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -23273,8 +25493,6 @@ public class ThriftHiveMetastore {
             return O1;
           case 2: // O2
             return O2;
-          case 3: // O3
-            return O3;
           default:
             return null;
         }
@@ -23315,96 +25533,91 @@ public class ThriftHiveMetastore {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
 
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
-          new StructMetaData(TType.STRUCT, Partition.class)));
+          new FieldValueMetaData(TType.BOOL)));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
-      tmpMap.put(_Fields.O3, new FieldMetaData("o3", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(append_partition_by_name_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(drop_partition_result.class, metaDataMap);
     }
 
-    public append_partition_by_name_result() {
+    public drop_partition_result() {
     }
 
-    public append_partition_by_name_result(
-      Partition success,
-      InvalidObjectException o1,
-      AlreadyExistsException o2,
-      MetaException o3)
+    public drop_partition_result(
+      boolean success,
+      NoSuchObjectException o1,
+      MetaException o2)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.o1 = o1;
       this.o2 = o2;
-      this.o3 = o3;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public append_partition_by_name_result(append_partition_by_name_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new Partition(other.success);
-      }
+    public drop_partition_result(drop_partition_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
       if (other.isSetO1()) {
-        this.o1 = new InvalidObjectException(other.o1);
+        this.o1 = new NoSuchObjectException(other.o1);
       }
       if (other.isSetO2()) {
-        this.o2 = new AlreadyExistsException(other.o2);
-      }
-      if (other.isSetO3()) {
-        this.o3 = new MetaException(other.o3);
+        this.o2 = new MetaException(other.o2);
       }
     }
 
-    public append_partition_by_name_result deepCopy() {
-      return new append_partition_by_name_result(this);
+    public drop_partition_result deepCopy() {
+      return new drop_partition_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.o1 = null;
       this.o2 = null;
-      this.o3 = null;
     }
 
-    public Partition getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public void setSuccess(Partition success) {
+    public void setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
     }
 
-    public InvalidObjectException getO1() {
+    public NoSuchObjectException getO1() {
       return this.o1;
     }
 
-    public void setO1(InvalidObjectException o1) {
+    public void setO1(NoSuchObjectException o1) {
       this.o1 = o1;
     }
 
@@ -23423,11 +25636,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public AlreadyExistsException getO2() {
+    public MetaException getO2() {
       return this.o2;
     }
 
-    public void setO2(AlreadyExistsException o2) {
+    public void setO2(MetaException o2) {
       this.o2 = o2;
     }
 
@@ -23446,36 +25659,13 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public MetaException getO3() {
-      return this.o3;
-    }
-
-    public void setO3(MetaException o3) {
-      this.o3 = o3;
-    }
-
-    public void unsetO3() {
-      this.o3 = null;
-    }
-
-    /** Returns true if field o3 is set (has been asigned a value) and false otherwise */
-    public boolean isSetO3() {
-      return this.o3 != null;
-    }
-
-    public void setO3IsSet(boolean value) {
-      if (!value) {
-        this.o3 = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Partition)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -23483,7 +25673,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO1();
         } else {
-          setO1((InvalidObjectException)value);
+          setO1((NoSuchObjectException)value);
         }
         break;
 
@@ -23491,15 +25681,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO2();
         } else {
-          setO2((AlreadyExistsException)value);
-        }
-        break;
-
-      case O3:
-        if (value == null) {
-          unsetO3();
-        } else {
-          setO3((MetaException)value);
+          setO2((MetaException)value);
         }
         break;
 
@@ -23509,7 +25691,7 @@ public class ThriftHiveMetastore {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return new Boolean(isSuccess());
 
       case O1:
         return getO1();
@@ -23517,9 +25699,6 @@ public class ThriftHiveMetastore {
       case O2:
         return getO2();
 
-      case O3:
-        return getO3();
-
       }
       throw new IllegalStateException();
     }
@@ -23537,8 +25716,6 @@ public class ThriftHiveMetastore {
         return isSetO1();
       case O2:
         return isSetO2();
-      case O3:
-        return isSetO3();
       }
       throw new IllegalStateException();
     }
@@ -23547,21 +25724,21 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof append_partition_by_name_result)
-        return this.equals((append_partition_by_name_result)that);
+      if (that instanceof drop_partition_result)
+        return this.equals((drop_partition_result)that);
       return false;
     }
 
-    public boolean equals(append_partition_by_name_result that) {
+    public boolean equals(drop_partition_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -23583,15 +25760,6 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_o3 = true && this.isSetO3();
-      boolean that_present_o3 = true && that.isSetO3();
-      if (this_present_o3 || that_present_o3) {
-        if (!(this_present_o3 && that_present_o3))
-          return false;
-        if (!this.o3.equals(that.o3))
-          return false;
-      }
-
       return true;
     }
 
@@ -23600,13 +25768,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(append_partition_by_name_result other) {
+    public int compareTo(drop_partition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      append_partition_by_name_result typedOther = (append_partition_by_name_result)other;
+      drop_partition_result typedOther = (drop_partition_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -23638,16 +25806,6 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetO3()).compareTo(typedOther.isSetO3());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetO3()) {
-        lastComparison = TBaseHelper.compareTo(this.o3, typedOther.o3);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -23666,16 +25824,16 @@ public class ThriftHiveMetastore {
         }
         switch (field.id) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
-              this.success = new Partition();
-              this.success.read(iprot);
+            if (field.type == TType.BOOL) {
+              this.success = iprot.readBool();
+              setSuccessIsSet(true);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
           case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o1 = new InvalidObjectException();
+              this.o1 = new NoSuchObjectException();
               this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -23683,20 +25841,12 @@ public class ThriftHiveMetastore {
             break;
           case 2: // O2
             if (field.type == TType.STRUCT) {
-              this.o2 = new AlreadyExistsException();
+              this.o2 = new MetaException();
               this.o2.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // O3
-            if (field.type == TType.STRUCT) {
-              this.o3 = new MetaException();
-              this.o3.read(iprot);
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -23711,7 +25861,7 @@ public class ThriftHiveMetastore {
 
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        this.success.write(oprot);
+        oprot.writeBool(this.success);
         oprot.writeFieldEnd();
       } else if (this.isSetO1()) {
         oprot.writeFieldBegin(O1_FIELD_DESC);
@@ -23721,10 +25871,6 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(O2_FIELD_DESC);
         this.o2.write(oprot);
         oprot.writeFieldEnd();
-      } else if (this.isSetO3()) {
-        oprot.writeFieldBegin(O3_FIELD_DESC);
-        this.o3.write(oprot);
-        oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
@@ -23732,15 +25878,11 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("append_partition_by_name_result(");
+      StringBuilder sb = new StringBuilder("drop_partition_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("o1:");
@@ -23758,14 +25900,6 @@ public class ThriftHiveMetastore {
         sb.append(this.o2);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("o3:");
-      if (this.o3 == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.o3);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -23776,24 +25910,24 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class drop_partition_args implements TBase<drop_partition_args, drop_partition_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_args");
+  public static class drop_partition_by_name_args implements TBase<drop_partition_by_name_args, drop_partition_by_name_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_by_name_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+    private static final TField PART_NAME_FIELD_DESC = new TField("part_name", TType.STRING, (short)3);
     private static final TField DELETE_DATA_FIELD_DESC = new TField("deleteData", TType.BOOL, (short)4);
 
     private String db_name;
     private String tbl_name;
-    private List<String> part_vals;
+    private String part_name;
     private boolean deleteData;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_VALS((short)3, "part_vals"),
+      PART_NAME((short)3, "part_name"),
       DELETE_DATA((short)4, "deleteData");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -23813,8 +25947,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_VALS
-            return PART_VALS;
+          case 3: // PART_NAME
+            return PART_NAME;
           case 4: // DELETE_DATA
             return DELETE_DATA;
           default:
@@ -23867,28 +26001,27 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
+      tmpMap.put(_Fields.PART_NAME, new FieldMetaData("part_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.DELETE_DATA, new FieldMetaData("deleteData", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(drop_partition_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(drop_partition_by_name_args.class, metaDataMap);
     }
 
-    public drop_partition_args() {
+    public drop_partition_by_name_args() {
     }
 
-    public drop_partition_args(
+    public drop_partition_by_name_args(
       String db_name,
       String tbl_name,
-      List<String> part_vals,
+      String part_name,
       boolean deleteData)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_vals = part_vals;
+      this.part_name = part_name;
       this.deleteData = deleteData;
       setDeleteDataIsSet(true);
     }
@@ -23896,7 +26029,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public drop_partition_args(drop_partition_args other) {
+    public drop_partition_by_name_args(drop_partition_by_name_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -23905,25 +26038,21 @@ public class ThriftHiveMetastore {
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_vals()) {
-        List<String> __this__part_vals = new ArrayList<String>();
-        for (String other_element : other.part_vals) {
-          __this__part_vals.add(other_element);
-        }
-        this.part_vals = __this__part_vals;
+      if (other.isSetPart_name()) {
+        this.part_name = other.part_name;
       }
       this.deleteData = other.deleteData;
     }
 
-    public drop_partition_args deepCopy() {
-      return new drop_partition_args(this);
+    public drop_partition_by_name_args deepCopy() {
+      return new drop_partition_by_name_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_vals = null;
+      this.part_name = null;
       setDeleteDataIsSet(false);
       this.deleteData = false;
     }
@@ -23974,41 +26103,26 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public int getPart_valsSize() {
-      return (this.part_vals == null) ? 0 : this.part_vals.size();
-    }
-
-    public java.util.Iterator<String> getPart_valsIterator() {
-      return (this.part_vals == null) ? null : this.part_vals.iterator();
-    }
-
-    public void addToPart_vals(String elem) {
-      if (this.part_vals == null) {
-        this.part_vals = new ArrayList<String>();
-      }
-      this.part_vals.add(elem);
-    }
-
-    public List<String> getPart_vals() {
-      return this.part_vals;
+    public String getPart_name() {
+      return this.part_name;
     }
 
-    public void setPart_vals(List<String> part_vals) {
-      this.part_vals = part_vals;
+    public void setPart_name(String part_name) {
+      this.part_name = part_name;
     }
 
-    public void unsetPart_vals() {
-      this.part_vals = null;
+    public void unsetPart_name() {
+      this.part_name = null;
     }
 
-    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_vals() {
-      return this.part_vals != null;
+    /** Returns true if field part_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_name() {
+      return this.part_name != null;
     }
 
-    public void setPart_valsIsSet(boolean value) {
+    public void setPart_nameIsSet(boolean value) {
       if (!value) {
-        this.part_vals = null;
+        this.part_name = null;
       }
     }
 
@@ -24052,11 +26166,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_VALS:
+      case PART_NAME:
         if (value == null) {
-          unsetPart_vals();
+          unsetPart_name();
         } else {
-          setPart_vals((List<String>)value);
+          setPart_name((String)value);
         }
         break;
 
@@ -24079,8 +26193,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_VALS:
-        return getPart_vals();
+      case PART_NAME:
+        return getPart_name();
 
       case DELETE_DATA:
         return new Boolean(isDeleteData());
@@ -24100,8 +26214,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_VALS:
-        return isSetPart_vals();
+      case PART_NAME:
+        return isSetPart_name();
       case DELETE_DATA:
         return isSetDeleteData();
       }
@@ -24112,12 +26226,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof drop_partition_args)
-        return this.equals((drop_partition_args)that);
+      if (that instanceof drop_partition_by_name_args)
+        return this.equals((drop_partition_by_name_args)that);
       return false;
     }
 
-    public boolean equals(drop_partition_args that) {
+    public boolean equals(drop_partition_by_name_args that) {
       if (that == null)
         return false;
 
@@ -24139,12 +26253,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_vals = true && this.isSetPart_vals();
-      boolean that_present_part_vals = true && that.isSetPart_vals();
-      if (this_present_part_vals || that_present_part_vals) {
-        if (!(this_present_part_vals && that_present_part_vals))
+      boolean this_present_part_name = true && this.isSetPart_name();
+      boolean that_present_part_name = true && that.isSetPart_name();
+      if (this_present_part_name || that_present_part_name) {
+        if (!(this_present_part_name && that_present_part_name))
           return false;
-        if (!this.part_vals.equals(that.part_vals))
+        if (!this.part_name.equals(that.part_name))
           return false;
       }
 
@@ -24165,13 +26279,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(drop_partition_args other) {
+    public int compareTo(drop_partition_by_name_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      drop_partition_args typedOther = (drop_partition_args)other;
+      drop_partition_by_name_args typedOther = (drop_partition_by_name_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -24193,12 +26307,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
+      lastComparison = Boolean.valueOf(isSetPart_name()).compareTo(typedOther.isSetPart_name());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart_vals()) {
-        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
+      if (isSetPart_name()) {
+        lastComparison = TBaseHelper.compareTo(this.part_name, typedOther.part_name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -24244,19 +26358,9 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_VALS
-            if (field.type == TType.LIST) {
-              {
-                TList _list131 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list131.size);
-                for (int _i132 = 0; _i132 < _list131.size; ++_i132)
-                {
-                  String _elem133;
-                  _elem133 = iprot.readString();
-                  this.part_vals.add(_elem133);
-                }
-                iprot.readListEnd();
-              }
+          case 3: // PART_NAME
+            if (field.type == TType.STRING) {
+              this.part_name = iprot.readString();
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -24292,16 +26396,9 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_vals != null) {
-        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter134 : this.part_vals)
-          {
-            oprot.writeString(_iter134);
-          }
-          oprot.writeListEnd();
-        }
+      if (this.part_name != null) {
+        oprot.writeFieldBegin(PART_NAME_FIELD_DESC);
+        oprot.writeString(this.part_name);
         oprot.writeFieldEnd();
       }
       oprot.writeFieldBegin(DELETE_DATA_FIELD_DESC);
@@ -24313,7 +26410,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("drop_partition_args(");
+      StringBuilder sb = new StringBuilder("drop_partition_by_name_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -24332,11 +26429,11 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_vals:");
-      if (this.part_vals == null) {
+      sb.append("part_name:");
+      if (this.part_name == null) {
         sb.append("null");
       } else {
-        sb.append(this.part_vals);
+        sb.append(this.part_name);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -24353,8 +26450,8 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class drop_partition_result implements TBase<drop_partition_result, drop_partition_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_result");
+  public static class drop_partition_by_name_result implements TBase<drop_partition_by_name_result, drop_partition_by_name_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_by_name_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.BOOL, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
@@ -24442,13 +26539,13 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(drop_partition_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(drop_partition_by_name_result.class, metaDataMap);
     }
 
-    public drop_partition_result() {
+    public drop_partition_by_name_result() {
     }
 
-    public drop_partition_result(
+    public drop_partition_by_name_result(
       boolean success,
       NoSuchObjectException o1,
       MetaException o2)
@@ -24463,7 +26560,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public drop_partition_result(drop_partition_result other) {
+    public drop_partition_by_name_result(drop_partition_by_name_result other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       this.success = other.success;
@@ -24475,8 +26572,8 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public drop_partition_result deepCopy() {
-      return new drop_partition_result(this);
+    public drop_partition_by_name_result deepCopy() {
+      return new drop_partition_by_name_result(this);
     }
 
     @Override
@@ -24620,12 +26717,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof drop_partition_result)
-        return this.equals((drop_partition_result)that);
+      if (that instanceof drop_partition_by_name_result)
+        return this.equals((drop_partition_by_name_result)that);
       return false;
     }
 
-    public boolean equals(drop_partition_result that) {
+    public boolean equals(drop_partition_by_name_result that) {
       if (that == null)
         return false;
 
@@ -24664,13 +26761,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(drop_partition_result other) {
+    public int compareTo(drop_partition_by_name_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      drop_partition_result typedOther = (drop_partition_result)other;
+      drop_partition_by_name_result typedOther = (drop_partition_by_name_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -24774,7 +26871,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("drop_partition_result(");
+      StringBuilder sb = new StringBuilder("drop_partition_by_name_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -24806,25 +26903,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class drop_partition_by_name_args implements TBase<drop_partition_by_name_args, drop_partition_by_name_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_by_name_args");
+  public static class get_partition_args implements TBase<get_partition_args, get_partition_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_NAME_FIELD_DESC = new TField("part_name", TType.STRING, (short)3);
-    private static final TField DELETE_DATA_FIELD_DESC = new TField("deleteData", TType.BOOL, (short)4);
+    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
 
     private String db_name;
     private String tbl_name;
-    private String part_name;
-    private boolean deleteData;
+    private List<String> part_vals;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_NAME((short)3, "part_name"),
-      DELETE_DATA((short)4, "deleteData");
+      PART_VALS((short)3, "part_vals");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -24843,10 +26937,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_NAME
-            return PART_NAME;
-          case 4: // DELETE_DATA
-            return DELETE_DATA;
+          case 3: // PART_VALS
+            return PART_VALS;
           default:
             return null;
         }
@@ -24887,8 +26979,6 @@ public class ThriftHiveMetastore {
     }
 
     // isset id assignments
-    private static final int __DELETEDATA_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
 
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
@@ -24897,60 +26987,55 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_NAME, new FieldMetaData("part_name", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.DELETE_DATA, new FieldMetaData("deleteData", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.BOOL)));
+      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(drop_partition_by_name_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_args.class, metaDataMap);
     }
 
-    public drop_partition_by_name_args() {
+    public get_partition_args() {
     }
 
-    public drop_partition_by_name_args(
+    public get_partition_args(
       String db_name,
       String tbl_name,
-      String part_name,
-      boolean deleteData)
+      List<String> part_vals)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_name = part_name;
-      this.deleteData = deleteData;
-      setDeleteDataIsSet(true);
+      this.part_vals = part_vals;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public drop_partition_by_name_args(drop_partition_by_name_args other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
+    public get_partition_args(get_partition_args other) {
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_name()) {
-        this.part_name = other.part_name;
+      if (other.isSetPart_vals()) {
+        List<String> __this__part_vals = new ArrayList<String>();
+        for (String other_element : other.part_vals) {
+          __this__part_vals.add(other_element);
+        }
+        this.part_vals = __this__part_vals;
       }
-      this.deleteData = other.deleteData;
     }
 
-    public drop_partition_by_name_args deepCopy() {
-      return new drop_partition_by_name_args(this);
+    public get_partition_args deepCopy() {
+      return new get_partition_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_name = null;
-      setDeleteDataIsSet(false);
-      this.deleteData = false;
+      this.part_vals = null;
     }
 
     public String getDb_name() {
@@ -24999,49 +27084,42 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public String getPart_name() {
-      return this.part_name;
-    }
-
-    public void setPart_name(String part_name) {
-      this.part_name = part_name;
-    }
-
-    public void unsetPart_name() {
-      this.part_name = null;
+    public int getPart_valsSize() {
+      return (this.part_vals == null) ? 0 : this.part_vals.size();
     }
 
-    /** Returns true if field part_name is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_name() {
-      return this.part_name != null;
+    public java.util.Iterator<String> getPart_valsIterator() {
+      return (this.part_vals == null) ? null : this.part_vals.iterator();
     }
 
-    public void setPart_nameIsSet(boolean value) {
-      if (!value) {
-        this.part_name = null;
+    public void addToPart_vals(String elem) {
+      if (this.part_vals == null) {
+        this.part_vals = new ArrayList<String>();
       }
+      this.part_vals.add(elem);
     }
 
-    public boolean isDeleteData() {
-      return this.deleteData;
+    public List<String> getPart_vals() {
+      return this.part_vals;
     }
 
-    public void setDeleteData(boolean deleteData) {
-      this.deleteData = deleteData;
-      setDeleteDataIsSet(true);
+    public void setPart_vals(List<String> part_vals) {
+      this.part_vals = part_vals;
     }
 
-    public void unsetDeleteData() {
-      __isset_bit_vector.clear(__DELETEDATA_ISSET_ID);
+    public void unsetPart_vals() {
+      this.part_vals = null;
     }
 
-    /** Returns true if field deleteData is set (has been asigned a value) and false otherwise */
-    public boolean isSetDeleteData() {
-      return __isset_bit_vector.get(__DELETEDATA_ISSET_ID);
+    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_vals() {
+      return this.part_vals != null;
     }
 
-    public void setDeleteDataIsSet(boolean value) {
-      __isset_bit_vector.set(__DELETEDATA_ISSET_ID, value);
+    public void setPart_valsIsSet(boolean value) {
+      if (!value) {
+        this.part_vals = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -25062,19 +27140,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_NAME:
-        if (value == null) {
-          unsetPart_name();
-        } else {
-          setPart_name((String)value);
-        }
-        break;
-
-      case DELETE_DATA:
+      case PART_VALS:
         if (value == null) {
-          unsetDeleteData();
+          unsetPart_vals();
         } else {
-          setDeleteData((Boolean)value);
+          setPart_vals((List<String>)value);
         }
         break;
 
@@ -25089,11 +27159,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_NAME:
-        return getPart_name();
-
-      case DELETE_DATA:
-        return new Boolean(isDeleteData());
+      case PART_VALS:
+        return getPart_vals();
 
       }
       throw new IllegalStateException();
@@ -25110,10 +27177,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_NAME:
-        return isSetPart_name();
-      case DELETE_DATA:
-        return isSetDeleteData();
+      case PART_VALS:
+        return isSetPart_vals();
       }
       throw new IllegalStateException();
     }
@@ -25122,12 +27187,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof drop_partition_by_name_args)
-        return this.equals((drop_partition_by_name_args)that);
+      if (that instanceof get_partition_args)
+        return this.equals((get_partition_args)that);
       return false;
     }
 
-    public boolean equals(drop_partition_by_name_args that) {
+    public boolean equals(get_partition_args that) {
       if (that == null)
         return false;
 
@@ -25149,21 +27214,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_name = true && this.isSetPart_name();
-      boolean that_present_part_name = true && that.isSetPart_name();
-      if (this_present_part_name || that_present_part_name) {
-        if (!(this_present_part_name && that_present_part_name))
-          return false;
-        if (!this.part_name.equals(that.part_name))
-          return false;
-      }
-
-      boolean this_present_deleteData = true;
-      boolean that_present_deleteData = true;
-      if (this_present_deleteData || that_present_deleteData) {
-        if (!(this_present_deleteData && that_present_deleteData))
+      boolean this_present_part_vals = true && this.isSetPart_vals();
+      boolean that_present_part_vals = true && that.isSetPart_vals();
+      if (this_present_part_vals || that_present_part_vals) {
+        if (!(this_present_part_vals && that_present_part_vals))
           return false;
-        if (this.deleteData != that.deleteData)
+        if (!this.part_vals.equals(that.part_vals))
           return false;
       }
 
@@ -25175,13 +27231,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(drop_partition_by_name_args other) {
+    public int compareTo(get_partition_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      drop_partition_by_name_args typedOther = (drop_partition_by_name_args)other;
+      get_partition_args typedOther = (get_partition_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -25203,22 +27259,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_name()).compareTo(typedOther.isSetPart_name());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPart_name()) {
-        lastComparison = TBaseHelper.compareTo(this.part_name, typedOther.part_name);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetDeleteData()).compareTo(typedOther.isSetDeleteData());
+      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDeleteData()) {
-        lastComparison = TBaseHelper.compareTo(this.deleteData, typedOther.deleteData);
+      if (isSetPart_vals()) {
+        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -25254,17 +27300,19 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_NAME
-            if (field.type == TType.STRING) {
-              this.part_name = iprot.readString();
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 4: // DELETE_DATA
-            if (field.type == TType.BOOL) {
-              this.deleteData = iprot.readBool();
-              setDeleteDataIsSet(true);
+          case 3: // PART_VALS
+            if (field.type == TType.LIST) {
+              {
+                TList _list135 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list135.size);
+                for (int _i136 = 0; _i136 < _list135.size; ++_i136)
+                {
+                  String _elem137;
+                  _elem137 = iprot.readString();
+                  this.part_vals.add(_elem137);
+                }
+                iprot.readListEnd();
+              }
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -25292,21 +27340,25 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_name != null) {
-        oprot.writeFieldBegin(PART_NAME_FIELD_DESC);
-        oprot.writeString(this.part_name);
+      if (this.part_vals != null) {
+        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
+          for (String _iter138 : this.part_vals)
+          {
+            oprot.writeString(_iter138);
+          }
+          oprot.writeListEnd();
+        }
         oprot.writeFieldEnd();
       }
-      oprot.writeFieldBegin(DELETE_DATA_FIELD_DESC);
-      oprot.writeBool(this.deleteData);
-      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("drop_partition_by_name_args(");
+      StringBuilder sb = new StringBuilder("get_partition_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -25325,17 +27377,13 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_name:");
-      if (this.part_name == null) {
+      sb.append("part_vals:");
+      if (this.part_vals == null) {
         sb.append("null");
       } else {
-        sb.append(this.part_name);
+        sb.append(this.part_vals);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("deleteData:");
-      sb.append(this.deleteData);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -25346,16 +27394,16 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class drop_partition_by_name_result implements TBase<drop_partition_by_name_result, drop_partition_by_name_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("drop_partition_by_name_result");
+  public static class get_partition_result implements TBase<get_partition_result, get_partition_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_result");
 
-    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.BOOL, (short)0);
+    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
     private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
 
-    private boolean success;
-    private NoSuchObjectException o1;
-    private MetaException o2;
+    private Partition success;
+    private MetaException o1;
+    private NoSuchObjectException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
@@ -25422,33 +27470,30 @@ public class ThriftHiveMetastore {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
 
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.BOOL)));
+          new StructMetaData(TType.STRUCT, Partition.class)));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(drop_partition_by_name_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_result.class, metaDataMap);
     }
 
-    public drop_partition_by_name_result() {
+    public get_partition_result() {
     }
 
-    public drop_partition_by_name_result(
-      boolean success,
-      NoSuchObjectException o1,
-      MetaException o2)
+    public get_partition_result(
+      Partition success,
+      MetaException o1,
+      NoSuchObjectException o2)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.o1 = o1;
       this.o2 = o2;
     }
@@ -25456,57 +27501,57 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public drop_partition_by_name_result(drop_partition_by_name_result other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
-      this.success = other.success;
+    public get_partition_result(get_partition_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Partition(other.success);
+      }
       if (other.isSetO1()) {
-        this.o1 = new NoSuchObjectException(other.o1);
+        this.o1 = new MetaException(other.o1);
       }
       if (other.isSetO2()) {
-        this.o2 = new MetaException(other.o2);
+        this.o2 = new NoSuchObjectException(other.o2);
       }
     }
 
-    public drop_partition_by_name_result deepCopy() {
-      return new drop_partition_by_name_result(this);
+    public get_partition_result deepCopy() {
+      return new get_partition_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
       this.o1 = null;
       this.o2 = null;
     }
 
-    public boolean isSuccess() {
+    public Partition getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(boolean success) {
+    public void setSuccess(Partition success) {
       this.success = success;
-      setSuccessIsSet(true);
     }
 
     public void unsetSuccess() {
-      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
-    public NoSuchObjectException getO1() {
+    public MetaException getO1() {
       return this.o1;
     }
 
-    public void setO1(NoSuchObjectException o1) {
+    public void setO1(MetaException o1) {
       this.o1 = o1;
     }
 
@@ -25525,11 +27570,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public MetaException getO2() {
+    public NoSuchObjectException getO2() {
       return this.o2;
     }
 
-    public void setO2(MetaException o2) {
+    public void setO2(NoSuchObjectException o2) {
       this.o2 = o2;
     }
 
@@ -25554,7 +27599,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((Partition)value);
         }
         break;
 
@@ -25562,7 +27607,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO1();
         } else {
-          setO1((NoSuchObjectException)value);
+          setO1((MetaException)value);
         }
         break;
 
@@ -25570,7 +27615,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO2();
         } else {
-          setO2((MetaException)value);
+          setO2((NoSuchObjectException)value);
         }
         break;
 
@@ -25580,7 +27625,7 @@ public class ThriftHiveMetastore {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return new Boolean(isSuccess());
+        return getSuccess();
 
       case O1:
         return getO1();
@@ -25613,21 +27658,21 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof drop_partition_by_name_result)
-        return this.equals((drop_partition_by_name_result)that);
+      if (that instanceof get_partition_result)
+        return this.equals((get_partition_result)that);
       return false;
     }
 
-    public boolean equals(drop_partition_by_name_result that) {
+    public boolean equals(get_partition_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -25657,13 +27702,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(drop_partition_by_name_result other) {
+    public int compareTo(get_partition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      drop_partition_by_name_result typedOther = (drop_partition_by_name_result)other;
+      get_partition_result typedOther = (get_partition_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -25713,16 +27758,16 @@ public class ThriftHiveMetastore {
         }
         switch (field.id) {
           case 0: // SUCCESS
-            if (field.type == TType.BOOL) {
-              this.success = iprot.readBool();
-              setSuccessIsSet(true);
+            if (field.type == TType.STRUCT) {
+              this.success = new Partition();
+              this.success.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
           case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o1 = new NoSuchObjectException();
+              this.o1 = new MetaException();
               this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -25730,7 +27775,7 @@ public class ThriftHiveMetastore {
             break;
           case 2: // O2
             if (field.type == TType.STRUCT) {
-              this.o2 = new MetaException();
+              this.o2 = new NoSuchObjectException();
               this.o2.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -25750,7 +27795,7 @@ public class ThriftHiveMetastore {
 
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        oprot.writeBool(this.success);
+        this.success.write(oprot);
         oprot.writeFieldEnd();
       } else if (this.isSetO1()) {
         oprot.writeFieldBegin(O1_FIELD_DESC);
@@ -25767,11 +27812,15 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("drop_partition_by_name_result(");
+      StringBuilder sb = new StringBuilder("get_partition_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("o1:");
@@ -25799,22 +27848,28 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_args implements TBase<get_partition_args, get_partition_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_args");
+  public static class get_partition_with_auth_args implements TBase<get_partition_with_auth_args, get_partition_with_auth_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_with_auth_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
     private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+    private static final TField USER_NAME_FIELD_DESC = new TField("user_name", TType.STRING, (short)4);
+    private static final TField GROUP_NAMES_FIELD_DESC = new TField("group_names", TType.LIST, (short)5);
 
     private String db_name;
     private String tbl_name;
     private List<String> part_vals;
+    private String user_name;
+    private List<String> group_names;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_VALS((short)3, "part_vals");
+      PART_VALS((short)3, "part_vals"),
+      USER_NAME((short)4, "user_name"),
+      GROUP_NAMES((short)5, "group_names");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -25835,6 +27890,10 @@ public class ThriftHiveMetastore {
             return TBL_NAME;
           case 3: // PART_VALS
             return PART_VALS;
+          case 4: // USER_NAME
+            return USER_NAME;
+          case 5: // GROUP_NAMES
+            return GROUP_NAMES;
           default:
             return null;
         }
@@ -25886,28 +27945,37 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
           new ListMetaData(TType.LIST, 
               new FieldValueMetaData(TType.STRING))));
+      tmpMap.put(_Fields.USER_NAME, new FieldMetaData("user_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.GROUP_NAMES, new FieldMetaData("group_names", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_with_auth_args.class, metaDataMap);
     }
 
-    public get_partition_args() {
+    public get_partition_with_auth_args() {
     }
 
-    public get_partition_args(
+    public get_partition_with_auth_args(
       String db_name,
       String tbl_name,
-      List<String> part_vals)
+      List<String> part_vals,
+      String user_name,
+      List<String> group_names)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
       this.part_vals = part_vals;
+      this.user_name = user_name;
+      this.group_names = group_names;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_args(get_partition_args other) {
+    public get_partition_with_auth_args(get_partition_with_auth_args other) {
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
@@ -25921,10 +27989,20 @@ public class ThriftHiveMetastore {
         }
         this.part_vals = __this__part_vals;
       }
+      if (other.isSetUser_name()) {
+        this.user_name = other.user_name;
+      }
+      if (other.isSetGroup_names()) {
+        List<String> __this__group_names = new ArrayList<String>();
+        for (String other_element : other.group_names) {
+          __this__group_names.add(other_element);
+        }
+        this.group_names = __this__group_names;
+      }
     }
 
-    public get_partition_args deepCopy() {
-      return new get_partition_args(this);
+    public get_partition_with_auth_args deepCopy() {
+      return new get_partition_with_auth_args(this);
     }
 
     @Override
@@ -25932,6 +28010,8 @@ public class ThriftHiveMetastore {
       this.db_name = null;
       this.tbl_name = null;
       this.part_vals = null;
+      this.user_name = null;
+      this.group_names = null;
     }
 
     public String getDb_name() {
@@ -26018,6 +28098,67 @@ public class ThriftHiveMetastore {
       }
     }
 
+    public String getUser_name() {
+      return this.user_name;
+    }
+
+    public void setUser_name(String user_name) {
+      this.user_name = user_name;
+    }
+
+    public void unsetUser_name() {
+      this.user_name = null;
+    }
+
+    /** Returns true if field user_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetUser_name() {
+      return this.user_name != null;
+    }
+
+    public void setUser_nameIsSet(boolean value) {
+      if (!value) {
+        this.user_name = null;
+      }
+    }
+
+    public int getGroup_namesSize() {
+      return (this.group_names == null) ? 0 : this.group_names.size();
+    }
+
+    public java.util.Iterator<String> getGroup_namesIterator() {
+      return (this.group_names == null) ? null : this.group_names.iterator();
+    }
+
+    public void addToGroup_names(String elem) {
+      if (this.group_names == null) {
+        this.group_names = new ArrayList<String>();
+      }
+      this.group_names.add(elem);
+    }
+
+    public List<String> getGroup_names() {
+      return this.group_names;
+    }
+
+    public void setGroup_names(List<String> group_names) {
+      this.group_names = group_names;
+    }
+
+    public void unsetGroup_names() {
+      this.group_names = null;
+    }
+
+    /** Returns true if field group_names is set (has been asigned a value) and false otherwise */
+    public boolean isSetGroup_names() {
+      return this.group_names != null;
+    }
+
+    public void setGroup_namesIsSet(boolean value) {
+      if (!value) {
+        this.group_names = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -26044,6 +28185,22 @@ public class ThriftHiveMetastore {
         }
         break;
 
+      case USER_NAME:
+        if (value == null) {
+          unsetUser_name();
+        } else {
+          setUser_name((String)value);
+        }
+        break;
+
+      case GROUP_NAMES:
+        if (value == null) {
+          unsetGroup_names();
+        } else {
+          setGroup_names((List<String>)value);
+        }
+        break;
+
       }
     }
 
@@ -26058,6 +28215,12 @@ public class ThriftHiveMetastore {
       case PART_VALS:
         return getPart_vals();
 
+      case USER_NAME:
+        return getUser_name();
+
+      case GROUP_NAMES:
+        return getGroup_names();
+
       }
       throw new IllegalStateException();
     }
@@ -26075,6 +28238,10 @@ public class ThriftHiveMetastore {
         return isSetTbl_name();
       case PART_VALS:
         return isSetPart_vals();
+      case USER_NAME:
+        return isSetUser_name();
+      case GROUP_NAMES:
+        return isSetGroup_names();
       }
       throw new IllegalStateException();
     }
@@ -26083,12 +28250,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_args)
-        return this.equals((get_partition_args)that);
+      if (that instanceof get_partition_with_auth_args)
+        return this.equals((get_partition_with_auth_args)that);
       return false;
     }
 
-    public boolean equals(get_partition_args that) {
+    public boolean equals(get_partition_with_auth_args that) {
       if (that == null)
         return false;
 
@@ -26119,6 +28286,24 @@ public class ThriftHiveMetastore {
           return false;
       }
 
+      boolean this_present_user_name = true && this.isSetUser_name();
+      boolean that_present_user_name = true && that.isSetUser_name();
+      if (this_present_user_name || that_present_user_name) {
+        if (!(this_present_user_name && that_present_user_name))
+          return false;
+        if (!this.user_name.equals(that.user_name))
+          return false;
+      }
+
+      boolean this_present_group_names = true && this.isSetGroup_names();
+      boolean that_present_group_names = true && that.isSetGroup_names();
+      if (this_present_group_names || that_present_group_names) {
+        if (!(this_present_group_names && that_present_group_names))
+          return false;
+        if (!this.group_names.equals(that.group_names))
+          return false;
+      }
+
       return true;
     }
 
@@ -26127,13 +28312,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_args other) {
+    public int compareTo(get_partition_with_auth_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_args typedOther = (get_partition_args)other;
+      get_partition_with_auth_args typedOther = (get_partition_with_auth_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -26165,6 +28350,26 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetUser_name()).compareTo(typedOther.isSetUser_name());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser_name()) {
+        lastComparison = TBaseHelper.compareTo(this.user_name, typedOther.user_name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetGroup_names()).compareTo(typedOther.isSetGroup_names());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGroup_names()) {
+        lastComparison = TBaseHelper.compareTo(this.group_names, typedOther.group_names);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -26199,13 +28404,37 @@ public class ThriftHiveMetastore {
           case 3: // PART_VALS
             if (field.type == TType.LIST) {
               {
-                TList _list135 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list135.size);
-                for (int _i136 = 0; _i136 < _list135.size; ++_i136)
+                TList _list139 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list139.size);
+                for (int _i140 = 0; _i140 < _list139.size; ++_i140)
                 {
-                  String _elem137;
-                  _elem137 = iprot.readString();
-                  this.part_vals.add(_elem137);
+                  String _elem141;
+                  _elem141 = iprot.readString();
+                  this.part_vals.add(_elem141);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 4: // USER_NAME
+            if (field.type == TType.STRING) {
+              this.user_name = iprot.readString();
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 5: // GROUP_NAMES
+            if (field.type == TType.LIST) {
+              {
+                TList _list142 = iprot.readListBegin();
+                this.group_names = new ArrayList<String>(_list142.size);
+                for (int _i143 = 0; _i143 < _list142.size; ++_i143)
+                {
+                  String _elem144;
+                  _elem144 = iprot.readString();
+                  this.group_names.add(_elem144);
                 }
                 iprot.readListEnd();
               }
@@ -26240,9 +28469,26 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
         {
           oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter138 : this.part_vals)
+          for (String _iter145 : this.part_vals)
           {
-            oprot.writeString(_iter138);
+            oprot.writeString(_iter145);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      if (this.user_name != null) {
+        oprot.writeFieldBegin(USER_NAME_FIELD_DESC);
+        oprot.writeString(this.user_name);
+        oprot.writeFieldEnd();
+      }
+      if (this.group_names != null) {
+        oprot.writeFieldBegin(GROUP_NAMES_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.group_names.size()));
+          for (String _iter146 : this.group_names)
+          {
+            oprot.writeString(_iter146);
           }
           oprot.writeListEnd();
         }
@@ -26254,7 +28500,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_args(");
+      StringBuilder sb = new StringBuilder("get_partition_with_auth_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -26280,6 +28526,22 @@ public class ThriftHiveMetastore {
         sb.append(this.part_vals);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("user_name:");
+      if (this.user_name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user_name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("group_names:");
+      if (this.group_names == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.group_names);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -26290,8 +28552,8 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_result implements TBase<get_partition_result, get_partition_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_result");
+  public static class get_partition_with_auth_result implements TBase<get_partition_with_auth_result, get_partition_with_auth_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_with_auth_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
@@ -26377,13 +28639,13 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_with_auth_result.class, metaDataMap);
     }
 
-    public get_partition_result() {
+    public get_partition_with_auth_result() {
     }
 
-    public get_partition_result(
+    public get_partition_with_auth_result(
       Partition success,
       MetaException o1,
       NoSuchObjectException o2)
@@ -26397,7 +28659,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_result(get_partition_result other) {
+    public get_partition_with_auth_result(get_partition_with_auth_result other) {
       if (other.isSetSuccess()) {
         this.success = new Partition(other.success);
       }
@@ -26409,8 +28671,8 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public get_partition_result deepCopy() {
-      return new get_partition_result(this);
+    public get_partition_with_auth_result deepCopy() {
+      return new get_partition_with_auth_result(this);
     }
 
     @Override
@@ -26554,12 +28816,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_result)
-        return this.equals((get_partition_result)that);
+      if (that instanceof get_partition_with_auth_result)
+        return this.equals((get_partition_with_auth_result)that);
       return false;
     }
 
-    public boolean equals(get_partition_result that) {
+    public boolean equals(get_partition_with_auth_result that) {
       if (that == null)
         return false;
 
@@ -26598,13 +28860,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_result other) {
+    public int compareTo(get_partition_with_auth_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_result typedOther = (get_partition_result)other;
+      get_partition_with_auth_result typedOther = (get_partition_with_auth_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -26708,7 +28970,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_result(");
+      StringBuilder sb = new StringBuilder("get_partition_with_auth_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -26744,28 +29006,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_with_auth_args implements TBase<get_partition_with_auth_args, get_partition_with_auth_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_with_auth_args");
+  public static class get_partition_by_name_args implements TBase<get_partition_by_name_args, get_partition_by_name_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_by_name_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
-    private static final TField USER_NAME_FIELD_DESC = new TField("user_name", TType.STRING, (short)4);
-    private static final TField GROUP_NAMES_FIELD_DESC = new TField("group_names", TType.LIST, (short)5);
+    private static final TField PART_NAME_FIELD_DESC = new TField("part_name", TType.STRING, (short)3);
 
     private String db_name;
     private String tbl_name;
-    private List<String> part_vals;
-    private String user_name;
-    private List<String> group_names;
+    private String part_name;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_VALS((short)3, "part_vals"),
-      USER_NAME((short)4, "user_name"),
-      GROUP_NAMES((short)5, "group_names");
+      PART_NAME((short)3, "part_name");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -26784,12 +29040,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_VALS
-            return PART_VALS;
-          case 4: // USER_NAME
-            return USER_NAME;
-          case 5: // GROUP_NAMES
-            return GROUP_NAMES;
+          case 3: // PART_NAME
+            return PART_NAME;
           default:
             return null;
         }
@@ -26838,76 +29090,50 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
-      tmpMap.put(_Fields.USER_NAME, new FieldMetaData("user_name", TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PART_NAME, new FieldMetaData("part_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.GROUP_NAMES, new FieldMetaData("group_names", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_with_auth_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_by_name_args.class, metaDataMap);
     }
 
-    public get_partition_with_auth_args() {
+    public get_partition_by_name_args() {
     }
 
-    public get_partition_with_auth_args(
+    public get_partition_by_name_args(
       String db_name,
       String tbl_name,
-      List<String> part_vals,
-      String user_name,
-      List<String> group_names)
+      String part_name)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_vals = part_vals;
-      this.user_name = user_name;
-      this.group_names = group_names;
+      this.part_name = part_name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_with_auth_args(get_partition_with_auth_args other) {
+    public get_partition_by_name_args(get_partition_by_name_args other) {
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_vals()) {
-        List<String> __this__part_vals = new ArrayList<String>();
-        for (String other_element : other.part_vals) {
-          __this__part_vals.add(other_element);
-        }
-        this.part_vals = __this__part_vals;
-      }
-      if (other.isSetUser_name()) {
-        this.user_name = other.user_name;
-      }
-      if (other.isSetGroup_names()) {
-        List<String> __this__group_names = new ArrayList<String>();
-        for (String other_element : other.group_names) {
-          __this__group_names.add(other_element);
-        }
-        this.group_names = __this__group_names;
+      if (other.isSetPart_name()) {
+        this.part_name = other.part_name;
       }
     }
 
-    public get_partition_with_auth_args deepCopy() {
-      return new get_partition_with_auth_args(this);
+    public get_partition_by_name_args deepCopy() {
+      return new get_partition_by_name_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_vals = null;
-      this.user_name = null;
-      this.group_names = null;
+      this.part_name = null;
     }
 
     public String getDb_name() {
@@ -26956,102 +29182,26 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public int getPart_valsSize() {
-      return (this.part_vals == null) ? 0 : this.part_vals.size();
-    }
-
-    public java.util.Iterator<String> getPart_valsIterator() {
-      return (this.part_vals == null) ? null : this.part_vals.iterator();
-    }
-
-    public void addToPart_vals(String elem) {
-      if (this.part_vals == null) {
-        this.part_vals = new ArrayList<String>();
-      }
-      this.part_vals.add(elem);
-    }
-
-    public List<String> getPart_vals() {
-      return this.part_vals;
-    }
-
-    public void setPart_vals(List<String> part_vals) {
-      this.part_vals = part_vals;
-    }
-
-    public void unsetPart_vals() {
-      this.part_vals = null;
-    }
-
-    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_vals() {
-      return this.part_vals != null;
-    }
-
-    public void setPart_valsIsSet(boolean value) {
-      if (!value) {
-        this.part_vals = null;
-      }
-    }
-
-    public String getUser_name() {
-      return this.user_name;
-    }
-
-    public void setUser_name(String user_name) {
-      this.user_name = user_name;
-    }
-
-    public void unsetUser_name() {
-      this.user_name = null;
-    }
-
-    /** Returns true if field user_name is set (has been asigned a value) and false otherwise */
-    public boolean isSetUser_name() {
-      return this.user_name != null;
-    }
-
-    public void setUser_nameIsSet(boolean value) {
-      if (!value) {
-        this.user_name = null;
-      }
-    }
-
-    public int getGroup_namesSize() {
-      return (this.group_names == null) ? 0 : this.group_names.size();
-    }
-
-    public java.util.Iterator<String> getGroup_namesIterator() {
-      return (this.group_names == null) ? null : this.group_names.iterator();
-    }
-
-    public void addToGroup_names(String elem) {
-      if (this.group_names == null) {
-        this.group_names = new ArrayList<String>();
-      }
-      this.group_names.add(elem);
-    }
-
-    public List<String> getGroup_names() {
-      return this.group_names;
+    public String getPart_name() {
+      return this.part_name;
     }
 
-    public void setGroup_names(List<String> group_names) {
-      this.group_names = group_names;
+    public void setPart_name(String part_name) {
+      this.part_name = part_name;
     }
 
-    public void unsetGroup_names() {
-      this.group_names = null;
+    public void unsetPart_name() {
+      this.part_name = null;
     }
 
-    /** Returns true if field group_names is set (has been asigned a value) and false otherwise */
-    public boolean isSetGroup_names() {
-      return this.group_names != null;
+    /** Returns true if field part_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_name() {
+      return this.part_name != null;
     }
 
-    public void setGroup_namesIsSet(boolean value) {
+    public void setPart_nameIsSet(boolean value) {
       if (!value) {
-        this.group_names = null;
+        this.part_name = null;
       }
     }
 
@@ -27073,27 +29223,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_VALS:
-        if (value == null) {
-          unsetPart_vals();
-        } else {
-          setPart_vals((List<String>)value);
-        }
-        break;
-
-      case USER_NAME:
-        if (value == null) {
-          unsetUser_name();
-        } else {
-          setUser_name((String)value);
-        }
-        break;
-
-      case GROUP_NAMES:
+      case PART_NAME:
         if (value == null) {
-          unsetGroup_names();
+          unsetPart_name();
         } else {
-          setGroup_names((List<String>)value);
+          setPart_name((String)value);
         }
         break;
 
@@ -27108,14 +29242,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_VALS:
-        return getPart_vals();
-
-      case USER_NAME:
-        return getUser_name();
-
-      case GROUP_NAMES:
-        return getGroup_names();
+      case PART_NAME:
+        return getPart_name();
 
       }
       throw new IllegalStateException();
@@ -27132,12 +29260,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_VALS:
-        return isSetPart_vals();
-      case USER_NAME:
-        return isSetUser_name();
-      case GROUP_NAMES:
-        return isSetGroup_names();
+      case PART_NAME:
+        return isSetPart_name();
       }
       throw new IllegalStateException();
     }
@@ -27146,12 +29270,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_with_auth_args)
-        return this.equals((get_partition_with_auth_args)that);
+      if (that instanceof get_partition_by_name_args)
+        return this.equals((get_partition_by_name_args)that);
       return false;
     }
 
-    public boolean equals(get_partition_with_auth_args that) {
+    public boolean equals(get_partition_by_name_args that) {
       if (that == null)
         return false;
 
@@ -27173,30 +29297,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_vals = true && this.isSetPart_vals();
-      boolean that_present_part_vals = true && that.isSetPart_vals();
-      if (this_present_part_vals || that_present_part_vals) {
-        if (!(this_present_part_vals && that_present_part_vals))
-          return false;
-        if (!this.part_vals.equals(that.part_vals))
-          return false;
-      }
-
-      boolean this_present_user_name = true && this.isSetUser_name();
-      boolean that_present_user_name = true && that.isSetUser_name();
-      if (this_present_user_name || that_present_user_name) {
-        if (!(this_present_user_name && that_present_user_name))
-          return false;
-        if (!this.user_name.equals(that.user_name))
-          return false;
-      }
-
-      boolean this_present_group_names = true && this.isSetGroup_names();
-      boolean that_present_group_names = true && that.isSetGroup_names();
-      if (this_present_group_names || that_present_group_names) {
-        if (!(this_present_group_names && that_present_group_names))
+      boolean this_present_part_name = true && this.isSetPart_name();
+      boolean that_present_part_name = true && that.isSetPart_name();
+      if (this_present_part_name || that_present_part_name) {
+        if (!(this_present_part_name && that_present_part_name))
           return false;
-        if (!this.group_names.equals(that.group_names))
+        if (!this.part_name.equals(that.part_name))
           return false;
       }
 
@@ -27208,13 +29314,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_with_auth_args other) {
+    public int compareTo(get_partition_by_name_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_with_auth_args typedOther = (get_partition_with_auth_args)other;
+      get_partition_by_name_args typedOther = (get_partition_by_name_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -27236,32 +29342,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPart_vals()) {
-        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetUser_name()).compareTo(typedOther.isSetUser_name());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUser_name()) {
-        lastComparison = TBaseHelper.compareTo(this.user_name, typedOther.user_name);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetGroup_names()).compareTo(typedOther.isSetGroup_names());
+      lastComparison = Boolean.valueOf(isSetPart_name()).compareTo(typedOther.isSetPart_name());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetGroup_names()) {
-        lastComparison = TBaseHelper.compareTo(this.group_names, typedOther.group_names);
+      if (isSetPart_name()) {
+        lastComparison = TBaseHelper.compareTo(this.part_name, typedOther.part_name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -27297,43 +29383,9 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_VALS
-            if (field.type == TType.LIST) {
-              {
-                TList _list139 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list139.size);
-                for (int _i140 = 0; _i140 < _list139.size; ++_i140)
-                {
-                  String _elem141;
-                  _elem141 = iprot.readString();
-                  this.part_vals.add(_elem141);
-                }
-                iprot.readListEnd();
-              }
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 4: // USER_NAME
+          case 3: // PART_NAME
             if (field.type == TType.STRING) {
-              this.user_name = iprot.readString();
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 5: // GROUP_NAMES
-            if (field.type == TType.LIST) {
-              {
-                TList _list142 = iprot.readListBegin();
-                this.group_names = new ArrayList<String>(_list142.size);
-                for (int _i143 = 0; _i143 < _list142.size; ++_i143)
-                {
-                  String _elem144;
-                  _elem144 = iprot.readString();
-                  this.group_names.add(_elem144);
-                }
-                iprot.readListEnd();
-              }
+              this.part_name = iprot.readString();
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -27361,33 +29413,9 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_vals != null) {
-        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter145 : this.part_vals)
-          {
-            oprot.writeString(_iter145);
-          }
-          oprot.writeListEnd();
-        }
-        oprot.writeFieldEnd();
-      }
-      if (this.user_name != null) {
-        oprot.writeFieldBegin(USER_NAME_FIELD_DESC);
-        oprot.writeString(this.user_name);
-        oprot.writeFieldEnd();
-      }
-      if (this.group_names != null) {
-        oprot.writeFieldBegin(GROUP_NAMES_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.group_names.size()));
-          for (String _iter146 : this.group_names)
-          {
-            oprot.writeString(_iter146);
-          }
-          oprot.writeListEnd();
-        }
+      if (this.part_name != null) {
+        oprot.writeFieldBegin(PART_NAME_FIELD_DESC);
+        oprot.writeString(this.part_name);
         oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
@@ -27396,7 +29424,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_with_auth_args(");
+      StringBuilder sb = new StringBuilder("get_partition_by_name_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -27415,27 +29443,11 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_vals:");
-      if (this.part_vals == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.part_vals);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("user_name:");
-      if (this.user_name == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.user_name);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("group_names:");
-      if (this.group_names == null) {
+      sb.append("part_name:");
+      if (this.part_name == null) {
         sb.append("null");
       } else {
-        sb.append(this.group_names);
+        sb.append(this.part_name);
       }
       first = false;
       sb.append(")");
@@ -27448,8 +29460,8 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_with_auth_result implements TBase<get_partition_with_auth_result, get_partition_with_auth_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_with_auth_result");
+  public static class get_partition_by_name_result implements TBase<get_partition_by_name_result, get_partition_by_name_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_by_name_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
@@ -27535,13 +29547,13 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_with_auth_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_by_name_result.class, metaDataMap);
     }
 
-    public get_partition_with_auth_result() {
+    public get_partition_by_name_result() {
     }
 
-    public get_partition_with_auth_result(
+    public get_partition_by_name_result(
       Partition success,
       MetaException o1,
       NoSuchObjectException o2)
@@ -27555,7 +29567,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_with_auth_result(get_partition_with_auth_result other) {
+    public get_partition_by_name_result(get_partition_by_name_result other) {
       if (other.isSetSuccess()) {
         this.success = new Partition(other.success);
       }
@@ -27567,8 +29579,8 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public get_partition_with_auth_result deepCopy() {
-      return new get_partition_with_auth_result(this);
+    public get_partition_by_name_result deepCopy() {
+      return new get_partition_by_name_result(this);
     }
 
     @Override
@@ -27712,12 +29724,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_with_auth_result)
-        return this.equals((get_partition_with_auth_result)that);
+      if (that instanceof get_partition_by_name_result)
+        return this.equals((get_partition_by_name_result)that);
       return false;
     }
 
-    public boolean equals(get_partition_with_auth_result that) {
+    public boolean equals(get_partition_by_name_result that) {
       if (that == null)
         return false;
 
@@ -27756,13 +29768,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_with_auth_result other) {
+    public int compareTo(get_partition_by_name_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_with_auth_result typedOther = (get_partition_with_auth_result)other;
+      get_partition_by_name_result typedOther = (get_partition_by_name_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -27866,7 +29878,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_with_auth_result(");
+      StringBuilder sb = new StringBuilder("get_partition_by_name_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -27902,22 +29914,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_by_name_args implements TBase<get_partition_by_name_args, get_partition_by_name_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_by_name_args");
+  public static class get_partitions_args implements TBase<get_partitions_args, get_partitions_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_NAME_FIELD_DESC = new TField("part_name", TType.STRING, (short)3);
+    private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)3);
 
     private String db_name;
     private String tbl_name;
-    private String part_name;
+    private short max_parts;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_NAME((short)3, "part_name");
+      MAX_PARTS((short)3, "max_parts");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -27936,8 +29948,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_NAME
-            return PART_NAME;
+          case 3: // MAX_PARTS
+            return MAX_PARTS;
           default:
             return null;
         }
@@ -27978,6 +29990,8 @@ public class ThriftHiveMetastore {
     }
 
     // isset id assignments
+    private static final int __MAX_PARTS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
 
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
@@ -27986,50 +30000,54 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_NAME, new FieldMetaData("part_name", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.I16)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_by_name_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_args.class, metaDataMap);
     }
 
-    public get_partition_by_name_args() {
+    public get_partitions_args() {
+      this.max_parts = (short)-1;
+
     }
 
-    public get_partition_by_name_args(
+    public get_partitions_args(
       String db_name,
       String tbl_name,
-      String part_name)
+      short max_parts)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_name = part_name;
+      this.max_parts = max_parts;
+      setMax_partsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_by_name_args(get_partition_by_name_args other) {
+    public get_partitions_args(get_partitions_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_name()) {
-        this.part_name = other.part_name;
-      }
+      this.max_parts = other.max_parts;
     }
 
-    public get_partition_by_name_args deepCopy() {
-      return new get_partition_by_name_args(this);
+    public get_partitions_args deepCopy() {
+      return new get_partitions_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_name = null;
+      this.max_parts = (short)-1;
+
     }
 
     public String getDb_name() {
@@ -28078,27 +30096,26 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public String getPart_name() {
-      return this.part_name;
+    public short getMax_parts() {
+      return this.max_parts;
     }
 
-    public void setPart_name(String part_name) {
-      this.part_name = part_name;
+    public void setMax_parts(short max_parts) {
+      this.max_parts = max_parts;
+      setMax_partsIsSet(true);
     }
 
-    public void unsetPart_name() {
-      this.part_name = null;
+    public void unsetMax_parts() {
+      __isset_bit_vector.clear(__MAX_PARTS_ISSET_ID);
     }
 
-    /** Returns true if field part_name is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_name() {
-      return this.part_name != null;
+    /** Returns true if field max_parts is set (has been asigned a value) and false otherwise */
+    public boolean isSetMax_parts() {
+      return __isset_bit_vector.get(__MAX_PARTS_ISSET_ID);
     }
 
-    public void setPart_nameIsSet(boolean value) {
-      if (!value) {
-        this.part_name = null;
-      }
+    public void setMax_partsIsSet(boolean value) {
+      __isset_bit_vector.set(__MAX_PARTS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -28119,11 +30136,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_NAME:
+      case MAX_PARTS:
         if (value == null) {
-          unsetPart_name();
+          unsetMax_parts();
         } else {
-          setPart_name((String)value);
+          setMax_parts((Short)value);
         }
         break;
 
@@ -28138,8 +30155,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_NAME:
-        return getPart_name();
+      case MAX_PARTS:
+        return new Short(getMax_parts());
 
       }
       throw new IllegalStateException();
@@ -28156,8 +30173,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_NAME:
-        return isSetPart_name();
+      case MAX_PARTS:
+        return isSetMax_parts();
       }
       throw new IllegalStateException();
     }
@@ -28166,12 +30183,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_by_name_args)
-        return this.equals((get_partition_by_name_args)that);
+      if (that instanceof get_partitions_args)
+        return this.equals((get_partitions_args)that);
       return false;
     }
 
-    public boolean equals(get_partition_by_name_args that) {
+    public boolean equals(get_partitions_args that) {
       if (that == null)
         return false;
 
@@ -28193,12 +30210,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_name = true && this.isSetPart_name();
-      boolean that_present_part_name = true && that.isSetPart_name();
-      if (this_present_part_name || that_present_part_name) {
-        if (!(this_present_part_name && that_present_part_name))
+      boolean this_present_max_parts = true;
+      boolean that_present_max_parts = true;
+      if (this_present_max_parts || that_present_max_parts) {
+        if (!(this_present_max_parts && that_present_max_parts))
           return false;
-        if (!this.part_name.equals(that.part_name))
+        if (this.max_parts != that.max_parts)
           return false;
       }
 
@@ -28210,13 +30227,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_by_name_args other) {
+    public int compareTo(get_partitions_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_by_name_args typedOther = (get_partition_by_name_args)other;
+      get_partitions_args typedOther = (get_partitions_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -28238,12 +30255,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_name()).compareTo(typedOther.isSetPart_name());
+      lastComparison = Boolean.valueOf(isSetMax_parts()).compareTo(typedOther.isSetMax_parts());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart_name()) {
-        lastComparison = TBaseHelper.compareTo(this.part_name, typedOther.part_name);
+      if (isSetMax_parts()) {
+        lastComparison = TBaseHelper.compareTo(this.max_parts, typedOther.max_parts);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -28279,9 +30296,10 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_NAME
-            if (field.type == TType.STRING) {
-              this.part_name = iprot.readString();
+          case 3: // MAX_PARTS
+            if (field.type == TType.I16) {
+              this.max_parts = iprot.readI16();
+              setMax_partsIsSet(true);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -28309,18 +30327,16 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_name != null) {
-        oprot.writeFieldBegin(PART_NAME_FIELD_DESC);
-        oprot.writeString(this.part_name);
-        oprot.writeFieldEnd();
-      }
+      oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
+      oprot.writeI16(this.max_parts);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_by_name_args(");
+      StringBuilder sb = new StringBuilder("get_partitions_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -28339,12 +30355,8 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_name:");
-      if (this.part_name == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.part_name);
-      }
+      sb.append("max_parts:");
+      sb.append(this.max_parts);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -28356,16 +30368,16 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_by_name_result implements TBase<get_partition_by_name_result, get_partition_by_name_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_by_name_result");
+  public static class get_partitions_result implements TBase<get_partitions_result, get_partitions_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_result");
 
-    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.STRUCT, (short)0);
+    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
     private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
 
-    private Partition success;
-    private MetaException o1;
-    private NoSuchObjectException o2;
+    private List<Partition> success;
+    private NoSuchObjectException o1;
+    private MetaException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
@@ -28437,22 +30449,23 @@ public class ThriftHiveMetastore {
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
-          new StructMetaData(TType.STRUCT, Partition.class)));
+          new ListMetaData(TType.LIST, 
+              new StructMetaData(TType.STRUCT, Partition.class))));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_by_name_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_result.class, metaDataMap);
     }
 
-    public get_partition_by_name_result() {
+    public get_partitions_result() {
     }
 
-    public get_partition_by_name_result(
-      Partition success,
-      MetaException o1,
-      NoSuchObjectException o2)
+    public get_partitions_result(
+      List<Partition> success,
+      NoSuchObjectException o1,
+      MetaException o2)
     {
       this();
       this.success = success;
@@ -28463,20 +30476,24 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_by_name_result(get_partition_by_name_result other) {
+    public get_partitions_result(get_partitions_result other) {
       if (other.isSetSuccess()) {
-        this.success = new Partition(other.success);
+        List<Partition> __this__success = new ArrayList<Partition>();
+        for (Partition other_element : other.success) {
+          __this__success.add(new Partition(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetO1()) {
-        this.o1 = new MetaException(other.o1);
+        this.o1 = new NoSuchObjectException(other.o1);
       }
       if (other.isSetO2()) {
-        this.o2 = new NoSuchObjectException(other.o2);
+        this.o2 = new MetaException(other.o2);
       }
     }
 
-    public get_partition_by_name_result deepCopy() {
-      return new get_partition_by_name_result(this);
+    public get_partitions_result deepCopy() {
+      return new get_partitions_result(this);
     }
 
     @Override
@@ -28486,11 +30503,26 @@ public class ThriftHiveMetastore {
       this.o2 = null;
     }
 
-    public Partition getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Partition> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(Partition elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Partition>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Partition> getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(Partition success) {
+    public void setSuccess(List<Partition> success) {
       this.success = success;
     }
 
@@ -28509,11 +30541,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public MetaException getO1() {
+    public NoSuchObjectException getO1() {
       return this.o1;
     }
 
-    public void setO1(MetaException o1) {
+    public void setO1(NoSuchObjectException o1) {
       this.o1 = o1;
     }
 
@@ -28532,11 +30564,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public NoSuchObjectException getO2() {
+    public MetaException getO2() {
       return this.o2;
     }
 
-    public void setO2(NoSuchObjectException o2) {
+    public void setO2(MetaException o2) {
       this.o2 = o2;
     }
 
@@ -28561,7 +30593,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Partition)value);
+          setSuccess((List<Partition>)value);
         }
         break;
 
@@ -28569,7 +30601,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO1();
         } else {
-          setO1((MetaException)value);
+          setO1((NoSuchObjectException)value);
         }
         break;
 
@@ -28577,7 +30609,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO2();
         } else {
-          setO2((NoSuchObjectException)value);
+          setO2((MetaException)value);
         }
         break;
 
@@ -28620,12 +30652,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_by_name_result)
-        return this.equals((get_partition_by_name_result)that);
+      if (that instanceof get_partitions_result)
+        return this.equals((get_partitions_result)that);
       return false;
     }
 
-    public boolean equals(get_partition_by_name_result that) {
+    public boolean equals(get_partitions_result that) {
       if (that == null)
         return false;
 
@@ -28664,13 +30696,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_by_name_result other) {
+    public int compareTo(get_partitions_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_by_name_result typedOther = (get_partition_by_name_result)other;
+      get_partitions_result typedOther = (get_partitions_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -28720,16 +30752,26 @@ public class ThriftHiveMetastore {
         }
         switch (field.id) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
-              this.success = new Partition();
-              this.success.read(iprot);
+            if (field.type == TType.LIST) {
+              {
+                TList _list147 = iprot.readListBegin();
+                this.success = new ArrayList<Partition>(_list147.size);
+                for (int _i148 = 0; _i148 < _list147.size; ++_i148)
+                {
+                  Partition _elem149;
+                  _elem149 = new Partition();
+                  _elem149.read(iprot);
+                  this.success.add(_elem149);
+                }
+                iprot.readListEnd();
+              }
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
           case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o1 = new MetaException();
+              this.o1 = new NoSuchObjectException();
               this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -28737,7 +30779,7 @@ public class ThriftHiveMetastore {
             break;
           case 2: // O2
             if (field.type == TType.STRUCT) {
-              this.o2 = new NoSuchObjectException();
+              this.o2 = new MetaException();
               this.o2.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -28757,7 +30799,14 @@ public class ThriftHiveMetastore {
 
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        this.success.write(oprot);
+        {
+          oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
+          for (Partition _iter150 : this.success)
+          {
+            _iter150.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
         oprot.writeFieldEnd();
       } else if (this.isSetO1()) {
         oprot.writeFieldBegin(O1_FIELD_DESC);
@@ -28774,7 +30823,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_by_name_result(");
+      StringBuilder sb = new StringBuilder("get_partitions_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -28810,22 +30859,28 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_args implements TBase<get_partitions_args, get_partitions_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_args");
+  public static class get_partitions_with_auth_args implements TBase<get_partitions_with_auth_args, get_partitions_with_auth_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_with_auth_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
     private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)3);
+    private static final TField USER_NAME_FIELD_DESC = new TField("user_name", TType.STRING, (short)4);
+    private static final TField GROUP_NAMES_FIELD_DESC = new TField("group_names", TType.LIST, (short)5);
 
     private String db_name;
     private String tbl_name;
     private short max_parts;
+    private String user_name;
+    private List<String> group_names;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      MAX_PARTS((short)3, "max_parts");
+      MAX_PARTS((short)3, "max_parts"),
+      USER_NAME((short)4, "user_name"),
+      GROUP_NAMES((short)5, "group_names");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -28846,6 +30901,10 @@ public class ThriftHiveMetastore {
             return TBL_NAME;
           case 3: // MAX_PARTS
             return MAX_PARTS;
+          case 4: // USER_NAME
+            return USER_NAME;
+          case 5: // GROUP_NAMES
+            return GROUP_NAMES;
           default:
             return null;
         }
@@ -28898,31 +30957,40 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.I16)));
+      tmpMap.put(_Fields.USER_NAME, new FieldMetaData("user_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.GROUP_NAMES, new FieldMetaData("group_names", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_with_auth_args.class, metaDataMap);
     }
 
-    public get_partitions_args() {
+    public get_partitions_with_auth_args() {
       this.max_parts = (short)-1;
 
     }
 
-    public get_partitions_args(
+    public get_partitions_with_auth_args(
       String db_name,
       String tbl_name,
-      short max_parts)
+      short max_parts,
+      String user_name,
+      List<String> group_names)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
       this.max_parts = max_parts;
       setMax_partsIsSet(true);
+      this.user_name = user_name;
+      this.group_names = group_names;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_args(get_partitions_args other) {
+    public get_partitions_with_auth_args(get_partitions_with_auth_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -28932,10 +31000,20 @@ public class ThriftHiveMetastore {
         this.tbl_name = other.tbl_name;
       }
       this.max_parts = other.max_parts;
+      if (other.isSetUser_name()) {
+        this.user_name = other.user_name;
+      }
+      if (other.isSetGroup_names()) {
+        List<String> __this__group_names = new ArrayList<String>();
+        for (String other_element : other.group_names) {
+          __this__group_names.add(other_element);
+        }
+        this.group_names = __this__group_names;
+      }
     }
 
-    public get_partitions_args deepCopy() {
-      return new get_partitions_args(this);
+    public get_partitions_with_auth_args deepCopy() {
+      return new get_partitions_with_auth_args(this);
     }
 
     @Override
@@ -28944,6 +31022,8 @@ public class ThriftHiveMetastore {
       this.tbl_name = null;
       this.max_parts = (short)-1;
 
+      this.user_name = null;
+      this.group_names = null;
     }
 
     public String getDb_name() {
@@ -29014,6 +31094,67 @@ public class ThriftHiveMetastore {
       __isset_bit_vector.set(__MAX_PARTS_ISSET_ID, value);
     }
 
+    public String getUser_name() {
+      return this.user_name;
+    }
+
+    public void setUser_name(String user_name) {
+      this.user_name = user_name;
+    }
+
+    public void unsetUser_name() {
+      this.user_name = null;
+    }
+
+    /** Returns true if field user_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetUser_name() {
+      return this.user_name != null;
+    }
+
+    public void setUser_nameIsSet(boolean value) {
+      if (!value) {
+        this.user_name = null;
+      }
+    }
+
+    public int getGroup_namesSize() {
+      return (this.group_names == null) ? 0 : this.group_names.size();
+    }
+
+    public java.util.Iterator<String> getGroup_namesIterator() {
+      return (this.group_names == null) ? null : this.group_names.iterator();
+    }
+
+    public void addToGroup_names(String elem) {
+      if (this.group_names == null) {
+        this.group_names = new ArrayList<String>();
+      }
+      this.group_names.add(elem);
+    }
+
+    public List<String> getGroup_names() {
+      return this.group_names;
+    }
+
+    public void setGroup_names(List<String> group_names) {
+      this.group_names = group_names;
+    }
+
+    public void unsetGroup_names() {
+      this.group_names = null;
+    }
+
+    /** Returns true if field group_names is set (has been asigned a value) and false otherwise */
+    public boolean isSetGroup_names() {
+      return this.group_names != null;
+    }
+
+    public void setGroup_namesIsSet(boolean value) {
+      if (!value) {
+        this.group_names = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -29040,6 +31181,22 @@ public class ThriftHiveMetastore {
         }
         break;
 
+      case USER_NAME:
+        if (value == null) {
+          unsetUser_name();
+        } else {
+          setUser_name((String)value);
+        }
+        break;
+
+      case GROUP_NAMES:
+        if (value == null) {
+          unsetGroup_names();
+        } else {
+          setGroup_names((List<String>)value);
+        }
+        break;
+
       }
     }
 
@@ -29054,6 +31211,12 @@ public class ThriftHiveMetastore {
       case MAX_PARTS:
         return new Short(getMax_parts());
 
+      case USER_NAME:
+        return getUser_name();
+
+      case GROUP_NAMES:
+        return getGroup_names();
+
       }
       throw new IllegalStateException();
     }
@@ -29071,6 +31234,10 @@ public class ThriftHiveMetastore {
         return isSetTbl_name();
       case MAX_PARTS:
         return isSetMax_parts();
+      case USER_NAME:
+        return isSetUser_name();
+      case GROUP_NAMES:
+        return isSetGroup_names();
       }
       throw new IllegalStateException();
     }
@@ -29079,12 +31246,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_args)
-        return this.equals((get_partitions_args)that);
+      if (that instanceof get_partitions_with_auth_args)
+        return this.equals((get_partitions_with_auth_args)that);
       return false;
     }
 
-    public boolean equals(get_partitions_args that) {
+    public boolean equals(get_partitions_with_auth_args that) {
       if (that == null)
         return false;
 
@@ -29115,6 +31282,24 @@ public class ThriftHiveMetastore {
           return false;
       }
 
+      boolean this_present_user_name = true && this.isSetUser_name();
+      boolean that_present_user_name = true && that.isSetUser_name();
+      if (this_present_user_name || that_present_user_name) {
+        if (!(this_present_user_name && that_present_user_name))
+          return false;
+        if (!this.user_name.equals(that.user_name))
+          return false;
+      }
+
+      boolean this_present_group_names = true && this.isSetGroup_names();
+      boolean that_present_group_names = true && that.isSetGroup_names();
+      if (this_present_group_names || that_present_group_names) {
+        if (!(this_present_group_names && that_present_group_names))
+          return false;
+        if (!this.group_names.equals(that.group_names))
+          return false;
+      }
+
       return true;
     }
 
@@ -29123,13 +31308,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_args other) {
+    public int compareTo(get_partitions_with_auth_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_args typedOther = (get_partitions_args)other;
+      get_partitions_with_auth_args typedOther = (get_partitions_with_auth_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -29161,6 +31346,26 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetUser_name()).compareTo(typedOther.isSetUser_name());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser_name()) {
+        lastComparison = TBaseHelper.compareTo(this.user_name, typedOther.user_name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetGroup_names()).compareTo(typedOther.isSetGroup_names());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGroup_names()) {
+        lastComparison = TBaseHelper.compareTo(this.group_names, typedOther.group_names);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -29200,6 +31405,30 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
+          case 4: // USER_NAME
+            if (field.type == TType.STRING) {
+              this.user_name = iprot.readString();
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 5: // GROUP_NAMES
+            if (field.type == TType.LIST) {
+              {
+                TList _list151 = iprot.readListBegin();
+                this.group_names = new ArrayList<String>(_list151.size);
+                for (int _i152 = 0; _i152 < _list151.size; ++_i152)
+                {
+                  String _elem153;
+                  _elem153 = iprot.readString();
+                  this.group_names.add(_elem153);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -29226,13 +31455,30 @@ public class ThriftHiveMetastore {
       oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
       oprot.writeI16(this.max_parts);
       oprot.writeFieldEnd();
+      if (this.user_name != null) {
+        oprot.writeFieldBegin(USER_NAME_FIELD_DESC);
+        oprot.writeString(this.user_name);
+        oprot.writeFieldEnd();
+      }
+      if (this.group_names != null) {
+        oprot.writeFieldBegin(GROUP_NAMES_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.group_names.size()));
+          for (String _iter154 : this.group_names)
+          {
+            oprot.writeString(_iter154);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_args(");
+      StringBuilder sb = new StringBuilder("get_partitions_with_auth_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -29254,6 +31500,22 @@ public class ThriftHiveMetastore {
       sb.append("max_parts:");
       sb.append(this.max_parts);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("user_name:");
+      if (this.user_name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user_name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("group_names:");
+      if (this.group_names == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.group_names);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -29264,8 +31526,8 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_result implements TBase<get_partitions_result, get_partitions_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_result");
+  public static class get_partitions_with_auth_result implements TBase<get_partitions_with_auth_result, get_partitions_with_auth_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_with_auth_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
@@ -29352,13 +31614,13 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_with_auth_result.class, metaDataMap);
     }
 
-    public get_partitions_result() {
+    public get_partitions_with_auth_result() {
     }
 
-    public get_partitions_result(
+    public get_partitions_with_auth_result(
       List<Partition> success,
       NoSuchObjectException o1,
       MetaException o2)
@@ -29372,7 +31634,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_result(get_partitions_result other) {
+    public get_partitions_with_auth_result(get_partitions_with_auth_result other) {
       if (other.isSetSuccess()) {
         List<Partition> __this__success = new ArrayList<Partition>();
         for (Partition other_element : other.success) {
@@ -29388,8 +31650,8 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public get_partitions_result deepCopy() {
-      return new get_partitions_result(this);
+    public get_partitions_with_auth_result deepCopy() {
+      return new get_partitions_with_auth_result(this);
     }
 
     @Override
@@ -29548,12 +31810,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_result)
-        return this.equals((get_partitions_result)that);
+      if (that instanceof get_partitions_with_auth_result)
+        return this.equals((get_partitions_with_auth_result)that);
       return false;
     }
 
-    public boolean equals(get_partitions_result that) {
+    public boolean equals(get_partitions_with_auth_result that) {
       if (that == null)
         return false;
 
@@ -29592,13 +31854,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_result other) {
+    public int compareTo(get_partitions_with_auth_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_result typedOther = (get_partitions_result)other;
+      get_partitions_with_auth_result typedOther = (get_partitions_with_auth_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -29650,14 +31912,14 @@ public class ThriftHiveMetastore {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
               {
-                TList _list147 = iprot.readListBegin();
-                this.success = new ArrayList<Partition>(_list147.size);
-                for (int _i148 = 0; _i148 < _list147.size; ++_i148)
+                TList _list155 = iprot.readListBegin();
+                this.success = new ArrayList<Partition>(_list155.size);
+                for (int _i156 = 0; _i156 < _list155.size; ++_i156)
                 {
-                  Partition _elem149;
-                  _elem149 = new Partition();
-                  _elem149.read(iprot);
-                  this.success.add(_elem149);
+                  Partition _elem157;
+                  _elem157 = new Partition();
+                  _elem157.read(iprot);
+                  this.success.add(_elem157);
                 }
                 iprot.readListEnd();
               }
@@ -29697,9 +31959,9 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
         {
           oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
-          for (Partition _iter150 : this.success)
+          for (Partition _iter158 : this.success)
           {
-            _iter150.write(oprot);
+            _iter158.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -29719,7 +31981,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_result(");
+      StringBuilder sb = new StringBuilder("get_partitions_with_auth_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -29755,28 +32017,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_with_auth_args implements TBase<get_partitions_with_auth_args, get_partitions_with_auth_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_with_auth_args");
+  public static class get_partition_names_args implements TBase<get_partition_names_args, get_partition_names_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
     private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)3);
-    private static final TField USER_NAME_FIELD_DESC = new TField("user_name", TType.STRING, (short)4);
-    private static final TField GROUP_NAMES_FIELD_DESC = new TField("group_names", TType.LIST, (short)5);
 
     private String db_name;
     private String tbl_name;
     private short max_parts;
-    private String user_name;
-    private List<String> group_names;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      MAX_PARTS((short)3, "max_parts"),
-      USER_NAME((short)4, "user_name"),
-      GROUP_NAMES((short)5, "group_names");
+      MAX_PARTS((short)3, "max_parts");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -29797,10 +32053,6 @@ public class ThriftHiveMetastore {
             return TBL_NAME;
           case 3: // MAX_PARTS
             return MAX_PARTS;
-          case 4: // USER_NAME
-            return USER_NAME;
-          case 5: // GROUP_NAMES
-            return GROUP_NAMES;
           default:
             return null;
         }
@@ -29853,40 +32105,31 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.I16)));
-      tmpMap.put(_Fields.USER_NAME, new FieldMetaData("user_name", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.GROUP_NAMES, new FieldMetaData("group_names", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_with_auth_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_names_args.class, metaDataMap);
     }
 
-    public get_partitions_with_auth_args() {
+    public get_partition_names_args() {
       this.max_parts = (short)-1;
 
     }
 
-    public get_partitions_with_auth_args(
+    public get_partition_names_args(
       String db_name,
       String tbl_name,
-      short max_parts,
-      String user_name,
-      List<String> group_names)
+      short max_parts)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
       this.max_parts = max_parts;
       setMax_partsIsSet(true);
-      this.user_name = user_name;
-      this.group_names = group_names;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_with_auth_args(get_partitions_with_auth_args other) {
+    public get_partition_names_args(get_partition_names_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -29896,20 +32139,10 @@ public class ThriftHiveMetastore {
         this.tbl_name = other.tbl_name;
       }
       this.max_parts = other.max_parts;
-      if (other.isSetUser_name()) {
-        this.user_name = other.user_name;
-      }
-      if (other.isSetGroup_names()) {
-        List<String> __this__group_names = new ArrayList<String>();
-        for (String other_element : other.group_names) {
-          __this__group_names.add(other_element);
-        }
-        this.group_names = __this__group_names;
-      }
     }
 
-    public get_partitions_with_auth_args deepCopy() {
-      return new get_partitions_with_auth_args(this);
+    public get_partition_names_args deepCopy() {
+      return new get_partition_names_args(this);
     }
 
     @Override
@@ -29918,8 +32151,6 @@ public class ThriftHiveMetastore {
       this.tbl_name = null;
       this.max_parts = (short)-1;
 
-      this.user_name = null;
-      this.group_names = null;
     }
 
     public String getDb_name() {
@@ -29990,67 +32221,6 @@ public class ThriftHiveMetastore {
       __isset_bit_vector.set(__MAX_PARTS_ISSET_ID, value);
     }
 
-    public String getUser_name() {
-      return this.user_name;
-    }
-
-    public void setUser_name(String user_name) {
-      this.user_name = user_name;
-    }
-
-    public void unsetUser_name() {
-      this.user_name = null;
-    }
-
-    /** Returns true if field user_name is set (has been asigned a value) and false otherwise */
-    public boolean isSetUser_name() {
-      return this.user_name != null;
-    }
-
-    public void setUser_nameIsSet(boolean value) {
-      if (!value) {
-        this.user_name = null;
-      }
-    }
-
-    public int getGroup_namesSize() {
-      return (this.group_names == null) ? 0 : this.group_names.size();
-    }
-
-    public java.util.Iterator<String> getGroup_namesIterator() {
-      return (this.group_names == null) ? null : this.group_names.iterator();
-    }
-
-    public void addToGroup_names(String elem) {
-      if (this.group_names == null) {
-        this.group_names = new ArrayList<String>();
-      }
-      this.group_names.add(elem);
-    }
-
-    public List<String> getGroup_names() {
-      return this.group_names;
-    }
-
-    public void setGroup_names(List<String> group_names) {
-      this.group_names = group_names;
-    }
-
-    public void unsetGroup_names() {
-      this.group_names = null;
-    }
-
-    /** Returns true if field group_names is set (has been asigned a value) and false otherwise */
-    public boolean isSetGroup_names() {
-      return this.group_names != null;
-    }
-
-    public void setGroup_namesIsSet(boolean value) {
-      if (!value) {
-        this.group_names = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -30077,22 +32247,6 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case USER_NAME:
-        if (value == null) {
-          unsetUser_name();
-        } else {
-          setUser_name((String)value);
-        }
-        break;
-
-      case GROUP_NAMES:
-        if (value == null) {
-          unsetGroup_names();
-        } else {
-          setGroup_names((List<String>)value);
-        }
-        break;
-
       }
     }
 
@@ -30107,12 +32261,6 @@ public class ThriftHiveMetastore {
       case MAX_PARTS:
         return new Short(getMax_parts());
 
-      case USER_NAME:
-        return getUser_name();
-
-      case GROUP_NAMES:
-        return getGroup_names();
-
       }
       throw new IllegalStateException();
     }
@@ -30130,10 +32278,6 @@ public class ThriftHiveMetastore {
         return isSetTbl_name();
       case MAX_PARTS:
         return isSetMax_parts();
-      case USER_NAME:
-        return isSetUser_name();
-      case GROUP_NAMES:
-        return isSetGroup_names();
       }
       throw new IllegalStateException();
     }
@@ -30142,12 +32286,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_with_auth_args)
-        return this.equals((get_partitions_with_auth_args)that);
+      if (that instanceof get_partition_names_args)
+        return this.equals((get_partition_names_args)that);
       return false;
     }
 
-    public boolean equals(get_partitions_with_auth_args that) {
+    public boolean equals(get_partition_names_args that) {
       if (that == null)
         return false;
 
@@ -30178,24 +32322,6 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_user_name = true && this.isSetUser_name();
-      boolean that_present_user_name = true && that.isSetUser_name();
-      if (this_present_user_name || that_present_user_name) {
-        if (!(this_present_user_name && that_present_user_name))
-          return false;
-        if (!this.user_name.equals(that.user_name))
-          return false;
-      }
-
-      boolean this_present_group_names = true && this.isSetGroup_names();
-      boolean that_present_group_names = true && that.isSetGroup_names();
-      if (this_present_group_names || that_present_group_names) {
-        if (!(this_present_group_names && that_present_group_names))
-          return false;
-        if (!this.group_names.equals(that.group_names))
-          return false;
-      }
-
       return true;
     }
 
@@ -30204,13 +32330,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_with_auth_args other) {
+    public int compareTo(get_partition_names_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_with_auth_args typedOther = (get_partitions_with_auth_args)other;
+      get_partition_names_args typedOther = (get_partition_names_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -30242,26 +32368,6 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetUser_name()).compareTo(typedOther.isSetUser_name());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUser_name()) {
-        lastComparison = TBaseHelper.compareTo(this.user_name, typedOther.user_name);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetGroup_names()).compareTo(typedOther.isSetGroup_names());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetGroup_names()) {
-        lastComparison = TBaseHelper.compareTo(this.group_names, typedOther.group_names);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -30301,30 +32407,6 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 4: // USER_NAME
-            if (field.type == TType.STRING) {
-              this.user_name = iprot.readString();
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 5: // GROUP_NAMES
-            if (field.type == TType.LIST) {
-              {
-                TList _list151 = iprot.readListBegin();
-                this.group_names = new ArrayList<String>(_list151.size);
-                for (int _i152 = 0; _i152 < _list151.size; ++_i152)
-                {
-                  String _elem153;
-                  _elem153 = iprot.readString();
-                  this.group_names.add(_elem153);
-                }
-                iprot.readListEnd();
-              }
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -30351,30 +32433,13 @@ public class ThriftHiveMetastore {
       oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
       oprot.writeI16(this.max_parts);
       oprot.writeFieldEnd();
-      if (this.user_name != null) {
-        oprot.writeFieldBegin(USER_NAME_FIELD_DESC);
-        oprot.writeString(this.user_name);
-        oprot.writeFieldEnd();
-      }
-      if (this.group_names != null) {
-        oprot.writeFieldBegin(GROUP_NAMES_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.group_names.size()));
-          for (String _iter154 : this.group_names)
-          {
-            oprot.writeString(_iter154);
-          }
-          oprot.writeListEnd();
-        }
-        oprot.writeFieldEnd();
-      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_with_auth_args(");
+      StringBuilder sb = new StringBuilder("get_partition_names_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -30396,22 +32461,6 @@ public class ThriftHiveMetastore {
       sb.append("max_parts:");
       sb.append(this.max_parts);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("user_name:");
-      if (this.user_name == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.user_name);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("group_names:");
-      if (this.group_names == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.group_names);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -30422,22 +32471,19 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_with_auth_result implements TBase<get_partitions_with_auth_result, get_partitions_with_auth_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_with_auth_result");
+  public static class get_partition_names_result implements TBase<get_partition_names_result, get_partition_names_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
-    private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
-    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
+    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)1);
 
-    private List<Partition> success;
-    private NoSuchObjectException o1;
+    private List<String> success;
     private MetaException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      O1((short)1, "o1"),
-      O2((short)2, "o2");
+      O2((short)1, "o2");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -30454,9 +32500,7 @@ public class ThriftHiveMetastore {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // O1
-            return O1;
-          case 2: // O2
+          case 1: // O2
             return O2;
           default:
             return null;
@@ -30504,56 +32548,48 @@ public class ThriftHiveMetastore {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
           new ListMetaData(TType.LIST, 
-              new StructMetaData(TType.STRUCT, Partition.class))));
-      tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRUCT)));
+              new FieldValueMetaData(TType.STRING))));
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_with_auth_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_names_result.class, metaDataMap);
     }
 
-    public get_partitions_with_auth_result() {
+    public get_partition_names_result() {
     }
 
-    public get_partitions_with_auth_result(
-      List<Partition> success,
-      NoSuchObjectException o1,
+    public get_partition_names_result(
+      List<String> success,
       MetaException o2)
     {
       this();
       this.success = success;
-      this.o1 = o1;
       this.o2 = o2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_with_auth_result(get_partitions_with_auth_result other) {
+    public get_partition_names_result(get_partition_names_result other) {
       if (other.isSetSuccess()) {
-        List<Partition> __this__success = new ArrayList<Partition>();
-        for (Partition other_element : other.success) {
-          __this__success.add(new Partition(other_element));
+        List<String> __this__success = new ArrayList<String>();
+        for (String other_element : other.success) {
+          __this__success.add(other_element);
         }
         this.success = __this__success;
       }
-      if (other.isSetO1()) {
-        this.o1 = new NoSuchObjectException(other.o1);
-      }
       if (other.isSetO2()) {
         this.o2 = new MetaException(other.o2);
       }
     }
 
-    public get_partitions_with_auth_result deepCopy() {
-      return new get_partitions_with_auth_result(this);
+    public get_partition_names_result deepCopy() {
+      return new get_partition_names_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.o1 = null;
       this.o2 = null;
     }
 
@@ -30561,22 +32597,22 @@ public class ThriftHiveMetastore {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<Partition> getSuccessIterator() {
+    public java.util.Iterator<String> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(Partition elem) {
+    public void addToSuccess(String elem) {
       if (this.success == null) {
-        this.success = new ArrayList<Partition>();
+        this.success = new ArrayList<String>();
       }
       this.success.add(elem);
     }
 
-    public List<Partition> getSuccess() {
+    public List<String> getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(List<Partition> success) {
+    public void setSuccess(List<String> success) {
       this.success = success;
     }
 
@@ -30595,29 +32631,6 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public NoSuchObjectException getO1() {
-      return this.o1;
-    }
-
-    public void setO1(NoSuchObjectException o1) {
-      this.o1 = o1;
-    }
-
-    public void unsetO1() {
-      this.o1 = null;
-    }
-
-    /** Returns true if field o1 is set (has been asigned a value) and false otherwise */
-    public boolean isSetO1() {
-      return this.o1 != null;
-    }
-
-    public void setO1IsSet(boolean value) {
-      if (!value) {
-        this.o1 = null;
-      }
-    }
-
     public MetaException getO2() {
       return this.o2;
     }
@@ -30647,15 +32660,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<Partition>)value);
-        }
-        break;
-
-      case O1:
-        if (value == null) {
-          unsetO1();
-        } else {
-          setO1((NoSuchObjectException)value);
+          setSuccess((List<String>)value);
         }
         break;
 
@@ -30675,9 +32680,6 @@ public class ThriftHiveMetastore {
       case SUCCESS:
         return getSuccess();
 
-      case O1:
-        return getO1();
-
       case O2:
         return getO2();
 
@@ -30694,8 +32696,6 @@ public class ThriftHiveMetastore {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case O1:
-        return isSetO1();
       case O2:
         return isSetO2();
       }
@@ -30706,12 +32706,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_with_auth_result)
-        return this.equals((get_partitions_with_auth_result)that);
+      if (that instanceof get_partition_names_result)
+        return this.equals((get_partition_names_result)that);
       return false;
     }
 
-    public boolean equals(get_partitions_with_auth_result that) {
+    public boolean equals(get_partition_names_result that) {
       if (that == null)
         return false;
 
@@ -30724,15 +32724,6 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_o1 = true && this.isSetO1();
-      boolean that_present_o1 = true && that.isSetO1();
-      if (this_present_o1 || that_present_o1) {
-        if (!(this_present_o1 && that_present_o1))
-          return false;
-        if (!this.o1.equals(that.o1))
-          return false;
-      }
-
       boolean this_present_o2 = true && this.isSetO2();
       boolean that_present_o2 = true && that.isSetO2();
       if (this_present_o2 || that_present_o2) {
@@ -30750,13 +32741,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_with_auth_result other) {
+    public int compareTo(get_partition_names_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_with_auth_result typedOther = (get_partitions_with_auth_result)other;
+      get_partition_names_result typedOther = (get_partition_names_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -30768,16 +32759,6 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetO1()).compareTo(typedOther.isSetO1());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetO1()) {
-        lastComparison = TBaseHelper.compareTo(this.o1, typedOther.o1);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
       if (lastComparison != 0) {
         return lastComparison;
@@ -30808,14 +32789,13 @@ public class ThriftHiveMetastore {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
               {
-                TList _list155 = iprot.readListBegin();
-                this.success = new ArrayList<Partition>(_list155.size);
-                for (int _i156 = 0; _i156 < _list155.size; ++_i156)
+                TList _list159 = iprot.readListBegin();
+                this.success = new ArrayList<String>(_list159.size);
+                for (int _i160 = 0; _i160 < _list159.size; ++_i160)
                 {
-                  Partition _elem157;
-                  _elem157 = new Partition();
-                  _elem157.read(iprot);
-                  this.success.add(_elem157);
+                  String _elem161;
+                  _elem161 = iprot.readString();
+                  this.success.add(_elem161);
                 }
                 iprot.readListEnd();
               }
@@ -30823,15 +32803,7 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 1: // O1
-            if (field.type == TType.STRUCT) {
-              this.o1 = new NoSuchObjectException();
-              this.o1.read(iprot);
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 2: // O2
+          case 1: // O2
             if (field.type == TType.STRUCT) {
               this.o2 = new MetaException();
               this.o2.read(iprot);
@@ -30854,18 +32826,14 @@ public class ThriftHiveMetastore {
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
         {
-          oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
-          for (Partition _iter158 : this.success)
+          oprot.writeListBegin(new TList(TType.STRING, this.success.size()));
+          for (String _iter162 : this.success)
           {
-            _iter158.write(oprot);
+            oprot.writeString(_iter162);
           }
           oprot.writeListEnd();
         }
         oprot.writeFieldEnd();
-      } else if (this.isSetO1()) {
-        oprot.writeFieldBegin(O1_FIELD_DESC);
-        this.o1.write(oprot);
-        oprot.writeFieldEnd();
       } else if (this.isSetO2()) {
         oprot.writeFieldBegin(O2_FIELD_DESC);
         this.o2.write(oprot);
@@ -30877,7 +32845,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_with_auth_result(");
+      StringBuilder sb = new StringBuilder("get_partition_names_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -30888,14 +32856,6 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("o1:");
-      if (this.o1 == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.o1);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("o2:");
       if (this.o2 == null) {
         sb.append("null");
@@ -30913,22 +32873,25 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_names_args implements TBase<get_partition_names_args, get_partition_names_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_args");
+  public static class get_partitions_ps_args implements TBase<get_partitions_ps_args, get_partitions_ps_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)3);
+    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+    private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)4);
 
     private String db_name;
     private String tbl_name;
+    private List<String> part_vals;
     private short max_parts;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      MAX_PARTS((short)3, "max_parts");
+      PART_VALS((short)3, "part_vals"),
+      MAX_PARTS((short)4, "max_parts");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -30947,7 +32910,9 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // MAX_PARTS
+          case 3: // PART_VALS
+            return PART_VALS;
+          case 4: // MAX_PARTS
             return MAX_PARTS;
           default:
             return null;
@@ -30999,25 +32964,30 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
       tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.I16)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_names_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_ps_args.class, metaDataMap);
     }
 
-    public get_partition_names_args() {
+    public get_partitions_ps_args() {
       this.max_parts = (short)-1;
 
     }
 
-    public get_partition_names_args(
+    public get_partitions_ps_args(
       String db_name,
       String tbl_name,
+      List<String> part_vals,
       short max_parts)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
+      this.part_vals = part_vals;
       this.max_parts = max_parts;
       setMax_partsIsSet(true);
     }
@@ -31025,7 +32995,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_names_args(get_partition_names_args other) {
+    public get_partitions_ps_args(get_partitions_ps_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -31034,17 +33004,25 @@ public class ThriftHiveMetastore {
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
+      if (other.isSetPart_vals()) {
+        List<String> __this__part_vals = new ArrayList<String>();
+        for (String other_element : other.part_vals) {
+          __this__part_vals.add(other_element);
+        }
+        this.part_vals = __this__part_vals;
+      }
       this.max_parts = other.max_parts;
     }
 
-    public get_partition_names_args deepCopy() {
-      return new get_partition_names_args(this);
+    public get_partitions_ps_args deepCopy() {
+      return new get_partitions_ps_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
+      this.part_vals = null;
       this.max_parts = (short)-1;
 
     }
@@ -31095,6 +33073,44 @@ public class ThriftHiveMetastore {
       }
     }
 
+    public int getPart_valsSize() {
+      return (this.part_vals == null) ? 0 : this.part_vals.size();
+    }
+
+    public java.util.Iterator<String> getPart_valsIterator() {
+      return (this.part_vals == null) ? null : this.part_vals.iterator();
+    }
+
+    public void addToPart_vals(String elem) {
+      if (this.part_vals == null) {
+        this.part_vals = new ArrayList<String>();
+      }
+      this.part_vals.add(elem);
+    }
+
+    public List<String> getPart_vals() {
+      return this.part_vals;
+    }
+
+    public void setPart_vals(List<String> part_vals) {
+      this.part_vals = part_vals;
+    }
+
+    public void unsetPart_vals() {
+      this.part_vals = null;
+    }
+
+    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
+    public boolean isSetPart_vals() {
+      return this.part_vals != null;
+    }
+
+    public void setPart_valsIsSet(boolean value) {
+      if (!value) {
+        this.part_vals = null;
+      }
+    }
+
     public short getMax_parts() {
       return this.max_parts;
     }
@@ -31135,6 +33151,14 @@ public class ThriftHiveMetastore {
         }
         break;
 
+      case PART_VALS:
+        if (value == null) {
+          unsetPart_vals();
+        } else {
+          setPart_vals((List<String>)value);
+        }
+        break;
+
       case MAX_PARTS:
         if (value == null) {
           unsetMax_parts();
@@ -31154,6 +33178,9 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
+      case PART_VALS:
+        return getPart_vals();
+
       case MAX_PARTS:
         return new Short(getMax_parts());
 
@@ -31172,6 +33199,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
+      case PART_VALS:
+        return isSetPart_vals();
       case MAX_PARTS:
         return isSetMax_parts();
       }
@@ -31182,12 +33211,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_names_args)
-        return this.equals((get_partition_names_args)that);
+      if (that instanceof get_partitions_ps_args)
+        return this.equals((get_partitions_ps_args)that);
       return false;
     }
 
-    public boolean equals(get_partition_names_args that) {
+    public boolean equals(get_partitions_ps_args that) {
       if (that == null)
         return false;
 
@@ -31209,6 +33238,15 @@ public class ThriftHiveMetastore {
           return false;
       }
 
+      boolean this_present_part_vals = true && this.isSetPart_vals();
+      boolean that_present_part_vals = true && that.isSetPart_vals();
+      if (this_present_part_vals || that_present_part_vals) {
+        if (!(this_present_part_vals && that_present_part_vals))
+          return false;
+        if (!this.part_vals.equals(that.part_vals))
+          return false;
+      }
+
       boolean this_present_max_parts = true;
       boolean that_present_max_parts = true;
       if (this_present_max_parts || that_present_max_parts) {
@@ -31226,13 +33264,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_names_args other) {
+    public int compareTo(get_partitions_ps_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_names_args typedOther = (get_partition_names_args)other;
+      get_partitions_ps_args typedOther = (get_partitions_ps_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -31254,6 +33292,16 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPart_vals()) {
+        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetMax_parts()).compareTo(typedOther.isSetMax_parts());
       if (lastComparison != 0) {
         return lastComparison;
@@ -31295,7 +33343,24 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // MAX_PARTS
+          case 3: // PART_VALS
+            if (field.type == TType.LIST) {
+              {
+                TList _list163 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list163.size);
+                for (int _i164 = 0; _i164 < _list163.size; ++_i164)
+                {
+                  String _elem165;
+                  _elem165 = iprot.readString();
+                  this.part_vals.add(_elem165);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 4: // MAX_PARTS
             if (field.type == TType.I16) {
               this.max_parts = iprot.readI16();
               setMax_partsIsSet(true);
@@ -31326,6 +33391,18 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
+      if (this.part_vals != null) {
+        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
+          for (String _iter166 : this.part_vals)
+          {
+            oprot.writeString(_iter166);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
       oprot.writeI16(this.max_parts);
       oprot.writeFieldEnd();
@@ -31335,7 +33412,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_names_args(");
+      StringBuilder sb = new StringBuilder("get_partitions_ps_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -31354,6 +33431,14 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
+      sb.append("part_vals:");
+      if (this.part_vals == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.part_vals);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("max_parts:");
       sb.append(this.max_parts);
       first = false;
@@ -31367,19 +33452,19 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_names_result implements TBase<get_partition_names_result, get_partition_names_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_result");
+  public static class get_partitions_ps_result implements TBase<get_partitions_ps_result, get_partitions_ps_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
-    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)1);
+    private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
 
-    private List<String> success;
-    private MetaException o2;
+    private List<Partition> success;
+    private MetaException o1;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      O2((short)1, "o2");
+      O1((short)1, "o1");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -31396,8 +33481,8 @@ public class ThriftHiveMetastore {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // O2
-            return O2;
+          case 1: // O1
+            return O1;
           default:
             return null;
         }
@@ -31444,71 +33529,71 @@ public class ThriftHiveMetastore {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
           new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
-      tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
+              new StructMetaData(TType.STRUCT, Partition.class))));
+      tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_names_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_ps_result.class, metaDataMap);
     }
 
-    public get_partition_names_result() {
+    public get_partitions_ps_result() {
     }
 
-    public get_partition_names_result(
-      List<String> success,
-      MetaException o2)
+    public get_partitions_ps_result(
+      List<Partition> success,
+      MetaException o1)
     {
       this();
       this.success = success;
-      this.o2 = o2;
+      this.o1 = o1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_names_result(get_partition_names_result other) {
+    public get_partitions_ps_result(get_partitions_ps_result other) {
       if (other.isSetSuccess()) {
-        List<String> __this__success = new ArrayList<String>();
-        for (String other_element : other.success) {
-          __this__success.add(other_element);
+        List<Partition> __this__success = new ArrayList<Partition>();
+        for (Partition other_element : other.success) {
+          __this__success.add(new Partition(other_element));
         }
         this.success = __this__success;
       }
-      if (other.isSetO2()) {
-        this.o2 = new MetaException(other.o2);
+      if (other.isSetO1()) {
+        this.o1 = new MetaException(other.o1);
       }
     }
 
-    public get_partition_names_result deepCopy() {
-      return new get_partition_names_result(this);
+    public get_partitions_ps_result deepCopy() {
+      return new get_partitions_ps_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.o2 = null;
+      this.o1 = null;
     }
 
     public int getSuccessSize() {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<String> getSuccessIterator() {
+    public java.util.Iterator<Partition> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(String elem) {
+    public void addToSuccess(Partition elem) {
       if (this.success == null) {
-        this.success = new ArrayList<String>();
+        this.success = new ArrayList<Partition>();
       }
       this.success.add(elem);
     }
 
-    public List<String> getSuccess() {
+    public List<Partition> getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(List<String> success) {
+    public void setSuccess(List<Partition> success) {
       this.success = success;
     }
 
@@ -31527,26 +33612,26 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public MetaException getO2() {
-      return this.o2;
+    public MetaException getO1() {
+      return this.o1;
     }
 
-    public void setO2(MetaException o2) {
-      this.o2 = o2;
+    public void setO1(MetaException o1) {
+      this.o1 = o1;
     }
 
-    public void unsetO2() {
-      this.o2 = null;
+    public void unsetO1() {
+      this.o1 = null;
     }
 
-    /** Returns true if field o2 is set (has been asigned a value) and false otherwise */
-    public boolean isSetO2() {
-      return this.o2 != null;
+    /** Returns true if field o1 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO1() {
+      return this.o1 != null;
     }
 
-    public void setO2IsSet(boolean value) {
+    public void setO1IsSet(boolean value) {
       if (!value) {
-        this.o2 = null;
+        this.o1 = null;
       }
     }
 
@@ -31556,15 +33641,15 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<String>)value);
+          setSuccess((List<Partition>)value);
         }
         break;
 
-      case O2:
+      case O1:
         if (value == null) {
-          unsetO2();
+          unsetO1();
         } else {
-          setO2((MetaException)value);
+          setO1((MetaException)value);
         }
         break;
 
@@ -31576,8 +33661,8 @@ public class ThriftHiveMetastore {
       case SUCCESS:
         return getSuccess();
 
-      case O2:
-        return getO2();
+      case O1:
+        return getO1();
 
       }
       throw new IllegalStateException();
@@ -31592,8 +33677,8 @@ public class ThriftHiveMetastore {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case O2:
-        return isSetO2();
+      case O1:
+        return isSetO1();
       }
       throw new IllegalStateException();
     }
@@ -31602,12 +33687,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_names_result)
-        return this.equals((get_partition_names_result)that);
+      if (that instanceof get_partitions_ps_result)
+        return this.equals((get_partitions_ps_result)that);
       return false;
     }
 
-    public boolean equals(get_partition_names_result that) {
+    public boolean equals(get_partitions_ps_result that) {
       if (that == null)
         return false;
 
@@ -31620,12 +33705,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_o2 = true && this.isSetO2();
-      boolean that_present_o2 = true && that.isSetO2();
-      if (this_present_o2 || that_present_o2) {
-        if (!(this_present_o2 && that_present_o2))
+      boolean this_present_o1 = true && this.isSetO1();
+      boolean that_present_o1 = true && that.isSetO1();
+      if (this_present_o1 || that_present_o1) {
+        if (!(this_present_o1 && that_present_o1))
           return false;
-        if (!this.o2.equals(that.o2))
+        if (!this.o1.equals(that.o1))
           return false;
       }
 
@@ -31637,13 +33722,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_names_result other) {
+    public int compareTo(get_partitions_ps_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_names_result typedOther = (get_partition_names_result)other;
+      get_partitions_ps_result typedOther = (get_partitions_ps_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -31655,12 +33740,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
+      lastComparison = Boolean.valueOf(isSetO1()).compareTo(typedOther.isSetO1());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetO2()) {
-        lastComparison = TBaseHelper.compareTo(this.o2, typedOther.o2);
+      if (isSetO1()) {
+        lastComparison = TBaseHelper.compareTo(this.o1, typedOther.o1);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -31685,13 +33770,14 @@ public class ThriftHiveMetastore {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
               {
-                TList _list159 = iprot.readListBegin();
-                this.success = new ArrayList<String>(_list159.size);
-                for (int _i160 = 0; _i160 < _list159.size; ++_i160)
+                TList _list167 = iprot.readListBegin();
+                this.success = new ArrayList<Partition>(_list167.size);
+                for (int _i168 = 0; _i168 < _list167.size; ++_i168)
                 {
-                  String _elem161;
-                  _elem161 = iprot.readString();
-                  this.success.add(_elem161);
+                  Partition _elem169;
+                  _elem169 = new Partition();
+                  _elem169.read(iprot);
+                  this.success.add(_elem169);
                 }
                 iprot.readListEnd();
               }
@@ -31699,10 +33785,10 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 1: // O2
+          case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o2 = new MetaException();
-              this.o2.read(iprot);
+              this.o1 = new MetaException();
+              this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -31722,17 +33808,17 @@ public class ThriftHiveMetastore {
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
         {
-          oprot.writeListBegin(new TList(TType.STRING, this.success.size()));
-          for (String _iter162 : this.success)
+          oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
+          for (Partition _iter170 : this.success)
           {
-            oprot.writeString(_iter162);
+            _iter170.write(oprot);
           }
           oprot.writeListEnd();
         }
         oprot.writeFieldEnd();
-      } else if (this.isSetO2()) {
-        oprot.writeFieldBegin(O2_FIELD_DESC);
-        this.o2.write(oprot);
+      } else if (this.isSetO1()) {
+        oprot.writeFieldBegin(O1_FIELD_DESC);
+        this.o1.write(oprot);
         oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
@@ -31741,7 +33827,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_names_result(");
+      StringBuilder sb = new StringBuilder("get_partitions_ps_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -31752,11 +33838,11 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("o2:");
-      if (this.o2 == null) {
+      sb.append("o1:");
+      if (this.o1 == null) {
         sb.append("null");
       } else {
-        sb.append(this.o2);
+        sb.append(this.o1);
       }
       first = false;
       sb.append(")");
@@ -31769,25 +33855,31 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_ps_args implements TBase<get_partitions_ps_args, get_partitions_ps_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_args");
+  public static class get_partitions_ps_with_auth_args implements TBase<get_partitions_ps_with_auth_args, get_partitions_ps_with_auth_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_with_auth_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
     private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
     private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)4);
+    private static final TField USER_NAME_FIELD_DESC = new TField("user_name", TType.STRING, (short)5);
+    private static final TField GROUP_NAMES_FIELD_DESC = new TField("group_names", TType.LIST, (short)6);
 
     private String db_name;
     private String tbl_name;
     private List<String> part_vals;
     private short max_parts;
+    private String user_name;
+    private List<String> group_names;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
       PART_VALS((short)3, "part_vals"),
-      MAX_PARTS((short)4, "max_parts");
+      MAX_PARTS((short)4, "max_parts"),
+      USER_NAME((short)5, "user_name"),
+      GROUP_NAMES((short)6, "group_names");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -31810,6 +33902,10 @@ public class ThriftHiveMetastore {
             return PART_VALS;
           case 4: // MAX_PARTS
             return MAX_PARTS;
+          case 5: // USER_NAME
+            return USER_NAME;
+          case 6: // GROUP_NAMES
+            return GROUP_NAMES;
           default:
             return null;
         }
@@ -31865,20 +33961,27 @@ public class ThriftHiveMetastore {
               new FieldValueMetaData(TType.STRING))));
       tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.I16)));
+      tmpMap.put(_Fields.USER_NAME, new FieldMetaData("user_name", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.GROUP_NAMES, new FieldMetaData("group_names", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_ps_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_ps_with_auth_args.class, metaDataMap);
     }
 
-    public get_partitions_ps_args() {
+    public get_partitions_ps_with_auth_args() {
       this.max_parts = (short)-1;
 
     }
 
-    public get_partitions_ps_args(
+    public get_partitions_ps_with_auth_args(
       String db_name,
       String tbl_name,
       List<String> part_vals,
-      short max_parts)
+      short max_parts,
+      String user_name,
+      List<String> group_names)
     {
       this();
       this.db_name = db_name;
@@ -31886,12 +33989,14 @@ public class ThriftHiveMetastore {
       this.part_vals = part_vals;
       this.max_parts = max_parts;
       setMax_partsIsSet(true);
+      this.user_name = user_name;
+      this.group_names = group_names;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_ps_args(get_partitions_ps_args other) {
+    public get_partitions_ps_with_auth_args(get_partitions_ps_with_auth_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -31908,10 +34013,20 @@ public class ThriftHiveMetastore {
         this.part_vals = __this__part_vals;
       }
       this.max_parts = other.max_parts;
+      if (other.isSetUser_name()) {
+        this.user_name = other.user_name;
+      }
+      if (other.isSetGroup_names()) {
+        List<String> __this__group_names = new ArrayList<String>();
+        for (String other_element : other.group_names) {
+          __this__group_names.add(other_element);
+        }
+        this.group_names = __this__group_names;
+      }
     }
 
-    public get_partitions_ps_args deepCopy() {
-      return new get_partitions_ps_args(this);
+    public get_partitions_ps_with_auth_args deepCopy() {
+      return new get_partitions_ps_with_auth_args(this);
     }
 
     @Override
@@ -31921,6 +34036,8 @@ public class ThriftHiveMetastore {
       this.part_vals = null;
       this.max_parts = (short)-1;
 
+      this.user_name = null;
+      this.group_names = null;
     }
 
     public String getDb_name() {
@@ -32029,6 +34146,67 @@ public class ThriftHiveMetastore {
       __isset_bit_vector.set(__MAX_PARTS_ISSET_ID, value);
     }
 
+    public String getUser_name() {
+      return this.user_name;
+    }
+
+    public void setUser_name(String user_name) {
+      this.user_name = user_name;
+    }
+
+    public void unsetUser_name() {
+      this.user_name = null;
+    }
+
+    /** Returns true if field user_name is set (has been asigned a value) and false otherwise */
+    public boolean isSetUser_name() {
+      return this.user_name != null;
+    }
+
+    public void setUser_nameIsSet(boolean value) {
+      if (!value) {
+        this.user_name = null;
+      }
+    }
+
+    public int getGroup_namesSize() {
+      return (this.group_names == null) ? 0 : this.group_names.size();
+    }
+
+    public java.util.Iterator<String> getGroup_namesIterator() {
+      return (this.group_names == null) ? null : this.group_names.iterator();
+    }
+
+    public void addToGroup_names(String elem) {
+      if (this.group_names == null) {
+        this.group_names = new ArrayList<String>();
+      }
+      this.group_names.add(elem);
+    }
+
+    public List<String> getGroup_names() {
+      return this.group_names;
+    }
+
+    public void setGroup_names(List<String> group_names) {
+      this.group_names = group_names;
+    }
+
+    public void unsetGroup_names() {
+      this.group_names = null;
+    }
+
+    /** Returns true if field group_names is set (has been asigned a value) and false otherwise */
+    public boolean isSetGroup_names() {
+      return this.group_names != null;
+    }
+
+    public void setGroup_namesIsSet(boolean value) {
+      if (!value) {
+        this.group_names = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -32063,6 +34241,22 @@ public class ThriftHiveMetastore {
         }
         break;
 
+      case USER_NAME:
+        if (value == null) {
+          unsetUser_name();
+        } else {
+          setUser_name((String)value);
+        }
+        break;
+
+      case GROUP_NAMES:
+        if (value == null) {
+          unsetGroup_names();
+        } else {
+          setGroup_names((List<String>)value);
+        }
+        break;
+
       }
     }
 
@@ -32080,6 +34274,12 @@ public class ThriftHiveMetastore {
       case MAX_PARTS:
         return new Short(getMax_parts());
 
+      case USER_NAME:
+        return getUser_name();
+
+      case GROUP_NAMES:
+        return getGroup_names();
+
       }
       throw new IllegalStateException();
     }
@@ -32099,6 +34299,10 @@ public class ThriftHiveMetastore {
         return isSetPart_vals();
       case MAX_PARTS:
         return isSetMax_parts();
+      case USER_NAME:
+        return isSetUser_name();
+      case GROUP_NAMES:
+        return isSetGroup_names();
       }
       throw new IllegalStateException();
     }
@@ -32107,12 +34311,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_ps_args)
-        return this.equals((get_partitions_ps_args)that);
+      if (that instanceof get_partitions_ps_with_auth_args)
+        return this.equals((get_partitions_ps_with_auth_args)that);
       return false;
     }
 
-    public boolean equals(get_partitions_ps_args that) {
+    public boolean equals(get_partitions_ps_with_auth_args that) {
       if (that == null)
         return false;
 
@@ -32152,6 +34356,24 @@ public class ThriftHiveMetastore {
           return false;
       }
 
+      boolean this_present_user_name = true && this.isSetUser_name();
+      boolean that_present_user_name = true && that.isSetUser_name();
+      if (this_present_user_name || that_present_user_name) {
+        if (!(this_present_user_name && that_present_user_name))
+          return false;
+        if (!this.user_name.equals(that.user_name))
+          return false;
+      }
+
+      boolean this_present_group_names = true && this.isSetGroup_names();
+      boolean that_present_group_names = true && that.isSetGroup_names();
+      if (this_present_group_names || that_present_group_names) {
+        if (!(this_present_group_names && that_present_group_names))
+          return false;
+        if (!this.group_names.equals(that.group_names))
+          return false;
+      }
+
       return true;
     }
 
@@ -32160,13 +34382,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_ps_args other) {
+    public int compareTo(get_partitions_ps_with_auth_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_ps_args typedOther = (get_partitions_ps_args)other;
+      get_partitions_ps_with_auth_args typedOther = (get_partitions_ps_with_auth_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -32208,6 +34430,26 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetUser_name()).compareTo(typedOther.isSetUser_name());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser_name()) {
+        lastComparison = TBaseHelper.compareTo(this.user_name, typedOther.user_name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetGroup_names()).compareTo(typedOther.isSetGroup_names());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGroup_names()) {
+        lastComparison = TBaseHelper.compareTo(this.group_names, typedOther.group_names);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -32242,13 +34484,13 @@ public class ThriftHiveMetastore {
           case 3: // PART_VALS
             if (field.type == TType.LIST) {
               {
-                TList _list163 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list163.size);
-                for (int _i164 = 0; _i164 < _list163.size; ++_i164)
+                TList _list171 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list171.size);
+                for (int _i172 = 0; _i172 < _list171.size; ++_i172)
                 {
-                  String _elem165;
-                  _elem165 = iprot.readString();
-                  this.part_vals.add(_elem165);
+                  String _elem173;
+                  _elem173 = iprot.readString();
+                  this.part_vals.add(_elem173);
                 }
                 iprot.readListEnd();
               }
@@ -32264,6 +34506,30 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
+          case 5: // USER_NAME
+            if (field.type == TType.STRING) {
+              this.user_name = iprot.readString();
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 6: // GROUP_NAMES
+            if (field.type == TType.LIST) {
+              {
+                TList _list174 = iprot.readListBegin();
+                this.group_names = new ArrayList<String>(_list174.size);
+                for (int _i175 = 0; _i175 < _list174.size; ++_i175)
+                {
+                  String _elem176;
+                  _elem176 = iprot.readString();
+                  this.group_names.add(_elem176);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -32291,9 +34557,9 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
         {
           oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter166 : this.part_vals)
+          for (String _iter177 : this.part_vals)
           {
-            oprot.writeString(_iter166);
+            oprot.writeString(_iter177);
           }
           oprot.writeListEnd();
         }
@@ -32302,13 +34568,30 @@ public class ThriftHiveMetastore {
       oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
       oprot.writeI16(this.max_parts);
       oprot.writeFieldEnd();
+      if (this.user_name != null) {
+        oprot.writeFieldBegin(USER_NAME_FIELD_DESC);
+        oprot.writeString(this.user_name);
+        oprot.writeFieldEnd();
+      }
+      if (this.group_names != null) {
+        oprot.writeFieldBegin(GROUP_NAMES_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRING, this.group_names.size()));
+          for (String _iter178 : this.group_names)
+          {
+            oprot.writeString(_iter178);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_ps_args(");
+      StringBuilder sb = new StringBuilder("get_partitions_ps_with_auth_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -32338,6 +34621,22 @@ public class ThriftHiveMetastore {
       sb.append("max_parts:");
       sb.append(this.max_parts);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("user_name:");
+      if (this.user_name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user_name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("group_names:");
+      if (this.group_names == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.group_names);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -32348,19 +34647,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_ps_result implements TBase<get_partitions_ps_result, get_partitions_ps_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_result");
+  public static class get_partitions_ps_with_auth_result implements TBase<get_partitions_ps_with_auth_result, get_partitions_ps_with_auth_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_with_auth_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
+    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
 
     private List<Partition> success;
-    private MetaException o1;
+    private NoSuchObjectException o1;
+    private MetaException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      O1((short)1, "o1");
+      O1((short)1, "o1"),
+      O2((short)2, "o2");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -32379,6 +34681,8 @@ public class ThriftHiveMetastore {
             return SUCCESS;
           case 1: // O1
             return O1;
+          case 2: // O2
+            return O2;
           default:
             return null;
         }
@@ -32428,26 +34732,30 @@ public class ThriftHiveMetastore {
               new StructMetaData(TType.STRUCT, Partition.class))));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
+      tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_ps_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_ps_with_auth_result.class, metaDataMap);
     }
 
-    public get_partitions_ps_result() {
+    public get_partitions_ps_with_auth_result() {
     }
 
-    public get_partitions_ps_result(
+    public get_partitions_ps_with_auth_result(
       List<Partition> success,
-      MetaException o1)
+      NoSuchObjectException o1,
+      MetaException o2)
     {
       this();
       this.success = success;
       this.o1 = o1;
+      this.o2 = o2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_ps_result(get_partitions_ps_result other) {
+    public get_partitions_ps_with_auth_result(get_partitions_ps_with_auth_result other) {
       if (other.isSetSuccess()) {
         List<Partition> __this__success = new ArrayList<Partition>();
         for (Partition other_element : other.success) {
@@ -32456,18 +34764,22 @@ public class ThriftHiveMetastore {
         this.success = __this__success;
       }
       if (other.isSetO1()) {
-        this.o1 = new MetaException(other.o1);
+        this.o1 = new NoSuchObjectException(other.o1);
+      }
+      if (other.isSetO2()) {
+        this.o2 = new MetaException(other.o2);
       }
     }
 
-    public get_partitions_ps_result deepCopy() {
-      return new get_partitions_ps_result(this);
+    public get_partitions_ps_with_auth_result deepCopy() {
+      return new get_partitions_ps_with_auth_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
       this.o1 = null;
+      this.o2 = null;
     }
 
     public int getSuccessSize() {
@@ -32508,11 +34820,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public MetaException getO1() {
+    public NoSuchObjectException getO1() {
       return this.o1;
     }
 
-    public void setO1(MetaException o1) {
+    public void setO1(NoSuchObjectException o1) {
       this.o1 = o1;
     }
 
@@ -32531,6 +34843,29 @@ public class ThriftHiveMetastore {
       }
     }
 
+    public MetaException getO2() {
+      return this.o2;
+    }
+
+    public void setO2(MetaException o2) {
+      this.o2 = o2;
+    }
+
+    public void unsetO2() {
+      this.o2 = null;
+    }
+
+    /** Returns true if field o2 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO2() {
+      return this.o2 != null;
+    }
+
+    public void setO2IsSet(boolean value) {
+      if (!value) {
+        this.o2 = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
@@ -32545,7 +34880,15 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO1();
         } else {
-          setO1((MetaException)value);
+          setO1((NoSuchObjectException)value);
+        }
+        break;
+
+      case O2:
+        if (value == null) {
+          unsetO2();
+        } else {
+          setO2((MetaException)value);
         }
         break;
 
@@ -32560,6 +34903,9 @@ public class ThriftHiveMetastore {
       case O1:
         return getO1();
 
+      case O2:
+        return getO2();
+
       }
       throw new IllegalStateException();
     }
@@ -32575,6 +34921,8 @@ public class ThriftHiveMetastore {
         return isSetSuccess();
       case O1:
         return isSetO1();
+      case O2:
+        return isSetO2();
       }
       throw new IllegalStateException();
     }
@@ -32583,12 +34931,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_ps_result)
-        return this.equals((get_partitions_ps_result)that);
+      if (that instanceof get_partitions_ps_with_auth_result)
+        return this.equals((get_partitions_ps_with_auth_result)that);
       return false;
     }
 
-    public boolean equals(get_partitions_ps_result that) {
+    public boolean equals(get_partitions_ps_with_auth_result that) {
       if (that == null)
         return false;
 
@@ -32610,6 +34958,15 @@ public class ThriftHiveMetastore {
           return false;
       }
 
+      boolean this_present_o2 = true && this.isSetO2();
+      boolean that_present_o2 = true && that.isSetO2();
+      if (this_present_o2 || that_present_o2) {
+        if (!(this_present_o2 && that_present_o2))
+          return false;
+        if (!this.o2.equals(that.o2))
+          return false;
+      }
+
       return true;
     }
 
@@ -32618,13 +34975,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_ps_result other) {
+    public int compareTo(get_partitions_ps_with_auth_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_ps_result typedOther = (get_partitions_ps_result)other;
+      get_partitions_ps_with_auth_result typedOther = (get_partitions_ps_with_auth_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -32646,6 +35003,16 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO2()) {
+        lastComparison = TBaseHelper.compareTo(this.o2, typedOther.o2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -32666,14 +35033,14 @@ public class ThriftHiveMetastore {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
               {
-                TList _list167 = iprot.readListBegin();
-                this.success = new ArrayList<Partition>(_list167.size);
-                for (int _i168 = 0; _i168 < _list167.size; ++_i168)
+                TList _list179 = iprot.readListBegin();
+                this.success = new ArrayList<Partition>(_list179.size);
+                for (int _i180 = 0; _i180 < _list179.size; ++_i180)
                 {
-                  Partition _elem169;
-                  _elem169 = new Partition();
-                  _elem169.read(iprot);
-                  this.success.add(_elem169);
+                  Partition _elem181;
+                  _elem181 = new Partition();
+                  _elem181.read(iprot);
+                  this.success.add(_elem181);
                 }
                 iprot.readListEnd();
               }
@@ -32683,12 +35050,20 @@ public class ThriftHiveMetastore {
             break;
           case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o1 = new MetaException();
+              this.o1 = new NoSuchObjectException();
               this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
+          case 2: // O2
+            if (field.type == TType.STRUCT) {
+              this.o2 = new MetaException();
+              this.o2.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -32705,9 +35080,9 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
         {
           oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
-          for (Partition _iter170 : this.success)
+          for (Partition _iter182 : this.success)
           {
-            _iter170.write(oprot);
+            _iter182.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -32716,6 +35091,10 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(O1_FIELD_DESC);
         this.o1.write(oprot);
         oprot.writeFieldEnd();
+      } else if (this.isSetO2()) {
+        oprot.writeFieldBegin(O2_FIELD_DESC);
+        this.o2.write(oprot);
+        oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
@@ -32723,7 +35102,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_ps_result(");
+      StringBuilder sb = new StringBuilder("get_partitions_ps_with_auth_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -32741,6 +35120,14 @@ public class ThriftHiveMetastore {
         sb.append(this.o1);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("o2:");
+      if (this.o2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o2);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -32751,31 +35138,25 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_ps_with_auth_args implements TBase<get_partitions_ps_with_auth_args, get_partitions_ps_with_auth_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_with_auth_args");
+  public static class get_partition_names_ps_args implements TBase<get_partition_names_ps_args, get_partition_names_ps_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_ps_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
     private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
     private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)4);
-    private static final TField USER_NAME_FIELD_DESC = new TField("user_name", TType.STRING, (short)5);
-    private static final TField GROUP_NAMES_FIELD_DESC = new TField("group_names", TType.LIST, (short)6);
 
     private String db_name;
     private String tbl_name;
     private List<String> part_vals;
     private short max_parts;
-    private String user_name;
-    private List<String> group_names;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
       PART_VALS((short)3, "part_vals"),
-      MAX_PARTS((short)4, "max_parts"),
-      USER_NAME((short)5, "user_name"),
-      GROUP_NAMES((short)6, "group_names");
+      MAX_PARTS((short)4, "max_parts");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -32798,10 +35179,6 @@ public class ThriftHiveMetastore {
             return PART_VALS;
           case 4: // MAX_PARTS
             return MAX_PARTS;
-          case 5: // USER_NAME
-            return USER_NAME;
-          case 6: // GROUP_NAMES
-            return GROUP_NAMES;
           default:
             return null;
         }
@@ -32857,27 +35234,20 @@ public class ThriftHiveMetastore {
               new FieldValueMetaData(TType.STRING))));
       tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.I16)));
-      tmpMap.put(_Fields.USER_NAME, new FieldMetaData("user_name", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.GROUP_NAMES, new FieldMetaData("group_names", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_ps_with_auth_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_names_ps_args.class, metaDataMap);
     }
 
-    public get_partitions_ps_with_auth_args() {
+    public get_partition_names_ps_args() {
       this.max_parts = (short)-1;
 
     }
 
-    public get_partitions_ps_with_auth_args(
+    public get_partition_names_ps_args(
       String db_name,
       String tbl_name,
       List<String> part_vals,
-      short max_parts,
-      String user_name,
-      List<String> group_names)
+      short max_parts)
     {
       this();
       this.db_name = db_name;
@@ -32885,14 +35255,12 @@ public class ThriftHiveMetastore {
       this.part_vals = part_vals;
       this.max_parts = max_parts;
       setMax_partsIsSet(true);
-      this.user_name = user_name;
-      this.group_names = group_names;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_ps_with_auth_args(get_partitions_ps_with_auth_args other) {
+    public get_partition_names_ps_args(get_partition_names_ps_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -32909,20 +35277,10 @@ public class ThriftHiveMetastore {
         this.part_vals = __this__part_vals;
       }
       this.max_parts = other.max_parts;
-      if (other.isSetUser_name()) {
-        this.user_name = other.user_name;
-      }
-      if (other.isSetGroup_names()) {
-        List<String> __this__group_names = new ArrayList<String>();
-        for (String other_element : other.group_names) {
-          __this__group_names.add(other_element);
-        }
-        this.group_names = __this__group_names;
-      }
     }
 
-    public get_partitions_ps_with_auth_args deepCopy() {
-      return new get_partitions_ps_with_auth_args(this);
+    public get_partition_names_ps_args deepCopy() {
+      return new get_partition_names_ps_args(this);
     }
 
     @Override
@@ -32932,8 +35290,6 @@ public class ThriftHiveMetastore {
       this.part_vals = null;
       this.max_parts = (short)-1;
 
-      this.user_name = null;
-      this.group_names = null;
     }
 
     public String getDb_name() {
@@ -33042,67 +35398,6 @@ public class ThriftHiveMetastore {
       __isset_bit_vector.set(__MAX_PARTS_ISSET_ID, value);
     }
 
-    public String getUser_name() {
-      return this.user_name;
-    }
-
-    public void setUser_name(String user_name) {
-      this.user_name = user_name;
-    }
-
-    public void unsetUser_name() {
-      this.user_name = null;
-    }
-
-    /** Returns true if field user_name is set (has been asigned a value) and false otherwise */
-    public boolean isSetUser_name() {
-      return this.user_name != null;
-    }
-
-    public void setUser_nameIsSet(boolean value) {
-      if (!value) {
-        this.user_name = null;
-      }
-    }
-
-    public int getGroup_namesSize() {
-      return (this.group_names == null) ? 0 : this.group_names.size();
-    }
-
-    public java.util.Iterator<String> getGroup_namesIterator() {
-      return (this.group_names == null) ? null : this.group_names.iterator();
-    }
-
-    public void addToGroup_names(String elem) {
-      if (this.group_names == null) {
-        this.group_names = new ArrayList<String>();
-      }
-      this.group_names.add(elem);
-    }
-
-    public List<String> getGroup_names() {
-      return this.group_names;
-    }
-
-    public void setGroup_names(List<String> group_names) {
-      this.group_names = group_names;
-    }
-
-    public void unsetGroup_names() {
-      this.group_names = null;
-    }
-
-    /** Returns true if field group_names is set (has been asigned a value) and false otherwise */
-    public boolean isSetGroup_names() {
-      return this.group_names != null;
-    }
-
-    public void setGroup_namesIsSet(boolean value) {
-      if (!value) {
-        this.group_names = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -33137,22 +35432,6 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case USER_NAME:
-        if (value == null) {
-          unsetUser_name();
-        } else {
-          setUser_name((String)value);
-        }
-        break;
-
-      case GROUP_NAMES:
-        if (value == null) {
-          unsetGroup_names();
-        } else {
-          setGroup_names((List<String>)value);
-        }
-        break;
-
       }
     }
 
@@ -33170,12 +35449,6 @@ public class ThriftHiveMetastore {
       case MAX_PARTS:
         return new Short(getMax_parts());
 
-      case USER_NAME:
-        return getUser_name();
-
-      case GROUP_NAMES:
-        return getGroup_names();
-
       }
       throw new IllegalStateException();
     }
@@ -33195,10 +35468,6 @@ public class ThriftHiveMetastore {
         return isSetPart_vals();
       case MAX_PARTS:
         return isSetMax_parts();
-      case USER_NAME:
-        return isSetUser_name();
-      case GROUP_NAMES:
-        return isSetGroup_names();
       }
       throw new IllegalStateException();
     }
@@ -33207,12 +35476,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_ps_with_auth_args)
-        return this.equals((get_partitions_ps_with_auth_args)that);
+      if (that instanceof get_partition_names_ps_args)
+        return this.equals((get_partition_names_ps_args)that);
       return false;
     }
 
-    public boolean equals(get_partitions_ps_with_auth_args that) {
+    public boolean equals(get_partition_names_ps_args that) {
       if (that == null)
         return false;
 
@@ -33252,24 +35521,6 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_user_name = true && this.isSetUser_name();
-      boolean that_present_user_name = true && that.isSetUser_name();
-      if (this_present_user_name || that_present_user_name) {
-        if (!(this_present_user_name && that_present_user_name))
-          return false;
-        if (!this.user_name.equals(that.user_name))
-          return false;
-      }
-
-      boolean this_present_group_names = true && this.isSetGroup_names();
-      boolean that_present_group_names = true && that.isSetGroup_names();
-      if (this_present_group_names || that_present_group_names) {
-        if (!(this_present_group_names && that_present_group_names))
-          return false;
-        if (!this.group_names.equals(that.group_names))
-          return false;
-      }
-
       return true;
     }
 
@@ -33278,13 +35529,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_ps_with_auth_args other) {
+    public int compareTo(get_partition_names_ps_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_ps_with_auth_args typedOther = (get_partitions_ps_with_auth_args)other;
+      get_partition_names_ps_args typedOther = (get_partition_names_ps_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -33326,26 +35577,6 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetUser_name()).compareTo(typedOther.isSetUser_name());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUser_name()) {
-        lastComparison = TBaseHelper.compareTo(this.user_name, typedOther.user_name);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetGroup_names()).compareTo(typedOther.isSetGroup_names());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetGroup_names()) {
-        lastComparison = TBaseHelper.compareTo(this.group_names, typedOther.group_names);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -33380,13 +35611,13 @@ public class ThriftHiveMetastore {
           case 3: // PART_VALS
             if (field.type == TType.LIST) {
               {
-                TList _list171 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list171.size);
-                for (int _i172 = 0; _i172 < _list171.size; ++_i172)
+                TList _list183 = iprot.readListBegin();
+                this.part_vals = new ArrayList<String>(_list183.size);
+                for (int _i184 = 0; _i184 < _list183.size; ++_i184)
                 {
-                  String _elem173;
-                  _elem173 = iprot.readString();
-                  this.part_vals.add(_elem173);
+                  String _elem185;
+                  _elem185 = iprot.readString();
+                  this.part_vals.add(_elem185);
                 }
                 iprot.readListEnd();
               }
@@ -33402,30 +35633,6 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 5: // USER_NAME
-            if (field.type == TType.STRING) {
-              this.user_name = iprot.readString();
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 6: // GROUP_NAMES
-            if (field.type == TType.LIST) {
-              {
-                TList _list174 = iprot.readListBegin();
-                this.group_names = new ArrayList<String>(_list174.size);
-                for (int _i175 = 0; _i175 < _list174.size; ++_i175)
-                {
-                  String _elem176;
-                  _elem176 = iprot.readString();
-                  this.group_names.add(_elem176);
-                }
-                iprot.readListEnd();
-              }
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -33453,9 +35660,9 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
         {
           oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter177 : this.part_vals)
+          for (String _iter186 : this.part_vals)
           {
-            oprot.writeString(_iter177);
+            oprot.writeString(_iter186);
           }
           oprot.writeListEnd();
         }
@@ -33464,30 +35671,13 @@ public class ThriftHiveMetastore {
       oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
       oprot.writeI16(this.max_parts);
       oprot.writeFieldEnd();
-      if (this.user_name != null) {
-        oprot.writeFieldBegin(USER_NAME_FIELD_DESC);
-        oprot.writeString(this.user_name);
-        oprot.writeFieldEnd();
-      }
-      if (this.group_names != null) {
-        oprot.writeFieldBegin(GROUP_NAMES_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.group_names.size()));
-          for (String _iter178 : this.group_names)
-          {
-            oprot.writeString(_iter178);
-          }
-          oprot.writeListEnd();
-        }
-        oprot.writeFieldEnd();
-      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_ps_with_auth_args(");
+      StringBuilder sb = new StringBuilder("get_partition_names_ps_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -33517,22 +35707,6 @@ public class ThriftHiveMetastore {
       sb.append("max_parts:");
       sb.append(this.max_parts);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("user_name:");
-      if (this.user_name == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.user_name);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("group_names:");
-      if (this.group_names == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.group_names);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -33543,22 +35717,19 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_ps_with_auth_result implements TBase<get_partitions_ps_with_auth_result, get_partitions_ps_with_auth_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_ps_with_auth_result");
+  public static class get_partition_names_ps_result implements TBase<get_partition_names_ps_result, get_partition_names_ps_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_ps_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
-    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
 
-    private List<Partition> success;
-    private NoSuchObjectException o1;
-    private MetaException o2;
+    private List<String> success;
+    private MetaException o1;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      O1((short)1, "o1"),
-      O2((short)2, "o2");
+      O1((short)1, "o1");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -33577,8 +35748,6 @@ public class ThriftHiveMetastore {
             return SUCCESS;
           case 1: // O1
             return O1;
-          case 2: // O2
-            return O2;
           default:
             return null;
         }
@@ -33625,79 +35794,71 @@ public class ThriftHiveMetastore {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
           new ListMetaData(TType.LIST, 
-              new StructMetaData(TType.STRUCT, Partition.class))));
+              new FieldValueMetaData(TType.STRING))));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
-      tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_ps_with_auth_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partition_names_ps_result.class, metaDataMap);
     }
 
-    public get_partitions_ps_with_auth_result() {
+    public get_partition_names_ps_result() {
     }
 
-    public get_partitions_ps_with_auth_result(
-      List<Partition> success,
-      NoSuchObjectException o1,
-      MetaException o2)
+    public get_partition_names_ps_result(
+      List<String> success,
+      MetaException o1)
     {
       this();
       this.success = success;
       this.o1 = o1;
-      this.o2 = o2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_ps_with_auth_result(get_partitions_ps_with_auth_result other) {
+    public get_partition_names_ps_result(get_partition_names_ps_result other) {
       if (other.isSetSuccess()) {
-        List<Partition> __this__success = new ArrayList<Partition>();
-        for (Partition other_element : other.success) {
-          __this__success.add(new Partition(other_element));
+        List<String> __this__success = new ArrayList<String>();
+        for (String other_element : other.success) {
+          __this__success.add(other_element);
         }
         this.success = __this__success;
       }
       if (other.isSetO1()) {
-        this.o1 = new NoSuchObjectException(other.o1);
-      }
-      if (other.isSetO2()) {
-        this.o2 = new MetaException(other.o2);
+        this.o1 = new MetaException(other.o1);
       }
     }
 
-    public get_partitions_ps_with_auth_result deepCopy() {
-      return new get_partitions_ps_with_auth_result(this);
+    public get_partition_names_ps_result deepCopy() {
+      return new get_partition_names_ps_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
       this.o1 = null;
-      this.o2 = null;
     }
 
     public int getSuccessSize() {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<Partition> getSuccessIterator() {
+    public java.util.Iterator<String> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(Partition elem) {
+    public void addToSuccess(String elem) {
       if (this.success == null) {
-        this.success = new ArrayList<Partition>();
+        this.success = new ArrayList<String>();
       }
       this.success.add(elem);
     }
 
-    public List<Partition> getSuccess() {
+    public List<String> getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(List<Partition> success) {
+    public void setSuccess(List<String> success) {
       this.success = success;
     }
 
@@ -33716,11 +35877,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public NoSuchObjectException getO1() {
+    public MetaException getO1() {
       return this.o1;
     }
 
-    public void setO1(NoSuchObjectException o1) {
+    public void setO1(MetaException o1) {
       this.o1 = o1;
     }
 
@@ -33739,36 +35900,13 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public MetaException getO2() {
-      return this.o2;
-    }
-
-    public void setO2(MetaException o2) {
-      this.o2 = o2;
-    }
-
-    public void unsetO2() {
-      this.o2 = null;
-    }
-
-    /** Returns true if field o2 is set (has been asigned a value) and false otherwise */
-    public boolean isSetO2() {
-      return this.o2 != null;
-    }
-
-    public void setO2IsSet(boolean value) {
-      if (!value) {
-        this.o2 = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<Partition>)value);
+          setSuccess((List<String>)value);
         }
         break;
 
@@ -33776,15 +35914,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO1();
         } else {
-          setO1((NoSuchObjectException)value);
-        }
-        break;
-
-      case O2:
-        if (value == null) {
-          unsetO2();
-        } else {
-          setO2((MetaException)value);
+          setO1((MetaException)value);
         }
         break;
 
@@ -33799,9 +35929,6 @@ public class ThriftHiveMetastore {
       case O1:
         return getO1();
 
-      case O2:
-        return getO2();
-
       }
       throw new IllegalStateException();
     }
@@ -33817,8 +35944,6 @@ public class ThriftHiveMetastore {
         return isSetSuccess();
       case O1:
         return isSetO1();
-      case O2:
-        return isSetO2();
       }
       throw new IllegalStateException();
     }
@@ -33827,12 +35952,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_ps_with_auth_result)
-        return this.equals((get_partitions_ps_with_auth_result)that);
+      if (that instanceof get_partition_names_ps_result)
+        return this.equals((get_partition_names_ps_result)that);
       return false;
     }
 
-    public boolean equals(get_partitions_ps_with_auth_result that) {
+    public boolean equals(get_partition_names_ps_result that) {
       if (that == null)
         return false;
 
@@ -33854,15 +35979,6 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_o2 = true && this.isSetO2();
-      boolean that_present_o2 = true && that.isSetO2();
-      if (this_present_o2 || that_present_o2) {
-        if (!(this_present_o2 && that_present_o2))
-          return false;
-        if (!this.o2.equals(that.o2))
-          return false;
-      }
-
       return true;
     }
 
@@ -33871,13 +35987,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_ps_with_auth_result other) {
+    public int compareTo(get_partition_names_ps_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_ps_with_auth_result typedOther = (get_partitions_ps_with_auth_result)other;
+      get_partition_names_ps_result typedOther = (get_partition_names_ps_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -33899,16 +36015,6 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetO2()) {
-        lastComparison = TBaseHelper.compareTo(this.o2, typedOther.o2);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -33929,14 +36035,13 @@ public class ThriftHiveMetastore {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
               {
-                TList _list179 = iprot.readListBegin();
-                this.success = new ArrayList<Partition>(_list179.size);
-                for (int _i180 = 0; _i180 < _list179.size; ++_i180)
+                TList _list187 = iprot.readListBegin();
+                this.success = new ArrayList<String>(_list187.size);
+                for (int _i188 = 0; _i188 < _list187.size; ++_i188)
                 {
-                  Partition _elem181;
-                  _elem181 = new Partition();
-                  _elem181.read(iprot);
-                  this.success.add(_elem181);
+                  String _elem189;
+                  _elem189 = iprot.readString();
+                  this.success.add(_elem189);
                 }
                 iprot.readListEnd();
               }
@@ -33946,20 +36051,12 @@ public class ThriftHiveMetastore {
             break;
           case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o1 = new NoSuchObjectException();
+              this.o1 = new MetaException();
               this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 2: // O2
-            if (field.type == TType.STRUCT) {
-              this.o2 = new MetaException();
-              this.o2.read(iprot);
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -33975,10 +36072,10 @@ public class ThriftHiveMetastore {
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
         {
-          oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
-          for (Partition _iter182 : this.success)
+          oprot.writeListBegin(new TList(TType.STRING, this.success.size()));
+          for (String _iter190 : this.success)
           {
-            _iter182.write(oprot);
+            oprot.writeString(_iter190);
           }
           oprot.writeListEnd();
         }
@@ -33987,10 +36084,6 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(O1_FIELD_DESC);
         this.o1.write(oprot);
         oprot.writeFieldEnd();
-      } else if (this.isSetO2()) {
-        oprot.writeFieldBegin(O2_FIELD_DESC);
-        this.o2.write(oprot);
-        oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
@@ -33998,7 +36091,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_ps_with_auth_result(");
+      StringBuilder sb = new StringBuilder("get_partition_names_ps_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -34016,14 +36109,6 @@ public class ThriftHiveMetastore {
         sb.append(this.o1);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("o2:");
-      if (this.o2 == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.o2);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -34034,24 +36119,24 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_names_ps_args implements TBase<get_partition_names_ps_args, get_partition_names_ps_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_ps_args");
+  public static class get_partitions_by_filter_args implements TBase<get_partitions_by_filter_args, get_partitions_by_filter_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_by_filter_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField PART_VALS_FIELD_DESC = new TField("part_vals", TType.LIST, (short)3);
+    private static final TField FILTER_FIELD_DESC = new TField("filter", TType.STRING, (short)3);
     private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)4);
 
     private String db_name;
     private String tbl_name;
-    private List<String> part_vals;
+    private String filter;
     private short max_parts;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      PART_VALS((short)3, "part_vals"),
+      FILTER((short)3, "filter"),
       MAX_PARTS((short)4, "max_parts");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -34071,8 +36156,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // PART_VALS
-            return PART_VALS;
+          case 3: // FILTER
+            return FILTER;
           case 4: // MAX_PARTS
             return MAX_PARTS;
           default:
@@ -34125,30 +36210,29 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.PART_VALS, new FieldMetaData("part_vals", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
+      tmpMap.put(_Fields.FILTER, new FieldMetaData("filter", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.I16)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_names_ps_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_by_filter_args.class, metaDataMap);
     }
 
-    public get_partition_names_ps_args() {
+    public get_partitions_by_filter_args() {
       this.max_parts = (short)-1;
 
     }
 
-    public get_partition_names_ps_args(
+    public get_partitions_by_filter_args(
       String db_name,
       String tbl_name,
-      List<String> part_vals,
+      String filter,
       short max_parts)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.part_vals = part_vals;
+      this.filter = filter;
       this.max_parts = max_parts;
       setMax_partsIsSet(true);
     }
@@ -34156,7 +36240,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_names_ps_args(get_partition_names_ps_args other) {
+    public get_partitions_by_filter_args(get_partitions_by_filter_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetDb_name()) {
@@ -34165,25 +36249,21 @@ public class ThriftHiveMetastore {
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetPart_vals()) {
-        List<String> __this__part_vals = new ArrayList<String>();
-        for (String other_element : other.part_vals) {
-          __this__part_vals.add(other_element);
-        }
-        this.part_vals = __this__part_vals;
+      if (other.isSetFilter()) {
+        this.filter = other.filter;
       }
       this.max_parts = other.max_parts;
     }
 
-    public get_partition_names_ps_args deepCopy() {
-      return new get_partition_names_ps_args(this);
+    public get_partitions_by_filter_args deepCopy() {
+      return new get_partitions_by_filter_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.part_vals = null;
+      this.filter = null;
       this.max_parts = (short)-1;
 
     }
@@ -34234,41 +36314,26 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public int getPart_valsSize() {
-      return (this.part_vals == null) ? 0 : this.part_vals.size();
-    }
-
-    public java.util.Iterator<String> getPart_valsIterator() {
-      return (this.part_vals == null) ? null : this.part_vals.iterator();
-    }
-
-    public void addToPart_vals(String elem) {
-      if (this.part_vals == null) {
-        this.part_vals = new ArrayList<String>();
-      }
-      this.part_vals.add(elem);
-    }
-
-    public List<String> getPart_vals() {
-      return this.part_vals;
+    public String getFilter() {
+      return this.filter;
     }
 
-    public void setPart_vals(List<String> part_vals) {
-      this.part_vals = part_vals;
+    public void setFilter(String filter) {
+      this.filter = filter;
     }
 
-    public void unsetPart_vals() {
-      this.part_vals = null;
+    public void unsetFilter() {
+      this.filter = null;
     }
 
-    /** Returns true if field part_vals is set (has been asigned a value) and false otherwise */
-    public boolean isSetPart_vals() {
-      return this.part_vals != null;
+    /** Returns true if field filter is set (has been asigned a value) and false otherwise */
+    public boolean isSetFilter() {
+      return this.filter != null;
     }
 
-    public void setPart_valsIsSet(boolean value) {
+    public void setFilterIsSet(boolean value) {
       if (!value) {
-        this.part_vals = null;
+        this.filter = null;
       }
     }
 
@@ -34312,11 +36377,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case PART_VALS:
+      case FILTER:
         if (value == null) {
-          unsetPart_vals();
+          unsetFilter();
         } else {
-          setPart_vals((List<String>)value);
+          setFilter((String)value);
         }
         break;
 
@@ -34339,8 +36404,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case PART_VALS:
-        return getPart_vals();
+      case FILTER:
+        return getFilter();
 
       case MAX_PARTS:
         return new Short(getMax_parts());
@@ -34360,8 +36425,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case PART_VALS:
-        return isSetPart_vals();
+      case FILTER:
+        return isSetFilter();
       case MAX_PARTS:
         return isSetMax_parts();
       }
@@ -34372,12 +36437,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_names_ps_args)
-        return this.equals((get_partition_names_ps_args)that);
+      if (that instanceof get_partitions_by_filter_args)
+        return this.equals((get_partitions_by_filter_args)that);
       return false;
     }
 
-    public boolean equals(get_partition_names_ps_args that) {
+    public boolean equals(get_partitions_by_filter_args that) {
       if (that == null)
         return false;
 
@@ -34399,12 +36464,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_part_vals = true && this.isSetPart_vals();
-      boolean that_present_part_vals = true && that.isSetPart_vals();
-      if (this_present_part_vals || that_present_part_vals) {
-        if (!(this_present_part_vals && that_present_part_vals))
+      boolean this_present_filter = true && this.isSetFilter();
+      boolean that_present_filter = true && that.isSetFilter();
+      if (this_present_filter || that_present_filter) {
+        if (!(this_present_filter && that_present_filter))
           return false;
-        if (!this.part_vals.equals(that.part_vals))
+        if (!this.filter.equals(that.filter))
           return false;
       }
 
@@ -34425,13 +36490,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_names_ps_args other) {
+    public int compareTo(get_partitions_by_filter_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_names_ps_args typedOther = (get_partition_names_ps_args)other;
+      get_partitions_by_filter_args typedOther = (get_partitions_by_filter_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -34453,12 +36518,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_vals()).compareTo(typedOther.isSetPart_vals());
+      lastComparison = Boolean.valueOf(isSetFilter()).compareTo(typedOther.isSetFilter());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart_vals()) {
-        lastComparison = TBaseHelper.compareTo(this.part_vals, typedOther.part_vals);
+      if (isSetFilter()) {
+        lastComparison = TBaseHelper.compareTo(this.filter, typedOther.filter);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -34504,19 +36569,9 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // PART_VALS
-            if (field.type == TType.LIST) {
-              {
-                TList _list183 = iprot.readListBegin();
-                this.part_vals = new ArrayList<String>(_list183.size);
-                for (int _i184 = 0; _i184 < _list183.size; ++_i184)
-                {
-                  String _elem185;
-                  _elem185 = iprot.readString();
-                  this.part_vals.add(_elem185);
-                }
-                iprot.readListEnd();
-              }
+          case 3: // FILTER
+            if (field.type == TType.STRING) {
+              this.filter = iprot.readString();
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -34552,16 +36607,9 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.part_vals != null) {
-        oprot.writeFieldBegin(PART_VALS_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRING, this.part_vals.size()));
-          for (String _iter186 : this.part_vals)
-          {
-            oprot.writeString(_iter186);
-          }
-          oprot.writeListEnd();
-        }
+      if (this.filter != null) {
+        oprot.writeFieldBegin(FILTER_FIELD_DESC);
+        oprot.writeString(this.filter);
         oprot.writeFieldEnd();
       }
       oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
@@ -34573,7 +36621,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_names_ps_args(");
+      StringBuilder sb = new StringBuilder("get_partitions_by_filter_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -34592,11 +36640,11 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_vals:");
-      if (this.part_vals == null) {
+      sb.append("filter:");
+      if (this.filter == null) {
         sb.append("null");
       } else {
-        sb.append(this.part_vals);
+        sb.append(this.filter);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -34613,19 +36661,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partition_names_ps_result implements TBase<get_partition_names_ps_result, get_partition_names_ps_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partition_names_ps_result");
+  public static class get_partitions_by_filter_result implements TBase<get_partitions_by_filter_result, get_partitions_by_filter_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_by_filter_result");
 
     private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
+    private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
 
-    private List<String> success;
+    private List<Partition> success;
     private MetaException o1;
+    private NoSuchObjectException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      O1((short)1, "o1");
+      O1((short)1, "o1"),
+      O2((short)2, "o2");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -34644,6 +36695,8 @@ public class ThriftHiveMetastore {
             return SUCCESS;
           case 1: // O1
             return O1;
+          case 2: // O2
+            return O2;
           default:
             return null;
         }
@@ -34690,71 +36743,79 @@ public class ThriftHiveMetastore {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
           new ListMetaData(TType.LIST, 
-              new FieldValueMetaData(TType.STRING))));
+              new StructMetaData(TType.STRUCT, Partition.class))));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
+      tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
+          new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partition_names_ps_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(get_partitions_by_filter_result.class, metaDataMap);
     }
 
-    public get_partition_names_ps_result() {
+    public get_partitions_by_filter_result() {
     }
 
-    public get_partition_names_ps_result(
-      List<String> success,
-      MetaException o1)
+    public get_partitions_by_filter_result(
+      List<Partition> success,
+      MetaException o1,
+      NoSuchObjectException o2)
     {
       this();
       this.success = success;
       this.o1 = o1;
+      this.o2 = o2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partition_names_ps_result(get_partition_names_ps_result other) {
+    public get_partitions_by_filter_result(get_partitions_by_filter_result other) {
       if (other.isSetSuccess()) {
-        List<String> __this__success = new ArrayList<String>();
-        for (String other_element : other.success) {
-          __this__success.add(other_element);
+        List<Partition> __this__success = new ArrayList<Partition>();
+        for (Partition other_element : other.success) {
+          __this__success.add(new Partition(other_element));
         }
         this.success = __this__success;
       }
       if (other.isSetO1()) {
         this.o1 = new MetaException(other.o1);
       }
+      if (other.isSetO2()) {
+        this.o2 = new NoSuchObjectException(other.o2);
+      }
     }
 
-    public get_partition_names_ps_result deepCopy() {
-      return new get_partition_names_ps_result(this);
+    public get_partitions_by_filter_result deepCopy() {
+      return new get_partitions_by_filter_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
       this.o1 = null;
+      this.o2 = null;
     }
 
     public int getSuccessSize() {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<String> getSuccessIterator() {
+    public java.util.Iterator<Partition> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(String elem) {
+    public void addToSuccess(Partition elem) {
       if (this.success == null) {
-        this.success = new ArrayList<String>();
+        this.success = new ArrayList<Partition>();
       }
       this.success.add(elem);
     }
 
-    public List<String> getSuccess() {
+    public List<Partition> getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(List<String> success) {
+    public void setSuccess(List<Partition> success) {
       this.success = success;
     }
 
@@ -34796,13 +36857,36 @@ public class ThriftHiveMetastore {
       }
     }
 
+    public NoSuchObjectException getO2() {
+      return this.o2;
+    }
+
+    public void setO2(NoSuchObjectException o2) {
+      this.o2 = o2;
+    }
+
+    public void unsetO2() {
+      this.o2 = null;
+    }
+
+    /** Returns true if field o2 is set (has been asigned a value) and false otherwise */
+    public boolean isSetO2() {
+      return this.o2 != null;
+    }
+
+    public void setO2IsSet(boolean value) {
+      if (!value) {
+        this.o2 = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<String>)value);
+          setSuccess((List<Partition>)value);
         }
         break;
 
@@ -34814,6 +36898,14 @@ public class ThriftHiveMetastore {
         }
         break;
 
+      case O2:
+        if (value == null) {
+          unsetO2();
+        } else {
+          setO2((NoSuchObjectException)value);
+        }
+        break;
+
       }
     }
 
@@ -34825,6 +36917,9 @@ public class ThriftHiveMetastore {
       case O1:
         return getO1();
 
+      case O2:
+        return getO2();
+
       }
       throw new IllegalStateException();
     }
@@ -34840,6 +36935,8 @@ public class ThriftHiveMetastore {
         return isSetSuccess();
       case O1:
         return isSetO1();
+      case O2:
+        return isSetO2();
       }
       throw new IllegalStateException();
     }
@@ -34848,12 +36945,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partition_names_ps_result)
-        return this.equals((get_partition_names_ps_result)that);
+      if (that instanceof get_partitions_by_filter_result)
+        return this.equals((get_partitions_by_filter_result)that);
       return false;
     }
 
-    public boolean equals(get_partition_names_ps_result that) {
+    public boolean equals(get_partitions_by_filter_result that) {
       if (that == null)
         return false;
 
@@ -34875,6 +36972,15 @@ public class ThriftHiveMetastore {
           return false;
       }
 
+      boolean this_present_o2 = true && this.isSetO2();
+      boolean that_present_o2 = true && that.isSetO2();
+      if (this_present_o2 || that_present_o2) {
+        if (!(this_present_o2 && that_present_o2))
+          return false;
+        if (!this.o2.equals(that.o2))
+          return false;
+      }
+
       return true;
     }
 
@@ -34883,13 +36989,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partition_names_ps_result other) {
+    public int compareTo(get_partitions_by_filter_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partition_names_ps_result typedOther = (get_partition_names_ps_result)other;
+      get_partitions_by_filter_result typedOther = (get_partitions_by_filter_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -34911,6 +37017,16 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetO2()).compareTo(typedOther.isSetO2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetO2()) {
+        lastComparison = TBaseHelper.compareTo(this.o2, typedOther.o2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -34931,13 +37047,14 @@ public class ThriftHiveMetastore {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
               {
-                TList _list187 = iprot.readListBegin();
-                this.success = new ArrayList<String>(_list187.size);
-                for (int _i188 = 0; _i188 < _list187.size; ++_i188)
+                TList _list191 = iprot.readListBegin();
+                this.success = new ArrayList<Partition>(_list191.size);
+                for (int _i192 = 0; _i192 < _list191.size; ++_i192)
                 {
-                  String _elem189;
-                  _elem189 = iprot.readString();
-                  this.success.add(_elem189);
+                  Partition _elem193;
+                  _elem193 = new Partition();
+                  _elem193.read(iprot);
+                  this.success.add(_elem193);
                 }
                 iprot.readListEnd();
               }
@@ -34953,6 +37070,14 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
+          case 2: // O2
+            if (field.type == TType.STRUCT) {
+              this.o2 = new NoSuchObjectException();
+              this.o2.read(iprot);
+            } else { 
+              TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             TProtocolUtil.skip(iprot, field.type);
         }
@@ -34968,10 +37093,10 @@ public class ThriftHiveMetastore {
       if (this.isSetSuccess()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
         {
-          oprot.writeListBegin(new TList(TType.STRING, this.success.size()));
-          for (String _iter190 : this.success)
+          oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
+          for (Partition _iter194 : this.success)
           {
-            oprot.writeString(_iter190);
+            _iter194.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -34980,6 +37105,10 @@ public class ThriftHiveMetastore {
         oprot.writeFieldBegin(O1_FIELD_DESC);
         this.o1.write(oprot);
         oprot.writeFieldEnd();
+      } else if (this.isSetO2()) {
+        oprot.writeFieldBegin(O2_FIELD_DESC);
+        this.o2.write(oprot);
+        oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
@@ -34987,7 +37116,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partition_names_ps_result(");
+      StringBuilder sb = new StringBuilder("get_partitions_by_filter_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -35005,6 +37134,14 @@ public class ThriftHiveMetastore {
         sb.append(this.o1);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("o2:");
+      if (this.o2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.o2);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -35015,25 +37152,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_by_filter_args implements TBase<get_partitions_by_filter_args, get_partitions_by_filter_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_by_filter_args");
+  public static class alter_partition_args implements TBase<alter_partition_args, alter_partition_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("alter_partition_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField FILTER_FIELD_DESC = new TField("filter", TType.STRING, (short)3);
-    private static final TField MAX_PARTS_FIELD_DESC = new TField("max_parts", TType.I16, (short)4);
+    private static final TField NEW_PART_FIELD_DESC = new TField("new_part", TType.STRUCT, (short)3);
 
     private String db_name;
     private String tbl_name;
-    private String filter;
-    private short max_parts;
+    private Partition new_part;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      FILTER((short)3, "filter"),
-      MAX_PARTS((short)4, "max_parts");
+      NEW_PART((short)3, "new_part");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -35052,10 +37186,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // FILTER
-            return FILTER;
-          case 4: // MAX_PARTS
-            return MAX_PARTS;
+          case 3: // NEW_PART
+            return NEW_PART;
           default:
             return null;
         }
@@ -35096,8 +37228,6 @@ public class ThriftHiveMetastore {
     }
 
     // isset id assignments
-    private static final int __MAX_PARTS_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
 
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
@@ -35106,62 +37236,50 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.FILTER, new FieldMetaData("filter", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.MAX_PARTS, new FieldMetaData("max_parts", TFieldRequirementType.DEFAULT, 
-          new FieldValueMetaData(TType.I16)));
+      tmpMap.put(_Fields.NEW_PART, new FieldMetaData("new_part", TFieldRequirementType.DEFAULT, 
+          new StructMetaData(TType.STRUCT, Partition.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_by_filter_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(alter_partition_args.class, metaDataMap);
     }
 
-    public get_partitions_by_filter_args() {
-      this.max_parts = (short)-1;
-
+    public alter_partition_args() {
     }
 
-    public get_partitions_by_filter_args(
+    public alter_partition_args(
       String db_name,
       String tbl_name,
-      String filter,
-      short max_parts)
+      Partition new_part)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.filter = filter;
-      this.max_parts = max_parts;
-      setMax_partsIsSet(true);
+      this.new_part = new_part;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_by_filter_args(get_partitions_by_filter_args other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
+    public alter_partition_args(alter_partition_args other) {
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetFilter()) {
-        this.filter = other.filter;
+      if (other.isSetNew_part()) {
+        this.new_part = new Partition(other.new_part);
       }
-      this.max_parts = other.max_parts;
     }
 
-    public get_partitions_by_filter_args deepCopy() {
-      return new get_partitions_by_filter_args(this);
+    public alter_partition_args deepCopy() {
+      return new alter_partition_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.filter = null;
-      this.max_parts = (short)-1;
-
+      this.new_part = null;
     }
 
     public String getDb_name() {
@@ -35210,51 +37328,29 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public String getFilter() {
-      return this.filter;
+    public Partition getNew_part() {
+      return this.new_part;
     }
 
-    public void setFilter(String filter) {
-      this.filter = filter;
+    public void setNew_part(Partition new_part) {
+      this.new_part = new_part;
     }
 
-    public void unsetFilter() {
-      this.filter = null;
+    public void unsetNew_part() {
+      this.new_part = null;
     }
 
-    /** Returns true if field filter is set (has been asigned a value) and false otherwise */
-    public boolean isSetFilter() {
-      return this.filter != null;
+    /** Returns true if field new_part is set (has been asigned a value) and false otherwise */
+    public boolean isSetNew_part() {
+      return this.new_part != null;
     }
 
-    public void setFilterIsSet(boolean value) {
+    public void setNew_partIsSet(boolean value) {
       if (!value) {
-        this.filter = null;
+        this.new_part = null;
       }
     }
 
-    public short getMax_parts() {
-      return this.max_parts;
-    }
-
-    public void setMax_parts(short max_parts) {
-      this.max_parts = max_parts;
-      setMax_partsIsSet(true);
-    }
-
-    public void unsetMax_parts() {
-      __isset_bit_vector.clear(__MAX_PARTS_ISSET_ID);
-    }
-
-    /** Returns true if field max_parts is set (has been asigned a value) and false otherwise */
-    public boolean isSetMax_parts() {
-      return __isset_bit_vector.get(__MAX_PARTS_ISSET_ID);
-    }
-
-    public void setMax_partsIsSet(boolean value) {
-      __isset_bit_vector.set(__MAX_PARTS_ISSET_ID, value);
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DB_NAME:
@@ -35273,19 +37369,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case FILTER:
-        if (value == null) {
-          unsetFilter();
-        } else {
-          setFilter((String)value);
-        }
-        break;
-
-      case MAX_PARTS:
+      case NEW_PART:
         if (value == null) {
-          unsetMax_parts();
+          unsetNew_part();
         } else {
-          setMax_parts((Short)value);
+          setNew_part((Partition)value);
         }
         break;
 
@@ -35300,11 +37388,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case FILTER:
-        return getFilter();
-
-      case MAX_PARTS:
-        return new Short(getMax_parts());
+      case NEW_PART:
+        return getNew_part();
 
       }
       throw new IllegalStateException();
@@ -35321,10 +37406,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case FILTER:
-        return isSetFilter();
-      case MAX_PARTS:
-        return isSetMax_parts();
+      case NEW_PART:
+        return isSetNew_part();
       }
       throw new IllegalStateException();
     }
@@ -35333,12 +37416,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_by_filter_args)
-        return this.equals((get_partitions_by_filter_args)that);
+      if (that instanceof alter_partition_args)
+        return this.equals((alter_partition_args)that);
       return false;
     }
 
-    public boolean equals(get_partitions_by_filter_args that) {
+    public boolean equals(alter_partition_args that) {
       if (that == null)
         return false;
 
@@ -35360,21 +37443,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_filter = true && this.isSetFilter();
-      boolean that_present_filter = true && that.isSetFilter();
-      if (this_present_filter || that_present_filter) {
-        if (!(this_present_filter && that_present_filter))
-          return false;
-        if (!this.filter.equals(that.filter))
-          return false;
-      }
-
-      boolean this_present_max_parts = true;
-      boolean that_present_max_parts = true;
-      if (this_present_max_parts || that_present_max_parts) {
-        if (!(this_present_max_parts && that_present_max_parts))
+      boolean this_present_new_part = true && this.isSetNew_part();
+      boolean that_present_new_part = true && that.isSetNew_part();
+      if (this_present_new_part || that_present_new_part) {
+        if (!(this_present_new_part && that_present_new_part))
           return false;
-        if (this.max_parts != that.max_parts)
+        if (!this.new_part.equals(that.new_part))
           return false;
       }
 
@@ -35386,13 +37460,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_by_filter_args other) {
+    public int compareTo(alter_partition_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_by_filter_args typedOther = (get_partitions_by_filter_args)other;
+      alter_partition_args typedOther = (alter_partition_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -35414,22 +37488,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetFilter()).compareTo(typedOther.isSetFilter());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFilter()) {
-        lastComparison = TBaseHelper.compareTo(this.filter, typedOther.filter);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetMax_parts()).compareTo(typedOther.isSetMax_parts());
+      lastComparison = Boolean.valueOf(isSetNew_part()).compareTo(typedOther.isSetNew_part());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetMax_parts()) {
-        lastComparison = TBaseHelper.compareTo(this.max_parts, typedOther.max_parts);
+      if (isSetNew_part()) {
+        lastComparison = TBaseHelper.compareTo(this.new_part, typedOther.new_part);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -35465,17 +37529,10 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // FILTER
-            if (field.type == TType.STRING) {
-              this.filter = iprot.readString();
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
-          case 4: // MAX_PARTS
-            if (field.type == TType.I16) {
-              this.max_parts = iprot.readI16();
-              setMax_partsIsSet(true);
+          case 3: // NEW_PART
+            if (field.type == TType.STRUCT) {
+              this.new_part = new Partition();
+              this.new_part.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -35503,21 +37560,18 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.filter != null) {
-        oprot.writeFieldBegin(FILTER_FIELD_DESC);
-        oprot.writeString(this.filter);
+      if (this.new_part != null) {
+        oprot.writeFieldBegin(NEW_PART_FIELD_DESC);
+        this.new_part.write(oprot);
         oprot.writeFieldEnd();
       }
-      oprot.writeFieldBegin(MAX_PARTS_FIELD_DESC);
-      oprot.writeI16(this.max_parts);
-      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_by_filter_args(");
+      StringBuilder sb = new StringBuilder("alter_partition_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -35536,17 +37590,13 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("filter:");
-      if (this.filter == null) {
+      sb.append("new_part:");
+      if (this.new_part == null) {
         sb.append("null");
       } else {
-        sb.append(this.filter);
+        sb.append(this.new_part);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("max_parts:");
-      sb.append(this.max_parts);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -35557,20 +37607,17 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class get_partitions_by_filter_result implements TBase<get_partitions_by_filter_result, get_partitions_by_filter_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("get_partitions_by_filter_result");
+  public static class alter_partition_result implements TBase<alter_partition_result, alter_partition_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("alter_partition_result");
 
-    private static final TField SUCCESS_FIELD_DESC = new TField("success", TType.LIST, (short)0);
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
     private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
 
-    private List<Partition> success;
-    private MetaException o1;
-    private NoSuchObjectException o2;
+    private InvalidOperationException o1;
+    private MetaException o2;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       O1((short)1, "o1"),
       O2((short)2, "o2");
 
@@ -35587,8 +37634,6 @@ public class ThriftHiveMetastore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // O1
             return O1;
           case 2: // O2
@@ -35637,27 +37682,22 @@ public class ThriftHiveMetastore {
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new FieldMetaData("success", TFieldRequirementType.DEFAULT, 
-          new ListMetaData(TType.LIST, 
-              new StructMetaData(TType.STRUCT, Partition.class))));
       tmpMap.put(_Fields.O1, new FieldMetaData("o1", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(get_partitions_by_filter_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(alter_partition_result.class, metaDataMap);
     }
 
-    public get_partitions_by_filter_result() {
+    public alter_partition_result() {
     }
 
-    public get_partitions_by_filter_result(
-      List<Partition> success,
-      MetaException o1,
-      NoSuchObjectException o2)
+    public alter_partition_result(
+      InvalidOperationException o1,
+      MetaException o2)
     {
       this();
-      this.success = success;
       this.o1 = o1;
       this.o2 = o2;
     }
@@ -35665,76 +37705,30 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_partitions_by_filter_result(get_partitions_by_filter_result other) {
-      if (other.isSetSuccess()) {
-        List<Partition> __this__success = new ArrayList<Partition>();
-        for (Partition other_element : other.success) {
-          __this__success.add(new Partition(other_element));
-        }
-        this.success = __this__success;
-      }
+    public alter_partition_result(alter_partition_result other) {
       if (other.isSetO1()) {
-        this.o1 = new MetaException(other.o1);
+        this.o1 = new InvalidOperationException(other.o1);
       }
       if (other.isSetO2()) {
-        this.o2 = new NoSuchObjectException(other.o2);
+        this.o2 = new MetaException(other.o2);
       }
     }
 
-    public get_partitions_by_filter_result deepCopy() {
-      return new get_partitions_by_filter_result(this);
+    public alter_partition_result deepCopy() {
+      return new alter_partition_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.o1 = null;
       this.o2 = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<Partition> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(Partition elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<Partition>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<Partition> getSuccess() {
-      return this.success;
-    }
-
-    public void setSuccess(List<Partition> success) {
-      this.success = success;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been asigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
-    public MetaException getO1() {
+    public InvalidOperationException getO1() {
       return this.o1;
     }
 
-    public void setO1(MetaException o1) {
+    public void setO1(InvalidOperationException o1) {
       this.o1 = o1;
     }
 
@@ -35753,11 +37747,11 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public NoSuchObjectException getO2() {
+    public MetaException getO2() {
       return this.o2;
     }
 
-    public void setO2(NoSuchObjectException o2) {
+    public void setO2(MetaException o2) {
       this.o2 = o2;
     }
 
@@ -35778,19 +37772,11 @@ public class ThriftHiveMetastore {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((List<Partition>)value);
-        }
-        break;
-
       case O1:
         if (value == null) {
           unsetO1();
         } else {
-          setO1((MetaException)value);
+          setO1((InvalidOperationException)value);
         }
         break;
 
@@ -35798,7 +37784,7 @@ public class ThriftHiveMetastore {
         if (value == null) {
           unsetO2();
         } else {
-          setO2((NoSuchObjectException)value);
+          setO2((MetaException)value);
         }
         break;
 
@@ -35807,9 +37793,6 @@ public class ThriftHiveMetastore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case O1:
         return getO1();
 
@@ -35827,8 +37810,6 @@ public class ThriftHiveMetastore {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case O1:
         return isSetO1();
       case O2:
@@ -35841,24 +37822,15 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_partitions_by_filter_result)
-        return this.equals((get_partitions_by_filter_result)that);
+      if (that instanceof alter_partition_result)
+        return this.equals((alter_partition_result)that);
       return false;
     }
 
-    public boolean equals(get_partitions_by_filter_result that) {
+    public boolean equals(alter_partition_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_o1 = true && this.isSetO1();
       boolean that_present_o1 = true && that.isSetO1();
       if (this_present_o1 || that_present_o1) {
@@ -35885,24 +37857,14 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(get_partitions_by_filter_result other) {
+    public int compareTo(alter_partition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_partitions_by_filter_result typedOther = (get_partitions_by_filter_result)other;
+      alter_partition_result typedOther = (alter_partition_result)other;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = TBaseHelper.compareTo(this.success, typedOther.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetO1()).compareTo(typedOther.isSetO1());
       if (lastComparison != 0) {
         return lastComparison;
@@ -35940,27 +37902,9 @@ public class ThriftHiveMetastore {
           break;
         }
         switch (field.id) {
-          case 0: // SUCCESS
-            if (field.type == TType.LIST) {
-              {
-                TList _list191 = iprot.readListBegin();
-                this.success = new ArrayList<Partition>(_list191.size);
-                for (int _i192 = 0; _i192 < _list191.size; ++_i192)
-                {
-                  Partition _elem193;
-                  _elem193 = new Partition();
-                  _elem193.read(iprot);
-                  this.success.add(_elem193);
-                }
-                iprot.readListEnd();
-              }
-            } else { 
-              TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
           case 1: // O1
             if (field.type == TType.STRUCT) {
-              this.o1 = new MetaException();
+              this.o1 = new InvalidOperationException();
               this.o1.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -35968,7 +37912,7 @@ public class ThriftHiveMetastore {
             break;
           case 2: // O2
             if (field.type == TType.STRUCT) {
-              this.o2 = new NoSuchObjectException();
+              this.o2 = new MetaException();
               this.o2.read(iprot);
             } else { 
               TProtocolUtil.skip(iprot, field.type);
@@ -35986,18 +37930,7 @@ public class ThriftHiveMetastore {
     public void write(TProtocol oprot) throws TException {
       oprot.writeStructBegin(STRUCT_DESC);
 
-      if (this.isSetSuccess()) {
-        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        {
-          oprot.writeListBegin(new TList(TType.STRUCT, this.success.size()));
-          for (Partition _iter194 : this.success)
-          {
-            _iter194.write(oprot);
-          }
-          oprot.writeListEnd();
-        }
-        oprot.writeFieldEnd();
-      } else if (this.isSetO1()) {
+      if (this.isSetO1()) {
         oprot.writeFieldBegin(O1_FIELD_DESC);
         this.o1.write(oprot);
         oprot.writeFieldEnd();
@@ -36012,17 +37945,9 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_partitions_by_filter_result(");
+      StringBuilder sb = new StringBuilder("alter_partition_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("o1:");
       if (this.o1 == null) {
         sb.append("null");
@@ -36048,22 +37973,22 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class alter_partition_args implements TBase<alter_partition_args, alter_partition_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("alter_partition_args");
+  public static class alter_partitions_args implements TBase<alter_partitions_args, alter_partitions_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("alter_partitions_args");
 
     private static final TField DB_NAME_FIELD_DESC = new TField("db_name", TType.STRING, (short)1);
     private static final TField TBL_NAME_FIELD_DESC = new TField("tbl_name", TType.STRING, (short)2);
-    private static final TField NEW_PART_FIELD_DESC = new TField("new_part", TType.STRUCT, (short)3);
+    private static final TField NEW_PARTS_FIELD_DESC = new TField("new_parts", TType.LIST, (short)3);
 
     private String db_name;
     private String tbl_name;
-    private Partition new_part;
+    private List<Partition> new_parts;
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
       DB_NAME((short)1, "db_name"),
       TBL_NAME((short)2, "tbl_name"),
-      NEW_PART((short)3, "new_part");
+      NEW_PARTS((short)3, "new_parts");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -36082,8 +38007,8 @@ public class ThriftHiveMetastore {
             return DB_NAME;
           case 2: // TBL_NAME
             return TBL_NAME;
-          case 3: // NEW_PART
-            return NEW_PART;
+          case 3: // NEW_PARTS
+            return NEW_PARTS;
           default:
             return null;
         }
@@ -36132,50 +38057,55 @@ public class ThriftHiveMetastore {
           new FieldValueMetaData(TType.STRING)));
       tmpMap.put(_Fields.TBL_NAME, new FieldMetaData("tbl_name", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRING)));
-      tmpMap.put(_Fields.NEW_PART, new FieldMetaData("new_part", TFieldRequirementType.DEFAULT, 
-          new StructMetaData(TType.STRUCT, Partition.class)));
+      tmpMap.put(_Fields.NEW_PARTS, new FieldMetaData("new_parts", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new StructMetaData(TType.STRUCT, Partition.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(alter_partition_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(alter_partitions_args.class, metaDataMap);
     }
 
-    public alter_partition_args() {
+    public alter_partitions_args() {
     }
 
-    public alter_partition_args(
+    public alter_partitions_args(
       String db_name,
       String tbl_name,
-      Partition new_part)
+      List<Partition> new_parts)
     {
       this();
       this.db_name = db_name;
       this.tbl_name = tbl_name;
-      this.new_part = new_part;
+      this.new_parts = new_parts;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_partition_args(alter_partition_args other) {
+    public alter_partitions_args(alter_partitions_args other) {
       if (other.isSetDb_name()) {
         this.db_name = other.db_name;
       }
       if (other.isSetTbl_name()) {
         this.tbl_name = other.tbl_name;
       }
-      if (other.isSetNew_part()) {
-        this.new_part = new Partition(other.new_part);
+      if (other.isSetNew_parts()) {
+        List<Partition> __this__new_parts = new ArrayList<Partition>();
+        for (Partition other_element : other.new_parts) {
+          __this__new_parts.add(new Partition(other_element));
+        }
+        this.new_parts = __this__new_parts;
       }
     }
 
-    public alter_partition_args deepCopy() {
-      return new alter_partition_args(this);
+    public alter_partitions_args deepCopy() {
+      return new alter_partitions_args(this);
     }
 
     @Override
     public void clear() {
       this.db_name = null;
       this.tbl_name = null;
-      this.new_part = null;
+      this.new_parts = null;
     }
 
     public String getDb_name() {
@@ -36224,26 +38154,41 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public Partition getNew_part() {
-      return this.new_part;
+    public int getNew_partsSize() {
+      return (this.new_parts == null) ? 0 : this.new_parts.size();
     }
 
-    public void setNew_part(Partition new_part) {
-      this.new_part = new_part;
+    public java.util.Iterator<Partition> getNew_partsIterator() {
+      return (this.new_parts == null) ? null : this.new_parts.iterator();
     }
 
-    public void unsetNew_part() {
-      this.new_part = null;
+    public void addToNew_parts(Partition elem) {
+      if (this.new_parts == null) {
+        this.new_parts = new ArrayList<Partition>();
+      }
+      this.new_parts.add(elem);
     }
 
-    /** Returns true if field new_part is set (has been asigned a value) and false otherwise */
-    public boolean isSetNew_part() {
-      return this.new_part != null;
+    public List<Partition> getNew_parts() {
+      return this.new_parts;
     }
 
-    public void setNew_partIsSet(boolean value) {
+    public void setNew_parts(List<Partition> new_parts) {
+      this.new_parts = new_parts;
+    }
+
+    public void unsetNew_parts() {
+      this.new_parts = null;
+    }
+
+    /** Returns true if field new_parts is set (has been asigned a value) and false otherwise */
+    public boolean isSetNew_parts() {
+      return this.new_parts != null;
+    }
+
+    public void setNew_partsIsSet(boolean value) {
       if (!value) {
-        this.new_part = null;
+        this.new_parts = null;
       }
     }
 
@@ -36265,11 +38210,11 @@ public class ThriftHiveMetastore {
         }
         break;
 
-      case NEW_PART:
+      case NEW_PARTS:
         if (value == null) {
-          unsetNew_part();
+          unsetNew_parts();
         } else {
-          setNew_part((Partition)value);
+          setNew_parts((List<Partition>)value);
         }
         break;
 
@@ -36284,8 +38229,8 @@ public class ThriftHiveMetastore {
       case TBL_NAME:
         return getTbl_name();
 
-      case NEW_PART:
-        return getNew_part();
+      case NEW_PARTS:
+        return getNew_parts();
 
       }
       throw new IllegalStateException();
@@ -36302,8 +38247,8 @@ public class ThriftHiveMetastore {
         return isSetDb_name();
       case TBL_NAME:
         return isSetTbl_name();
-      case NEW_PART:
-        return isSetNew_part();
+      case NEW_PARTS:
+        return isSetNew_parts();
       }
       throw new IllegalStateException();
     }
@@ -36312,12 +38257,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_partition_args)
-        return this.equals((alter_partition_args)that);
+      if (that instanceof alter_partitions_args)
+        return this.equals((alter_partitions_args)that);
       return false;
     }
 
-    public boolean equals(alter_partition_args that) {
+    public boolean equals(alter_partitions_args that) {
       if (that == null)
         return false;
 
@@ -36339,12 +38284,12 @@ public class ThriftHiveMetastore {
           return false;
       }
 
-      boolean this_present_new_part = true && this.isSetNew_part();
-      boolean that_present_new_part = true && that.isSetNew_part();
-      if (this_present_new_part || that_present_new_part) {
-        if (!(this_present_new_part && that_present_new_part))
+      boolean this_present_new_parts = true && this.isSetNew_parts();
+      boolean that_present_new_parts = true && that.isSetNew_parts();
+      if (this_present_new_parts || that_present_new_parts) {
+        if (!(this_present_new_parts && that_present_new_parts))
           return false;
-        if (!this.new_part.equals(that.new_part))
+        if (!this.new_parts.equals(that.new_parts))
           return false;
       }
 
@@ -36356,13 +38301,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(alter_partition_args other) {
+    public int compareTo(alter_partitions_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      alter_partition_args typedOther = (alter_partition_args)other;
+      alter_partitions_args typedOther = (alter_partitions_args)other;
 
       lastComparison = Boolean.valueOf(isSetDb_name()).compareTo(typedOther.isSetDb_name());
       if (lastComparison != 0) {
@@ -36384,12 +38329,12 @@ public class ThriftHiveMetastore {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetNew_part()).compareTo(typedOther.isSetNew_part());
+      lastComparison = Boolean.valueOf(isSetNew_parts()).compareTo(typedOther.isSetNew_parts());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNew_part()) {
-        lastComparison = TBaseHelper.compareTo(this.new_part, typedOther.new_part);
+      if (isSetNew_parts()) {
+        lastComparison = TBaseHelper.compareTo(this.new_parts, typedOther.new_parts);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -36425,10 +38370,20 @@ public class ThriftHiveMetastore {
               TProtocolUtil.skip(iprot, field.type);
             }
             break;
-          case 3: // NEW_PART
-            if (field.type == TType.STRUCT) {
-              this.new_part = new Partition();
-              this.new_part.read(iprot);
+          case 3: // NEW_PARTS
+            if (field.type == TType.LIST) {
+              {
+                TList _list232 = iprot.readListBegin();
+                this.new_parts = new ArrayList<Partition>(_list232.size);
+                for (int _i233 = 0; _i233 < _list232.size; ++_i233)
+                {
+                  Partition _elem234;
+                  _elem234 = new Partition();
+                  _elem234.read(iprot);
+                  this.new_parts.add(_elem234);
+                }
+                iprot.readListEnd();
+              }
             } else { 
               TProtocolUtil.skip(iprot, field.type);
             }
@@ -36456,9 +38411,16 @@ public class ThriftHiveMetastore {
         oprot.writeString(this.tbl_name);
         oprot.writeFieldEnd();
       }
-      if (this.new_part != null) {
-        oprot.writeFieldBegin(NEW_PART_FIELD_DESC);
-        this.new_part.write(oprot);
+      if (this.new_parts != null) {
+        oprot.writeFieldBegin(NEW_PARTS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new TList(TType.STRUCT, this.new_parts.size()));
+          for (Partition _iter235 : this.new_parts)
+          {
+            _iter235.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
         oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
@@ -36467,7 +38429,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_partition_args(");
+      StringBuilder sb = new StringBuilder("alter_partitions_args(");
       boolean first = true;
 
       sb.append("db_name:");
@@ -36486,11 +38448,11 @@ public class ThriftHiveMetastore {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("new_part:");
-      if (this.new_part == null) {
+      sb.append("new_parts:");
+      if (this.new_parts == null) {
         sb.append("null");
       } else {
-        sb.append(this.new_part);
+        sb.append(this.new_parts);
       }
       first = false;
       sb.append(")");
@@ -36503,8 +38465,8 @@ public class ThriftHiveMetastore {
 
   }
 
-  public static class alter_partition_result implements TBase<alter_partition_result, alter_partition_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final TStruct STRUCT_DESC = new TStruct("alter_partition_result");
+  public static class alter_partitions_result implements TBase<alter_partitions_result, alter_partitions_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final TStruct STRUCT_DESC = new TStruct("alter_partitions_result");
 
     private static final TField O1_FIELD_DESC = new TField("o1", TType.STRUCT, (short)1);
     private static final TField O2_FIELD_DESC = new TField("o2", TType.STRUCT, (short)2);
@@ -36583,13 +38545,13 @@ public class ThriftHiveMetastore {
       tmpMap.put(_Fields.O2, new FieldMetaData("o2", TFieldRequirementType.DEFAULT, 
           new FieldValueMetaData(TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(alter_partition_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(alter_partitions_result.class, metaDataMap);
     }
 
-    public alter_partition_result() {
+    public alter_partitions_result() {
     }
 
-    public alter_partition_result(
+    public alter_partitions_result(
       InvalidOperationException o1,
       MetaException o2)
     {
@@ -36601,7 +38563,7 @@ public class ThriftHiveMetastore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_partition_result(alter_partition_result other) {
+    public alter_partitions_result(alter_partitions_result other) {
       if (other.isSetO1()) {
         this.o1 = new InvalidOperationException(other.o1);
       }
@@ -36610,8 +38572,8 @@ public class ThriftHiveMetastore {
       }
     }
 
-    public alter_partition_result deepCopy() {
-      return new alter_partition_result(this);
+    public alter_partitions_result deepCopy() {
+      return new alter_partitions_result(this);
     }
 
     @Override
@@ -36718,12 +38680,12 @@ public class ThriftHiveMetastore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_partition_result)
-        return this.equals((alter_partition_result)that);
+      if (that instanceof alter_partitions_result)
+        return this.equals((alter_partitions_result)that);
       return false;
     }
 
-    public boolean equals(alter_partition_result that) {
+    public boolean equals(alter_partitions_result that) {
       if (that == null)
         return false;
 
@@ -36753,13 +38715,13 @@ public class ThriftHiveMetastore {
       return 0;
     }
 
-    public int compareTo(alter_partition_result other) {
+    public int compareTo(alter_partitions_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      alter_partition_result typedOther = (alter_partition_result)other;
+      alter_partitions_result typedOther = (alter_partitions_result)other;
 
       lastComparison = Boolean.valueOf(isSetO1()).compareTo(typedOther.isSetO1());
       if (lastComparison != 0) {
@@ -36841,7 +38803,7 @@ public class ThriftHiveMetastore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_partition_result(");
+      StringBuilder sb = new StringBuilder("alter_partitions_result(");
       boolean first = true;
 
       sb.append("o1:");
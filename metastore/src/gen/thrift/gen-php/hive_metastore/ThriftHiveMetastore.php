@@ -29,6 +29,7 @@ interface ThriftHiveMetastoreIf extends FacebookServiceIf {
   public function get_table($dbname, $tbl_name);
   public function alter_table($dbname, $tbl_name, $new_tbl);
   public function add_partition($new_part);
+  public function add_partitions($new_parts);
   public function append_partition($db_name, $tbl_name, $part_vals);
   public function append_partition_by_name($db_name, $tbl_name, $part_name);
   public function drop_partition($db_name, $tbl_name, $part_vals, $deleteData);
@@ -44,6 +45,7 @@ interface ThriftHiveMetastoreIf extends FacebookServiceIf {
   public function get_partition_names_ps($db_name, $tbl_name, $part_vals, $max_parts);
   public function get_partitions_by_filter($db_name, $tbl_name, $filter, $max_parts);
   public function alter_partition($db_name, $tbl_name, $new_part);
+  public function alter_partitions($db_name, $tbl_name, $new_parts);
   public function get_config_value($name, $defaultValue);
   public function partition_name_to_vals($part_name);
   public function partition_name_to_spec($part_name);
@@ -1157,6 +1159,66 @@ class ThriftHiveMetastoreClient extends FacebookServiceClient implements ThriftH
     throw new Exception("add_partition failed: unknown result");
   }
 
+  public function add_partitions($new_parts)
+  {
+    $this->send_add_partitions($new_parts);
+    return $this->recv_add_partitions();
+  }
+
+  public function send_add_partitions($new_parts)
+  {
+    $args = new metastore_ThriftHiveMetastore_add_partitions_args();
+    $args->new_parts = $new_parts;
+    $bin_accel = ($this->output_ instanceof TProtocol::$TBINARYPROTOCOLACCELERATED) && function_exists('thrift_protocol_write_binary');
+    if ($bin_accel)
+    {
+      thrift_protocol_write_binary($this->output_, 'add_partitions', TMessageType::CALL, $args, $this->seqid_, $this->output_->isStrictWrite());
+    }
+    else
+    {
+      $this->output_->writeMessageBegin('add_partitions', TMessageType::CALL, $this->seqid_);
+      $args->write($this->output_);
+      $this->output_->writeMessageEnd();
+      $this->output_->getTransport()->flush();
+    }
+  }
+
+  public function recv_add_partitions()
+  {
+    $bin_accel = ($this->input_ instanceof TProtocol::$TBINARYPROTOCOLACCELERATED) && function_exists('thrift_protocol_read_binary');
+    if ($bin_accel) $result = thrift_protocol_read_binary($this->input_, 'metastore_ThriftHiveMetastore_add_partitions_result', $this->input_->isStrictRead());
+    else
+    {
+      $rseqid = 0;
+      $fname = null;
+      $mtype = 0;
+
+      $this->input_->readMessageBegin($fname, $mtype, $rseqid);
+      if ($mtype == TMessageType::EXCEPTION) {
+        $x = new TApplicationException();
+        $x->read($this->input_);
+        $this->input_->readMessageEnd();
+        throw $x;
+      }
+      $result = new metastore_ThriftHiveMetastore_add_partitions_result();
+      $result->read($this->input_);
+      $this->input_->readMessageEnd();
+    }
+    if ($result->success !== null) {
+      return $result->success;
+    }
+    if ($result->o1 !== null) {
+      throw $result->o1;
+    }
+    if ($result->o2 !== null) {
+      throw $result->o2;
+    }
+    if ($result->o3 !== null) {
+      throw $result->o3;
+    }
+    throw new Exception("add_partitions failed: unknown result");
+  }
+
   public function append_partition($db_name, $tbl_name, $part_vals)
   {
     $this->send_append_partition($db_name, $tbl_name, $part_vals);
@@ -2048,6 +2110,62 @@ class ThriftHiveMetastoreClient extends FacebookServiceClient implements ThriftH
     return;
   }
 
+  public function alter_partitions($db_name, $tbl_name, $new_parts)
+  {
+    $this->send_alter_partitions($db_name, $tbl_name, $new_parts);
+    $this->recv_alter_partitions();
+  }
+
+  public function send_alter_partitions($db_name, $tbl_name, $new_parts)
+  {
+    $args = new metastore_ThriftHiveMetastore_alter_partitions_args();
+    $args->db_name = $db_name;
+    $args->tbl_name = $tbl_name;
+    $args->new_parts = $new_parts;
+    $bin_accel = ($this->output_ instanceof TProtocol::$TBINARYPROTOCOLACCELERATED) && function_exists('thrift_protocol_write_binary');
+    if ($bin_accel)
+    {
+      thrift_protocol_write_binary($this->output_, 'alter_partitions', TMessageType::CALL, $args, $this->seqid_, $this->output_->isStrictWrite());
+    }
+    else
+    {
+      $this->output_->writeMessageBegin('alter_partitions', TMessageType::CALL, $this->seqid_);
+      $args->write($this->output_);
+      $this->output_->writeMessageEnd();
+      $this->output_->getTransport()->flush();
+    }
+  }
+
+  public function recv_alter_partitions()
+  {
+    $bin_accel = ($this->input_ instanceof TProtocol::$TBINARYPROTOCOLACCELERATED) && function_exists('thrift_protocol_read_binary');
+    if ($bin_accel) $result = thrift_protocol_read_binary($this->input_, 'metastore_ThriftHiveMetastore_alter_partitions_result', $this->input_->isStrictRead());
+    else
+    {
+      $rseqid = 0;
+      $fname = null;
+      $mtype = 0;
+
+      $this->input_->readMessageBegin($fname, $mtype, $rseqid);
+      if ($mtype == TMessageType::EXCEPTION) {
+        $x = new TApplicationException();
+        $x->read($this->input_);
+        $this->input_->readMessageEnd();
+        throw $x;
+      }
+      $result = new metastore_ThriftHiveMetastore_alter_partitions_result();
+      $result->read($this->input_);
+      $this->input_->readMessageEnd();
+    }
+    if ($result->o1 !== null) {
+      throw $result->o1;
+    }
+    if ($result->o2 !== null) {
+      throw $result->o2;
+    }
+    return;
+  }
+
   public function get_config_value($name, $defaultValue)
   {
     $this->send_get_config_value($name, $defaultValue);
@@ -7274,49 +7392,34 @@ class metastore_ThriftHiveMetastore_add_partition_result {
 
 }
 
-class metastore_ThriftHiveMetastore_append_partition_args {
+class metastore_ThriftHiveMetastore_add_partitions_args {
   static $_TSPEC;
 
-  public $db_name = null;
-  public $tbl_name = null;
-  public $part_vals = null;
+  public $new_parts = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
       self::$_TSPEC = array(
         1 => array(
-          'var' => 'db_name',
-          'type' => TType::STRING,
-          ),
-        2 => array(
-          'var' => 'tbl_name',
-          'type' => TType::STRING,
-          ),
-        3 => array(
-          'var' => 'part_vals',
+          'var' => 'new_parts',
           'type' => TType::LST,
-          'etype' => TType::STRING,
+          'etype' => TType::STRUCT,
           'elem' => array(
-            'type' => TType::STRING,
+            'type' => TType::STRUCT,
+            'class' => 'metastore_Partition',
             ),
           ),
         );
     }
     if (is_array($vals)) {
-      if (isset($vals['db_name'])) {
-        $this->db_name = $vals['db_name'];
-      }
-      if (isset($vals['tbl_name'])) {
-        $this->tbl_name = $vals['tbl_name'];
-      }
-      if (isset($vals['part_vals'])) {
-        $this->part_vals = $vals['part_vals'];
+      if (isset($vals['new_parts'])) {
+        $this->new_parts = $vals['new_parts'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_append_partition_args';
+    return 'ThriftHiveMetastore_add_partitions_args';
   }
 
   public function read($input)
@@ -7335,30 +7438,17 @@ class metastore_ThriftHiveMetastore_append_partition_args {
       switch ($fid)
       {
         case 1:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->db_name);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 2:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->tbl_name);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 3:
           if ($ftype == TType::LST) {
-            $this->part_vals = array();
+            $this->new_parts = array();
             $_size225 = 0;
             $_etype228 = 0;
             $xfer += $input->readListBegin($_etype228, $_size225);
             for ($_i229 = 0; $_i229 < $_size225; ++$_i229)
             {
               $elem230 = null;
-              $xfer += $input->readString($elem230);
-              $this->part_vals []= $elem230;
+              $elem230 = new metastore_Partition();
+              $xfer += $elem230->read($input);
+              $this->new_parts []= $elem230;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -7377,28 +7467,18 @@ class metastore_ThriftHiveMetastore_append_partition_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_args');
-    if ($this->db_name !== null) {
-      $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
-      $xfer += $output->writeString($this->db_name);
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->tbl_name !== null) {
-      $xfer += $output->writeFieldBegin('tbl_name', TType::STRING, 2);
-      $xfer += $output->writeString($this->tbl_name);
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->part_vals !== null) {
-      if (!is_array($this->part_vals)) {
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_add_partitions_args');
+    if ($this->new_parts !== null) {
+      if (!is_array($this->new_parts)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
       }
-      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
+      $xfer += $output->writeFieldBegin('new_parts', TType::LST, 1);
       {
-        $output->writeListBegin(TType::STRING, count($this->part_vals));
+        $output->writeListBegin(TType::STRUCT, count($this->new_parts));
         {
-          foreach ($this->part_vals as $iter231)
+          foreach ($this->new_parts as $iter231)
           {
-            $xfer += $output->writeString($iter231);
+            $xfer += $iter231->write($output);
           }
         }
         $output->writeListEnd();
@@ -7412,7 +7492,7 @@ class metastore_ThriftHiveMetastore_append_partition_args {
 
 }
 
-class metastore_ThriftHiveMetastore_append_partition_result {
+class metastore_ThriftHiveMetastore_add_partitions_result {
   static $_TSPEC;
 
   public $success = null;
@@ -7425,8 +7505,7 @@ class metastore_ThriftHiveMetastore_append_partition_result {
       self::$_TSPEC = array(
         0 => array(
           'var' => 'success',
-          'type' => TType::STRUCT,
-          'class' => 'metastore_Partition',
+          'type' => TType::I32,
           ),
         1 => array(
           'var' => 'o1',
@@ -7462,7 +7541,7 @@ class metastore_ThriftHiveMetastore_append_partition_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_append_partition_result';
+    return 'ThriftHiveMetastore_add_partitions_result';
   }
 
   public function read($input)
@@ -7481,9 +7560,8 @@ class metastore_ThriftHiveMetastore_append_partition_result {
       switch ($fid)
       {
         case 0:
-          if ($ftype == TType::STRUCT) {
-            $this->success = new metastore_Partition();
-            $xfer += $this->success->read($input);
+          if ($ftype == TType::I32) {
+            $xfer += $input->readI32($this->success);
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -7524,13 +7602,10 @@ class metastore_ThriftHiveMetastore_append_partition_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_add_partitions_result');
     if ($this->success !== null) {
-      if (!is_object($this->success)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('success', TType::STRUCT, 0);
-      $xfer += $this->success->write($output);
+      $xfer += $output->writeFieldBegin('success', TType::I32, 0);
+      $xfer += $output->writeI32($this->success);
       $xfer += $output->writeFieldEnd();
     }
     if ($this->o1 !== null) {
@@ -7555,12 +7630,12 @@ class metastore_ThriftHiveMetastore_append_partition_result {
 
 }
 
-class metastore_ThriftHiveMetastore_append_partition_by_name_args {
+class metastore_ThriftHiveMetastore_append_partition_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $part_name = null;
+  public $part_vals = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -7574,8 +7649,12 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'part_name',
-          'type' => TType::STRING,
+          'var' => 'part_vals',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
           ),
         );
     }
@@ -7586,14 +7665,14 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['part_name'])) {
-        $this->part_name = $vals['part_name'];
+      if (isset($vals['part_vals'])) {
+        $this->part_vals = $vals['part_vals'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_append_partition_by_name_args';
+    return 'ThriftHiveMetastore_append_partition_args';
   }
 
   public function read($input)
@@ -7626,8 +7705,18 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_args {
           }
           break;
         case 3:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->part_name);
+          if ($ftype == TType::LST) {
+            $this->part_vals = array();
+            $_size232 = 0;
+            $_etype235 = 0;
+            $xfer += $input->readListBegin($_etype235, $_size232);
+            for ($_i236 = 0; $_i236 < $_size232; ++$_i236)
+            {
+              $elem237 = null;
+              $xfer += $input->readString($elem237);
+              $this->part_vals []= $elem237;
+            }
+            $xfer += $input->readListEnd();
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -7644,7 +7733,7 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_by_name_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -7655,9 +7744,21 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->part_name !== null) {
-      $xfer += $output->writeFieldBegin('part_name', TType::STRING, 3);
-      $xfer += $output->writeString($this->part_name);
+    if ($this->part_vals !== null) {
+      if (!is_array($this->part_vals)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
+      {
+        $output->writeListBegin(TType::STRING, count($this->part_vals));
+        {
+          foreach ($this->part_vals as $iter238)
+          {
+            $xfer += $output->writeString($iter238);
+          }
+        }
+        $output->writeListEnd();
+      }
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -7667,7 +7768,7 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_args {
 
 }
 
-class metastore_ThriftHiveMetastore_append_partition_by_name_result {
+class metastore_ThriftHiveMetastore_append_partition_result {
   static $_TSPEC;
 
   public $success = null;
@@ -7717,7 +7818,7 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_append_partition_by_name_result';
+    return 'ThriftHiveMetastore_append_partition_result';
   }
 
   public function read($input)
@@ -7779,7 +7880,7 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_by_name_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_result');
     if ($this->success !== null) {
       if (!is_object($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
@@ -7810,13 +7911,12 @@ class metastore_ThriftHiveMetastore_append_partition_by_name_result {
 
 }
 
-class metastore_ThriftHiveMetastore_drop_partition_args {
+class metastore_ThriftHiveMetastore_append_partition_by_name_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $part_vals = null;
-  public $deleteData = null;
+  public $part_name = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -7830,16 +7930,8 @@ class metastore_ThriftHiveMetastore_drop_partition_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'part_vals',
-          'type' => TType::LST,
-          'etype' => TType::STRING,
-          'elem' => array(
-            'type' => TType::STRING,
-            ),
-          ),
-        4 => array(
-          'var' => 'deleteData',
-          'type' => TType::BOOL,
+          'var' => 'part_name',
+          'type' => TType::STRING,
           ),
         );
     }
@@ -7850,17 +7942,14 @@ class metastore_ThriftHiveMetastore_drop_partition_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['part_vals'])) {
-        $this->part_vals = $vals['part_vals'];
-      }
-      if (isset($vals['deleteData'])) {
-        $this->deleteData = $vals['deleteData'];
+      if (isset($vals['part_name'])) {
+        $this->part_name = $vals['part_name'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_drop_partition_args';
+    return 'ThriftHiveMetastore_append_partition_by_name_args';
   }
 
   public function read($input)
@@ -7893,25 +7982,8 @@ class metastore_ThriftHiveMetastore_drop_partition_args {
           }
           break;
         case 3:
-          if ($ftype == TType::LST) {
-            $this->part_vals = array();
-            $_size232 = 0;
-            $_etype235 = 0;
-            $xfer += $input->readListBegin($_etype235, $_size232);
-            for ($_i236 = 0; $_i236 < $_size232; ++$_i236)
-            {
-              $elem237 = null;
-              $xfer += $input->readString($elem237);
-              $this->part_vals []= $elem237;
-            }
-            $xfer += $input->readListEnd();
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 4:
-          if ($ftype == TType::BOOL) {
-            $xfer += $input->readBool($this->deleteData);
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->part_name);
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -7928,7 +8000,7 @@ class metastore_ThriftHiveMetastore_drop_partition_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_by_name_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -7939,26 +8011,9 @@ class metastore_ThriftHiveMetastore_drop_partition_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->part_vals !== null) {
-      if (!is_array($this->part_vals)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
-      {
-        $output->writeListBegin(TType::STRING, count($this->part_vals));
-        {
-          foreach ($this->part_vals as $iter238)
-          {
-            $xfer += $output->writeString($iter238);
-          }
-        }
-        $output->writeListEnd();
-      }
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->deleteData !== null) {
-      $xfer += $output->writeFieldBegin('deleteData', TType::BOOL, 4);
-      $xfer += $output->writeBool($this->deleteData);
+    if ($this->part_name !== null) {
+      $xfer += $output->writeFieldBegin('part_name', TType::STRING, 3);
+      $xfer += $output->writeString($this->part_name);
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -7968,28 +8023,35 @@ class metastore_ThriftHiveMetastore_drop_partition_args {
 
 }
 
-class metastore_ThriftHiveMetastore_drop_partition_result {
+class metastore_ThriftHiveMetastore_append_partition_by_name_result {
   static $_TSPEC;
 
   public $success = null;
   public $o1 = null;
   public $o2 = null;
+  public $o3 = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
       self::$_TSPEC = array(
         0 => array(
           'var' => 'success',
-          'type' => TType::BOOL,
+          'type' => TType::STRUCT,
+          'class' => 'metastore_Partition',
           ),
         1 => array(
           'var' => 'o1',
           'type' => TType::STRUCT,
-          'class' => 'metastore_NoSuchObjectException',
+          'class' => 'metastore_InvalidObjectException',
           ),
         2 => array(
           'var' => 'o2',
           'type' => TType::STRUCT,
+          'class' => 'metastore_AlreadyExistsException',
+          ),
+        3 => array(
+          'var' => 'o3',
+          'type' => TType::STRUCT,
           'class' => 'metastore_MetaException',
           ),
         );
@@ -8004,11 +8066,14 @@ class metastore_ThriftHiveMetastore_drop_partition_result {
       if (isset($vals['o2'])) {
         $this->o2 = $vals['o2'];
       }
+      if (isset($vals['o3'])) {
+        $this->o3 = $vals['o3'];
+      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_drop_partition_result';
+    return 'ThriftHiveMetastore_append_partition_by_name_result';
   }
 
   public function read($input)
@@ -8027,15 +8092,16 @@ class metastore_ThriftHiveMetastore_drop_partition_result {
       switch ($fid)
       {
         case 0:
-          if ($ftype == TType::BOOL) {
-            $xfer += $input->readBool($this->success);
+          if ($ftype == TType::STRUCT) {
+            $this->success = new metastore_Partition();
+            $xfer += $this->success->read($input);
           } else {
             $xfer += $input->skip($ftype);
           }
           break;
         case 1:
           if ($ftype == TType::STRUCT) {
-            $this->o1 = new metastore_NoSuchObjectException();
+            $this->o1 = new metastore_InvalidObjectException();
             $xfer += $this->o1->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -8043,12 +8109,20 @@ class metastore_ThriftHiveMetastore_drop_partition_result {
           break;
         case 2:
           if ($ftype == TType::STRUCT) {
-            $this->o2 = new metastore_MetaException();
+            $this->o2 = new metastore_AlreadyExistsException();
             $xfer += $this->o2->read($input);
           } else {
             $xfer += $input->skip($ftype);
           }
           break;
+        case 3:
+          if ($ftype == TType::STRUCT) {
+            $this->o3 = new metastore_MetaException();
+            $xfer += $this->o3->read($input);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -8061,10 +8135,13 @@ class metastore_ThriftHiveMetastore_drop_partition_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_append_partition_by_name_result');
     if ($this->success !== null) {
-      $xfer += $output->writeFieldBegin('success', TType::BOOL, 0);
-      $xfer += $output->writeBool($this->success);
+      if (!is_object($this->success)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('success', TType::STRUCT, 0);
+      $xfer += $this->success->write($output);
       $xfer += $output->writeFieldEnd();
     }
     if ($this->o1 !== null) {
@@ -8077,6 +8154,11 @@ class metastore_ThriftHiveMetastore_drop_partition_result {
       $xfer += $this->o2->write($output);
       $xfer += $output->writeFieldEnd();
     }
+    if ($this->o3 !== null) {
+      $xfer += $output->writeFieldBegin('o3', TType::STRUCT, 3);
+      $xfer += $this->o3->write($output);
+      $xfer += $output->writeFieldEnd();
+    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -8084,12 +8166,12 @@ class metastore_ThriftHiveMetastore_drop_partition_result {
 
 }
 
-class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
+class metastore_ThriftHiveMetastore_drop_partition_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $part_name = null;
+  public $part_vals = null;
   public $deleteData = null;
 
   public function __construct($vals=null) {
@@ -8104,8 +8186,12 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'part_name',
-          'type' => TType::STRING,
+          'var' => 'part_vals',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
           ),
         4 => array(
           'var' => 'deleteData',
@@ -8120,8 +8206,8 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['part_name'])) {
-        $this->part_name = $vals['part_name'];
+      if (isset($vals['part_vals'])) {
+        $this->part_vals = $vals['part_vals'];
       }
       if (isset($vals['deleteData'])) {
         $this->deleteData = $vals['deleteData'];
@@ -8130,7 +8216,7 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_drop_partition_by_name_args';
+    return 'ThriftHiveMetastore_drop_partition_args';
   }
 
   public function read($input)
@@ -8163,8 +8249,18 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
           }
           break;
         case 3:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->part_name);
+          if ($ftype == TType::LST) {
+            $this->part_vals = array();
+            $_size239 = 0;
+            $_etype242 = 0;
+            $xfer += $input->readListBegin($_etype242, $_size239);
+            for ($_i243 = 0; $_i243 < $_size239; ++$_i243)
+            {
+              $elem244 = null;
+              $xfer += $input->readString($elem244);
+              $this->part_vals []= $elem244;
+            }
+            $xfer += $input->readListEnd();
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -8188,7 +8284,7 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_by_name_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -8199,9 +8295,21 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->part_name !== null) {
-      $xfer += $output->writeFieldBegin('part_name', TType::STRING, 3);
-      $xfer += $output->writeString($this->part_name);
+    if ($this->part_vals !== null) {
+      if (!is_array($this->part_vals)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
+      {
+        $output->writeListBegin(TType::STRING, count($this->part_vals));
+        {
+          foreach ($this->part_vals as $iter245)
+          {
+            $xfer += $output->writeString($iter245);
+          }
+        }
+        $output->writeListEnd();
+      }
       $xfer += $output->writeFieldEnd();
     }
     if ($this->deleteData !== null) {
@@ -8216,7 +8324,7 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
 
 }
 
-class metastore_ThriftHiveMetastore_drop_partition_by_name_result {
+class metastore_ThriftHiveMetastore_drop_partition_result {
   static $_TSPEC;
 
   public $success = null;
@@ -8256,7 +8364,7 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_drop_partition_by_name_result';
+    return 'ThriftHiveMetastore_drop_partition_result';
   }
 
   public function read($input)
@@ -8309,7 +8417,7 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_by_name_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_result');
     if ($this->success !== null) {
       $xfer += $output->writeFieldBegin('success', TType::BOOL, 0);
       $xfer += $output->writeBool($this->success);
@@ -8332,12 +8440,13 @@ class metastore_ThriftHiveMetastore_drop_partition_by_name_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_args {
+class metastore_ThriftHiveMetastore_drop_partition_by_name_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $part_vals = null;
+  public $part_name = null;
+  public $deleteData = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -8351,12 +8460,12 @@ class metastore_ThriftHiveMetastore_get_partition_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'part_vals',
-          'type' => TType::LST,
-          'etype' => TType::STRING,
-          'elem' => array(
-            'type' => TType::STRING,
-            ),
+          'var' => 'part_name',
+          'type' => TType::STRING,
+          ),
+        4 => array(
+          'var' => 'deleteData',
+          'type' => TType::BOOL,
           ),
         );
     }
@@ -8367,14 +8476,17 @@ class metastore_ThriftHiveMetastore_get_partition_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['part_vals'])) {
-        $this->part_vals = $vals['part_vals'];
+      if (isset($vals['part_name'])) {
+        $this->part_name = $vals['part_name'];
+      }
+      if (isset($vals['deleteData'])) {
+        $this->deleteData = $vals['deleteData'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_args';
+    return 'ThriftHiveMetastore_drop_partition_by_name_args';
   }
 
   public function read($input)
@@ -8407,18 +8519,15 @@ class metastore_ThriftHiveMetastore_get_partition_args {
           }
           break;
         case 3:
-          if ($ftype == TType::LST) {
-            $this->part_vals = array();
-            $_size239 = 0;
-            $_etype242 = 0;
-            $xfer += $input->readListBegin($_etype242, $_size239);
-            for ($_i243 = 0; $_i243 < $_size239; ++$_i243)
-            {
-              $elem244 = null;
-              $xfer += $input->readString($elem244);
-              $this->part_vals []= $elem244;
-            }
-            $xfer += $input->readListEnd();
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->part_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 4:
+          if ($ftype == TType::BOOL) {
+            $xfer += $input->readBool($this->deleteData);
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -8435,7 +8544,7 @@ class metastore_ThriftHiveMetastore_get_partition_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_by_name_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -8446,21 +8555,14 @@ class metastore_ThriftHiveMetastore_get_partition_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->part_vals !== null) {
-      if (!is_array($this->part_vals)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
-      {
-        $output->writeListBegin(TType::STRING, count($this->part_vals));
-        {
-          foreach ($this->part_vals as $iter245)
-          {
-            $xfer += $output->writeString($iter245);
-          }
-        }
-        $output->writeListEnd();
-      }
+    if ($this->part_name !== null) {
+      $xfer += $output->writeFieldBegin('part_name', TType::STRING, 3);
+      $xfer += $output->writeString($this->part_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->deleteData !== null) {
+      $xfer += $output->writeFieldBegin('deleteData', TType::BOOL, 4);
+      $xfer += $output->writeBool($this->deleteData);
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -8470,7 +8572,7 @@ class metastore_ThriftHiveMetastore_get_partition_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_result {
+class metastore_ThriftHiveMetastore_drop_partition_by_name_result {
   static $_TSPEC;
 
   public $success = null;
@@ -8482,18 +8584,17 @@ class metastore_ThriftHiveMetastore_get_partition_result {
       self::$_TSPEC = array(
         0 => array(
           'var' => 'success',
-          'type' => TType::STRUCT,
-          'class' => 'metastore_Partition',
+          'type' => TType::BOOL,
           ),
         1 => array(
           'var' => 'o1',
           'type' => TType::STRUCT,
-          'class' => 'metastore_MetaException',
+          'class' => 'metastore_NoSuchObjectException',
           ),
         2 => array(
           'var' => 'o2',
           'type' => TType::STRUCT,
-          'class' => 'metastore_NoSuchObjectException',
+          'class' => 'metastore_MetaException',
           ),
         );
     }
@@ -8511,7 +8612,7 @@ class metastore_ThriftHiveMetastore_get_partition_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_result';
+    return 'ThriftHiveMetastore_drop_partition_by_name_result';
   }
 
   public function read($input)
@@ -8530,16 +8631,15 @@ class metastore_ThriftHiveMetastore_get_partition_result {
       switch ($fid)
       {
         case 0:
-          if ($ftype == TType::STRUCT) {
-            $this->success = new metastore_Partition();
-            $xfer += $this->success->read($input);
+          if ($ftype == TType::BOOL) {
+            $xfer += $input->readBool($this->success);
           } else {
             $xfer += $input->skip($ftype);
           }
           break;
         case 1:
           if ($ftype == TType::STRUCT) {
-            $this->o1 = new metastore_MetaException();
+            $this->o1 = new metastore_NoSuchObjectException();
             $xfer += $this->o1->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -8547,7 +8647,7 @@ class metastore_ThriftHiveMetastore_get_partition_result {
           break;
         case 2:
           if ($ftype == TType::STRUCT) {
-            $this->o2 = new metastore_NoSuchObjectException();
+            $this->o2 = new metastore_MetaException();
             $xfer += $this->o2->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -8565,13 +8665,10 @@ class metastore_ThriftHiveMetastore_get_partition_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_drop_partition_by_name_result');
     if ($this->success !== null) {
-      if (!is_object($this->success)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('success', TType::STRUCT, 0);
-      $xfer += $this->success->write($output);
+      $xfer += $output->writeFieldBegin('success', TType::BOOL, 0);
+      $xfer += $output->writeBool($this->success);
       $xfer += $output->writeFieldEnd();
     }
     if ($this->o1 !== null) {
@@ -8591,14 +8688,12 @@ class metastore_ThriftHiveMetastore_get_partition_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
+class metastore_ThriftHiveMetastore_get_partition_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
   public $part_vals = null;
-  public $user_name = null;
-  public $group_names = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -8619,18 +8714,6 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
             'type' => TType::STRING,
             ),
           ),
-        4 => array(
-          'var' => 'user_name',
-          'type' => TType::STRING,
-          ),
-        5 => array(
-          'var' => 'group_names',
-          'type' => TType::LST,
-          'etype' => TType::STRING,
-          'elem' => array(
-            'type' => TType::STRING,
-            ),
-          ),
         );
     }
     if (is_array($vals)) {
@@ -8643,17 +8726,11 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
       if (isset($vals['part_vals'])) {
         $this->part_vals = $vals['part_vals'];
       }
-      if (isset($vals['user_name'])) {
-        $this->user_name = $vals['user_name'];
-      }
-      if (isset($vals['group_names'])) {
-        $this->group_names = $vals['group_names'];
-      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_with_auth_args';
+    return 'ThriftHiveMetastore_get_partition_args';
   }
 
   public function read($input)
@@ -8702,30 +8779,6 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
             $xfer += $input->skip($ftype);
           }
           break;
-        case 4:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->user_name);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 5:
-          if ($ftype == TType::LST) {
-            $this->group_names = array();
-            $_size252 = 0;
-            $_etype255 = 0;
-            $xfer += $input->readListBegin($_etype255, $_size252);
-            for ($_i256 = 0; $_i256 < $_size252; ++$_i256)
-            {
-              $elem257 = null;
-              $xfer += $input->readString($elem257);
-              $this->group_names []= $elem257;
-            }
-            $xfer += $input->readListEnd();
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -8738,7 +8791,7 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_with_auth_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -8757,31 +8810,9 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
       {
         $output->writeListBegin(TType::STRING, count($this->part_vals));
         {
-          foreach ($this->part_vals as $iter258)
-          {
-            $xfer += $output->writeString($iter258);
-          }
-        }
-        $output->writeListEnd();
-      }
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->user_name !== null) {
-      $xfer += $output->writeFieldBegin('user_name', TType::STRING, 4);
-      $xfer += $output->writeString($this->user_name);
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->group_names !== null) {
-      if (!is_array($this->group_names)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('group_names', TType::LST, 5);
-      {
-        $output->writeListBegin(TType::STRING, count($this->group_names));
-        {
-          foreach ($this->group_names as $iter259)
+          foreach ($this->part_vals as $iter252)
           {
-            $xfer += $output->writeString($iter259);
+            $xfer += $output->writeString($iter252);
           }
         }
         $output->writeListEnd();
@@ -8795,7 +8826,7 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_with_auth_result {
+class metastore_ThriftHiveMetastore_get_partition_result {
   static $_TSPEC;
 
   public $success = null;
@@ -8836,7 +8867,7 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_with_auth_result';
+    return 'ThriftHiveMetastore_get_partition_result';
   }
 
   public function read($input)
@@ -8890,7 +8921,7 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_with_auth_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_result');
     if ($this->success !== null) {
       if (!is_object($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
@@ -8916,12 +8947,14 @@ class metastore_ThriftHiveMetastore_get_partition_with_auth_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_by_name_args {
+class metastore_ThriftHiveMetastore_get_partition_with_auth_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $part_name = null;
+  public $part_vals = null;
+  public $user_name = null;
+  public $group_names = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -8935,9 +8968,25 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'part_name',
+          'var' => 'part_vals',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
+          ),
+        4 => array(
+          'var' => 'user_name',
           'type' => TType::STRING,
           ),
+        5 => array(
+          'var' => 'group_names',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
+          ),
         );
     }
     if (is_array($vals)) {
@@ -8947,14 +8996,20 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['part_name'])) {
-        $this->part_name = $vals['part_name'];
+      if (isset($vals['part_vals'])) {
+        $this->part_vals = $vals['part_vals'];
+      }
+      if (isset($vals['user_name'])) {
+        $this->user_name = $vals['user_name'];
+      }
+      if (isset($vals['group_names'])) {
+        $this->group_names = $vals['group_names'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_by_name_args';
+    return 'ThriftHiveMetastore_get_partition_with_auth_args';
   }
 
   public function read($input)
@@ -8987,8 +9042,42 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_args {
           }
           break;
         case 3:
+          if ($ftype == TType::LST) {
+            $this->part_vals = array();
+            $_size253 = 0;
+            $_etype256 = 0;
+            $xfer += $input->readListBegin($_etype256, $_size253);
+            for ($_i257 = 0; $_i257 < $_size253; ++$_i257)
+            {
+              $elem258 = null;
+              $xfer += $input->readString($elem258);
+              $this->part_vals []= $elem258;
+            }
+            $xfer += $input->readListEnd();
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 4:
           if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->part_name);
+            $xfer += $input->readString($this->user_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 5:
+          if ($ftype == TType::LST) {
+            $this->group_names = array();
+            $_size259 = 0;
+            $_etype262 = 0;
+            $xfer += $input->readListBegin($_etype262, $_size259);
+            for ($_i263 = 0; $_i263 < $_size259; ++$_i263)
+            {
+              $elem264 = null;
+              $xfer += $input->readString($elem264);
+              $this->group_names []= $elem264;
+            }
+            $xfer += $input->readListEnd();
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -9005,7 +9094,7 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_by_name_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_with_auth_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -9016,9 +9105,43 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->part_name !== null) {
-      $xfer += $output->writeFieldBegin('part_name', TType::STRING, 3);
-      $xfer += $output->writeString($this->part_name);
+    if ($this->part_vals !== null) {
+      if (!is_array($this->part_vals)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
+      {
+        $output->writeListBegin(TType::STRING, count($this->part_vals));
+        {
+          foreach ($this->part_vals as $iter265)
+          {
+            $xfer += $output->writeString($iter265);
+          }
+        }
+        $output->writeListEnd();
+      }
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->user_name !== null) {
+      $xfer += $output->writeFieldBegin('user_name', TType::STRING, 4);
+      $xfer += $output->writeString($this->user_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->group_names !== null) {
+      if (!is_array($this->group_names)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('group_names', TType::LST, 5);
+      {
+        $output->writeListBegin(TType::STRING, count($this->group_names));
+        {
+          foreach ($this->group_names as $iter266)
+          {
+            $xfer += $output->writeString($iter266);
+          }
+        }
+        $output->writeListEnd();
+      }
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -9028,7 +9151,7 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_by_name_result {
+class metastore_ThriftHiveMetastore_get_partition_with_auth_result {
   static $_TSPEC;
 
   public $success = null;
@@ -9069,7 +9192,7 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_by_name_result';
+    return 'ThriftHiveMetastore_get_partition_with_auth_result';
   }
 
   public function read($input)
@@ -9123,7 +9246,7 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_by_name_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_with_auth_result');
     if ($this->success !== null) {
       if (!is_object($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
@@ -9149,12 +9272,12 @@ class metastore_ThriftHiveMetastore_get_partition_by_name_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_args {
+class metastore_ThriftHiveMetastore_get_partition_by_name_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $max_parts = -1;
+  public $part_name = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -9168,8 +9291,8 @@ class metastore_ThriftHiveMetastore_get_partitions_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'max_parts',
-          'type' => TType::I16,
+          'var' => 'part_name',
+          'type' => TType::STRING,
           ),
         );
     }
@@ -9180,14 +9303,14 @@ class metastore_ThriftHiveMetastore_get_partitions_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['max_parts'])) {
-        $this->max_parts = $vals['max_parts'];
+      if (isset($vals['part_name'])) {
+        $this->part_name = $vals['part_name'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_args';
+    return 'ThriftHiveMetastore_get_partition_by_name_args';
   }
 
   public function read($input)
@@ -9220,8 +9343,8 @@ class metastore_ThriftHiveMetastore_get_partitions_args {
           }
           break;
         case 3:
-          if ($ftype == TType::I16) {
-            $xfer += $input->readI16($this->max_parts);
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->part_name);
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -9238,7 +9361,7 @@ class metastore_ThriftHiveMetastore_get_partitions_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_by_name_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -9249,9 +9372,9 @@ class metastore_ThriftHiveMetastore_get_partitions_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->max_parts !== null) {
-      $xfer += $output->writeFieldBegin('max_parts', TType::I16, 3);
-      $xfer += $output->writeI16($this->max_parts);
+    if ($this->part_name !== null) {
+      $xfer += $output->writeFieldBegin('part_name', TType::STRING, 3);
+      $xfer += $output->writeString($this->part_name);
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -9261,7 +9384,7 @@ class metastore_ThriftHiveMetastore_get_partitions_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_result {
+class metastore_ThriftHiveMetastore_get_partition_by_name_result {
   static $_TSPEC;
 
   public $success = null;
@@ -9273,22 +9396,18 @@ class metastore_ThriftHiveMetastore_get_partitions_result {
       self::$_TSPEC = array(
         0 => array(
           'var' => 'success',
-          'type' => TType::LST,
-          'etype' => TType::STRUCT,
-          'elem' => array(
-            'type' => TType::STRUCT,
-            'class' => 'metastore_Partition',
-            ),
+          'type' => TType::STRUCT,
+          'class' => 'metastore_Partition',
           ),
         1 => array(
           'var' => 'o1',
           'type' => TType::STRUCT,
-          'class' => 'metastore_NoSuchObjectException',
+          'class' => 'metastore_MetaException',
           ),
         2 => array(
           'var' => 'o2',
           'type' => TType::STRUCT,
-          'class' => 'metastore_MetaException',
+          'class' => 'metastore_NoSuchObjectException',
           ),
         );
     }
@@ -9306,7 +9425,7 @@ class metastore_ThriftHiveMetastore_get_partitions_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_result';
+    return 'ThriftHiveMetastore_get_partition_by_name_result';
   }
 
   public function read($input)
@@ -9325,26 +9444,16 @@ class metastore_ThriftHiveMetastore_get_partitions_result {
       switch ($fid)
       {
         case 0:
-          if ($ftype == TType::LST) {
-            $this->success = array();
-            $_size260 = 0;
-            $_etype263 = 0;
-            $xfer += $input->readListBegin($_etype263, $_size260);
-            for ($_i264 = 0; $_i264 < $_size260; ++$_i264)
-            {
-              $elem265 = null;
-              $elem265 = new metastore_Partition();
-              $xfer += $elem265->read($input);
-              $this->success []= $elem265;
-            }
-            $xfer += $input->readListEnd();
+          if ($ftype == TType::STRUCT) {
+            $this->success = new metastore_Partition();
+            $xfer += $this->success->read($input);
           } else {
             $xfer += $input->skip($ftype);
           }
           break;
         case 1:
           if ($ftype == TType::STRUCT) {
-            $this->o1 = new metastore_NoSuchObjectException();
+            $this->o1 = new metastore_MetaException();
             $xfer += $this->o1->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -9352,7 +9461,7 @@ class metastore_ThriftHiveMetastore_get_partitions_result {
           break;
         case 2:
           if ($ftype == TType::STRUCT) {
-            $this->o2 = new metastore_MetaException();
+            $this->o2 = new metastore_NoSuchObjectException();
             $xfer += $this->o2->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -9370,22 +9479,13 @@ class metastore_ThriftHiveMetastore_get_partitions_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_by_name_result');
     if ($this->success !== null) {
-      if (!is_array($this->success)) {
+      if (!is_object($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
       }
-      $xfer += $output->writeFieldBegin('success', TType::LST, 0);
-      {
-        $output->writeListBegin(TType::STRUCT, count($this->success));
-        {
-          foreach ($this->success as $iter266)
-          {
-            $xfer += $iter266->write($output);
-          }
-        }
-        $output->writeListEnd();
-      }
+      $xfer += $output->writeFieldBegin('success', TType::STRUCT, 0);
+      $xfer += $this->success->write($output);
       $xfer += $output->writeFieldEnd();
     }
     if ($this->o1 !== null) {
@@ -9405,14 +9505,12 @@ class metastore_ThriftHiveMetastore_get_partitions_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
+class metastore_ThriftHiveMetastore_get_partitions_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
   public $max_parts = -1;
-  public $user_name = null;
-  public $group_names = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -9429,18 +9527,6 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
           'var' => 'max_parts',
           'type' => TType::I16,
           ),
-        4 => array(
-          'var' => 'user_name',
-          'type' => TType::STRING,
-          ),
-        5 => array(
-          'var' => 'group_names',
-          'type' => TType::LST,
-          'etype' => TType::STRING,
-          'elem' => array(
-            'type' => TType::STRING,
-            ),
-          ),
         );
     }
     if (is_array($vals)) {
@@ -9453,17 +9539,11 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
       if (isset($vals['max_parts'])) {
         $this->max_parts = $vals['max_parts'];
       }
-      if (isset($vals['user_name'])) {
-        $this->user_name = $vals['user_name'];
-      }
-      if (isset($vals['group_names'])) {
-        $this->group_names = $vals['group_names'];
-      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_with_auth_args';
+    return 'ThriftHiveMetastore_get_partitions_args';
   }
 
   public function read($input)
@@ -9502,30 +9582,6 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
             $xfer += $input->skip($ftype);
           }
           break;
-        case 4:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->user_name);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 5:
-          if ($ftype == TType::LST) {
-            $this->group_names = array();
-            $_size267 = 0;
-            $_etype270 = 0;
-            $xfer += $input->readListBegin($_etype270, $_size267);
-            for ($_i271 = 0; $_i271 < $_size267; ++$_i271)
-            {
-              $elem272 = null;
-              $xfer += $input->readString($elem272);
-              $this->group_names []= $elem272;
-            }
-            $xfer += $input->readListEnd();
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -9538,7 +9594,7 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_with_auth_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -9554,28 +9610,6 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
       $xfer += $output->writeI16($this->max_parts);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->user_name !== null) {
-      $xfer += $output->writeFieldBegin('user_name', TType::STRING, 4);
-      $xfer += $output->writeString($this->user_name);
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->group_names !== null) {
-      if (!is_array($this->group_names)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('group_names', TType::LST, 5);
-      {
-        $output->writeListBegin(TType::STRING, count($this->group_names));
-        {
-          foreach ($this->group_names as $iter273)
-          {
-            $xfer += $output->writeString($iter273);
-          }
-        }
-        $output->writeListEnd();
-      }
-      $xfer += $output->writeFieldEnd();
-    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -9583,7 +9617,7 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
+class metastore_ThriftHiveMetastore_get_partitions_result {
   static $_TSPEC;
 
   public $success = null;
@@ -9628,7 +9662,7 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_with_auth_result';
+    return 'ThriftHiveMetastore_get_partitions_result';
   }
 
   public function read($input)
@@ -9649,15 +9683,15 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size274 = 0;
-            $_etype277 = 0;
-            $xfer += $input->readListBegin($_etype277, $_size274);
-            for ($_i278 = 0; $_i278 < $_size274; ++$_i278)
+            $_size267 = 0;
+            $_etype270 = 0;
+            $xfer += $input->readListBegin($_etype270, $_size267);
+            for ($_i271 = 0; $_i271 < $_size267; ++$_i271)
             {
-              $elem279 = null;
-              $elem279 = new metastore_Partition();
-              $xfer += $elem279->read($input);
-              $this->success []= $elem279;
+              $elem272 = null;
+              $elem272 = new metastore_Partition();
+              $xfer += $elem272->read($input);
+              $this->success []= $elem272;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -9692,7 +9726,7 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_with_auth_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_result');
     if ($this->success !== null) {
       if (!is_array($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
@@ -9701,9 +9735,9 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
       {
         $output->writeListBegin(TType::STRUCT, count($this->success));
         {
-          foreach ($this->success as $iter280)
+          foreach ($this->success as $iter273)
           {
-            $xfer += $iter280->write($output);
+            $xfer += $iter273->write($output);
           }
         }
         $output->writeListEnd();
@@ -9727,12 +9761,14 @@ class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_names_args {
+class metastore_ThriftHiveMetastore_get_partitions_with_auth_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
   public $max_parts = -1;
+  public $user_name = null;
+  public $group_names = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -9749,6 +9785,18 @@ class metastore_ThriftHiveMetastore_get_partition_names_args {
           'var' => 'max_parts',
           'type' => TType::I16,
           ),
+        4 => array(
+          'var' => 'user_name',
+          'type' => TType::STRING,
+          ),
+        5 => array(
+          'var' => 'group_names',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
+          ),
         );
     }
     if (is_array($vals)) {
@@ -9761,11 +9809,17 @@ class metastore_ThriftHiveMetastore_get_partition_names_args {
       if (isset($vals['max_parts'])) {
         $this->max_parts = $vals['max_parts'];
       }
+      if (isset($vals['user_name'])) {
+        $this->user_name = $vals['user_name'];
+      }
+      if (isset($vals['group_names'])) {
+        $this->group_names = $vals['group_names'];
+      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_names_args';
+    return 'ThriftHiveMetastore_get_partitions_with_auth_args';
   }
 
   public function read($input)
@@ -9804,6 +9858,30 @@ class metastore_ThriftHiveMetastore_get_partition_names_args {
             $xfer += $input->skip($ftype);
           }
           break;
+        case 4:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->user_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 5:
+          if ($ftype == TType::LST) {
+            $this->group_names = array();
+            $_size274 = 0;
+            $_etype277 = 0;
+            $xfer += $input->readListBegin($_etype277, $_size274);
+            for ($_i278 = 0; $_i278 < $_size274; ++$_i278)
+            {
+              $elem279 = null;
+              $xfer += $input->readString($elem279);
+              $this->group_names []= $elem279;
+            }
+            $xfer += $input->readListEnd();
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -9816,7 +9894,7 @@ class metastore_ThriftHiveMetastore_get_partition_names_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_with_auth_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -9832,6 +9910,28 @@ class metastore_ThriftHiveMetastore_get_partition_names_args {
       $xfer += $output->writeI16($this->max_parts);
       $xfer += $output->writeFieldEnd();
     }
+    if ($this->user_name !== null) {
+      $xfer += $output->writeFieldBegin('user_name', TType::STRING, 4);
+      $xfer += $output->writeString($this->user_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->group_names !== null) {
+      if (!is_array($this->group_names)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('group_names', TType::LST, 5);
+      {
+        $output->writeListBegin(TType::STRING, count($this->group_names));
+        {
+          foreach ($this->group_names as $iter280)
+          {
+            $xfer += $output->writeString($iter280);
+          }
+        }
+        $output->writeListEnd();
+      }
+      $xfer += $output->writeFieldEnd();
+    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -9839,10 +9939,11 @@ class metastore_ThriftHiveMetastore_get_partition_names_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_names_result {
+class metastore_ThriftHiveMetastore_get_partitions_with_auth_result {
   static $_TSPEC;
 
   public $success = null;
+  public $o1 = null;
   public $o2 = null;
 
   public function __construct($vals=null) {
@@ -9851,12 +9952,18 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
         0 => array(
           'var' => 'success',
           'type' => TType::LST,
-          'etype' => TType::STRING,
+          'etype' => TType::STRUCT,
           'elem' => array(
-            'type' => TType::STRING,
+            'type' => TType::STRUCT,
+            'class' => 'metastore_Partition',
             ),
           ),
         1 => array(
+          'var' => 'o1',
+          'type' => TType::STRUCT,
+          'class' => 'metastore_NoSuchObjectException',
+          ),
+        2 => array(
           'var' => 'o2',
           'type' => TType::STRUCT,
           'class' => 'metastore_MetaException',
@@ -9867,6 +9974,9 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
       if (isset($vals['success'])) {
         $this->success = $vals['success'];
       }
+      if (isset($vals['o1'])) {
+        $this->o1 = $vals['o1'];
+      }
       if (isset($vals['o2'])) {
         $this->o2 = $vals['o2'];
       }
@@ -9874,7 +9984,7 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_names_result';
+    return 'ThriftHiveMetastore_get_partitions_with_auth_result';
   }
 
   public function read($input)
@@ -9901,7 +10011,8 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
             for ($_i285 = 0; $_i285 < $_size281; ++$_i285)
             {
               $elem286 = null;
-              $xfer += $input->readString($elem286);
+              $elem286 = new metastore_Partition();
+              $xfer += $elem286->read($input);
               $this->success []= $elem286;
             }
             $xfer += $input->readListEnd();
@@ -9910,6 +10021,14 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
           }
           break;
         case 1:
+          if ($ftype == TType::STRUCT) {
+            $this->o1 = new metastore_NoSuchObjectException();
+            $xfer += $this->o1->read($input);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 2:
           if ($ftype == TType::STRUCT) {
             $this->o2 = new metastore_MetaException();
             $xfer += $this->o2->read($input);
@@ -9929,26 +10048,31 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_with_auth_result');
     if ($this->success !== null) {
       if (!is_array($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
       }
       $xfer += $output->writeFieldBegin('success', TType::LST, 0);
       {
-        $output->writeListBegin(TType::STRING, count($this->success));
+        $output->writeListBegin(TType::STRUCT, count($this->success));
         {
           foreach ($this->success as $iter287)
           {
-            $xfer += $output->writeString($iter287);
+            $xfer += $iter287->write($output);
           }
         }
         $output->writeListEnd();
       }
       $xfer += $output->writeFieldEnd();
     }
+    if ($this->o1 !== null) {
+      $xfer += $output->writeFieldBegin('o1', TType::STRUCT, 1);
+      $xfer += $this->o1->write($output);
+      $xfer += $output->writeFieldEnd();
+    }
     if ($this->o2 !== null) {
-      $xfer += $output->writeFieldBegin('o2', TType::STRUCT, 1);
+      $xfer += $output->writeFieldBegin('o2', TType::STRUCT, 2);
       $xfer += $this->o2->write($output);
       $xfer += $output->writeFieldEnd();
     }
@@ -9959,12 +10083,11 @@ class metastore_ThriftHiveMetastore_get_partition_names_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_ps_args {
+class metastore_ThriftHiveMetastore_get_partition_names_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $part_vals = null;
   public $max_parts = -1;
 
   public function __construct($vals=null) {
@@ -9979,14 +10102,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'part_vals',
-          'type' => TType::LST,
-          'etype' => TType::STRING,
-          'elem' => array(
-            'type' => TType::STRING,
-            ),
-          ),
-        4 => array(
           'var' => 'max_parts',
           'type' => TType::I16,
           ),
@@ -9999,9 +10114,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['part_vals'])) {
-        $this->part_vals = $vals['part_vals'];
-      }
       if (isset($vals['max_parts'])) {
         $this->max_parts = $vals['max_parts'];
       }
@@ -10009,7 +10121,7 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_ps_args';
+    return 'ThriftHiveMetastore_get_partition_names_args';
   }
 
   public function read($input)
@@ -10042,23 +10154,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
           }
           break;
         case 3:
-          if ($ftype == TType::LST) {
-            $this->part_vals = array();
-            $_size288 = 0;
-            $_etype291 = 0;
-            $xfer += $input->readListBegin($_etype291, $_size288);
-            for ($_i292 = 0; $_i292 < $_size288; ++$_i292)
-            {
-              $elem293 = null;
-              $xfer += $input->readString($elem293);
-              $this->part_vals []= $elem293;
-            }
-            $xfer += $input->readListEnd();
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 4:
           if ($ftype == TType::I16) {
             $xfer += $input->readI16($this->max_parts);
           } else {
@@ -10077,7 +10172,7 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -10088,25 +10183,8 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->part_vals !== null) {
-      if (!is_array($this->part_vals)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
-      {
-        $output->writeListBegin(TType::STRING, count($this->part_vals));
-        {
-          foreach ($this->part_vals as $iter294)
-          {
-            $xfer += $output->writeString($iter294);
-          }
-        }
-        $output->writeListEnd();
-      }
-      $xfer += $output->writeFieldEnd();
-    }
     if ($this->max_parts !== null) {
-      $xfer += $output->writeFieldBegin('max_parts', TType::I16, 4);
+      $xfer += $output->writeFieldBegin('max_parts', TType::I16, 3);
       $xfer += $output->writeI16($this->max_parts);
       $xfer += $output->writeFieldEnd();
     }
@@ -10117,11 +10195,11 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_ps_result {
+class metastore_ThriftHiveMetastore_get_partition_names_result {
   static $_TSPEC;
 
   public $success = null;
-  public $o1 = null;
+  public $o2 = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -10129,14 +10207,13 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_result {
         0 => array(
           'var' => 'success',
           'type' => TType::LST,
-          'etype' => TType::STRUCT,
+          'etype' => TType::STRING,
           'elem' => array(
-            'type' => TType::STRUCT,
-            'class' => 'metastore_Partition',
+            'type' => TType::STRING,
             ),
           ),
         1 => array(
-          'var' => 'o1',
+          'var' => 'o2',
           'type' => TType::STRUCT,
           'class' => 'metastore_MetaException',
           ),
@@ -10146,14 +10223,14 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_result {
       if (isset($vals['success'])) {
         $this->success = $vals['success'];
       }
-      if (isset($vals['o1'])) {
-        $this->o1 = $vals['o1'];
+      if (isset($vals['o2'])) {
+        $this->o2 = $vals['o2'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_ps_result';
+    return 'ThriftHiveMetastore_get_partition_names_result';
   }
 
   public function read($input)
@@ -10174,15 +10251,14 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size295 = 0;
-            $_etype298 = 0;
-            $xfer += $input->readListBegin($_etype298, $_size295);
-            for ($_i299 = 0; $_i299 < $_size295; ++$_i299)
+            $_size288 = 0;
+            $_etype291 = 0;
+            $xfer += $input->readListBegin($_etype291, $_size288);
+            for ($_i292 = 0; $_i292 < $_size288; ++$_i292)
             {
-              $elem300 = null;
-              $elem300 = new metastore_Partition();
-              $xfer += $elem300->read($input);
-              $this->success []= $elem300;
+              $elem293 = null;
+              $xfer += $input->readString($elem293);
+              $this->success []= $elem293;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -10191,8 +10267,8 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_result {
           break;
         case 1:
           if ($ftype == TType::STRUCT) {
-            $this->o1 = new metastore_MetaException();
-            $xfer += $this->o1->read($input);
+            $this->o2 = new metastore_MetaException();
+            $xfer += $this->o2->read($input);
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -10209,27 +10285,27 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_result');
     if ($this->success !== null) {
       if (!is_array($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
       }
       $xfer += $output->writeFieldBegin('success', TType::LST, 0);
       {
-        $output->writeListBegin(TType::STRUCT, count($this->success));
+        $output->writeListBegin(TType::STRING, count($this->success));
         {
-          foreach ($this->success as $iter301)
+          foreach ($this->success as $iter294)
           {
-            $xfer += $iter301->write($output);
+            $xfer += $output->writeString($iter294);
           }
         }
         $output->writeListEnd();
       }
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->o1 !== null) {
-      $xfer += $output->writeFieldBegin('o1', TType::STRUCT, 1);
-      $xfer += $this->o1->write($output);
+    if ($this->o2 !== null) {
+      $xfer += $output->writeFieldBegin('o2', TType::STRUCT, 1);
+      $xfer += $this->o2->write($output);
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -10239,15 +10315,13 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
+class metastore_ThriftHiveMetastore_get_partitions_ps_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
   public $part_vals = null;
   public $max_parts = -1;
-  public $user_name = null;
-  public $group_names = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -10272,18 +10346,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
           'var' => 'max_parts',
           'type' => TType::I16,
           ),
-        5 => array(
-          'var' => 'user_name',
-          'type' => TType::STRING,
-          ),
-        6 => array(
-          'var' => 'group_names',
-          'type' => TType::LST,
-          'etype' => TType::STRING,
-          'elem' => array(
-            'type' => TType::STRING,
-            ),
-          ),
         );
     }
     if (is_array($vals)) {
@@ -10299,17 +10361,11 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
       if (isset($vals['max_parts'])) {
         $this->max_parts = $vals['max_parts'];
       }
-      if (isset($vals['user_name'])) {
-        $this->user_name = $vals['user_name'];
-      }
-      if (isset($vals['group_names'])) {
-        $this->group_names = $vals['group_names'];
-      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_ps_with_auth_args';
+    return 'ThriftHiveMetastore_get_partitions_ps_args';
   }
 
   public function read($input)
@@ -10344,14 +10400,14 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
         case 3:
           if ($ftype == TType::LST) {
             $this->part_vals = array();
-            $_size302 = 0;
-            $_etype305 = 0;
-            $xfer += $input->readListBegin($_etype305, $_size302);
-            for ($_i306 = 0; $_i306 < $_size302; ++$_i306)
+            $_size295 = 0;
+            $_etype298 = 0;
+            $xfer += $input->readListBegin($_etype298, $_size295);
+            for ($_i299 = 0; $_i299 < $_size295; ++$_i299)
             {
-              $elem307 = null;
-              $xfer += $input->readString($elem307);
-              $this->part_vals []= $elem307;
+              $elem300 = null;
+              $xfer += $input->readString($elem300);
+              $this->part_vals []= $elem300;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -10365,30 +10421,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
             $xfer += $input->skip($ftype);
           }
           break;
-        case 5:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->user_name);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 6:
-          if ($ftype == TType::LST) {
-            $this->group_names = array();
-            $_size308 = 0;
-            $_etype311 = 0;
-            $xfer += $input->readListBegin($_etype311, $_size308);
-            for ($_i312 = 0; $_i312 < $_size308; ++$_i312)
-            {
-              $elem313 = null;
-              $xfer += $input->readString($elem313);
-              $this->group_names []= $elem313;
-            }
-            $xfer += $input->readListEnd();
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -10401,7 +10433,7 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_with_auth_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -10420,9 +10452,9 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
       {
         $output->writeListBegin(TType::STRING, count($this->part_vals));
         {
-          foreach ($this->part_vals as $iter314)
+          foreach ($this->part_vals as $iter301)
           {
-            $xfer += $output->writeString($iter314);
+            $xfer += $output->writeString($iter301);
           }
         }
         $output->writeListEnd();
@@ -10434,28 +10466,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
       $xfer += $output->writeI16($this->max_parts);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->user_name !== null) {
-      $xfer += $output->writeFieldBegin('user_name', TType::STRING, 5);
-      $xfer += $output->writeString($this->user_name);
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->group_names !== null) {
-      if (!is_array($this->group_names)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('group_names', TType::LST, 6);
-      {
-        $output->writeListBegin(TType::STRING, count($this->group_names));
-        {
-          foreach ($this->group_names as $iter315)
-          {
-            $xfer += $output->writeString($iter315);
-          }
-        }
-        $output->writeListEnd();
-      }
-      $xfer += $output->writeFieldEnd();
-    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -10463,12 +10473,11 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
+class metastore_ThriftHiveMetastore_get_partitions_ps_result {
   static $_TSPEC;
 
   public $success = null;
   public $o1 = null;
-  public $o2 = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -10485,11 +10494,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
         1 => array(
           'var' => 'o1',
           'type' => TType::STRUCT,
-          'class' => 'metastore_NoSuchObjectException',
-          ),
-        2 => array(
-          'var' => 'o2',
-          'type' => TType::STRUCT,
           'class' => 'metastore_MetaException',
           ),
         );
@@ -10501,14 +10505,11 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
       if (isset($vals['o1'])) {
         $this->o1 = $vals['o1'];
       }
-      if (isset($vals['o2'])) {
-        $this->o2 = $vals['o2'];
-      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_ps_with_auth_result';
+    return 'ThriftHiveMetastore_get_partitions_ps_result';
   }
 
   public function read($input)
@@ -10529,15 +10530,15 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size316 = 0;
-            $_etype319 = 0;
-            $xfer += $input->readListBegin($_etype319, $_size316);
-            for ($_i320 = 0; $_i320 < $_size316; ++$_i320)
+            $_size302 = 0;
+            $_etype305 = 0;
+            $xfer += $input->readListBegin($_etype305, $_size302);
+            for ($_i306 = 0; $_i306 < $_size302; ++$_i306)
             {
-              $elem321 = null;
-              $elem321 = new metastore_Partition();
-              $xfer += $elem321->read($input);
-              $this->success []= $elem321;
+              $elem307 = null;
+              $elem307 = new metastore_Partition();
+              $xfer += $elem307->read($input);
+              $this->success []= $elem307;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -10546,20 +10547,12 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
           break;
         case 1:
           if ($ftype == TType::STRUCT) {
-            $this->o1 = new metastore_NoSuchObjectException();
+            $this->o1 = new metastore_MetaException();
             $xfer += $this->o1->read($input);
           } else {
             $xfer += $input->skip($ftype);
           }
           break;
-        case 2:
-          if ($ftype == TType::STRUCT) {
-            $this->o2 = new metastore_MetaException();
-            $xfer += $this->o2->read($input);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -10572,7 +10565,7 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_with_auth_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_result');
     if ($this->success !== null) {
       if (!is_array($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
@@ -10581,9 +10574,9 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
       {
         $output->writeListBegin(TType::STRUCT, count($this->success));
         {
-          foreach ($this->success as $iter322)
+          foreach ($this->success as $iter308)
           {
-            $xfer += $iter322->write($output);
+            $xfer += $iter308->write($output);
           }
         }
         $output->writeListEnd();
@@ -10595,11 +10588,6 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
       $xfer += $this->o1->write($output);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->o2 !== null) {
-      $xfer += $output->writeFieldBegin('o2', TType::STRUCT, 2);
-      $xfer += $this->o2->write($output);
-      $xfer += $output->writeFieldEnd();
-    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -10607,13 +10595,15 @@ class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
+class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
   public $part_vals = null;
   public $max_parts = -1;
+  public $user_name = null;
+  public $group_names = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -10638,6 +10628,18 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
           'var' => 'max_parts',
           'type' => TType::I16,
           ),
+        5 => array(
+          'var' => 'user_name',
+          'type' => TType::STRING,
+          ),
+        6 => array(
+          'var' => 'group_names',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
+          ),
         );
     }
     if (is_array($vals)) {
@@ -10653,11 +10655,17 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
       if (isset($vals['max_parts'])) {
         $this->max_parts = $vals['max_parts'];
       }
+      if (isset($vals['user_name'])) {
+        $this->user_name = $vals['user_name'];
+      }
+      if (isset($vals['group_names'])) {
+        $this->group_names = $vals['group_names'];
+      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_names_ps_args';
+    return 'ThriftHiveMetastore_get_partitions_ps_with_auth_args';
   }
 
   public function read($input)
@@ -10692,14 +10700,14 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
         case 3:
           if ($ftype == TType::LST) {
             $this->part_vals = array();
-            $_size323 = 0;
-            $_etype326 = 0;
-            $xfer += $input->readListBegin($_etype326, $_size323);
-            for ($_i327 = 0; $_i327 < $_size323; ++$_i327)
+            $_size309 = 0;
+            $_etype312 = 0;
+            $xfer += $input->readListBegin($_etype312, $_size309);
+            for ($_i313 = 0; $_i313 < $_size309; ++$_i313)
             {
-              $elem328 = null;
-              $xfer += $input->readString($elem328);
-              $this->part_vals []= $elem328;
+              $elem314 = null;
+              $xfer += $input->readString($elem314);
+              $this->part_vals []= $elem314;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -10713,6 +10721,30 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
             $xfer += $input->skip($ftype);
           }
           break;
+        case 5:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->user_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 6:
+          if ($ftype == TType::LST) {
+            $this->group_names = array();
+            $_size315 = 0;
+            $_etype318 = 0;
+            $xfer += $input->readListBegin($_etype318, $_size315);
+            for ($_i319 = 0; $_i319 < $_size315; ++$_i319)
+            {
+              $elem320 = null;
+              $xfer += $input->readString($elem320);
+              $this->group_names []= $elem320;
+            }
+            $xfer += $input->readListEnd();
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -10725,7 +10757,7 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_ps_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_with_auth_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -10744,9 +10776,9 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
       {
         $output->writeListBegin(TType::STRING, count($this->part_vals));
         {
-          foreach ($this->part_vals as $iter329)
+          foreach ($this->part_vals as $iter321)
           {
-            $xfer += $output->writeString($iter329);
+            $xfer += $output->writeString($iter321);
           }
         }
         $output->writeListEnd();
@@ -10758,6 +10790,28 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
       $xfer += $output->writeI16($this->max_parts);
       $xfer += $output->writeFieldEnd();
     }
+    if ($this->user_name !== null) {
+      $xfer += $output->writeFieldBegin('user_name', TType::STRING, 5);
+      $xfer += $output->writeString($this->user_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->group_names !== null) {
+      if (!is_array($this->group_names)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('group_names', TType::LST, 6);
+      {
+        $output->writeListBegin(TType::STRING, count($this->group_names));
+        {
+          foreach ($this->group_names as $iter322)
+          {
+            $xfer += $output->writeString($iter322);
+          }
+        }
+        $output->writeListEnd();
+      }
+      $xfer += $output->writeFieldEnd();
+    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -10765,11 +10819,12 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
+class metastore_ThriftHiveMetastore_get_partitions_ps_with_auth_result {
   static $_TSPEC;
 
   public $success = null;
   public $o1 = null;
+  public $o2 = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -10777,15 +10832,575 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
         0 => array(
           'var' => 'success',
           'type' => TType::LST,
-          'etype' => TType::STRING,
+          'etype' => TType::STRUCT,
           'elem' => array(
-            'type' => TType::STRING,
+            'type' => TType::STRUCT,
+            'class' => 'metastore_Partition',
             ),
           ),
         1 => array(
           'var' => 'o1',
           'type' => TType::STRUCT,
-          'class' => 'metastore_MetaException',
+          'class' => 'metastore_NoSuchObjectException',
+          ),
+        2 => array(
+          'var' => 'o2',
+          'type' => TType::STRUCT,
+          'class' => 'metastore_MetaException',
+          ),
+        );
+    }
+    if (is_array($vals)) {
+      if (isset($vals['success'])) {
+        $this->success = $vals['success'];
+      }
+      if (isset($vals['o1'])) {
+        $this->o1 = $vals['o1'];
+      }
+      if (isset($vals['o2'])) {
+        $this->o2 = $vals['o2'];
+      }
+    }
+  }
+
+  public function getName() {
+    return 'ThriftHiveMetastore_get_partitions_ps_with_auth_result';
+  }
+
+  public function read($input)
+  {
+    $xfer = 0;
+    $fname = null;
+    $ftype = 0;
+    $fid = 0;
+    $xfer += $input->readStructBegin($fname);
+    while (true)
+    {
+      $xfer += $input->readFieldBegin($fname, $ftype, $fid);
+      if ($ftype == TType::STOP) {
+        break;
+      }
+      switch ($fid)
+      {
+        case 0:
+          if ($ftype == TType::LST) {
+            $this->success = array();
+            $_size323 = 0;
+            $_etype326 = 0;
+            $xfer += $input->readListBegin($_etype326, $_size323);
+            for ($_i327 = 0; $_i327 < $_size323; ++$_i327)
+            {
+              $elem328 = null;
+              $elem328 = new metastore_Partition();
+              $xfer += $elem328->read($input);
+              $this->success []= $elem328;
+            }
+            $xfer += $input->readListEnd();
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 1:
+          if ($ftype == TType::STRUCT) {
+            $this->o1 = new metastore_NoSuchObjectException();
+            $xfer += $this->o1->read($input);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 2:
+          if ($ftype == TType::STRUCT) {
+            $this->o2 = new metastore_MetaException();
+            $xfer += $this->o2->read($input);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        default:
+          $xfer += $input->skip($ftype);
+          break;
+      }
+      $xfer += $input->readFieldEnd();
+    }
+    $xfer += $input->readStructEnd();
+    return $xfer;
+  }
+
+  public function write($output) {
+    $xfer = 0;
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_ps_with_auth_result');
+    if ($this->success !== null) {
+      if (!is_array($this->success)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('success', TType::LST, 0);
+      {
+        $output->writeListBegin(TType::STRUCT, count($this->success));
+        {
+          foreach ($this->success as $iter329)
+          {
+            $xfer += $iter329->write($output);
+          }
+        }
+        $output->writeListEnd();
+      }
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->o1 !== null) {
+      $xfer += $output->writeFieldBegin('o1', TType::STRUCT, 1);
+      $xfer += $this->o1->write($output);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->o2 !== null) {
+      $xfer += $output->writeFieldBegin('o2', TType::STRUCT, 2);
+      $xfer += $this->o2->write($output);
+      $xfer += $output->writeFieldEnd();
+    }
+    $xfer += $output->writeFieldStop();
+    $xfer += $output->writeStructEnd();
+    return $xfer;
+  }
+
+}
+
+class metastore_ThriftHiveMetastore_get_partition_names_ps_args {
+  static $_TSPEC;
+
+  public $db_name = null;
+  public $tbl_name = null;
+  public $part_vals = null;
+  public $max_parts = -1;
+
+  public function __construct($vals=null) {
+    if (!isset(self::$_TSPEC)) {
+      self::$_TSPEC = array(
+        1 => array(
+          'var' => 'db_name',
+          'type' => TType::STRING,
+          ),
+        2 => array(
+          'var' => 'tbl_name',
+          'type' => TType::STRING,
+          ),
+        3 => array(
+          'var' => 'part_vals',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
+          ),
+        4 => array(
+          'var' => 'max_parts',
+          'type' => TType::I16,
+          ),
+        );
+    }
+    if (is_array($vals)) {
+      if (isset($vals['db_name'])) {
+        $this->db_name = $vals['db_name'];
+      }
+      if (isset($vals['tbl_name'])) {
+        $this->tbl_name = $vals['tbl_name'];
+      }
+      if (isset($vals['part_vals'])) {
+        $this->part_vals = $vals['part_vals'];
+      }
+      if (isset($vals['max_parts'])) {
+        $this->max_parts = $vals['max_parts'];
+      }
+    }
+  }
+
+  public function getName() {
+    return 'ThriftHiveMetastore_get_partition_names_ps_args';
+  }
+
+  public function read($input)
+  {
+    $xfer = 0;
+    $fname = null;
+    $ftype = 0;
+    $fid = 0;
+    $xfer += $input->readStructBegin($fname);
+    while (true)
+    {
+      $xfer += $input->readFieldBegin($fname, $ftype, $fid);
+      if ($ftype == TType::STOP) {
+        break;
+      }
+      switch ($fid)
+      {
+        case 1:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->db_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 2:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->tbl_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 3:
+          if ($ftype == TType::LST) {
+            $this->part_vals = array();
+            $_size330 = 0;
+            $_etype333 = 0;
+            $xfer += $input->readListBegin($_etype333, $_size330);
+            for ($_i334 = 0; $_i334 < $_size330; ++$_i334)
+            {
+              $elem335 = null;
+              $xfer += $input->readString($elem335);
+              $this->part_vals []= $elem335;
+            }
+            $xfer += $input->readListEnd();
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 4:
+          if ($ftype == TType::I16) {
+            $xfer += $input->readI16($this->max_parts);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        default:
+          $xfer += $input->skip($ftype);
+          break;
+      }
+      $xfer += $input->readFieldEnd();
+    }
+    $xfer += $input->readStructEnd();
+    return $xfer;
+  }
+
+  public function write($output) {
+    $xfer = 0;
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_ps_args');
+    if ($this->db_name !== null) {
+      $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
+      $xfer += $output->writeString($this->db_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->tbl_name !== null) {
+      $xfer += $output->writeFieldBegin('tbl_name', TType::STRING, 2);
+      $xfer += $output->writeString($this->tbl_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->part_vals !== null) {
+      if (!is_array($this->part_vals)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('part_vals', TType::LST, 3);
+      {
+        $output->writeListBegin(TType::STRING, count($this->part_vals));
+        {
+          foreach ($this->part_vals as $iter336)
+          {
+            $xfer += $output->writeString($iter336);
+          }
+        }
+        $output->writeListEnd();
+      }
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->max_parts !== null) {
+      $xfer += $output->writeFieldBegin('max_parts', TType::I16, 4);
+      $xfer += $output->writeI16($this->max_parts);
+      $xfer += $output->writeFieldEnd();
+    }
+    $xfer += $output->writeFieldStop();
+    $xfer += $output->writeStructEnd();
+    return $xfer;
+  }
+
+}
+
+class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
+  static $_TSPEC;
+
+  public $success = null;
+  public $o1 = null;
+
+  public function __construct($vals=null) {
+    if (!isset(self::$_TSPEC)) {
+      self::$_TSPEC = array(
+        0 => array(
+          'var' => 'success',
+          'type' => TType::LST,
+          'etype' => TType::STRING,
+          'elem' => array(
+            'type' => TType::STRING,
+            ),
+          ),
+        1 => array(
+          'var' => 'o1',
+          'type' => TType::STRUCT,
+          'class' => 'metastore_MetaException',
+          ),
+        );
+    }
+    if (is_array($vals)) {
+      if (isset($vals['success'])) {
+        $this->success = $vals['success'];
+      }
+      if (isset($vals['o1'])) {
+        $this->o1 = $vals['o1'];
+      }
+    }
+  }
+
+  public function getName() {
+    return 'ThriftHiveMetastore_get_partition_names_ps_result';
+  }
+
+  public function read($input)
+  {
+    $xfer = 0;
+    $fname = null;
+    $ftype = 0;
+    $fid = 0;
+    $xfer += $input->readStructBegin($fname);
+    while (true)
+    {
+      $xfer += $input->readFieldBegin($fname, $ftype, $fid);
+      if ($ftype == TType::STOP) {
+        break;
+      }
+      switch ($fid)
+      {
+        case 0:
+          if ($ftype == TType::LST) {
+            $this->success = array();
+            $_size337 = 0;
+            $_etype340 = 0;
+            $xfer += $input->readListBegin($_etype340, $_size337);
+            for ($_i341 = 0; $_i341 < $_size337; ++$_i341)
+            {
+              $elem342 = null;
+              $xfer += $input->readString($elem342);
+              $this->success []= $elem342;
+            }
+            $xfer += $input->readListEnd();
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 1:
+          if ($ftype == TType::STRUCT) {
+            $this->o1 = new metastore_MetaException();
+            $xfer += $this->o1->read($input);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        default:
+          $xfer += $input->skip($ftype);
+          break;
+      }
+      $xfer += $input->readFieldEnd();
+    }
+    $xfer += $input->readStructEnd();
+    return $xfer;
+  }
+
+  public function write($output) {
+    $xfer = 0;
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_ps_result');
+    if ($this->success !== null) {
+      if (!is_array($this->success)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('success', TType::LST, 0);
+      {
+        $output->writeListBegin(TType::STRING, count($this->success));
+        {
+          foreach ($this->success as $iter343)
+          {
+            $xfer += $output->writeString($iter343);
+          }
+        }
+        $output->writeListEnd();
+      }
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->o1 !== null) {
+      $xfer += $output->writeFieldBegin('o1', TType::STRUCT, 1);
+      $xfer += $this->o1->write($output);
+      $xfer += $output->writeFieldEnd();
+    }
+    $xfer += $output->writeFieldStop();
+    $xfer += $output->writeStructEnd();
+    return $xfer;
+  }
+
+}
+
+class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
+  static $_TSPEC;
+
+  public $db_name = null;
+  public $tbl_name = null;
+  public $filter = null;
+  public $max_parts = -1;
+
+  public function __construct($vals=null) {
+    if (!isset(self::$_TSPEC)) {
+      self::$_TSPEC = array(
+        1 => array(
+          'var' => 'db_name',
+          'type' => TType::STRING,
+          ),
+        2 => array(
+          'var' => 'tbl_name',
+          'type' => TType::STRING,
+          ),
+        3 => array(
+          'var' => 'filter',
+          'type' => TType::STRING,
+          ),
+        4 => array(
+          'var' => 'max_parts',
+          'type' => TType::I16,
+          ),
+        );
+    }
+    if (is_array($vals)) {
+      if (isset($vals['db_name'])) {
+        $this->db_name = $vals['db_name'];
+      }
+      if (isset($vals['tbl_name'])) {
+        $this->tbl_name = $vals['tbl_name'];
+      }
+      if (isset($vals['filter'])) {
+        $this->filter = $vals['filter'];
+      }
+      if (isset($vals['max_parts'])) {
+        $this->max_parts = $vals['max_parts'];
+      }
+    }
+  }
+
+  public function getName() {
+    return 'ThriftHiveMetastore_get_partitions_by_filter_args';
+  }
+
+  public function read($input)
+  {
+    $xfer = 0;
+    $fname = null;
+    $ftype = 0;
+    $fid = 0;
+    $xfer += $input->readStructBegin($fname);
+    while (true)
+    {
+      $xfer += $input->readFieldBegin($fname, $ftype, $fid);
+      if ($ftype == TType::STOP) {
+        break;
+      }
+      switch ($fid)
+      {
+        case 1:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->db_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 2:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->tbl_name);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 3:
+          if ($ftype == TType::STRING) {
+            $xfer += $input->readString($this->filter);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        case 4:
+          if ($ftype == TType::I16) {
+            $xfer += $input->readI16($this->max_parts);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
+        default:
+          $xfer += $input->skip($ftype);
+          break;
+      }
+      $xfer += $input->readFieldEnd();
+    }
+    $xfer += $input->readStructEnd();
+    return $xfer;
+  }
+
+  public function write($output) {
+    $xfer = 0;
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_by_filter_args');
+    if ($this->db_name !== null) {
+      $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
+      $xfer += $output->writeString($this->db_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->tbl_name !== null) {
+      $xfer += $output->writeFieldBegin('tbl_name', TType::STRING, 2);
+      $xfer += $output->writeString($this->tbl_name);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->filter !== null) {
+      $xfer += $output->writeFieldBegin('filter', TType::STRING, 3);
+      $xfer += $output->writeString($this->filter);
+      $xfer += $output->writeFieldEnd();
+    }
+    if ($this->max_parts !== null) {
+      $xfer += $output->writeFieldBegin('max_parts', TType::I16, 4);
+      $xfer += $output->writeI16($this->max_parts);
+      $xfer += $output->writeFieldEnd();
+    }
+    $xfer += $output->writeFieldStop();
+    $xfer += $output->writeStructEnd();
+    return $xfer;
+  }
+
+}
+
+class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
+  static $_TSPEC;
+
+  public $success = null;
+  public $o1 = null;
+  public $o2 = null;
+
+  public function __construct($vals=null) {
+    if (!isset(self::$_TSPEC)) {
+      self::$_TSPEC = array(
+        0 => array(
+          'var' => 'success',
+          'type' => TType::LST,
+          'etype' => TType::STRUCT,
+          'elem' => array(
+            'type' => TType::STRUCT,
+            'class' => 'metastore_Partition',
+            ),
+          ),
+        1 => array(
+          'var' => 'o1',
+          'type' => TType::STRUCT,
+          'class' => 'metastore_MetaException',
+          ),
+        2 => array(
+          'var' => 'o2',
+          'type' => TType::STRUCT,
+          'class' => 'metastore_NoSuchObjectException',
           ),
         );
     }
@@ -10796,11 +11411,14 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
       if (isset($vals['o1'])) {
         $this->o1 = $vals['o1'];
       }
+      if (isset($vals['o2'])) {
+        $this->o2 = $vals['o2'];
+      }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partition_names_ps_result';
+    return 'ThriftHiveMetastore_get_partitions_by_filter_result';
   }
 
   public function read($input)
@@ -10821,14 +11439,15 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size330 = 0;
-            $_etype333 = 0;
-            $xfer += $input->readListBegin($_etype333, $_size330);
-            for ($_i334 = 0; $_i334 < $_size330; ++$_i334)
+            $_size344 = 0;
+            $_etype347 = 0;
+            $xfer += $input->readListBegin($_etype347, $_size344);
+            for ($_i348 = 0; $_i348 < $_size344; ++$_i348)
             {
-              $elem335 = null;
-              $xfer += $input->readString($elem335);
-              $this->success []= $elem335;
+              $elem349 = null;
+              $elem349 = new metastore_Partition();
+              $xfer += $elem349->read($input);
+              $this->success []= $elem349;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -10843,6 +11462,14 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
             $xfer += $input->skip($ftype);
           }
           break;
+        case 2:
+          if ($ftype == TType::STRUCT) {
+            $this->o2 = new metastore_NoSuchObjectException();
+            $xfer += $this->o2->read($input);
+          } else {
+            $xfer += $input->skip($ftype);
+          }
+          break;
         default:
           $xfer += $input->skip($ftype);
           break;
@@ -10855,18 +11482,18 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partition_names_ps_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_by_filter_result');
     if ($this->success !== null) {
       if (!is_array($this->success)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
       }
       $xfer += $output->writeFieldBegin('success', TType::LST, 0);
       {
-        $output->writeListBegin(TType::STRING, count($this->success));
+        $output->writeListBegin(TType::STRUCT, count($this->success));
         {
-          foreach ($this->success as $iter336)
+          foreach ($this->success as $iter350)
           {
-            $xfer += $output->writeString($iter336);
+            $xfer += $iter350->write($output);
           }
         }
         $output->writeListEnd();
@@ -10878,6 +11505,11 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
       $xfer += $this->o1->write($output);
       $xfer += $output->writeFieldEnd();
     }
+    if ($this->o2 !== null) {
+      $xfer += $output->writeFieldBegin('o2', TType::STRUCT, 2);
+      $xfer += $this->o2->write($output);
+      $xfer += $output->writeFieldEnd();
+    }
     $xfer += $output->writeFieldStop();
     $xfer += $output->writeStructEnd();
     return $xfer;
@@ -10885,13 +11517,12 @@ class metastore_ThriftHiveMetastore_get_partition_names_ps_result {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
+class metastore_ThriftHiveMetastore_alter_partition_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $filter = null;
-  public $max_parts = -1;
+  public $new_part = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -10905,12 +11536,9 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'filter',
-          'type' => TType::STRING,
-          ),
-        4 => array(
-          'var' => 'max_parts',
-          'type' => TType::I16,
+          'var' => 'new_part',
+          'type' => TType::STRUCT,
+          'class' => 'metastore_Partition',
           ),
         );
     }
@@ -10921,17 +11549,14 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['filter'])) {
-        $this->filter = $vals['filter'];
-      }
-      if (isset($vals['max_parts'])) {
-        $this->max_parts = $vals['max_parts'];
+      if (isset($vals['new_part'])) {
+        $this->new_part = $vals['new_part'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_by_filter_args';
+    return 'ThriftHiveMetastore_alter_partition_args';
   }
 
   public function read($input)
@@ -10964,15 +11589,9 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
           }
           break;
         case 3:
-          if ($ftype == TType::STRING) {
-            $xfer += $input->readString($this->filter);
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
-        case 4:
-          if ($ftype == TType::I16) {
-            $xfer += $input->readI16($this->max_parts);
+          if ($ftype == TType::STRUCT) {
+            $this->new_part = new metastore_Partition();
+            $xfer += $this->new_part->read($input);
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -10989,7 +11608,7 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_by_filter_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_alter_partition_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -11000,14 +11619,12 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->filter !== null) {
-      $xfer += $output->writeFieldBegin('filter', TType::STRING, 3);
-      $xfer += $output->writeString($this->filter);
-      $xfer += $output->writeFieldEnd();
-    }
-    if ($this->max_parts !== null) {
-      $xfer += $output->writeFieldBegin('max_parts', TType::I16, 4);
-      $xfer += $output->writeI16($this->max_parts);
+    if ($this->new_part !== null) {
+      if (!is_object($this->new_part)) {
+        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
+      }
+      $xfer += $output->writeFieldBegin('new_part', TType::STRUCT, 3);
+      $xfer += $this->new_part->write($output);
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -11017,41 +11634,28 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_args {
 
 }
 
-class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
+class metastore_ThriftHiveMetastore_alter_partition_result {
   static $_TSPEC;
 
-  public $success = null;
   public $o1 = null;
   public $o2 = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
       self::$_TSPEC = array(
-        0 => array(
-          'var' => 'success',
-          'type' => TType::LST,
-          'etype' => TType::STRUCT,
-          'elem' => array(
-            'type' => TType::STRUCT,
-            'class' => 'metastore_Partition',
-            ),
-          ),
         1 => array(
           'var' => 'o1',
           'type' => TType::STRUCT,
-          'class' => 'metastore_MetaException',
+          'class' => 'metastore_InvalidOperationException',
           ),
         2 => array(
           'var' => 'o2',
           'type' => TType::STRUCT,
-          'class' => 'metastore_NoSuchObjectException',
+          'class' => 'metastore_MetaException',
           ),
         );
     }
     if (is_array($vals)) {
-      if (isset($vals['success'])) {
-        $this->success = $vals['success'];
-      }
       if (isset($vals['o1'])) {
         $this->o1 = $vals['o1'];
       }
@@ -11062,7 +11666,7 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_get_partitions_by_filter_result';
+    return 'ThriftHiveMetastore_alter_partition_result';
   }
 
   public function read($input)
@@ -11080,27 +11684,9 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
       }
       switch ($fid)
       {
-        case 0:
-          if ($ftype == TType::LST) {
-            $this->success = array();
-            $_size337 = 0;
-            $_etype340 = 0;
-            $xfer += $input->readListBegin($_etype340, $_size337);
-            for ($_i341 = 0; $_i341 < $_size337; ++$_i341)
-            {
-              $elem342 = null;
-              $elem342 = new metastore_Partition();
-              $xfer += $elem342->read($input);
-              $this->success []= $elem342;
-            }
-            $xfer += $input->readListEnd();
-          } else {
-            $xfer += $input->skip($ftype);
-          }
-          break;
         case 1:
           if ($ftype == TType::STRUCT) {
-            $this->o1 = new metastore_MetaException();
+            $this->o1 = new metastore_InvalidOperationException();
             $xfer += $this->o1->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -11108,7 +11694,7 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
           break;
         case 2:
           if ($ftype == TType::STRUCT) {
-            $this->o2 = new metastore_NoSuchObjectException();
+            $this->o2 = new metastore_MetaException();
             $xfer += $this->o2->read($input);
           } else {
             $xfer += $input->skip($ftype);
@@ -11126,24 +11712,7 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_get_partitions_by_filter_result');
-    if ($this->success !== null) {
-      if (!is_array($this->success)) {
-        throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
-      }
-      $xfer += $output->writeFieldBegin('success', TType::LST, 0);
-      {
-        $output->writeListBegin(TType::STRUCT, count($this->success));
-        {
-          foreach ($this->success as $iter343)
-          {
-            $xfer += $iter343->write($output);
-          }
-        }
-        $output->writeListEnd();
-      }
-      $xfer += $output->writeFieldEnd();
-    }
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_alter_partition_result');
     if ($this->o1 !== null) {
       $xfer += $output->writeFieldBegin('o1', TType::STRUCT, 1);
       $xfer += $this->o1->write($output);
@@ -11161,12 +11730,12 @@ class metastore_ThriftHiveMetastore_get_partitions_by_filter_result {
 
 }
 
-class metastore_ThriftHiveMetastore_alter_partition_args {
+class metastore_ThriftHiveMetastore_alter_partitions_args {
   static $_TSPEC;
 
   public $db_name = null;
   public $tbl_name = null;
-  public $new_part = null;
+  public $new_parts = null;
 
   public function __construct($vals=null) {
     if (!isset(self::$_TSPEC)) {
@@ -11180,9 +11749,13 @@ class metastore_ThriftHiveMetastore_alter_partition_args {
           'type' => TType::STRING,
           ),
         3 => array(
-          'var' => 'new_part',
-          'type' => TType::STRUCT,
-          'class' => 'metastore_Partition',
+          'var' => 'new_parts',
+          'type' => TType::LST,
+          'etype' => TType::STRUCT,
+          'elem' => array(
+            'type' => TType::STRUCT,
+            'class' => 'metastore_Partition',
+            ),
           ),
         );
     }
@@ -11193,14 +11766,14 @@ class metastore_ThriftHiveMetastore_alter_partition_args {
       if (isset($vals['tbl_name'])) {
         $this->tbl_name = $vals['tbl_name'];
       }
-      if (isset($vals['new_part'])) {
-        $this->new_part = $vals['new_part'];
+      if (isset($vals['new_parts'])) {
+        $this->new_parts = $vals['new_parts'];
       }
     }
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_alter_partition_args';
+    return 'ThriftHiveMetastore_alter_partitions_args';
   }
 
   public function read($input)
@@ -11233,9 +11806,19 @@ class metastore_ThriftHiveMetastore_alter_partition_args {
           }
           break;
         case 3:
-          if ($ftype == TType::STRUCT) {
-            $this->new_part = new metastore_Partition();
-            $xfer += $this->new_part->read($input);
+          if ($ftype == TType::LST) {
+            $this->new_parts = array();
+            $_size351 = 0;
+            $_etype354 = 0;
+            $xfer += $input->readListBegin($_etype354, $_size351);
+            for ($_i355 = 0; $_i355 < $_size351; ++$_i355)
+            {
+              $elem356 = null;
+              $elem356 = new metastore_Partition();
+              $xfer += $elem356->read($input);
+              $this->new_parts []= $elem356;
+            }
+            $xfer += $input->readListEnd();
           } else {
             $xfer += $input->skip($ftype);
           }
@@ -11252,7 +11835,7 @@ class metastore_ThriftHiveMetastore_alter_partition_args {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_alter_partition_args');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_alter_partitions_args');
     if ($this->db_name !== null) {
       $xfer += $output->writeFieldBegin('db_name', TType::STRING, 1);
       $xfer += $output->writeString($this->db_name);
@@ -11263,12 +11846,21 @@ class metastore_ThriftHiveMetastore_alter_partition_args {
       $xfer += $output->writeString($this->tbl_name);
       $xfer += $output->writeFieldEnd();
     }
-    if ($this->new_part !== null) {
-      if (!is_object($this->new_part)) {
+    if ($this->new_parts !== null) {
+      if (!is_array($this->new_parts)) {
         throw new TProtocolException('Bad type in structure.', TProtocolException::INVALID_DATA);
       }
-      $xfer += $output->writeFieldBegin('new_part', TType::STRUCT, 3);
-      $xfer += $this->new_part->write($output);
+      $xfer += $output->writeFieldBegin('new_parts', TType::LST, 3);
+      {
+        $output->writeListBegin(TType::STRUCT, count($this->new_parts));
+        {
+          foreach ($this->new_parts as $iter357)
+          {
+            $xfer += $iter357->write($output);
+          }
+        }
+        $output->writeListEnd();
+      }
       $xfer += $output->writeFieldEnd();
     }
     $xfer += $output->writeFieldStop();
@@ -11278,7 +11870,7 @@ class metastore_ThriftHiveMetastore_alter_partition_args {
 
 }
 
-class metastore_ThriftHiveMetastore_alter_partition_result {
+class metastore_ThriftHiveMetastore_alter_partitions_result {
   static $_TSPEC;
 
   public $o1 = null;
@@ -11310,7 +11902,7 @@ class metastore_ThriftHiveMetastore_alter_partition_result {
   }
 
   public function getName() {
-    return 'ThriftHiveMetastore_alter_partition_result';
+    return 'ThriftHiveMetastore_alter_partitions_result';
   }
 
   public function read($input)
@@ -11356,7 +11948,7 @@ class metastore_ThriftHiveMetastore_alter_partition_result {
 
   public function write($output) {
     $xfer = 0;
-    $xfer += $output->writeStructBegin('ThriftHiveMetastore_alter_partition_result');
+    $xfer += $output->writeStructBegin('ThriftHiveMetastore_alter_partitions_result');
     if ($this->o1 !== null) {
       $xfer += $output->writeFieldBegin('o1', TType::STRUCT, 1);
       $xfer += $this->o1->write($output);
@@ -11688,14 +12280,14 @@ class metastore_ThriftHiveMetastore_partition_name_to_vals_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size344 = 0;
-            $_etype347 = 0;
-            $xfer += $input->readListBegin($_etype347, $_size344);
-            for ($_i348 = 0; $_i348 < $_size344; ++$_i348)
+            $_size358 = 0;
+            $_etype361 = 0;
+            $xfer += $input->readListBegin($_etype361, $_size358);
+            for ($_i362 = 0; $_i362 < $_size358; ++$_i362)
             {
-              $elem349 = null;
-              $xfer += $input->readString($elem349);
-              $this->success []= $elem349;
+              $elem363 = null;
+              $xfer += $input->readString($elem363);
+              $this->success []= $elem363;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -11731,9 +12323,9 @@ class metastore_ThriftHiveMetastore_partition_name_to_vals_result {
       {
         $output->writeListBegin(TType::STRING, count($this->success));
         {
-          foreach ($this->success as $iter350)
+          foreach ($this->success as $iter364)
           {
-            $xfer += $output->writeString($iter350);
+            $xfer += $output->writeString($iter364);
           }
         }
         $output->writeListEnd();
@@ -11884,17 +12476,17 @@ class metastore_ThriftHiveMetastore_partition_name_to_spec_result {
         case 0:
           if ($ftype == TType::MAP) {
             $this->success = array();
-            $_size351 = 0;
-            $_ktype352 = 0;
-            $_vtype353 = 0;
-            $xfer += $input->readMapBegin($_ktype352, $_vtype353, $_size351);
-            for ($_i355 = 0; $_i355 < $_size351; ++$_i355)
+            $_size365 = 0;
+            $_ktype366 = 0;
+            $_vtype367 = 0;
+            $xfer += $input->readMapBegin($_ktype366, $_vtype367, $_size365);
+            for ($_i369 = 0; $_i369 < $_size365; ++$_i369)
             {
-              $key356 = '';
-              $val357 = '';
-              $xfer += $input->readString($key356);
-              $xfer += $input->readString($val357);
-              $this->success[$key356] = $val357;
+              $key370 = '';
+              $val371 = '';
+              $xfer += $input->readString($key370);
+              $xfer += $input->readString($val371);
+              $this->success[$key370] = $val371;
             }
             $xfer += $input->readMapEnd();
           } else {
@@ -11930,10 +12522,10 @@ class metastore_ThriftHiveMetastore_partition_name_to_spec_result {
       {
         $output->writeMapBegin(TType::STRING, TType::STRING, count($this->success));
         {
-          foreach ($this->success as $kiter358 => $viter359)
+          foreach ($this->success as $kiter372 => $viter373)
           {
-            $xfer += $output->writeString($kiter358);
-            $xfer += $output->writeString($viter359);
+            $xfer += $output->writeString($kiter372);
+            $xfer += $output->writeString($viter373);
           }
         }
         $output->writeMapEnd();
@@ -13089,15 +13681,15 @@ class metastore_ThriftHiveMetastore_get_indexes_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size360 = 0;
-            $_etype363 = 0;
-            $xfer += $input->readListBegin($_etype363, $_size360);
-            for ($_i364 = 0; $_i364 < $_size360; ++$_i364)
+            $_size374 = 0;
+            $_etype377 = 0;
+            $xfer += $input->readListBegin($_etype377, $_size374);
+            for ($_i378 = 0; $_i378 < $_size374; ++$_i378)
             {
-              $elem365 = null;
-              $elem365 = new metastore_Index();
-              $xfer += $elem365->read($input);
-              $this->success []= $elem365;
+              $elem379 = null;
+              $elem379 = new metastore_Index();
+              $xfer += $elem379->read($input);
+              $this->success []= $elem379;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -13141,9 +13733,9 @@ class metastore_ThriftHiveMetastore_get_indexes_result {
       {
         $output->writeListBegin(TType::STRUCT, count($this->success));
         {
-          foreach ($this->success as $iter366)
+          foreach ($this->success as $iter380)
           {
-            $xfer += $iter366->write($output);
+            $xfer += $iter380->write($output);
           }
         }
         $output->writeListEnd();
@@ -13335,14 +13927,14 @@ class metastore_ThriftHiveMetastore_get_index_names_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size367 = 0;
-            $_etype370 = 0;
-            $xfer += $input->readListBegin($_etype370, $_size367);
-            for ($_i371 = 0; $_i371 < $_size367; ++$_i371)
+            $_size381 = 0;
+            $_etype384 = 0;
+            $xfer += $input->readListBegin($_etype384, $_size381);
+            for ($_i385 = 0; $_i385 < $_size381; ++$_i385)
             {
-              $elem372 = null;
-              $xfer += $input->readString($elem372);
-              $this->success []= $elem372;
+              $elem386 = null;
+              $xfer += $input->readString($elem386);
+              $this->success []= $elem386;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -13378,9 +13970,9 @@ class metastore_ThriftHiveMetastore_get_index_names_result {
       {
         $output->writeListBegin(TType::STRING, count($this->success));
         {
-          foreach ($this->success as $iter373)
+          foreach ($this->success as $iter387)
           {
-            $xfer += $output->writeString($iter373);
+            $xfer += $output->writeString($iter387);
           }
         }
         $output->writeListEnd();
@@ -13842,14 +14434,14 @@ class metastore_ThriftHiveMetastore_get_role_names_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size374 = 0;
-            $_etype377 = 0;
-            $xfer += $input->readListBegin($_etype377, $_size374);
-            for ($_i378 = 0; $_i378 < $_size374; ++$_i378)
+            $_size388 = 0;
+            $_etype391 = 0;
+            $xfer += $input->readListBegin($_etype391, $_size388);
+            for ($_i392 = 0; $_i392 < $_size388; ++$_i392)
             {
-              $elem379 = null;
-              $xfer += $input->readString($elem379);
-              $this->success []= $elem379;
+              $elem393 = null;
+              $xfer += $input->readString($elem393);
+              $this->success []= $elem393;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -13885,9 +14477,9 @@ class metastore_ThriftHiveMetastore_get_role_names_result {
       {
         $output->writeListBegin(TType::STRING, count($this->success));
         {
-          foreach ($this->success as $iter380)
+          foreach ($this->success as $iter394)
           {
-            $xfer += $output->writeString($iter380);
+            $xfer += $output->writeString($iter394);
           }
         }
         $output->writeListEnd();
@@ -14527,15 +15119,15 @@ class metastore_ThriftHiveMetastore_list_roles_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size381 = 0;
-            $_etype384 = 0;
-            $xfer += $input->readListBegin($_etype384, $_size381);
-            for ($_i385 = 0; $_i385 < $_size381; ++$_i385)
+            $_size395 = 0;
+            $_etype398 = 0;
+            $xfer += $input->readListBegin($_etype398, $_size395);
+            for ($_i399 = 0; $_i399 < $_size395; ++$_i399)
             {
-              $elem386 = null;
-              $elem386 = new metastore_Role();
-              $xfer += $elem386->read($input);
-              $this->success []= $elem386;
+              $elem400 = null;
+              $elem400 = new metastore_Role();
+              $xfer += $elem400->read($input);
+              $this->success []= $elem400;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -14571,9 +15163,9 @@ class metastore_ThriftHiveMetastore_list_roles_result {
       {
         $output->writeListBegin(TType::STRUCT, count($this->success));
         {
-          foreach ($this->success as $iter387)
+          foreach ($this->success as $iter401)
           {
-            $xfer += $iter387->write($output);
+            $xfer += $iter401->write($output);
           }
         }
         $output->writeListEnd();
@@ -14671,14 +15263,14 @@ class metastore_ThriftHiveMetastore_get_privilege_set_args {
         case 3:
           if ($ftype == TType::LST) {
             $this->group_names = array();
-            $_size388 = 0;
-            $_etype391 = 0;
-            $xfer += $input->readListBegin($_etype391, $_size388);
-            for ($_i392 = 0; $_i392 < $_size388; ++$_i392)
+            $_size402 = 0;
+            $_etype405 = 0;
+            $xfer += $input->readListBegin($_etype405, $_size402);
+            for ($_i406 = 0; $_i406 < $_size402; ++$_i406)
             {
-              $elem393 = null;
-              $xfer += $input->readString($elem393);
-              $this->group_names []= $elem393;
+              $elem407 = null;
+              $xfer += $input->readString($elem407);
+              $this->group_names []= $elem407;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -14719,9 +15311,9 @@ class metastore_ThriftHiveMetastore_get_privilege_set_args {
       {
         $output->writeListBegin(TType::STRING, count($this->group_names));
         {
-          foreach ($this->group_names as $iter394)
+          foreach ($this->group_names as $iter408)
           {
-            $xfer += $output->writeString($iter394);
+            $xfer += $output->writeString($iter408);
           }
         }
         $output->writeListEnd();
@@ -15008,15 +15600,15 @@ class metastore_ThriftHiveMetastore_list_privileges_result {
         case 0:
           if ($ftype == TType::LST) {
             $this->success = array();
-            $_size395 = 0;
-            $_etype398 = 0;
-            $xfer += $input->readListBegin($_etype398, $_size395);
-            for ($_i399 = 0; $_i399 < $_size395; ++$_i399)
+            $_size409 = 0;
+            $_etype412 = 0;
+            $xfer += $input->readListBegin($_etype412, $_size409);
+            for ($_i413 = 0; $_i413 < $_size409; ++$_i413)
             {
-              $elem400 = null;
-              $elem400 = new metastore_HiveObjectPrivilege();
-              $xfer += $elem400->read($input);
-              $this->success []= $elem400;
+              $elem414 = null;
+              $elem414 = new metastore_HiveObjectPrivilege();
+              $xfer += $elem414->read($input);
+              $this->success []= $elem414;
             }
             $xfer += $input->readListEnd();
           } else {
@@ -15052,9 +15644,9 @@ class metastore_ThriftHiveMetastore_list_privileges_result {
       {
         $output->writeListBegin(TType::STRUCT, count($this->success));
         {
-          foreach ($this->success as $iter401)
+          foreach ($this->success as $iter415)
           {
-            $xfer += $iter401->write($output);
+            $xfer += $iter415->write($output);
           }
         }
         $output->writeListEnd();
@@ -332,6 +332,24 @@ module ThriftHiveMetastore
       raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'add_partition failed: unknown result')
     end
 
+    def add_partitions(new_parts)
+      send_add_partitions(new_parts)
+      return recv_add_partitions()
+    end
+
+    def send_add_partitions(new_parts)
+      send_message('add_partitions', Add_partitions_args, :new_parts => new_parts)
+    end
+
+    def recv_add_partitions()
+      result = receive_message(Add_partitions_result)
+      return result.success unless result.success.nil?
+      raise result.o1 unless result.o1.nil?
+      raise result.o2 unless result.o2.nil?
+      raise result.o3 unless result.o3.nil?
+      raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'add_partitions failed: unknown result')
+    end
+
     def append_partition(db_name, tbl_name, part_vals)
       send_append_partition(db_name, tbl_name, part_vals)
       return recv_append_partition()
@@ -585,6 +603,22 @@ module ThriftHiveMetastore
       return
     end
 
+    def alter_partitions(db_name, tbl_name, new_parts)
+      send_alter_partitions(db_name, tbl_name, new_parts)
+      recv_alter_partitions()
+    end
+
+    def send_alter_partitions(db_name, tbl_name, new_parts)
+      send_message('alter_partitions', Alter_partitions_args, :db_name => db_name, :tbl_name => tbl_name, :new_parts => new_parts)
+    end
+
+    def recv_alter_partitions()
+      result = receive_message(Alter_partitions_result)
+      raise result.o1 unless result.o1.nil?
+      raise result.o2 unless result.o2.nil?
+      return
+    end
+
     def get_config_value(name, defaultValue)
       send_get_config_value(name, defaultValue)
       return recv_get_config_value()
@@ -1215,6 +1249,21 @@ module ThriftHiveMetastore
       write_result(result, oprot, 'add_partition', seqid)
     end
 
+    def process_add_partitions(seqid, iprot, oprot)
+      args = read_args(iprot, Add_partitions_args)
+      result = Add_partitions_result.new()
+      begin
+        result.success = @handler.add_partitions(args.new_parts)
+      rescue InvalidObjectException => o1
+        result.o1 = o1
+      rescue AlreadyExistsException => o2
+        result.o2 = o2
+      rescue MetaException => o3
+        result.o3 = o3
+      end
+      write_result(result, oprot, 'add_partitions', seqid)
+    end
+
     def process_append_partition(seqid, iprot, oprot)
       args = read_args(iprot, Append_partition_args)
       result = Append_partition_result.new()
@@ -1408,6 +1457,19 @@ module ThriftHiveMetastore
       write_result(result, oprot, 'alter_partition', seqid)
     end
 
+    def process_alter_partitions(seqid, iprot, oprot)
+      args = read_args(iprot, Alter_partitions_args)
+      result = Alter_partitions_result.new()
+      begin
+        @handler.alter_partitions(args.db_name, args.tbl_name, args.new_parts)
+      rescue InvalidOperationException => o1
+        result.o1 = o1
+      rescue MetaException => o2
+        result.o2 = o2
+      end
+      write_result(result, oprot, 'alter_partitions', seqid)
+    end
+
     def process_get_config_value(seqid, iprot, oprot)
       args = read_args(iprot, Get_config_value_args)
       result = Get_config_value_result.new()
@@ -2374,6 +2436,44 @@ module ThriftHiveMetastore
     ::Thrift::Struct.generate_accessors self
   end
 
+  class Add_partitions_args
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    NEW_PARTS = 1
+
+    FIELDS = {
+      NEW_PARTS => {:type => ::Thrift::Types::LIST, :name => 'new_parts', :element => {:type => ::Thrift::Types::STRUCT, :class => Partition}}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class Add_partitions_result
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    SUCCESS = 0
+    O1 = 1
+    O2 = 2
+    O3 = 3
+
+    FIELDS = {
+      SUCCESS => {:type => ::Thrift::Types::I32, :name => 'success'},
+      O1 => {:type => ::Thrift::Types::STRUCT, :name => 'o1', :class => InvalidObjectException},
+      O2 => {:type => ::Thrift::Types::STRUCT, :name => 'o2', :class => AlreadyExistsException},
+      O3 => {:type => ::Thrift::Types::STRUCT, :name => 'o3', :class => MetaException}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
   class Append_partition_args
     include ::Thrift::Struct, ::Thrift::Struct_Union
     DB_NAME = 1
@@ -2994,6 +3094,44 @@ module ThriftHiveMetastore
     ::Thrift::Struct.generate_accessors self
   end
 
+  class Alter_partitions_args
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    DB_NAME = 1
+    TBL_NAME = 2
+    NEW_PARTS = 3
+
+    FIELDS = {
+      DB_NAME => {:type => ::Thrift::Types::STRING, :name => 'db_name'},
+      TBL_NAME => {:type => ::Thrift::Types::STRING, :name => 'tbl_name'},
+      NEW_PARTS => {:type => ::Thrift::Types::LIST, :name => 'new_parts', :element => {:type => ::Thrift::Types::STRUCT, :class => Partition}}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class Alter_partitions_result
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    O1 = 1
+    O2 = 2
+
+    FIELDS = {
+      O1 => {:type => ::Thrift::Types::STRUCT, :name => 'o1', :class => InvalidOperationException},
+      O2 => {:type => ::Thrift::Types::STRUCT, :name => 'o2', :class => MetaException}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
   class Get_config_value_args
     include ::Thrift::Struct, ::Thrift::Struct_Union
     NAME = 1
@@ -0,0 +1,584 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.metastore.MetaStoreCache.Key;
+import org.apache.hadoop.hive.metastore.MetaStoreCache.Kind;
+import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.Index;
+import org.apache.hadoop.hive.metastore.api.InvalidObjectException;
+import org.apache.hadoop.hive.metastore.api.MetaException;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
+import org.apache.hadoop.hive.metastore.api.Partition;
+import org.apache.hadoop.hive.metastore.api.PrincipalPrivilegeSet;
+import org.apache.hadoop.hive.metastore.api.PrincipalType;
+import org.apache.hadoop.hive.metastore.api.PrivilegeBag;
+import org.apache.hadoop.hive.metastore.api.Role;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.Type;
+import org.apache.hadoop.hive.metastore.model.MDBPrivilege;
+import org.apache.hadoop.hive.metastore.model.MGlobalPrivilege;
+import org.apache.hadoop.hive.metastore.model.MPartitionColumnPrivilege;
+import org.apache.hadoop.hive.metastore.model.MPartitionPrivilege;
+import org.apache.hadoop.hive.metastore.model.MRoleMap;
+import org.apache.hadoop.hive.metastore.model.MTableColumnPrivilege;
+import org.apache.hadoop.hive.metastore.model.MTablePrivilege;
+
+/**
+ * A RawStore that answers database, table and partition lookups from a
+ * {@link MetaStoreCache} and passes everything else to another RawStore.
+ *
+ * Cached objects are copied on the way in and on the way out, so callers can
+ * modify what they get back. Lookups made inside a transaction are not
+ * added to the cache since they may see uncommitted changes. Every change
+ * invalidates the affected entries right away and once more when the
+ * outermost transaction ends, so that values read by other threads while
+ * the change was in flight are dropped as well.
+ */
+public class CachingRawStore implements RawStore {
+
+  private final RawStore store;
+  private final MetaStoreCache cache;
+
+  private int openTransactionCalls = 0;
+  // invalidations to repeat when the outermost transaction ends
+  private final List<String[]> pendingInvalidations = new ArrayList<String[]>();
+
+  public CachingRawStore(RawStore store, MetaStoreCache cache) {
+    this.store = store;
+    this.cache = cache;
+  }
+
+  /**
+   * @return the store that lookups are passed to
+   */
+  public RawStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Configuration getConf() {
+    return store.getConf();
+  }
+
+  @Override
+  public void setConf(Configuration conf) {
+    store.setConf(conf);
+  }
+
+  @Override
+  public void shutdown() {
+    store.shutdown();
+  }
+
+  @Override
+  public boolean openTransaction() {
+    openTransactionCalls++;
+    return store.openTransaction();
+  }
+
+  @Override
+  public boolean commitTransaction() {
+    boolean committed = store.commitTransaction();
+    if (openTransactionCalls > 0) {
+      openTransactionCalls--;
+    }
+    if (openTransactionCalls == 0) {
+      applyPendingInvalidations();
+    }
+    return committed;
+  }
+
+  @Override
+  public void rollbackTransaction() {
+    store.rollbackTransaction();
+    openTransactionCalls = 0;
+    applyPendingInvalidations();
+  }
+
+  private void applyPendingInvalidations() {
+    for (String[] names : pendingInvalidations) {
+      invalidate(names);
+    }
+    pendingInvalidations.clear();
+  }
+
+  private void invalidate(String[] names) {
+    if (names[1] == null) {
+      cache.invalidateDatabase(names[0]);
+    } else if (names[2] == null) {
+      cache.invalidateTable(names[0], names[1]);
+    } else {
+      cache.invalidatePartitions(names[0], names[1]);
+    }
+  }
+
+  private void invalidateDatabase(String dbName) {
+    invalidateAndRecord(new String[] {dbName, null, null});
+  }
+
+  private void invalidateTable(String dbName, String tableName) {
+    invalidateAndRecord(new String[] {dbName, tableName, null});
+  }
+
+  private void invalidatePartitions(String dbName, String tableName) {
+    invalidateAndRecord(new String[] {dbName, tableName, ""});
+  }
+
+  private void invalidateAndRecord(String[] names) {
+    invalidate(names);
+    if (openTransactionCalls > 0) {
+      pendingInvalidations.add(names);
+    }
+  }
+
+  private boolean canPopulate() {
+    return openTransactionCalls == 0;
+  }
+
+  private static List<Partition> copyPartitions(List<Partition> parts) {
+    if (parts == null) {
+      return null;
+    }
+    List<Partition> copy = new ArrayList<Partition>(parts.size());
+    for (Partition part : parts) {
+      copy.add(new Partition(part));
+    }
+    return copy;
+  }
+
+  @Override
+  public void createDatabase(Database db) throws InvalidObjectException,
+      MetaException {
+    store.createDatabase(db);
+    invalidateDatabase(db.getName());
+  }
+
+  @Override
+  public Database getDatabase(String name) throws NoSuchObjectException {
+    Key key = new Key(Kind.DATABASE, name, null, null);
+    Database db = (Database) cache.get(key);
+    if (db != null) {
+      return new Database(db);
+    }
+    long generation = cache.getGeneration();
+    db = store.getDatabase(name);
+    if (db != null && canPopulate()) {
+      cache.put(key, new Database(db), generation);
+    }
+    return db;
+  }
+
+  @Override
+  public boolean dropDatabase(String dbname) throws NoSuchObjectException,
+      MetaException {
+    try {
+      return store.dropDatabase(dbname);
+    } finally {
+      invalidateDatabase(dbname);
+    }
+  }
+
+  @Override
+  public boolean alterDatabase(String dbname, Database db)
+      throws NoSuchObjectException, MetaException {
+    try {
+      return store.alterDatabase(dbname, db);
+    } finally {
+      invalidateDatabase(dbname);
+    }
+  }
+
+  @Override
+  public List<String> getDatabases(String pattern) throws MetaException {
+    return store.getDatabases(pattern);
+  }
+
+  @Override
+  public List<String> getAllDatabases() throws MetaException {
+    return store.getAllDatabases();
+  }
+
+  @Override
+  public boolean createType(Type type) {
+    return store.createType(type);
+  }
+
+  @Override
+  public Type getType(String typeName) {
+    return store.getType(typeName);
+  }
+
+  @Override
+  public boolean dropType(String typeName) {
+    return store.dropType(typeName);
+  }
+
+  @Override
+  public void createTable(Table tbl) throws InvalidObjectException,
+      MetaException {
+    store.createTable(tbl);
+    invalidateTable(tbl.getDbName(), tbl.getTableName());
+  }
+
+  @Override
+  public boolean dropTable(String dbName, String tableName)
+      throws MetaException {
+    try {
+      return store.dropTable(dbName, tableName);
+    } finally {
+      invalidateTable(dbName, tableName);
+    }
+  }
+
+  @Override
+  public Table getTable(String dbName, String tableName) throws MetaException {
+    Key key = new Key(Kind.TABLE, dbName, tableName, null);
+    Table tbl = (Table) cache.get(key);
+    if (tbl != null) {
+      return new Table(tbl);
+    }
+    long generation = cache.getGeneration();
+    tbl = store.getTable(dbName, tableName);
+    if (tbl != null && canPopulate()) {
+      cache.put(key, new Table(tbl), generation);
+    }
+    return tbl;
+  }
+
+  @Override
+  public boolean addPartition(Partition part) throws InvalidObjectException,
+      MetaException {
+    try {
+      return store.addPartition(part);
+    } finally {
+      invalidatePartitions(part.getDbName(), part.getTableName());
+    }
+  }
+
+  @Override
+  public boolean addPartitions(List<Partition> parts)
+      throws InvalidObjectException, MetaException {
+    try {
+      return store.addPartitions(parts);
+    } finally {
+      for (Partition part : parts) {
+        invalidatePartitions(part.getDbName(), part.getTableName());
+      }
+    }
+  }
+
+  @Override
+  public Partition getPartition(String dbName, String tableName,
+      List<String> part_vals) throws MetaException, NoSuchObjectException {
+    Key key = new Key(Kind.PARTITION, dbName, tableName,
+        new ArrayList<String>(part_vals));
+    Partition part = (Partition) cache.get(key);
+    if (part != null) {
+      return new Partition(part);
+    }
+    long generation = cache.getGeneration();
+    part = store.getPartition(dbName, tableName, part_vals);
+    if (part != null && canPopulate()) {
+      cache.put(key, new Partition(part), generation);
+    }
+    return part;
+  }
+
+  @Override
+  public boolean dropPartition(String dbName, String tableName,
+      List<String> part_vals) throws MetaException {
+    try {
+      return store.dropPartition(dbName, tableName, part_vals);
+    } finally {
+      invalidatePartitions(dbName, tableName);
+    }
+  }
+
+  @Override
+  public List<Partition> getPartitions(String dbName, String tableName, int max)
+      throws MetaException {
+    Key key = new Key(Kind.PARTITIONS, dbName, tableName, Integer.valueOf(max));
+    @SuppressWarnings("unchecked")
+    List<Partition> parts = (List<Partition>) cache.get(key);
+    if (parts != null) {
+      return copyPartitions(parts);
+    }
+    long generation = cache.getGeneration();
+    parts = store.getPartitions(dbName, tableName, max);
+    if (parts != null && canPopulate()) {
+      cache.put(key, copyPartitions(parts), generation);
+    }
+    return parts;
+  }
+
+  @Override
+  public void alterTable(String dbname, String name, Table newTable)
+      throws InvalidObjectException, MetaException {
+    try {
+      store.alterTable(dbname, name, newTable);
+    } finally {
+      invalidateTable(dbname, name);
+      invalidateTable(newTable.getDbName(), newTable.getTableName());
+    }
+  }
+
+  @Override
+  public List<String> getTables(String dbName, String pattern)
+      throws MetaException {
+    return store.getTables(dbName, pattern);
+  }
+
+  @Override
+  public List<String> getAllTables(String dbName) throws MetaException {
+    return store.getAllTables(dbName);
+  }
+
+  @Override
+  public List<String> listPartitionNames(String db_name, String tbl_name,
+      short max_parts) throws MetaException {
+    return store.listPartitionNames(db_name, tbl_name, max_parts);
+  }
+
+  @Override
+  public List<String> listPartitionNamesByFilter(String db_name,
+      String tbl_name, String filter, short max_parts) throws MetaException {
+    return store.listPartitionNamesByFilter(db_name, tbl_name, filter,
+        max_parts);
+  }
+
+  @Override
+  public void alterPartition(String db_name, String tbl_name,
+      Partition new_part) throws InvalidObjectException, MetaException {
+    try {
+      store.alterPartition(db_name, tbl_name, new_part);
+    } finally {
+      invalidatePartitions(db_name, tbl_name);
+    }
+  }
+
+  @Override
+  public void alterPartitions(String db_name, String tbl_name,
+      List<Partition> new_parts) throws InvalidObjectException, MetaException {
+    try {
+      store.alterPartitions(db_name, tbl_name, new_parts);
+    } finally {
+      invalidatePartitions(db_name, tbl_name);
+    }
+  }
+
+  @Override
+  public boolean addIndex(Index index) throws InvalidObjectException,
+      MetaException {
+    return store.addIndex(index);
+  }
+
+  @Override
+  public Index getIndex(String dbName, String origTableName, String indexName)
+      throws MetaException {
+    return store.getIndex(dbName, origTableName, indexName);
+  }
+
+  @Override
+  public boolean dropIndex(String dbName, String origTableName,
+      String indexName) throws MetaException {
+    return store.dropIndex(dbName, origTableName, indexName);
+  }
+
+  @Override
+  public List<Index> getIndexes(String dbName, String origTableName, int max)
+      throws MetaException {
+    return store.getIndexes(dbName, origTableName, max);
+  }
+
+  @Override
+  public List<String> listIndexNames(String dbName, String origTableName,
+      short max) throws MetaException {
+    return store.listIndexNames(dbName, origTableName, max);
+  }
+
+  @Override
+  public void alterIndex(String dbname, String baseTblName, String name,
+      Index newIndex) throws InvalidObjectException, MetaException {
+    store.alterIndex(dbname, baseTblName, name, newIndex);
+  }
+
+  @Override
+  public List<Partition> getPartitionsByFilter(String dbName, String tblName,
+      String filter, short maxParts) throws MetaException,
+      NoSuchObjectException {
+    return store.getPartitionsByFilter(dbName, tblName, filter, maxParts);
+  }
+
+  @Override
+  public boolean addRole(String rowName, String ownerName)
+      throws InvalidObjectException, MetaException, NoSuchObjectException {
+    return store.addRole(rowName, ownerName);
+  }
+
+  @Override
+  public boolean removeRole(String roleName) throws MetaException,
+      NoSuchObjectException {
+    return store.removeRole(roleName);
+  }
+
+  @Override
+  public boolean grantRole(Role role, String userName,
+      PrincipalType principalType, String grantor, PrincipalType grantorType,
+      boolean grantOption) throws MetaException, NoSuchObjectException,
+      InvalidObjectException {
+    return store.grantRole(role, userName, principalType, grantor,
+        grantorType, grantOption);
+  }
+
+  @Override
+  public boolean revokeRole(Role role, String userName,
+      PrincipalType principalType) throws MetaException,
+      NoSuchObjectException {
+    return store.revokeRole(role, userName, principalType);
+  }
+
+  @Override
+  public PrincipalPrivilegeSet getUserPrivilegeSet(String userName,
+      List<String> groupNames) throws InvalidObjectException, MetaException {
+    return store.getUserPrivilegeSet(userName, groupNames);
+  }
+
+  @Override
+  public PrincipalPrivilegeSet getDBPrivilegeSet(String dbName,
+      String userName, List<String> groupNames) throws InvalidObjectException,
+      MetaException {
+    return store.getDBPrivilegeSet(dbName, userName, groupNames);
+  }
+
+  @Override
+  public PrincipalPrivilegeSet getTablePrivilegeSet(String dbName,
+      String tableName, String userName, List<String> groupNames)
+      throws InvalidObjectException, MetaException {
+    return store.getTablePrivilegeSet(dbName, tableName, userName, groupNames);
+  }
+
+  @Override
+  public PrincipalPrivilegeSet getPartitionPrivilegeSet(String dbName,
+      String tableName, String partition, String userName,
+      List<String> groupNames) throws InvalidObjectException, MetaException {
+    return store.getPartitionPrivilegeSet(dbName, tableName, partition,
+        userName, groupNames);
+  }
+
+  @Override
+  public PrincipalPrivilegeSet getColumnPrivilegeSet(String dbName,
+      String tableName, String partitionName, String columnName,
+      String userName, List<String> groupNames)
+      throws InvalidObjectException, MetaException {
+    return store.getColumnPrivilegeSet(dbName, tableName, partitionName,
+        columnName, userName, groupNames);
+  }
+
+  @Override
+  public List<MGlobalPrivilege> listPrincipalGlobalGrants(
+      String principalName, PrincipalType principalType) {
+    return store.listPrincipalGlobalGrants(principalName, principalType);
+  }
+
+  @Override
+  public List<MDBPrivilege> listPrincipalDBGrants(String principalName,
+      PrincipalType principalType, String dbName) {
+    return store.listPrincipalDBGrants(principalName, principalType, dbName);
+  }
+
+  @Override
+  public List<MTablePrivilege> listAllTableGrants(String principalName,
+      PrincipalType principalType, String dbName, String tableName) {
+    return store.listAllTableGrants(principalName, principalType, dbName,
+        tableName);
+  }
+
+  @Override
+  public List<MPartitionPrivilege> listPrincipalPartitionGrants(
+      String principalName, PrincipalType principalType, String dbName,
+      String tableName, String partName) {
+    return store.listPrincipalPartitionGrants(principalName, principalType,
+        dbName, tableName, partName);
+  }
+
+  @Override
+  public List<MTableColumnPrivilege> listPrincipalTableColumnGrants(
+      String principalName, PrincipalType principalType, String dbName,
+      String tableName, String columnName) {
+    return store.listPrincipalTableColumnGrants(principalName, principalType,
+        dbName, tableName, columnName);
+  }
+
+  @Override
+  public List<MPartitionColumnPrivilege> listPrincipalPartitionColumnGrants(
+      String principalName, PrincipalType principalType, String dbName,
+      String tableName, String partName, String columnName) {
+    return store.listPrincipalPartitionColumnGrants(principalName,
+        principalType, dbName, tableName, partName, columnName);
+  }
+
+  @Override
+  public boolean grantPrivileges(PrivilegeBag privileges)
+      throws InvalidObjectException, MetaException, NoSuchObjectException {
+    return store.grantPrivileges(privileges);
+  }
+
+  @Override
+  public boolean revokePrivileges(PrivilegeBag privileges)
+      throws InvalidObjectException, MetaException, NoSuchObjectException {
+    return store.revokePrivileges(privileges);
+  }
+
+  @Override
+  public Role getRole(String roleName) throws NoSuchObjectException {
+    return store.getRole(roleName);
+  }
+
+  @Override
+  public List<String> listRoleNames() {
+    return store.listRoleNames();
+  }
+
+  @Override
+  public List<MRoleMap> listRoles(String principalName,
+      PrincipalType principalType) {
+    return store.listRoles(principalName, principalType);
+  }
+
+  @Override
+  public Partition getPartitionWithAuth(String dbName, String tblName,
+      List<String> partVals, String user_name, List<String> group_names)
+      throws MetaException, NoSuchObjectException, InvalidObjectException {
+    return store.getPartitionWithAuth(dbName, tblName, partVals, user_name,
+        group_names);
+  }
+
+  @Override
+  public List<Partition> getPartitionsWithAuth(String dbName, String tblName,
+      short maxParts, String userName, List<String> groupNames)
+      throws MetaException, NoSuchObjectException, InvalidObjectException {
+    return store.getPartitionsWithAuth(dbName, tblName, maxParts, userName,
+        groupNames);
+  }
+}
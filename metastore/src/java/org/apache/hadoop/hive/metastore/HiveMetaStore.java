@@ -26,9 +26,14 @@ import static org.apache.hadoop.hive.metastore.MetaStoreUtils.validateName;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
@@ -80,9 +85,14 @@ import org.apache.hadoop.util.ReflectionUtils;
 import org.apache.hadoop.util.StringUtils;
 import org.apache.thrift.TException;
 import org.apache.thrift.TProcessor;
+import org.apache.thrift.TProcessorFactory;
 import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportFactory;
@@ -302,6 +312,13 @@ public class HiveMetaStore extends ThriftHiveMetastore {
             + rawStoreClassName));
         ms = (RawStore) ReflectionUtils.newInstance(getClass(rawStoreClassName,
             RawStore.class), getConf());
+        if (HiveConf.getBoolVar(hiveConf,
+            HiveConf.ConfVars.METASTORE_SERVER_CACHE_ENABLED)) {
+          MetaStoreCache cache = MetaStoreCache.getCache(
+              getConnectionURL(getConf()), HiveConf.getIntVar(hiveConf,
+                  HiveConf.ConfVars.METASTORE_SERVER_CACHE_SIZE));
+          ms = new CachingRawStore(ms, cache);
+        }
         threadLocalMS.set(ms);
         ms = threadLocalMS.get();
       }
@@ -1114,16 +1131,90 @@ public class HiveMetaStore extends ThriftHiveMetastore {
       String tbl = parts.get(0).getTableName();
       logStartTableFunction("add_partitions", db, tbl);
       boolean success = false;
+      // directories created here, removed again if the transaction fails
+      List<Path> madeDirs = new ArrayList<Path>();
       try {
         ms.openTransaction();
+        Map<String, Table> tables = new HashMap<String, Table>();
+        Set<String> partNames = new HashSet<String>();
+        // partition directories grouped by their parent directory
+        Map<Path, List<Path>> partDirs = new LinkedHashMap<Path, List<Path>>();
+        long time = System.currentTimeMillis() / 1000;
         for (Partition part : parts) {
-          add_partition(part);
+          String tableKey = part.getDbName() + "." + part.getTableName();
+          Table table = tables.get(tableKey);
+          if (table == null) {
+            table = ms.getTable(part.getDbName(), part.getTableName());
+            if (table == null) {
+              throw new InvalidObjectException(
+                  "Unable to add partition because table or database do not exist");
+            }
+            tables.put(tableKey, table);
+          }
+
+          String partName = Warehouse.makePartName(table.getPartitionKeys(),
+              part.getValues());
+          if (!partNames.add(tableKey + "/" + partName)) {
+            throw new AlreadyExistsException("Partition already exists:" + part);
+          }
+          Partition old_part = null;
+          try {
+            old_part = ms.getPartition(part.getDbName(), part.getTableName(),
+                part.getValues());
+          } catch (NoSuchObjectException e) {
+            // this means there is no existing partition
+            old_part = null;
+          }
+          if (old_part != null) {
+            throw new AlreadyExistsException("Partition already exists:" + part);
+          }
+
+          Path partLocation;
+          String partLocationStr = part.getSd().getLocation();
+          if (partLocationStr == null || partLocationStr.isEmpty()) {
+            // set default location if not specified
+            partLocation = new Path(table.getSd().getLocation(), partName);
+          } else {
+            partLocation = wh.getDnsPath(new Path(partLocationStr));
+          }
+          part.getSd().setLocation(partLocation.toString());
+
+          List<Path> siblings = partDirs.get(partLocation.getParent());
+          if (siblings == null) {
+            siblings = new ArrayList<Path>();
+            partDirs.put(partLocation.getParent(), siblings);
+          }
+          siblings.add(partLocation);
+
+          // set create time
+          part.setCreateTime((int) time);
+          if (part.getParameters() == null ||
+              part.getParameters().get(Constants.DDL_TIME) == null) {
+            part.putToParameters(Constants.DDL_TIME, Long.toString(time));
+          }
         }
-        success = true;
-        ms.commitTransaction();
+
+        // list each parent directory once instead of probing every partition
+        for (Map.Entry<Path, List<Path>> entry : partDirs.entrySet()) {
+          Set<String> existing = wh.getSubDirNames(entry.getKey());
+          for (Path partLocation : entry.getValue()) {
+            if (existing.contains(partLocation.getName())) {
+              continue;
+            }
+            if (!wh.mkdirs(partLocation)) {
+              throw new MetaException(partLocation
+                  + " is not a directory or unable to create one");
+            }
+            madeDirs.add(partLocation);
+          }
+        }
+        success = ms.addPartitions(parts) && ms.commitTransaction();
       } finally {
         if (!success) {
           ms.rollbackTransaction();
+          for (Path madeDir : madeDirs) {
+            wh.deleteDir(madeDir, true);
+          }
         }
       }
       return parts.size();
@@ -1131,7 +1222,7 @@ public class HiveMetaStore extends ThriftHiveMetastore {
 
     public int add_partitions(final List<Partition> parts) throws MetaException,
         InvalidObjectException, AlreadyExistsException {
-      incrementCounter("add_partition");
+      incrementCounter("add_partitions");
       if (parts.size() == 0) {
         return 0;
       }
@@ -1508,6 +1599,49 @@ public class HiveMetaStore extends ThriftHiveMetastore {
       return;
     }
 
+    public void alter_partitions(final String db_name, final String tbl_name,
+        final List<Partition> new_parts) throws InvalidOperationException,
+        MetaException, TException {
+      incrementCounter("alter_partitions");
+      logStartTableFunction("alter_partitions", db_name, tbl_name);
+      if (new_parts.size() == 0) {
+        return;
+      }
+
+      try {
+        executeWithRetry(new Command<Boolean>() {
+          @Override
+          Boolean run(RawStore ms) throws Exception {
+            long time = System.currentTimeMillis() / 1000;
+            for (Partition new_part : new_parts) {
+              // Set DDL time to now if not specified
+              if (new_part.getParameters() == null ||
+                  new_part.getParameters().get(Constants.DDL_TIME) == null ||
+                  Integer.parseInt(new_part.getParameters().get(Constants.DDL_TIME)) == 0) {
+                new_part.putToParameters(Constants.DDL_TIME, Long.toString(time));
+              }
+            }
+            try {
+              ms.alterPartitions(db_name, tbl_name, new_parts);
+            } catch (InvalidObjectException e) {
+              throw new InvalidOperationException("alter is not possible");
+            }
+            return Boolean.TRUE;
+          }
+        });
+      } catch (InvalidOperationException e) {
+        throw e;
+      } catch (MetaException e) {
+        throw e;
+      } catch (TException e) {
+        throw e;
+      } catch (Exception e) {
+        assert(e instanceof RuntimeException);
+        throw (RuntimeException)e;
+      }
+      return;
+    }
+
     public boolean create_index(Index index_def)
         throws IndexAlreadyExistsException, MetaException {
       incrementCounter("create_index");
@@ -2964,10 +3098,27 @@ public class HiveMetaStore extends ThriftHiveMetastore {
       boolean tcpKeepAlive = conf.getBoolVar(HiveConf.ConfVars.METASTORE_TCP_KEEP_ALIVE);
       boolean useSasl = conf.getBoolVar(HiveConf.ConfVars.METASTORE_USE_THRIFT_SASL);
 
+      if (conf.getBoolVar(HiveConf.ConfVars.METASTORE_METRICS_ENABLED)) {
+        MetaStoreMetrics.getInstance().startLogging(
+            conf.getIntVar(HiveConf.ConfVars.METASTORE_METRICS_LOG_INTERVAL));
+      }
+
+      if (conf.getBoolVar(HiveConf.ConfVars.METASTORE_SERVER_NONBLOCKING)) {
+        if (useSasl) {
+          throw new MetaException("SASL is not supported by the non-blocking"
+              + " metastore server");
+        }
+        startNonblockingMetaStore(port, handler, conf);
+        return;
+      }
+
       TServerTransport serverTransport = tcpKeepAlive ?
           new TServerSocketKeepAlive(port) : new TServerSocket(port);
 
       TProcessor processor = new ThriftHiveMetastore.Processor(handler);
+      if (conf.getBoolVar(HiveConf.ConfVars.METASTORE_METRICS_ENABLED)) {
+        processor = new TimedProcessor(handler, MetaStoreMetrics.getInstance());
+      }
       TTransportFactory transFactory;
       if (useSasl) {
          saslServer = bridge.createServer(
@@ -3002,4 +3153,68 @@ public class HiveMetaStore extends ThriftHiveMetastore {
       throw x;
     }
   }
+
+  /**
+   * Serve the metastore with a selector thread that reads the calls of all
+   * connections and a fixed pool of workers that runs them. The RawStore of
+   * HMSHandler is kept per thread, so the workers also bound the number of
+   * open datastore connections, however many clients are connected.
+   */
+  private static void startNonblockingMetaStore(int port, HMSHandler handler,
+      HiveConf conf) throws Throwable {
+    int workerThreads = conf.getIntVar(HiveConf.ConfVars.METASTORE_SERVER_WORKER_THREADS);
+    int queueSize = conf.getIntVar(HiveConf.ConfVars.METASTORE_SERVER_WORKER_QUEUE_SIZE);
+
+    MetaStoreServerStats stats = new MetaStoreServerStats();
+    ThreadPoolExecutor workers = new ThreadPoolExecutor(workerThreads,
+        workerThreads, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(queueSize));
+    stats.setWorkers(workers);
+    stats.register();
+
+    THsHaServer.Options options = new THsHaServer.Options();
+    options.workerThreads = workerThreads;
+    options.maxReadBufferBytes =
+      conf.getLongVar(HiveConf.ConfVars.METASTORE_SERVER_MAX_MESSAGE_SIZE);
+
+    TProcessor processor = new ThriftHiveMetastore.Processor(handler);
+    if (conf.getBoolVar(HiveConf.ConfVars.METASTORE_METRICS_ENABLED)) {
+      processor = new TimedProcessor(handler, MetaStoreMetrics.getInstance());
+    }
+    TServer tServer = new THsHaServer(new TProcessorFactory(processor),
+        new TNonblockingServerSocket(port), new TFramedTransport.Factory(),
+        new TBinaryProtocol.Factory(), new TBinaryProtocol.Factory(),
+        workers, options);
+    HMSHandler.LOG.info("Started the new non-blocking metaserver on port ["
+        + port + "]...");
+    HMSHandler.LOG.info("Worker threads = " + workerThreads);
+    HMSHandler.LOG.info("Worker queue size = " + queueSize);
+    tServer.serve();
+  }
+
+  /**
+   * Processor timing every thrift method with the timer of the same name.
+   */
+  static class TimedProcessor extends ThriftHiveMetastore.Processor {
+
+    public TimedProcessor(ThriftHiveMetastore.Iface iface,
+        MetaStoreMetrics metrics) {
+      super(iface);
+      for (Map.Entry<String, ProcessFunction> entry : processMap_.entrySet()) {
+        final MetaStoreMetrics.Timer timer = metrics.getTimer(entry.getKey());
+        final ProcessFunction fn = entry.getValue();
+        entry.setValue(new ProcessFunction() {
+          public void process(int seqid, TProtocol iprot, TProtocol oprot)
+              throws TException {
+            long start = timer.start();
+            try {
+              fn.process(seqid, iprot, oprot);
+            } finally {
+              timer.stop(start);
+            }
+          }
+        });
+      }
+    }
+  }
 }
@@ -63,6 +63,7 @@ import org.apache.hadoop.hive.thrift.HadoopThriftAuthBridge;
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
@@ -231,6 +232,9 @@ public class HiveMetaStoreClient implements IMetaStoreClient {
           LOG.error("Couldn't create client transport", ioe);
           throw new MetaException(ioe.toString());
         }
+     } else if (conf.getBoolVar(ConfVars.METASTORE_USE_THRIFT_FRAMED_TRANSPORT)) {
+       // the non-blocking metastore server reads whole frames
+       transport = new TFramedTransport(transport);
      }
 
      TProtocol protocol = new TBinaryProtocol(transport);
@@ -289,6 +293,21 @@ public class HiveMetaStoreClient implements IMetaStoreClient {
     return deepCopy(client.add_partition(new_part));
   }
 
+  /**
+   * @param new_parts
+   * @return the number of partitions added
+   * @throws InvalidObjectException
+   * @throws AlreadyExistsException
+   * @throws MetaException
+   * @throws TException
+   * @see org.apache.hadoop.hive.metastore.api.ThriftHiveMetastore.Iface#add_partitions(List)
+   */
+  public int add_partitions(List<Partition> new_parts)
+      throws InvalidObjectException, AlreadyExistsException, MetaException,
+      TException {
+    return client.add_partitions(new_parts);
+  }
+
   /**
    * @param table_name
    * @param db_name
@@ -745,6 +764,12 @@ public class HiveMetaStoreClient implements IMetaStoreClient {
     client.alter_partition(dbName, tblName, newPart);
   }
 
+  public void alter_partitions(String dbName, String tblName,
+      List<Partition> newParts) throws InvalidOperationException,
+      MetaException, TException {
+    client.alter_partitions(dbName, tblName, newParts);
+  }
+
   public void alterDatabase(String dbName, Database db)
       throws MetaException, NoSuchObjectException, TException {
     client.alter_database(dbName, db);
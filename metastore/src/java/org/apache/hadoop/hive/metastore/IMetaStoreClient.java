@@ -243,6 +243,25 @@ public interface IMetaStoreClient {
       throws InvalidObjectException, AlreadyExistsException, MetaException,
       TException;
 
+  /**
+   * Add partitions to their tables in a single metastore transaction.
+   *
+   * @param partitions
+   *          The partitions to add
+   * @return The number of partitions added
+   * @throws InvalidObjectException
+   *           Could not find a table to add to
+   * @throws AlreadyExistsException
+   *           A partition already exists
+   * @throws MetaException
+   *           Could not add the partitions
+   * @throws TException
+   *           Thrift exception
+   */
+  public int add_partitions(List<Partition> partitions)
+      throws InvalidObjectException, AlreadyExistsException, MetaException,
+      TException;
+
   /**
    * @param tblName
    * @param dbName
@@ -400,6 +419,26 @@ public interface IMetaStoreClient {
   public void alter_partition(String dbName, String tblName, Partition newPart)
       throws InvalidOperationException, MetaException, TException;
 
+  /**
+   * updates a list of partitions of a table in a single metastore transaction
+   *
+   * @param dbName
+   *          database of the old partitions
+   * @param tblName
+   *          table name of the old partitions
+   * @param newParts
+   *          new partitions
+   * @throws InvalidOperationException
+   *           if one of the old partitions does not exist
+   * @throws MetaException
+   *           if error in updating metadata
+   * @throws TException
+   *           if error in communicating with metastore server
+   */
+  public void alter_partitions(String dbName, String tblName,
+      List<Partition> newParts) throws InvalidOperationException,
+      MetaException, TException;
+
   /**
    * @param db
    * @param tableName
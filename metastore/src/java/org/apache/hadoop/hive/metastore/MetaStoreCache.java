@@ -0,0 +1,326 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A bounded, least recently used cache of databases, tables and partitions,
+ * shared by all the raw stores of a metastore server that use the same
+ * backing datastore.
+ *
+ * The size of the cache is counted in objects: a partition list weighs as
+ * many partitions as it holds. A list weighing more than half of the cache is
+ * not added, so that listing the partitions of one large table does not
+ * evict everything else.
+ *
+ * Entries are invalidated by {@link CachingRawStore} whenever the object, or
+ * the table or database it belongs to, is changed through the same process.
+ * Changes made by other processes against the same datastore are not seen
+ * until the entry is evicted or the cache is cleared.
+ *
+ * Every invalidation bumps a generation number. A value read from the
+ * backing store is only added if no invalidation happened since the read
+ * started, so that a slow reader cannot put back a value that a concurrent
+ * writer has just changed.
+ */
+public class MetaStoreCache implements MetaStoreCacheMBean {
+
+  private static final Log LOG = LogFactory.getLog(MetaStoreCache.class
+      .getName());
+
+  // one cache per datastore connection URL
+  private static final Map<String, MetaStoreCache> caches =
+    new HashMap<String, MetaStoreCache>();
+
+  /**
+   * Get the cache for a datastore, creating it if needed.
+   *
+   * @param connectionURL
+   *          the JDO connection URL of the datastore
+   * @param maxSize
+   *          the maximum number of cached objects, used if the cache is
+   *          created
+   */
+  public static synchronized MetaStoreCache getCache(String connectionURL,
+      int maxSize) {
+    String key = connectionURL == null ? "" : connectionURL;
+    MetaStoreCache cache = caches.get(key);
+    if (cache == null) {
+      cache = new MetaStoreCache(maxSize);
+      caches.put(key, cache);
+      cache.register(caches.size());
+    }
+    return cache;
+  }
+
+  /**
+   * The kind of object an entry holds.
+   */
+  static enum Kind {
+    DATABASE, TABLE, PARTITION, PARTITIONS
+  }
+
+  /**
+   * Key of a cache entry. Partitions and partition lists are additionally
+   * identified by their values and the maximum number of partitions.
+   */
+  static final class Key {
+    private final Kind kind;
+    private final String db;
+    private final String table;
+    private final Object detail;
+
+    Key(Kind kind, String db, String table, Object detail) {
+      this.kind = kind;
+      this.db = normalize(db);
+      this.table = normalize(table);
+      this.detail = detail;
+    }
+
+    private static String normalize(String name) {
+      return name == null ? null : name.toLowerCase().trim();
+    }
+
+    boolean isInDatabase(String dbName) {
+      return db != null && db.equals(normalize(dbName));
+    }
+
+    boolean isInTable(String dbName, String tableName) {
+      return isInDatabase(dbName) && table != null
+          && table.equals(normalize(tableName));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return kind == other.kind && equal(db, other.db)
+          && equal(table, other.table) && equal(detail, other.detail);
+    }
+
+    private static boolean equal(Object a, Object b) {
+      return a == null ? b == null : a.equals(b);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = kind.hashCode();
+      hash = hash * 31 + (db == null ? 0 : db.hashCode());
+      hash = hash * 31 + (table == null ? 0 : table.hashCode());
+      hash = hash * 31 + (detail == null ? 0 : detail.hashCode());
+      return hash;
+    }
+  }
+
+  private final int maxSize;
+  private final LinkedHashMap<Key, Object> entries;
+  // the total weight of the entries
+  private long weight = 0;
+  private long generation = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+  private long invalidations = 0;
+
+  MetaStoreCache(int maxSize) {
+    this.maxSize = maxSize;
+    entries = new LinkedHashMap<Key, Object>(16, 0.75f, true);
+  }
+
+  /**
+   * @return the number of objects a value counts for
+   */
+  private static int weigh(Object value) {
+    if (value instanceof List) {
+      return Math.max(1, ((List<?>) value).size());
+    }
+    return 1;
+  }
+
+  private void register(int id) {
+    try {
+      ObjectName name = new ObjectName(
+          "org.apache.hadoop.hive.metastore:type=MetaStoreCache,id=" + id);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+    } catch (Exception e) {
+      // the cache works without being visible through JMX
+      LOG.warn("Unable to register metastore cache MBean: " + e);
+    }
+  }
+
+  /**
+   * @return the current generation, to be passed to
+   *         {@link #put(Key, Object, long)}
+   */
+  synchronized long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Look up an entry, counting hits and misses.
+   *
+   * @return the cached value, or null
+   */
+  synchronized Object get(Key key) {
+    Object value = entries.get(key);
+    if (value == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return value;
+  }
+
+  /**
+   * Add a value read from the backing store, unless anything was invalidated
+   * since the given generation or the value is too large, and evict the
+   * least recently used entries until the cache fits again.
+   */
+  synchronized void put(Key key, Object value, long readGeneration) {
+    if (value == null || readGeneration != generation) {
+      return;
+    }
+    int valueWeight = weigh(value);
+    if (valueWeight > 1 && valueWeight > maxSize / 2) {
+      return;
+    }
+    Object previous = entries.put(key, value);
+    if (previous != null) {
+      weight -= weigh(previous);
+    }
+    weight += valueWeight;
+    for (Iterator<Object> it = entries.values().iterator(); weight > maxSize
+        && it.hasNext();) {
+      weight -= weigh(it.next());
+      it.remove();
+      evictions++;
+    }
+  }
+
+  /**
+   * Drop the database and everything that belongs to it.
+   */
+  synchronized void invalidateDatabase(String dbName) {
+    generation++;
+    invalidations++;
+    for (Iterator<Map.Entry<Key, Object>> it = entries.entrySet().iterator(); it
+        .hasNext();) {
+      Map.Entry<Key, Object> entry = it.next();
+      if (entry.getKey().isInDatabase(dbName)) {
+        weight -= weigh(entry.getValue());
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Drop the table and all its partitions.
+   */
+  synchronized void invalidateTable(String dbName, String tableName) {
+    generation++;
+    invalidations++;
+    for (Iterator<Map.Entry<Key, Object>> it = entries.entrySet().iterator(); it
+        .hasNext();) {
+      Map.Entry<Key, Object> entry = it.next();
+      if (entry.getKey().isInTable(dbName, tableName)) {
+        weight -= weigh(entry.getValue());
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Drop the partitions of a table, but not the table itself.
+   */
+  synchronized void invalidatePartitions(String dbName, String tableName) {
+    generation++;
+    invalidations++;
+    for (Iterator<Map.Entry<Key, Object>> it = entries.entrySet().iterator(); it
+        .hasNext();) {
+      Map.Entry<Key, Object> entry = it.next();
+      Key key = entry.getKey();
+      if (key.kind != Kind.TABLE && key.isInTable(dbName, tableName)) {
+        weight -= weigh(entry.getValue());
+        it.remove();
+      }
+    }
+  }
+
+  @Override
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  @Override
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  @Override
+  public synchronized double getHitRatio() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0.0 : (double) hits / lookups;
+  }
+
+  @Override
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  @Override
+  public synchronized long getInvalidations() {
+    return invalidations;
+  }
+
+  @Override
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  @Override
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public synchronized void clear() {
+    generation++;
+    invalidations++;
+    entries.clear();
+    weight = 0;
+  }
+}
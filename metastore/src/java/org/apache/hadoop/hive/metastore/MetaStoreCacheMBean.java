@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+/**
+ * Management interface of the metastore server cache.
+ */
+public interface MetaStoreCacheMBean {
+
+  /**
+   * @return the number of lookups answered from the cache
+   */
+  public long getHits();
+
+  /**
+   * @return the number of lookups that went to the backing store
+   */
+  public long getMisses();
+
+  /**
+   * @return the fraction of lookups answered from the cache
+   */
+  public double getHitRatio();
+
+  /**
+   * @return the number of entries dropped because the cache was full
+   */
+  public long getEvictions();
+
+  /**
+   * @return the number of invalidations caused by metadata changes
+   */
+  public long getInvalidations();
+
+  /**
+   * @return the number of cached entries
+   */
+  public int getSize();
+
+  /**
+   * @return the number of cached objects, counting every partition of a
+   *         cached partition list
+   */
+  public long getWeight();
+
+  /**
+   * @return the maximum number of cached objects
+   */
+  public int getMaxSize();
+
+  /**
+   * Drops all cached entries.
+   */
+  public void clear();
+}
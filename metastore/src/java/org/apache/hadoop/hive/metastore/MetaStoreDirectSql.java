@@ -0,0 +1,332 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+import javax.jdo.datastore.JDOConnection;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.MetaException;
+import org.apache.hadoop.hive.metastore.api.Order;
+import org.apache.hadoop.hive.metastore.api.Partition;
+import org.apache.hadoop.hive.metastore.api.SerDeInfo;
+import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
+
+/**
+ * Reads partitions with plain SQL against the tables DataNucleus maps the
+ * model classes to (see package.jdo), instead of materializing MPartition
+ * object graphs. All partitions of a request are fetched with one query,
+ * and their values, parameters, storage descriptors, serdes and columns
+ * with one query per kind, which avoids the per-object round trips the ORM
+ * makes when it resolves each partition.
+ *
+ * The queries are run through the persistence manager, so they take part
+ * in its current transaction. Only datastores whose SQL dialect has been
+ * checked are supported; ObjectStore falls back to JDO for the others and
+ * whenever a query fails.
+ */
+class MetaStoreDirectSql {
+
+  private static final Log LOG = LogFactory.getLog(MetaStoreDirectSql.class
+      .getName());
+
+  // number of ids in one IN list, well below the limits of all supported
+  // datastores
+  private static final int BATCH_SIZE = 1000;
+
+  private final PersistenceManager pm;
+  private final boolean isCompatibleDatastore;
+  // MySQL only accepts ANSI quotes when running in ANSI_QUOTES mode
+  private final boolean isMySql;
+
+  public MetaStoreDirectSql(PersistenceManager pm) {
+    this.pm = pm;
+    String product = getProductName();
+    isMySql = product != null && product.contains("mysql");
+    isCompatibleDatastore = product != null
+        && (isMySql || product.contains("derby") || product.contains("postgresql"));
+    if (!isCompatibleDatastore) {
+      LOG.info("Direct SQL is not supported for datastore " + product
+          + ", using JDO for all partition lookups");
+    }
+  }
+
+  private String getProductName() {
+    JDOConnection jdoConn = pm.getDataStoreConnection();
+    try {
+      Connection conn = (Connection) jdoConn.getNativeConnection();
+      return conn.getMetaData().getDatabaseProductName().toLowerCase();
+    } catch (SQLException e) {
+      LOG.warn("Unable to determine the datastore product: " + e);
+      return null;
+    } finally {
+      jdoConn.close();
+    }
+  }
+
+  /**
+   * @return true if the datastore dialect is one the queries were checked
+   *         against
+   */
+  public boolean isCompatibleDatastore() {
+    return isCompatibleDatastore;
+  }
+
+  /**
+   * Gets all the partitions of a table, ordered by name.
+   */
+  public List<Partition> getPartitions(String dbName, String tblName)
+      throws MetaException {
+    return getPartitionsViaSql(dbName, tblName, null);
+  }
+
+  /**
+   * Gets the partitions of a table with the given names, ordered by name.
+   */
+  public List<Partition> getPartitionsByNames(String dbName, String tblName,
+      List<String> partNames) throws MetaException {
+    List<Partition> parts = new ArrayList<Partition>(partNames.size());
+    for (int i = 0; i < partNames.size(); i += BATCH_SIZE) {
+      parts.addAll(getPartitionsViaSql(dbName, tblName, partNames.subList(i,
+          Math.min(partNames.size(), i + BATCH_SIZE))));
+    }
+    return parts;
+  }
+
+  private List<Partition> getPartitionsViaSql(String dbName, String tblName,
+      List<String> partNames) throws MetaException {
+    dbName = dbName.toLowerCase().trim();
+    tblName = tblName.toLowerCase().trim();
+
+    StringBuilder sql = new StringBuilder(
+        "select \"PARTITIONS\".\"PART_ID\", \"PARTITIONS\".\"CREATE_TIME\","
+        + " \"PARTITIONS\".\"LAST_ACCESS_TIME\", \"SDS\".\"SD_ID\", \"SDS\".\"CD_ID\","
+        + " \"SDS\".\"LOCATION\", \"SDS\".\"INPUT_FORMAT\", \"SDS\".\"OUTPUT_FORMAT\","
+        + " \"SDS\".\"IS_COMPRESSED\", \"SDS\".\"NUM_BUCKETS\", \"SERDES\".\"SERDE_ID\","
+        + " \"SERDES\".\"NAME\", \"SERDES\".\"SLIB\""
+        + " from \"PARTITIONS\""
+        + " inner join \"TBLS\" on \"PARTITIONS\".\"TBL_ID\" = \"TBLS\".\"TBL_ID\""
+        + " inner join \"DBS\" on \"TBLS\".\"DB_ID\" = \"DBS\".\"DB_ID\""
+        + " left outer join \"SDS\" on \"PARTITIONS\".\"SD_ID\" = \"SDS\".\"SD_ID\""
+        + " left outer join \"SERDES\" on \"SDS\".\"SERDE_ID\" = \"SERDES\".\"SERDE_ID\""
+        + " where \"TBLS\".\"TBL_NAME\" = ? and \"DBS\".\"NAME\" = ?");
+    List<Object> params = new ArrayList<Object>();
+    params.add(tblName);
+    params.add(dbName);
+    if (partNames != null) {
+      if (partNames.isEmpty()) {
+        return new ArrayList<Partition>();
+      }
+      sql.append(" and \"PARTITIONS\".\"PART_NAME\" in (");
+      appendPlaceholders(sql, partNames.size());
+      sql.append(")");
+      params.addAll(partNames);
+    }
+    sql.append(" order by \"PARTITIONS\".\"PART_NAME\" asc");
+
+    // partitions in name order, and the storage descriptors, serdes and
+    // column descriptors they use
+    LinkedHashMap<Long, Partition> parts = new LinkedHashMap<Long, Partition>();
+    Map<Long, List<StorageDescriptor>> sds = new HashMap<Long, List<StorageDescriptor>>();
+    Map<Long, List<SerDeInfo>> serdes = new HashMap<Long, List<SerDeInfo>>();
+    Map<Long, List<StorageDescriptor>> cds = new HashMap<Long, List<StorageDescriptor>>();
+
+    for (Object[] row : execute(sql.toString(), params)) {
+      Partition part = new Partition();
+      part.setDbName(dbName);
+      part.setTableName(tblName);
+      part.setCreateTime(extractInt(row[1]));
+      part.setLastAccessTime(extractInt(row[2]));
+      part.setValues(new ArrayList<String>());
+      part.setParameters(new HashMap<String, String>());
+      parts.put(extractLong(row[0]), part);
+
+      if (row[3] == null) {
+        continue;
+      }
+      StorageDescriptor sd = new StorageDescriptor();
+      sd.setLocation((String) row[5]);
+      sd.setInputFormat((String) row[6]);
+      sd.setOutputFormat((String) row[7]);
+      sd.setCompressed(extractBoolean(row[8]));
+      sd.setNumBuckets(extractInt(row[9]));
+      sd.setBucketCols(new ArrayList<String>());
+      sd.setSortCols(new ArrayList<Order>());
+      sd.setParameters(new HashMap<String, String>());
+      part.setSd(sd);
+      addTo(sds, extractLong(row[3]), sd);
+      if (row[4] != null) {
+        sd.setCols(new ArrayList<FieldSchema>());
+        addTo(cds, extractLong(row[4]), sd);
+      }
+      if (row[10] != null) {
+        SerDeInfo serde = new SerDeInfo((String) row[11], (String) row[12],
+            new HashMap<String, String>());
+        sd.setSerdeInfo(serde);
+        addTo(serdes, extractLong(row[10]), serde);
+      }
+    }
+    if (parts.isEmpty()) {
+      return new ArrayList<Partition>();
+    }
+
+    for (Object[] row : executeForIds("select \"PART_ID\", \"PART_KEY_VAL\""
+        + " from \"PARTITION_KEY_VALS\" where \"PART_ID\" in (%s)"
+        + " order by \"PART_ID\" asc, \"INTEGER_IDX\" asc", parts.keySet())) {
+      parts.get(extractLong(row[0])).getValues().add((String) row[1]);
+    }
+    for (Object[] row : executeForIds("select \"PART_ID\", \"PARAM_KEY\", \"PARAM_VALUE\""
+        + " from \"PARTITION_PARAMS\" where \"PART_ID\" in (%s)", parts.keySet())) {
+      parts.get(extractLong(row[0])).getParameters().put((String) row[1],
+          (String) row[2]);
+    }
+
+    for (Object[] row : executeForIds("select \"SD_ID\", \"PARAM_KEY\", \"PARAM_VALUE\""
+        + " from \"SD_PARAMS\" where \"SD_ID\" in (%s)", sds.keySet())) {
+      for (StorageDescriptor sd : sds.get(extractLong(row[0]))) {
+        sd.getParameters().put((String) row[1], (String) row[2]);
+      }
+    }
+    for (Object[] row : executeForIds("select \"SD_ID\", \"BUCKET_COL_NAME\""
+        + " from \"BUCKETING_COLS\" where \"SD_ID\" in (%s)"
+        + " order by \"SD_ID\" asc, \"INTEGER_IDX\" asc", sds.keySet())) {
+      for (StorageDescriptor sd : sds.get(extractLong(row[0]))) {
+        sd.getBucketCols().add((String) row[1]);
+      }
+    }
+    for (Object[] row : executeForIds("select \"SD_ID\", \"COLUMN_NAME\", \"ORDER\""
+        + " from \"SORT_COLS\" where \"SD_ID\" in (%s)"
+        + " order by \"SD_ID\" asc, \"INTEGER_IDX\" asc", sds.keySet())) {
+      for (StorageDescriptor sd : sds.get(extractLong(row[0]))) {
+        sd.getSortCols().add(new Order((String) row[1], extractInt(row[2])));
+      }
+    }
+
+    for (Object[] row : executeForIds("select \"SERDE_ID\", \"PARAM_KEY\", \"PARAM_VALUE\""
+        + " from \"SERDE_PARAMS\" where \"SERDE_ID\" in (%s)", serdes.keySet())) {
+      for (SerDeInfo serde : serdes.get(extractLong(row[0]))) {
+        serde.getParameters().put((String) row[1], (String) row[2]);
+      }
+    }
+
+    // partitions of a table usually share a few column descriptors, so each
+    // column is fetched once and copied into the storage descriptors using it
+    for (Object[] row : executeForIds("select \"CD_ID\", \"COLUMN_NAME\", \"TYPE_NAME\", \"COMMENT\""
+        + " from \"COLUMNS_V2\" where \"CD_ID\" in (%s)"
+        + " order by \"CD_ID\" asc, \"INTEGER_IDX\" asc", cds.keySet())) {
+      for (StorageDescriptor sd : cds.get(extractLong(row[0]))) {
+        sd.getCols().add(new FieldSchema((String) row[1], (String) row[2],
+            (String) row[3]));
+      }
+    }
+
+    return new ArrayList<Partition>(parts.values());
+  }
+
+  private static <T> void addTo(Map<Long, List<T>> map, Long id, T value) {
+    List<T> values = map.get(id);
+    if (values == null) {
+      values = new ArrayList<T>(1);
+      map.put(id, values);
+    }
+    values.add(value);
+  }
+
+  private static void appendPlaceholders(StringBuilder sql, int count) {
+    for (int i = 0; i < count; i++) {
+      sql.append(i == 0 ? "?" : ",?");
+    }
+  }
+
+  /**
+   * Runs a query whose "%s" is replaced by a list of ids, in batches.
+   */
+  private List<Object[]> executeForIds(String sql, Collection<Long> ids)
+      throws MetaException {
+    List<Object[]> rows = new ArrayList<Object[]>();
+    List<Object> batch = new ArrayList<Object>(Math.min(ids.size(), BATCH_SIZE));
+    for (Iterator<Long> it = ids.iterator(); it.hasNext();) {
+      batch.add(it.next());
+      if (batch.size() == BATCH_SIZE || !it.hasNext()) {
+        StringBuilder placeholders = new StringBuilder();
+        appendPlaceholders(placeholders, batch.size());
+        rows.addAll(execute(String.format(sql, placeholders), batch));
+        batch.clear();
+      }
+    }
+    return rows;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object[]> execute(String sql, List<Object> params)
+      throws MetaException {
+    if (isMySql) {
+      sql = sql.replace('"', '`');
+    }
+    Query query = pm.newQuery(Query.SQL, sql);
+    try {
+      List<Object[]> rows = new ArrayList<Object[]>();
+      for (Object row : (List<Object>) query.executeWithArray(params.toArray())) {
+        rows.add((Object[]) row);
+      }
+      return rows;
+    } catch (Exception e) {
+      throw new MetaException("Direct SQL query failed: " + sql + ": "
+          + e.getMessage());
+    } finally {
+      query.closeAll();
+    }
+  }
+
+  private static long extractLong(Object value) {
+    return ((Number) value).longValue();
+  }
+
+  private static int extractInt(Object value) {
+    return value == null ? 0 : ((Number) value).intValue();
+  }
+
+  private static boolean extractBoolean(Object value) {
+    if (value == null) {
+      return false;
+    }
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    if (value instanceof Number) {
+      return ((Number) value).intValue() != 0;
+    }
+    // Derby stores booleans as 'Y' / 'N'
+    String s = value.toString().trim();
+    return "Y".equalsIgnoreCase(s) || "true".equalsIgnoreCase(s) || "1".equals(s);
+  }
+}
@@ -0,0 +1,262 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TimerTask;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Latency metrics of the metastore. There is one timer per thrift method,
+ * named after the method, and the timers "transaction.commit" and
+ * "transaction.rollback" for the JDO transactions of ObjectStore, measured
+ * from the outermost openTransaction to the end of the transaction.
+ *
+ * Every timer keeps a histogram with power of two buckets, so recording a
+ * call is a few atomic increments and percentiles are exact to a factor of
+ * two. The metrics are registered as an MBean and can be dumped to the log
+ * periodically.
+ */
+public class MetaStoreMetrics implements MetaStoreMetricsMBean {
+
+  private static final Log LOG = LogFactory.getLog(MetaStoreMetrics.class
+      .getName());
+
+  public static final String TRANSACTION_COMMIT = "transaction.commit";
+  public static final String TRANSACTION_ROLLBACK = "transaction.rollback";
+
+  private static final MetaStoreMetrics instance = new MetaStoreMetrics();
+  private static boolean registered = false;
+
+  /**
+   * Latency of one kind of call. Bucket i counts the calls that took less
+   * than 2^i microseconds, the last bucket counts all longer calls.
+   */
+  public static final class Timer {
+    private static final int NUM_BUCKETS = 28;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+
+    /**
+     * Marks the start of a call.
+     *
+     * @return the start time to pass to {@link #stop(long)}
+     */
+    public long start() {
+      inFlight.incrementAndGet();
+      return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a call started with {@link #start()}.
+     */
+    public void stop(long startNanos) {
+      inFlight.decrementAndGet();
+      record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long nanos) {
+      calls.incrementAndGet();
+      totalNanos.addAndGet(nanos);
+      long max = maxNanos.get();
+      while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+        max = maxNanos.get();
+      }
+      buckets.incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * Zeroes the counts of finished calls. Calls in flight are still
+     * counted when they stop.
+     */
+    public void reset() {
+      calls.set(0);
+      totalNanos.set(0);
+      maxNanos.set(0);
+      for (int i = 0; i < NUM_BUCKETS; i++) {
+        buckets.set(i, 0);
+      }
+    }
+
+    static int bucket(long nanos) {
+      long micros = nanos / 1000;
+      int bucket = 64 - Long.numberOfLeadingZeros(micros);
+      return Math.min(bucket, NUM_BUCKETS - 1);
+    }
+
+    public long getCalls() {
+      return calls.get();
+    }
+
+    public int getInFlight() {
+      return inFlight.get();
+    }
+
+    public double getAverageMs() {
+      long n = calls.get();
+      return n == 0 ? 0 : totalNanos.get() / 1000000.0 / n;
+    }
+
+    public double getMaxMs() {
+      return maxNanos.get() / 1000000.0;
+    }
+
+    /**
+     * @return the upper bound in milliseconds of the bucket holding the
+     *         given fraction of the calls
+     */
+    public double getPercentileMs(double fraction) {
+      long[] counts = new long[NUM_BUCKETS];
+      long total = 0;
+      for (int i = 0; i < NUM_BUCKETS; i++) {
+        counts[i] = buckets.get(i);
+        total += counts[i];
+      }
+      if (total == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(fraction * total);
+      long seen = 0;
+      for (int i = 0; i < NUM_BUCKETS - 1; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return (1L << i) / 1000.0;
+        }
+      }
+      return getMaxMs();
+    }
+
+    @Override
+    public String toString() {
+      return "calls=" + getCalls() + " inFlight=" + getInFlight()
+          + String.format(" avgMs=%.3f p50Ms=%.3f p95Ms=%.3f p99Ms=%.3f maxMs=%.3f",
+              getAverageMs(), getPercentileMs(0.5), getPercentileMs(0.95),
+              getPercentileMs(0.99), getMaxMs());
+    }
+  }
+
+  private final ConcurrentHashMap<String, Timer> timers =
+    new ConcurrentHashMap<String, Timer>();
+  private java.util.Timer logTimer;
+
+  /**
+   * @return the metrics of this process, registered with the platform MBean
+   *         server on first use
+   */
+  public static synchronized MetaStoreMetrics getInstance() {
+    if (!registered) {
+      registered = true;
+      try {
+        ObjectName name = new ObjectName(
+            "org.apache.hadoop.hive.metastore:type=MetaStoreMetrics");
+        ManagementFactory.getPlatformMBeanServer().registerMBean(instance, name);
+      } catch (Exception e) {
+        // the metrics work without being visible through JMX
+        LOG.warn("Unable to register metastore metrics MBean: " + e);
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @return the timer of the given name, created on first use
+   */
+  public Timer getTimer(String name) {
+    Timer timer = timers.get(name);
+    if (timer == null) {
+      Timer newTimer = new Timer();
+      timer = timers.putIfAbsent(name, newTimer);
+      if (timer == null) {
+        timer = newTimer;
+      }
+    }
+    return timer;
+  }
+
+  public int getInFlightCalls() {
+    int inFlight = 0;
+    for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+      if (!entry.getKey().startsWith("transaction.")) {
+        inFlight += entry.getValue().getInFlight();
+      }
+    }
+    return inFlight;
+  }
+
+  public String[] getTimers() {
+    Map<String, Timer> sorted = new TreeMap<String, Timer>(timers);
+    List<String> result = new ArrayList<String>(sorted.size());
+    for (Map.Entry<String, Timer> entry : sorted.entrySet()) {
+      result.add(entry.getKey() + ": " + entry.getValue());
+    }
+    return result.toArray(new String[result.size()]);
+  }
+
+  /**
+   * Zeroes every timer in place, since the thrift processor keeps references
+   * to them.
+   */
+  public void reset() {
+    for (Timer timer : timers.values()) {
+      timer.reset();
+    }
+  }
+
+  /**
+   * Writes all timers to the log every intervalSeconds seconds. Does nothing
+   * if the interval is not positive or the dump is already running.
+   */
+  public synchronized void startLogging(long intervalSeconds) {
+    if (intervalSeconds <= 0 || logTimer != null) {
+      return;
+    }
+    logTimer = new java.util.Timer("MetaStoreMetrics", true);
+    long interval = intervalSeconds * 1000;
+    logTimer.scheduleAtFixedRate(new TimerTask() {
+      @Override
+      public void run() {
+        String[] lines = getTimers();
+        if (lines.length == 0) {
+          return;
+        }
+        StringBuilder sb = new StringBuilder("Metastore metrics:");
+        for (String line : lines) {
+          sb.append("\n  ").append(line);
+        }
+        LOG.info(sb.toString());
+      }
+    }, interval, interval);
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+/**
+ * Management interface of the metastore metrics.
+ */
+public interface MetaStoreMetricsMBean {
+
+  /**
+   * @return the number of calls currently running in the metastore
+   */
+  public int getInFlightCalls();
+
+  /**
+   * @return one line per timer with its number of calls, calls in flight,
+   *         and average, median, 95th, 99th percentile and maximum latency in
+   *         milliseconds
+   */
+  public String[] getTimers();
+
+  /**
+   * Resets all timers.
+   */
+  public void reset();
+}
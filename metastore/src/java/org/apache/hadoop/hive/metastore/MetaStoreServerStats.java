@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Queue statistics of the non-blocking metastore server. The statistics are
+ * registered as an MBean so that they can be watched through JMX. The
+ * latencies of the thrift methods are kept by {@link MetaStoreMetrics}.
+ */
+public class MetaStoreServerStats implements MetaStoreServerStatsMBean,
+    RejectedExecutionHandler {
+
+  private static final Log LOG = LogFactory.getLog(MetaStoreServerStats.class
+      .getName());
+
+  private final AtomicLong rejected = new AtomicLong();
+  private ThreadPoolExecutor workers;
+
+  /**
+   * Sets the pool running the calls. The pool reports rejected calls to this
+   * object, which counts and refuses them.
+   */
+  public void setWorkers(ThreadPoolExecutor workers) {
+    this.workers = workers;
+    workers.setRejectedExecutionHandler(this);
+  }
+
+  public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+    rejected.incrementAndGet();
+    throw new RejectedExecutionException("metastore worker queue is full ("
+        + executor.getQueue().size() + " waiting calls)");
+  }
+
+  public int getQueueDepth() {
+    return workers == null ? 0 : workers.getQueue().size();
+  }
+
+  public int getActiveWorkers() {
+    return workers == null ? 0 : workers.getActiveCount();
+  }
+
+  public int getWorkerThreads() {
+    return workers == null ? 0 : workers.getMaximumPoolSize();
+  }
+
+  public long getRejectedCalls() {
+    return rejected.get();
+  }
+
+  public long getCompletedCalls() {
+    return workers == null ? 0 : workers.getCompletedTaskCount();
+  }
+
+  /**
+   * Registers the statistics with the platform MBean server.
+   */
+  public void register() {
+    try {
+      ObjectName name = new ObjectName(
+          "org.apache.hadoop.hive.metastore:type=MetaStoreServer");
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+    } catch (Exception e) {
+      // the server works without being visible through JMX
+      LOG.warn("Unable to register metastore server MBean: " + e);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+/**
+ * Management interface of the non-blocking metastore server.
+ */
+public interface MetaStoreServerStatsMBean {
+
+  /**
+   * @return the number of calls waiting for a worker
+   */
+  public int getQueueDepth();
+
+  /**
+   * @return the number of workers running a call
+   */
+  public int getActiveWorkers();
+
+  /**
+   * @return the number of worker threads
+   */
+  public int getWorkerThreads();
+
+  /**
+   * @return the number of calls rejected because the queue was full
+   */
+  public long getRejectedCalls();
+
+  /**
+   * @return the number of calls that completed
+   */
+  public long getCompletedCalls();
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,7 @@ import org.apache.hadoop.hive.metastore.model.MFieldSchema;
 import org.apache.hadoop.hive.metastore.model.MIndex;
 import org.apache.hadoop.hive.metastore.model.MOrder;
 import org.apache.hadoop.hive.metastore.model.MPartition;
+import org.apache.hadoop.hive.metastore.model.MColumnDescriptor;
 import org.apache.hadoop.hive.metastore.model.MDBPrivilege;
 import org.apache.hadoop.hive.metastore.model.MPartitionColumnPrivilege;
 import org.apache.hadoop.hive.metastore.model.MPartitionPrivilege;
@@ -105,6 +107,9 @@ public class ObjectStore implements RawStore, Configurable {
   private static Lock pmfPropLock = new ReentrantLock();
   private static final Log LOG = LogFactory.getLog(ObjectStore.class.getName());
 
+  // column descriptors checked for references by one query
+  private static final int CD_BATCH_SIZE = 1000;
+
   private static enum TXN_STATUS {
     NO_STATE, OPEN, COMMITED, ROLLBACK
   }
@@ -114,6 +119,7 @@ public class ObjectStore implements RawStore, Configurable {
     Map<String, Class> map = new HashMap();
     map.put("table", MTable.class);
     map.put("storagedescriptor", MStorageDescriptor.class);
+    map.put("columndescriptor", MColumnDescriptor.class);
     map.put("serdeinfo", MSerDeInfo.class);
     map.put("partition", MPartition.class);
     map.put("database", MDatabase.class);
@@ -125,10 +131,14 @@ public class ObjectStore implements RawStore, Configurable {
 
   private boolean isInitialized = false;
   private PersistenceManager pm = null;
+  private MetaStoreDirectSql directSql = null;
   private Configuration hiveConf;
   int openTrasactionCalls = 0;
   private Transaction currentTransaction = null;
   private TXN_STATUS transactionStatus = TXN_STATUS.NO_STATE;
+  // metrics of the JDO transactions, null if disabled
+  private MetaStoreMetrics metrics = null;
+  private long transactionStart;
 
   public ObjectStore() {
   }
@@ -195,6 +205,18 @@ public class ObjectStore implements RawStore, Configurable {
     prop = dsProps;
     pm = getPersistenceManager();
     isInitialized = pm != null;
+    if (isInitialized && HiveConf.getBoolVar(getConf(),
+        HiveConf.ConfVars.METASTORE_TRY_DIRECT_SQL)) {
+      directSql = new MetaStoreDirectSql(pm);
+    } else {
+      directSql = null;
+    }
+    if (HiveConf.getBoolVar(getConf(),
+        HiveConf.ConfVars.METASTORE_METRICS_ENABLED)) {
+      metrics = MetaStoreMetrics.getInstance();
+    } else {
+      metrics = null;
+    }
     return;
   }
 
@@ -280,6 +302,7 @@ public class ObjectStore implements RawStore, Configurable {
       currentTransaction = pm.currentTransaction();
       currentTransaction.begin();
       transactionStatus = TXN_STATUS.OPEN;
+      transactionStart = System.nanoTime();
     } else {
       // something is wrong since openTransactionCalls is greater than 1 but
       // currentTransaction is not active
@@ -313,6 +336,10 @@ public class ObjectStore implements RawStore, Configurable {
     if ((openTrasactionCalls == 0) && currentTransaction.isActive()) {
       transactionStatus = TXN_STATUS.COMMITED;
       currentTransaction.commit();
+      if (metrics != null) {
+        metrics.getTimer(MetaStoreMetrics.TRANSACTION_COMMIT).record(
+            System.nanoTime() - transactionStart);
+      }
     }
     return true;
   }
@@ -341,6 +368,10 @@ public class ObjectStore implements RawStore, Configurable {
       transactionStatus = TXN_STATUS.ROLLBACK;
       // could already be rolled back
       currentTransaction.rollback();
+      if (metrics != null) {
+        metrics.getTimer(MetaStoreMetrics.TRANSACTION_ROLLBACK).record(
+            System.nanoTime() - transactionStart);
+      }
     }
   }
 
@@ -688,9 +719,21 @@ public class ObjectStore implements RawStore, Configurable {
         if (partColGrants != null && partColGrants.size() > 0) {
           pm.deletePersistentAll(partColGrants);
         }
-        pm.deletePersistentAll(listMPartitions(dbName, tableName, -1));
+        List<MPartition> mparts = listMPartitions(dbName, tableName, -1);
+        Set<MColumnDescriptor> cds = new HashSet<MColumnDescriptor>();
+        for (MPartition mpart : mparts) {
+          if (mpart.getSd() != null) {
+            cds.add(mpart.getSd().getCD());
+          }
+        }
+        pm.deletePersistentAll(mparts);
         // then remove the table
+        if (tbl.getSd() != null) {
+          cds.add(tbl.getSd().getCD());
+        }
         pm.deletePersistentAll(tbl);
+        // and the column descriptors nobody else uses
+        removeUnusedColumnDescriptors(cds);
       }
       success = commitTransaction();
     } finally {
@@ -912,7 +955,13 @@ public class ObjectStore implements RawStore, Configurable {
     if (msd == null) {
       return null;
     }
-    return new StorageDescriptor(convertToFieldSchemas(msd.getCols()), msd
+    return convertToStorageDescriptor(msd, msd.getCD() == null ? null
+        : convertToFieldSchemas(msd.getCD().getCols()));
+  }
+
+  private StorageDescriptor convertToStorageDescriptor(MStorageDescriptor msd,
+      List<FieldSchema> cols) throws MetaException {
+    return new StorageDescriptor(cols, msd
         .getLocation(), msd.getInputFormat(), msd.getOutputFormat(), msd
         .isCompressed(), msd.getNumBuckets(), converToSerDeInfo(msd
         .getSerDeInfo()), msd.getBucketCols(), convertToOrders(msd
@@ -924,7 +973,20 @@ public class ObjectStore implements RawStore, Configurable {
     if (sd == null) {
       return null;
     }
-    return new MStorageDescriptor(convertToMFieldSchemas(sd.getCols()), sd
+    return convertToMStorageDescriptor(sd, new MColumnDescriptor(
+        convertToMFieldSchemas(sd.getCols())));
+  }
+
+  /**
+   * Converts a storage descriptor, using the given column descriptor for its
+   * columns.
+   */
+  private MStorageDescriptor convertToMStorageDescriptor(StorageDescriptor sd,
+      MColumnDescriptor cd) throws MetaException {
+    if (sd == null) {
+      return null;
+    }
+    return new MStorageDescriptor(cd, sd
         .getLocation(), sd.getInputFormat(), sd.getOutputFormat(), sd
         .isCompressed(), sd.getNumBuckets(), converToMSerDeInfo(sd
         .getSerdeInfo()), sd.getBucketCols(),
@@ -936,55 +998,92 @@ public class ObjectStore implements RawStore, Configurable {
     boolean success = false;
     boolean commited = false;
     try {
+      openTransaction();
       MTable table = this.getMTable(part.getDbName(), part.getTableName());
-      List<MTablePrivilege> tabGrants = null;
-      List<MTableColumnPrivilege> tabColumnGrants = null;
-      if ("TRUE".equalsIgnoreCase(table.getParameters().get("PARTITION_LEVEL_PRIVILEGE"))) {
-        tabGrants = this.listAllTableGrants(part
-            .getDbName(), part.getTableName());
-        tabColumnGrants = this.listTableAllColumnGrants(
-            part.getDbName(), part.getTableName());
+      addPartition(part, table);
+      commited = commitTransaction();
+      success = true;
+    } finally {
+      if (!commited) {
+        rollbackTransaction();
       }
-      openTransaction();
-      MPartition mpart = convertToMPart(part);
-      pm.makePersistent(mpart);
+    }
+    return success;
+  }
 
-      int now = (int)(System.currentTimeMillis()/1000);
-      List<Object> toPersist = new ArrayList<Object>();
-      if (tabGrants != null) {
-        for (MTablePrivilege tab: tabGrants) {
-          MPartitionPrivilege partGrant = new MPartitionPrivilege(tab
-              .getPrincipalName(), tab.getPrincipalType(),
-              mpart, tab.getPrivilege(), now, tab.getGrantor(), tab
-                  .getGrantorType(), tab.getGrantOption());
-          toPersist.add(partGrant);
-        }
-      }
-      
-      if (tabColumnGrants != null) {
-        for (MTableColumnPrivilege col : tabColumnGrants) {
-          MPartitionColumnPrivilege partColumn = new MPartitionColumnPrivilege(col
-              .getPrincipalName(), col.getPrincipalType(), mpart, col
-              .getColumnName(), col.getPrivilege(), now, col.getGrantor(), col
-              .getGrantorType(), col.getGrantOption());
-          toPersist.add(partColumn);
-        }
-        
-        if (toPersist.size() > 0) {
-          pm.makePersistentAll(toPersist);
+  public boolean addPartitions(List<Partition> parts)
+      throws InvalidObjectException, MetaException {
+    boolean success = false;
+    try {
+      openTransaction();
+      // the partitions of one call usually share a table, so look it up once
+      Map<String, MTable> tables = new HashMap<String, MTable>();
+      for (Partition part : parts) {
+        String key = part.getDbName() + "." + part.getTableName();
+        MTable table = tables.get(key);
+        if (table == null) {
+          table = getMTable(part.getDbName(), part.getTableName());
+          tables.put(key, table);
         }
+        addPartition(part, table);
       }
-
-      commited = commitTransaction();
-      success = true;
+      success = commitTransaction();
     } finally {
-      if (!commited) {
+      if (!success) {
         rollbackTransaction();
       }
     }
     return success;
   }
 
+  /**
+   * Persists a partition of the given table along with the partition level
+   * grants copied from the table. Must be called inside a transaction.
+   */
+  private void addPartition(Partition part, MTable table)
+      throws InvalidObjectException, MetaException {
+    if (table == null) {
+      throw new InvalidObjectException(
+          "Partition doesn't have a valid table or database name");
+    }
+    List<MTablePrivilege> tabGrants = null;
+    List<MTableColumnPrivilege> tabColumnGrants = null;
+    if ("TRUE".equalsIgnoreCase(table.getParameters().get("PARTITION_LEVEL_PRIVILEGE"))) {
+      tabGrants = this.listAllTableGrants(part
+          .getDbName(), part.getTableName());
+      tabColumnGrants = this.listTableAllColumnGrants(
+          part.getDbName(), part.getTableName());
+    }
+    MPartition mpart = convertToMPart(part, table);
+    pm.makePersistent(mpart);
+
+    int now = (int)(System.currentTimeMillis()/1000);
+    List<Object> toPersist = new ArrayList<Object>();
+    if (tabGrants != null) {
+      for (MTablePrivilege tab: tabGrants) {
+        MPartitionPrivilege partGrant = new MPartitionPrivilege(tab
+            .getPrincipalName(), tab.getPrincipalType(),
+            mpart, tab.getPrivilege(), now, tab.getGrantor(), tab
+                .getGrantorType(), tab.getGrantOption());
+        toPersist.add(partGrant);
+      }
+    }
+    
+    if (tabColumnGrants != null) {
+      for (MTableColumnPrivilege col : tabColumnGrants) {
+        MPartitionColumnPrivilege partColumn = new MPartitionColumnPrivilege(col
+            .getPrincipalName(), col.getPrincipalType(), mpart, col
+            .getColumnName(), col.getPrivilege(), now, col.getGrantor(), col
+            .getGrantorType(), col.getGrantOption());
+        toPersist.add(partColumn);
+      }
+      
+      if (toPersist.size() > 0) {
+        pm.makePersistentAll(toPersist);
+      }
+    }
+  }
+
   public Partition getPartition(String dbName, String tableName,
       List<String> part_vals) throws NoSuchObjectException, MetaException {
     openTransaction();
@@ -1034,15 +1133,25 @@ public class ObjectStore implements RawStore, Configurable {
     if (part == null) {
       return null;
     }
-    MTable mt = getMTable(part.getDbName(), part.getTableName());
+    return convertToMPart(part, getMTable(part.getDbName(), part.getTableName()));
+  }
+
+  private MPartition convertToMPart(Partition part, MTable mt)
+      throws InvalidObjectException, MetaException {
     if (mt == null) {
       throw new InvalidObjectException(
           "Partition doesn't have a valid table or database name");
     }
+    // share the columns of the table if the partition has the same ones
+    MStorageDescriptor msd = null;
+    if (part.getSd() != null) {
+      MColumnDescriptor cd = getColumnDescriptor(part.getSd().getCols(),
+          mt.getSd().getCD());
+      msd = convertToMStorageDescriptor(part.getSd(), cd);
+    }
     return new MPartition(Warehouse.makePartName(convertToFieldSchemas(mt
         .getPartitionKeys()), part.getValues()), mt, part.getValues(), part
-        .getCreateTime(), part.getLastAccessTime(),
-        convertToMStorageDescriptor(part.getSd()), part.getParameters());
+        .getCreateTime(), part.getLastAccessTime(), msd, part.getParameters());
   }
 
   private Partition convertToPart(MPartition mpart) throws MetaException {
@@ -1082,7 +1191,9 @@ public class ObjectStore implements RawStore, Configurable {
           pm.deletePersistentAll(partColumnGrants);
         }
 
+        MColumnDescriptor cd = part.getSd().getCD();
         pm.deletePersistent(part);
+        removeUnusedColumnDescriptor(cd);
       }
       success = commitTransaction();
     } finally {
@@ -1095,6 +1206,23 @@ public class ObjectStore implements RawStore, Configurable {
 
   public List<Partition> getPartitions(String dbName, String tableName, int max)
       throws MetaException {
+    if (canUseDirectSql()) {
+      boolean success = false;
+      try {
+        openTransaction();
+        List<Partition> parts = directSql.getPartitions(dbName, tableName);
+        success = commitTransaction();
+        return parts;
+      } catch (Exception e) {
+        // any failure of the SQL path, including datastore runtime exceptions,
+        // is rolled back below and the partitions are read with JDO instead
+        LOG.warn("Falling back to JDO: " + e, e);
+      } finally {
+        if (!success) {
+          rollbackTransaction();
+        }
+      }
+    }
     openTransaction();
     List<Partition> parts = convertToParts(listMPartitions(dbName, tableName,
         max));
@@ -1169,15 +1297,53 @@ public class ObjectStore implements RawStore, Configurable {
   }
 
 
+  /**
+   * Direct SQL is only tried outside of transactions, so that a failed query
+   * can be rolled back without affecting the caller before falling back to
+   * JDO.
+   */
+  private boolean canUseDirectSql() {
+    return directSql != null && directSql.isCompatibleDatastore()
+        && !isActiveTransaction();
+  }
+
   private List<Partition> convertToParts(List<MPartition> mparts)
       throws MetaException {
     List<Partition> parts = new ArrayList<Partition>(mparts.size());
+    // partitions usually share a few column descriptors, so only fetch and
+    // convert the columns of each descriptor once
+    Map<MColumnDescriptor, List<FieldSchema>> cdCols =
+      new IdentityHashMap<MColumnDescriptor, List<FieldSchema>>();
     for (MPartition mp : mparts) {
-      parts.add(convertToPart(mp));
+      MStorageDescriptor msd = mp.getSd();
+      if (msd == null || msd.getCD() == null) {
+        parts.add(convertToPart(mp));
+        continue;
+      }
+      List<FieldSchema> cols = cdCols.get(msd.getCD());
+      if (cols == null) {
+        cols = convertToFieldSchemas(msd.getCD().getCols());
+        cdCols.put(msd.getCD(), cols);
+      }
+      parts.add(new Partition(mp.getValues(), mp.getTable().getDatabase()
+          .getName(), mp.getTable().getTableName(), mp.getCreateTime(), mp
+          .getLastAccessTime(), convertToStorageDescriptor(msd,
+          copyFieldSchemas(cols)), mp.getParameters()));
     }
     return parts;
   }
 
+  private List<FieldSchema> copyFieldSchemas(List<FieldSchema> cols) {
+    if (cols == null) {
+      return null;
+    }
+    List<FieldSchema> copy = new ArrayList<FieldSchema>(cols.size());
+    for (FieldSchema col : cols) {
+      copy.add(new FieldSchema(col));
+    }
+    return copy;
+  }
+
   // TODO:pc implement max
   public List<String> listPartitionNames(String dbName, String tableName,
       short max) throws MetaException {
@@ -1237,6 +1403,31 @@ public class ObjectStore implements RawStore, Configurable {
   @Override
   public List<Partition> getPartitionsByFilter(String dbName, String tblName,
       String filter, short maxParts) throws MetaException, NoSuchObjectException {
+    if (canUseDirectSql()) {
+      boolean success = false;
+      try {
+        openTransaction();
+        if (getMTable(dbName, tblName) == null) {
+          throw new NoSuchObjectException("Specified database/table does not exist : "
+              + dbName + "." + tblName);
+        }
+        // the filter is evaluated by JDO, only the partitions are read with SQL
+        List<String> partNames = listPartitionNamesByFilter(dbName, tblName,
+            filter, maxParts);
+        List<Partition> parts = directSql.getPartitionsByNames(dbName,
+            tblName, partNames);
+        success = commitTransaction();
+        return parts;
+      } catch (NoSuchObjectException e) {
+        throw e;
+      } catch (Exception e) {
+        LOG.warn("Falling back to JDO: " + e, e);
+      } finally {
+        if (!success) {
+          rollbackTransaction();
+        }
+      }
+    }
     openTransaction();
     List<Partition> parts = convertToParts(listMPartitionsByFilter(dbName,
         tblName, filter, maxParts));
@@ -1416,6 +1607,12 @@ public class ObjectStore implements RawStore, Configurable {
         throw new MetaException("table " + name + " doesn't exist");
       }
 
+      // keep the column descriptor if the columns did not change; partitions
+      // keep referencing the old one otherwise
+      MColumnDescriptor oldCD = oldt.getSd().getCD();
+      newt.getSd().setCD(getColumnDescriptor(newTable.getSd().getCols(),
+          oldCD));
+
       // For now only alter name, owner, paramters, cols, bucketcols are allowed
       oldt.setTableName(newt.getTableName().toLowerCase());
       oldt.setParameters(newt.getParameters());
@@ -1426,6 +1623,9 @@ public class ObjectStore implements RawStore, Configurable {
       oldt.setPartitionKeys(newt.getPartitionKeys());
       oldt.setTableType(newt.getTableType());
       oldt.setLastAccessTime(newt.getLastAccessTime());
+      if (oldCD != newt.getSd().getCD()) {
+        removeUnusedColumnDescriptor(oldCD);
+      }
 
       // commit the changes
       success = commitTransaction();
@@ -1471,22 +1671,28 @@ public class ObjectStore implements RawStore, Configurable {
     boolean success = false;
     try {
       openTransaction();
-      name = name.toLowerCase();
-      dbname = dbname.toLowerCase();
-      MPartition oldp = getMPartition(dbname, name, newPart.getValues());
-      MPartition newp = convertToMPart(newPart);
-      if (oldp == null || newp == null) {
-        throw new InvalidObjectException("partition does not exist.");
-      }
-      oldp.setParameters(newPart.getParameters());
-      copyMSD(newp.getSd(), oldp.getSd());
-      if (newp.getCreateTime() != oldp.getCreateTime()) {
-        oldp.setCreateTime(newp.getCreateTime());
+      Set<MColumnDescriptor> oldCDs = new HashSet<MColumnDescriptor>();
+      alterPartitionNoTxn(dbname, name, newPart, oldCDs);
+      removeUnusedColumnDescriptors(oldCDs);
+      // commit the changes
+      success = commitTransaction();
+    } finally {
+      if (!success) {
+        rollbackTransaction();
       }
-      if (newp.getLastAccessTime() != oldp.getLastAccessTime()) {
-        oldp.setLastAccessTime(newp.getLastAccessTime());
+    }
+  }
+
+  public void alterPartitions(String dbname, String name,
+      List<Partition> newParts) throws InvalidObjectException, MetaException {
+    boolean success = false;
+    try {
+      openTransaction();
+      Set<MColumnDescriptor> oldCDs = new HashSet<MColumnDescriptor>();
+      for (Partition newPart : newParts) {
+        alterPartitionNoTxn(dbname, name, newPart, oldCDs);
       }
-      // commit the changes
+      removeUnusedColumnDescriptors(oldCDs);
       success = commitTransaction();
     } finally {
       if (!success) {
@@ -1495,9 +1701,44 @@ public class ObjectStore implements RawStore, Configurable {
     }
   }
 
+  /**
+   * Alters a partition in the current transaction. Adds the column
+   * descriptor the partition stops referencing to oldCDs.
+   */
+  private void alterPartitionNoTxn(String dbname, String name,
+      Partition newPart, Set<MColumnDescriptor> oldCDs)
+      throws InvalidObjectException, MetaException {
+    name = name.toLowerCase();
+    dbname = dbname.toLowerCase();
+    MPartition oldp = getMPartition(dbname, name, newPart.getValues());
+    MPartition newp = convertToMPart(newPart);
+    if (oldp == null || newp == null) {
+      throw new InvalidObjectException("partition does not exist.");
+    }
+    oldp.setParameters(newPart.getParameters());
+    MColumnDescriptor oldCD = oldp.getSd().getCD();
+    if (newPart.getSd() != null
+        && newp.getSd().getCD() != oldp.getTable().getSd().getCD()) {
+      // convertToMPart shares the columns of the table if they are the same,
+      // otherwise keep the current ones if they did not change
+      newp.getSd().setCD(getColumnDescriptor(newPart.getSd().getCols(),
+          oldCD));
+    }
+    copyMSD(newp.getSd(), oldp.getSd());
+    if (oldCD != null && oldCD != oldp.getSd().getCD()) {
+      oldCDs.add(oldCD);
+    }
+    if (newp.getCreateTime() != oldp.getCreateTime()) {
+      oldp.setCreateTime(newp.getCreateTime());
+    }
+    if (newp.getLastAccessTime() != oldp.getLastAccessTime()) {
+      oldp.setLastAccessTime(newp.getLastAccessTime());
+    }
+  }
+
   private void copyMSD(MStorageDescriptor newSd, MStorageDescriptor oldSd) {
     oldSd.setLocation(newSd.getLocation());
-    oldSd.setCols(newSd.getCols());
+    oldSd.setCD(newSd.getCD());
     oldSd.setBucketCols(newSd.getBucketCols());
     oldSd.setCompressed(newSd.isCompressed());
     oldSd.setInputFormat(newSd.getInputFormat());
@@ -1509,6 +1750,82 @@ public class ObjectStore implements RawStore, Configurable {
     oldSd.getSerDeInfo().setParameters(newSd.getSerDeInfo().getParameters());
   }
 
+  /**
+   * Returns the given column descriptor if it has exactly the given columns,
+   * or a new column descriptor for them otherwise.
+   */
+  private MColumnDescriptor getColumnDescriptor(List<FieldSchema> cols,
+      MColumnDescriptor cd) {
+    if (cd != null && cols != null) {
+      List<FieldSchema> cdCols = convertToFieldSchemas(cd.getCols());
+      List<FieldSchema> newCols = convertToFieldSchemas(
+          convertToMFieldSchemas(cols));
+      if (newCols.equals(cdCols)) {
+        return cd;
+      }
+    }
+    return new MColumnDescriptor(convertToMFieldSchemas(cols));
+  }
+
+  private void removeUnusedColumnDescriptor(MColumnDescriptor cd) {
+    if (cd != null) {
+      removeUnusedColumnDescriptors(Collections.singleton(cd));
+    }
+  }
+
+  /**
+   * Deletes the column descriptors no storage descriptor references any
+   * more. The references are counted by query rather than stored, so they
+   * cannot drift from the actual ones. One query checks up to
+   * CD_BATCH_SIZE descriptors.
+   */
+  private void removeUnusedColumnDescriptors(Collection<MColumnDescriptor> cds) {
+    List<MColumnDescriptor> candidates = new ArrayList<MColumnDescriptor>();
+    for (MColumnDescriptor cd : cds) {
+      if (cd != null) {
+        candidates.add(cd);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return;
+    }
+    boolean success = false;
+    try {
+      openTransaction();
+      // make pending deletes of storage descriptors visible to the query
+      pm.flush();
+      List<MColumnDescriptor> unused = new ArrayList<MColumnDescriptor>();
+      for (int i = 0; i < candidates.size(); i += CD_BATCH_SIZE) {
+        List<MColumnDescriptor> batch = candidates.subList(i,
+            Math.min(i + CD_BATCH_SIZE, candidates.size()));
+        Query query = pm.newQuery(MStorageDescriptor.class,
+            "inCDs.contains(this.cd)");
+        query.declareParameters("java.util.Collection inCDs");
+        query.setResult("distinct this.cd");
+        Collection used = (Collection) query.execute(batch);
+        Set<MColumnDescriptor> usedCDs = new HashSet<MColumnDescriptor>();
+        for (Object cd : used) {
+          usedCDs.add((MColumnDescriptor) cd);
+        }
+        query.closeAll();
+        for (MColumnDescriptor cd : batch) {
+          if (!usedCDs.contains(cd)) {
+            unused.add(cd);
+          }
+        }
+      }
+      if (!unused.isEmpty()) {
+        LOG.debug("Removing " + unused.size() + " unused column descriptors");
+        pm.deletePersistentAll(unused);
+      }
+      success = commitTransaction();
+    } finally {
+      if (!success) {
+        rollbackTransaction();
+      }
+    }
+  }
+
   @Override
   public boolean addIndex(Index index) throws InvalidObjectException,
       MetaException {
@@ -1561,7 +1878,9 @@ public class ObjectStore implements RawStore, Configurable {
       openTransaction();
       MIndex index = getMIndex(dbName, origTableName, indexName);
       if (index != null) {
+        MColumnDescriptor cd = index.getSd().getCD();
         pm.deletePersistent(index);
+        removeUnusedColumnDescriptor(cd);
       }
       success = commitTransaction();
     } finally {
@@ -99,6 +99,9 @@ public interface RawStore extends Configurable {
   public abstract boolean addPartition(Partition part)
       throws InvalidObjectException, MetaException;
 
+  public abstract boolean addPartitions(List<Partition> parts)
+      throws InvalidObjectException, MetaException;
+
   public abstract Partition getPartition(String dbName, String tableName,
       List<String> part_vals) throws MetaException, NoSuchObjectException;
 
@@ -125,6 +128,9 @@ public interface RawStore extends Configurable {
   public abstract void alterPartition(String db_name, String tbl_name,
       Partition new_part) throws InvalidObjectException, MetaException;
 
+  public abstract void alterPartitions(String db_name, String tbl_name,
+      List<Partition> new_parts) throws InvalidObjectException, MetaException;
+
   public abstract boolean addIndex(Index index)
       throws InvalidObjectException, MetaException;
 
@@ -23,10 +23,12 @@ import static org.apache.hadoop.hive.metastore.MetaStoreUtils.DEFAULT_DATABASE_N
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -330,6 +332,32 @@ public class Warehouse {
     return true;
   }
 
+  /**
+   * Returns the names of the directories directly under f, or an empty set
+   * if f does not exist.
+   */
+  public Set<String> getSubDirNames(Path f) throws MetaException {
+    Set<String> names = new HashSet<String>();
+    FileSystem fs = null;
+    try {
+      fs = getFs(f);
+      FileStatus[] children = fs.listStatus(f);
+      if (children != null) {
+        for (FileStatus child : children) {
+          if (child.isDir()) {
+            names.add(child.getPath().getName());
+          }
+        }
+      }
+    } catch (FileNotFoundException e) {
+      return names;
+    } catch (IOException e) {
+      closeFs(fs);
+      MetaStoreUtils.logAndThrowMetaException(e);
+    }
+    return names;
+  }
+
   public static String makePartName(List<FieldSchema> partCols,
       List<String> vals) throws MetaException {
     if ((partCols.size() != vals.size()) || (partCols.size() == 0)) {
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore.model;
+
+import java.util.List;
+
+/**
+ * The columns of a storage descriptor. A column descriptor is shared by the
+ * storage descriptors of a table and of all its partitions that have the same
+ * columns, so that the columns are stored only once. It is deleted when the
+ * last storage descriptor referencing it goes away.
+ */
+public class MColumnDescriptor {
+  private List<MFieldSchema> cols;
+
+  public MColumnDescriptor() {}
+
+  /**
+   * @param cols
+   */
+  public MColumnDescriptor(List<MFieldSchema> cols) {
+    this.cols = cols;
+  }
+
+  /**
+   * @return the cols
+   */
+  public List<MFieldSchema> getCols() {
+    return cols;
+  }
+
+  /**
+   * @param cols the cols to set
+   */
+  public void setCols(List<MFieldSchema> cols) {
+    this.cols = cols;
+  }
+}
@@ -19,6 +19,8 @@
 package org.apache.hadoop.hive.metastore;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -447,6 +449,215 @@ public abstract class TestHiveMetaStore extends TestCase {
     }
   }
 
+  /**
+   * Partitions share the column descriptor of their table while they have
+   * the same columns. Check that changing or dropping one of them does not
+   * affect the others.
+   */
+  public void testSharedPartitionColumns() throws Throwable {
+
+    try {
+      String dbName = "compdb";
+      String tblName = "comptbl";
+
+      client.dropTable(dbName, tblName);
+      silentDropDatabase(dbName);
+      Database db = new Database();
+      db.setName(dbName);
+      client.createDatabase(db);
+
+      ArrayList<FieldSchema> cols = new ArrayList<FieldSchema>(2);
+      cols.add(new FieldSchema("name", Constants.STRING_TYPE_NAME, ""));
+      cols.add(new FieldSchema("income", Constants.INT_TYPE_NAME, ""));
+
+      Table tbl = new Table();
+      tbl.setDbName(dbName);
+      tbl.setTableName(tblName);
+      StorageDescriptor sd = new StorageDescriptor();
+      tbl.setSd(sd);
+      sd.setCols(cols);
+      sd.setCompressed(false);
+      sd.setNumBuckets(1);
+      sd.setParameters(new HashMap<String, String>());
+      sd.setBucketCols(new ArrayList<String>());
+      sd.setSerdeInfo(new SerDeInfo());
+      sd.getSerdeInfo().setName(tbl.getTableName());
+      sd.getSerdeInfo().setParameters(new HashMap<String, String>());
+      sd.getSerdeInfo().getParameters()
+          .put(Constants.SERIALIZATION_FORMAT, "1");
+      sd.setSortCols(new ArrayList<Order>());
+
+      tbl.setPartitionKeys(new ArrayList<FieldSchema>(1));
+      tbl.getPartitionKeys().add(
+          new FieldSchema("ds", Constants.STRING_TYPE_NAME, ""));
+
+      client.createTable(tbl);
+      tbl = client.getTable(dbName, tblName);
+
+      List<List<String>> partVals = new ArrayList<List<String>>();
+      for (int i = 1; i <= 3; i++) {
+        List<String> vals = new ArrayList<String>(1);
+        vals.add("2008-07-0" + i);
+        partVals.add(vals);
+
+        Partition part = new Partition();
+        part.setDbName(dbName);
+        part.setTableName(tblName);
+        part.setValues(vals);
+        part.setParameters(new HashMap<String, String>());
+        part.setSd(new StorageDescriptor(tbl.getSd()));
+        part.getSd().setLocation(tbl.getSd().getLocation() + "/part" + i);
+        client.add_partition(part);
+      }
+
+      // change the columns of one partition
+      Partition part1 = client.getPartition(dbName, tblName, partVals.get(0));
+      assertEquals(cols, part1.getSd().getCols());
+      part1.getSd().getCols().add(
+          new FieldSchema("age", Constants.INT_TYPE_NAME, ""));
+      client.alter_partition(dbName, tblName, part1);
+      assertEquals(3, client.getPartition(dbName, tblName, partVals.get(0))
+          .getSd().getCols().size());
+      assertEquals(cols, client.getPartition(dbName, tblName,
+          partVals.get(1)).getSd().getCols());
+      assertEquals(cols, client.getTable(dbName, tblName).getSd().getCols());
+
+      // change the columns of the table, partitions keep theirs
+      Table tbl2 = client.getTable(dbName, tblName);
+      tbl2.getSd().getCols().get(1).setType(Constants.BIGINT_TYPE_NAME);
+      client.alter_table(dbName, tblName, tbl2);
+      assertEquals(tbl2.getSd().getCols(), client.getTable(dbName, tblName)
+          .getSd().getCols());
+      assertEquals(cols, client.getPartition(dbName, tblName,
+          partVals.get(1)).getSd().getCols());
+
+      // a partition given the columns of the table again shares them
+      part1 = client.getPartition(dbName, tblName, partVals.get(0));
+      part1.getSd().setCols(tbl2.getSd().getCols());
+      client.alter_partition(dbName, tblName, part1);
+      assertEquals(tbl2.getSd().getCols(), client.getPartition(dbName,
+          tblName, partVals.get(0)).getSd().getCols());
+
+      // dropping a partition keeps the columns of the others
+      client.dropPartition(dbName, tblName, partVals.get(1), true);
+      assertEquals(cols, client.getPartition(dbName, tblName,
+          partVals.get(2)).getSd().getCols());
+      List<Partition> parts = client.listPartitions(dbName, tblName,
+          (short) -1);
+      assertEquals(2, parts.size());
+      for (Partition part : parts) {
+        assertNotNull(part.getSd().getCols());
+      }
+
+      client.dropTable(dbName, tblName);
+      client.dropDatabase(dbName);
+    } catch (Exception e) {
+      System.err.println(StringUtils.stringifyException(e));
+      System.err.println("testSharedPartitionColumns() failed.");
+      throw e;
+    }
+  }
+
+  public void testAddAlterPartitions() throws Throwable {
+
+    try {
+      String dbName = "compdb";
+      String tblName = "comptbl";
+
+      client.dropTable(dbName, tblName);
+      silentDropDatabase(dbName);
+      Database db = new Database();
+      db.setName(dbName);
+      client.createDatabase(db);
+
+      ArrayList<FieldSchema> cols = new ArrayList<FieldSchema>(2);
+      cols.add(new FieldSchema("name", Constants.STRING_TYPE_NAME, ""));
+      cols.add(new FieldSchema("income", Constants.INT_TYPE_NAME, ""));
+
+      Table tbl = new Table();
+      tbl.setDbName(dbName);
+      tbl.setTableName(tblName);
+      StorageDescriptor sd = new StorageDescriptor();
+      tbl.setSd(sd);
+      sd.setCols(cols);
+      sd.setCompressed(false);
+      sd.setNumBuckets(1);
+      sd.setParameters(new HashMap<String, String>());
+      sd.setBucketCols(new ArrayList<String>());
+      sd.setSerdeInfo(new SerDeInfo());
+      sd.getSerdeInfo().setName(tbl.getTableName());
+      sd.getSerdeInfo().setParameters(new HashMap<String, String>());
+      sd.getSerdeInfo().getParameters()
+          .put(Constants.SERIALIZATION_FORMAT, "1");
+      sd.setSortCols(new ArrayList<Order>());
+
+      tbl.setPartitionKeys(new ArrayList<FieldSchema>(1));
+      tbl.getPartitionKeys().add(
+          new FieldSchema("ds", Constants.STRING_TYPE_NAME, ""));
+
+      client.createTable(tbl);
+      tbl = client.getTable(dbName, tblName);
+
+      List<Partition> parts = new ArrayList<Partition>();
+      for (int i = 1; i <= 3; i++) {
+        List<String> vals = new ArrayList<String>(1);
+        vals.add("2008-07-0" + i);
+        Partition part = new Partition();
+        part.setDbName(dbName);
+        part.setTableName(tblName);
+        part.setValues(vals);
+        part.setParameters(new HashMap<String, String>());
+        part.setSd(new StorageDescriptor(tbl.getSd()));
+        part.getSd().setLocation(null);
+        parts.add(part);
+      }
+      assertEquals(3, client.add_partitions(parts));
+      assertEquals(3, client.listPartitions(dbName, tblName, (short) -1)
+          .size());
+      Partition part1 = client.getPartition(dbName, tblName,
+          parts.get(0).getValues());
+      assertEquals(tbl.getSd().getLocation() + "/ds=2008-07-01",
+          part1.getSd().getLocation());
+
+      // a batch containing an existing partition is rejected as a whole
+      List<String> newVals = new ArrayList<String>(1);
+      newVals.add("2008-07-04");
+      Partition part4 = new Partition(parts.get(0));
+      part4.setValues(newVals);
+      part4.getSd().setLocation(null);
+      List<Partition> badParts = new ArrayList<Partition>();
+      badParts.add(part4);
+      badParts.add(new Partition(part1));
+      boolean exceptionThrown = false;
+      try {
+        client.add_partitions(badParts);
+      } catch (AlreadyExistsException e) {
+        exceptionThrown = true;
+      }
+      assertTrue("Adding an existing partition should fail", exceptionThrown);
+      assertEquals(3, client.listPartitions(dbName, tblName, (short) -1)
+          .size());
+
+      List<Partition> altered = client.listPartitions(dbName, tblName,
+          (short) -1);
+      for (Partition part : altered) {
+        part.getParameters().put("retention", "10");
+      }
+      client.alter_partitions(dbName, tblName, altered);
+      for (Partition part : client.listPartitions(dbName, tblName, (short) -1)) {
+        assertEquals("couldn't alter partition", "10",
+            part.getParameters().get("retention"));
+      }
+
+      client.dropTable(dbName, tblName);
+      client.dropDatabase(dbName);
+    } catch (Exception e) {
+      System.err.println(StringUtils.stringifyException(e));
+      System.err.println("testAddAlterPartitions() failed.");
+      throw e;
+    }
+  }
+
   public void testDatabase() throws Throwable {
     try {
       // clear up any existing databases
@@ -1282,6 +1493,117 @@ public abstract class TestHiveMetaStore extends TestCase {
       client.dropDatabase(dbName);
   }
 
+  /**
+   * Tests that the partitions read with direct SQL are the same as the ones
+   * read with JDO.
+   */
+  public void testDirectSqlPartitions() throws Exception {
+    String dbName = "directsqldb";
+    String tblName = "directsqltbl";
+
+    silentDropDatabase(dbName);
+    Database db = new Database();
+    db.setName(dbName);
+    client.createDatabase(db);
+
+    ArrayList<FieldSchema> cols = new ArrayList<FieldSchema>(2);
+    cols.add(new FieldSchema("c1", Constants.STRING_TYPE_NAME, ""));
+    cols.add(new FieldSchema("c2", Constants.INT_TYPE_NAME, "second"));
+
+    ArrayList<FieldSchema> partCols = new ArrayList<FieldSchema>(2);
+    partCols.add(new FieldSchema("p1", Constants.STRING_TYPE_NAME, ""));
+    partCols.add(new FieldSchema("p2", Constants.STRING_TYPE_NAME, ""));
+
+    Table tbl = new Table();
+    tbl.setDbName(dbName);
+    tbl.setTableName(tblName);
+    StorageDescriptor sd = new StorageDescriptor();
+    tbl.setSd(sd);
+    sd.setCols(cols);
+    sd.setCompressed(false);
+    sd.setNumBuckets(4);
+    sd.setParameters(new HashMap<String, String>());
+    sd.getParameters().put("sd_param", "sd_value");
+    sd.setBucketCols(new ArrayList<String>());
+    sd.getBucketCols().add("c1");
+    sd.setSerdeInfo(new SerDeInfo());
+    sd.getSerdeInfo().setName(tbl.getTableName());
+    sd.getSerdeInfo().setParameters(new HashMap<String, String>());
+    sd.getSerdeInfo().getParameters()
+        .put(Constants.SERIALIZATION_FORMAT, "1");
+    sd.setSortCols(new ArrayList<Order>());
+    sd.getSortCols().add(new Order("c1", 1));
+    sd.getSortCols().add(new Order("c2", 0));
+
+    tbl.setPartitionKeys(partCols);
+    client.createTable(tbl);
+    tbl = client.getTable(dbName, tblName);
+
+    for (int i = 0; i < 6; i++) {
+      List<String> vals = new ArrayList<String>(2);
+      vals.add("a" + (i % 3));
+      vals.add("b" + i);
+      add_partition(client, tbl, vals, "part" + i);
+    }
+    // a partition whose columns differ from the table's
+    List<String> vals = new ArrayList<String>(2);
+    vals.add("a9");
+    vals.add("b9");
+    Partition part = new Partition();
+    part.setDbName(dbName);
+    part.setTableName(tblName);
+    part.setValues(vals);
+    part.setParameters(new HashMap<String, String>());
+    part.getParameters().put("part_param", "part_value");
+    part.setSd(new StorageDescriptor(tbl.getSd()));
+    part.getSd().getCols().add(new FieldSchema("c3", Constants.DOUBLE_TYPE_NAME, ""));
+    part.getSd().setLocation(tbl.getSd().getLocation() + "part9");
+    client.add_partition(part);
+
+    ObjectStore sqlStore = new ObjectStore();
+    HiveConf sqlConf = new HiveConf(hiveConf);
+    sqlConf.setBoolVar(HiveConf.ConfVars.METASTORE_TRY_DIRECT_SQL, true);
+    sqlStore.setConf(sqlConf);
+    ObjectStore jdoStore = new ObjectStore();
+    HiveConf jdoConf = new HiveConf(hiveConf);
+    jdoConf.setBoolVar(HiveConf.ConfVars.METASTORE_TRY_DIRECT_SQL, false);
+    jdoStore.setConf(jdoConf);
+    try {
+      List<Partition> expected = jdoStore.getPartitions(dbName, tblName, -1);
+      assertEquals(7, expected.size());
+      checkSamePartitions(expected,
+          sqlStore.getPartitions(dbName, tblName, -1));
+
+      String[] filters = {"p1 = \"a1\"", "p1 = \"a0\" or p2 = \"b9\"",
+          "p2 > \"b2\"", "p1 = \"a5\""};
+      for (String filter : filters) {
+        checkSamePartitions(jdoStore.getPartitionsByFilter(dbName, tblName,
+            filter, (short) -1), sqlStore.getPartitionsByFilter(dbName,
+            tblName, filter, (short) -1));
+      }
+    } finally {
+      sqlStore.shutdown();
+      jdoStore.shutdown();
+    }
+
+    client.dropTable(dbName, tblName);
+    client.dropDatabase(dbName);
+  }
+
+  private static void checkSamePartitions(List<Partition> expected,
+      List<Partition> actual) {
+    Comparator<Partition> byValues = new Comparator<Partition>() {
+      public int compare(Partition p1, Partition p2) {
+        return p1.getValues().toString().compareTo(p2.getValues().toString());
+      }
+    };
+    expected = new ArrayList<Partition>(expected);
+    actual = new ArrayList<Partition>(actual);
+    Collections.sort(expected, byValues);
+    Collections.sort(actual, byValues);
+    assertEquals(expected, actual);
+  }
+
   private void checkFilter(HiveMetaStoreClient client, String dbName,
         String tblName, String filter, int expectedCount)
         throws MetaException, NoSuchObjectException, TException {
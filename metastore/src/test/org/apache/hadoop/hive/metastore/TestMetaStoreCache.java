@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.metastore.MetaStoreCache.Key;
+import org.apache.hadoop.hive.metastore.MetaStoreCache.Kind;
+
+public class TestMetaStoreCache extends TestCase {
+
+  public void testLookupAndInvalidation() {
+    MetaStoreCache cache = new MetaStoreCache(100);
+    Key db = new Key(Kind.DATABASE, "Db1", null, null);
+    Key tbl = new Key(Kind.TABLE, "db1", "Tbl1", null);
+    Key part = new Key(Kind.PARTITION, "db1", "tbl1", Arrays.asList("1"));
+
+    assertNull(cache.get(tbl));
+    long generation = cache.getGeneration();
+    cache.put(db, "db", generation);
+    cache.put(tbl, "tbl", generation);
+    cache.put(part, "part", generation);
+    assertEquals("tbl", cache.get(new Key(Kind.TABLE, "DB1", "tbl1", null)));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+
+    cache.invalidatePartitions("db1", "tbl1");
+    assertNull(cache.get(part));
+    assertEquals("tbl", cache.get(tbl));
+
+    cache.invalidateTable("db1", "tbl1");
+    assertNull(cache.get(tbl));
+    assertEquals("db", cache.get(db));
+
+    cache.invalidateDatabase("db1");
+    assertEquals(0, cache.getSize());
+    assertEquals(3, cache.getInvalidations());
+  }
+
+  public void testStaleReadIsNotCached() {
+    MetaStoreCache cache = new MetaStoreCache(100);
+    Key tbl = new Key(Kind.TABLE, "db1", "tbl1", null);
+    long generation = cache.getGeneration();
+    // a writer changes the table while the reader is in the datastore
+    cache.invalidateTable("db1", "tbl1");
+    cache.put(tbl, "old", generation);
+    assertNull(cache.get(tbl));
+  }
+
+  public void testEviction() {
+    MetaStoreCache cache = new MetaStoreCache(2);
+    long generation = cache.getGeneration();
+    Key t1 = new Key(Kind.TABLE, "db1", "t1", null);
+    Key t2 = new Key(Kind.TABLE, "db1", "t2", null);
+    Key t3 = new Key(Kind.TABLE, "db1", "t3", null);
+    cache.put(t1, "t1", generation);
+    cache.put(t2, "t2", generation);
+    // touch t1 so that t2 is the least recently used
+    cache.get(t1);
+    cache.put(t3, "t3", generation);
+    assertEquals(2, cache.getSize());
+    assertEquals(1, cache.getEvictions());
+    assertNull(cache.get(t2));
+    assertEquals("t1", cache.get(t1));
+  }
+
+  public void testPartitionListsAreWeighed() {
+    MetaStoreCache cache = new MetaStoreCache(10);
+    long generation = cache.getGeneration();
+    Key t1 = new Key(Kind.TABLE, "db1", "t1", null);
+    Key parts1 = new Key(Kind.PARTITIONS, "db1", "t1", Integer.valueOf(-1));
+    Key parts2 = new Key(Kind.PARTITIONS, "db1", "t2", Integer.valueOf(-1));
+    Key parts3 = new Key(Kind.PARTITIONS, "db1", "t3", Integer.valueOf(-1));
+    cache.put(t1, "t1", generation);
+    cache.put(parts1, Arrays.asList("1", "2", "3", "4"), generation);
+    cache.put(parts2, Arrays.asList("1", "2", "3", "4", "5"), generation);
+    assertEquals(3, cache.getSize());
+    assertEquals(10, cache.getWeight());
+
+    // t1 and its partitions are the least recently used
+    cache.put(parts3, Arrays.asList("1", "2"), generation);
+    assertEquals(2, cache.getSize());
+    assertEquals(7, cache.getWeight());
+    assertEquals(2, cache.getEvictions());
+    assertNull(cache.get(t1));
+
+    // a list larger than half of the cache is not cached
+    Key large = new Key(Kind.PARTITIONS, "db1", "t4", Integer.valueOf(-1));
+    cache.put(large, Arrays.asList("1", "2", "3", "4", "5", "6"), generation);
+    assertNull(cache.get(large));
+    assertEquals(7, cache.getWeight());
+
+    cache.invalidatePartitions("db1", "t2");
+    assertEquals(2, cache.getWeight());
+    cache.clear();
+    assertEquals(0, cache.getWeight());
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.metastore.MetaStoreMetrics.Timer;
+
+public class TestMetaStoreMetrics extends TestCase {
+
+  public void testBuckets() {
+    assertEquals(0, Timer.bucket(999));
+    assertEquals(1, Timer.bucket(1000));
+    assertEquals(2, Timer.bucket(2000));
+    assertEquals(2, Timer.bucket(3999));
+    assertEquals(10, Timer.bucket(1000000));
+    assertEquals(27, Timer.bucket(Long.MAX_VALUE));
+  }
+
+  public void testPercentiles() {
+    Timer timer = new Timer();
+    assertEquals(0.0, timer.getPercentileMs(0.5));
+    // 90 calls of 1.5ms and 10 calls of 100ms
+    for (int i = 0; i < 90; i++) {
+      timer.record(1500000);
+    }
+    for (int i = 0; i < 10; i++) {
+      timer.record(100000000);
+    }
+    assertEquals(100, timer.getCalls());
+    assertEquals(11.35, timer.getAverageMs(), 0.001);
+    assertEquals(100.0, timer.getMaxMs(), 0.001);
+    assertEquals(2.048, timer.getPercentileMs(0.5), 0.001);
+    assertEquals(2.048, timer.getPercentileMs(0.9), 0.001);
+    assertEquals(131.072, timer.getPercentileMs(0.95), 0.001);
+  }
+
+  public void testInFlight() {
+    MetaStoreMetrics metrics = MetaStoreMetrics.getInstance();
+    metrics.reset();
+    Timer timer = metrics.getTimer("get_table");
+    assertSame(timer, metrics.getTimer("get_table"));
+    long start = timer.start();
+    Timer commit = metrics.getTimer(MetaStoreMetrics.TRANSACTION_COMMIT);
+    long commitStart = commit.start();
+    assertEquals(1, metrics.getInFlightCalls());
+    timer.stop(start);
+    commit.stop(commitStart);
+    assertEquals(0, metrics.getInFlightCalls());
+    assertEquals(1, timer.getCalls());
+    assertEquals(2, metrics.getTimers().length);
+  }
+
+  public void testReset() {
+    MetaStoreMetrics metrics = MetaStoreMetrics.getInstance();
+    Timer timer = metrics.getTimer("get_database");
+    timer.record(1500000);
+    long start = timer.start();
+    metrics.reset();
+    // the timer is zeroed in place, so that callers holding it still count
+    assertSame(timer, metrics.getTimer("get_database"));
+    assertEquals(0, timer.getCalls());
+    assertEquals(0.0, timer.getMaxMs());
+    assertEquals(0.0, timer.getPercentileMs(0.5));
+    assertEquals(1, timer.getInFlight());
+    timer.stop(start);
+    assertEquals(1, timer.getCalls());
+    assertEquals(0, timer.getInFlight());
+  }
+}
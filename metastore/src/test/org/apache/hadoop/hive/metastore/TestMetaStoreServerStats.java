@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class TestMetaStoreServerStats extends TestCase {
+
+  public void testFullQueueRejectsCalls() throws Exception {
+    MetaStoreServerStats stats = new MetaStoreServerStats();
+    ThreadPoolExecutor workers = new ThreadPoolExecutor(1, 1, 60,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(1));
+    stats.setWorkers(workers);
+
+    final CountDownLatch running = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    Runnable call = new Runnable() {
+      public void run() {
+        running.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    try {
+      // one call keeps the only worker busy and one waits in the queue
+      workers.execute(call);
+      running.await();
+      workers.execute(call);
+      assertEquals(1, stats.getActiveWorkers());
+      assertEquals(1, stats.getQueueDepth());
+
+      try {
+        workers.execute(call);
+        fail("expected the call to be rejected");
+      } catch (RejectedExecutionException e) {
+        // expected
+      }
+      assertEquals(1, stats.getRejectedCalls());
+      assertEquals(1, stats.getQueueDepth());
+    } finally {
+      release.countDown();
+      workers.shutdown();
+      assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+    }
+    assertEquals(2, stats.getCompletedCalls());
+    assertEquals(1, stats.getWorkerThreads());
+  }
+}
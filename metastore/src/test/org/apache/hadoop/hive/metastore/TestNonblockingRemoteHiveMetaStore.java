@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.metastore;
+
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.conf.HiveConf.ConfVars;
+
+/**
+ * Runs the metastore tests against the non-blocking server, which clients
+ * reach through the framed transport.
+ */
+public class TestNonblockingRemoteHiveMetaStore extends TestHiveMetaStore {
+  private static final String METASTORE_PORT = "29084";
+  private static boolean isServerStarted = false;
+
+  public TestNonblockingRemoteHiveMetaStore() {
+    super();
+    isThriftClient = true;
+  }
+
+  private static class RunMS implements Runnable {
+
+    @Override
+    public void run() {
+      HiveMetaStore.main(new String[] { METASTORE_PORT });
+    }
+
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    if (isServerStarted) {
+      assertNotNull("Unable to connect to the MetaStore server", client);
+      return;
+    }
+
+    // the server reads its configuration from the system properties
+    System.setProperty(ConfVars.METASTORE_SERVER_NONBLOCKING.varname, "true");
+    System.setProperty(ConfVars.METASTORE_SERVER_WORKER_THREADS.varname, "4");
+
+    System.out.println("Starting non-blocking MetaStore Server on port "
+        + METASTORE_PORT);
+    Thread t = new Thread(new RunMS());
+    t.start();
+    isServerStarted = true;
+
+    // Wait a little bit for the metastore to start.
+    Thread.sleep(5000);
+
+    hiveConf.set("hive.metastore.local", "false");
+    hiveConf.setVar(HiveConf.ConfVars.METASTOREURIS, "thrift://localhost:" + METASTORE_PORT);
+    hiveConf.setIntVar(HiveConf.ConfVars.METASTORETHRIFTRETRIES, 3);
+    hiveConf.setIntVar(ConfVars.METASTORE_CLIENT_CONNECT_RETRY_DELAY, 60);
+    hiveConf.setBoolVar(ConfVars.METASTORE_USE_THRIFT_FRAMED_TRANSPORT, true);
+
+    client = new HiveMetaStoreClient(hiveConf);
+  }
+
+}
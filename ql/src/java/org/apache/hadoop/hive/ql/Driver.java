@@ -119,6 +119,8 @@ public class Driver implements CommandProcessor {
   private QueryPlan plan;
   private Schema schema;
   private HiveLockManager hiveLockMgr;
+  // Hive object caching metadata for the current query, if any
+  private Hive queryCacheDb;
 
   private String errorMessage;
   private String SQLState;
@@ -312,6 +314,17 @@ public class Driver implements CommandProcessor {
    *          The SQL query to compile.
    */
   public int compile(String command) {
+    boolean cacheStarted = startQueryCache();
+    try {
+      return compileInternal(command);
+    } finally {
+      if (cacheStarted) {
+        endQueryCache();
+      }
+    }
+  }
+
+  private int compileInternal(String command) {
     if (plan != null) {
       close();
       plan = null;
@@ -730,26 +743,63 @@ public class Driver implements CommandProcessor {
     errorMessage = null;
     SQLState = null;
 
-    int ret = compile(command);
-    if (ret != 0) {
-      releaseLocks(ctx.getHiveLocks());
-      return new CommandProcessorResponse(ret, errorMessage, SQLState);
-    }
+    // keep the metadata cached by compile for the execution of the query
+    boolean cacheStarted = startQueryCache();
+    try {
+      int ret = compile(command);
+      if (ret != 0) {
+        releaseLocks(ctx.getHiveLocks());
+        return new CommandProcessorResponse(ret, errorMessage, SQLState);
+      }
+
+      ret = acquireReadWriteLocks();
+      if (ret != 0) {
+        releaseLocks(ctx.getHiveLocks());
+        return new CommandProcessorResponse(ret, errorMessage, SQLState);
+      }
+
+      ret = execute();
+      if (ret != 0) {
+        releaseLocks(ctx.getHiveLocks());
+        return new CommandProcessorResponse(ret, errorMessage, SQLState);
+      }
 
-    ret = acquireReadWriteLocks();
-    if (ret != 0) {
       releaseLocks(ctx.getHiveLocks());
-      return new CommandProcessorResponse(ret, errorMessage, SQLState);
+      return new CommandProcessorResponse(ret);
+    } finally {
+      if (cacheStarted) {
+        endQueryCache();
+      }
     }
+  }
 
-    ret = execute();
-    if (ret != 0) {
-      releaseLocks(ctx.getHiveLocks());
-      return new CommandProcessorResponse(ret, errorMessage, SQLState);
+  /**
+   * Starts caching metadata in the calling thread's Hive object, unless this
+   * driver is already caching.
+   *
+   * @return true if the cache was started by this call, in which case the
+   *         caller must end it
+   */
+  private boolean startQueryCache() {
+    if (queryCacheDb != null
+        || !HiveConf.getBoolVar(conf, HiveConf.ConfVars.HIVEQUERYMETADATACACHE)) {
+      return false;
+    }
+    try {
+      queryCacheDb = Hive.get(conf);
+    } catch (HiveException e) {
+      LOG.warn("Not caching metadata for the query: " + e.getMessage());
+      return false;
     }
+    queryCacheDb.startQueryCache();
+    return true;
+  }
 
-    releaseLocks(ctx.getHiveLocks());
-    return new CommandProcessorResponse(ret);
+  private void endQueryCache() {
+    if (queryCacheDb != null) {
+      queryCacheDb.endQueryCache();
+      queryCacheDb = null;
+    }
   }
 
   private List<AbstractSemanticAnalyzerHook> getSemanticAnalyzerHooks() throws Exception {
@@ -826,6 +876,17 @@ public class Driver implements CommandProcessor {
   }
 
   public int execute() {
+    boolean cacheStarted = startQueryCache();
+    try {
+      return executeInternal();
+    } finally {
+      if (cacheStarted) {
+        endQueryCache();
+      }
+    }
+  }
+
+  private int executeInternal() {
     boolean noName = StringUtils.isEmpty(conf.getVar(HiveConf.ConfVars.HADOOPJOBNAME));
     int maxlen = conf.getIntVar(HiveConf.ConfVars.HIVEJOBNAMELENGTH);
 
@@ -0,0 +1,251 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.serde2.io.ByteWritable;
+import org.apache.hadoop.hive.serde2.io.DoubleWritable;
+import org.apache.hadoop.hive.serde2.io.ShortWritable;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.BooleanObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.ByteObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.DoubleObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.FloatObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.IntObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.LongObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.ShortObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.StringObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.io.BooleanWritable;
+import org.apache.hadoop.io.FloatWritable;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+
+/**
+ * Base class of the evaluators generated by {@link ExprNodeCompiler}.
+ *
+ * The generated subclass evaluates each compiled node in its own method that
+ * returns the value as a Java primitive (or Text for strings) and reports
+ * NULL through {@link #wasNull}. Sub-expressions the compiler does not
+ * support are leaves: they are evaluated by the usual interpreted evaluators
+ * and read through the getXXX methods below.
+ */
+public abstract class CompiledExprNodeEvaluator extends ExprNodeEvaluator {
+
+  private static final Log LOG = LogFactory
+      .getLog(CompiledExprNodeEvaluator.class.getName());
+
+  protected final ExprNodeDesc expr;
+  private final ExprNodeDesc[] leafExprs;
+  private final Object[] constants;
+
+  private transient ExprNodeEvaluator[] leaves;
+  private transient PrimitiveObjectInspector[] leafOIs;
+
+  /**
+   * Interpreted evaluator used instead of the generated code if the leaves
+   * turn out not to match the types the expression was compiled for.
+   */
+  private transient ExprNodeEvaluator fallback;
+
+  /**
+   * Whether the value returned by the last node or leaf evaluated is NULL.
+   */
+  protected boolean wasNull;
+
+  private final BooleanWritable booleanWritable = new BooleanWritable();
+  private final ByteWritable byteWritable = new ByteWritable();
+  private final ShortWritable shortWritable = new ShortWritable();
+  private final IntWritable intWritable = new IntWritable();
+  private final LongWritable longWritable = new LongWritable();
+  private final FloatWritable floatWritable = new FloatWritable();
+  private final DoubleWritable doubleWritable = new DoubleWritable();
+
+  protected CompiledExprNodeEvaluator(ExprNodeDesc expr,
+      ExprNodeDesc[] leafExprs, Object[] constants) {
+    this.expr = expr;
+    this.leafExprs = leafExprs;
+    this.constants = constants;
+  }
+
+  @Override
+  public ObjectInspector initialize(ObjectInspector rowInspector)
+      throws HiveException {
+    leaves = new ExprNodeEvaluator[leafExprs.length];
+    leafOIs = new PrimitiveObjectInspector[leafExprs.length];
+    for (int i = 0; i < leafExprs.length; i++) {
+      leaves[i] = ExprNodeEvaluatorFactory.get(leafExprs[i]);
+      ObjectInspector oi = leaves[i].initialize(rowInspector);
+      PrimitiveCategory expected = ((PrimitiveTypeInfo) leafExprs[i]
+          .getTypeInfo()).getPrimitiveCategory();
+      if (!(oi instanceof PrimitiveObjectInspector)
+          || ((PrimitiveObjectInspector) oi)
+          .getPrimitiveCategory() != expected) {
+        LOG.info("Interpreting " + expr.getExprString() + " since "
+            + leafExprs[i].getExprString() + " is " + oi.getTypeName()
+            + " instead of " + leafExprs[i].getTypeString());
+        fallback = ExprNodeEvaluatorFactory.get(expr);
+        return fallback.initialize(rowInspector);
+      }
+      leafOIs[i] = (PrimitiveObjectInspector) oi;
+    }
+    return PrimitiveObjectInspectorFactory
+        .getPrimitiveWritableObjectInspector(((PrimitiveTypeInfo) expr
+        .getTypeInfo()).getPrimitiveCategory());
+  }
+
+  @Override
+  public final Object evaluate(Object row) throws HiveException {
+    if (fallback != null) {
+      return fallback.evaluate(row);
+    }
+    try {
+      return evaluateCompiled(row);
+    } catch (RuntimeException e) {
+      throw new HiveException("Error evaluating " + expr.getExprString(), e);
+    }
+  }
+
+  /**
+   * Implemented by the generated code.
+   */
+  protected abstract Object evaluateCompiled(Object row) throws HiveException;
+
+  private Object evaluateLeaf(Object row, int i) throws HiveException {
+    Object o = leaves[i].evaluate(row);
+    wasNull = (o == null);
+    return o;
+  }
+
+  protected final boolean getBoolean(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? false : ((BooleanObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final byte getByte(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? 0 : ((ByteObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final short getShort(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? 0 : ((ShortObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final int getInt(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? 0 : ((IntObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final long getLong(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? 0 : ((LongObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final float getFloat(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? 0 : ((FloatObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final double getDouble(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? 0 : ((DoubleObjectInspector) leafOIs[i]).get(o);
+  }
+
+  protected final Text getText(Object row, int i) throws HiveException {
+    Object o = evaluateLeaf(row, i);
+    return o == null ? null : ((StringObjectInspector) leafOIs[i])
+        .getPrimitiveWritableObject(o);
+  }
+
+  protected final Text getTextConstant(int i) {
+    wasNull = false;
+    return (Text) constants[i];
+  }
+
+  // The result methods turn the value returned by the root node into the
+  // object returned by evaluate, or null if the root node returned NULL.
+
+  protected final Object resultBoolean(boolean v) {
+    if (wasNull) {
+      return null;
+    }
+    booleanWritable.set(v);
+    return booleanWritable;
+  }
+
+  protected final Object resultByte(byte v) {
+    if (wasNull) {
+      return null;
+    }
+    byteWritable.set(v);
+    return byteWritable;
+  }
+
+  protected final Object resultShort(short v) {
+    if (wasNull) {
+      return null;
+    }
+    shortWritable.set(v);
+    return shortWritable;
+  }
+
+  protected final Object resultInt(int v) {
+    if (wasNull) {
+      return null;
+    }
+    intWritable.set(v);
+    return intWritable;
+  }
+
+  protected final Object resultLong(long v) {
+    if (wasNull) {
+      return null;
+    }
+    longWritable.set(v);
+    return longWritable;
+  }
+
+  protected final Object resultFloat(float v) {
+    if (wasNull) {
+      return null;
+    }
+    floatWritable.set(v);
+    return floatWritable;
+  }
+
+  protected final Object resultDouble(double v) {
+    if (wasNull) {
+      return null;
+    }
+    doubleWritable.set(v);
+    return doubleWritable;
+  }
+
+  protected final Object resultText(Text v) {
+    return wasNull ? null : v;
+  }
+}
@@ -60,8 +60,10 @@ import org.apache.hadoop.hive.ql.exec.Operator.ProgressCounter;
 import org.apache.hadoop.hive.ql.exec.errors.ErrorAndSolution;
 import org.apache.hadoop.hive.ql.exec.errors.TaskLogProcessor;
 import org.apache.hadoop.hive.ql.history.HiveHistory.Keys;
+import org.apache.hadoop.hive.ql.io.DefaultHivePartitioner;
 import org.apache.hadoop.hive.ql.io.HiveKey;
 import org.apache.hadoop.hive.ql.io.HiveOutputFormat;
+import org.apache.hadoop.hive.ql.io.HiveTotalOrderPartitioner;
 import org.apache.hadoop.hive.ql.io.IOPrepareCache;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
 import org.apache.hadoop.hive.ql.plan.FetchWork;
@@ -528,6 +530,10 @@ public class ExecDriver extends Task<MapredWork> implements Serializable {
     if (work.getInputformat() != null) {
       HiveConf.setVar(job, HiveConf.ConfVars.HIVEINPUTFORMAT, work.getInputformat());
     }
+    if (work.getIndexIntermediateFile() != null) {
+      HiveConf.setVar(job, HiveConf.ConfVars.HIVE_INDEX_COMPACT_FILE,
+          work.getIndexIntermediateFile());
+    }
 
     // Turn on speculative execution for reducers
     boolean useSpeculativeExecReducers = HiveConf.getBoolVar(job,
@@ -629,6 +635,13 @@ public class ExecDriver extends Task<MapredWork> implements Serializable {
         }
       }
 
+      if (PartitionKeySampler.isTotalOrder(work)) {
+        handleSampling(ctx, job);
+      } else if (work.getReducer() instanceof JoinOperator
+          && HiveConf.getBoolVar(job, HiveConf.ConfVars.HIVESKEWJOINADAPTIVE)) {
+        handleSkewedJoinKeys(job);
+      }
+
       addInputPaths(job, work, emptyScratchDirStr);
 
       Utilities.setMapRedWork(job, work, ctx.getMRTmpFileURI());
@@ -742,6 +755,71 @@ public class ExecDriver extends Task<MapredWork> implements Serializable {
     return (returnVal);
   }
 
+  /**
+   * Range partition the keys of a total order sort across the reducers, using
+   * split points computed from a sample of the keys. Falls back to a single
+   * reducer if the keys cannot be sampled.
+   */
+  private void handleSampling(Context ctx, JobConf job) {
+    int numReducers = job.getNumReduceTasks();
+    if (numReducers <= 1) {
+      return;
+    }
+    // the local job runner only supports one reducer
+    if (!HiveConf.getVar(job, HiveConf.ConfVars.HADOOPJT).equals("local")) {
+      try {
+        PartitionKeySampler sampler = new PartitionKeySampler(
+            HiveConf.getIntVar(job, HiveConf.ConfVars.HIVESAMPLINGNUMBERFORORDERBY),
+            HiveConf.getIntVar(job, HiveConf.ConfVars.HIVESAMPLINGSPLITSFORORDERBY));
+        Path partitionFile = new Path(ctx.getMRTmpFileURI());
+        if (sampler.sample(work, job)
+            && sampler.writePartitionKeys(partitionFile, job, numReducers)) {
+          job.setPartitionerClass(HiveTotalOrderPartitioner.class);
+          job.set(HiveTotalOrderPartitioner.PARTITION_FILE, partitionFile.toString());
+          console.printInfo("Sorting on " + numReducers + " reducers using "
+              + sampler.getNumSampled() + " sampled keys");
+          return;
+        }
+      } catch (Exception e) {
+        LOG.warn("Sampling the sort keys failed: "
+            + org.apache.hadoop.util.StringUtils.stringifyException(e));
+      }
+    }
+    console.printInfo("Sort keys cannot be sampled, using a single reducer");
+    job.setNumReduceTasks(1);
+  }
+
+  /**
+   * Samples the join keys and lets the reduce sinks spread the keys that
+   * would overload a reducer over several reducers.
+   */
+  private void handleSkewedJoinKeys(JobConf job) {
+    int numReducers = job.getNumReduceTasks();
+    // the reduce sinks pick the reducer through the hash code of the key
+    if (numReducers <= 1
+        || HiveConf.getVar(job, HiveConf.ConfVars.HADOOPJT).equals("local")
+        || job.getPartitionerClass() != DefaultHivePartitioner.class) {
+      return;
+    }
+    try {
+      PartitionKeySampler sampler = new PartitionKeySampler(
+          HiveConf.getIntVar(job, HiveConf.ConfVars.HIVESKEWJOINADAPTIVESAMPLES),
+          HiveConf.getIntVar(job, HiveConf.ConfVars.HIVESKEWJOINADAPTIVESPLITS));
+      if (sampler.sample(work, job)) {
+        SkewedJoinKeys keys = SkewedJoinKeys.find(sampler.getSampledKeys(),
+            numReducers, ((JoinOperator) work.getReducer()).getConf());
+        if (!keys.isEmpty()) {
+          job.set(SkewedJoinKeys.SKEWED_KEYS, keys.encode());
+          console.printInfo("Spreading " + keys.size()
+              + " skewed join keys over several reducers");
+        }
+      }
+    } catch (Exception e) {
+      LOG.warn("Sampling the join keys failed: "
+          + org.apache.hadoop.util.StringUtils.stringifyException(e));
+    }
+  }
+
   /**
    * This msg pattern is used to track when a job is started.
    *
@@ -0,0 +1,1178 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeNullDesc;
+import org.apache.hadoop.hive.ql.udf.UDFOPDivide;
+import org.apache.hadoop.hive.ql.udf.UDFOPMinus;
+import org.apache.hadoop.hive.ql.udf.UDFOPMod;
+import org.apache.hadoop.hive.ql.udf.UDFOPMultiply;
+import org.apache.hadoop.hive.ql.udf.UDFOPNegative;
+import org.apache.hadoop.hive.ql.udf.UDFOPPlus;
+import org.apache.hadoop.hive.ql.udf.UDFOPPositive;
+import org.apache.hadoop.hive.ql.udf.UDFToBoolean;
+import org.apache.hadoop.hive.ql.udf.UDFToByte;
+import org.apache.hadoop.hive.ql.udf.UDFToDouble;
+import org.apache.hadoop.hive.ql.udf.UDFToFloat;
+import org.apache.hadoop.hive.ql.udf.UDFToInteger;
+import org.apache.hadoop.hive.ql.udf.UDFToLong;
+import org.apache.hadoop.hive.ql.udf.UDFToShort;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFBridge;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFCoalesce;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFIf;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPAnd;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNot;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPOr;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFWhen;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.io.Text;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * ExprNodeCompiler turns an expression tree into a generated subclass of
+ * {@link CompiledExprNodeEvaluator}.
+ *
+ * Comparisons, arithmetic, AND/OR/NOT, IS [NOT] NULL, CASE WHEN, IF, COALESCE
+ * and casts between boolean and numeric types are compiled when their
+ * arguments are boolean, numeric or (for = and <>) string. Every compiled
+ * node becomes a method computing a Java primitive, so no DeferredObject,
+ * ObjectInspector or Writable is involved between compiled nodes. Any other
+ * sub-expression of a supported type, including column references, is a
+ * leaf evaluated by the interpreter. Each compiled node reproduces the NULL
+ * handling and type conversions of the corresponding UDF.
+ */
+public final class ExprNodeCompiler {
+
+  private static final Log LOG = LogFactory.getLog(ExprNodeCompiler.class
+      .getName());
+
+  private static final String BASE_NAME = Type
+      .getInternalName(CompiledExprNodeEvaluator.class);
+
+  private static final String TEXT_NAME = Type.getInternalName(Text.class);
+
+  private static final String CONSTRUCTOR_DESC = "(L"
+      + Type.getInternalName(ExprNodeDesc.class) + ";[L"
+      + Type.getInternalName(ExprNodeDesc.class) + ";[Ljava/lang/Object;)V";
+
+  private static final String[] EXCEPTIONS = {Type
+      .getInternalName(HiveException.class)};
+
+  private static final AtomicInteger generatedCount = new AtomicInteger();
+
+  /**
+   * Compile the expression. Returns null if the expression has nothing worth
+   * compiling or cannot be compiled, in which case it should be interpreted.
+   */
+  public static ExprNodeEvaluator compile(ExprNodeDesc desc) {
+    try {
+      ExprNodeCompiler compiler = new ExprNodeCompiler();
+      Node root = compiler.analyze(desc);
+      if (root == null || root.children.length == 0) {
+        return null;
+      }
+      return compiler.generate(desc, root);
+    } catch (Throwable e) {
+      LOG.warn("Unable to compile " + desc.getExprString(), e);
+      return null;
+    }
+  }
+
+  private final List<Node> nodes = new ArrayList<Node>();
+  private final List<ExprNodeDesc> leafExprs = new ArrayList<ExprNodeDesc>();
+  private final List<Object> constants = new ArrayList<Object>();
+  private String className;
+
+  private ExprNodeCompiler() {
+  }
+
+  private static PrimitiveCategory getCategory(TypeInfo typeInfo) {
+    if (typeInfo.getCategory() != Category.PRIMITIVE) {
+      return null;
+    }
+    PrimitiveCategory category = ((PrimitiveTypeInfo) typeInfo)
+        .getPrimitiveCategory();
+    switch (category) {
+    case VOID:
+    case BOOLEAN:
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+    case FLOAT:
+    case DOUBLE:
+    case STRING:
+      return category;
+    default:
+      return null;
+    }
+  }
+
+  private static boolean isNumeric(PrimitiveCategory category) {
+    switch (category) {
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+    case FLOAT:
+    case DOUBLE:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  private static Type getAsmType(PrimitiveCategory category) {
+    switch (category) {
+    case BOOLEAN:
+      return Type.BOOLEAN_TYPE;
+    case BYTE:
+      return Type.BYTE_TYPE;
+    case SHORT:
+      return Type.SHORT_TYPE;
+    case INT:
+      return Type.INT_TYPE;
+    case LONG:
+      return Type.LONG_TYPE;
+    case FLOAT:
+      return Type.FLOAT_TYPE;
+    case DOUBLE:
+      return Type.DOUBLE_TYPE;
+    case STRING:
+      return Type.getObjectType(TEXT_NAME);
+    default:
+      throw new RuntimeException("Unexpected type " + category);
+    }
+  }
+
+  /**
+   * The suffix of the getXXX and resultXXX methods of
+   * CompiledExprNodeEvaluator for the type.
+   */
+  private static String getMethodSuffix(PrimitiveCategory category) {
+    switch (category) {
+    case BOOLEAN:
+      return "Boolean";
+    case BYTE:
+      return "Byte";
+    case SHORT:
+      return "Short";
+    case INT:
+      return "Int";
+    case LONG:
+      return "Long";
+    case FLOAT:
+      return "Float";
+    case DOUBLE:
+      return "Double";
+    case STRING:
+      return "Text";
+    default:
+      throw new RuntimeException("Unexpected type " + category);
+    }
+  }
+
+  // ------------------------------------------------------------------------
+  // Analysis: build the tree of nodes to generate.
+  // ------------------------------------------------------------------------
+
+  /**
+   * Returns the node for desc, or null if desc is not of a supported type.
+   */
+  private Node analyze(ExprNodeDesc desc) {
+    PrimitiveCategory type = getCategory(desc.getTypeInfo());
+    if (type == null) {
+      return null;
+    }
+    if (desc instanceof ExprNodeNullDesc
+        || (desc instanceof ExprNodeConstantDesc
+        && ((ExprNodeConstantDesc) desc).getValue() == null)) {
+      return new NullNode(type);
+    }
+    if (type == PrimitiveCategory.VOID) {
+      return null;
+    }
+    Node node = null;
+    if (desc instanceof ExprNodeConstantDesc) {
+      node = analyzeConstant(type, ((ExprNodeConstantDesc) desc).getValue());
+    } else if (desc instanceof ExprNodeGenericFuncDesc) {
+      int leafCount = leafExprs.size();
+      int constantCount = constants.size();
+      node = analyzeFunction(type, (ExprNodeGenericFuncDesc) desc);
+      if (node == null) {
+        // Forget the leaves of the arguments; the whole call is a leaf.
+        leafExprs.subList(leafCount, leafExprs.size()).clear();
+        constants.subList(constantCount, constants.size()).clear();
+      }
+    }
+    if (node == null) {
+      leafExprs.add(desc);
+      node = new LeafNode(type, leafExprs.size() - 1);
+    }
+    return node;
+  }
+
+  private Node analyzeConstant(PrimitiveCategory type, Object value) {
+    if (type == PrimitiveCategory.BOOLEAN) {
+      return value instanceof Boolean ? new ConstantNode(type, value) : null;
+    }
+    if (type == PrimitiveCategory.STRING) {
+      if (!(value instanceof String)) {
+        return null;
+      }
+      constants.add(new Text((String) value));
+      return new ConstantNode(type, Integer.valueOf(constants.size() - 1));
+    }
+    if (!(value instanceof Number)) {
+      return null;
+    }
+    Number n = (Number) value;
+    switch (type) {
+    case BYTE:
+      return new ConstantNode(type, Integer.valueOf(n.byteValue()));
+    case SHORT:
+      return new ConstantNode(type, Integer.valueOf(n.shortValue()));
+    case INT:
+      return new ConstantNode(type, Integer.valueOf(n.intValue()));
+    case LONG:
+      return new ConstantNode(type, Long.valueOf(n.longValue()));
+    case FLOAT:
+      return new ConstantNode(type, Float.valueOf(n.floatValue()));
+    case DOUBLE:
+      return new ConstantNode(type, Double.valueOf(n.doubleValue()));
+    default:
+      return null;
+    }
+  }
+
+  /**
+   * Returns the node computing the function, or null if it should be a leaf.
+   */
+  private Node analyzeFunction(PrimitiveCategory type,
+      ExprNodeGenericFuncDesc desc) {
+    List<ExprNodeDesc> childExprs = desc.getChildExprs();
+    Node[] children = new Node[childExprs.size()];
+    for (int i = 0; i < children.length; i++) {
+      children[i] = analyze(childExprs.get(i));
+      if (children[i] == null) {
+        return null;
+      }
+    }
+    GenericUDF udf = desc.getGenericUDF();
+
+    if (udf instanceof GenericUDFBridge) {
+      Class<?> udfClass = ((GenericUDFBridge) udf).getUdfClass();
+      ArithmeticOp op = ArithmeticOp.get(udfClass);
+      if (op != null) {
+        if (!isNumeric(type) || children.length != op.arity
+            || !areNumeric(children) || (op == ArithmeticOp.DIVIDE
+            && type != PrimitiveCategory.DOUBLE)) {
+          return null;
+        }
+        return new ArithmeticNode(type, op, retype(children, type));
+      }
+      if (getCastType(udfClass) == type && children.length == 1) {
+        PrimitiveCategory from = children[0].type;
+        if (from == PrimitiveCategory.VOID) {
+          return new NullNode(type);
+        }
+        if (from == PrimitiveCategory.BOOLEAN || isNumeric(from)) {
+          return new CastNode(type, children[0]);
+        }
+      }
+      return null;
+    }
+
+    if (udf instanceof GenericUDFOPAnd || udf instanceof GenericUDFOPOr) {
+      if (children.length != 2 || !areBoolean(children)) {
+        return null;
+      }
+      return new AndOrNode(udf instanceof GenericUDFOPAnd, retype(children,
+          PrimitiveCategory.BOOLEAN));
+    }
+    if (udf instanceof GenericUDFOPNot) {
+      if (children.length != 1 || !areBoolean(children)) {
+        return null;
+      }
+      return new NotNode(retype(children[0], PrimitiveCategory.BOOLEAN));
+    }
+    if (udf instanceof GenericUDFOPNull || udf instanceof GenericUDFOPNotNull) {
+      if (children.length != 1) {
+        return null;
+      }
+      return new IsNullNode(udf instanceof GenericUDFOPNotNull, retype(
+          children[0], PrimitiveCategory.BOOLEAN));
+    }
+
+    CompareOp compareOp = CompareOp.get(udf);
+    if (compareOp != null) {
+      if (children.length != 2) {
+        return null;
+      }
+      return analyzeCompare(compareOp, children[0], children[1]);
+    }
+
+    if (udf instanceof GenericUDFWhen || udf instanceof GenericUDFIf) {
+      if (udf instanceof GenericUDFIf && children.length != 3) {
+        return null;
+      }
+      int pairs = children.length / 2;
+      Node[] conditions = new Node[pairs];
+      Node[] values = new Node[pairs];
+      for (int i = 0; i < pairs; i++) {
+        conditions[i] = children[2 * i];
+        values[i] = children[2 * i + 1];
+      }
+      if (!areBoolean(conditions) || !areOfType(values, type)) {
+        return null;
+      }
+      Node elseValue = null;
+      if (children.length % 2 == 1) {
+        elseValue = children[children.length - 1];
+        if (!areOfType(new Node[] {elseValue}, type)) {
+          return null;
+        }
+        elseValue = retype(elseValue, type);
+      }
+      return new WhenNode(type, retype(conditions, PrimitiveCategory.BOOLEAN),
+          retype(values, type), elseValue);
+    }
+    if (udf instanceof GenericUDFCoalesce) {
+      if (!areOfType(children, type)) {
+        return null;
+      }
+      return new CoalesceNode(type, retype(children, type));
+    }
+    return null;
+  }
+
+  private Node analyzeCompare(CompareOp op, Node left, Node right) {
+    // A NULL operand makes the result NULL, whatever the comparison type.
+    if (left.type == PrimitiveCategory.VOID) {
+      left = retype(left, right.type == PrimitiveCategory.VOID
+          ? PrimitiveCategory.INT : right.type);
+    }
+    if (right.type == PrimitiveCategory.VOID) {
+      right = retype(right, left.type);
+    }
+    // Same as GenericUDFBaseCompare: operands of the same type are compared
+    // as is, different types are compared as doubles.
+    PrimitiveCategory compareType;
+    if (left.type == right.type) {
+      switch (left.type) {
+      case BOOLEAN:
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+        compareType = PrimitiveCategory.LONG;
+        break;
+      case STRING:
+        // Ordering of strings depends on the object inspectors, equality
+        // does not.
+        if (op != CompareOp.EQUAL && op != CompareOp.NOT_EQUAL) {
+          return null;
+        }
+        compareType = PrimitiveCategory.STRING;
+        break;
+      default:
+        compareType = left.type;
+        break;
+      }
+    } else if (isNumeric(left.type) && isNumeric(right.type)) {
+      compareType = PrimitiveCategory.DOUBLE;
+    } else {
+      return null;
+    }
+    return new CompareNode(op, compareType, left, right);
+  }
+
+  private static PrimitiveCategory getCastType(Class<?> udfClass) {
+    if (udfClass == UDFToBoolean.class) {
+      return PrimitiveCategory.BOOLEAN;
+    } else if (udfClass == UDFToByte.class) {
+      return PrimitiveCategory.BYTE;
+    } else if (udfClass == UDFToShort.class) {
+      return PrimitiveCategory.SHORT;
+    } else if (udfClass == UDFToInteger.class) {
+      return PrimitiveCategory.INT;
+    } else if (udfClass == UDFToLong.class) {
+      return PrimitiveCategory.LONG;
+    } else if (udfClass == UDFToFloat.class) {
+      return PrimitiveCategory.FLOAT;
+    } else if (udfClass == UDFToDouble.class) {
+      return PrimitiveCategory.DOUBLE;
+    }
+    return null;
+  }
+
+  private static boolean areNumeric(Node[] nodes) {
+    for (Node node : nodes) {
+      if (node.type != PrimitiveCategory.VOID && !isNumeric(node.type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean areBoolean(Node[] nodes) {
+    return areOfType(nodes, PrimitiveCategory.BOOLEAN);
+  }
+
+  private static boolean areOfType(Node[] nodes, PrimitiveCategory type) {
+    for (Node node : nodes) {
+      if (node.type != PrimitiveCategory.VOID && node.type != type) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Give a NULL constant the type it is used as.
+   */
+  private static Node retype(Node node, PrimitiveCategory type) {
+    if (node.type == PrimitiveCategory.VOID) {
+      return new NullNode(type);
+    }
+    return node;
+  }
+
+  private static Node[] retype(Node[] nodes, PrimitiveCategory type) {
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = retype(nodes[i], type);
+    }
+    return nodes;
+  }
+
+  // ------------------------------------------------------------------------
+  // Code generation.
+  // ------------------------------------------------------------------------
+
+  private ExprNodeEvaluator generate(ExprNodeDesc desc, Node root)
+      throws Exception {
+    className = BASE_NAME + "$Generated" + generatedCount.incrementAndGet();
+
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(V1_5, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, className, null,
+        BASE_NAME, null);
+
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESC,
+        null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitVarInsn(ALOAD, 1);
+    mv.visitVarInsn(ALOAD, 2);
+    mv.visitVarInsn(ALOAD, 3);
+    mv.visitMethodInsn(INVOKESPECIAL, BASE_NAME, "<init>", CONSTRUCTOR_DESC);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    root.register(nodes);
+    for (Node node : nodes) {
+      mv = cw.visitMethod(ACC_PRIVATE, node.getMethodName(), node
+          .getMethodDesc(), null, EXCEPTIONS);
+      mv.visitCode();
+      node.generate(new MethodGen(mv));
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+    }
+
+    // protected Object evaluateCompiled(Object row) {
+    //   return resultXXX(nodeN(row));
+    // }
+    mv = cw.visitMethod(ACC_PROTECTED, "evaluateCompiled",
+        "(Ljava/lang/Object;)Ljava/lang/Object;", null, EXCEPTIONS);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    new MethodGen(mv).call(root);
+    mv.visitMethodInsn(INVOKEVIRTUAL, BASE_NAME, "result"
+        + getMethodSuffix(root.type), "(" + root.asmType.getDescriptor()
+        + ")Ljava/lang/Object;");
+    mv.visitInsn(ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    cw.visitEnd();
+    byte[] bytes = cw.toByteArray();
+
+    GeneratedClassLoader loader = new GeneratedClassLoader(
+        CompiledExprNodeEvaluator.class.getClassLoader(),
+        CompiledExprNodeEvaluator.class);
+    Class<?> evaluatorClass = loader.define(className.replace('/', '.'),
+        bytes);
+    LOG.info("Compiled " + desc.getExprString() + " into " + nodes.size()
+        + " nodes with " + leafExprs.size() + " interpreted leaves");
+    return (ExprNodeEvaluator) evaluatorClass.getConstructor(
+        ExprNodeDesc.class, ExprNodeDesc[].class, Object[].class).newInstance(
+        desc, leafExprs.toArray(new ExprNodeDesc[leafExprs.size()]),
+        constants.toArray());
+  }
+
+  /**
+   * Emits the code of one node method. Local 0 is this, local 1 the row.
+   */
+  private class MethodGen {
+
+    final MethodVisitor mv;
+    int nextLocal = 2;
+
+    MethodGen(MethodVisitor mv) {
+      this.mv = mv;
+    }
+
+    int newLocal(Type type) {
+      int local = nextLocal;
+      nextLocal += type.getSize();
+      return local;
+    }
+
+    /**
+     * Push the value of the node; sets wasNull.
+     */
+    void call(Node node) {
+      mv.visitVarInsn(ALOAD, 0);
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitMethodInsn(INVOKESPECIAL, className, node.getMethodName(), node
+          .getMethodDesc());
+    }
+
+    /**
+     * Push the value of the node converted to type into a new local, and
+     * return the local.
+     */
+    int callAndStore(Node node, PrimitiveCategory type) {
+      call(node);
+      convert(node.type, type);
+      Type asmType = getAsmType(type);
+      int local = newLocal(asmType);
+      mv.visitVarInsn(asmType.getOpcode(ISTORE), local);
+      return local;
+    }
+
+    void load(PrimitiveCategory type, int local) {
+      mv.visitVarInsn(getAsmType(type).getOpcode(ILOAD), local);
+    }
+
+    void pushWasNull() {
+      mv.visitVarInsn(ALOAD, 0);
+      mv.visitFieldInsn(GETFIELD, BASE_NAME, "wasNull", "Z");
+    }
+
+    void setWasNull(boolean value) {
+      mv.visitVarInsn(ALOAD, 0);
+      mv.visitInsn(value ? ICONST_1 : ICONST_0);
+      mv.visitFieldInsn(PUTFIELD, BASE_NAME, "wasNull", "Z");
+    }
+
+    void returnValue(PrimitiveCategory type) {
+      mv.visitInsn(getAsmType(type).getOpcode(IRETURN));
+    }
+
+    /**
+     * Return NULL of the given type.
+     */
+    void returnNull(PrimitiveCategory type) {
+      setWasNull(true);
+      switch (type) {
+      case LONG:
+        mv.visitInsn(LCONST_0);
+        break;
+      case FLOAT:
+        mv.visitInsn(FCONST_0);
+        break;
+      case DOUBLE:
+        mv.visitInsn(DCONST_0);
+        break;
+      case STRING:
+        mv.visitInsn(ACONST_NULL);
+        break;
+      default:
+        mv.visitInsn(ICONST_0);
+        break;
+      }
+      returnValue(type);
+    }
+
+    /**
+     * Convert the value on top of the stack, with the semantics of the
+     * UDFToXXX functions (which are Java's casts, plus 0/1 for booleans).
+     */
+    void convert(PrimitiveCategory from, PrimitiveCategory to) {
+      if (from == to) {
+        return;
+      }
+      if (to == PrimitiveCategory.BOOLEAN) {
+        switch (from) {
+        case LONG:
+          mv.visitInsn(LCONST_0);
+          mv.visitInsn(LCMP);
+          break;
+        case FLOAT:
+          mv.visitInsn(FCONST_0);
+          mv.visitInsn(FCMPL);
+          break;
+        case DOUBLE:
+          mv.visitInsn(DCONST_0);
+          mv.visitInsn(DCMPL);
+          break;
+        default:
+          break;
+        }
+        Label isTrue = new Label();
+        Label end = new Label();
+        mv.visitJumpInsn(IFNE, isTrue);
+        mv.visitInsn(ICONST_0);
+        mv.visitJumpInsn(GOTO, end);
+        mv.visitLabel(isTrue);
+        mv.visitInsn(ICONST_1);
+        mv.visitLabel(end);
+        return;
+      }
+      int fromSort = getStackSort(from);
+      int toSort = getStackSort(to);
+      if (fromSort != toSort) {
+        mv.visitInsn(getConversionOpcode(fromSort, toSort));
+      }
+      if (to == PrimitiveCategory.BYTE) {
+        mv.visitInsn(I2B);
+      } else if (to == PrimitiveCategory.SHORT) {
+        mv.visitInsn(I2S);
+      }
+    }
+  }
+
+  /**
+   * The type a value is held as on the JVM stack.
+   */
+  private static int getStackSort(PrimitiveCategory category) {
+    switch (category) {
+    case LONG:
+      return Type.LONG;
+    case FLOAT:
+      return Type.FLOAT;
+    case DOUBLE:
+      return Type.DOUBLE;
+    default:
+      return Type.INT;
+    }
+  }
+
+  private static int getConversionOpcode(int fromSort, int toSort) {
+    switch (fromSort) {
+    case Type.INT:
+      return toSort == Type.LONG ? I2L : (toSort == Type.FLOAT ? I2F : I2D);
+    case Type.LONG:
+      return toSort == Type.INT ? L2I : (toSort == Type.FLOAT ? L2F : L2D);
+    case Type.FLOAT:
+      return toSort == Type.INT ? F2I : (toSort == Type.LONG ? F2L : F2D);
+    default:
+      return toSort == Type.INT ? D2I : (toSort == Type.LONG ? D2L : D2F);
+    }
+  }
+
+  // ------------------------------------------------------------------------
+  // Nodes.
+  // ------------------------------------------------------------------------
+
+  /**
+   * A node of the compiled expression. Each node is generated as a private
+   * method taking the row and returning the value, setting wasNull.
+   */
+  private abstract static class Node {
+    final PrimitiveCategory type;
+    final Type asmType;
+    final Node[] children;
+    int id = -1;
+
+    Node(PrimitiveCategory type, Node... children) {
+      this.type = type;
+      asmType = type == PrimitiveCategory.VOID ? null : getAsmType(type);
+      this.children = children;
+    }
+
+    void register(List<Node> nodes) {
+      if (id >= 0) {
+        return;
+      }
+      id = nodes.size();
+      nodes.add(this);
+      for (Node child : children) {
+        child.register(nodes);
+      }
+    }
+
+    String getMethodName() {
+      return "node" + id;
+    }
+
+    String getMethodDesc() {
+      return "(Ljava/lang/Object;)" + asmType.getDescriptor();
+    }
+
+    abstract void generate(MethodGen g);
+  }
+
+  /**
+   * Sub-expression evaluated by the interpreter.
+   */
+  private static class LeafNode extends Node {
+    final int index;
+
+    LeafNode(PrimitiveCategory type, int index) {
+      super(type);
+      this.index = index;
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      g.mv.visitVarInsn(ALOAD, 0);
+      g.mv.visitVarInsn(ALOAD, 1);
+      g.mv.visitLdcInsn(Integer.valueOf(index));
+      g.mv.visitMethodInsn(INVOKEVIRTUAL, BASE_NAME, "get"
+          + getMethodSuffix(type), "(Ljava/lang/Object;I)"
+          + asmType.getDescriptor());
+      g.returnValue(type);
+    }
+  }
+
+  private static class NullNode extends Node {
+    NullNode(PrimitiveCategory type) {
+      super(type);
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      g.returnNull(type);
+    }
+  }
+
+  /**
+   * A constant. The value is the constant itself, except for strings where
+   * it is the index of the Text in the constants of the evaluator.
+   */
+  private static class ConstantNode extends Node {
+    final Object value;
+
+    ConstantNode(PrimitiveCategory type, Object value) {
+      super(type);
+      this.value = value;
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      if (type == PrimitiveCategory.STRING) {
+        g.mv.visitVarInsn(ALOAD, 0);
+        g.mv.visitLdcInsn(value);
+        g.mv.visitMethodInsn(INVOKEVIRTUAL, BASE_NAME, "getTextConstant",
+            "(I)L" + TEXT_NAME + ";");
+      } else {
+        g.setWasNull(false);
+        if (type == PrimitiveCategory.BOOLEAN) {
+          g.mv.visitInsn(((Boolean) value).booleanValue() ? ICONST_1
+              : ICONST_0);
+        } else {
+          g.mv.visitLdcInsn(value);
+        }
+      }
+      g.returnValue(type);
+    }
+  }
+
+  private static enum ArithmeticOp {
+    PLUS(UDFOPPlus.class, 2, IADD),
+    MINUS(UDFOPMinus.class, 2, ISUB),
+    MULTIPLY(UDFOPMultiply.class, 2, IMUL),
+    DIVIDE(UDFOPDivide.class, 2, IDIV),
+    MOD(UDFOPMod.class, 2, IREM),
+    NEGATIVE(UDFOPNegative.class, 1, INEG),
+    POSITIVE(UDFOPPositive.class, 1, NOP);
+
+    final Class<?> udfClass;
+    final int arity;
+    final int opcode;
+
+    ArithmeticOp(Class<?> udfClass, int arity, int opcode) {
+      this.udfClass = udfClass;
+      this.arity = arity;
+      this.opcode = opcode;
+    }
+
+    static ArithmeticOp get(Class<?> udfClass) {
+      for (ArithmeticOp op : values()) {
+        if (op.udfClass == udfClass) {
+          return op;
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Arithmetic in the result type, which is the type the UDFOPXXX bridge
+   * converts its arguments to. All arguments are evaluated, as the bridge
+   * does, and the result is NULL if any of them is.
+   */
+  private static class ArithmeticNode extends Node {
+    final ArithmeticOp op;
+
+    ArithmeticNode(PrimitiveCategory type, ArithmeticOp op, Node[] children) {
+      super(type, children);
+      this.op = op;
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      int[] locals = new int[children.length];
+      int anyNull = g.newLocal(Type.INT_TYPE);
+      for (int i = 0; i < children.length; i++) {
+        locals[i] = g.callAndStore(children[i], type);
+        g.pushWasNull();
+        if (i > 0) {
+          g.mv.visitVarInsn(ILOAD, anyNull);
+          g.mv.visitInsn(IOR);
+        }
+        g.mv.visitVarInsn(ISTORE, anyNull);
+      }
+      Label isNull = new Label();
+      g.mv.visitVarInsn(ILOAD, anyNull);
+      g.mv.visitJumpInsn(IFNE, isNull);
+      for (int local : locals) {
+        g.load(type, local);
+      }
+      if (op != ArithmeticOp.POSITIVE) {
+        g.mv.visitInsn(asmType.getOpcode(op.opcode));
+        if (type == PrimitiveCategory.BYTE) {
+          g.mv.visitInsn(I2B);
+        } else if (type == PrimitiveCategory.SHORT) {
+          g.mv.visitInsn(I2S);
+        }
+      }
+      g.returnValue(type);
+      g.mv.visitLabel(isNull);
+      g.returnNull(type);
+    }
+  }
+
+  private static class CastNode extends Node {
+    CastNode(PrimitiveCategory type, Node child) {
+      super(type, child);
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      g.call(children[0]);
+      g.convert(children[0].type, type);
+      g.returnValue(type);
+    }
+  }
+
+  private static enum CompareOp {
+    EQUAL(GenericUDFOPEqual.class, IFEQ),
+    NOT_EQUAL(GenericUDFOPNotEqual.class, IFNE),
+    LESS_THAN(GenericUDFOPLessThan.class, IFLT),
+    EQUAL_OR_LESS_THAN(GenericUDFOPEqualOrLessThan.class, IFLE),
+    GREATER_THAN(GenericUDFOPGreaterThan.class, IFGT),
+    EQUAL_OR_GREATER_THAN(GenericUDFOPEqualOrGreaterThan.class, IFGE);
+
+    final Class<? extends GenericUDF> udfClass;
+    /**
+     * The jump taken on the result of the comparison if the predicate holds.
+     */
+    final int opcode;
+
+    CompareOp(Class<? extends GenericUDF> udfClass, int opcode) {
+      this.udfClass = udfClass;
+      this.opcode = opcode;
+    }
+
+    static CompareOp get(GenericUDF udf) {
+      for (CompareOp op : values()) {
+        if (op.udfClass == udf.getClass()) {
+          return op;
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Comparison in compareType, with the semantics of
+   * ObjectInspectorUtils.compare. The right operand is not evaluated if the
+   * left one is NULL.
+   */
+  private static class CompareNode extends Node {
+    final CompareOp op;
+    final PrimitiveCategory compareType;
+
+    CompareNode(CompareOp op, PrimitiveCategory compareType, Node left,
+        Node right) {
+      super(PrimitiveCategory.BOOLEAN, left, right);
+      this.op = op;
+      this.compareType = compareType;
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      Label isNull = new Label();
+      int left = g.callAndStore(children[0], compareType);
+      g.pushWasNull();
+      g.mv.visitJumpInsn(IFNE, isNull);
+      int right = g.callAndStore(children[1], compareType);
+      g.pushWasNull();
+      g.mv.visitJumpInsn(IFNE, isNull);
+
+      g.load(compareType, left);
+      g.load(compareType, right);
+      switch (compareType) {
+      case STRING:
+        g.mv.visitMethodInsn(INVOKEVIRTUAL, TEXT_NAME, "equals",
+            "(Ljava/lang/Object;)Z");
+        if (op == CompareOp.NOT_EQUAL) {
+          g.mv.visitInsn(ICONST_1);
+          g.mv.visitInsn(IXOR);
+        }
+        g.returnValue(type);
+        break;
+      case LONG:
+        g.mv.visitInsn(LCMP);
+        break;
+      case FLOAT:
+        g.mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "compare",
+            "(FF)I");
+        break;
+      case DOUBLE:
+        g.mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "compare",
+            "(DD)I");
+        break;
+      default:
+        throw new RuntimeException("Unexpected type " + compareType);
+      }
+      if (compareType != PrimitiveCategory.STRING) {
+        Label isTrue = new Label();
+        g.mv.visitJumpInsn(op.opcode, isTrue);
+        g.mv.visitInsn(ICONST_0);
+        g.returnValue(type);
+        g.mv.visitLabel(isTrue);
+        g.mv.visitInsn(ICONST_1);
+        g.returnValue(type);
+      }
+
+      // wasNull is already set
+      g.mv.visitLabel(isNull);
+      g.mv.visitInsn(ICONST_0);
+      g.returnValue(type);
+    }
+  }
+
+  /**
+   * Three-valued AND/OR, short-circuited as in GenericUDFOPAnd/Or.
+   */
+  private static class AndOrNode extends Node {
+    final boolean isAnd;
+
+    AndOrNode(boolean isAnd, Node[] children) {
+      super(PrimitiveCategory.BOOLEAN, children);
+      this.isAnd = isAnd;
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      // The value that decides the result on its own: false for AND, true
+      // for OR.
+      int skipIfNotDecisive = isAnd ? IFNE : IFEQ;
+      int decisive = isAnd ? ICONST_0 : ICONST_1;
+
+      int[] values = new int[2];
+      int[] nulls = new int[2];
+      for (int i = 0; i < 2; i++) {
+        Label next = new Label();
+        values[i] = g.callAndStore(children[i], PrimitiveCategory.BOOLEAN);
+        nulls[i] = g.newLocal(Type.INT_TYPE);
+        g.pushWasNull();
+        g.mv.visitVarInsn(ISTORE, nulls[i]);
+        g.mv.visitVarInsn(ILOAD, nulls[i]);
+        g.mv.visitJumpInsn(IFNE, next);
+        g.mv.visitVarInsn(ILOAD, values[i]);
+        g.mv.visitJumpInsn(skipIfNotDecisive, next);
+        g.mv.visitInsn(decisive);
+        g.returnValue(type);
+        g.mv.visitLabel(next);
+      }
+
+      // Neither value is decisive: NULL if either is NULL.
+      Label isNull = new Label();
+      g.mv.visitVarInsn(ILOAD, nulls[0]);
+      g.mv.visitVarInsn(ILOAD, nulls[1]);
+      g.mv.visitInsn(IOR);
+      g.mv.visitJumpInsn(IFNE, isNull);
+      g.mv.visitInsn(isAnd ? ICONST_1 : ICONST_0);
+      g.returnValue(type);
+      g.mv.visitLabel(isNull);
+      g.returnNull(type);
+    }
+  }
+
+  private static class NotNode extends Node {
+    NotNode(Node child) {
+      super(PrimitiveCategory.BOOLEAN, child);
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      Label isNull = new Label();
+      int value = g.callAndStore(children[0], PrimitiveCategory.BOOLEAN);
+      g.pushWasNull();
+      g.mv.visitJumpInsn(IFNE, isNull);
+      g.mv.visitVarInsn(ILOAD, value);
+      g.mv.visitInsn(ICONST_1);
+      g.mv.visitInsn(IXOR);
+      g.returnValue(type);
+      g.mv.visitLabel(isNull);
+      g.mv.visitInsn(ICONST_0);
+      g.returnValue(type);
+    }
+  }
+
+  private static class IsNullNode extends Node {
+    final boolean isNotNull;
+
+    IsNullNode(boolean isNotNull, Node child) {
+      super(PrimitiveCategory.BOOLEAN, child);
+      this.isNotNull = isNotNull;
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      g.call(children[0]);
+      g.mv.visitInsn(children[0].asmType.getSize() == 2 ? POP2 : POP);
+      g.pushWasNull();
+      if (isNotNull) {
+        g.mv.visitInsn(ICONST_1);
+        g.mv.visitInsn(IXOR);
+      }
+      g.setWasNull(false);
+      g.returnValue(type);
+    }
+  }
+
+  /**
+   * CASE WHEN and IF: the value of the first condition that is true, else
+   * the else value or NULL.
+   */
+  private static class WhenNode extends Node {
+    final Node[] conditions;
+    final Node[] values;
+    final Node elseValue;
+
+    WhenNode(PrimitiveCategory type, Node[] conditions, Node[] values,
+        Node elseValue) {
+      super(type, concat(conditions, values, elseValue));
+      this.conditions = conditions;
+      this.values = values;
+      this.elseValue = elseValue;
+    }
+
+    private static Node[] concat(Node[] conditions, Node[] values,
+        Node elseValue) {
+      List<Node> all = new ArrayList<Node>();
+      for (int i = 0; i < conditions.length; i++) {
+        all.add(conditions[i]);
+        all.add(values[i]);
+      }
+      if (elseValue != null) {
+        all.add(elseValue);
+      }
+      return all.toArray(new Node[all.size()]);
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      for (int i = 0; i < conditions.length; i++) {
+        Label next = new Label();
+        int condition = g.callAndStore(conditions[i],
+            PrimitiveCategory.BOOLEAN);
+        g.pushWasNull();
+        g.mv.visitJumpInsn(IFNE, next);
+        g.mv.visitVarInsn(ILOAD, condition);
+        g.mv.visitJumpInsn(IFEQ, next);
+        g.call(values[i]);
+        g.returnValue(type);
+        g.mv.visitLabel(next);
+      }
+      if (elseValue != null) {
+        g.call(elseValue);
+        g.returnValue(type);
+      } else {
+        g.returnNull(type);
+      }
+    }
+  }
+
+  /**
+   * The first value that is not NULL.
+   */
+  private static class CoalesceNode extends Node {
+    CoalesceNode(PrimitiveCategory type, Node[] children) {
+      super(type, children);
+    }
+
+    @Override
+    void generate(MethodGen g) {
+      for (Node child : children) {
+        Label next = new Label();
+        int value = g.callAndStore(child, type);
+        g.pushWasNull();
+        g.mv.visitJumpInsn(IFNE, next);
+        g.load(type, value);
+        g.returnValue(type);
+        g.mv.visitLabel(next);
+      }
+      g.returnNull(type);
+    }
+  }
+}
@@ -18,6 +18,8 @@
 
 package org.apache.hadoop.hive.ql.exec;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
@@ -59,4 +61,19 @@ public final class ExprNodeEvaluatorFactory {
     throw new RuntimeException(
         "Cannot find ExprNodeEvaluator for the exprNodeDesc = " + desc);
   }
+
+  /**
+   * Same as get(desc), except that the expression is compiled into bytecode
+   * if hive.exec.compile.expressions is set and it can be.
+   */
+  public static ExprNodeEvaluator get(ExprNodeDesc desc, Configuration conf) {
+    if (conf != null
+        && HiveConf.getBoolVar(conf, HiveConf.ConfVars.HIVEEXPRCOMPILE)) {
+      ExprNodeEvaluator compiled = ExprNodeCompiler.compile(desc);
+      if (compiled != null) {
+        return compiled;
+      }
+    }
+    return get(desc);
+  }
 }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -49,6 +50,7 @@ import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
@@ -279,6 +281,9 @@ public class FetchOperator implements Serializable {
       inputFormat = getInputFormatFromCache(tmp.getInputFileFormatClass(), job);
       Utilities.copyTableJobPropertiesToConf(tmp.getTableDesc(), job);
       inputSplits = inputFormat.getSplits(job, 1);
+      if (work.isOrdered()) {
+        Arrays.sort(inputSplits, new InputSplitComparator());
+      }
       splitNum = 0;
       serde = tmp.getDeserializerClass().newInstance();
       serde.initialize(job, tmp.getProperties());
@@ -406,6 +411,25 @@ public class FetchOperator implements Serializable {
     }
   }
 
+  /**
+   * Orders file splits by path and offset, so that the output files of the
+   * reducers are read in task order.
+   */
+  private static class InputSplitComparator implements Comparator<InputSplit> {
+    public int compare(InputSplit o1, InputSplit o2) {
+      if (!(o1 instanceof FileSplit) || !(o2 instanceof FileSplit)) {
+        return 0;
+      }
+      FileSplit f1 = (FileSplit) o1;
+      FileSplit f2 = (FileSplit) o2;
+      int cmp = f1.getPath().compareTo(f2.getPath());
+      if (cmp != 0) {
+        return cmp;
+      }
+      return f1.getStart() < f2.getStart() ? -1 : (f1.getStart() == f2.getStart() ? 0 : 1);
+    }
+  }
+
   /**
    * Lists status for all files under a given path. Whether or not this is recursive depends on the
    * setting of job configuration parameter mapred.input.dir.recursive.
@@ -21,6 +21,8 @@ package org.apache.hadoop.hive.ql.exec;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 import org.apache.hadoop.hive.common.JavaUtils;
@@ -36,6 +38,13 @@ import org.apache.hadoop.hive.serde.Constants;
 import org.apache.hadoop.hive.serde2.DelimitedJSONSerDe;
 import org.apache.hadoop.hive.serde2.SerDe;
 import org.apache.hadoop.hive.serde2.objectinspector.InspectableObject;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorConverters;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorConverters.Converter;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.util.ReflectionUtils;
@@ -51,6 +60,9 @@ public class FetchTask extends Task<FetchWork> implements Serializable {
   private FetchOperator ftOp;
   private SerDe mSerde;
   private int totalRows;
+  private JobConf job;
+  private RowCollector sink;
+  private transient boolean resultRowDone;
 
   public FetchTask() {
     super();
@@ -81,6 +93,7 @@ public class FetchTask extends Task<FetchWork> implements Serializable {
       mSerde.initialize(job, serdeProp);
 
       ftOp = new FetchOperator(work, job);
+      this.job = job;
     } catch (Exception e) {
       // Bail out ungracefully - we should never hit
       // this here - but would have hit it in SemanticAnalyzer
@@ -89,6 +102,106 @@ public class FetchTask extends Task<FetchWork> implements Serializable {
     }
   }
 
+  /**
+   * Append a collector to the operators of the query and initialize them
+   * with the rows of the fetch operator. This is done on the first fetch, so
+   * that the plan does not contain the collector before.
+   */
+  private void initializeSource() throws HiveException {
+    Operator<? extends Serializable> last = work.getSource();
+    while (last.getChildOperators() != null && !last.getChildOperators().isEmpty()) {
+      last = last.getChildOperators().get(0);
+    }
+    sink = new RowCollector();
+    List<Operator<? extends Serializable>> parents = new ArrayList<Operator<? extends Serializable>>();
+    parents.add(last);
+    sink.setParentOperators(parents);
+    List<Operator<? extends Serializable>> children = new ArrayList<Operator<? extends Serializable>>();
+    children.add(sink);
+    last.setChildOperators(children);
+
+    work.getSource().initialize(job, new ObjectInspector[] {ftOp.getOutputObjectInspector()});
+  }
+
+  /**
+   * Collects the output rows of the query operators, one input row at a time.
+   */
+  private static class RowCollector extends ForwardOperator {
+    private static final long serialVersionUID = 1L;
+
+    private final transient InspectableObject row = new InspectableObject();
+    private transient boolean hasRow;
+
+    @Override
+    public void processOp(Object o, int tag) throws HiveException {
+      row.o = o;
+      row.oi = inputObjInspectors[tag];
+      hasRow = true;
+    }
+  }
+
+  /**
+   * Returns the next result row. If the query has operators, the fetched rows
+   * are pushed through them until one comes out or the operators are done.
+   */
+  private InspectableObject getNextRow() throws IOException, HiveException {
+    if (work.getResultRow() != null) {
+      if (resultRowDone) {
+        return null;
+      }
+      resultRowDone = true;
+      return getResultRow();
+    }
+    Operator<? extends Serializable> source = work.getSource();
+    if (source == null) {
+      return ftOp.getNextRow();
+    }
+    if (sink == null) {
+      initializeSource();
+    }
+    while (!source.getDone()) {
+      InspectableObject io = ftOp.getNextRow();
+      if (io == null) {
+        break;
+      }
+      source.process(io.o, 0);
+      if (sink.hasRow) {
+        sink.hasRow = false;
+        return sink.row;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Convert the result row computed when the query was compiled to the
+   * column types of the result table.
+   */
+  private InspectableObject getResultRow() throws HiveException {
+    Properties props = work.getTblDesc().getProperties();
+    List<String> names = Arrays.asList(props.getProperty(Constants.LIST_COLUMNS)
+        .split(","));
+    List<TypeInfo> types = TypeInfoUtils.getTypeInfosFromTypeString(props
+        .getProperty(Constants.LIST_COLUMN_TYPES));
+    ArrayList<String> row = work.getResultRow();
+    if (names.size() != row.size() || types.size() != row.size()) {
+      throw new HiveException("Result row does not match the result schema");
+    }
+
+    List<ObjectInspector> ois = new ArrayList<ObjectInspector>();
+    List<Object> converted = new ArrayList<Object>();
+    for (int i = 0; i < row.size(); i++) {
+      ObjectInspector oi = TypeInfoUtils
+          .getStandardJavaObjectInspectorFromTypeInfo(types.get(i));
+      Converter converter = ObjectInspectorConverters.getConverter(
+          PrimitiveObjectInspectorFactory.javaStringObjectInspector, oi);
+      ois.add(oi);
+      converted.add(row.get(i) == null ? null : converter.convert(row.get(i)));
+    }
+    return new InspectableObject(converted, ObjectInspectorFactory
+        .getStandardStructObjectInspector(names, ois));
+  }
+
   @Override
   public int execute(DriverContext driverContext) {
     assert false;
@@ -130,7 +243,7 @@ public class FetchTask extends Task<FetchWork> implements Serializable {
       }
 
       while (numRows < rowsRet) {
-        InspectableObject io = ftOp.getNextRow();
+        InspectableObject io = getNextRow();
         if (io == null) {
           if (numRows == 0) {
             return false;
@@ -183,5 +296,9 @@ public class FetchTask extends Task<FetchWork> implements Serializable {
     if (null != ftOp) {
       ftOp.clearFetchContext();
     }
+    if (null != sink) {
+      work.getSource().close(false);
+      sink = null;
+    }
   }
 }
@@ -129,6 +129,7 @@ import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFCorrelation;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFCount;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFCovariance;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFCovarianceSample;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFEWAHBitmap;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFEvaluator;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFHistogramNumeric;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFMax;
@@ -150,6 +151,9 @@ import org.apache.hadoop.hive.ql.udf.generic.GenericUDFBridge;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFCase;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFCoalesce;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFConcatWS;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFEWAHBitmapAnd;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFEWAHBitmapEmpty;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFEWAHBitmapOr;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFElt;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFField;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFHash;
@@ -380,6 +384,7 @@ public final class FunctionRegistry {
     registerGenericUDAF("histogram_numeric", new GenericUDAFHistogramNumeric());
     registerGenericUDAF("percentile_approx", new GenericUDAFPercentileApprox());
     registerGenericUDAF("collect_set", new GenericUDAFCollectSet());
+    registerGenericUDAF("ewah_bitmap", new GenericUDAFEWAHBitmap());
 
     registerGenericUDAF("ngrams", new GenericUDAFnGrams());
     registerGenericUDAF("context_ngrams", new GenericUDAFContextNGrams());
@@ -406,6 +411,9 @@ public final class FunctionRegistry {
     registerGenericUDF("concat_ws", GenericUDFConcatWS.class);
     registerGenericUDF("array_contains", GenericUDFArrayContains.class);
     registerGenericUDF("sentences", GenericUDFSentences.class);
+    registerGenericUDF("ewah_bitmap_and", GenericUDFEWAHBitmapAnd.class);
+    registerGenericUDF("ewah_bitmap_or", GenericUDFEWAHBitmapOr.class);
+    registerGenericUDF("ewah_bitmap_empty", GenericUDFEWAHBitmapEmpty.class);
 
     // Generic UDTF's
     registerGenericUDTF("explode", GenericUDTFExplode.class);
@@ -768,33 +776,53 @@ public final class FunctionRegistry {
     try {
       o = m.invoke(thisObject, arguments);
     } catch (Exception e) {
-      String thisObjectString = "" + thisObject + " of class "
-          + (thisObject == null ? "null" : thisObject.getClass().getName());
+      throw invokeFailed(m, thisObject, arguments, e);
+    }
+    return o;
+  }
 
-      StringBuilder argumentString = new StringBuilder();
-      if (arguments == null) {
-        argumentString.append("null");
-      } else {
-        argumentString.append("{");
-        for (int i = 0; i < arguments.length; i++) {
-          if (i > 0) {
-            argumentString.append(", ");
-          }
-          if (arguments[i] == null) {
-            argumentString.append("null");
-          } else {
-            argumentString.append("" + arguments[i] + ":"
-                + arguments[i].getClass().getName());
-          }
+  /**
+   * Same as {@link #invoke(Method, Object, Object...)}, but calls the method
+   * through a MethodInvoker obtained at initialization time.
+   */
+  public static Object invoke(MethodInvoker invoker, Object thisObject,
+      Object... arguments) throws HiveException {
+    Object o;
+    try {
+      o = invoker.invoke(thisObject, arguments);
+    } catch (Exception e) {
+      throw invokeFailed(invoker.getMethod(), thisObject, arguments, e);
+    }
+    return o;
+  }
+
+  private static HiveException invokeFailed(Method m, Object thisObject,
+      Object[] arguments, Exception e) {
+    String thisObjectString = "" + thisObject + " of class "
+        + (thisObject == null ? "null" : thisObject.getClass().getName());
+
+    StringBuilder argumentString = new StringBuilder();
+    if (arguments == null) {
+      argumentString.append("null");
+    } else {
+      argumentString.append("{");
+      for (int i = 0; i < arguments.length; i++) {
+        if (i > 0) {
+          argumentString.append(", ");
+        }
+        if (arguments[i] == null) {
+          argumentString.append("null");
+        } else {
+          argumentString.append("" + arguments[i] + ":"
+              + arguments[i].getClass().getName());
         }
-        argumentString.append("} of size " + arguments.length);
       }
-
-      throw new HiveException("Unable to execute method " + m + " "
-          + " on object " + thisObjectString + " with arguments "
-          + argumentString.toString(), e);
+      argumentString.append("} of size " + arguments.length);
     }
-    return o;
+
+    return new HiveException("Unable to execute method " + m + " "
+        + " on object " + thisObjectString + " with arguments "
+        + argumentString.toString(), e);
   }
 
   /**
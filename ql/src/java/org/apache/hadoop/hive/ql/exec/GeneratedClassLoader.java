@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+/**
+ * Class loader for a single class generated at runtime. Classes referenced by
+ * the generated code are resolved through the parent loader, except for the
+ * base class of the generated class, which always resolves to the copy this
+ * code was loaded with.
+ */
+class GeneratedClassLoader extends ClassLoader {
+
+  private final Class<?> baseClass;
+
+  GeneratedClassLoader(ClassLoader parent, Class<?> baseClass) {
+    super(parent);
+    this.baseClass = baseClass;
+  }
+
+  @Override
+  protected synchronized Class<?> loadClass(String name, boolean resolve)
+      throws ClassNotFoundException {
+    if (name.equals(baseClass.getName())) {
+      return baseClass;
+    }
+    return super.loadClass(name, resolve);
+  }
+
+  Class<?> define(String name, byte[] bytes) {
+    return defineClass(name, bytes, 0, bytes.length);
+  }
+}
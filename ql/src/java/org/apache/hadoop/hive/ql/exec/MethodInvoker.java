@@ -0,0 +1,308 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * MethodInvoker calls a resolved UDF or UDAF method without going through
+ * reflection.
+ *
+ * {@link #get(Method)} generates a small class whose invoke method casts the
+ * target and the arguments to the declared types and calls the method
+ * directly, so the JIT can inline the call like any other virtual call. When
+ * the method cannot be linked from generated code (for example it is not
+ * public, or it is declared on a non-public class), a reflection based
+ * invoker is returned instead.
+ *
+ * Both kinds of invokers behave like {@link Method#invoke}: anything thrown by
+ * the call is wrapped in an {@link InvocationTargetException}.
+ */
+public abstract class MethodInvoker {
+
+  private static final Log LOG = LogFactory.getLog(MethodInvoker.class
+      .getName());
+
+  private static final String SUPER_NAME = Type
+      .getInternalName(MethodInvoker.class);
+
+  private static final String INVOKE_DESC = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+
+  private static final AtomicInteger generatedCount = new AtomicInteger();
+
+  // Invokers in use, so that a UDF used by many expressions or queries
+  // generates and loads its class only once. An invoker holds its method,
+  // which holds the UDF class, so both the key and the invoker are weak: an
+  // entry lives only while some evaluator uses the invoker, and the classes
+  // and loaders of UDFs added with ADD JAR can still be unloaded.
+  private static final Map<Method, WeakReference<MethodInvoker>> invokers =
+      new WeakHashMap<Method, WeakReference<MethodInvoker>>();
+
+  private final Method method;
+
+  protected MethodInvoker(Method method) {
+    this.method = method;
+  }
+
+  public Method getMethod() {
+    return method;
+  }
+
+  /**
+   * Call the method on thisObject, which is ignored for static methods.
+   */
+  public final Object invoke(Object thisObject, Object... arguments)
+      throws InvocationTargetException {
+    try {
+      return doInvoke(thisObject, arguments);
+    } catch (InvocationTargetException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  protected abstract Object doInvoke(Object thisObject, Object[] arguments)
+      throws Throwable;
+
+  /**
+   * Fallback invoker using {@link Method#invoke}.
+   */
+  static class ReflectionInvoker extends MethodInvoker {
+
+    ReflectionInvoker(Method method) {
+      super(method);
+      method.setAccessible(true);
+    }
+
+    @Override
+    protected Object doInvoke(Object thisObject, Object[] arguments)
+        throws Throwable {
+      return getMethod().invoke(thisObject, arguments);
+    }
+  }
+
+  /**
+   * Return an invoker for the method, generating one if possible. Invokers
+   * are stateless, so one is made per method and shared while in use.
+   */
+  public static MethodInvoker get(Method method) {
+    synchronized (invokers) {
+      WeakReference<MethodInvoker> ref = invokers.get(method);
+      MethodInvoker invoker = ref == null ? null : ref.get();
+      if (invoker == null) {
+        invoker = create(method);
+        // key on the invoker's own method so the entry stays as long as the
+        // invoker does; put keeps an existing equal key, so remove it first
+        invokers.remove(method);
+        invokers.put(invoker.getMethod(), new WeakReference<MethodInvoker>(
+            invoker));
+      }
+      return invoker;
+    }
+  }
+
+  private static MethodInvoker create(Method method) {
+    if (isLinkable(method)) {
+      try {
+        return generate(method);
+      } catch (Throwable t) {
+        LOG.warn("Unable to generate an invoker for " + method
+            + ", falling back to reflection", t);
+      }
+    }
+    return new ReflectionInvoker(method);
+  }
+
+  /**
+   * Generated code can only refer to public classes and call public methods,
+   * since it lives in its own class loader and package.
+   */
+  static boolean isLinkable(Method method) {
+    if (!Modifier.isPublic(method.getModifiers())
+        || !isPublic(method.getDeclaringClass())
+        || !isPublic(method.getReturnType())) {
+      return false;
+    }
+    for (Class<?> c : method.getParameterTypes()) {
+      if (!isPublic(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isPublic(Class<?> c) {
+    while (c.isArray()) {
+      c = c.getComponentType();
+    }
+    return c.isPrimitive() || Modifier.isPublic(c.getModifiers());
+  }
+
+  private static MethodInvoker generate(Method method) throws Exception {
+    String className = SUPER_NAME + "$Generated"
+        + generatedCount.incrementAndGet();
+    byte[] bytes = generateClass(className, method);
+
+    GeneratedClassLoader loader = new GeneratedClassLoader(method
+        .getDeclaringClass().getClassLoader(), MethodInvoker.class);
+    Class<?> invokerClass = loader.define(className.replace('/', '.'), bytes);
+    return (MethodInvoker) invokerClass.getConstructor(Method.class)
+        .newInstance(method);
+  }
+
+  /**
+   * Generate a subclass of MethodInvoker whose doInvoke calls the method
+   * directly, i.e. the equivalent of:
+   *
+   * <pre>
+   * return ((DeclaringClass) thisObject).method((T0) arguments[0], ...);
+   * </pre>
+   *
+   * with primitive arguments unboxed, a primitive result boxed and null
+   * returned for void methods.
+   */
+  static byte[] generateClass(String className, Method method) {
+    Class<?> owner = method.getDeclaringClass();
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    boolean isStatic = Modifier.isStatic(method.getModifiers());
+
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL
+        + Opcodes.ACC_SUPER, className, null, SUPER_NAME, null);
+
+    // public <init>(Method method) { super(method); }
+    MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+        "(Ljava/lang/reflect/Method;)V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(Opcodes.ALOAD, 0);
+    mv.visitVarInsn(Opcodes.ALOAD, 1);
+    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, SUPER_NAME, "<init>",
+        "(Ljava/lang/reflect/Method;)V");
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    mv = cw.visitMethod(Opcodes.ACC_PROTECTED, "doInvoke", INVOKE_DESC, null,
+        new String[] {"java/lang/Throwable"});
+    mv.visitCode();
+    if (!isStatic) {
+      mv.visitVarInsn(Opcodes.ALOAD, 1);
+      mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(owner));
+    }
+    for (int i = 0; i < parameterTypes.length; i++) {
+      mv.visitVarInsn(Opcodes.ALOAD, 2);
+      pushInt(mv, i);
+      mv.visitInsn(Opcodes.AALOAD);
+      unbox(mv, parameterTypes[i]);
+    }
+    int opcode;
+    if (isStatic) {
+      opcode = Opcodes.INVOKESTATIC;
+    } else if (owner.isInterface()) {
+      opcode = Opcodes.INVOKEINTERFACE;
+    } else {
+      opcode = Opcodes.INVOKEVIRTUAL;
+    }
+    mv.visitMethodInsn(opcode, Type.getInternalName(owner), method.getName(),
+        Type.getMethodDescriptor(method));
+    box(mv, method.getReturnType());
+    mv.visitInsn(Opcodes.ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private static void pushInt(MethodVisitor mv, int i) {
+    if (i <= 5) {
+      mv.visitInsn(Opcodes.ICONST_0 + i);
+    } else if (i <= Byte.MAX_VALUE) {
+      mv.visitIntInsn(Opcodes.BIPUSH, i);
+    } else {
+      mv.visitIntInsn(Opcodes.SIPUSH, i);
+    }
+  }
+
+  /**
+   * Convert the Object on top of the stack to type c.
+   */
+  private static void unbox(MethodVisitor mv, Class<?> c) {
+    if (!c.isPrimitive()) {
+      if (c != Object.class) {
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(c));
+      }
+      return;
+    }
+    Class<?> boxed = getBoxedClass(c);
+    String boxedName = Type.getInternalName(boxed);
+    mv.visitTypeInsn(Opcodes.CHECKCAST, boxedName);
+    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, boxedName, c.getName() + "Value",
+        "()" + Type.getDescriptor(c));
+  }
+
+  /**
+   * Convert the value of type c on top of the stack to an Object.
+   */
+  private static void box(MethodVisitor mv, Class<?> c) {
+    if (c == Void.TYPE) {
+      mv.visitInsn(Opcodes.ACONST_NULL);
+    } else if (c.isPrimitive()) {
+      Class<?> boxed = getBoxedClass(c);
+      mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(boxed),
+          "valueOf", "(" + Type.getDescriptor(c) + ")"
+          + Type.getDescriptor(boxed));
+    }
+  }
+
+  private static Class<?> getBoxedClass(Class<?> c) {
+    if (c == Boolean.TYPE) {
+      return Boolean.class;
+    } else if (c == Byte.TYPE) {
+      return Byte.class;
+    } else if (c == Character.TYPE) {
+      return Character.class;
+    } else if (c == Short.TYPE) {
+      return Short.class;
+    } else if (c == Integer.TYPE) {
+      return Integer.class;
+    } else if (c == Long.TYPE) {
+      return Long.class;
+    } else if (c == Float.TYPE) {
+      return Float.class;
+    } else if (c == Double.TYPE) {
+      return Double.class;
+    }
+    throw new RuntimeException("Unexpected primitive type " + c);
+  }
+}
@@ -0,0 +1,302 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.ql.io.HiveKey;
+import org.apache.hadoop.hive.ql.io.HiveTotalOrderPartitioner;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
+import org.apache.hadoop.hive.ql.plan.PartitionDesc;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.hadoop.mapred.FileSplit;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.util.ReflectionUtils;
+
+/**
+ * PartitionKeySampler collects the keys that the map side of a total order
+ * job sends to the reducers. It runs the map operators over the first rows of
+ * a few randomly chosen input splits before the job is submitted, and writes
+ * the keys that divide the sample into equal ranges for
+ * {@link HiveTotalOrderPartitioner}.
+ */
+public class PartitionKeySampler implements OutputCollector<HiveKey, Object> {
+
+  private static final Log LOG = LogFactory.getLog(PartitionKeySampler.class.getName());
+
+  private static final Comparator<byte[]> KEY_COMPARATOR = new Comparator<byte[]>() {
+    public int compare(byte[] o1, byte[] o2) {
+      return WritableComparator.compareBytes(o1, 0, o1.length, o2, 0, o2.length);
+    }
+  };
+
+  private final int numSamples;
+  private final int maxSplits;
+  private final List<byte[]> sampled = new ArrayList<byte[]>();
+
+  public PartitionKeySampler(int numSamples, int maxSplits) {
+    this.numSamples = numSamples;
+    this.maxSplits = maxSplits;
+  }
+
+  public void collect(HiveKey key, Object value) {
+    byte[] bytes = new byte[key.getLength()];
+    System.arraycopy(key.getBytes(), 0, bytes, 0, bytes.length);
+    sampled.add(bytes);
+  }
+
+  public int getNumSampled() {
+    return sampled.size();
+  }
+
+  public List<byte[]> getSampledKeys() {
+    return sampled;
+  }
+
+  /**
+   * Returns true if the map side of the plan ends in a reduce sink whose keys
+   * have to be range partitioned.
+   */
+  public static boolean isTotalOrder(MapredWork work) {
+    ReduceSinkOperator rs = getReduceSink(work);
+    return rs != null && rs.getConf().isTotalOrder();
+  }
+
+  /**
+   * Returns true if the rows reaching the operator are the output of the
+   * reducers of a total order sort in their original order, i.e. the operator
+   * is only separated from a range partitioned reduce sink by operators that
+   * keep the order of the rows. The files written from such rows each hold
+   * one ordered range, and must not be merged or read out of name order.
+   */
+  public static boolean isTotalOrderOutput(Operator<? extends Serializable> op) {
+    while (op.getParentOperators() != null
+        && op.getParentOperators().size() == 1) {
+      Operator<? extends Serializable> parent = op.getParentOperators().get(0);
+      if (parent instanceof ReduceSinkOperator) {
+        return ((ReduceSinkOperator) parent).getConf().isTotalOrder();
+      }
+      if (!(parent instanceof ExtractOperator)
+          && !(parent instanceof SelectOperator)
+          && !(parent instanceof FilterOperator)
+          && !(parent instanceof LimitOperator)) {
+        return false;
+      }
+      op = parent;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the only reduce sink of the map side of the plan, or null if
+   * there is none or more than one.
+   */
+  private static ReduceSinkOperator getReduceSink(MapredWork work) {
+    List<ReduceSinkOperator> found = new ArrayList<ReduceSinkOperator>();
+    List<Operator<? extends Serializable>> ops =
+        new ArrayList<Operator<? extends Serializable>>(work.getAliasToWork().values());
+    while (!ops.isEmpty()) {
+      Operator<? extends Serializable> op = ops.remove(ops.size() - 1);
+      if (op instanceof ReduceSinkOperator && !found.contains(op)) {
+        found.add((ReduceSinkOperator) op);
+      }
+      if (op.getChildOperators() != null) {
+        ops.addAll(op.getChildOperators());
+      }
+    }
+    return found.size() == 1 ? found.get(0) : null;
+  }
+
+  /**
+   * The map side can be run outside of a map task if it has no local work and
+   * only filters and projects the rows of native tables.
+   */
+  private static boolean canSample(MapredWork work) {
+    if (work.getMapLocalWork() != null || work.isGatheringStats()) {
+      return false;
+    }
+    for (PartitionDesc part : work.getPathToPartitionInfo().values()) {
+      if (part.getTableDesc().isNonNative()) {
+        return false;
+      }
+    }
+    List<Operator<? extends Serializable>> ops =
+        new ArrayList<Operator<? extends Serializable>>(work.getAliasToWork().values());
+    while (!ops.isEmpty()) {
+      Operator<? extends Serializable> op = ops.remove(ops.size() - 1);
+      if (op instanceof TableScanOperator) {
+        TableScanOperator ts = (TableScanOperator) op;
+        if (ts.getConf() != null && ts.getConf().isGatherStats()) {
+          return false;
+        }
+      } else if (!(op instanceof FilterOperator || op instanceof SelectOperator
+          || op instanceof ReduceSinkOperator)) {
+        return false;
+      }
+      if (op.getChildOperators() != null) {
+        ops.addAll(op.getChildOperators());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Collect the sample by running a copy of the map side of the plan. Returns
+   * false if the plan cannot be run outside of a map task.
+   */
+  public boolean sample(MapredWork work, JobConf job) throws Exception {
+    if (!canSample(work)) {
+      return false;
+    }
+
+    List<SampledSplit> splits = new ArrayList<SampledSplit>();
+    for (String path : work.getPathToAliases().keySet()) {
+      Path inputPath = new Path(path);
+      FileSystem fs = inputPath.getFileSystem(job);
+      if (!fs.exists(inputPath)) {
+        continue;
+      }
+      PartitionDesc part = work.getPathToPartitionInfo().get(path);
+      JobConf conf = new JobConf(job);
+      Utilities.copyTableJobPropertiesToConf(part.getTableDesc(), conf);
+      FileInputFormat.setInputPaths(conf, inputPath);
+      InputFormat<WritableComparable, Writable> inputFormat =
+          (InputFormat<WritableComparable, Writable>) ReflectionUtils.newInstance(
+          part.getInputFileFormatClass(), conf);
+      for (InputSplit split : inputFormat.getSplits(conf, 1)) {
+        splits.add(new SampledSplit(path, conf, inputFormat, split));
+      }
+    }
+    if (splits.isEmpty()) {
+      return false;
+    }
+
+    // Use a constant seed to make the sample deterministic.
+    Collections.shuffle(splits, new Random(12345));
+    int numSplits = Math.min(splits.size(), Math.max(maxSplits, 1));
+    int samplesPerSplit = (numSamples + numSplits - 1) / numSplits;
+
+    ByteArrayOutputStream plan = new ByteArrayOutputStream();
+    Utilities.serializeMapRedWork(work, plan);
+    for (SampledSplit split : splits.subList(0, numSplits)) {
+      // the operators are initialized for one input path, so every split
+      // runs on its own copy of the plan
+      MapredWork copy = Utilities.deserializeMapRedWork(
+          new ByteArrayInputStream(plan.toByteArray()), job);
+      sampleSplit(copy, split, sampled.size() + samplesPerSplit);
+    }
+    LOG.info("Sampled " + sampled.size() + " keys from " + numSplits + " of "
+        + splits.size() + " splits");
+    return !sampled.isEmpty();
+  }
+
+  private void sampleSplit(MapredWork work, SampledSplit split, int limit)
+      throws Exception {
+    JobConf conf = new JobConf(split.conf);
+    String file = split.split instanceof FileSplit
+        ? ((FileSplit) split.split).getPath().toString() : split.path;
+    HiveConf.setVar(conf, HiveConf.ConfVars.HADOOPMAPFILENAME, file);
+
+    ExecMapperContext execContext = new ExecMapperContext();
+    execContext.setJc(conf);
+    MapOperator mo = new MapOperator();
+    mo.setConf(work);
+    mo.setChildren(conf);
+    mo.setExecContext(execContext);
+    mo.initialize(conf, null);
+    mo.setOutputCollector(this);
+
+    RecordReader<WritableComparable, Writable> reader =
+        split.inputFormat.getRecordReader(split.split, conf, Reporter.NULL);
+    try {
+      WritableComparable key = reader.createKey();
+      Writable value = reader.createValue();
+      while (sampled.size() < limit && !mo.getDone() && reader.next(key, value)) {
+        execContext.resetRow();
+        mo.process(value);
+      }
+    } finally {
+      reader.close();
+      mo.close(true);
+    }
+  }
+
+  /**
+   * Write the keys that divide the sample into numPartitions ranges. Returns
+   * false if the sample does not contain two distinct ranges.
+   */
+  public boolean writePartitionKeys(Path file, JobConf job, int numPartitions)
+      throws Exception {
+    byte[][] sorted = sampled.toArray(new byte[sampled.size()][]);
+    Arrays.sort(sorted, KEY_COMPARATOR);
+
+    List<byte[]> splitPoints = new ArrayList<byte[]>();
+    for (int i = 1; i < numPartitions; i++) {
+      byte[] point = sorted[(int) ((long) i * sorted.length / numPartitions)];
+      // equal keys go to the same partition, so a repeated key only leaves
+      // a partition empty
+      if (splitPoints.isEmpty()
+          || KEY_COMPARATOR.compare(splitPoints.get(splitPoints.size() - 1), point) < 0) {
+        splitPoints.add(point);
+      }
+    }
+    if (splitPoints.isEmpty()
+        || KEY_COMPARATOR.compare(sorted[0], splitPoints.get(splitPoints.size() - 1)) == 0) {
+      return false;
+    }
+    HiveTotalOrderPartitioner.writePartitionKeys(file, job, splitPoints);
+    return true;
+  }
+
+  private static class SampledSplit {
+    final String path;
+    final JobConf conf;
+    final InputFormat<WritableComparable, Writable> inputFormat;
+    final InputSplit split;
+
+    SampledSplit(String path, JobConf conf,
+        InputFormat<WritableComparable, Writable> inputFormat, InputSplit split) {
+      this.path = path;
+      this.conf = conf;
+      this.inputFormat = inputFormat;
+      this.split = split;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.plan.FetchWork;
+import org.apache.hadoop.hive.serde2.objectinspector.InspectableObject;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorUtils;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorUtils.ObjectInspectorCopyOption;
+import org.apache.hadoop.mapred.JobConf;
+
+/**
+ * A FetchOperator that reads, deserializes and copies rows on a background
+ * thread, up to a fixed number of rows ahead of the caller. Sorted merge map
+ * joins use it so that reading the small table buckets overlaps with the
+ * join.
+ *
+ * Deserializers and record readers reuse their objects, so rows are handed
+ * over as standard objects, and getOutputObjectInspector() returns the
+ * matching standard object inspector. The fetch context may only be changed
+ * after clearFetchContext(), which stops the thread.
+ */
+public class PrefetchingFetchOperator extends FetchOperator {
+
+  private static final long serialVersionUID = 1L;
+
+  // put in the queue after the last row
+  private static final Object END_OF_ROWS = new Object();
+
+  private int prefetchRows;
+  private transient ObjectInspector standardObjectInspector;
+  private transient BlockingQueue<Object> rows;
+  private transient Thread prefetchThread;
+  private transient volatile boolean stopped;
+  private transient boolean done;
+
+  public PrefetchingFetchOperator() {
+  }
+
+  public PrefetchingFetchOperator(FetchWork work, JobConf job,
+      int prefetchRows) {
+    super(work, job);
+    this.prefetchRows = prefetchRows;
+  }
+
+  @Override
+  public ObjectInspector getOutputObjectInspector() throws HiveException {
+    ObjectInspector oi = super.getOutputObjectInspector();
+    if (oi == null) {
+      return null;
+    }
+    standardObjectInspector = ObjectInspectorUtils.getStandardObjectInspector(
+        oi, ObjectInspectorCopyOption.WRITABLE);
+    return standardObjectInspector;
+  }
+
+  @Override
+  public InspectableObject getNextRow() throws IOException {
+    if (done) {
+      return null;
+    }
+    if (prefetchThread == null) {
+      startPrefetch();
+    }
+    Object row;
+    try {
+      row = rows.take();
+    } catch (InterruptedException e) {
+      throw new IOException(e);
+    }
+    if (row == END_OF_ROWS) {
+      done = true;
+      stopPrefetch();
+      return null;
+    }
+    if (row instanceof Throwable) {
+      done = true;
+      stopPrefetch();
+      if (row instanceof IOException) {
+        throw (IOException) row;
+      }
+      throw new IOException((Throwable) row);
+    }
+    return new InspectableObject(row, standardObjectInspector);
+  }
+
+  @Override
+  public void clearFetchContext() throws HiveException {
+    stopPrefetch();
+    done = false;
+    super.clearFetchContext();
+  }
+
+  /**
+   * Reads the next row on the prefetch thread.
+   */
+  InspectableObject fetchRow() throws IOException {
+    return super.getNextRow();
+  }
+
+  private void startPrefetch() {
+    rows = new ArrayBlockingQueue<Object>(prefetchRows);
+    stopped = false;
+    prefetchThread = new Thread("SMB prefetch") {
+      @Override
+      public void run() {
+        try {
+          InspectableObject row;
+          while ((row = fetchRow()) != null) {
+            if (!put(ObjectInspectorUtils.copyToStandardObject(row.o, row.oi,
+                ObjectInspectorCopyOption.WRITABLE))) {
+              return;
+            }
+          }
+          put(END_OF_ROWS);
+        } catch (Throwable e) {
+          put(e);
+        }
+      }
+    };
+    prefetchThread.setDaemon(true);
+    prefetchThread.start();
+  }
+
+  /**
+   * Waits for room in the queue, returning false if the prefetch was stopped
+   * in the meantime.
+   */
+  private boolean put(Object row) {
+    try {
+      do {
+        if (stopped) {
+          return false;
+        }
+      } while (!rows.offer(row, 100, TimeUnit.MILLISECONDS));
+      return true;
+    } catch (InterruptedException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Stops the prefetch thread and waits for it, so that the record reader is
+   * no longer in use.
+   */
+  private void stopPrefetch() {
+    if (prefetchThread == null) {
+      return;
+    }
+    stopped = true;
+    rows.clear();
+    boolean interrupted = false;
+    while (prefetchThread.isAlive()) {
+      try {
+        prefetchThread.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    prefetchThread = null;
+    rows = null;
+  }
+}
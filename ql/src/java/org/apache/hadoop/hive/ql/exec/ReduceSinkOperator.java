@@ -122,6 +122,19 @@ public class ReduceSinkOperator extends TerminalOperator<ReduceSinkDesc>
           .newInstance();
       valueSerializer.initialize(null, valueTableDesc.getProperties());
 
+      if (conf.getTopN() >= 0 && numDistinctExprs == 0) {
+        topN = new TopNHeap(conf.getTopN(), hconf);
+        LOG.info("Forwarding the first " + conf.getTopN() + " rows only");
+      }
+
+      String skewed = hconf.get(SkewedJoinKeys.SKEWED_KEYS);
+      if (tag >= 0 && skewed != null && skewed.length() > 0) {
+        skewedKeys = SkewedJoinKeys.decode(skewed);
+        numReducers = hconf.getInt("mapred.reduce.tasks", 1);
+        LOG.info("Spreading " + skewedKeys.size()
+            + " skewed join keys over several reducers");
+      }
+
       firstRow = true;
       initializeChildren(hconf);
     } catch (Exception e) {
@@ -146,6 +159,18 @@ public class ReduceSinkOperator extends TerminalOperator<ReduceSinkDesc>
 
   transient Random random;
 
+  /**
+   * The rows with the smallest keys, for ORDER BY ... LIMIT.
+   */
+  transient TopNHeap topN;
+
+  /**
+   * The join keys that are spread over several reducers, or null.
+   */
+  transient SkewedJoinKeys skewedKeys;
+  transient int numReducers;
+  transient int skewedRows;
+
   /**
    * Initializes array of ExprNodeEvaluator. Adds Union field for distinct
    * column indices for group by.
@@ -228,13 +253,6 @@ public class ReduceSinkOperator extends TerminalOperator<ReduceSinkDesc>
         }
       }
 
-      // Evaluate the value
-      for (int i = 0; i < valueEval.length; i++) {
-        cachedValues[i] = valueEval[i].evaluate(row);
-      }
-      // Serialize the value
-      value = valueSerializer.serialize(cachedValues, valueObjectInspector);
-
       // Evaluate the keys
       Object[] distributionKeys = new Object[numDistributionKeys];
       for (int i = 0; i < numDistributionKeys; i++) {
@@ -259,6 +277,7 @@ public class ReduceSinkOperator extends TerminalOperator<ReduceSinkDesc>
         System.arraycopy(distributionKeys, 0, cachedKeys[0], 0, numDistributionKeys);
       }
       // Serialize the keys and append the tag
+      boolean valueSerialized = false;
       for (int i = 0; i < cachedKeys.length; i++) {
         if (keyIsText) {
           Text key = (Text) keySerializer.serialize(cachedKeys[i],
@@ -285,17 +304,27 @@ public class ReduceSinkOperator extends TerminalOperator<ReduceSinkDesc>
           }
         }
         keyWritable.setHashCode(keyHashCode);
-        if (out != null) {
-          out.collect(keyWritable, value);
-          // Since this is a terminal operator, update counters explicitly -
-          // forward is not called
-          if (counterNameToEnum != null) {
-            ++outputRows;
-            if (outputRows % 1000 == 0) {
-              incrCounter(numOutputRowsCntr, outputRows);
-              outputRows = 0;
-            }
+        if (topN != null && !topN.accepts(keyWritable)) {
+          // the reducer will not get to this row
+          continue;
+        }
+
+        if (!valueSerialized) {
+          // Evaluate the value
+          for (int j = 0; j < valueEval.length; j++) {
+            cachedValues[j] = valueEval[j].evaluate(row);
           }
+          // Serialize the value
+          value = valueSerializer.serialize(cachedValues, valueObjectInspector);
+          valueSerialized = true;
+        }
+
+        if (topN != null) {
+          topN.add(keyWritable, value);
+        } else if (skewedKeys != null && skewedKeys.lookup(keyWritable)) {
+          collectSkewed(keyWritable, value);
+        } else {
+          collect(keyWritable, value);
         }
       }
     } catch (SerDeException e) {
@@ -305,6 +334,61 @@ public class ReduceSinkOperator extends TerminalOperator<ReduceSinkDesc>
     }
   }
 
+  private void collect(HiveKey key, Writable value) throws IOException {
+    if (out != null) {
+      out.collect(key, value);
+      // Since this is a terminal operator, update counters explicitly -
+      // forward is not called
+      if (counterNameToEnum != null) {
+        ++outputRows;
+        if (outputRows % 1000 == 0) {
+          incrCounter(numOutputRowsCntr, outputRows);
+          outputRows = 0;
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends a row of a skewed join key to the consecutive reducers starting at
+   * the one the key hashes to: rows of the split input to one of them in
+   * turn, rows of the other inputs to all of them.
+   */
+  private void collectSkewed(HiveKey key, Writable value) throws IOException {
+    int first = (key.hashCode() & Integer.MAX_VALUE) % numReducers;
+    int numSplits = skewedKeys.getNumSplits();
+    if (tag == skewedKeys.getSplitTag()) {
+      skewedRows = (skewedRows + 1) % numSplits;
+      key.setHashCode((first + skewedRows) % numReducers);
+      collect(key, value);
+    } else {
+      for (int i = 0; i < numSplits; i++) {
+        key.setHashCode((first + i) % numReducers);
+        collect(key, value);
+      }
+    }
+  }
+
+  @Override
+  protected void closeOp(boolean abort) throws HiveException {
+    if (!abort && topN != null) {
+      // the rows counted so far have already been reported by close()
+      outputRows = 0;
+      try {
+        for (int i = 0; i < topN.size(); i++) {
+          collect(topN.getKey(i), topN.getValue(i));
+        }
+      } catch (IOException e) {
+        throw new HiveException(e);
+      }
+      if (counterNameToEnum != null) {
+        incrCounter(numOutputRowsCntr, outputRows);
+        outputRows = 0;
+      }
+      topN = null;
+    }
+  }
+
   /**
    * @return the name of the operator
    */
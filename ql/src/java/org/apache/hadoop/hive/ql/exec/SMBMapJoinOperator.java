@@ -19,10 +19,13 @@ package org.apache.hadoop.hive.ql.exec;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,16 +34,25 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.ql.exec.persistence.RowContainer;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
 import org.apache.hadoop.hive.ql.plan.FetchWork;
 import org.apache.hadoop.hive.ql.plan.MapJoinDesc;
 import org.apache.hadoop.hive.ql.plan.MapredLocalWork;
+import org.apache.hadoop.hive.ql.plan.PlanUtils;
 import org.apache.hadoop.hive.ql.plan.SMBJoinDesc;
+import org.apache.hadoop.hive.ql.plan.TableDesc;
 import org.apache.hadoop.hive.ql.plan.MapredLocalWork.BucketMapJoinContext;
 import org.apache.hadoop.hive.ql.plan.api.OperatorType;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
+import org.apache.hadoop.hive.serde2.SerDeException;
+import org.apache.hadoop.hive.serde2.Serializer;
+import org.apache.hadoop.hive.serde2.io.DoubleWritable;
 import org.apache.hadoop.hive.serde2.objectinspector.InspectableObject;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
-import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.FloatWritable;
 import org.apache.hadoop.io.WritableComparator;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.util.ReflectionUtils;
@@ -58,8 +70,8 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
 
   private MapredLocalWork localWork = null;
   private Map<String, FetchOperator> fetchOperators;
-  transient ArrayList<Object>[] keyWritables;
-  transient ArrayList<Object>[] nextKeyWritables;
+  transient JoinKey[] keyWritables;
+  transient JoinKey[] nextKeyWritables;
   RowContainer<ArrayList<Object>>[] nextGroupStorage;
   RowContainer<ArrayList<Object>>[] candidateStorage;
 
@@ -69,6 +81,97 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
   transient boolean firstFetchHappened = false;
   transient boolean localWorkInited = false;
 
+  // serialize the join keys of each alias with BinarySortableSerDe
+  private transient Serializer[] keySerializers;
+  private transient StructObjectInspector[] keyObjectInspectors;
+  // the aliases that have a current key, smallest key first
+  private transient JoinKeyQueue keyQueue;
+
+  /**
+   * A join key in BinarySortableSerDe form, which sorts the same way as the
+   * key objects do, so that keys can be compared as bytes.
+   */
+  static class JoinKey implements Comparable<JoinKey> {
+    final byte[] bytes;
+    // a key with a null or a NaN in it does not join with any key
+    final boolean noMatch;
+
+    JoinKey(byte[] bytes, boolean noMatch) {
+      this.bytes = bytes;
+      this.noMatch = noMatch;
+    }
+
+    @Override
+    public int compareTo(JoinKey other) {
+      return WritableComparator.compareBytes(bytes, 0, bytes.length,
+          other.bytes, 0, other.bytes.length);
+    }
+  }
+
+  /**
+   * The aliases that have a current key, in a heap ordered by key and then by
+   * alias. The keys are kept in the array passed in, indexed by alias.
+   */
+  static class JoinKeyQueue {
+    private final JoinKey[] keys;
+    private final PriorityQueue<Byte> queue;
+
+    JoinKeyQueue(final JoinKey[] keys) {
+      this.keys = keys;
+      queue = new PriorityQueue<Byte>(Math.max(1, keys.length),
+          new Comparator<Byte>() {
+        @Override
+        public int compare(Byte a, Byte b) {
+          int ret = keys[a].compareTo(keys[b]);
+          return ret != 0 ? ret : a - b;
+        }
+      });
+    }
+
+    /**
+     * Changes the current key of an alias; a null key takes the alias off
+     * the queue.
+     */
+    void setKey(byte alias, JoinKey key) {
+      if (keys[alias] != null) {
+        queue.remove(alias);
+      }
+      keys[alias] = key;
+      if (key != null) {
+        queue.add(alias);
+      }
+    }
+
+    /**
+     * @return the alias with the smallest key, or -1 if no alias has a key
+     */
+    int peek() {
+      Byte smallest = queue.peek();
+      return smallest == null ? -1 : smallest;
+    }
+
+    /**
+     * Takes the alias with the smallest key off the queue, together with the
+     * aliases whose keys join with it. Their keys stay in the array.
+     *
+     * @return the aliases taken off, the one with the smallest key first
+     */
+    List<Byte> pollSmallest() {
+      List<Byte> aliases = new ArrayList<Byte>();
+      Byte smallest = queue.poll();
+      if (smallest == null) {
+        return aliases;
+      }
+      aliases.add(smallest);
+      // the keys equal to the smallest one are now at the head of the queue
+      while (!queue.isEmpty()
+          && compareKeys(keys[queue.peek()], keys[smallest]) == 0) {
+        aliases.add(queue.poll());
+      }
+      return aliases;
+    }
+  }
+
   public SMBMapJoinOperator() {
   }
 
@@ -97,10 +200,13 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
 
     nextGroupStorage = new RowContainer[maxAlias];
     candidateStorage = new RowContainer[maxAlias];
-    keyWritables = new ArrayList[maxAlias];
-    nextKeyWritables = new ArrayList[maxAlias];
+    keyWritables = new JoinKey[maxAlias];
+    nextKeyWritables = new JoinKey[maxAlias];
     fetchOpDone = new boolean[maxAlias];
     foundNextKeyGroup = new boolean[maxAlias];
+    keySerializers = new Serializer[maxAlias];
+    keyObjectInspectors = new StructObjectInspector[maxAlias];
+    keyQueue = new JoinKeyQueue(keyWritables);
 
     int bucketSize = HiveConf.getIntVar(hconf,
         HiveConf.ConfVars.HIVEMAPJOINBUCKETCACHESIZE);
@@ -118,6 +224,29 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
     }
     tagToAlias = conf.getTagToAlias();
 
+    for (Byte alias : order) {
+      List<ExprNodeDesc> keyCols = conf.getKeys().get(alias);
+      StringBuilder sortOrder = new StringBuilder();
+      List<String> keyNames = new ArrayList<String>();
+      for (int i = 0; i < keyCols.size(); i++) {
+        sortOrder.append('+');
+        keyNames.add("joinkey" + i);
+      }
+      TableDesc keyTableDesc = PlanUtils.getReduceKeyTableDesc(PlanUtils
+          .getFieldSchemasFromColumnList(keyCols, "joinkey"), sortOrder
+          .toString());
+      try {
+        keySerializers[alias] = (Serializer) keyTableDesc
+            .getDeserializerClass().newInstance();
+        keySerializers[alias].initialize(null, keyTableDesc.getProperties());
+      } catch (Exception e) {
+        throw new HiveException(e);
+      }
+      keyObjectInspectors[alias] = ObjectInspectorFactory
+          .getStandardStructObjectInspector(keyNames,
+          joinKeysStandardObjectInspectors.get(alias));
+    }
+
     for (Byte alias : order) {
       if(alias != (byte) posBigTable) {
         fetchOpDone[alias] = false;
@@ -156,7 +285,11 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
       } else {
         ColumnProjectionUtils.setFullyReadColumns(jobClone);
       }
-      FetchOperator fetchOp = new FetchOperator(entry.getValue(),jobClone);
+      int prefetchRows = HiveConf.getIntVar(hconf,
+          HiveConf.ConfVars.HIVESMBJOINPREFETCHROWS);
+      FetchOperator fetchOp = prefetchRows > 0
+          ? new PrefetchingFetchOperator(entry.getValue(), jobClone, prefetchRows)
+          : new FetchOperator(entry.getValue(), jobClone);
       fetchOpJobConfMap.put(fetchOp, jobClone);
       fetchOperators.put(entry.getKey(), fetchOp);
       l4j.info("fetchoperator for " + entry.getKey() + " created");
@@ -209,10 +342,9 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
 
     byte alias = (byte) tag;
     // compute keys and values as StandardObjects
-
-    // compute keys and values as StandardObjects
-    ArrayList<Object> key = JoinUtil.computeKeys(row, joinKeys.get(alias),
-        joinKeysObjectInspectors.get(alias));
+    JoinKey key = serializeKey(keySerializers[alias],
+        keyObjectInspectors[alias], JoinUtil.computeKeys(row,
+        joinKeys.get(alias), joinKeysObjectInspectors.get(alias)));
     ArrayList<Object> value = JoinUtil.computeValues(row, joinValues.get(alias),
         joinValuesObjectInspectors.get(alias), joinFilters.get(alias),
         joinFilterObjectInspectors.get(alias), noOuterJoin);
@@ -328,31 +460,20 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
   }
 
   private List<Byte> joinObject(int smallestPos) throws HiveException {
-    List<Byte> needFetchList = new ArrayList<Byte>();
-    ArrayList<Object> smallKey = keyWritables[smallestPos];
-    needFetchList.add((byte)smallestPos);
-    this.storage.put((byte) smallestPos, this.candidateStorage[smallestPos]);
+    List<Byte> needFetchList = keyQueue.pollSmallest();
+    assert needFetchList.get(0) == (byte) smallestPos;
+    for (Byte pos : needFetchList) {
+      this.storage.put(pos, this.candidateStorage[pos]);
+    }
     for (Byte i : order) {
-      if ((byte) smallestPos == i) {
-        continue;
-      }
-      ArrayList<Object> key = keyWritables[i];
-      if (key == null) {
+      if (!needFetchList.contains(i)) {
         putDummyOrEmpty(i);
-      } else {
-        int cmp = compareKeys(key, smallKey);
-        if (cmp == 0) {
-          this.storage.put((byte) i, this.candidateStorage[i]);
-          needFetchList.add(i);
-          continue;
-        } else {
-          putDummyOrEmpty(i);
-        }
       }
     }
     checkAndGenObject();
     for (Byte pos : needFetchList) {
       this.candidateStorage[pos].clear();
+      // already taken off the queue above
       this.keyWritables[pos] = null;
     }
     return needFetchList;
@@ -365,7 +486,7 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
       if (this.nextKeyWritables[t] != null) {
         promoteNextGroupToCandidate(t);
       } else {
-        this.keyWritables[t] = null;
+        keyQueue.setKey(t, null);
         this.candidateStorage[t] = null;
         this.nextGroupStorage[t] = null;
       }
@@ -389,7 +510,7 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
   }
 
   private void promoteNextGroupToCandidate(Byte t) throws HiveException {
-    this.keyWritables[t] = this.nextKeyWritables[t];
+    keyQueue.setKey(t, this.nextKeyWritables[t]);
     this.nextKeyWritables[t] = null;
     RowContainer<ArrayList<Object>> oldRowContainer = this.candidateStorage[t];
     oldRowContainer.clear();
@@ -397,29 +518,49 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
     this.nextGroupStorage[t] = oldRowContainer;
   }
 
-  private int compareKeys (ArrayList<Object> k1, ArrayList<Object> k2) {
-    int ret = 0;
-
-   // join keys have difference sizes?
-    ret = k1.size() - k2.size();
-    if (ret != 0) {
-      return ret;
+  /**
+   * Serializes the join key of a row. The key objects are standard writable
+   * copies, so they may be changed: -0.0 becomes 0.0, which sorts right next
+   * to it, so that the two join as they did when keys were compared as
+   * numbers. NaN, like null, joins with nothing.
+   */
+  static JoinKey serializeKey(Serializer serializer,
+      StructObjectInspector keyObjectInspector, ArrayList<Object> key)
+      throws HiveException {
+    boolean noMatch = false;
+    for (Object k : key) {
+      if (k == null) {
+        noMatch = true;
+      } else if (k instanceof DoubleWritable) {
+        DoubleWritable d = (DoubleWritable) k;
+        if (Double.isNaN(d.get())) {
+          noMatch = true;
+        } else if (d.get() == 0.0) {
+          d.set(0.0);
+        }
+      } else if (k instanceof FloatWritable) {
+        FloatWritable f = (FloatWritable) k;
+        if (Float.isNaN(f.get())) {
+          noMatch = true;
+        } else if (f.get() == 0.0f) {
+          f.set(0.0f);
+        }
+      }
     }
+    BytesWritable bytes;
+    try {
+      bytes = (BytesWritable) serializer.serialize(key, keyObjectInspector);
+    } catch (SerDeException e) {
+      throw new HiveException(e);
+    }
+    return new JoinKey(Arrays.copyOf(bytes.getBytes(), bytes.getLength()),
+        noMatch);
+  }
 
-    for (int i = 0; i < k1.size(); i++) {
-      WritableComparable key_1 = (WritableComparable) k1.get(i);
-      WritableComparable key_2 = (WritableComparable) k2.get(i);
-      if (key_1 == null && key_2 == null) {
-        return -1; // just return k1 is smaller than k2
-      } else if (key_1 == null) {
-        return -1;
-      } else if (key_2 == null) {
-        return 1;
-      }
-      ret = WritableComparator.get(key_1.getClass()).compare(key_1, key_2);
-      if(ret != 0) {
-        return ret;
-      }
+  static int compareKeys(JoinKey k1, JoinKey k2) {
+    int ret = k1.compareTo(k2);
+    if (ret == 0 && (k1.noMatch || k2.noMatch)) {
+      return -1; // just return k1 is smaller than k2
     }
     return ret;
   }
@@ -434,35 +575,15 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
   }
 
   private int findSmallestKey() {
-    byte index = -1;
-    ArrayList<Object> smallestOne = null;
-
-    for (byte i : order) {
-      ArrayList<Object> key = keyWritables[i];
-      if (key == null) {
-        continue;
-      }
-      if (smallestOne == null) {
-        smallestOne = key;
-        index = i;
-        continue;
-      }
-      int cmp = compareKeys(key, smallestOne);
-      if (cmp < 0) {
-        smallestOne = key;
-        index = i;
-        continue;
-      }
-    }
-    return index;
+    return keyQueue.peek();
   }
 
-  private boolean processKey(byte alias, ArrayList<Object> key)
+  private boolean processKey(byte alias, JoinKey key)
       throws HiveException {
-    ArrayList<Object> keyWritable = keyWritables[alias];
+    JoinKey keyWritable = keyWritables[alias];
     if (keyWritable == null) {
       //the first group.
-      keyWritables[alias] = key;
+      keyQueue.setKey(alias, key);
       return false;
     } else {
       int cmp = compareKeys(key, keyWritable);
@@ -566,6 +687,8 @@ public class SMBMapJoinOperator extends AbstractMapJoinOperator<SMBJoinDesc> imp
         Operator<? extends Serializable> forwardOp = localWork
             .getAliasToWork().get(entry.getKey());
         forwardOp.close(abort);
+        // stops any prefetching and closes the record reader
+        entry.getValue().clearFetchContext();
       }
     }
   }
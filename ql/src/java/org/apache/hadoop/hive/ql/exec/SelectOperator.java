@@ -51,7 +51,7 @@ public class SelectOperator extends Operator<SelectDesc> implements
     eval = new ExprNodeEvaluator[colList.size()];
     for (int i = 0; i < colList.size(); i++) {
       assert (colList.get(i) != null);
-      eval[i] = ExprNodeEvaluatorFactory.get(colList.get(i));
+      eval[i] = ExprNodeEvaluatorFactory.get(colList.get(i), hconf);
     }
 
     output = new Object[eval.length];
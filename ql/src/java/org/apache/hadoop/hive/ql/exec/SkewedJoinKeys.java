@@ -0,0 +1,230 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.hive.ql.io.HiveKey;
+import org.apache.hadoop.hive.ql.plan.JoinCondDesc;
+import org.apache.hadoop.hive.ql.plan.JoinDesc;
+import org.apache.hadoop.io.BytesWritable;
+
+/**
+ * SkewedJoinKeys holds the join keys that are frequent enough to overload
+ * the reducer they hash to, as found in a sample of the map output of a
+ * join. Each one is spread over several consecutive reducers. The rows of
+ * the key from the input it is most frequent in (the split input) go to
+ * one of these reducers in turn, and the rows of the key from all other
+ * inputs go to all of them, so that every reducer joins its share of the
+ * split input with all matching rows of the others.
+ *
+ * The keys are the reduce sink keys without the trailing tag byte.
+ */
+public class SkewedJoinKeys {
+
+  /** Job configuration property holding the encoded keys. */
+  public static final String SKEWED_KEYS = "hive.skewjoin.adaptive.keys";
+
+  // A key has to be sampled this often to be split, so that rare keys
+  // cannot look frequent in a small sample.
+  private static final int MIN_SAMPLED = 10;
+
+  // key -> {split tag, number of reducers}
+  private final Map<BytesWritable, int[]> keys = new HashMap<BytesWritable, int[]>();
+  private final BytesWritable lookupKey = new BytesWritable();
+  private int[] found;
+
+  /**
+   * Finds the keys to split in a sample of reduce sink keys of a join. A key
+   * is split if it makes up more than an even share of the sample for
+   * numReducers reducers.
+   */
+  public static SkewedJoinKeys find(List<byte[]> sampled, int numReducers,
+      JoinDesc joinDesc) {
+    SkewedJoinKeys result = new SkewedJoinKeys();
+    boolean[] splittable = getSplittableTags(joinDesc);
+    if (splittable == null) {
+      return result;
+    }
+
+    // sampled rows of each key by tag
+    Map<BytesWritable, int[]> counts = new HashMap<BytesWritable, int[]>();
+    for (byte[] key : sampled) {
+      int tag = key[key.length - 1];
+      if (tag < 0 || tag >= splittable.length) {
+        continue;
+      }
+      BytesWritable k = new BytesWritable();
+      k.set(key, 0, key.length - 1);
+      int[] count = counts.get(k);
+      if (count == null) {
+        count = new int[splittable.length];
+        counts.put(k, count);
+      }
+      count[tag]++;
+    }
+
+    for (Map.Entry<BytesWritable, int[]> entry : counts.entrySet()) {
+      int[] count = entry.getValue();
+      int total = 0;
+      int splitTag = 0;
+      for (int tag = 0; tag < count.length; tag++) {
+        total += count[tag];
+        if (count[tag] > count[splitTag]) {
+          splitTag = tag;
+        }
+      }
+      if (total < MIN_SAMPLED || (long) total * numReducers <= sampled.size()
+          || !splittable[splitTag]) {
+        continue;
+      }
+      int numSplits = (int) Math.min(numReducers,
+          ((long) total * numReducers + sampled.size() - 1) / sampled.size());
+      // the rows of the other inputs are sent numSplits times, which must
+      // not cost more than spreading the split input saves
+      long replicated = total - count[splitTag];
+      if (replicated * (numSplits - 1) > count[splitTag]) {
+        continue;
+      }
+      result.keys.put(entry.getKey(), new int[] {splitTag, numSplits});
+    }
+    return result;
+  }
+
+  /**
+   * Returns which inputs of the join may be split, or null if none may. The
+   * other inputs get replicated, which would repeat the unmatched rows of a
+   * preserved input of an outer join, and the rows of the left input of a
+   * left semi join.
+   */
+  private static boolean[] getSplittableTags(JoinDesc joinDesc) {
+    JoinCondDesc[] conds = joinDesc.getConds();
+    boolean[] replicable = new boolean[conds.length + 1];
+    for (int i = 0; i < replicable.length; i++) {
+      replicable[i] = true;
+    }
+    for (JoinCondDesc cond : conds) {
+      switch (cond.getType()) {
+      case JoinDesc.INNER_JOIN:
+        break;
+      case JoinDesc.LEFT_OUTER_JOIN:
+      case JoinDesc.LEFT_SEMI_JOIN:
+        replicable[cond.getLeft()] = false;
+        break;
+      case JoinDesc.RIGHT_OUTER_JOIN:
+        replicable[cond.getRight()] = false;
+        break;
+      case JoinDesc.FULL_OUTER_JOIN:
+        replicable[cond.getLeft()] = false;
+        replicable[cond.getRight()] = false;
+        break;
+      default:
+        return null;
+      }
+    }
+    // an input can be split if all the others can be replicated
+    boolean[] splittable = new boolean[replicable.length];
+    boolean any = false;
+    for (int tag = 0; tag < splittable.length; tag++) {
+      splittable[tag] = true;
+      for (int other = 0; other < replicable.length; other++) {
+        if (other != tag && !replicable[other]) {
+          splittable[tag] = false;
+        }
+      }
+      any = any || splittable[tag];
+    }
+    return any ? splittable : null;
+  }
+
+  public boolean isEmpty() {
+    return keys.isEmpty();
+  }
+
+  public int size() {
+    return keys.size();
+  }
+
+  /**
+   * Encodes the keys as "tag:reducers:hex key" entries separated by commas.
+   */
+  public String encode() {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<BytesWritable, int[]> entry : keys.entrySet()) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(entry.getValue()[0]).append(':').append(entry.getValue()[1])
+          .append(':');
+      BytesWritable key = entry.getKey();
+      for (int i = 0; i < key.getLength(); i++) {
+        int b = key.getBytes()[i] & 0xff;
+        sb.append(Character.forDigit(b >> 4, 16)).append(
+            Character.forDigit(b & 0xf, 16));
+      }
+    }
+    return sb.toString();
+  }
+
+  public static SkewedJoinKeys decode(String encoded) {
+    SkewedJoinKeys result = new SkewedJoinKeys();
+    if (encoded == null || encoded.length() == 0) {
+      return result;
+    }
+    for (String entry : encoded.split(",")) {
+      String[] parts = entry.split(":", 3);
+      byte[] key = new byte[parts[2].length() / 2];
+      for (int i = 0; i < key.length; i++) {
+        key[i] = (byte) Integer.parseInt(parts[2].substring(2 * i, 2 * i + 2),
+            16);
+      }
+      result.keys.put(new BytesWritable(key), new int[] {
+          Integer.parseInt(parts[0]), Integer.parseInt(parts[1])});
+    }
+    return result;
+  }
+
+  /**
+   * Looks up the key of a reduce sink row, which ends with its tag. Returns
+   * true if it is split, and makes getSplitTag() and getNumSplits() describe
+   * it.
+   */
+  public boolean lookup(HiveKey key) {
+    lookupKey.set(key.getBytes(), 0, key.getLength() - 1);
+    found = keys.get(lookupKey);
+    return found != null;
+  }
+
+  /**
+   * Returns the tag of the input whose rows of the last key looked up are
+   * spread over the reducers.
+   */
+  public int getSplitTag() {
+    return found[0];
+  }
+
+  /**
+   * Returns the number of reducers for the last key looked up.
+   */
+  public int getNumSplits() {
+    return found[1];
+  }
+}
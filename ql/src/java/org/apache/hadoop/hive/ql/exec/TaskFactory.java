@@ -95,6 +95,14 @@ public final class TaskFactory {
     tid.set(new Integer(0));
   }
 
+  /**
+   * Continue numbering tasks from id, e.g. after compiling a nested query
+   * which restarted the numbering.
+   */
+  public static void setId(int id) {
+    tid.set(new Integer(id));
+  }
+
   @SuppressWarnings("unchecked")
   public static <T extends Serializable> Task<T> get(Class<T> workClass,
       HiveConf conf) {
@@ -0,0 +1,173 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.ql.io.HiveKey;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.util.ReflectionUtils;
+
+/**
+ * TopNHeap keeps the rows with the N smallest keys that a map-side
+ * ReduceSinkOperator sees for an ORDER BY ... LIMIT N query. Keys are
+ * compared byte by byte like {@link HiveKey.Comparator}, so these are the
+ * only rows of the mapper the reducer could return.
+ *
+ * The rows are kept in a binary max-heap, so a row that does not make it
+ * into the first N is rejected with one comparison.
+ */
+class TopNHeap {
+
+  private final int limit;
+  private final HiveKey[] keys;
+  private final Writable[] values;
+  private final Configuration conf;
+  private int size;
+
+  private final DataOutputBuffer buffer = new DataOutputBuffer();
+  private final DataInputBuffer inBuffer = new DataInputBuffer();
+
+  TopNHeap(int limit, Configuration conf) {
+    this.limit = limit;
+    this.conf = conf;
+    keys = new HiveKey[limit];
+    values = new Writable[limit];
+  }
+
+  /**
+   * Returns true if a row with this key belongs to the first N rows seen so
+   * far. Of rows with equal keys, the earlier ones are kept.
+   */
+  boolean accepts(HiveKey key) {
+    return size < limit || (size > 0 && compare(key, keys[0]) < 0);
+  }
+
+  /**
+   * Add a row that was accepted, replacing the row with the largest key once
+   * N rows are kept. The key and value are copied.
+   */
+  void add(HiveKey key, Writable value) {
+    if (size < limit) {
+      keys[size] = copyKey(key, null);
+      values[size] = copyValue(value, null);
+      siftUp(size++);
+    } else {
+      keys[0] = copyKey(key, keys[0]);
+      values[0] = copyValue(value, values[0]);
+      siftDown(0);
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  HiveKey getKey(int i) {
+    return keys[i];
+  }
+
+  Writable getValue(int i) {
+    return values[i];
+  }
+
+  private static int compare(HiveKey k1, HiveKey k2) {
+    return WritableComparator.compareBytes(k1.getBytes(), 0, k1.getLength(),
+        k2.getBytes(), 0, k2.getLength());
+  }
+
+  private void siftUp(int i) {
+    while (i > 0) {
+      int parent = (i - 1) >>> 1;
+      if (compare(keys[i], keys[parent]) <= 0) {
+        break;
+      }
+      swap(i, parent);
+      i = parent;
+    }
+  }
+
+  private void siftDown(int i) {
+    while (true) {
+      int largest = i;
+      int left = 2 * i + 1;
+      int right = left + 1;
+      if (left < size && compare(keys[left], keys[largest]) > 0) {
+        largest = left;
+      }
+      if (right < size && compare(keys[right], keys[largest]) > 0) {
+        largest = right;
+      }
+      if (largest == i) {
+        return;
+      }
+      swap(i, largest);
+      i = largest;
+    }
+  }
+
+  private void swap(int i, int j) {
+    HiveKey key = keys[i];
+    keys[i] = keys[j];
+    keys[j] = key;
+    Writable value = values[i];
+    values[i] = values[j];
+    values[j] = value;
+  }
+
+  private static HiveKey copyKey(HiveKey key, HiveKey target) {
+    if (target == null) {
+      target = new HiveKey();
+    }
+    target.set(key.getBytes(), 0, key.getLength());
+    target.setHashCode(key.hashCode());
+    return target;
+  }
+
+  private Writable copyValue(Writable value, Writable target) {
+    if (value instanceof BytesWritable) {
+      BytesWritable bytes = (BytesWritable) value;
+      BytesWritable copy = target == null ? new BytesWritable() : (BytesWritable) target;
+      copy.set(bytes.getBytes(), 0, bytes.getLength());
+      return copy;
+    }
+    if (value instanceof Text) {
+      Text copy = target == null ? new Text() : (Text) target;
+      copy.set((Text) value);
+      return copy;
+    }
+    try {
+      buffer.reset();
+      value.write(buffer);
+      inBuffer.reset(buffer.getData(), buffer.getLength());
+      Writable copy = target == null
+          ? (Writable) ReflectionUtils.newInstance(value.getClass(), conf) : target;
+      copy.readFields(inBuffer);
+      return copy;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -18,10 +18,17 @@
 
 package org.apache.hadoop.hive.ql.index;
 
+import java.io.Serializable;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.ql.exec.Task;
+import org.apache.hadoop.hive.ql.hooks.ReadEntity;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
 import org.apache.hadoop.hive.ql.metadata.HiveUtils;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
 
 /**
  * Abstract base class for index handlers.  This is provided as insulation
@@ -42,4 +49,16 @@ public abstract class AbstractIndexHandler implements HiveIndexHandler {
     return sb.toString();
   }
 
+  /**
+   * By default, indexes are not used to answer queries.
+   */
+  public List<Task<? extends Serializable>> generateIndexQuery(
+      org.apache.hadoop.hive.metastore.api.Index index,
+      ExprNodeDesc predicate,
+      org.apache.hadoop.hive.ql.metadata.Table baseTbl,
+      MapredWork work, String indexFile, Set<ReadEntity> inputs)
+      throws HiveException {
+    return null;
+  }
+
 }
@@ -18,6 +18,7 @@
 
 package org.apache.hadoop.hive.ql.index;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 
@@ -28,6 +29,8 @@ import org.apache.hadoop.hive.ql.hooks.WriteEntity;
 import org.apache.hadoop.hive.ql.metadata.Hive;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
 import org.apache.hadoop.hive.ql.metadata.Partition;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
 
 /**
  * HiveIndexHandler defines a pluggable interface for adding new index handlers
@@ -114,4 +117,41 @@ public interface HiveIndexHandler extends Configurable {
       Set<ReadEntity> inputs, Set<WriteEntity> outputs)
       throws HiveException;
 
+  /**
+   * Requests that the handler generate a plan for querying the index on
+   * behalf of a map-reduce job scanning the base table; the plan should find
+   * the parts of the input which may contain rows satisfying the predicate,
+   * and the handler should change the job so that it only reads those.
+   *
+   * @param index
+   *          the definition of the index
+   *
+   * @param predicate
+   *          the filter applied to the rows of the base table
+   *
+   * @param baseTbl
+   *          the definition of the table being indexed
+   *
+   * @param work
+   *          the map-reduce job scanning the base table, to be modified if
+   *          the index is used
+   *
+   * @param indexFile
+   *          scratch location available for the result of the index query
+   *
+   * @param inputs
+   *          inputs for hooks, supplemental outputs going
+   *          along with the return value
+   *
+   * @return the root tasks of the index query, or null if the index cannot
+   *         be used for the predicate
+   *
+   * @throw HiveException if plan generation fails
+   */
+  List<Task<? extends Serializable>> generateIndexQuery(
+      org.apache.hadoop.hive.metastore.api.Index index,
+      ExprNodeDesc predicate,
+      org.apache.hadoop.hive.ql.metadata.Table baseTbl,
+      MapredWork work, String indexFile, Set<ReadEntity> inputs)
+      throws HiveException;
 }
\ No newline at end of file
@@ -0,0 +1,400 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.index;
+
+import static org.apache.commons.lang.StringUtils.join;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Map.Entry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.Index;
+import org.apache.hadoop.hive.ql.Driver;
+import org.apache.hadoop.hive.ql.exec.Task;
+import org.apache.hadoop.hive.ql.exec.TaskFactory;
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.hooks.ReadEntity;
+import org.apache.hadoop.hive.ql.hooks.WriteEntity;
+import org.apache.hadoop.hive.ql.index.compact.HiveCompactIndexInputFormat;
+import org.apache.hadoop.hive.ql.index.compact.IndexMetadataChangeTask;
+import org.apache.hadoop.hive.ql.index.compact.IndexMetadataChangeWork;
+import org.apache.hadoop.hive.ql.metadata.Hive;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.metadata.HiveUtils;
+import org.apache.hadoop.hive.ql.metadata.Partition;
+import org.apache.hadoop.hive.ql.metadata.Table;
+import org.apache.hadoop.hive.ql.parse.SemanticException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
+import org.apache.hadoop.hive.ql.plan.PartitionDesc;
+import org.apache.hadoop.hive.ql.plan.TableDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
+
+/**
+ * Base class of the index handlers which store the index in an index table.
+ * The index is built by a query on the base table for the whole table or for
+ * each partition, and is used by a query on the index table writing the
+ * buckets and offsets read by {@link HiveCompactIndexInputFormat}.
+ */
+public abstract class TableBasedIndexHandler extends AbstractIndexHandler {
+
+  private static final Log LOG = LogFactory.getLog(TableBasedIndexHandler.class
+      .getName());
+
+  // comparisons which can be answered by the index, by generic UDF class
+  protected static final Map<String, String> COMPARISON_OPS =
+    new LinkedHashMap<String, String>();
+  // the same comparisons with their operands swapped
+  private static final Map<String, String> SWAPPED_OPS =
+    new HashMap<String, String>();
+  static {
+    COMPARISON_OPS.put(GenericUDFOPEqual.class.getName(), "=");
+    COMPARISON_OPS.put(GenericUDFOPLessThan.class.getName(), "<");
+    COMPARISON_OPS.put(GenericUDFOPEqualOrLessThan.class.getName(), "<=");
+    COMPARISON_OPS.put(GenericUDFOPGreaterThan.class.getName(), ">");
+    COMPARISON_OPS.put(GenericUDFOPEqualOrGreaterThan.class.getName(), ">=");
+    SWAPPED_OPS.put("=", "=");
+    SWAPPED_OPS.put("<", ">");
+    SWAPPED_OPS.put("<=", ">=");
+    SWAPPED_OPS.put(">", "<");
+    SWAPPED_OPS.put(">=", "<=");
+  }
+
+  private Configuration configuration;
+
+  @Override
+  public List<Task<?>> generateIndexBuildTaskList(Table baseTbl, Index index,
+      List<Partition> indexTblPartitions, List<Partition> baseTblPartitions,
+      Table indexTbl, Set<ReadEntity> inputs, Set<WriteEntity> outputs)
+      throws HiveException {
+    try {
+
+      TableDesc desc = Utilities.getTableDesc(indexTbl);
+
+      List<Task<?>> indexBuilderTasks = new ArrayList<Task<?>>();
+
+      if (!baseTbl.isPartitioned()) {
+        // the table does not have any partition, then create index for the
+        // whole table
+        Task<?> indexBuilder = getIndexBuilderMapRedTask(inputs, outputs, index.getSd().getCols(), false,
+            new PartitionDesc(desc, null), indexTbl.getTableName(),
+            new PartitionDesc(Utilities.getTableDesc(baseTbl), null),
+            baseTbl.getTableName(), indexTbl.getDbName());
+        indexBuilderTasks.add(indexBuilder);
+      } else {
+
+        // check whether the index table partitions are still exists in base
+        // table
+        for (int i = 0; i < indexTblPartitions.size(); i++) {
+          Partition indexPart = indexTblPartitions.get(i);
+          Partition basePart = null;
+          for (int j = 0; j < baseTblPartitions.size(); j++) {
+            if (baseTblPartitions.get(j).getName().equals(indexPart.getName())) {
+              basePart = baseTblPartitions.get(j);
+              break;
+            }
+          }
+          if (basePart == null)
+            throw new RuntimeException(
+                "Partitions of base table and index table are inconsistent.");
+          // for each partition, spawn a map reduce task.
+          Task<?> indexBuilder = getIndexBuilderMapRedTask(inputs, outputs, index.getSd().getCols(), true,
+              new PartitionDesc(indexPart), indexTbl.getTableName(),
+              new PartitionDesc(basePart), baseTbl.getTableName(), indexTbl.getDbName());
+          indexBuilderTasks.add(indexBuilder);
+        }
+      }
+      return indexBuilderTasks;
+    } catch (Exception e) {
+      throw new SemanticException(e);
+    }
+  }
+
+  /**
+   * @return the task building the index for the whole base table, or for one
+   *         of its partitions
+   */
+  protected abstract Task<?> getIndexBuilderMapRedTask(Set<ReadEntity> inputs,
+      Set<WriteEntity> outputs, List<FieldSchema> indexField,
+      boolean partitioned, PartitionDesc indexTblPartDesc,
+      String indexTableName, PartitionDesc baseTablePartDesc,
+      String baseTableName, String dbName) throws HiveException;
+
+  /**
+   * Compiles the query building the index, and records when the index was
+   * built once the query is done.
+   */
+  protected Task<?> compileIndexBuilder(String command,
+      Set<ReadEntity> inputs, Set<WriteEntity> outputs,
+      LinkedHashMap<String, String> partSpec, String indexTableName,
+      String dbName) {
+    Driver driver = new Driver(new HiveConf(getConf(), getClass()));
+    driver.compile(command);
+
+    Task<?> rootTask = driver.getPlan().getRootTasks().get(0);
+    inputs.addAll(driver.getPlan().getInputs());
+    outputs.addAll(driver.getPlan().getOutputs());
+
+    IndexMetadataChangeWork indexMetaChange = new IndexMetadataChangeWork(partSpec, indexTableName, dbName);
+    IndexMetadataChangeTask indexMetaChangeTsk = new IndexMetadataChangeTask();
+    indexMetaChangeTsk.setWork(indexMetaChange);
+    rootTask.addDependentTask(indexMetaChangeTsk);
+
+    return rootTask;
+  }
+
+  /**
+   * @return the "PARTITION (...)" clause of the insert into the index table,
+   *         or an empty string
+   */
+  protected String getPartitionClause(boolean partitioned,
+      PartitionDesc indexTblPartDesc) {
+    if (!partitioned || indexTblPartDesc == null) {
+      return "";
+    }
+    return " PARTITION ( "
+        + join(getPartKVPairStringArray(indexTblPartDesc.getPartSpec()), ",")
+        + " ) ";
+  }
+
+  /**
+   * @return the " WHERE ..." clause selecting a partition of the base table,
+   *         or an empty string
+   */
+  protected String getBasePartitionFilter(PartitionDesc baseTablePartDesc) {
+    LinkedHashMap<String, String> basePartSpec = baseTablePartDesc.getPartSpec();
+    if (basePartSpec == null) {
+      return "";
+    }
+    return " WHERE " + join(getPartKVPairStringArray(basePartSpec), " AND ");
+  }
+
+  /**
+   * @return the conditions selecting, in the index table, the partitions read
+   *         by the job, an empty list if the base table is not partitioned,
+   *         or null if the index is not up to date for some of them
+   */
+  protected List<String> getPartitionConditions(Index index, Table indexTbl,
+      MapredWork work) throws HiveException {
+    Hive db = Hive.get();
+    // the index must have been built after the last change of every
+    // partition read by the job
+    List<String> partConditions = new ArrayList<String>();
+    for (Entry<String, PartitionDesc> entry : work.getPathToPartitionInfo()
+        .entrySet()) {
+      LinkedHashMap<String, String> partSpec = entry.getValue().getPartSpec();
+      Map<String, String> indexParams;
+      if (partSpec == null || partSpec.isEmpty()) {
+        indexParams = indexTbl.getParameters();
+      } else {
+        Partition indexPart = db.getPartition(indexTbl, partSpec, false);
+        if (indexPart == null) {
+          return null;
+        }
+        indexParams = indexPart.getParameters();
+        partConditions.add("(" + join(getPartKVPairStringArray(partSpec), " AND ")
+            + ")");
+      }
+      if (!isIndexUpToDate(indexParams, new Path(entry.getKey()))) {
+        LOG.info("Index " + index.getIndexName() + " is older than "
+            + entry.getKey() + ", not using it");
+        return null;
+      }
+    }
+    return partConditions;
+  }
+
+  /**
+   * @return the table of an index, or null if the index cannot be used by a
+   *         query of the current database
+   */
+  protected Table getIndexTable(Index index) throws HiveException {
+    Hive db = Hive.get();
+    // the index query refers to the index table without its database
+    if (!index.getDbName().equals(db.getCurrentDatabase())) {
+      return null;
+    }
+    return db.getTable(index.getDbName(), index.getIndexTableName());
+  }
+
+  /**
+   * Compiles the query writing the result of the index to indexFile, and
+   * makes work read only what it selects.
+   *
+   * @return the root tasks of the query, or null if it does not compile
+   */
+  protected List<Task<? extends Serializable>> compileIndexQuery(
+      String command, Index index, MapredWork work, String indexFile,
+      Set<ReadEntity> inputs) {
+    LOG.info("Using index " + index.getIndexName() + ": " + command);
+
+    HiveConf queryConf = new HiveConf(getConf(), getClass());
+    // a single map-reduce job writing the result followed by a move, and no
+    // index use for the index table itself
+    HiveConf.setBoolVar(queryConf, HiveConf.ConfVars.HIVEMERGEMAPFILES, false);
+    HiveConf.setBoolVar(queryConf, HiveConf.ConfVars.HIVEMERGEMAPREDFILES, false);
+    HiveConf.setBoolVar(queryConf, HiveConf.ConfVars.HIVEOPTINDEXFILTER, false);
+    // the tasks run as part of the outer query, so their scratch directories
+    // go below the outer query's one, which is removed when it finishes
+    HiveConf.setVar(queryConf, HiveConf.ConfVars.SCRATCHDIR,
+        new Path(indexFile).getParent().toString());
+
+    // the nested compilation restarts the numbering of the tasks
+    int nextId = TaskFactory.getAndIncrementId();
+    Driver driver = new Driver(queryConf);
+    List<Task<? extends Serializable>> rootTasks;
+    try {
+      int ret = driver.compile(command);
+      TaskFactory.setId(nextId);
+      if (ret != 0) {
+        LOG.warn("Unable to compile the query of index " + index.getIndexName());
+        return null;
+      }
+      rootTasks = driver.getPlan().getRootTasks();
+      renumberTasks(rootTasks, new HashSet<Task<? extends Serializable>>());
+      inputs.addAll(driver.getPlan().getInputs());
+    } finally {
+      driver.close();
+    }
+
+    work.setInputformat(HiveCompactIndexInputFormat.class.getName());
+    work.setIndexIntermediateFile(indexFile);
+    return rootTasks;
+  }
+
+  private void renumberTasks(List<Task<? extends Serializable>> tasks,
+      Set<Task<? extends Serializable>> seen) {
+    if (tasks == null) {
+      return;
+    }
+    for (Task<? extends Serializable> task : tasks) {
+      if (seen.add(task)) {
+        task.setId("Stage-" + TaskFactory.getAndIncrementId());
+        renumberTasks(task.getDependentTasks(), seen);
+      }
+    }
+  }
+
+  /**
+   * @return a search condition in the syntax of the index query, or null if
+   *         its constant has no simple representation
+   */
+  protected static String getConditionString(IndexSearchCondition condition) {
+    String constant = getLiteral(condition.getConstantDesc());
+    if (constant == null) {
+      return null;
+    }
+    String op = COMPARISON_OPS.get(condition.getComparisonOp());
+    List<ExprNodeDesc> children = condition.getComparisonExpr().getChildren();
+    if (children != null && children.get(0) instanceof ExprNodeConstantDesc) {
+      // CONSTANT <op> COL
+      op = SWAPPED_OPS.get(op);
+    }
+    return HiveUtils.unparseIdentifier(condition.getColumnDesc().getColumn())
+        + " " + op + " " + constant;
+  }
+
+  /**
+   * @return the literal of a constant in the index query, or null if it has
+   *         no simple representation
+   */
+  private static String getLiteral(ExprNodeConstantDesc constant) {
+    Object value = constant.getValue();
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof String) {
+      return "\"" + HiveUtils.escapeString((String) value) + "\"";
+    }
+    if (value instanceof Number || value instanceof Boolean) {
+      return value.toString();
+    }
+    return null;
+  }
+
+  private boolean isIndexUpToDate(Map<String, String> indexParams, Path basePath) {
+    String built = indexParams == null ? null
+        : indexParams.get(HiveIndex.INDEX_TABLE_CREATETIME);
+    if (built == null) {
+      // the index was never built
+      return false;
+    }
+    try {
+      FileSystem fs = basePath.getFileSystem(getConf());
+      return fs.getFileStatus(basePath).getModificationTime()
+          <= Long.parseLong(built);
+    } catch (IOException e) {
+      LOG.warn("Unable to check " + basePath + ": " + e);
+      return false;
+    }
+  }
+
+  protected List<String> getPartKVPairStringArray(
+      LinkedHashMap<String, String> partSpec) {
+    List<String> ret = new ArrayList<String>(partSpec.size());
+    Iterator<Entry<String, String>> iter = partSpec.entrySet().iterator();
+    while (iter.hasNext()) {
+      StringBuilder sb = new StringBuilder();
+      Entry<String, String> p = iter.next();
+      sb.append(HiveUtils.unparseIdentifier(p.getKey()));
+      sb.append(" = ");
+      sb.append("'");
+      sb.append(p.getValue());
+      sb.append("'");
+      ret.add(sb.toString());
+    }
+    return ret;
+  }
+
+  @Override
+  public boolean usesIndexTable() {
+    return true;
+  }
+
+  @Override
+  public Configuration getConf() {
+    return configuration;
+  }
+
+  @Override
+  public void setConf(Configuration conf) {
+    this.configuration = conf;
+  }
+
+}
@@ -0,0 +1,297 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.index.bitmap;
+
+import static org.apache.commons.lang.StringUtils.join;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.Index;
+import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
+import org.apache.hadoop.hive.ql.exec.Task;
+import org.apache.hadoop.hive.ql.hooks.ReadEntity;
+import org.apache.hadoop.hive.ql.hooks.WriteEntity;
+import org.apache.hadoop.hive.ql.index.IndexPredicateAnalyzer;
+import org.apache.hadoop.hive.ql.index.IndexSearchCondition;
+import org.apache.hadoop.hive.ql.index.TableBasedIndexHandler;
+import org.apache.hadoop.hive.ql.metadata.Hive;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.metadata.HiveUtils;
+import org.apache.hadoop.hive.ql.metadata.VirtualColumn;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
+import org.apache.hadoop.hive.ql.plan.PartitionDesc;
+
+/**
+ * Index handler for bitmap indexes. For each distinct value of the indexed
+ * columns in each block of the base table, the index table stores the file,
+ * the offset of the block, and a compressed bitmap of the positions of the
+ * rows with that value inside the block (see {@link EWAHBitmap}).
+ *
+ * The bitmaps of several bitmap indexes of a table are combined according to
+ * the AND and OR of the predicate, so that only the blocks where some row
+ * satisfies the whole predicate are read. Blocks are the blocks of RCFiles
+ * and block-compressed sequence files; other files have one row per block.
+ */
+public class BitmapIndexHandler extends TableBasedIndexHandler {
+
+  @Override
+  public void analyzeIndexDefinition(Table baseTable, Index index,
+      Table indexTable) throws HiveException {
+    StorageDescriptor storageDesc = index.getSd();
+    if (this.usesIndexTable() && indexTable != null) {
+      StorageDescriptor indexTableSd = storageDesc.deepCopy();
+      List<FieldSchema> indexTblCols = indexTableSd.getCols();
+      indexTblCols.add(new FieldSchema("_bucketname", "string", ""));
+      indexTblCols.add(new FieldSchema("_offset", "bigint", ""));
+      indexTblCols.add(new FieldSchema("_bitmaps", "array<bigint>", ""));
+      indexTable.setSd(indexTableSd);
+    }
+  }
+
+  @Override
+  protected Task<?> getIndexBuilderMapRedTask(Set<ReadEntity> inputs,
+      Set<WriteEntity> outputs, List<FieldSchema> indexField,
+      boolean partitioned, PartitionDesc indexTblPartDesc,
+      String indexTableName, PartitionDesc baseTablePartDesc,
+      String baseTableName, String dbName) {
+
+    String indexCols = HiveUtils.getUnparsedColumnNamesFromFieldSchema(indexField);
+
+    StringBuilder command = new StringBuilder();
+    command.append("INSERT OVERWRITE TABLE " + HiveUtils.unparseIdentifier(indexTableName));
+    command.append(getPartitionClause(partitioned, indexTblPartDesc));
+    command.append(" SELECT ");
+    command.append(indexCols);
+    command.append(", ");
+    command.append(VirtualColumn.FILENAME.getName());
+    command.append(", ");
+    command.append(VirtualColumn.BLOCKOFFSET.getName());
+    command.append(", ewah_bitmap(");
+    command.append(VirtualColumn.ROWOFFSET.getName());
+    command.append(")");
+    command.append(" FROM " + HiveUtils.unparseIdentifier(baseTableName));
+    command.append(getBasePartitionFilter(baseTablePartDesc));
+    command.append(" GROUP BY ");
+    command.append(VirtualColumn.FILENAME.getName());
+    command.append(", ");
+    command.append(VirtualColumn.BLOCKOFFSET.getName());
+    command.append(", ");
+    command.append(indexCols);
+
+    return compileIndexBuilder(command.toString(), inputs, outputs,
+        indexTblPartDesc.getPartSpec(), indexTableName, dbName);
+  }
+
+  @Override
+  public List<Task<? extends Serializable>> generateIndexQuery(Index index,
+      ExprNodeDesc predicate, org.apache.hadoop.hive.ql.metadata.Table baseTbl,
+      MapredWork work, String indexFile, Set<ReadEntity> inputs)
+      throws HiveException {
+    // the bitmap indexes of the table, starting with this one
+    List<Index> indexes = new ArrayList<Index>();
+    indexes.add(index);
+    for (Index other : Hive.get().getIndexes(baseTbl.getDbName(),
+        baseTbl.getTableName(), (short) -1)) {
+      if (getClass().getName().equals(other.getIndexHandlerClass())
+          && !other.getIndexName().equals(index.getIndexName())) {
+        indexes.add(other);
+      }
+    }
+
+    IndexQueryBuilder builder = new IndexQueryBuilder(indexes, work);
+    String bitmapQuery = builder.build(predicate);
+    if (bitmapQuery == null) {
+      return null;
+    }
+
+    StringBuilder command = new StringBuilder();
+    command.append("INSERT OVERWRITE DIRECTORY \"");
+    command.append(HiveUtils.escapeString(indexFile));
+    command.append("\" SELECT r.bucketname, collect_set(r.blockoffset) FROM (");
+    command.append(bitmapQuery);
+    command.append(") r WHERE NOT ewah_bitmap_empty(r.bitmaps)");
+    command.append(" GROUP BY r.bucketname");
+    return compileIndexQuery(command.toString(), index, work, indexFile,
+        inputs);
+  }
+
+  /**
+   * The index table and the conditions on its partitions, for an index which
+   * can be used by the query.
+   */
+  private static class UsableIndex {
+    org.apache.hadoop.hive.ql.metadata.Table indexTbl;
+    List<String> partConditions;
+  }
+
+  /**
+   * Builds a query returning (bucketname, blockoffset, bitmaps) rows for a
+   * predicate, such that the union of the bitmaps of a block are the rows of
+   * the block which may satisfy the predicate. A comparison on an indexed
+   * column selects rows of its index table, an AND joins the rows of its
+   * operands on the block and intersects their bitmaps, and an OR is the
+   * union of the rows of its operands.
+   */
+  private class IndexQueryBuilder {
+    private final List<Index> indexes;
+    private final MapredWork work;
+    private final Map<String, UsableIndex> usableIndexes =
+      new HashMap<String, UsableIndex>();
+    private final IndexPredicateAnalyzer analyzer = new IndexPredicateAnalyzer();
+    private int aliases = 0;
+
+    IndexQueryBuilder(List<Index> indexes, MapredWork work) {
+      this.indexes = indexes;
+      this.work = work;
+      for (String op : COMPARISON_OPS.keySet()) {
+        analyzer.addComparisonOp(op);
+      }
+      for (Index index : indexes) {
+        for (FieldSchema col : index.getSd().getCols()) {
+          analyzer.allowColumnName(col.getName());
+        }
+      }
+    }
+
+    /**
+     * @return the query for expr, or null if the indexes cannot restrict the
+     *         rows satisfying it
+     */
+    String build(ExprNodeDesc expr) throws HiveException {
+      if (FunctionRegistry.isOpAnd(expr)) {
+        String query = null;
+        for (ExprNodeDesc child : expr.getChildren()) {
+          String childQuery = build(child);
+          if (childQuery == null) {
+            // the other operands are still selective
+            continue;
+          }
+          query = query == null ? childQuery : and(query, childQuery);
+        }
+        return query;
+      }
+      if (FunctionRegistry.isOpOr(expr)) {
+        String query = null;
+        for (ExprNodeDesc child : expr.getChildren()) {
+          String childQuery = build(child);
+          if (childQuery == null) {
+            return null;
+          }
+          query = query == null ? childQuery : or(query, childQuery);
+        }
+        return query;
+      }
+      return comparison(expr);
+    }
+
+    private String comparison(ExprNodeDesc expr) throws HiveException {
+      List<IndexSearchCondition> searchConditions =
+        new ArrayList<IndexSearchCondition>();
+      ExprNodeDesc residual = analyzer.analyzePredicate(expr, searchConditions);
+      if (residual != null || searchConditions.size() != 1) {
+        return null;
+      }
+      IndexSearchCondition condition = searchConditions.get(0);
+      String conditionString = getConditionString(condition);
+      if (conditionString == null) {
+        return null;
+      }
+      UsableIndex usable = getUsableIndex(condition.getColumnDesc().getColumn());
+      if (usable == null) {
+        return null;
+      }
+      StringBuilder query = new StringBuilder();
+      query.append("SELECT `_bucketname` AS bucketname, `_offset` AS blockoffset,");
+      query.append(" `_bitmaps` AS bitmaps FROM ");
+      query.append(HiveUtils.unparseIdentifier(usable.indexTbl.getTableName()));
+      query.append(" WHERE ");
+      query.append(conditionString);
+      if (!usable.partConditions.isEmpty()) {
+        query.append(" AND (");
+        query.append(join(usable.partConditions, " OR "));
+        query.append(")");
+      }
+      return query.toString();
+    }
+
+    private String and(String left, String right) {
+      String l = nextAlias();
+      String r = nextAlias();
+      return "SELECT " + l + ".bucketname AS bucketname, " + l
+          + ".blockoffset AS blockoffset, ewah_bitmap_and(" + l + ".bitmaps, "
+          + r + ".bitmaps) AS bitmaps FROM (" + left + ") " + l + " JOIN ("
+          + right + ") " + r + " ON (" + l + ".bucketname = " + r
+          + ".bucketname AND " + l + ".blockoffset = " + r + ".blockoffset)";
+    }
+
+    private String or(String left, String right) {
+      String u = nextAlias();
+      return "SELECT " + u + ".bucketname AS bucketname, " + u
+          + ".blockoffset AS blockoffset, " + u + ".bitmaps AS bitmaps FROM ("
+          + left + " UNION ALL " + right + ") " + u;
+    }
+
+    private String nextAlias() {
+      return "t" + (aliases++);
+    }
+
+    /**
+     * @return the first bitmap index on the column which is up to date for
+     *         the inputs of the job, or null
+     */
+    private UsableIndex getUsableIndex(String column) throws HiveException {
+      if (usableIndexes.containsKey(column)) {
+        return usableIndexes.get(column);
+      }
+      UsableIndex usable = null;
+      for (Index index : indexes) {
+        boolean indexed = false;
+        for (FieldSchema col : index.getSd().getCols()) {
+          indexed |= col.getName().equals(column);
+        }
+        if (!indexed) {
+          continue;
+        }
+        org.apache.hadoop.hive.ql.metadata.Table indexTbl = getIndexTable(index);
+        if (indexTbl == null) {
+          continue;
+        }
+        List<String> partConditions = getPartitionConditions(index, indexTbl,
+            work);
+        if (partConditions != null) {
+          usable = new UsableIndex();
+          usable.indexTbl = indexTbl;
+          usable.partConditions = partConditions;
+          break;
+        }
+      }
+      usableIndexes.put(column, usable);
+      return usable;
+    }
+  }
+}
@@ -0,0 +1,441 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.index.bitmap;
+
+import java.util.Arrays;
+
+/**
+ * A word-aligned hybrid compressed bitmap (EWAH). The bitmap is a sequence of
+ * 64-bit words made of marker words, each followed by the literal words it
+ * announces. A marker word holds in its lowest bit the value of a run of
+ * clean words (all zeros or all ones), in its next 32 bits the length of the
+ * run, and in its upper 31 bits the number of literal words which follow the
+ * run. Sparse and dense bitmaps are small, and AND/OR skip the clean runs
+ * without expanding them.
+ *
+ * Bits can only be set in increasing order.
+ */
+public class EWAHBitmap {
+
+  static final int WORD_SIZE = 64;
+
+  private static final long MAX_RUNNING_LENGTH = 0xFFFFFFFFL;
+  private static final int MAX_LITERAL_WORDS = 0x7FFFFFFF;
+  private static final int RUNNING_LENGTH_SHIFT = 1;
+  private static final int LITERAL_WORDS_SHIFT = 33;
+
+  private long[] buffer;
+  // number of words used in buffer
+  private int size;
+  // position of the last marker word
+  private int markerPos;
+  // number of uncompressed words represented
+  private int wordCount;
+  // number of bits of the bitmap, including its trailing zeros
+  private int sizeInBits;
+
+  public EWAHBitmap() {
+    buffer = new long[4];
+    size = 1;
+    markerPos = 0;
+    wordCount = 0;
+    sizeInBits = 0;
+  }
+
+  /**
+   * Sets a bit. Positions must be given in increasing order.
+   *
+   * @return false if the position is before the end of the bitmap
+   */
+  public boolean set(int i) {
+    if (i < 0 || i < sizeInBits) {
+      return false;
+    }
+    int wordIndex = i / WORD_SIZE;
+    long bit = 1L << (i % WORD_SIZE);
+    sizeInBits = i + 1;
+    if (wordIndex < wordCount) {
+      // the bit belongs to the last word
+      long marker = buffer[markerPos];
+      if (getLiteralWords(marker) == 0) {
+        if (getRunningBit(marker)) {
+          return true;
+        }
+        buffer[markerPos] = makeMarker(false, getRunningLength(marker) - 1, 0);
+        wordCount--;
+        addLiteral(bit);
+        return true;
+      }
+      long word = buffer[size - 1] | bit;
+      if (word == ~0L) {
+        size--;
+        wordCount--;
+        setLiteralWords(markerPos, getLiteralWords(marker) - 1);
+        addRun(true, 1);
+      } else {
+        buffer[size - 1] = word;
+      }
+      return true;
+    }
+    if (wordIndex > wordCount) {
+      addRun(false, wordIndex - wordCount);
+    }
+    addLiteral(bit);
+    return true;
+  }
+
+  /**
+   * @return the bits set in both bitmaps
+   */
+  public EWAHBitmap and(EWAHBitmap other) {
+    return combine(other, true);
+  }
+
+  /**
+   * @return the bits set in either bitmap
+   */
+  public EWAHBitmap or(EWAHBitmap other) {
+    return combine(other, false);
+  }
+
+  private EWAHBitmap combine(EWAHBitmap other, boolean and) {
+    EWAHBitmap result = new EWAHBitmap();
+    Cursor a = new Cursor(this);
+    Cursor b = new Cursor(other);
+    while (a.hasWords() && b.hasWords()) {
+      if (a.run > 0 && b.run > 0) {
+        long n = Math.min(a.run, b.run);
+        result.addRun(and ? a.runBit && b.runBit : a.runBit || b.runBit, n);
+        a.skip(n);
+        b.skip(n);
+      } else if (a.run > 0 || b.run > 0) {
+        Cursor run = a.run > 0 ? a : b;
+        Cursor literals = a.run > 0 ? b : a;
+        int n = (int) Math.min(run.run, literals.literals);
+        if (run.runBit == and) {
+          // x AND ones, x OR zeros
+          for (int i = 0; i < n; i++) {
+            result.addWord(literals.literal(i));
+          }
+        } else {
+          result.addRun(run.runBit, n);
+        }
+        run.skip(n);
+        literals.skip(n);
+      } else {
+        int n = Math.min(a.literals, b.literals);
+        for (int i = 0; i < n; i++) {
+          result.addWord(and ? a.literal(i) & b.literal(i)
+              : a.literal(i) | b.literal(i));
+        }
+        a.skip(n);
+        b.skip(n);
+      }
+    }
+    if (!and) {
+      Cursor rest = a.hasWords() ? a : b;
+      while (rest.hasWords()) {
+        if (rest.run > 0) {
+          long n = rest.run;
+          result.addRun(rest.runBit, n);
+          rest.skip(n);
+        } else {
+          int n = rest.literals;
+          for (int i = 0; i < n; i++) {
+            result.addWord(rest.literal(i));
+          }
+          rest.skip(n);
+        }
+      }
+    }
+    result.sizeInBits = Math.max(sizeInBits, other.sizeInBits);
+    return result;
+  }
+
+  /**
+   * @return true if no bit is set
+   */
+  public boolean isEmpty() {
+    Cursor c = new Cursor(this);
+    while (c.hasWords()) {
+      if (c.run > 0) {
+        if (c.runBit) {
+          return false;
+        }
+        c.skip(c.run);
+      } else {
+        for (int i = 0; i < c.literals; i++) {
+          if (c.literal(i) != 0) {
+            return false;
+          }
+        }
+        c.skip(c.literals);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the number of bits set
+   */
+  public int cardinality() {
+    int count = 0;
+    Cursor c = new Cursor(this);
+    while (c.hasWords()) {
+      if (c.run > 0) {
+        if (c.runBit) {
+          count += c.run * WORD_SIZE;
+        }
+        c.skip(c.run);
+      } else {
+        for (int i = 0; i < c.literals; i++) {
+          count += Long.bitCount(c.literal(i));
+        }
+        c.skip(c.literals);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return the positions of the bits set, in increasing order
+   */
+  public int[] getPositions() {
+    int[] positions = new int[cardinality()];
+    int count = 0;
+    long word = 0;
+    Cursor c = new Cursor(this);
+    while (c.hasWords()) {
+      if (c.run > 0) {
+        if (c.runBit) {
+          for (long i = 0; i < c.run * WORD_SIZE; i++) {
+            positions[count++] = (int) (word * WORD_SIZE + i);
+          }
+        }
+        word += c.run;
+        c.skip(c.run);
+      } else {
+        for (int i = 0; i < c.literals; i++) {
+          long w = c.literal(i);
+          while (w != 0) {
+            int bit = Long.numberOfTrailingZeros(w);
+            positions[count++] = (int) (word * WORD_SIZE + bit);
+            w &= w - 1;
+          }
+          word++;
+        }
+        c.skip(c.literals);
+      }
+    }
+    return positions;
+  }
+
+  public int sizeInBits() {
+    return sizeInBits;
+  }
+
+  /**
+   * @return the serialized form of the bitmap: its size in bits followed by
+   *         its words
+   */
+  public long[] toWords() {
+    long[] words = new long[size + 1];
+    words[0] = sizeInBits;
+    System.arraycopy(buffer, 0, words, 1, size);
+    return words;
+  }
+
+  /**
+   * @return the bitmap serialized by {@link #toWords()}
+   */
+  public static EWAHBitmap fromWords(long[] words) {
+    EWAHBitmap bitmap = new EWAHBitmap();
+    if (words.length < 2) {
+      return bitmap;
+    }
+    bitmap.sizeInBits = (int) words[0];
+    bitmap.size = words.length - 1;
+    bitmap.buffer = new long[bitmap.size];
+    System.arraycopy(words, 1, bitmap.buffer, 0, bitmap.size);
+    // find the last marker word
+    int pos = 0;
+    while (true) {
+      long marker = bitmap.buffer[pos];
+      bitmap.wordCount += getRunningLength(marker) + getLiteralWords(marker);
+      int next = pos + 1 + getLiteralWords(marker);
+      if (next >= bitmap.size) {
+        break;
+      }
+      pos = next;
+    }
+    bitmap.markerPos = pos;
+    return bitmap;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof EWAHBitmap)) {
+      return false;
+    }
+    EWAHBitmap other = (EWAHBitmap) o;
+    return sizeInBits == other.sizeInBits
+        && Arrays.equals(getPositions(), other.getPositions());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(getPositions());
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(getPositions());
+  }
+
+  private void addWord(long word) {
+    if (word == 0) {
+      addRun(false, 1);
+    } else if (word == ~0L) {
+      addRun(true, 1);
+    } else {
+      addLiteral(word);
+    }
+  }
+
+  private void addRun(boolean bit, long n) {
+    while (n > 0) {
+      long marker = buffer[markerPos];
+      long length = getRunningLength(marker);
+      if (getLiteralWords(marker) != 0
+          || (length != 0 && getRunningBit(marker) != bit)
+          || length == MAX_RUNNING_LENGTH) {
+        newMarker();
+        marker = 0;
+        length = 0;
+      }
+      long added = Math.min(n, MAX_RUNNING_LENGTH - length);
+      buffer[markerPos] = makeMarker(bit, length + added,
+          getLiteralWords(marker));
+      wordCount += added;
+      n -= added;
+    }
+  }
+
+  private void addLiteral(long word) {
+    int literals = getLiteralWords(buffer[markerPos]);
+    if (literals == MAX_LITERAL_WORDS) {
+      newMarker();
+      literals = 0;
+    }
+    ensureCapacity(size + 1);
+    buffer[size++] = word;
+    setLiteralWords(markerPos, literals + 1);
+    wordCount++;
+  }
+
+  private void newMarker() {
+    ensureCapacity(size + 1);
+    markerPos = size;
+    buffer[size++] = 0;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+  }
+
+  private void setLiteralWords(int pos, int literals) {
+    long marker = buffer[pos];
+    buffer[pos] = makeMarker(getRunningBit(marker), getRunningLength(marker),
+        literals);
+  }
+
+  private static long makeMarker(boolean bit, long length, int literals) {
+    return (bit ? 1L : 0L) | (length << RUNNING_LENGTH_SHIFT)
+        | ((long) literals << LITERAL_WORDS_SHIFT);
+  }
+
+  static boolean getRunningBit(long marker) {
+    return (marker & 1L) != 0;
+  }
+
+  static long getRunningLength(long marker) {
+    return (marker >>> RUNNING_LENGTH_SHIFT) & MAX_RUNNING_LENGTH;
+  }
+
+  static int getLiteralWords(long marker) {
+    return (int) (marker >>> LITERAL_WORDS_SHIFT);
+  }
+
+  /**
+   * Reads the words of a bitmap as a sequence of clean runs and literal
+   * words. At any time, either run or literals is positive, unless all the
+   * words have been read.
+   */
+  private static final class Cursor {
+    private final long[] buffer;
+    private final int size;
+    private int next;
+
+    boolean runBit;
+    long run;
+    int literals;
+    private int literalPos;
+
+    Cursor(EWAHBitmap bitmap) {
+      buffer = bitmap.buffer;
+      size = bitmap.size;
+      next = 0;
+      load();
+    }
+
+    boolean hasWords() {
+      return run > 0 || literals > 0;
+    }
+
+    long literal(int i) {
+      return buffer[literalPos + i];
+    }
+
+    /**
+     * Consumes n words of the current run, or n of the current literals.
+     */
+    void skip(long n) {
+      if (run > 0) {
+        run -= n;
+      } else {
+        literals -= n;
+        literalPos += n;
+      }
+      load();
+    }
+
+    private void load() {
+      while (run == 0 && literals == 0 && next < size) {
+        long marker = buffer[next];
+        runBit = getRunningBit(marker);
+        run = getRunningLength(marker);
+        literals = Math.min(getLiteralWords(marker), size - next - 1);
+        literalPos = next + 1;
+        next = literalPos + literals;
+      }
+    }
+  }
+}
@@ -15,42 +15,33 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.hadoop.hive.ql.index.compact;
 
+import static org.apache.commons.lang.StringUtils.join;
+
+import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
-import java.util.Map.Entry;
 
-import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.hive.conf.HiveConf;
-import org.apache.hadoop.hive.metastore.MetaStoreUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
 import org.apache.hadoop.hive.metastore.api.Index;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
 import org.apache.hadoop.hive.metastore.api.Table;
-import org.apache.hadoop.hive.ql.Driver;
 import org.apache.hadoop.hive.ql.exec.Task;
-import org.apache.hadoop.hive.ql.exec.Utilities;
 import org.apache.hadoop.hive.ql.hooks.ReadEntity;
 import org.apache.hadoop.hive.ql.hooks.WriteEntity;
-import org.apache.hadoop.hive.ql.index.AbstractIndexHandler;
-import org.apache.hadoop.hive.ql.metadata.Hive;
+import org.apache.hadoop.hive.ql.index.IndexPredicateAnalyzer;
+import org.apache.hadoop.hive.ql.index.IndexSearchCondition;
+import org.apache.hadoop.hive.ql.index.TableBasedIndexHandler;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
 import org.apache.hadoop.hive.ql.metadata.HiveUtils;
-import org.apache.hadoop.hive.ql.metadata.Partition;
 import org.apache.hadoop.hive.ql.metadata.VirtualColumn;
-import org.apache.hadoop.hive.ql.parse.SemanticException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
 import org.apache.hadoop.hive.ql.plan.PartitionDesc;
-import org.apache.hadoop.hive.ql.plan.TableDesc;
 
-public class CompactIndexHandler extends AbstractIndexHandler {
-  
-  private Configuration configuration;
+public class CompactIndexHandler extends TableBasedIndexHandler {
 
   @Override
   public void analyzeIndexDefinition(Table baseTable, Index index,
@@ -68,82 +59,19 @@ public class CompactIndexHandler extends AbstractIndexHandler {
   }
 
   @Override
-  public List<Task<?>> generateIndexBuildTaskList(
-      org.apache.hadoop.hive.ql.metadata.Table baseTbl,
-      org.apache.hadoop.hive.metastore.api.Index index,
-      List<Partition> indexTblPartitions, List<Partition> baseTblPartitions,
-      org.apache.hadoop.hive.ql.metadata.Table indexTbl,
-      Set<ReadEntity> inputs, Set<WriteEntity> outputs) throws HiveException {
-    try {
-
-      TableDesc desc = Utilities.getTableDesc(indexTbl);
-
-      List<Partition> newBaseTblPartitions = new ArrayList<Partition>();
-
-      List<Task<?>> indexBuilderTasks = new ArrayList<Task<?>>();
-
-      if (!baseTbl.isPartitioned()) {
-        // the table does not have any partition, then create index for the
-        // whole table
-        Task<?> indexBuilder = getIndexBuilderMapRedTask(inputs, outputs, index.getSd().getCols(), false,
-            new PartitionDesc(desc, null), indexTbl.getTableName(),
-            new PartitionDesc(Utilities.getTableDesc(baseTbl), null), 
-            baseTbl.getTableName(), indexTbl.getDbName());
-        indexBuilderTasks.add(indexBuilder);
-      } else {
-
-        // check whether the index table partitions are still exists in base
-        // table
-        for (int i = 0; i < indexTblPartitions.size(); i++) {
-          Partition indexPart = indexTblPartitions.get(i);
-          Partition basePart = null;
-          for (int j = 0; j < baseTblPartitions.size(); j++) {
-            if (baseTblPartitions.get(j).getName().equals(indexPart.getName())) {
-              basePart = baseTblPartitions.get(j);
-              newBaseTblPartitions.add(baseTblPartitions.get(j));
-              break;
-            }
-          }
-          if (basePart == null)
-            throw new RuntimeException(
-                "Partitions of base table and index table are inconsistent.");
-          // for each partition, spawn a map reduce task.
-          Task<?> indexBuilder = getIndexBuilderMapRedTask(inputs, outputs, index.getSd().getCols(), true,
-              new PartitionDesc(indexPart), indexTbl.getTableName(),
-              new PartitionDesc(basePart), baseTbl.getTableName(), indexTbl.getDbName());
-          indexBuilderTasks.add(indexBuilder);
-        }
-      }
-      return indexBuilderTasks;
-    } catch (Exception e) {
-      throw new SemanticException(e);
-    }
-  }
-
-  private Task<?> getIndexBuilderMapRedTask(Set<ReadEntity> inputs, Set<WriteEntity> outputs, 
+  protected Task<?> getIndexBuilderMapRedTask(Set<ReadEntity> inputs, Set<WriteEntity> outputs,
       List<FieldSchema> indexField, boolean partitioned,
       PartitionDesc indexTblPartDesc, String indexTableName,
       PartitionDesc baseTablePartDesc, String baseTableName, String dbName) {
-    
+
     String indexCols = HiveUtils.getUnparsedColumnNamesFromFieldSchema(indexField);
 
     //form a new insert overwrite query.
     StringBuilder command= new StringBuilder();
-    LinkedHashMap<String, String> partSpec = indexTblPartDesc.getPartSpec();
 
     command.append("INSERT OVERWRITE TABLE " + HiveUtils.unparseIdentifier(indexTableName ));
-    if (partitioned && indexTblPartDesc != null) {
-      command.append(" PARTITION ( ");
-      List<String> ret = getPartKVPairStringArray(partSpec);
-      for (int i = 0; i < ret.size(); i++) {
-        String partKV = ret.get(i);
-        command.append(partKV);
-        if (i < ret.size() - 1)
-          command.append(",");
-      }
-      command.append(" ) ");
-    }
-    
+    command.append(getPartitionClause(partitioned, indexTblPartDesc));
+
     command.append(" SELECT ");
     command.append(indexCols);
     command.append(",");
@@ -154,65 +82,64 @@ public class CompactIndexHandler extends AbstractIndexHandler {
     command.append(VirtualColumn.BLOCKOFFSET.getName());
     command.append(") ");
     command.append(" FROM " + HiveUtils.unparseIdentifier(baseTableName) );
-    LinkedHashMap<String, String> basePartSpec = baseTablePartDesc.getPartSpec();
-    if(basePartSpec != null) {
-      command.append(" WHERE ");
-      List<String> pkv = getPartKVPairStringArray(basePartSpec);
-      for (int i = 0; i < pkv.size(); i++) {
-        String partKV = pkv.get(i);
-        command.append(partKV);
-        if (i < pkv.size() - 1)
-          command.append(" AND ");
-      }
-    }
+    command.append(getBasePartitionFilter(baseTablePartDesc));
     command.append(" GROUP BY ");
     command.append(indexCols + ", " + VirtualColumn.FILENAME.getName());
 
-    Driver driver = new Driver(new HiveConf(getConf(), CompactIndexHandler.class));
-    driver.compile(command.toString());
-
-    Task<?> rootTask = driver.getPlan().getRootTasks().get(0);
-    inputs.addAll(driver.getPlan().getInputs());
-    outputs.addAll(driver.getPlan().getOutputs());
-    
-    IndexMetadataChangeWork indexMetaChange = new IndexMetadataChangeWork(partSpec, indexTableName, dbName);
-    IndexMetadataChangeTask indexMetaChangeTsk = new IndexMetadataChangeTask(); 
-    indexMetaChangeTsk.setWork(indexMetaChange);
-    rootTask.addDependentTask(indexMetaChangeTsk);
-
-    return rootTask;
-  }
-
-  private List<String> getPartKVPairStringArray(
-      LinkedHashMap<String, String> partSpec) {
-    List<String> ret = new ArrayList<String>(partSpec.size());
-    Iterator<Entry<String, String>> iter = partSpec.entrySet().iterator();
-    while (iter.hasNext()) {
-      StringBuilder sb = new StringBuilder();
-      Entry<String, String> p = iter.next();
-      sb.append(HiveUtils.unparseIdentifier(p.getKey()));
-      sb.append(" = ");
-      sb.append("'");
-      sb.append(p.getValue());
-      sb.append("'");
-      ret.add(sb.toString());
-    }
-    return ret;
+    return compileIndexBuilder(command.toString(), inputs, outputs,
+        indexTblPartDesc.getPartSpec(), indexTableName, dbName);
   }
 
   @Override
-  public boolean usesIndexTable() {
-    return true;
-  }
+  public List<Task<? extends Serializable>> generateIndexQuery(Index index,
+      ExprNodeDesc predicate, org.apache.hadoop.hive.ql.metadata.Table baseTbl,
+      MapredWork work, String indexFile, Set<ReadEntity> inputs)
+      throws HiveException {
+    // find the conditions on the indexed columns
+    IndexPredicateAnalyzer analyzer = new IndexPredicateAnalyzer();
+    for (String op : COMPARISON_OPS.keySet()) {
+      analyzer.addComparisonOp(op);
+    }
+    for (FieldSchema col : index.getSd().getCols()) {
+      analyzer.allowColumnName(col.getName());
+    }
+    List<IndexSearchCondition> searchConditions =
+      new ArrayList<IndexSearchCondition>();
+    analyzer.analyzePredicate(predicate, searchConditions);
+    List<String> conditions = new ArrayList<String>();
+    for (IndexSearchCondition condition : searchConditions) {
+      String conditionString = getConditionString(condition);
+      if (conditionString != null) {
+        conditions.add(conditionString);
+      }
+    }
+    if (conditions.isEmpty()) {
+      return null;
+    }
 
-  @Override
-  public Configuration getConf() {
-    return configuration;
-  }
+    org.apache.hadoop.hive.ql.metadata.Table indexTbl = getIndexTable(index);
+    if (indexTbl == null) {
+      return null;
+    }
+    List<String> partConditions = getPartitionConditions(index, indexTbl, work);
+    if (partConditions == null) {
+      return null;
+    }
 
-  @Override
-  public void setConf(Configuration conf) {
-    this.configuration = conf;
+    StringBuilder command = new StringBuilder();
+    command.append("INSERT OVERWRITE DIRECTORY \"");
+    command.append(HiveUtils.escapeString(indexFile));
+    command.append("\" SELECT `_bucketname`, `_offsets` FROM ");
+    command.append(HiveUtils.unparseIdentifier(indexTbl.getTableName()));
+    command.append(" WHERE ");
+    command.append(join(conditions, " AND "));
+    if (!partConditions.isEmpty()) {
+      command.append(" AND (");
+      command.append(join(partConditions, " OR "));
+      command.append(")");
+    }
+    return compileIndexQuery(command.toString(), index, work, indexFile,
+        inputs);
   }
 
 }
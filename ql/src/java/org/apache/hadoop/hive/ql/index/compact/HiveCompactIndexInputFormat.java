@@ -8,6 +8,7 @@ import java.util.Set;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.ql.exec.Utilities;
 import org.apache.hadoop.hive.ql.io.HiveFileFormatUtils;
 import org.apache.hadoop.hive.ql.io.HiveInputFormat;
@@ -63,11 +64,11 @@ public class HiveCompactIndexInputFormat extends HiveInputFormat {
   
   @Override
   public InputSplit[] getSplits(JobConf job, int numSplits) throws IOException {
-    String indexFileStr = job.get("hive.index.compact.file");
+    String indexFileStr = HiveConf.getVar(job, HiveConf.ConfVars.HIVE_INDEX_COMPACT_FILE);
     l4j.info("index_file is " + indexFileStr);
 
     HiveCompactIndexResult hiveIndexResult = null;
-    if (indexFileStr != null) {
+    if (indexFileStr != null && !indexFileStr.isEmpty()) {
       try {
         hiveIndexResult = new HiveCompactIndexResult(indexFileStr, job);
       } catch (HiveException e) {
@@ -90,6 +91,11 @@ public class HiveCompactIndexInputFormat extends HiveInputFormat {
         }
         newInputPaths.append(path);
       }
+      if (first) {
+        // no row of the input satisfies the index predicate
+        l4j.info("Index selected no input files");
+        return new InputSplit[0];
+      }
 
       FileInputFormat.setInputPaths(job, newInputPaths.toString());
     } else {
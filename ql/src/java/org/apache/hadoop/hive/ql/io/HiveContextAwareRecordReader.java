@@ -76,16 +76,22 @@ public abstract class HiveContextAwareRecordReader<K, V> implements RecordReader
     long pointerPos = this.getPos();
     if (!ioCxtRef.isBlockPointer) {
       ioCxtRef.currentBlockStart = pointerPos;
+      ioCxtRef.currentRow = 0;
       return;
     }
 
+    ioCxtRef.currentRow++;
     if (ioCxtRef.nextBlockStart == -1) {
       ioCxtRef.nextBlockStart = pointerPos;
+      ioCxtRef.currentRow = 0;
     }
     if (pointerPos != ioCxtRef.nextBlockStart) {
       // the reader pointer has moved to the end of next block, or the end of
       // current record.
 
+      if (ioCxtRef.currentBlockStart != ioCxtRef.nextBlockStart) {
+        ioCxtRef.currentRow = 0;
+      }
       ioCxtRef.currentBlockStart = ioCxtRef.nextBlockStart;
       ioCxtRef.nextBlockStart = pointerPos;
     }
@@ -98,6 +104,7 @@ public abstract class HiveContextAwareRecordReader<K, V> implements RecordReader
   public void initIOContext(long startPos, boolean isBlockPointer, String inputFile) {
     ioCxtRef = this.getIOContext();
     ioCxtRef.currentBlockStart = startPos;
+    ioCxtRef.currentRow = 0;
     ioCxtRef.isBlockPointer = isBlockPointer;
     ioCxtRef.inputFile = inputFile;
     initDone = true;
@@ -25,6 +25,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -33,14 +34,17 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.ql.exec.Operator;
 import org.apache.hadoop.hive.ql.exec.TableScanOperator;
 import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.metadata.VirtualColumn;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
 import org.apache.hadoop.hive.ql.plan.MapredWork;
 import org.apache.hadoop.hive.ql.plan.PartitionDesc;
 import org.apache.hadoop.hive.ql.plan.TableScanDesc;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
+import org.apache.hadoop.hive.serde2.Deserializer;
 import org.apache.hadoop.hive.shims.ShimLoader;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.io.WritableComparable;
@@ -236,12 +240,76 @@ public class HiveInputFormat<K extends WritableComparable, V extends Writable>
         cloneJobConf);
     RecordReader innerReader = inputFormat.getRecordReader(inputSplit,
         cloneJobConf, reporter);
+    if (innerReader instanceof RCFileRecordReader) {
+      pushRowFilter((RCFileRecordReader) innerReader, cloneJobConf, hsplit
+          .getPath());
+    }
 
     HiveRecordReader<K,V> rr = new HiveRecordReader(innerReader);
     rr.initIOContext(hsplit, job, inputFormatClass, innerReader);
     return rr;
   }
 
+  /**
+   * Hand the filter pushed to the table scan reading the given file to its
+   * RCFile reader, which drops the rows failing it before they are
+   * materialized. The filter is only handed over if a single alias reads the
+   * file and the alias reads no virtual column, since the row offsets inside
+   * a block are counted from the returned rows.
+   */
+  private void pushRowFilter(RCFileRecordReader reader, JobConf job, Path path) {
+    if (!HiveConf.getBoolVar(job, HiveConf.ConfVars.HIVEOPTPPD_RCFILE)) {
+      return;
+    }
+    TableScanOperator tableScan = getTableScan(path);
+    if (tableScan == null) {
+      return;
+    }
+    TableScanDesc scanDesc = tableScan.getConf();
+    if (scanDesc == null || scanDesc.getFilterExpr() == null
+        || (scanDesc.getVirtualCols() != null
+        && !scanDesc.getVirtualCols().isEmpty())) {
+      return;
+    }
+
+    try {
+      PartitionDesc part = HiveFileFormatUtils
+          .getPartitionDescFromPathRecursively(pathToPartitionInfo, path,
+          IOPrepareCache.get().allocatePartitionDescMap());
+      Deserializer deserializer = part.getDeserializerClass().newInstance();
+      deserializer.initialize(job, part.getProperties());
+      reader.setPushedFilter(scanDesc.getFilterExpr(), deserializer);
+    } catch (Exception e) {
+      LOG.warn("Cannot push the filter to the reader of " + path, e);
+    }
+  }
+
+  /**
+   * Find the table scan of the only alias reading the given file, or null if
+   * none or several aliases read it.
+   */
+  private TableScanOperator getTableScan(Path path) {
+    for (Path dir = path; dir != null; dir = dir.getParent()) {
+      ArrayList<String> aliases = mrwork.getPathToAliases().get(dir.toString());
+      if (aliases == null) {
+        aliases = mrwork.getPathToAliases().get(dir.toUri().getPath());
+      }
+      if (aliases == null) {
+        continue;
+      }
+      if (aliases.size() != 1) {
+        return null;
+      }
+      Operator<? extends Serializable> op = mrwork.getAliasToWork().get(
+          aliases.get(0));
+      if (op instanceof TableScanOperator) {
+        return (TableScanOperator) op;
+      }
+      return null;
+    }
+    return null;
+  }
+
   protected Map<String, PartitionDesc> pathToPartitionInfo;
   MapredWork mrwork = null;
 
@@ -416,6 +484,16 @@ public class HiveInputFormat<K extends WritableComparable, V extends Writable>
           ColumnProjectionUtils.setFullyReadColumns(jobConf);
         }
 
+        // the readers may only count rows if no alias needs any column
+        List<VirtualColumn> virtualCols = tableScan.getConf() == null ? null
+            : tableScan.getConf().getVirtualCols();
+        boolean noColumns = list != null && list.isEmpty()
+            && (virtualCols == null || virtualCols.isEmpty());
+        if (jobConf.get(ColumnProjectionUtils.READ_NO_COLUMNS_CONF_STR) != null) {
+          noColumns = noColumns && ColumnProjectionUtils.isReadNoColumns(jobConf);
+        }
+        ColumnProjectionUtils.setReadNoColumns(jobConf, noColumns);
+
         pushFilters(jobConf, tableScan);
       }
     }
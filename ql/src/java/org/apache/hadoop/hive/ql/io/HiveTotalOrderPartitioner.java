@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.mapred.JobConf;
+
+/**
+ * Partition keys into ordered ranges, so that reducer i only receives keys
+ * smaller than the keys of reducer i + 1. The range boundaries are read from
+ * a sequence file of sorted keys named by {@link #PARTITION_FILE}; keys are
+ * compared byte by byte, which matches the sort order of the
+ * BinarySortableSerDe keys written by the ReduceSinkOperator.
+ *
+ * Buckets are still assigned by hash code, as with
+ * {@link DefaultHivePartitioner}.
+ */
+public class HiveTotalOrderPartitioner implements HivePartitioner<HiveKey, Object> {
+
+  private static final Log LOG = LogFactory.getLog(HiveTotalOrderPartitioner.class.getName());
+
+  public static final String PARTITION_FILE = "hive.mapred.partitioner.file";
+
+  private byte[][] splitPoints;
+
+  public void configure(JobConf job) {
+    String file = job.get(PARTITION_FILE);
+    if (file == null) {
+      throw new RuntimeException(PARTITION_FILE + " is not set for "
+          + HiveTotalOrderPartitioner.class.getName());
+    }
+    try {
+      splitPoints = readPartitionKeys(new Path(file), job);
+    } catch (IOException e) {
+      throw new RuntimeException("Cannot read partition keys from " + file, e);
+    }
+    LOG.info("Read " + splitPoints.length + " partition keys from " + file);
+  }
+
+  public int getPartition(HiveKey key, Object value, int numPartitions) {
+    if (splitPoints == null) {
+      return (key.hashCode() & Integer.MAX_VALUE) % numPartitions;
+    }
+    return Math.min(findPartition(splitPoints, key.getBytes(), key.getLength()), numPartitions - 1);
+  }
+
+  public int getBucket(HiveKey key, Object value, int numBuckets) {
+    return (key.hashCode() & Integer.MAX_VALUE) % numBuckets;
+  }
+
+  /**
+   * Returns the number of split points that are smaller than or equal to the
+   * key, so that equal keys always go to the same partition.
+   */
+  static int findPartition(byte[][] splitPoints, byte[] key, int length) {
+    int low = 0;
+    int high = splitPoints.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      byte[] point = splitPoints[mid];
+      if (WritableComparator.compareBytes(point, 0, point.length, key, 0, length) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Write the sorted split points to the given file.
+   */
+  public static void writePartitionKeys(Path file, JobConf job, List<byte[]> splitPoints)
+      throws IOException {
+    FileSystem fs = file.getFileSystem(job);
+    SequenceFile.Writer writer = SequenceFile.createWriter(fs, job, file,
+        BytesWritable.class, NullWritable.class);
+    try {
+      BytesWritable key = new BytesWritable();
+      for (byte[] point : splitPoints) {
+        key.set(point, 0, point.length);
+        writer.append(key, NullWritable.get());
+      }
+    } finally {
+      writer.close();
+    }
+  }
+
+  static byte[][] readPartitionKeys(Path file, JobConf job) throws IOException {
+    FileSystem fs = file.getFileSystem(job);
+    SequenceFile.Reader reader = new SequenceFile.Reader(fs, file, job);
+    try {
+      List<byte[]> points = new ArrayList<byte[]>();
+      BytesWritable key = new BytesWritable();
+      NullWritable value = NullWritable.get();
+      while (reader.next(key, value)) {
+        byte[] point = new byte[key.getLength()];
+        System.arraycopy(key.getBytes(), 0, point, 0, point.length);
+        points.add(point);
+      }
+      return points.toArray(new byte[points.size()][]);
+    } finally {
+      reader.close();
+    }
+  }
+}
@@ -26,6 +26,7 @@ package org.apache.hadoop.hive.ql.io;
  * non compressed files, isBlockPointer should return false, and
  * currentBlockStart refers to the beginning offset of the current row,
  * nextBlockStart refers the end of current row and beginning of next row.
+ * currentRow is the position of the current row inside the current block.
  */
 public class IOContext {
 
@@ -41,6 +42,7 @@ public class IOContext {
 
   long currentBlockStart;
   long nextBlockStart;
+  long currentRow;
   boolean isBlockPointer;
   boolean ioExceptions;
 
@@ -49,6 +51,7 @@ public class IOContext {
   public IOContext() {
     this.currentBlockStart = 0;
     this.nextBlockStart = -1;
+    this.currentRow = 0;
     this.isBlockPointer = true;
     this.ioExceptions = false;
   }
@@ -69,6 +72,14 @@ public class IOContext {
     this.nextBlockStart = nextBlockStart;
   }
 
+  public long getCurrentRow() {
+    return currentRow;
+  }
+
+  public void setCurrentRow(long currentRow) {
+    this.currentRow = currentRow;
+  }
+
   public boolean isBlockPointer() {
     return isBlockPointer;
   }
@@ -27,6 +27,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.rmi.server.UID;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.apache.commons.logging.Log;
@@ -142,7 +143,18 @@ import org.apache.hadoop.util.ReflectionUtils;
  * </ul>
  * </li>
  * </ul>
- * 
+ *
+ * <h5>Row group index</h5>
+ * <p>
+ * If {@link #WRITE_INDEX_CONF_STR} is set, the writer records the offset, row
+ * count and column sizes of every record (row group) and appends them after
+ * the last record at close, followed by the offset of the index and the magic
+ * bytes <b>RCIX</b>. The file metadata then contains
+ * {@link #INDEX_METADATA_STR}, so readers only look for the index in files
+ * written with it. Readers not aware of the index must not read such files
+ * past the last record.
+ * </p>
+ *
  */
 public class RCFile {
 
@@ -154,6 +166,42 @@ public class RCFile {
 
   public static final String COLUMN_NUMBER_CONF_STR = "hive.io.rcfile.column.number.conf";
 
+  /**
+   * If set, the reader fetches only the projected columns of each record with
+   * positioned reads instead of streaming through the whole value part.
+   */
+  public static final String COALESCED_READ_CONF_STR = "hive.io.rcfile.read.coalesced";
+
+  /**
+   * The largest gap (in bytes) between two projected columns that is still
+   * read through and discarded instead of being fetched by a separate
+   * positioned read.
+   */
+  public static final String COALESCED_READ_MAX_GAP_CONF_STR = "hive.io.rcfile.read.coalesced.maxgap";
+
+  public static final int DEFAULT_COALESCED_READ_MAX_GAP = 64 * 1024;
+
+  /** If set, the writer appends a {@link RowGroupIndex} at close. */
+  public static final String WRITE_INDEX_CONF_STR = "hive.io.rcfile.write.index";
+
+  /** Set in the metadata of files carrying a {@link RowGroupIndex}. */
+  public static final String INDEX_METADATA_STR = "hive.io.rcfile.index";
+
+  /**
+   * If set, {@link RCFileInputFormat} moves split boundaries to the row group
+   * offsets of files carrying a {@link RowGroupIndex}.
+   */
+  public static final String INDEX_SPLITS_CONF_STR = "hive.io.rcfile.index.splits";
+
+  /**
+   * Counters for the bytes of the value parts a reader actually read, the
+   * bytes it skipped because the columns were not projected, and the rows
+   * rejected by a filter pushed to the reader.
+   */
+  public static enum Counter {
+    BYTES_READ, BYTES_SKIPPED, ROWS_FILTERED
+  }
+
   /*
    * these header and Sync are kept from SequenceFile, for compatible of
    * SequenceFile's format.
@@ -170,6 +218,148 @@ public class RCFile {
   /** The number of bytes between sync points. */
   public static final int SYNC_INTERVAL = 100 * SYNC_SIZE;
 
+  private static final byte[] INDEX_MAGIC = new byte[] {
+      (byte) 'R', (byte) 'C', (byte) 'I', (byte) 'X'
+      };
+  // index offset + magic
+  private static final int INDEX_FOOTER_SIZE = 8 + INDEX_MAGIC.length;
+
+  /**
+   * RowGroupIndex lists the records (row groups) of a RCFile. Its on-disk
+   * layout is as below:
+   *
+   * <ul>
+   * <li>number_of_row_groups(vint)</li>
+   * <li>number_of_columns(vint)</li>
+   * <li>end of the last row group(vlong)</li>
+   * <li>row_group_1_offset(vlong)</li>
+   * <li>row_group_1_number_of_rows(vint)</li>
+   * <li>row_group_1_column_1_ondisk_length(vint)</li>
+   * <li>...</li>
+   * <li>row_group_2_offset(vlong)</li>
+   * <li>....</li>
+   * </ul>
+   */
+  public static class RowGroupIndex implements Writable {
+    private final ArrayList<Long> offsets = new ArrayList<Long>();
+    private final ArrayList<Integer> rowCounts = new ArrayList<Integer>();
+    private final ArrayList<int[]> columnLengths = new ArrayList<int[]>();
+    private int columnNumber = 0;
+    private long endOffset = 0;
+    private long totalRows = 0;
+
+    public RowGroupIndex() {
+    }
+
+    RowGroupIndex(int columnNumber) {
+      this.columnNumber = columnNumber;
+    }
+
+    void addRowGroup(long offset, int numberRows, int[] eachColumnValueLen) {
+      offsets.add(offset);
+      rowCounts.add(numberRows);
+      columnLengths.add(Arrays.copyOf(eachColumnValueLen, columnNumber));
+      totalRows += numberRows;
+    }
+
+    void setEndOffset(long endOffset) {
+      this.endOffset = endOffset;
+    }
+
+    /** Returns the number of row groups in the file. */
+    public int getNumRowGroups() {
+      return offsets.size();
+    }
+
+    /** Returns the file offset of a row group. */
+    public long getOffset(int rowGroup) {
+      return offsets.get(rowGroup);
+    }
+
+    /** Returns the file offset right after the last row group. */
+    public long getEndOffset() {
+      return endOffset;
+    }
+
+    /** Returns the number of rows of a row group. */
+    public int getNumRows(int rowGroup) {
+      return rowCounts.get(rowGroup);
+    }
+
+    /** Returns the on-disk length of a column in a row group. */
+    public int getColumnLength(int rowGroup, int columnID) {
+      return columnLengths.get(rowGroup)[columnID];
+    }
+
+    /** Returns the number of rows in the file. */
+    public long getTotalRows() {
+      return totalRows;
+    }
+
+    /** Returns the number of rows in the row groups before the given one. */
+    public long getFirstRow(int rowGroup) {
+      long rows = 0;
+      for (int i = 0; i < rowGroup; i++) {
+        rows += rowCounts.get(i);
+      }
+      return rows;
+    }
+
+    /**
+     * Returns the first row group starting at or after the given position, or
+     * {@link #getNumRowGroups()} if there is none.
+     */
+    public int findRowGroup(long position) {
+      int low = 0;
+      int high = offsets.size();
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (offsets.get(mid) < position) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+      offsets.clear();
+      rowCounts.clear();
+      columnLengths.clear();
+      totalRows = 0;
+
+      int numRowGroups = WritableUtils.readVInt(in);
+      columnNumber = WritableUtils.readVInt(in);
+      endOffset = WritableUtils.readVLong(in);
+      int[] lengths = new int[columnNumber];
+      for (int i = 0; i < numRowGroups; i++) {
+        long offset = WritableUtils.readVLong(in);
+        int numberRows = WritableUtils.readVInt(in);
+        for (int j = 0; j < columnNumber; j++) {
+          lengths[j] = WritableUtils.readVInt(in);
+        }
+        addRowGroup(offset, numberRows, lengths);
+      }
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+      WritableUtils.writeVInt(out, offsets.size());
+      WritableUtils.writeVInt(out, columnNumber);
+      WritableUtils.writeVLong(out, endOffset);
+      for (int i = 0; i < offsets.size(); i++) {
+        WritableUtils.writeVLong(out, offsets.get(i));
+        WritableUtils.writeVInt(out, rowCounts.get(i));
+        int[] lengths = columnLengths.get(i);
+        for (int j = 0; j < columnNumber; j++) {
+          WritableUtils.writeVInt(out, lengths[j]);
+        }
+      }
+    }
+  }
+
   /**
    * KeyBuffer is the key of each record in RCFile. Its on-disk layout is as
    * below:
@@ -444,6 +634,89 @@ public class RCFile {
       }
     }
 
+    // scratch buffer for readFieldsCoalesced
+    private byte[] coalescedReadBuffer = null;
+
+    /**
+     * Read the non-skipped columns of the current record with positioned
+     * reads. Needed column ranges separated by no more than
+     * <code>maxGap</code> bytes are merged into one read, the others are never
+     * fetched. The position of <code>in</code> is not changed.
+     *
+     * @param in
+     *          the input stream of the file
+     * @param valueStart
+     *          the file offset of the value part of the current record
+     * @param maxGap
+     *          the largest gap between two needed columns that is read through
+     * @return the number of bytes read from the stream
+     * @throws IOException
+     */
+    long readFieldsCoalesced(FSDataInputStream in, long valueStart, int maxGap)
+        throws IOException {
+      long readBytes = 0;
+      int addIndex = 0;
+      int rangeFirstCol = -1;
+      int rangeStart = 0;
+      int rangeEnd = 0;
+      int colStart = 0;
+      for (int i = 0; i < columnNumber; i++) {
+        int vaRowsLen = keyBuffer.eachColumnValueLen[i];
+        if (!skippedColIDs[i]) {
+          if (rangeFirstCol >= 0 && colStart - rangeEnd > maxGap) {
+            addIndex = readRange(in, valueStart, rangeStart, rangeEnd,
+                rangeFirstCol, i, addIndex);
+            readBytes += rangeEnd - rangeStart;
+            rangeFirstCol = -1;
+          }
+          if (rangeFirstCol < 0) {
+            rangeFirstCol = i;
+            rangeStart = colStart;
+          }
+          rangeEnd = colStart + vaRowsLen;
+        }
+        colStart += vaRowsLen;
+      }
+      if (rangeFirstCol >= 0) {
+        readRange(in, valueStart, rangeStart, rangeEnd, rangeFirstCol,
+            columnNumber, addIndex);
+        readBytes += rangeEnd - rangeStart;
+      }
+      return readBytes;
+    }
+
+    /**
+     * Fetch the bytes [rangeStart, rangeEnd) of the value part and hand them
+     * out to the non-skipped columns in [fromCol, toCol).
+     *
+     * @return the index of the next column value buffer to fill
+     */
+    private int readRange(FSDataInputStream in, long valueStart,
+        int rangeStart, int rangeEnd, int fromCol, int toCol, int addIndex)
+        throws IOException {
+      int rangeLen = rangeEnd - rangeStart;
+      if (coalescedReadBuffer == null || coalescedReadBuffer.length < rangeLen) {
+        coalescedReadBuffer = new byte[rangeLen];
+      }
+      in.readFully(valueStart + rangeStart, coalescedReadBuffer, 0, rangeLen);
+
+      int offset = 0;
+      for (int i = fromCol; i < toCol; i++) {
+        int vaRowsLen = keyBuffer.eachColumnValueLen[i];
+        if (!skippedColIDs[i]) {
+          NonSyncDataOutputBuffer valBuf = loadedColumnsValueBuffer[addIndex];
+          valBuf.reset();
+          valBuf.write(coalescedReadBuffer, offset, vaRowsLen);
+          if (codec != null) {
+            decompressedFlag[addIndex] = false;
+          }
+          addIndex++;
+        }
+        offset += vaRowsLen;
+      }
+      return addIndex;
+    }
+
     @Override
     public void write(DataOutput out) throws IOException {
       for (NonSyncDataOutputBuffer currentBuf : loadedColumnsValueBuffer) {
@@ -523,6 +796,9 @@ public class RCFile {
     KeyBuffer key = null;
     ValueBuffer value = null;
 
+    // the index of the records written so far, null if no index is written
+    private RowGroupIndex index = null;
+
     /*
      * used for buffering appends before flush them out
      */
@@ -662,6 +938,10 @@ public class RCFile {
       }
       metadata.set(new Text(COLUMN_NUMBER_METADATA_STR), new Text(""
           + columnNumber));
+      if (conf.getBoolean(WRITE_INDEX_CONF_STR, false)) {
+        metadata.set(new Text(INDEX_METADATA_STR), new Text("true"));
+        index = new RowGroupIndex(columnNumber);
+      }
 
       columnsBufferSize = conf.getInt(COLUMNS_BUFFER_SIZE_CONF_STR,
           4 * 1024 * 1024);
@@ -849,6 +1129,10 @@ public class RCFile {
 
       // Write the record out
       checkAndWriteSync(); // sync
+      if (index != null) {
+        index.addRowGroup(out.getPos(), bufferedRecords,
+            key.eachColumnValueLen);
+      }
       out.writeInt(keyLength + valueLength); // total record length
       out.writeInt(keyLength); // key portion length
       if (!isCompressed()) {
@@ -873,6 +1157,14 @@ public class RCFile {
       columnBufferSize = 0;
     }
 
+    private void writeIndex() throws IOException {
+      long indexStart = out.getPos();
+      index.setEndOffset(indexStart);
+      index.write(out);
+      out.writeLong(indexStart);
+      out.write(INDEX_MAGIC);
+    }
+
     private void clearColumnBuffers() throws IOException {
       for (int i = 0; i < columnNumber; i++) {
         columnBuffers[i].clear();
@@ -898,6 +1190,10 @@ public class RCFile {
         compressor = null;
       }
 
+      if (out != null && index != null) {
+        writeIndex();
+      }
+
       if (out != null) {
 
         // Close the underlying stream if we own it...
@@ -928,7 +1224,7 @@ public class RCFile {
     private long lastSeenSyncPos = 0;
 
     private long headerEnd;
-    private final long end;
+    private long end;
     private int currentKeyLength;
     private int currentRecordLength;
 
@@ -959,6 +1255,16 @@ public class RCFile {
 
     int[] prjColIDs = null; // selected column IDs
 
+    private final boolean coalescedRead;
+    private final int coalescedReadMaxGap;
+
+    // bytes of value parts read and skipped so far
+    private long bytesRead = 0;
+    private long bytesSkipped = 0;
+
+    // the index of the row groups, null if the file has none
+    private RowGroupIndex index = null;
+
     /** Create a new RCFile reader. */
     public Reader(FileSystem fs, Path file, Configuration conf) throws IOException {
       this(fs, file, conf.getInt("io.file.buffer.size", 4096), conf, 0, fs
@@ -969,6 +1275,9 @@ public class RCFile {
     public Reader(FileSystem fs, Path file, int bufferSize, Configuration conf,
         long start, long length) throws IOException {
       conf.setInt("io.file.buffer.size", bufferSize);
+      coalescedRead = conf.getBoolean(COALESCED_READ_CONF_STR, false);
+      coalescedReadMaxGap = conf.getInt(COALESCED_READ_MAX_GAP_CONF_STR,
+          DEFAULT_COALESCED_READ_MAX_GAP);
       this.file = file;
       in = openFile(fs, file, bufferSize, length);
       this.conf = conf;
@@ -978,9 +1287,11 @@ public class RCFile {
         if (start > 0) {
           seek(0);
           init();
+          readIndex(fs);
           seek(start);
         } else {
           init();
+          readIndex(fs);
         }
         succeed = true;
       } finally {
@@ -1128,6 +1439,65 @@ public class RCFile {
       }
     }
 
+    /**
+     * Read the row group index if the metadata says the file has one, and
+     * stop reading records where the index starts. The position of the
+     * stream is not changed.
+     */
+    private void readIndex(FileSystem fs) throws IOException {
+      Text hasIndex = metadata.get(new Text(INDEX_METADATA_STR));
+      if (hasIndex == null || !Boolean.parseBoolean(hasIndex.toString())) {
+        return;
+      }
+
+      long pos = in.getPos();
+      long footerStart = fs.getFileStatus(file).getLen() - INDEX_FOOTER_SIZE;
+      if (footerStart < headerEnd) {
+        throw new IOException(file + " has a corrupt row group index");
+      }
+      in.seek(footerStart);
+      long indexStart = in.readLong();
+      byte[] magic = new byte[INDEX_MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, INDEX_MAGIC) || indexStart < headerEnd
+          || indexStart > footerStart) {
+        throw new IOException(file + " has a corrupt row group index");
+      }
+
+      in.seek(indexStart);
+      index = new RowGroupIndex();
+      index.readFields(in);
+      end = Math.min(end, indexStart);
+      in.seek(pos);
+    }
+
+    /** Returns the row group index of the file, or null if it has none. */
+    public RowGroupIndex getRowGroupIndex() {
+      return index;
+    }
+
+    /**
+     * Position the reader at the start of a row group listed in the row group
+     * index, so the next call to {@link #next(LongWritable)} returns its first
+     * row.
+     */
+    public synchronized void seekToRowGroup(int rowGroup) throws IOException {
+      if (index == null) {
+        throw new IOException(file + " has no row group index");
+      }
+      if (rowGroup < index.getNumRowGroups()) {
+        seek(index.getOffset(rowGroup));
+      } else {
+        seek(index.getEndOffset());
+      }
+      keyInit = false;
+      rowFetched = false;
+      syncSeen = false;
+      readRowsIndexInBuffer = 0;
+      recordsNumInValBuffer = 0;
+      passedRowsNum = (int) index.getFirstRow(rowGroup);
+    }
+
     /** Return the current byte position in the input file. */
     public synchronized long getPosition() throws IOException {
       return in.getPos();
@@ -1240,7 +1610,9 @@ public class RCFile {
         return;
       }
       if (!currentValue.inited) {
-        in.skip(currentRecordLength - currentKeyLength);
+        int valueLength = currentRecordLength - currentKeyLength;
+        in.skip(valueLength);
+        bytesSkipped += valueLength;
       }
     }
 
@@ -1301,7 +1673,22 @@ public class RCFile {
       }
       currentValue.keyBuffer = currentKey;
       currentValue.clearColumnBuffer();
-      currentValue.readFields(in);
+      int valueLength = currentRecordLength - currentKeyLength;
+      long readBytes;
+      if (coalescedRead) {
+        long valueStart = in.getPos();
+        readBytes = currentValue.readFieldsCoalesced(in, valueStart,
+            coalescedReadMaxGap);
+        in.seek(valueStart + valueLength);
+      } else {
+        currentValue.readFields(in);
+        readBytes = 0;
+        for (int prjColID : prjColIDs) {
+          readBytes += currentKey.eachColumnValueLen[prjColID];
+        }
+      }
+      bytesRead += readBytes;
+      bytesSkipped += valueLength - readBytes;
       currentValue.inited = true;
     }
 
@@ -1481,6 +1868,16 @@ public class RCFile {
       return lastSeenSyncPos;
     }
 
+    /** Returns the number of bytes of value parts read so far. */
+    public long getBytesRead() {
+      return bytesRead;
+    }
+
+    /** Returns the number of bytes of value parts skipped so far. */
+    public long getBytesSkipped() {
+      return bytesSkipped;
+    }
+
     /** Returns the name of the file. */
     @Override
     public String toString() {
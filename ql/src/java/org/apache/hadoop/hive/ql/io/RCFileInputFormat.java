@@ -23,6 +23,7 @@ import java.util.ArrayList;
 
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.serde2.columnar.BytesRefArrayWritable;
 import org.apache.hadoop.io.LongWritable;
@@ -54,7 +55,52 @@ public class RCFileInputFormat<K extends LongWritable, V extends BytesRefArrayWr
 
     reporter.setStatus(split.toString());
 
-    return new RCFileRecordReader(job, (FileSplit) split);
+    return new RCFileRecordReader(job, (FileSplit) split, reporter);
+  }
+
+  /**
+   * If {@link RCFile#INDEX_SPLITS_CONF_STR} is set, the boundaries of the
+   * splits of files carrying a row group index are moved to row group
+   * offsets, and splits in which no row group starts are dropped.
+   */
+  @Override
+  public InputSplit[] getSplits(JobConf job, int numSplits) throws IOException {
+    InputSplit[] splits = super.getSplits(job, numSplits);
+    if (!job.getBoolean(RCFile.INDEX_SPLITS_CONF_STR, false)) {
+      return splits;
+    }
+
+    ArrayList<InputSplit> result = new ArrayList<InputSplit>(splits.length);
+    Path currentFile = null;
+    RCFile.RowGroupIndex index = null;
+    for (InputSplit split : splits) {
+      FileSplit fileSplit = (FileSplit) split;
+      Path path = fileSplit.getPath();
+      if (!path.equals(currentFile)) {
+        currentFile = path;
+        RCFile.Reader reader = new RCFile.Reader(path.getFileSystem(job), path,
+            job);
+        index = reader.getRowGroupIndex();
+        reader.close();
+      }
+      if (index == null) {
+        result.add(split);
+        continue;
+      }
+
+      long splitEnd = fileSplit.getStart() + fileSplit.getLength();
+      int firstRowGroup = index.findRowGroup(fileSplit.getStart());
+      int lastRowGroup = index.findRowGroup(splitEnd);
+      if (firstRowGroup == lastRowGroup) {
+        continue;
+      }
+      long start = index.getOffset(firstRowGroup);
+      long end = lastRowGroup < index.getNumRowGroups() ? index
+          .getOffset(lastRowGroup) : index.getEndOffset();
+      result.add(new FileSplit(path, start, end - start, fileSplit
+          .getLocations()));
+    }
+    return result.toArray(new InputSplit[result.size()]);
   }
 
   @Override
@@ -19,46 +19,216 @@
 package org.apache.hadoop.hive.ql.io;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.exec.ExprNodeEvaluator;
+import org.apache.hadoop.hive.ql.exec.ExprNodeEvaluatorFactory;
+import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
 import org.apache.hadoop.hive.ql.io.RCFile.Reader;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
+import org.apache.hadoop.hive.serde2.Deserializer;
 import org.apache.hadoop.hive.serde2.columnar.BytesRefArrayWritable;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.StructField;
+import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.util.ReflectionUtils;
 
 /**
  * RCFileRecordReader.
  *
+ * If a filter is pushed to the reader with
+ * {@link #setPushedFilter(ExprNodeDesc, Deserializer)}, the deterministic
+ * conjuncts of the filter which only reference columns stored in the file are
+ * evaluated here, and rows failing them are never returned. Only the columns
+ * referenced by the filter are decompressed for rejected rows; the remaining
+ * projected columns are decompressed lazily once a row of the row group is
+ * returned. The complete filter is still evaluated by the operator tree, so
+ * if the filter fails on a row, it is dropped for the rest of the split.
+ *
+ * For files carrying a {@link RCFile.RowGroupIndex}, the split owns exactly
+ * the row groups starting inside it, and no sync marker is searched. If no
+ * column is needed at all, the rows are counted from the index without
+ * reading the row groups.
+ *
  * @param <K>
  * @param <V>
  */
 public class RCFileRecordReader<K extends LongWritable, V extends BytesRefArrayWritable>
     implements RecordReader<LongWritable, BytesRefArrayWritable> {
 
+  private static final Log LOG = LogFactory.getLog(RCFileRecordReader.class);
+
+  // report progress after this many consecutive rows were filtered out
+  private static final int FILTER_PROGRESS_INTERVAL = 10000;
+
+  private final Path path;
   private final Reader in;
   private final long start;
   private final long end;
   private boolean more = true;
   protected Configuration conf;
+  private final Reporter reporter;
+
+  // the pushed filter, null if rows are not filtered by this reader
+  private ExprNodeEvaluator filterEvaluator;
+  private PrimitiveObjectInspector filterInspector;
+  private Deserializer filterDeserializer;
+  private long filteredRows = 0;
+
+  // with a row group index, the rows of the split and the rows returned so
+  // far; rowsToRead is -1 without an index
+  private long rowsToRead = -1;
+  private long rowsRead = 0;
+  private long firstRow = 0;
+  // only count the rows, do not read them
+  private boolean countOnly = false;
 
   public RCFileRecordReader(Configuration conf, FileSplit split)
       throws IOException {
-    Path path = split.getPath();
+    this(conf, split, null);
+  }
+
+  public RCFileRecordReader(Configuration conf, FileSplit split,
+      Reporter reporter) throws IOException {
+    path = split.getPath();
     FileSystem fs = path.getFileSystem(conf);
     this.in = new RCFile.Reader(fs, path, conf);
     this.end = split.getStart() + split.getLength();
     this.conf = conf;
+    this.reporter = reporter;
 
-    if (split.getStart() > in.getPosition()) {
+    RCFile.RowGroupIndex index = in.getRowGroupIndex();
+    if (index != null) {
+      int firstRowGroup = index.findRowGroup(split.getStart());
+      int lastRowGroup = index.findRowGroup(end);
+      in.seekToRowGroup(firstRowGroup);
+      firstRow = index.getFirstRow(firstRowGroup);
+      rowsToRead = index.getFirstRow(lastRowGroup) - firstRow;
+    } else if (split.getStart() > in.getPosition()) {
       in.sync(split.getStart()); // sync to start
     }
 
     this.start = in.getPosition();
-    more = start < end;
+    more = index != null ? rowsToRead > 0 : start < end;
+    countOnly = index != null && ColumnProjectionUtils.isReadNoColumns(conf);
+  }
+
+  /**
+   * Filter the rows of this split by the given predicate, which is pushed to
+   * the table scan reading it. The rows are deserialized with the given
+   * deserializer of the partition. Must be called before the first row is
+   * read. Failing to set up the filter is not an error, rows are then
+   * returned unfiltered.
+   */
+  public void setPushedFilter(ExprNodeDesc predicate,
+      Deserializer deserializer) {
+    if (countOnly) {
+      // no column is read, the operator tree filters the counted rows
+      return;
+    }
+    try {
+      StructObjectInspector rowInspector = (StructObjectInspector) deserializer
+          .getObjectInspector();
+      Set<String> fileColumns = new HashSet<String>();
+      for (StructField field : rowInspector.getAllStructFieldRefs()) {
+        fileColumns.add(field.getFieldName().toLowerCase());
+      }
+      ExprNodeDesc filter = getStorageFilter(predicate, fileColumns);
+      if (filter == null) {
+        return;
+      }
+
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Filtering rows of " + path + " by " + filter.getExprString());
+      }
+      filterEvaluator = ExprNodeEvaluatorFactory.get(filter);
+      filterInspector = (PrimitiveObjectInspector) filterEvaluator
+          .initialize(rowInspector);
+      filterDeserializer = deserializer;
+    } catch (Exception e) {
+      LOG.warn("Cannot evaluate the pushed filter while reading " + path, e);
+      filterEvaluator = null;
+    }
+  }
+
+  /**
+   * Returns the conjunction of the deterministic conjuncts of the given
+   * predicate which only reference the given columns, or null if there are
+   * none.
+   */
+  private static ExprNodeDesc getStorageFilter(ExprNodeDesc predicate,
+      Set<String> fileColumns) {
+    List<ExprNodeDesc> conjuncts = new ArrayList<ExprNodeDesc>();
+    splitConjuncts(predicate, conjuncts);
+
+    ExprNodeDesc filter = null;
+    for (ExprNodeDesc conjunct : conjuncts) {
+      if (!isDeterministic(conjunct)) {
+        continue;
+      }
+      boolean inFile = true;
+      for (String col : conjunct.getCols()) {
+        if (!fileColumns.contains(col.toLowerCase())) {
+          inFile = false;
+          break;
+        }
+      }
+      if (!inFile) {
+        continue;
+      }
+      if (filter == null) {
+        filter = conjunct;
+      } else {
+        List<ExprNodeDesc> children = new ArrayList<ExprNodeDesc>(2);
+        children.add(filter);
+        children.add(conjunct);
+        filter = new ExprNodeGenericFuncDesc(TypeInfoFactory.booleanTypeInfo,
+            FunctionRegistry.getGenericUDFForAnd(), children);
+      }
+    }
+    return filter;
+  }
+
+  private static void splitConjuncts(ExprNodeDesc expr,
+      List<ExprNodeDesc> conjuncts) {
+    if (FunctionRegistry.isOpAnd(expr)) {
+      for (ExprNodeDesc child : expr.getChildren()) {
+        splitConjuncts(child, conjuncts);
+      }
+    } else {
+      conjuncts.add(expr);
+    }
+  }
+
+  private static boolean isDeterministic(ExprNodeDesc expr) {
+    if (expr instanceof ExprNodeGenericFuncDesc
+        && !FunctionRegistry.isDeterministic(((ExprNodeGenericFuncDesc) expr)
+        .getGenericUDF())) {
+      return false;
+    }
+    if (expr.getChildren() != null) {
+      for (ExprNodeDesc child : expr.getChildren()) {
+        if (!isDeterministic(child)) {
+          return false;
+        }
+      }
+    }
+    return true;
   }
 
   public Class<?> getKeyClass() {
@@ -82,12 +252,47 @@ public class RCFileRecordReader<K extends LongWritable, V extends BytesRefArrayW
   public boolean next(LongWritable key, BytesRefArrayWritable value)
       throws IOException {
 
-    more = next(key);
+    while (true) {
+      more = next(key);
+      if (!more) {
+        return false;
+      }
+
+      if (countOnly) {
+        value.resetValid(0);
+        return true;
+      }
 
-    if (more) {
       in.getCurrentRow(value);
+      if (filterEvaluator == null || acceptRow(value)) {
+        return true;
+      }
+
+      filteredRows++;
+      if (reporter != null && filteredRows % FILTER_PROGRESS_INTERVAL == 0) {
+        reporter.progress();
+      }
+    }
+  }
+
+  /**
+   * Evaluate the pushed filter on the current row. Only the columns the
+   * filter references are deserialized. If the evaluation fails, the filter
+   * is dropped for the rest of the split, and the operator tree evaluates
+   * this row and the following ones.
+   */
+  private boolean acceptRow(BytesRefArrayWritable value) {
+    try {
+      Object row = filterDeserializer.deserialize(value);
+      Object condition = filterEvaluator.evaluate(row);
+      return Boolean.TRUE.equals(filterInspector
+          .getPrimitiveJavaObject(condition));
+    } catch (Exception e) {
+      LOG.warn("Cannot evaluate the pushed filter while reading " + path
+          + ", returning the remaining rows unfiltered", e);
+      filterEvaluator = null;
+      return true;
     }
-    return more;
   }
 
   protected boolean next(LongWritable key) throws IOException {
@@ -95,6 +300,23 @@ public class RCFileRecordReader<K extends LongWritable, V extends BytesRefArrayW
       return false;
     }
 
+    if (rowsToRead >= 0) {
+      if (rowsRead >= rowsToRead) {
+        more = false;
+        return more;
+      }
+      if (countOnly) {
+        key.set(firstRow + rowsRead);
+      } else {
+        more = in.next(key);
+        if (!more) {
+          return false;
+        }
+      }
+      rowsRead++;
+      return more;
+    }
+
     more = in.next(key);
     if (!more) {
       return false;
@@ -114,6 +336,9 @@ public class RCFileRecordReader<K extends LongWritable, V extends BytesRefArrayW
    * @return 0.0 to 1.0 of the input byte range
    */
   public float getProgress() throws IOException {
+    if (rowsToRead > 0) {
+      return Math.min(1.0f, rowsRead / (float) rowsToRead);
+    }
     if (end == start) {
       return 0.0f;
     } else {
@@ -134,6 +359,11 @@ public class RCFileRecordReader<K extends LongWritable, V extends BytesRefArrayW
   }
 
   public void close() throws IOException {
+    if (reporter != null) {
+      reporter.incrCounter(RCFile.Counter.BYTES_READ, in.getBytesRead());
+      reporter.incrCounter(RCFile.Counter.BYTES_SKIPPED, in.getBytesSkipped());
+      reporter.incrCounter(RCFile.Counter.ROWS_FILTERED, filteredRows);
+    }
     in.close();
   }
 }
@@ -29,7 +29,12 @@ import static org.apache.hadoop.hive.serde.Constants.SERIALIZATION_FORMAT;
 import static org.apache.hadoop.hive.serde.Constants.STRING_TYPE_NAME;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -70,6 +75,7 @@ import org.apache.hadoop.hive.metastore.api.PrincipalType;
 import org.apache.hadoop.hive.metastore.api.PrivilegeBag;
 import org.apache.hadoop.hive.metastore.api.Role;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
+import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
 import org.apache.hadoop.hive.ql.exec.Utilities;
 import org.apache.hadoop.hive.ql.index.HiveIndexHandler;
 import org.apache.hadoop.hive.ql.session.CreateTableAutomaticGrant;
@@ -96,6 +102,16 @@ public class Hive {
   private IMetaStoreClient metaStoreClient;
   private String currentDatabase;
 
+  // Metadata fetched while the current query runs, keyed by database and
+  // table name (and partition values). Null unless startQueryCache() has
+  // been called.
+  private Map<List<String>, org.apache.hadoop.hive.metastore.api.Table> tableCache;
+  private Map<List<String>, org.apache.hadoop.hive.metastore.api.Partition> partitionCache;
+  private Map<List<String>, List<org.apache.hadoop.hive.metastore.api.Partition>> partitionListCache;
+  // number of queries on this thread using the cache; a query run by another
+  // query (e.g. to build an index) starts and ends it too
+  private int queryCacheDepth;
+
   private static ThreadLocal<Hive> hiveDB = new ThreadLocal() {
     @Override
     protected synchronized Object initialValue() {
@@ -184,6 +200,153 @@ public class Hive {
     conf = c;
   }
 
+  /**
+   * Starts caching table and partition metadata for the current query. Until
+   * {@link #endQueryCache()} is called, repeated lookups of the same table or
+   * partition do not go to the metastore. Changes made through this object
+   * invalidate the affected entries, changes made by others are not seen.
+   *
+   * Calls nest: a query started while another one runs on the same thread
+   * shares its cache, which is dropped when the outermost query ends.
+   */
+  public void startQueryCache() {
+    if (queryCacheDepth++ == 0) {
+      clearQueryCache();
+    }
+  }
+
+  /**
+   * Ends a query started with {@link #startQueryCache()}, dropping the cached
+   * metadata and stopping caching once no query uses it.
+   */
+  public void endQueryCache() {
+    if (queryCacheDepth > 0 && --queryCacheDepth == 0) {
+      tableCache = null;
+      partitionCache = null;
+      partitionListCache = null;
+    }
+  }
+
+  private void clearQueryCache() {
+    tableCache = new HashMap<List<String>, org.apache.hadoop.hive.metastore.api.Table>();
+    partitionCache = new HashMap<List<String>, org.apache.hadoop.hive.metastore.api.Partition>();
+    partitionListCache =
+      new HashMap<List<String>, List<org.apache.hadoop.hive.metastore.api.Partition>>();
+  }
+
+  private static List<String> getCacheKey(String dbName, String tableName) {
+    return Arrays.asList(dbName.toLowerCase(), tableName.toLowerCase());
+  }
+
+  private static List<String> getCacheKey(String dbName, String tableName,
+      List<String> pvals) {
+    List<String> key = new ArrayList<String>(pvals.size() + 2);
+    key.addAll(getCacheKey(dbName, tableName));
+    key.addAll(pvals);
+    return key;
+  }
+
+  private org.apache.hadoop.hive.metastore.api.Table getCachedTable(
+      String dbName, String tableName) {
+    if (tableCache == null) {
+      return null;
+    }
+    org.apache.hadoop.hive.metastore.api.Table tTable =
+      tableCache.get(getCacheKey(dbName, tableName));
+    return tTable == null ? null : new org.apache.hadoop.hive.metastore.api.Table(tTable);
+  }
+
+  private void cacheTable(String dbName, String tableName,
+      org.apache.hadoop.hive.metastore.api.Table tTable) {
+    if (tableCache != null) {
+      tableCache.put(getCacheKey(dbName, tableName),
+          new org.apache.hadoop.hive.metastore.api.Table(tTable));
+    }
+  }
+
+  private org.apache.hadoop.hive.metastore.api.Partition getCachedPartition(
+      String dbName, String tableName, List<String> pvals) {
+    if (partitionCache == null) {
+      return null;
+    }
+    org.apache.hadoop.hive.metastore.api.Partition tpart =
+      partitionCache.get(getCacheKey(dbName, tableName, pvals));
+    return tpart == null ? null : new org.apache.hadoop.hive.metastore.api.Partition(tpart);
+  }
+
+  private void cachePartition(String dbName, String tableName,
+      List<String> pvals, org.apache.hadoop.hive.metastore.api.Partition tpart) {
+    if (partitionCache != null) {
+      partitionCache.put(getCacheKey(dbName, tableName, pvals),
+          new org.apache.hadoop.hive.metastore.api.Partition(tpart));
+    }
+  }
+
+  private static List<org.apache.hadoop.hive.metastore.api.Partition> copyPartitions(
+      List<org.apache.hadoop.hive.metastore.api.Partition> tParts) {
+    List<org.apache.hadoop.hive.metastore.api.Partition> copy =
+      new ArrayList<org.apache.hadoop.hive.metastore.api.Partition>(tParts.size());
+    for (org.apache.hadoop.hive.metastore.api.Partition tpart : tParts) {
+      copy.add(new org.apache.hadoop.hive.metastore.api.Partition(tpart));
+    }
+    return copy;
+  }
+
+  /**
+   * Removes a table and all its partitions from the query cache.
+   */
+  private void invalidateCachedTable(String dbName, String tableName) {
+    if (tableCache == null) {
+      return;
+    }
+    List<String> key = getCacheKey(dbName, tableName);
+    tableCache.remove(key);
+    partitionListCache.remove(key);
+    for (Iterator<List<String>> it = partitionCache.keySet().iterator(); it.hasNext();) {
+      if (it.next().subList(0, 2).equals(key)) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Removes everything from the query cache, used for changes that can affect
+   * many tables such as dropping a database or granting privileges.
+   */
+  private void invalidateQueryCache() {
+    if (tableCache != null) {
+      clearQueryCache();
+    }
+  }
+
+  /**
+   * Wraps the metastore client so that every call that is not a lookup
+   * empties the query cache, including changes that have no explicit
+   * invalidation above.
+   */
+  private IMetaStoreClient newInvalidatingClient(final IMetaStoreClient client) {
+    return (IMetaStoreClient) Proxy.newProxyInstance(
+        IMetaStoreClient.class.getClassLoader(),
+        new Class[] {IMetaStoreClient.class}, new InvocationHandler() {
+          public Object invoke(Object proxy, Method method, Object[] args)
+              throws Throwable {
+            String name = method.getName();
+            boolean isLookup = name.startsWith("get") || name.startsWith("list")
+                || name.startsWith("tableExists")
+                || name.startsWith("partitionNameTo");
+            try {
+              return method.invoke(client, args);
+            } catch (InvocationTargetException e) {
+              throw e.getTargetException();
+            } finally {
+              if (!isLookup) {
+                invalidateQueryCache();
+              }
+            }
+          }
+        });
+  }
+
   /**
    * closes the connection to metastore for the calling thread
    */
@@ -249,6 +412,7 @@ public class Hive {
       throws HiveException, NoSuchObjectException {
     try {
       getMSC().dropDatabase(name, deleteData, ignoreUnknownDb);
+      invalidateQueryCache();
     } catch (NoSuchObjectException e) {
       throw e;
     } catch (Exception e) {
@@ -350,6 +514,8 @@ public class Hive {
       if (newTbl.getParameters() != null) {
         newTbl.getParameters().remove(Constants.DDL_TIME);
       }
+      invalidateCachedTable(getCurrentDatabase(), tblName);
+      invalidateCachedTable(newTbl.getDbName(), newTbl.getTableName());
       getMSC().alter_table(getCurrentDatabase(), tblName, newTbl.getTTable());
     } catch (MetaException e) {
       throw new HiveException("Unable to alter table.", e);
@@ -398,6 +564,7 @@ public class Hive {
       if (newPart.getParameters() != null) {
         newPart.getParameters().remove(Constants.DDL_TIME);
       }
+      invalidateCachedTable(getCurrentDatabase(), tblName);
       getMSC().alter_partition(getCurrentDatabase(), tblName,
           newPart.getTPartition());
 
@@ -412,6 +579,7 @@ public class Hive {
       throws HiveException {
     try {
       getMSC().alterDatabase(dbName, db);
+      invalidateQueryCache();
     } catch (MetaException e) {
       throw new HiveException("Unable to alter database " + dbName, e);
     } catch (NoSuchObjectException e) {
@@ -465,6 +633,7 @@ public class Hive {
           tTbl.setPrivileges(principalPrivs);
         }
       }
+      invalidateCachedTable(tbl.getDbName(), tbl.getTableName());
       getMSC().createTable(tTbl);
     } catch (AlreadyExistsException e) {
       if (!ifNotExists) {
@@ -646,6 +815,7 @@ public class Hive {
         indexDesc.getParameters().putAll(idxProps);
       }
 
+      invalidateQueryCache();
       this.getMSC().createIndex(indexDesc, tt);
 
     } catch (Exception e) {
@@ -668,6 +838,7 @@ public class Hive {
 
   public boolean dropIndex(String db_name, String tbl_name, String index_name, boolean deleteData) throws HiveException {
     try {
+      invalidateQueryCache();
       return getMSC().dropIndex(db_name, tbl_name, index_name, deleteData);
     } catch (NoSuchObjectException e) {
       throw new HiveException("Partition or table doesn't exist.", e);
@@ -730,6 +901,7 @@ public class Hive {
       boolean ignoreUnknownTab) throws HiveException {
 
     try {
+      invalidateCachedTable(dbName, tableName);
       getMSC().dropTable(dbName, tableName, deleteData, ignoreUnknownTab);
     } catch (NoSuchObjectException e) {
       if (!ignoreUnknownTab) {
@@ -790,17 +962,21 @@ public class Hive {
     }
 
     // Get the table from metastore
-    org.apache.hadoop.hive.metastore.api.Table tTable = null;
-    try {
-      tTable = getMSC().getTable(dbName, tableName);
-    } catch (NoSuchObjectException e) {
-      if (throwException) {
-        LOG.error(StringUtils.stringifyException(e));
-        throw new InvalidTableException("Table " + tableName + " not found ", tableName);
+    org.apache.hadoop.hive.metastore.api.Table tTable =
+      getCachedTable(dbName, tableName);
+    if (tTable == null) {
+      try {
+        tTable = getMSC().getTable(dbName, tableName);
+      } catch (NoSuchObjectException e) {
+        if (throwException) {
+          LOG.error(StringUtils.stringifyException(e));
+          throw new InvalidTableException("Table " + tableName + " not found ", tableName);
+        }
+        return null;
+      } catch (Exception e) {
+        throw new HiveException("Unable to fetch table " + tableName, e);
       }
-      return null;
-    } catch (Exception e) {
-      throw new HiveException("Unable to fetch table " + tableName, e);
+      cacheTable(dbName, tableName, tTable);
     }
 
     // For non-views, we need to do some extra fixes
@@ -939,6 +1115,7 @@ public class Hive {
   public boolean grantPrivileges(PrivilegeBag privileges)
       throws HiveException {
     try {
+      invalidateQueryCache();
       return getMSC().grant_privileges(privileges);
     } catch (Exception e) {
       throw new HiveException(e);
@@ -960,6 +1137,7 @@ public class Hive {
   public boolean revokePrivileges(PrivilegeBag privileges)
       throws HiveException {
     try {
+      invalidateQueryCache();
       return getMSC().revoke_privileges(privileges);
     } catch (Exception e) {
       throw new HiveException(e);
@@ -1025,23 +1203,8 @@ public class Hive {
        */
 
       Partition oldPart = getPartition(tbl, partSpec, false, null);
-      Path oldPartPath = null;
-      if(oldPart != null) {
-        oldPartPath = oldPart.getPartitionPath();
-      }
-
-      Path partPath = new Path(tbl.getDataLocation().getPath(),
-          Warehouse.makePartPath(partSpec));
-
-      Path newPartPath = new Path(loadPath.toUri().getScheme(), loadPath
-          .toUri().getAuthority(), partPath.toUri().getPath());
-
-      if (replace) {
-        Hive.replaceFiles(loadPath, newPartPath, oldPartPath, getConf());
-      } else {
-        FileSystem fs = FileSystem.get(tbl.getDataLocation(), getConf());
-        Hive.copyFiles(loadPath, newPartPath, fs);
-      }
+      Path newPartPath = movePartitionFiles(loadPath, tbl, partSpec, oldPart,
+          replace);
 
       // recreate the partition if it existed before
       if (!holdDDLTime) {
@@ -1057,6 +1220,35 @@ public class Hive {
 
   }
 
+  /**
+   * Move the files of loadPath to the location of the partition described by
+   * partSpec, replacing the files of oldPart if requested.
+   *
+   * @return the new location of the partition
+   */
+  private Path movePartitionFiles(Path loadPath, Table tbl,
+      Map<String, String> partSpec, Partition oldPart, boolean replace)
+      throws HiveException, IOException, MetaException {
+    Path oldPartPath = null;
+    if (oldPart != null) {
+      oldPartPath = oldPart.getPartitionPath();
+    }
+
+    Path partPath = new Path(tbl.getDataLocation().getPath(),
+        Warehouse.makePartPath(partSpec));
+
+    Path newPartPath = new Path(loadPath.toUri().getScheme(), loadPath
+        .toUri().getAuthority(), partPath.toUri().getPath());
+
+    if (replace) {
+      Hive.replaceFiles(loadPath, newPartPath, oldPartPath, getConf());
+    } else {
+      FileSystem fs = FileSystem.get(tbl.getDataLocation(), getConf());
+      Hive.copyFiles(loadPath, newPartPath, fs);
+    }
+    return newPartPath;
+  }
+
   /**
    * Given a source directory name of the load path, load all dynamically generated partitions
    * into the specified table and return a list of strings that represent the dynamic partition
@@ -1093,6 +1285,14 @@ public class Hive {
             + " to at least " + status.length + '.');
       }
 
+      Table tbl = getTable(tableName);
+      // partitions are registered with the metastore in two batched calls
+      // once all files are in place, instead of one round trip each
+      List<org.apache.hadoop.hive.metastore.api.Partition> newParts =
+        new ArrayList<org.apache.hadoop.hive.metastore.api.Partition>();
+      List<org.apache.hadoop.hive.metastore.api.Partition> alteredParts =
+        new ArrayList<org.apache.hadoop.hive.metastore.api.Partition>();
+
       // for each dynamically created DP directory, construct a full partition spec
       // and load the partition based on that
       for (int i= 0; i < status.length; ++i) {
@@ -1104,18 +1304,85 @@ public class Hive {
         // generate a full partition specification
         LinkedHashMap<String, String> fullPartSpec = new LinkedHashMap<String, String>(partSpec);
         Warehouse.makeSpecFromName(fullPartSpec, partPath);
-      	fullPartSpecs.add(fullPartSpec);
+        fullPartSpecs.add(fullPartSpec);
 
-        // finally load the partition -- move the file to the final table address
-      	loadPartition(partPath, tableName, fullPartSpec, replace, holdDDLTime);
-      	LOG.info("New loading path = " + partPath + " with partSpec " + fullPartSpec);
-    	}
+        // move the files to the final table address
+        Partition oldPart = getPartition(tbl, fullPartSpec, false, null);
+        Path newPartPath = movePartitionFiles(partPath, tbl, fullPartSpec,
+            oldPart, replace);
+        LOG.info("New loading path = " + partPath + " with partSpec " + fullPartSpec);
+
+        if (holdDDLTime) {
+          continue;
+        }
+        if (oldPart == null) {
+          newParts.add(newTPartition(tbl, fullPartSpec));
+        } else {
+          org.apache.hadoop.hive.metastore.api.Partition tpart = oldPart.getTPartition();
+          tpart.getSd().setOutputFormat(tbl.getTTable().getSd().getOutputFormat());
+          tpart.getSd().setInputFormat(tbl.getTTable().getSd().getInputFormat());
+          tpart.getSd().getSerdeInfo().setSerializationLib(tbl.getSerializationLib());
+          tpart.getSd().setLocation(newPartPath.toString());
+          // Remove the DDL time so that it gets refreshed
+          if (tpart.getParameters() != null) {
+            tpart.getParameters().remove(Constants.DDL_TIME);
+          }
+          alteredParts.add(tpart);
+        }
+      }
+
+      invalidateCachedTable(tbl.getDbName(), tbl.getTableName());
+      if (!newParts.isEmpty()) {
+        LOG.debug("creating " + newParts.size() + " partitions for table "
+            + tbl.getTableName());
+        getMSC().add_partitions(newParts);
+      }
+      if (!alteredParts.isEmpty()) {
+        LOG.debug("altering " + alteredParts.size() + " partitions for table "
+            + tbl.getTableName());
+        getMSC().alter_partitions(tbl.getDbName(), tbl.getTableName(),
+            alteredParts);
+      }
       return fullPartSpecs;
     } catch (IOException e) {
       throw new HiveException(e);
+    } catch (HiveException e) {
+      throw e;
+    } catch (Exception e) {
+      LOG.error(StringUtils.stringifyException(e));
+      throw new HiveException(e);
     }
   }
 
+  /**
+   * Build the metastore object of a new partition of tbl. The location is
+   * left empty so that the metastore places it under the table directory.
+   */
+  private org.apache.hadoop.hive.metastore.api.Partition newTPartition(
+      Table tbl, Map<String, String> partSpec) throws HiveException {
+    if (!tbl.isValidSpec(partSpec)) {
+      throw new HiveException("Invalid partition: " + partSpec);
+    }
+    List<String> pvals = new ArrayList<String>();
+    for (FieldSchema field : tbl.getPartCols()) {
+      String val = partSpec.get(field.getName());
+      if (val == null || val.length() == 0) {
+        throw new HiveException("Value for key " + field.getName()
+            + " is null or empty");
+      }
+      pvals.add(val);
+    }
+    org.apache.hadoop.hive.metastore.api.Partition tpart =
+      new org.apache.hadoop.hive.metastore.api.Partition();
+    tpart.setDbName(tbl.getDbName());
+    tpart.setTableName(tbl.getTableName());
+    tpart.setValues(pvals);
+    StorageDescriptor sd = new StorageDescriptor(tbl.getTTable().getSd());
+    sd.setLocation(null);
+    tpart.setSd(sd);
+    return tpart;
+  }
+
   /**
    * Load a directory into a Hive Table. - Alters existing content of table with
    * the contents of loadPath. - If table does not exist - an exception is
@@ -1196,6 +1463,7 @@ public class Hive {
       Partition tmpPart = new Partition(tbl, partSpec, location);
       // No need to clear DDL_TIME in parameters since we know it's
       // not populated on construction.
+      invalidateCachedTable(tbl.getDbName(), tbl.getTableName());
       partition = getMSC().add_partition(tmpPart.getTPartition());
     } catch (Exception e) {
       LOG.error(StringUtils.stringifyException(e));
@@ -1240,24 +1508,29 @@ public class Hive {
         pvals.add(val);
       }
     }
-    org.apache.hadoop.hive.metastore.api.Partition tpart = null;
-    try {
-      tpart = getMSC().getPartitionWithAuthInfo(tbl.getDbName(),
-          tbl.getTableName(), pvals, getUserName(), getGroupNames());
-    } catch (NoSuchObjectException nsoe) {
-      // this means no partition exists for the given partition
-      // key value pairs - thrift cannot handle null return values, hence
-      // getPartition() throws NoSuchObjectException to indicate null partition
-      tpart = null;
-    } catch (Exception e) {
-      LOG.error(StringUtils.stringifyException(e));
-      throw new HiveException(e);
+    org.apache.hadoop.hive.metastore.api.Partition tpart =
+      getCachedPartition(tbl.getDbName(), tbl.getTableName(), pvals);
+    if (tpart == null) {
+      try {
+        tpart = getMSC().getPartitionWithAuthInfo(tbl.getDbName(),
+            tbl.getTableName(), pvals, getUserName(), getGroupNames());
+        cachePartition(tbl.getDbName(), tbl.getTableName(), pvals, tpart);
+      } catch (NoSuchObjectException nsoe) {
+        // this means no partition exists for the given partition
+        // key value pairs - thrift cannot handle null return values, hence
+        // getPartition() throws NoSuchObjectException to indicate null partition
+        tpart = null;
+      } catch (Exception e) {
+        LOG.error(StringUtils.stringifyException(e));
+        throw new HiveException(e);
+      }
     }
     try {
       if (forceCreate) {
         if (tpart == null) {
           LOG.debug("creating partition for table " + tbl.getTableName()
                     + " with partition spec : " + partSpec);
+          invalidateCachedTable(tbl.getDbName(), tbl.getTableName());
           tpart = getMSC().appendPartition(tbl.getDbName(), tbl.getTableName(), pvals);
         }
         else {
@@ -1287,6 +1560,7 @@ public class Hive {
   public boolean dropPartition(String db_name, String tbl_name,
       List<String> part_vals, boolean deleteData) throws HiveException {
     try {
+      invalidateCachedTable(db_name, tbl_name);
       return getMSC().dropPartition(db_name, tbl_name, part_vals, deleteData);
     } catch (NoSuchObjectException e) {
       throw new HiveException("Partition or table doesn't exist.", e);
@@ -1333,13 +1607,21 @@ public class Hive {
    */
   public List<Partition> getPartitions(Table tbl) throws HiveException {
     if (tbl.isPartitioned()) {
-      List<org.apache.hadoop.hive.metastore.api.Partition> tParts;
-      try {
-        tParts = getMSC().listPartitionsWithAuthInfo(tbl.getDbName(), tbl.getTableName(),
-            (short) -1, getUserName(), getGroupNames());
-      } catch (Exception e) {
-        LOG.error(StringUtils.stringifyException(e));
-        throw new HiveException(e);
+      List<org.apache.hadoop.hive.metastore.api.Partition> tParts = null;
+      List<String> key = getCacheKey(tbl.getDbName(), tbl.getTableName());
+      if (partitionListCache != null && partitionListCache.containsKey(key)) {
+        tParts = copyPartitions(partitionListCache.get(key));
+      } else {
+        try {
+          tParts = getMSC().listPartitionsWithAuthInfo(tbl.getDbName(), tbl.getTableName(),
+              (short) -1, getUserName(), getGroupNames());
+        } catch (Exception e) {
+          LOG.error(StringUtils.stringifyException(e));
+          throw new HiveException(e);
+        }
+        if (partitionListCache != null) {
+          partitionListCache.put(key, copyPartitions(tParts));
+        }
       }
       List<Partition> parts = new ArrayList<Partition>(tParts.size());
       for (org.apache.hadoop.hive.metastore.api.Partition tpart : tParts) {
@@ -1503,6 +1785,7 @@ public class Hive {
       PrincipalType principalType, String grantor, PrincipalType grantorType,
       boolean grantOption) throws HiveException {
     try {
+      invalidateQueryCache();
       return getMSC().grant_role(roleName, userName, principalType, grantor,
           grantorType, grantOption);
     } catch (Exception e) {
@@ -1513,6 +1796,7 @@ public class Hive {
   public boolean revokeRole(String roleName, String userName,
       PrincipalType principalType)  throws HiveException {
     try {
+      invalidateQueryCache();
       return getMSC().revoke_role(roleName, userName, principalType);
     } catch (Exception e) {
       throw new HiveException(e);
@@ -1816,7 +2100,7 @@ public class Hive {
    */
   private IMetaStoreClient getMSC() throws MetaException {
     if (metaStoreClient == null) {
-      metaStoreClient = createMetaStoreClient();
+      metaStoreClient = newInvalidatingClient(createMetaStoreClient());
     }
     return metaStoreClient;
   }
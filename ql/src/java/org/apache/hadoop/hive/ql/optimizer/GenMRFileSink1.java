@@ -39,6 +39,7 @@ import org.apache.hadoop.hive.ql.exec.MapRedTask;
 import org.apache.hadoop.hive.ql.exec.MoveTask;
 import org.apache.hadoop.hive.ql.exec.Operator;
 import org.apache.hadoop.hive.ql.exec.OperatorFactory;
+import org.apache.hadoop.hive.ql.exec.PartitionKeySampler;
 import org.apache.hadoop.hive.ql.exec.RowSchema;
 import org.apache.hadoop.hive.ql.exec.Task;
 import org.apache.hadoop.hive.ql.exec.TaskFactory;
@@ -130,9 +131,12 @@ public class GenMRFileSink1 implements NodeProcessor {
           boolean mergeMapOnly =
             hconf.getBoolVar(HiveConf.ConfVars.HIVEMERGEMAPFILES) &&
             currWork.getReducer() == null;
+          // the files of a total order sort each hold one ordered range,
+          // which merging them would interleave
           boolean mergeMapRed =
             hconf.getBoolVar(HiveConf.ConfVars.HIVEMERGEMAPREDFILES) &&
-            currWork.getReducer() != null;
+            currWork.getReducer() != null &&
+            !PartitionKeySampler.isTotalOrderOutput(fsOp);
           if (mergeMapOnly || mergeMapRed) {
             chDir = true;
           }
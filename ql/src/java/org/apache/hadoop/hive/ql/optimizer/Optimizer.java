@@ -72,6 +72,12 @@ public class Optimizer {
     if(HiveConf.getBoolVar(hiveConf, HiveConf.ConfVars.HIVEOPTREDUCEDEDUPLICATION)) {
       transformations.add(new ReduceSinkDeDuplication());
     }
+    if (HiveConf.getBoolVar(hiveConf, HiveConf.ConfVars.HIVE_COMPUTE_QUERY_USING_STATS)) {
+      transformations.add(new StatsOptimizer());
+    }
+    if (HiveConf.getBoolVar(hiveConf, HiveConf.ConfVars.HIVEOPTSHAREDJSONPARSE)) {
+      transformations.add(new SharedJsonParseOptimizer());
+    }
   }
 
   /**
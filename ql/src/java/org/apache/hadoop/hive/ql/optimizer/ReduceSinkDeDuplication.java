@@ -287,6 +287,11 @@ public class ReduceSinkDeDuplication implements Transform{
         }
         
         int childNumReducers = childReduceSink.getConf().getNumReducers();
+        if (childReduceSink.getConf().isTotalOrder()) {
+          // the parent reduce sink is not range partitioned, so the merged
+          // job only keeps the total order on a single reducer.
+          childNumReducers = 1;
+        }
         int parentNumReducers = parentRS.getConf().getNumReducers();
         boolean moveChildReducerNumToParent = false;
         //move child reduce sink's number reducers to the parent reduce sink operator.
@@ -0,0 +1,254 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.optimizer;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+
+import org.apache.hadoop.hive.ql.exec.FilterOperator;
+import org.apache.hadoop.hive.ql.exec.SelectOperator;
+import org.apache.hadoop.hive.ql.lib.DefaultGraphWalker;
+import org.apache.hadoop.hive.ql.lib.DefaultRuleDispatcher;
+import org.apache.hadoop.hive.ql.lib.Dispatcher;
+import org.apache.hadoop.hive.ql.lib.GraphWalker;
+import org.apache.hadoop.hive.ql.lib.Node;
+import org.apache.hadoop.hive.ql.lib.NodeProcessor;
+import org.apache.hadoop.hive.ql.lib.NodeProcessorCtx;
+import org.apache.hadoop.hive.ql.lib.Rule;
+import org.apache.hadoop.hive.ql.lib.RuleRegExp;
+import org.apache.hadoop.hive.ql.parse.ParseContext;
+import org.apache.hadoop.hive.ql.parse.SemanticException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.plan.FilterDesc;
+import org.apache.hadoop.hive.ql.plan.SelectDesc;
+import org.apache.hadoop.hive.ql.udf.UDFJson;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFBridge;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFGetJsonObject;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFGetJsonObject.SharedScan;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+
+/**
+ * Lets get_json_object calls that read constant paths from the same input
+ * expression share one parse. A query that extracts ten fields from a JSON
+ * column would otherwise scan each row's text ten times. Within each select
+ * and filter, the calls are grouped by input expression, and every call of a
+ * group of two or more is replaced by a GenericUDFGetJsonObject that is also
+ * given the paths of the whole group and the scan it shares with the group.
+ */
+public class SharedJsonParseOptimizer implements Transform {
+
+  @Override
+  public ParseContext transform(ParseContext pctx) throws SemanticException {
+    Map<Rule, NodeProcessor> opRules = new LinkedHashMap<Rule, NodeProcessor>();
+    opRules.put(new RuleRegExp("R1", "SEL%"), new SelectProc());
+    opRules.put(new RuleRegExp("R2", "FIL%"), new FilterProc());
+
+    // The dispatcher fires the processor corresponding to the closest matching
+    // rule; other operators are left alone
+    Dispatcher disp = new DefaultRuleDispatcher(null, opRules, null);
+    GraphWalker ogw = new DefaultGraphWalker(disp);
+
+    ArrayList<Node> topNodes = new ArrayList<Node>();
+    topNodes.addAll(pctx.getTopOps().values());
+    ogw.startWalking(topNodes, null);
+    return pctx;
+  }
+
+  /**
+   * Rewrites the expressions of a select.
+   */
+  static class SelectProc implements NodeProcessor {
+    @Override
+    public Object process(Node nd, Stack<Node> stack, NodeProcessorCtx procCtx,
+        Object... nodeOutputs) throws SemanticException {
+      SelectOperator op = (SelectOperator) nd;
+      SelectDesc conf = op.getConf();
+      List<ExprNodeDesc> colList = conf.getColList();
+      if (conf.isSelStarNoCompute() || colList == null) {
+        return null;
+      }
+      Map<ExprNodeDesc, List<String>> groups = findGroups(colList);
+      if (groups.isEmpty()) {
+        return null;
+      }
+      Map<ExprNodeDesc, ExprNodeDesc> rewritten =
+          new IdentityHashMap<ExprNodeDesc, ExprNodeDesc>();
+      Map<List<String>, SharedScan> scans =
+          new IdentityHashMap<List<String>, SharedScan>();
+      for (int i = 0; i < colList.size(); i++) {
+        ExprNodeDesc expr = colList.get(i);
+        ExprNodeDesc newExpr = rewrite(expr, groups, scans);
+        rewritten.put(expr, newExpr);
+        colList.set(i, newExpr);
+      }
+      if (op.getColumnExprMap() != null) {
+        for (Map.Entry<String, ExprNodeDesc> entry : op.getColumnExprMap()
+            .entrySet()) {
+          ExprNodeDesc newExpr = rewritten.get(entry.getValue());
+          if (newExpr != null) {
+            entry.setValue(newExpr);
+          }
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Rewrites the predicate of a filter.
+   */
+  static class FilterProc implements NodeProcessor {
+    @Override
+    public Object process(Node nd, Stack<Node> stack, NodeProcessorCtx procCtx,
+        Object... nodeOutputs) throws SemanticException {
+      FilterDesc conf = ((FilterOperator) nd).getConf();
+      List<ExprNodeDesc> predicate = new ArrayList<ExprNodeDesc>();
+      predicate.add(conf.getPredicate());
+      Map<ExprNodeDesc, List<String>> groups = findGroups(predicate);
+      if (!groups.isEmpty()) {
+        conf.setPredicate(rewrite(conf.getPredicate(), groups,
+            new IdentityHashMap<List<String>, SharedScan>()));
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Returns true for get_json_object(string, constant path).
+   */
+  private static boolean isGetJsonObject(ExprNodeDesc expr) {
+    if (!(expr instanceof ExprNodeGenericFuncDesc)) {
+      return false;
+    }
+    ExprNodeGenericFuncDesc func = (ExprNodeGenericFuncDesc) expr;
+    if (!(func.getGenericUDF() instanceof GenericUDFBridge)
+        || ((GenericUDFBridge) func.getGenericUDF()).getUdfClass() != UDFJson.class) {
+      return false;
+    }
+    List<ExprNodeDesc> children = func.getChildExprs();
+    return children.size() == 2
+        && children.get(0).getTypeInfo().equals(TypeInfoFactory.stringTypeInfo)
+        && children.get(1) instanceof ExprNodeConstantDesc
+        && ((ExprNodeConstantDesc) children.get(1)).getValue() instanceof String;
+  }
+
+  private static void collect(ExprNodeDesc expr,
+      List<ExprNodeGenericFuncDesc> calls) {
+    if (isGetJsonObject(expr)) {
+      calls.add((ExprNodeGenericFuncDesc) expr);
+    }
+    if (expr.getChildren() != null) {
+      for (ExprNodeDesc child : expr.getChildren()) {
+        collect(child, calls);
+      }
+    }
+  }
+
+  /**
+   * Groups the get_json_object calls in exprs by input expression, and returns
+   * the paths of its group for every call in a group of two or more.
+   */
+  static Map<ExprNodeDesc, List<String>> findGroups(List<ExprNodeDesc> exprs) {
+    List<ExprNodeGenericFuncDesc> calls = new ArrayList<ExprNodeGenericFuncDesc>();
+    for (ExprNodeDesc expr : exprs) {
+      collect(expr, calls);
+    }
+
+    List<List<ExprNodeGenericFuncDesc>> groups =
+        new ArrayList<List<ExprNodeGenericFuncDesc>>();
+    for (ExprNodeGenericFuncDesc call : calls) {
+      ExprNodeDesc input = call.getChildExprs().get(0);
+      List<ExprNodeGenericFuncDesc> group = null;
+      for (List<ExprNodeGenericFuncDesc> g : groups) {
+        if (g.get(0).getChildExprs().get(0).isSame(input)) {
+          group = g;
+          break;
+        }
+      }
+      if (group == null) {
+        group = new ArrayList<ExprNodeGenericFuncDesc>();
+        groups.add(group);
+      }
+      group.add(call);
+    }
+
+    Map<ExprNodeDesc, List<String>> result =
+        new IdentityHashMap<ExprNodeDesc, List<String>>();
+    for (List<ExprNodeGenericFuncDesc> group : groups) {
+      if (group.size() < 2) {
+        continue;
+      }
+      Set<String> paths = new LinkedHashSet<String>();
+      for (ExprNodeGenericFuncDesc call : group) {
+        paths.add((String) ((ExprNodeConstantDesc) call.getChildExprs().get(1))
+            .getValue());
+      }
+      List<String> pathList = new ArrayList<String>(paths);
+      for (ExprNodeGenericFuncDesc call : group) {
+        result.put(call, pathList);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the grouped calls in expr, returning the new expression. The
+   * calls of a group get the same scan from scans, which is filled as the
+   * groups are met.
+   */
+  static ExprNodeDesc rewrite(ExprNodeDesc expr,
+      Map<ExprNodeDesc, List<String>> groups,
+      Map<List<String>, SharedScan> scans) {
+    if (!(expr instanceof ExprNodeGenericFuncDesc)) {
+      return expr;
+    }
+    ExprNodeGenericFuncDesc func = (ExprNodeGenericFuncDesc) expr;
+    List<ExprNodeDesc> children = new ArrayList<ExprNodeDesc>();
+    for (ExprNodeDesc child : func.getChildExprs()) {
+      children.add(rewrite(child, groups, scans));
+    }
+    func.setChildExprs(children);
+
+    List<String> paths = groups.get(func);
+    if (paths == null) {
+      return func;
+    }
+    List<ExprNodeDesc> args = new ArrayList<ExprNodeDesc>(children);
+    for (String path : paths) {
+      args.add(new ExprNodeConstantDesc(TypeInfoFactory.stringTypeInfo, path));
+    }
+    SharedScan scan = scans.get(paths);
+    if (scan == null) {
+      scan = new SharedScan();
+      scans.put(paths, scan);
+    }
+    GenericUDFGetJsonObject udf = new GenericUDFGetJsonObject();
+    udf.setSharedScan(scan);
+    return new ExprNodeGenericFuncDesc(TypeInfoFactory.stringTypeInfo, udf,
+        args);
+  }
+}
@@ -0,0 +1,437 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.optimizer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.ql.exec.FileSinkOperator;
+import org.apache.hadoop.hive.ql.exec.GroupByOperator;
+import org.apache.hadoop.hive.ql.exec.LimitOperator;
+import org.apache.hadoop.hive.ql.exec.Operator;
+import org.apache.hadoop.hive.ql.exec.ReduceSinkOperator;
+import org.apache.hadoop.hive.ql.exec.SelectOperator;
+import org.apache.hadoop.hive.ql.exec.TableScanOperator;
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.hooks.ReadEntity;
+import org.apache.hadoop.hive.ql.metadata.Partition;
+import org.apache.hadoop.hive.ql.metadata.Table;
+import org.apache.hadoop.hive.ql.optimizer.ppr.PartitionPruner;
+import org.apache.hadoop.hive.ql.parse.ParseContext;
+import org.apache.hadoop.hive.ql.parse.PrunedPartitionList;
+import org.apache.hadoop.hive.ql.parse.SemanticException;
+import org.apache.hadoop.hive.ql.plan.AggregationDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.GroupByDesc;
+import org.apache.hadoop.hive.ql.plan.SelectDesc;
+import org.apache.hadoop.hive.ql.stats.StatsSetupConst;
+import org.apache.hadoop.hive.serde.Constants;
+import org.apache.hadoop.io.Text;
+
+/**
+ * StatsOptimizer answers simple aggregation queries from the statistics
+ * stored in the metastore instead of scanning the table.
+ *
+ * A query qualifies when it reads a single native table, has no WHERE clause
+ * other than predicates on partition columns, has no GROUP BY keys, and only
+ * computes count(*), count of a constant, count/min/max of a partition column.
+ * The row counts come from the numRows statistic of the table or of each
+ * pruned partition, and are only trusted if the numFiles and totalSize
+ * statistics still match the files on disk. Modification times are not
+ * checked, so a rewrite that keeps the same number of files and total size
+ * goes unnoticed. When the query can be answered, the single result row is
+ * kept in the parse context for the fetch task to return, and the operator
+ * tree is dropped, so that only the fetch task remains.
+ *
+ * If anything does not match the expected plan shape, or the statistics are
+ * missing or stale, the plan is left unchanged.
+ */
+public class StatsOptimizer implements Transform {
+
+  private static final Log LOG = LogFactory.getLog(StatsOptimizer.class
+      .getName());
+
+  public StatsOptimizer() {
+  }
+
+  @Override
+  public ParseContext transform(ParseContext pctx) throws SemanticException {
+    if (pctx.getTopOps().size() != 1 || !pctx.getQB().getIsQuery()
+        || pctx.getQB().isCTAS() || pctx.getLoadFileWork().size() != 1
+        || !pctx.getLoadTableWork().isEmpty()) {
+      return pctx;
+    }
+
+    Operator<? extends Serializable> topOp = pctx.getTopOps().values()
+        .iterator().next();
+    if (!(topOp instanceof TableScanOperator)) {
+      return pctx;
+    }
+    TableScanOperator ts = (TableScanOperator) topOp;
+    Table tbl = pctx.getTopToTable().get(ts);
+    if (tbl == null || tbl.isNonNative() || tbl.isView()
+        || pctx.getOpToSamplePruner().get(ts) != null) {
+      return pctx;
+    }
+
+    try {
+      ArrayList<String> row = answer(pctx, ts, tbl);
+      if (row == null) {
+        return pctx;
+      }
+      if (row.size() != pctx.getLoadFileWork().get(0).getColumns()
+          .split(",").length) {
+        return pctx;
+      }
+      pctx.setResultRow(row);
+    } catch (Exception e) {
+      // fall back to running the query
+      LOG.warn("Failed to answer query from statistics: "
+          + org.apache.hadoop.util.StringUtils.stringifyException(e));
+      return pctx;
+    }
+
+    LOG.info("Answered query on " + tbl.getTableName()
+        + " from metastore statistics");
+    pctx.getTopOps().clear();
+    return pctx;
+  }
+
+  /**
+   * Compute the result row of the query rooted at the table scan, or return
+   * null if the query cannot be answered from the statistics.
+   */
+  private ArrayList<String> answer(ParseContext pctx, TableScanOperator ts,
+      Table tbl) throws Exception {
+    Operator<? extends Serializable> op = onlyChild(ts);
+
+    // optional select on the map side, added by the column pruner
+    SelectOperator mapSel = null;
+    if (op instanceof SelectOperator) {
+      mapSel = (SelectOperator) op;
+      op = onlyChild(op);
+    }
+
+    // map-side aggregation followed by the final aggregation
+    if (!(op instanceof GroupByOperator)) {
+      return null;
+    }
+    GroupByDesc mapGby = ((GroupByOperator) op).getConf();
+    if (mapGby.getMode() != GroupByDesc.Mode.HASH
+        || !mapGby.getKeys().isEmpty()) {
+      return null;
+    }
+    op = onlyChild(op);
+    if (!(op instanceof ReduceSinkOperator)) {
+      return null;
+    }
+    op = onlyChild(op);
+    if (!(op instanceof GroupByOperator)) {
+      return null;
+    }
+    GroupByDesc gby = ((GroupByOperator) op).getConf();
+    if (gby.getMode() != GroupByDesc.Mode.MERGEPARTIAL
+        || !gby.getKeys().isEmpty()
+        || gby.getAggregators().size() != mapGby.getAggregators().size()) {
+      return null;
+    }
+    op = onlyChild(op);
+
+    // optional select of the aggregates, then any limits, then the file sink
+    SelectOperator sel = null;
+    if (op instanceof SelectOperator) {
+      sel = (SelectOperator) op;
+      op = onlyChild(op);
+    }
+    while (op instanceof LimitOperator) {
+      if (((LimitOperator) op).getConf().getLimit() <= 0) {
+        return null;
+      }
+      op = onlyChild(op);
+    }
+    if (!(op instanceof FileSinkOperator) || op.getChildOperators() != null
+        && !op.getChildOperators().isEmpty()) {
+      return null;
+    }
+
+    // find the partitions read by the query
+    List<Partition> parts = null;
+    if (tbl.isPartitioned()) {
+      ExprNodeDesc prunerExpr = pctx.getOpToPartPruner().get(ts);
+      if (!PartitionPruner.onlyContainsPartnCols(tbl, prunerExpr)) {
+        return null;
+      }
+      PrunedPartitionList partsList = pctx.getOpToPartList().get(ts);
+      if (partsList == null) {
+        String alias = pctx.getTopOps().keySet().iterator().next();
+        partsList = PartitionPruner.prune(tbl, prunerExpr, pctx.getConf(),
+            alias, pctx.getPrunedPartitions());
+        pctx.getOpToPartList().put(ts, partsList);
+      }
+      if (!partsList.getUnknownPartns().isEmpty()) {
+        return null;
+      }
+      parts = new ArrayList<Partition>(partsList.getConfirmedPartns());
+    }
+
+    // compute the aggregates
+    ArrayList<String> aggrs = new ArrayList<String>();
+    for (AggregationDesc aggr : mapGby.getAggregators()) {
+      if (!evaluate(pctx.getConf(), aggr, mapSel, tbl, parts, aggrs)) {
+        return null;
+      }
+    }
+
+    // project the final select
+    ArrayList<String> row = aggrs;
+    if (sel != null && !sel.getConf().isSelStarNoCompute()) {
+      row = new ArrayList<String>();
+      for (ExprNodeDesc expr : sel.getConf().getColList()) {
+        if (!(expr instanceof ExprNodeColumnDesc)) {
+          return null;
+        }
+        int pos = gby.getOutputColumnNames().indexOf(
+            ((ExprNodeColumnDesc) expr).getColumn());
+        if (pos < 0) {
+          return null;
+        }
+        row.add(aggrs.get(pos));
+      }
+    }
+
+    // record what was read, since no table scan will run
+    if (pctx.getSemanticInputs() != null) {
+      if (parts == null) {
+        pctx.getSemanticInputs().add(new ReadEntity(tbl));
+      } else {
+        for (Partition part : parts) {
+          pctx.getSemanticInputs().add(new ReadEntity(part));
+        }
+      }
+    }
+    return row;
+  }
+
+  /**
+   * Evaluate one aggregation from the statistics and add its value to
+   * result, as a string, or null for an aggregate over no rows. Return false
+   * if the aggregation cannot be answered from the statistics.
+   */
+  private boolean evaluate(HiveConf conf, AggregationDesc aggr,
+      SelectOperator mapSel, Table tbl, List<Partition> parts,
+      List<String> result) throws Exception {
+    if (aggr.getDistinct() || aggr.getParameters().size() > 1) {
+      return false;
+    }
+    String name = aggr.getGenericUDAFName().toLowerCase();
+    String partCol = null;
+    if (aggr.getParameters().size() == 1) {
+      ExprNodeDesc param = aggr.getParameters().get(0);
+      if (param instanceof ExprNodeConstantDesc) {
+        if (!name.equals("count")
+            || ((ExprNodeConstantDesc) param).getValue() == null) {
+          return false;
+        }
+      } else {
+        partCol = getPartitionColumn(param, mapSel, tbl);
+        if (partCol == null) {
+          return false;
+        }
+      }
+    } else if (!name.equals("count")) {
+      return false;
+    }
+
+    if (name.equals("count")) {
+      long count = 0;
+      if (parts == null) {
+        long rows = getRowCount(conf, tbl.getParameters(), tbl.getPath());
+        if (rows < 0) {
+          return false;
+        }
+        count = rows;
+      } else {
+        for (Partition part : parts) {
+          if (partCol != null && isDefaultPartition(conf, part, tbl, partCol)) {
+            // the partition column is null for these rows
+            continue;
+          }
+          long rows = getRowCount(conf, part.getParameters(), part
+              .getPartitionPath());
+          if (rows < 0) {
+            return false;
+          }
+          count += rows;
+        }
+      }
+      result.add(String.valueOf(count));
+      return true;
+    }
+
+    if (!name.equals("max") && !name.equals("min")) {
+      return false;
+    }
+    boolean max = name.equals("max");
+    String type = getPartitionColumnType(tbl, partCol);
+    boolean integral = type.equals(Constants.TINYINT_TYPE_NAME)
+        || type.equals(Constants.SMALLINT_TYPE_NAME)
+        || type.equals(Constants.INT_TYPE_NAME)
+        || type.equals(Constants.BIGINT_TYPE_NAME);
+    if (!integral && !type.equals(Constants.STRING_TYPE_NAME)) {
+      return false;
+    }
+
+    String value = null;
+    int index = getPartitionColumnIndex(tbl, partCol);
+    for (Partition part : parts) {
+      if (isDefaultPartition(conf, part, tbl, partCol)) {
+        continue;
+      }
+      // partitions without rows do not contribute to min/max
+      long rows = getRowCount(conf, part.getParameters(), part
+          .getPartitionPath());
+      if (rows < 0) {
+        return false;
+      }
+      if (rows == 0) {
+        continue;
+      }
+      String partValue = part.getValues().get(index);
+      if (value == null) {
+        value = partValue;
+        continue;
+      }
+      // strings compare by their UTF-8 bytes, as Text does
+      int cmp = integral ? compareLong(Long.parseLong(partValue), Long
+          .parseLong(value)) : new Text(partValue).compareTo(new Text(value));
+      if (max ? cmp > 0 : cmp < 0) {
+        value = partValue;
+      }
+    }
+    result.add(value);
+    return true;
+  }
+
+  private static int compareLong(long a, long b) {
+    return a < b ? -1 : (a == b ? 0 : 1);
+  }
+
+  /**
+   * Resolve an aggregation parameter to a partition column of the table, or
+   * return null if it is anything else.
+   */
+  private String getPartitionColumn(ExprNodeDesc param,
+      SelectOperator mapSel, Table tbl) {
+    if (!(param instanceof ExprNodeColumnDesc)) {
+      return null;
+    }
+    String column = ((ExprNodeColumnDesc) param).getColumn();
+    if (mapSel != null && !mapSel.getConf().isSelStarNoCompute()) {
+      SelectDesc selDesc = mapSel.getConf();
+      int pos = selDesc.getOutputColumnNames().indexOf(column);
+      if (pos < 0) {
+        return null;
+      }
+      ExprNodeDesc expr = selDesc.getColList().get(pos);
+      if (!(expr instanceof ExprNodeColumnDesc)) {
+        return null;
+      }
+      column = ((ExprNodeColumnDesc) expr).getColumn();
+    }
+    return tbl.isPartitionKey(column) ? column : null;
+  }
+
+  private int getPartitionColumnIndex(Table tbl, String partCol) {
+    List<FieldSchema> partCols = tbl.getPartCols();
+    for (int i = 0; i < partCols.size(); i++) {
+      if (partCols.get(i).getName().equalsIgnoreCase(partCol)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private String getPartitionColumnType(Table tbl, String partCol) {
+    return tbl.getPartCols().get(getPartitionColumnIndex(tbl, partCol))
+        .getType().toLowerCase();
+  }
+
+  private boolean isDefaultPartition(HiveConf conf, Partition part,
+      Table tbl, String partCol) {
+    String value = part.getValues().get(getPartitionColumnIndex(tbl, partCol));
+    return value == null
+        || value.equals(HiveConf.getVar(conf,
+        HiveConf.ConfVars.DEFAULTPARTITIONNAME));
+  }
+
+  /**
+   * Return the row count recorded in the parameters, or -1 if the statistics
+   * are missing or no longer describe the files under the path.
+   */
+  private long getRowCount(HiveConf conf, Map<String, String> params,
+      Path path) throws Exception {
+    if (params == null || !params.containsKey(StatsSetupConst.ROW_COUNT)
+        || !params.containsKey(StatsSetupConst.NUM_FILES)
+        || !params.containsKey(StatsSetupConst.TOTAL_SIZE)) {
+      return -1;
+    }
+    long rows = Long.parseLong(params.get(StatsSetupConst.ROW_COUNT));
+    int numFiles = Integer.parseInt(params.get(StatsSetupConst.NUM_FILES));
+    long totalSize = Long.parseLong(params.get(StatsSetupConst.TOTAL_SIZE));
+
+    FileSystem fs = path.getFileSystem(conf);
+    FileStatus[] files = fs.exists(path) ? Utilities.getFileStatusRecurse(
+        path, 1, fs) : null;
+    int actualFiles = 0;
+    long actualSize = 0;
+    if (files != null) {
+      for (FileStatus file : files) {
+        actualFiles++;
+        actualSize += file.getLen();
+      }
+    }
+    if (actualFiles != numFiles || actualSize != totalSize) {
+      LOG.info("Statistics of " + path + " are stale");
+      return -1;
+    }
+    return rows;
+  }
+
+  private static Operator<? extends Serializable> onlyChild(
+      Operator<? extends Serializable> op) {
+    Collection<Operator<? extends Serializable>> children = op
+        .getChildOperators();
+    if (children == null || children.size() != 1) {
+      return null;
+    }
+    return children.iterator().next();
+  }
+}
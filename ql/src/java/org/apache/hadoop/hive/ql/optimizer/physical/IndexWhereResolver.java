@@ -0,0 +1,231 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.optimizer.physical;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.api.Index;
+import org.apache.hadoop.hive.ql.exec.ConditionalTask;
+import org.apache.hadoop.hive.ql.exec.FilterOperator;
+import org.apache.hadoop.hive.ql.exec.Operator;
+import org.apache.hadoop.hive.ql.exec.TableScanOperator;
+import org.apache.hadoop.hive.ql.exec.Task;
+import org.apache.hadoop.hive.ql.hooks.ReadEntity;
+import org.apache.hadoop.hive.ql.index.HiveIndexHandler;
+import org.apache.hadoop.hive.ql.lib.DefaultGraphWalker;
+import org.apache.hadoop.hive.ql.lib.Dispatcher;
+import org.apache.hadoop.hive.ql.lib.GraphWalker;
+import org.apache.hadoop.hive.ql.lib.Node;
+import org.apache.hadoop.hive.ql.metadata.Hive;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.metadata.HiveUtils;
+import org.apache.hadoop.hive.ql.metadata.Table;
+import org.apache.hadoop.hive.ql.parse.ParseContext;
+import org.apache.hadoop.hive.ql.parse.SemanticException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.MapredWork;
+
+/**
+ * An implementation of PhysicalPlanResolver. For each map-reduce task reading
+ * a single filtered table, it asks the handlers of the indexes of the table
+ * for a query selecting the parts of the input which may satisfy the filter.
+ * The first index which can be used becomes a parent stage of the task, and
+ * the task only reads what the index query returned.
+ */
+public class IndexWhereResolver implements PhysicalPlanResolver {
+
+  private static final Log LOG = LogFactory.getLog(IndexWhereResolver.class
+      .getName());
+
+  @Override
+  public PhysicalContext resolve(PhysicalContext pctx) throws SemanticException {
+    final List<Task<? extends Serializable>> candidates =
+      new ArrayList<Task<? extends Serializable>>();
+    Dispatcher disp = new Dispatcher() {
+      @Override
+      public Object dispatch(Node nd, Stack<Node> stack, Object... nodeOutputs)
+          throws SemanticException {
+        Task<? extends Serializable> task = (Task<? extends Serializable>) nd;
+        if (task.isMapRedTask() && !(task instanceof ConditionalTask)
+            && !candidates.contains(task)) {
+          candidates.add(task);
+        }
+        return null;
+      }
+    };
+    GraphWalker ogw = new DefaultGraphWalker(disp);
+    ArrayList<Node> topNodes = new ArrayList<Node>();
+    topNodes.addAll(pctx.rootTasks);
+    ogw.startWalking(topNodes, null);
+
+    // the plan is changed once the walk is over
+    for (Task<? extends Serializable> task : candidates) {
+      try {
+        useIndex(pctx, task);
+      } catch (HiveException e) {
+        throw new SemanticException(e);
+      }
+    }
+    return pctx;
+  }
+
+  private void useIndex(PhysicalContext pctx, Task<? extends Serializable> task)
+      throws HiveException {
+    MapredWork work = (MapredWork) task.getWork();
+    if (work.getInputformat() != null || work.getAliasToWork().size() != 1) {
+      return;
+    }
+    if (!pctx.rootTasks.contains(task) && (task.getParentTasks() == null
+        || task.getParentTasks().isEmpty())) {
+      // e.g. one of the tasks of a conditional task
+      return;
+    }
+    Operator<? extends Serializable> op =
+      work.getAliasToWork().values().iterator().next();
+    if (!(op instanceof TableScanOperator)) {
+      return;
+    }
+    TableScanOperator tableScan = (TableScanOperator) op;
+    ParseContext parseCtx = pctx.getParseContext();
+    Table tbl = parseCtx.getTopToTable().get(tableScan);
+    ExprNodeDesc predicate = getPredicate(tableScan);
+    if (tbl == null || tbl.isNonNative() || predicate == null) {
+      return;
+    }
+
+    List<Index> indexes = Hive.get().getIndexes(tbl.getDbName(),
+        tbl.getTableName(), (short) -1);
+    if (indexes == null || indexes.isEmpty()) {
+      return;
+    }
+    long minSize = pctx.getConf().getLongVar(
+        HiveConf.ConfVars.HIVEOPTINDEXFILTER_COMPACT_MINSIZE);
+    if (getInputSize(pctx.getConf(), work) < minSize) {
+      return;
+    }
+
+    for (Index index : indexes) {
+      HiveIndexHandler handler = HiveUtils.getIndexHandler(pctx.getConf(),
+          index.getIndexHandlerClass());
+      Set<ReadEntity> inputs = new HashSet<ReadEntity>();
+      List<Task<? extends Serializable>> indexTasks = handler.generateIndexQuery(
+          index, predicate, tbl, work, pctx.getContext().getMRTmpFileURI(),
+          inputs);
+      if (indexTasks == null) {
+        continue;
+      }
+      LOG.info("Using index " + index.getIndexName() + " for "
+          + tbl.getTableName());
+      if (parseCtx.getSemanticInputs() != null) {
+        parseCtx.getSemanticInputs().addAll(inputs);
+      }
+      addParentTasks(pctx, task, indexTasks);
+      return;
+    }
+  }
+
+  /**
+   * @return the predicate applied right after the table scan, or null
+   */
+  private ExprNodeDesc getPredicate(TableScanOperator tableScan) {
+    if (tableScan.getConf().getFilterExpr() != null) {
+      return tableScan.getConf().getFilterExpr();
+    }
+    List<Operator<? extends Serializable>> children =
+      tableScan.getChildOperators();
+    if (children != null && children.size() == 1
+        && children.get(0) instanceof FilterOperator) {
+      return ((FilterOperator) children.get(0)).getConf().getPredicate();
+    }
+    return null;
+  }
+
+  private long getInputSize(HiveConf conf, MapredWork work)
+      throws HiveException {
+    long size = 0;
+    try {
+      for (String path : work.getPathToAliases().keySet()) {
+        Path p = new Path(path);
+        FileSystem fs = p.getFileSystem(conf);
+        if (fs.exists(p)) {
+          size += fs.getContentSummary(p).getLength();
+        }
+      }
+    } catch (IOException e) {
+      throw new HiveException(e);
+    }
+    return size;
+  }
+
+  /**
+   * Makes task run after the tasks of the index query, in place of its
+   * current parents.
+   */
+  private void addParentTasks(PhysicalContext pctx,
+      Task<? extends Serializable> task,
+      List<Task<? extends Serializable>> indexRootTasks) {
+    List<Task<? extends Serializable>> leaves =
+      new ArrayList<Task<? extends Serializable>>();
+    getLeafTasks(indexRootTasks, leaves);
+
+    if (pctx.rootTasks.contains(task)) {
+      pctx.removeFromRootTask(task);
+      for (Task<? extends Serializable> root : indexRootTasks) {
+        pctx.addToRootTask(root);
+      }
+    } else {
+      List<Task<? extends Serializable>> parents =
+        new ArrayList<Task<? extends Serializable>>(task.getParentTasks());
+      for (Task<? extends Serializable> parent : parents) {
+        parent.removeDependentTask(task);
+        for (Task<? extends Serializable> root : indexRootTasks) {
+          parent.addDependentTask(root);
+        }
+      }
+    }
+    for (Task<? extends Serializable> leaf : leaves) {
+      leaf.addDependentTask(task);
+    }
+  }
+
+  private void getLeafTasks(List<Task<? extends Serializable>> tasks,
+      List<Task<? extends Serializable>> leaves) {
+    for (Task<? extends Serializable> task : tasks) {
+      List<Task<? extends Serializable>> children = task.getDependentTasks();
+      if (children == null || children.isEmpty()) {
+        if (!leaves.contains(task)) {
+          leaves.add(task);
+        }
+      } else {
+        getLeafTasks(children, leaves);
+      }
+    }
+  }
+}
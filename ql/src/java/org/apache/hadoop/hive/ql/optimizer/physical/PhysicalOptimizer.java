@@ -53,6 +53,9 @@ public class PhysicalOptimizer {
       resolvers.add(new CommonJoinResolver());
     }
     resolvers.add(new MapJoinResolver());
+    if (hiveConf.getBoolVar(HiveConf.ConfVars.HIVEOPTINDEXFILTER)) {
+      resolvers.add(new IndexWhereResolver());
+    }
   }
 
   /**
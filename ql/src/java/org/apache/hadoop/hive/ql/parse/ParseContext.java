@@ -19,7 +19,9 @@
 package org.apache.hadoop.hive.ql.parse;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +36,7 @@ import org.apache.hadoop.hive.ql.exec.MapJoinOperator;
 import org.apache.hadoop.hive.ql.exec.Operator;
 import org.apache.hadoop.hive.ql.exec.TableScanOperator;
 import org.apache.hadoop.hive.ql.hooks.LineageInfo;
+import org.apache.hadoop.hive.ql.hooks.ReadEntity;
 import org.apache.hadoop.hive.ql.metadata.Table;
 import org.apache.hadoop.hive.ql.optimizer.unionproc.UnionProcContext;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
@@ -91,6 +94,13 @@ public class ParseContext {
   // a map-reduce job
   private boolean hasNonPartCols;
 
+  // the entities read by the query; transformations which stop reading a
+  // table through a table scan add the entities they read instead
+  private HashSet<ReadEntity> semanticInputs;
+
+  // the result row of a query answered without reading its table, or null
+  private ArrayList<String> resultRow;
+
   public ParseContext() {
   }
 
@@ -479,6 +489,37 @@ public class ParseContext {
     return lInfo;
   }
 
+  /**
+   * @return the entities read by the query
+   */
+  public HashSet<ReadEntity> getSemanticInputs() {
+    return semanticInputs;
+  }
+
+  /**
+   * @param semanticInputs
+   *          the entities read by the query
+   */
+  public void setSemanticInputs(HashSet<ReadEntity> semanticInputs) {
+    this.semanticInputs = semanticInputs;
+  }
+
+  /**
+   * @return the result row of a query answered without reading its table,
+   *         or null
+   */
+  public ArrayList<String> getResultRow() {
+    return resultRow;
+  }
+
+  /**
+   * @param resultRow
+   *          the result row of the query, as strings
+   */
+  public void setResultRow(ArrayList<String> resultRow) {
+    this.resultRow = resultRow;
+  }
+
   public Map<MapJoinOperator, QBJoinTree> getMapJoinContext() {
     return mapJoinContext;
   }
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,17 +53,21 @@ import org.apache.hadoop.hive.ql.exec.ConditionalTask;
 import org.apache.hadoop.hive.ql.exec.ExecDriver;
 import org.apache.hadoop.hive.ql.exec.FetchTask;
 import org.apache.hadoop.hive.ql.exec.FileSinkOperator;
+import org.apache.hadoop.hive.ql.exec.FilterOperator;
 import org.apache.hadoop.hive.ql.exec.FunctionInfo;
 import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
 import org.apache.hadoop.hive.ql.exec.GroupByOperator;
 import org.apache.hadoop.hive.ql.exec.JoinOperator;
+import org.apache.hadoop.hive.ql.exec.LimitOperator;
 import org.apache.hadoop.hive.ql.exec.MapRedTask;
 import org.apache.hadoop.hive.ql.exec.Operator;
 import org.apache.hadoop.hive.ql.exec.OperatorFactory;
+import org.apache.hadoop.hive.ql.exec.PartitionKeySampler;
 import org.apache.hadoop.hive.ql.exec.RecordReader;
 import org.apache.hadoop.hive.ql.exec.RecordWriter;
 import org.apache.hadoop.hive.ql.exec.ReduceSinkOperator;
 import org.apache.hadoop.hive.ql.exec.RowSchema;
+import org.apache.hadoop.hive.ql.exec.SelectOperator;
 import org.apache.hadoop.hive.ql.exec.TableScanOperator;
 import org.apache.hadoop.hive.ql.exec.Task;
 import org.apache.hadoop.hive.ql.exec.TaskFactory;
@@ -146,6 +151,7 @@ import org.apache.hadoop.hive.ql.plan.UDTFDesc;
 import org.apache.hadoop.hive.ql.plan.UnionDesc;
 import org.apache.hadoop.hive.ql.session.SessionState;
 import org.apache.hadoop.hive.ql.session.SessionState.ResourceType;
+import org.apache.hadoop.hive.ql.stats.StatsSetupConst;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFEvaluator;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDAFEvaluator.Mode;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFHash;
@@ -187,6 +193,7 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
   private HashMap<TableScanOperator, sampleDesc> opToSamplePruner;
   Map<GroupByOperator, Set<String>> groupOpToInputTables;
   Map<String, PrunedPartitionList> prunedPartitions;
+  private ArrayList<String> resultRow;
   private List<FieldSchema> resultSchema;
   private CreateViewDesc createVwDesc;
   private ASTNode viewSelect;
@@ -234,6 +241,7 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
     opParseCtx.clear();
     groupOpToInputTables.clear();
     prunedPartitions.clear();
+    resultRow = null;
   }
 
   public void init(ParseContext pctx) {
@@ -254,15 +262,18 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
     qb = pctx.getQB();
     groupOpToInputTables = pctx.getGroupOpToInputTables();
     prunedPartitions = pctx.getPrunedPartitions();
+    resultRow = pctx.getResultRow();
     setLineageInfo(pctx.getLineageInfo());
   }
 
   public ParseContext getParseContext() {
-    return new ParseContext(conf, qb, ast, opToPartPruner, opToPartList, topOps,
-        topSelOps, opParseCtx, joinContext, topToTable, loadTableWork,
-        loadFileWork, ctx, idToTableNameMap, destTableId, uCtx,
+    ParseContext pctx = new ParseContext(conf, qb, ast, opToPartPruner,
+        opToPartList, topOps, topSelOps, opParseCtx, joinContext, topToTable,
+        loadTableWork, loadFileWork, ctx, idToTableNameMap, destTableId, uCtx,
         listMapJoinOpsNoReducer, groupOpToInputTables, prunedPartitions,
         opToSamplePruner);
+    pctx.setSemanticInputs(inputs);
+    return pctx;
   }
 
   @SuppressWarnings("nls")
@@ -3113,6 +3124,60 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
     return true;
   }
 
+  /**
+   * Decide whether a group by with a single distinct aggregation should be
+   * planned in two stages even though the data is not known to be skewed.
+   *
+   * With one stage, all rows for a grouping key, and all rows of the query if
+   * there is no grouping key, go to the same reducer, which has to go through
+   * every distinct value. With two stages, the first stage sprays by the
+   * grouping key and the distinct key, so that duplicates are removed on many
+   * reducers, and the second stage only merges one partial result per reducer
+   * and grouping key. This costs an extra map-reduce job, so it is only chosen
+   * when the row count statistics of the input table are above
+   * hive.groupby.distinct.twostage.threshold. The row count of the table is an
+   * upper bound of the number of distinct values, and of the rows read if the
+   * query only reads some partitions.
+   */
+  private boolean optimizeDistinctTwoStage(String dest, QB qb) {
+    if (!HiveConf.getBoolVar(conf,
+        HiveConf.ConfVars.HIVEGROUPBYDISTINCTTWOSTAGE)) {
+      return false;
+    }
+    if (qb.getParseInfo().getDistinctFuncExprsForClause(dest).size() != 1) {
+      return false;
+    }
+
+    // only estimate the input size of a query block reading a single table
+    if (qb.getTabAliases().size() != 1 || !qb.getSubqAliases().isEmpty()
+        || qb.getParseInfo().getJoinExpr() != null) {
+      return false;
+    }
+    Table tab = qb.getMetaData().getTableForAlias(
+        qb.getTabAliases().iterator().next());
+    if (tab == null || tab.getParameters() == null) {
+      return false;
+    }
+    String rows = tab.getParameters().get(StatsSetupConst.ROW_COUNT);
+    if (rows == null) {
+      return false;
+    }
+    long numRows;
+    try {
+      numRows = Long.parseLong(rows);
+    } catch (NumberFormatException e) {
+      return false;
+    }
+    long threshold = HiveConf.getLongVar(conf,
+        HiveConf.ConfVars.HIVEGROUPBYDISTINCTTWOSTAGETHRESHOLD);
+    if (numRows < threshold) {
+      return false;
+    }
+    LOG.info("Planning distinct aggregation for " + dest + " in two stages: "
+        + tab.getTableName() + " has " + numRows + " rows");
+    return true;
+  }
+
   /**
    * Generate a Group-By plan using 1 map-reduce job. First perform a map-side
    * partial aggregation (to reduce the amount of data), at this point of time,
@@ -4251,10 +4316,16 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
       sortExprs = qb.getParseInfo().getSortByForClause(dest);
     }
 
+    boolean totalOrder = false;
+    int topN = -1;
     if (sortExprs == null) {
       sortExprs = qb.getParseInfo().getOrderByForClause(dest);
       if (sortExprs != null) {
-        assert numReducers == 1;
+        // more than one reducer is only allowed when the keys are sampled and
+        // range partitioned
+        assert numReducers == 1
+            || conf.getBoolVar(HiveConf.ConfVars.HIVESAMPLINGFORORDERBY);
+        totalOrder = numReducers != 1;
         // in strict mode, in the presence of order by, limit must be specified
         Integer limit = qb.getParseInfo().getDestLimit(dest);
         if (conf.getVar(HiveConf.ConfVars.HIVEMAPREDMODE).equalsIgnoreCase(
@@ -4263,6 +4334,12 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
           throw new SemanticException(ErrorMsg.NO_LIMIT_WITH_ORDERBY
               .getMsg(sortExprs));
         }
+        // the reducer only returns the first rows, so the mappers only need
+        // to send their own first rows
+        if (limit != null && conf.getBoolVar(HiveConf.ConfVars.HIVEOPTTOPN)
+            && limit.intValue() <= conf.getIntVar(HiveConf.ConfVars.HIVEOPTTOPNMAXROWS)) {
+          topN = limit.intValue();
+        }
       }
     }
 
@@ -4306,9 +4383,11 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
     for (int i = 0; i < valueCols.size(); i++) {
       outputColumns.add(getColumnInternalName(i));
     }
-    Operator interim = putOpInsertMap(OperatorFactory.getAndMakeChild(PlanUtils
-        .getReduceSinkDesc(sortCols, valueCols, outputColumns, false, -1,
-        partitionCols, order.toString(), numReducers),
+    ReduceSinkDesc rsDesc = PlanUtils.getReduceSinkDesc(sortCols, valueCols,
+        outputColumns, false, -1, partitionCols, order.toString(), numReducers);
+    rsDesc.setTotalOrder(totalOrder);
+    rsDesc.setTopN(topN);
+    Operator interim = putOpInsertMap(OperatorFactory.getAndMakeChild(rsDesc,
         new RowSchema(inputRR.getColumnInfos()), input), inputRR);
     interim.setColumnExprMap(colExprMap);
 
@@ -5404,16 +5483,16 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
           // insert a select operator here used by the ColumnPruner to reduce
           // the data to shuffle
           curr = insertSelectAllPlanForGroupBy(dest, curr);
+          boolean twoStage = conf.getVar(HiveConf.ConfVars.HIVEGROUPBYSKEW)
+              .equalsIgnoreCase("true") || optimizeDistinctTwoStage(dest, qb);
           if (conf.getVar(HiveConf.ConfVars.HIVEMAPSIDEAGGREGATE)
               .equalsIgnoreCase("true")) {
-            if (conf.getVar(HiveConf.ConfVars.HIVEGROUPBYSKEW)
-                .equalsIgnoreCase("false")) {
+            if (!twoStage) {
               curr = genGroupByPlanMapAggr1MR(dest, qb, curr);
             } else {
               curr = genGroupByPlanMapAggr2MR(dest, qb, curr);
             }
-          } else if (conf.getVar(HiveConf.ConfVars.HIVEGROUPBYSKEW)
-              .equalsIgnoreCase("true")) {
+          } else if (twoStage) {
             curr = genGroupByPlan2MR(dest, qb, curr);
           } else {
             curr = genGroupByPlan1MR(dest, qb, curr);
@@ -5438,9 +5517,14 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
 
           int numReducers = -1;
 
-          // Use only 1 reducer if order by is present
+          // Use only 1 reducer if order by is present, unless the sort keys
+          // can be sampled and range partitioned across many reducers. A
+          // limit has to be applied on a single reducer, so keep one then.
           if (qbp.getOrderByForClause(dest) != null) {
-            numReducers = 1;
+            if (limit != null
+                || !conf.getBoolVar(HiveConf.ConfVars.HIVESAMPLINGFORORDERBY)) {
+              numReducers = 1;
+            }
           }
 
           curr = genReduceSinkPlan(dest, qb, curr, numReducers);
@@ -6146,6 +6230,110 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
     }
   }
 
+  private PrunedPartitionList getPrunedPartitions(TableScanOperator ts)
+      throws SemanticException {
+    PrunedPartitionList partsList = null;
+    try {
+      partsList = opToPartList.get(ts);
+      if (partsList == null) {
+        partsList = PartitionPruner.prune(topToTable.get(ts),
+            opToPartPruner.get(ts), conf, (String) topOps.keySet()
+            .toArray()[0], prunedPartitions);
+        opToPartList.put(ts, partsList);
+      }
+    } catch (HiveException e) {
+      // Has to use full name to make sure it does not conflict with
+      // org.apache.commons.lang.StringUtils
+      LOG.error(org.apache.hadoop.util.StringUtils.stringifyException(e));
+      throw new SemanticException(e.getMessage(), e);
+    }
+    return partsList;
+  }
+
+  /**
+   * A query that only filters and projects the rows of a single table before
+   * its LIMIT is run by the fetch task itself: the rows are read and pushed
+   * through the operators until the limit is reached, so only as much of the
+   * table is scanned as is needed for the result.
+   *
+   * @return the fetch work, or null if the query needs a map-reduce job
+   */
+  private FetchWork genLimitFetchWork(QB qb) throws SemanticException {
+    QBParseInfo qbParseInfo = qb.getParseInfo();
+    int limit = qbParseInfo.getOuterQueryLimit();
+    if (!qb.getIsQuery() || limit < 0
+        || limit > conf.getIntVar(HiveConf.ConfVars.HIVEFETCHTASKCONVERSIONMAXROWS)
+        || topOps.size() != 1) {
+      return null;
+    }
+
+    TableScanOperator ts = (TableScanOperator) topOps.values().iterator().next();
+    Table tab = topToTable.get(ts);
+    if (tab == null || tab.isNonNative() || opToSamplePruner.containsKey(ts)) {
+      return null;
+    }
+    // virtual columns are only provided by the map operator
+    if (ts.getConf() != null && ts.getConf().getVirtualCols() != null
+        && !ts.getConf().getVirtualCols().isEmpty()) {
+      return null;
+    }
+
+    // the plan must be a chain of filters, projections and limits ending in
+    // the file sink of the query
+    boolean hasLimit = false;
+    Operator<? extends Serializable> op = ts;
+    while (!(op instanceof FileSinkOperator)) {
+      if (op != ts && !(op instanceof FilterOperator
+          || op instanceof SelectOperator || op instanceof LimitOperator)) {
+        return null;
+      }
+      if (op.getChildOperators() == null || op.getChildOperators().size() != 1) {
+        return null;
+      }
+      hasLimit |= op instanceof LimitOperator;
+      op = op.getChildOperators().get(0);
+    }
+    if (!hasLimit || (op.getChildOperators() != null
+        && !op.getChildOperators().isEmpty())) {
+      return null;
+    }
+
+    FetchWork fetch;
+    if (!tab.isPartitioned()) {
+      fetch = new FetchWork(tab.getPath().toString(), Utilities
+          .getTableDesc(tab), limit);
+      inputs.add(new ReadEntity(tab));
+    } else {
+      PrunedPartitionList partsList = getPrunedPartitions(ts);
+      // the filter is evaluated again for partitions that are not known to
+      // match
+      Set<Partition> parts = new LinkedHashSet<Partition>(partsList.getConfirmedPartns());
+      parts.addAll(partsList.getUnknownPartns());
+      if (parts.isEmpty()) {
+        return null;
+      }
+      List<String> listP = new ArrayList<String>();
+      List<PartitionDesc> partP = new ArrayList<PartitionDesc>();
+      for (Partition part : parts) {
+        listP.add(part.getPartitionPath().toString());
+        try {
+          partP.add(Utilities.getPartitionDesc(part));
+        } catch (HiveException e) {
+          throw new SemanticException(e.getMessage(), e);
+        }
+        inputs.add(new ReadEntity(part));
+      }
+      fetch = new FetchWork(listP, partP, limit);
+    }
+
+    // the fetch task collects the rows instead of the file sink
+    op.getParentOperators().get(0).setChildOperators(null);
+    op.setParentOperators(null);
+    fetch.setSource(ts);
+    LOG.info("Running the query in the fetch task");
+    return fetch;
+  }
+
   @SuppressWarnings("nls")
   private void genMapRedTasks(QB qb) throws SemanticException {
     FetchWork fetch = null;
@@ -6180,21 +6368,7 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
           if (PartitionPruner.onlyContainsPartnCols(topToTable.get(ts),
               opToPartPruner.get(ts))) {
 
-            PrunedPartitionList partsList = null;
-            try {
-              partsList = opToPartList.get(ts);
-              if (partsList == null) {
-                partsList = PartitionPruner.prune(topToTable.get(ts),
-                    opToPartPruner.get(ts), conf, (String) topOps.keySet()
-                    .toArray()[0], prunedPartitions);
-                opToPartList.put(ts, partsList);
-              }
-            } catch (HiveException e) {
-              // Has to use full name to make sure it does not conflict with
-              // org.apache.commons.lang.StringUtils
-              LOG.error(org.apache.hadoop.util.StringUtils.stringifyException(e));
-              throw new SemanticException(e.getMessage(), e);
-            }
+            PrunedPartitionList partsList = getPrunedPartitions(ts);
 
             // If there is any unknown partition, create a map-reduce job for
             // the filter to prune correctly
@@ -6238,6 +6412,18 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
       }
     }
 
+    if (conf.getBoolVar(HiveConf.ConfVars.HIVEFETCHTASKCONVERSION)) {
+      fetch = genLimitFetchWork(qb);
+      if (fetch != null) {
+        fetchTask = (FetchTask) TaskFactory.get(fetch, conf);
+        setFetchTask(fetchTask);
+
+        // remove root tasks if any
+        rootTasks.clear();
+        return;
+      }
+    }
+
     // In case of a select, use a fetch task instead of a move task
     if (qb.getIsQuery()) {
       if ((!loadTableWork.isEmpty()) || (loadFileWork.size() != 1)) {
@@ -6251,6 +6437,10 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
 
       fetch = new FetchWork(new Path(loadFileWork.get(0).getSourceDir()).toString(),
           resultTab, qb.getParseInfo().getOuterQueryLimit());
+      // the row of a query answered from the statistics
+      fetch.setResultRow(resultRow);
+      // a total order sort leaves one ordered range in each reducer's file
+      fetch.setOrdered(isTotalOrderOutput(loadFileWork.get(0).getSourceDir()));
 
       fetchTask = (FetchTask) TaskFactory.get(fetch, conf);
       setFetchTask(fetchTask);
@@ -6383,6 +6573,20 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
     }
   }
 
+  /**
+   * Returns true if the file sink writing to dir holds the output of a total
+   * order sort.
+   */
+  private boolean isTotalOrderOutput(String dir) {
+    for (Operator<? extends Serializable> op : opParseCtx.keySet()) {
+      if (op instanceof FileSinkOperator
+          && dir.equals(((FileSinkOperator) op).getConf().getDirName())) {
+        return PartitionKeySampler.isTotalOrderOutput(op);
+      }
+    }
+    return false;
+  }
+
   /**
    * Find all leaf tasks of the list of root tasks.
    */
@@ -6600,6 +6804,7 @@ public class SemanticAnalyzer extends BaseSemanticAnalyzer {
         loadTableWork, loadFileWork, ctx, idToTableNameMap, destTableId, uCtx,
         listMapJoinOpsNoReducer, groupOpToInputTables, prunedPartitions,
         opToSamplePruner);
+    pCtx.setSemanticInputs(inputs);
 
     Optimizer optm = new Optimizer();
     optm.setPctx(pCtx);
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.exec.Operator;
 
 /**
  * FetchWork.
@@ -40,6 +41,24 @@ public class FetchWork implements Serializable {
 
   private int limit;
 
+  /**
+   * Whether the files have to be read in name order, because they hold the
+   * ordered ranges written by the reducers of a total order sort.
+   */
+  private boolean ordered;
+
+  /**
+   * The operators the fetched rows are pushed through, if the query is run
+   * without a map-reduce job.
+   */
+  private Operator<? extends Serializable> source;
+
+  /**
+   * The result row of a query answered when it was compiled, as strings, or
+   * null. The files are not read if it is set.
+   */
+  private ArrayList<String> resultRow;
+
   /**
    * Serialization Null Format for the serde used to fetch data.
    */
@@ -189,6 +208,52 @@ public class FetchWork implements Serializable {
     this.limit = limit;
   }
 
+  /**
+   * @return true if the files are read in name order
+   */
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /**
+   * @param ordered
+   *          whether to read the files in name order
+   */
+  public void setOrdered(boolean ordered) {
+    this.ordered = ordered;
+  }
+
+  /**
+   * @return the operator tree the rows are pushed through, or null
+   */
+  @Explain(displayName = "Processor Tree")
+  public Operator<? extends Serializable> getSource() {
+    return source;
+  }
+
+  /**
+   * @param source
+   *          the operator tree to push the rows through
+   */
+  public void setSource(Operator<? extends Serializable> source) {
+    this.source = source;
+  }
+
+  /**
+   * @return the result row computed when the query was compiled, or null
+   */
+  public ArrayList<String> getResultRow() {
+    return resultRow;
+  }
+
+  /**
+   * @param resultRow
+   *          the result row of the query, as strings
+   */
+  public void setResultRow(ArrayList<String> resultRow) {
+    this.resultRow = resultRow;
+  }
+
   @Override
   public String toString() {
     if (tblDir != null) {
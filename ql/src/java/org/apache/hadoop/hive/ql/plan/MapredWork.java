@@ -67,6 +67,7 @@ public class MapredWork implements Serializable {
 
   private MapredLocalWork mapLocalWork;
   private String inputformat;
+  private String indexIntermediateFile;
   private boolean gatheringStats;
 
   private String tmpHDFSFileURI;
@@ -331,6 +332,18 @@ public class MapredWork implements Serializable {
     this.inputformat = inputformat;
   }
 
+  /**
+   * @return the result of the index query selecting the blocks to read, or
+   *         null if the input is not filtered by an index
+   */
+  public String getIndexIntermediateFile() {
+    return indexIntermediateFile;
+  }
+
+  public void setIndexIntermediateFile(String indexIntermediateFile) {
+    this.indexIntermediateFile = indexIntermediateFile;
+  }
+
   public void setGatheringStats(boolean gatherStats) {
     this.gatheringStats = gatherStats;
   }
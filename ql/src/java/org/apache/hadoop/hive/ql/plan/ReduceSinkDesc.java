@@ -67,6 +67,18 @@ public class ReduceSinkDesc implements Serializable {
 
   private int numReducers;
 
+  /**
+   * Whether the keys must be range partitioned so that the reducers together
+   * produce one totally ordered output (ORDER BY on more than one reducer).
+   */
+  private boolean totalOrder;
+
+  /**
+   * The number of rows with the smallest keys that each mapper sends to the
+   * reducer (ORDER BY ... LIMIT), or -1 to send all rows.
+   */
+  private int topN = -1;
+
   public ReduceSinkDesc() {
   }
 
@@ -168,6 +180,27 @@ public class ReduceSinkDesc implements Serializable {
     this.numReducers = numReducers;
   }
 
+  /**
+   * Returns true if the keys are range partitioned across the reducers. The
+   * ranges are computed by sampling the keys before the job is started; if
+   * that is not possible, a single reducer is used instead.
+   */
+  public boolean isTotalOrder() {
+    return totalOrder;
+  }
+
+  public void setTotalOrder(boolean totalOrder) {
+    this.totalOrder = totalOrder;
+  }
+
+  public int getTopN() {
+    return topN;
+  }
+
+  public void setTopN(int topN) {
+    this.topN = topN;
+  }
+
   public TableDesc getKeySerializeInfo() {
     return keySerializeInfo;
   }
@@ -451,6 +451,11 @@ public final class OpProcFactory {
     TableScanDesc tableScanDesc = tableScanOp.getConf();
     Table tbl = owi.getParseContext().getTopToTable().get(tableScanOp);
     if (!tbl.isNonNative()) {
+      if (HiveConf.getBoolVar(hiveConf, HiveConf.ConfVars.HIVEOPTPPD_RCFILE)) {
+        // the RCFile reader uses the predicate to skip rows early; Hive
+        // still evaluates all of it
+        tableScanDesc.setFilterExpr(originalPredicate);
+      }
       return originalPredicate;
     }
     HiveStorageHandler storageHandler = tbl.getStorageHandler();
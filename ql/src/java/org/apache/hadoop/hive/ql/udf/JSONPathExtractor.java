@@ -0,0 +1,693 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * JSONPathExtractor resolves a fixed set of paths against a JSON object text in
+ * a single forward scan, without building a JSONObject for the whole document.
+ * Only the values selected by the paths are materialized, and they are
+ * materialized exactly as org.json would have, so the results match what
+ * get_json_object and json_tuple compute from a full parse.
+ *
+ * The scanner follows the grammar of org.json's tokener, including its
+ * leniencies (single quoted strings, unquoted values, "=&gt;" and ";"
+ * separators, trailing commas, and anything after the top level object being
+ * ignored). It also rejects the documents org.json rejects, such as duplicate
+ * keys or non-finite numbers. The few constructs it does not handle (unquoted
+ * or escaped keys, "(...)" arrays, missing array elements) make
+ * {@link #extract(String)} return {@link Status#UNSUPPORTED}, and callers then
+ * fall back to the full parse.
+ *
+ * Only paths made of keys and array subscripts are resolved here. Wildcards,
+ * and paths that apply a key to an array or a subscript to a non-array, follow
+ * special rules in get_json_object; {@link #isResolved(int)} is false for
+ * them and the caller evaluates them on its own.
+ */
+public class JSONPathExtractor {
+
+  /**
+   * Outcome of {@link JSONPathExtractor#extract(String)}.
+   */
+  public static enum Status {
+    /** The document was scanned; see {@link #getValue(int)}. */
+    OK,
+    /** The document is not valid JSON; org.json would have failed too. */
+    INVALID,
+    /** The document uses syntax the scanner does not handle. */
+    UNSUPPORTED
+  }
+
+  private static final Pattern PATH_SEGMENT = Pattern
+      .compile("^([a-zA-Z0-9_\\-]+)((\\[[0-9]{1,9}\\])*)$");
+  private static final Pattern PATH_INDEX = Pattern.compile("\\[([0-9]+)\\]");
+
+  // characters that end an unquoted value, as in org.json.JSONTokener
+  private static final String VALUE_DELIMITERS = ",:]}/\\\"[{;=#";
+
+  private static final int MAX_INT_DIGITS = 300;
+
+  private final int numPaths;
+  // steps[p][s] is the key to look up, or null when the step is a subscript
+  private final String[][] keys;
+  private final int[][] indexes;
+  // false when path p can never select anything, e.g. it does not start at $
+  private final boolean[] matchable;
+  private final boolean[] supported;
+
+  private final Object[] values;
+  private final boolean[] resolved;
+
+  private char[] buf = new char[0];
+  private int len;
+  private int pos;
+
+  // stack of the paths still following the value being scanned
+  private int[] pathStack = new int[16];
+  private int pathTop;
+  // keys seen in each open object, for duplicate detection
+  private int[] keyStarts = new int[16];
+  private int[] keyLengths = new int[16];
+  private int[] keyHashes = new int[16];
+  private int keyTop;
+
+  private final StringBuilder decoded = new StringBuilder();
+
+  private static final class ScanException extends Exception {
+    private static final long serialVersionUID = 1L;
+    final Status status;
+
+    ScanException(Status status) {
+      super(null, null);
+      this.status = status;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  private static final ScanException INVALID_DOCUMENT =
+      new ScanException(Status.INVALID);
+  private static final ScanException UNSUPPORTED_DOCUMENT =
+      new ScanException(Status.UNSUPPORTED);
+
+  /**
+   * Creates an extractor for get_json_object style paths, e.g. "$.a.b[0]".
+   */
+  public JSONPathExtractor(String[] paths) {
+    this(paths.length);
+    for (int p = 0; p < numPaths; p++) {
+      compilePath(p, paths[p]);
+    }
+  }
+
+  private JSONPathExtractor(int numPaths) {
+    this.numPaths = numPaths;
+    keys = new String[numPaths][];
+    indexes = new int[numPaths][];
+    matchable = new boolean[numPaths];
+    supported = new boolean[numPaths];
+    values = new Object[numPaths];
+    resolved = new boolean[numPaths];
+  }
+
+  /**
+   * Creates an extractor for the given top level field names, as used by
+   * json_tuple. A null name never matches.
+   */
+  public static JSONPathExtractor forFieldNames(String[] names) {
+    JSONPathExtractor extractor = new JSONPathExtractor(names.length);
+    for (int p = 0; p < names.length; p++) {
+      extractor.keys[p] = new String[] {names[p]};
+      extractor.indexes[p] = new int[1];
+      extractor.matchable[p] = names[p] != null;
+      extractor.supported[p] = true;
+    }
+    return extractor;
+  }
+
+  private void compilePath(int p, String path) {
+    keys[p] = new String[0];
+    indexes[p] = new int[0];
+    if (path == null || path.length() == 0) {
+      supported[p] = true;
+      return;
+    }
+    String[] segments = path.split("\\.", -1);
+    if (!segments[0].equalsIgnoreCase("$")) {
+      supported[p] = true;
+      return;
+    }
+    int numSteps = 0;
+    Matcher[] matchers = new Matcher[segments.length];
+    for (int i = 1; i < segments.length; i++) {
+      matchers[i] = PATH_SEGMENT.matcher(segments[i]);
+      if (!matchers[i].matches()) {
+        // wildcards and malformed segments
+        return;
+      }
+      numSteps++;
+      Matcher index = PATH_INDEX.matcher(matchers[i].group(2));
+      while (index.find()) {
+        numSteps++;
+      }
+    }
+    String[] stepKeys = new String[numSteps];
+    int[] stepIndexes = new int[numSteps];
+    int step = 0;
+    for (int i = 1; i < segments.length; i++) {
+      stepKeys[step++] = matchers[i].group(1);
+      Matcher index = PATH_INDEX.matcher(matchers[i].group(2));
+      while (index.find()) {
+        stepIndexes[step++] = Integer.parseInt(index.group(1));
+      }
+    }
+    keys[p] = stepKeys;
+    indexes[p] = stepIndexes;
+    matchable[p] = true;
+    supported[p] = true;
+  }
+
+  /**
+   * Returns the number of paths.
+   */
+  public int getNumPaths() {
+    return numPaths;
+  }
+
+  /**
+   * Returns true if path i is resolved by the scanner at all. Paths with
+   * wildcards or unusual segments are not, and {@link #isResolved(int)} is
+   * always false for them.
+   */
+  public boolean isSupported(int i) {
+    return supported[i];
+  }
+
+  /**
+   * Returns true if the last successful {@link #extract(String)} determined
+   * the value of path i.
+   */
+  public boolean isResolved(int i) {
+    return resolved[i];
+  }
+
+  /**
+   * Returns the value selected by path i in the last document, as the
+   * matching JSONObject.get() would have returned it: a String, Boolean,
+   * Number, JSONObject.NULL, JSONObject or JSONArray. Returns null if the path
+   * selects nothing.
+   */
+  public Object getValue(int i) {
+    return values[i];
+  }
+
+  /**
+   * Scans a JSON object text and resolves all paths against it.
+   */
+  public Status extract(String json) {
+    for (int p = 0; p < numPaths; p++) {
+      values[p] = null;
+      resolved[p] = false;
+    }
+    if (json == null) {
+      return Status.INVALID;
+    }
+    len = json.length();
+    if (buf.length < len) {
+      buf = new char[Math.max(len, buf.length * 2)];
+    }
+    json.getChars(0, len, buf, 0);
+    pos = 0;
+    pathTop = 0;
+    keyTop = 0;
+    try {
+      if (nextClean() != '{') {
+        throw INVALID_DOCUMENT;
+      }
+      // org.json ignores whatever follows the top level object
+      int start = pos - 1;
+      int from = pathTop;
+      for (int p = 0; p < numPaths; p++) {
+        if (supported[p]) {
+          resolved[p] = true;
+          if (matchable[p]) {
+            push(p);
+          }
+        }
+      }
+      scanObject(0, from, pathTop);
+      for (int p = from; p < pathTop; p++) {
+        if (keys[pathStack[p]].length == 0) {
+          values[pathStack[p]] = materialize(start, '{');
+        }
+      }
+      return Status.OK;
+    } catch (ScanException e) {
+      for (int p = 0; p < numPaths; p++) {
+        values[p] = null;
+        resolved[p] = false;
+      }
+      return e.status;
+    } catch (JSONException e) {
+      // org.json refused a selected value that the scan accepted; let the
+      // caller parse the document itself
+      for (int p = 0; p < numPaths; p++) {
+        values[p] = null;
+        resolved[p] = false;
+      }
+      return Status.UNSUPPORTED;
+    }
+  }
+
+  private char next() {
+    // like JSONTokener, return 0 at the end and keep counting so that back()
+    // stays symmetric
+    char c = pos < len ? buf[pos] : 0;
+    pos++;
+    return c;
+  }
+
+  private void back() {
+    pos--;
+  }
+
+  private char nextClean() {
+    for (;;) {
+      char c = next();
+      if (c == 0 || c > ' ') {
+        return c;
+      }
+    }
+  }
+
+  private void push(int path) {
+    if (pathTop == pathStack.length) {
+      int[] grown = new int[pathStack.length * 2];
+      System.arraycopy(pathStack, 0, grown, 0, pathTop);
+      pathStack = grown;
+    }
+    pathStack[pathTop++] = path;
+  }
+
+  /**
+   * Scans the members of an object whose '{' has been consumed. The paths in
+   * pathStack[from, to) have matched the first depth steps and lead into
+   * this object.
+   */
+  private void scanObject(int depth, int from, int to) throws ScanException,
+      JSONException {
+    // subscripts do not apply to objects the way they do to arrays
+    for (int i = from; i < to; i++) {
+      int p = pathStack[i];
+      if (depth < keys[p].length && keys[p][depth] == null) {
+        resolved[p] = false;
+      }
+    }
+    int frame = keyTop;
+    for (;;) {
+      char c = nextClean();
+      if (c == 0) {
+        throw INVALID_DOCUMENT;
+      }
+      if (c == '}') {
+        break;
+      }
+      if (c != '"' && c != '\'') {
+        throw UNSUPPORTED_DOCUMENT;
+      }
+      int keyStart = pos;
+      if (scanString(c, false)) {
+        throw UNSUPPORTED_DOCUMENT;
+      }
+      int keyEnd = pos - 1;
+      addKey(frame, keyStart, keyEnd);
+
+      c = nextClean();
+      if (c == '=') {
+        if (next() != '>') {
+          back();
+        }
+      } else if (c != ':') {
+        throw INVALID_DOCUMENT;
+      }
+
+      int childFrom = pathTop;
+      for (int i = from; i < to; i++) {
+        int p = pathStack[i];
+        String key = depth < keys[p].length ? keys[p][depth] : null;
+        if (key != null && key.length() == keyEnd - keyStart
+            && regionEquals(key, keyStart)) {
+          push(p);
+        }
+      }
+      scanValue(depth + 1, childFrom, pathTop, true);
+      pathTop = childFrom;
+
+      c = nextClean();
+      if (c == ',' || c == ';') {
+        if (nextClean() == '}') {
+          break;
+        }
+        back();
+      } else if (c == '}') {
+        break;
+      } else {
+        throw INVALID_DOCUMENT;
+      }
+    }
+    keyTop = frame;
+  }
+
+  /**
+   * Scans the elements of an array whose '[' has been consumed.
+   */
+  private void scanArray(int depth, int from, int to) throws ScanException,
+      JSONException {
+    // get_json_object applies a key to every element of an array
+    for (int i = from; i < to; i++) {
+      int p = pathStack[i];
+      if (depth < keys[p].length && keys[p][depth] != null) {
+        resolved[p] = false;
+      }
+    }
+    if (nextClean() == ']') {
+      return;
+    }
+    back();
+    for (int index = 0;; index++) {
+      if (nextClean() == ',') {
+        throw UNSUPPORTED_DOCUMENT;
+      }
+      back();
+
+      int childFrom = pathTop;
+      for (int i = from; i < to; i++) {
+        int p = pathStack[i];
+        if (depth < keys[p].length && keys[p][depth] == null
+            && indexes[p][depth] == index) {
+          push(p);
+        }
+      }
+      scanValue(depth + 1, childFrom, pathTop, false);
+      pathTop = childFrom;
+
+      char c = nextClean();
+      if (c == ',' || c == ';') {
+        if (nextClean() == ']') {
+          return;
+        }
+        back();
+      } else if (c == ']') {
+        return;
+      } else {
+        // includes ')', which only closes arrays opened with '('
+        throw INVALID_DOCUMENT;
+      }
+    }
+  }
+
+  /**
+   * Scans one value. The paths in pathStack[from, to) lead to it; those that
+   * end here select it.
+   */
+  private void scanValue(int depth, int from, int to, boolean inObject)
+      throws ScanException, JSONException {
+    char c = nextClean();
+    int start = pos - 1;
+    switch (c) {
+    case '"':
+    case '\'':
+      boolean select = false;
+      for (int i = from; i < to; i++) {
+        int p = pathStack[i];
+        if (keys[p].length == depth) {
+          select = true;
+        } else if (keys[p][depth] == null) {
+          resolved[p] = false;
+        }
+      }
+      if (select) {
+        decoded.setLength(0);
+        scanString(c, true);
+        String value = decoded.toString();
+        for (int i = from; i < to; i++) {
+          if (keys[pathStack[i]].length == depth) {
+            values[pathStack[i]] = value;
+          }
+        }
+      } else {
+        scanString(c, false);
+      }
+      return;
+    case '{':
+      scanObject(depth, from, to);
+      break;
+    case '[':
+      scanArray(depth, from, to);
+      break;
+    case '(':
+      throw UNSUPPORTED_DOCUMENT;
+    default:
+      scanToken(c, depth, from, to, inObject);
+      return;
+    }
+    for (int i = from; i < to; i++) {
+      int p = pathStack[i];
+      if (keys[p].length == depth) {
+        values[p] = materialize(start, c);
+      }
+    }
+  }
+
+  /**
+   * Scans an unquoted value such as a number, true, false or null. Its first
+   * character has been consumed.
+   */
+  private void scanToken(char c, int depth, int from, int to,
+      boolean inObject) throws ScanException {
+    int start = pos - 1;
+    while (c >= ' ' && VALUE_DELIMITERS.indexOf(c) < 0) {
+      c = next();
+    }
+    back();
+    int end = pos;
+    while (end > start && buf[end - 1] <= ' ') {
+      end--;
+    }
+    if (end == start) {
+      throw INVALID_DOCUMENT;
+    }
+
+    boolean select = false;
+    for (int i = from; i < to; i++) {
+      int p = pathStack[i];
+      if (keys[p].length == depth) {
+        select = true;
+      } else if (keys[p][depth] == null) {
+        // get_json_object returns scalars unchanged for any subscript
+        resolved[p] = false;
+      }
+    }
+    Object value = null;
+    if (select || (inObject && mayBeNonFinite(start, end))) {
+      value = JSONObject.stringToValue(new String(buf, start, end - start));
+      if (inObject && value instanceof Double
+          && (((Double) value).isInfinite() || ((Double) value).isNaN())) {
+        // rejected by JSONObject.put()
+        throw INVALID_DOCUMENT;
+      }
+    }
+    if (select) {
+      for (int i = from; i < to; i++) {
+        if (keys[pathStack[i]].length == depth) {
+          values[pathStack[i]] = value;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns true if JSONObject.stringToValue() could turn the token into an
+   * infinite or NaN Double.
+   */
+  private boolean mayBeNonFinite(int start, int end) {
+    char c = buf[start];
+    if ((c < '0' || c > '9') && c != '.' && c != '-' && c != '+') {
+      return false;
+    }
+    if (end - start > MAX_INT_DIGITS) {
+      return true;
+    }
+    for (int i = start; i < end; i++) {
+      c = buf[i];
+      if ((c < '0' || c > '9') && c != '.' && c != '-' && c != '+') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Scans a string whose opening quote has been consumed, leaving pos after
+   * the closing quote. When decode is set the string value is appended to
+   * decoded. Returns true if the string contains escapes.
+   */
+  private boolean scanString(char quote, boolean decode) throws ScanException {
+    boolean escaped = false;
+    for (;;) {
+      char c = next();
+      switch (c) {
+      case 0:
+      case '\n':
+      case '\r':
+        throw INVALID_DOCUMENT;
+      case '\\':
+        escaped = true;
+        c = next();
+        switch (c) {
+        case 'b':
+          c = '\b';
+          break;
+        case 't':
+          c = '\t';
+          break;
+        case 'n':
+          c = '\n';
+          break;
+        case 'f':
+          c = '\f';
+          break;
+        case 'r':
+          c = '\r';
+          break;
+        case 'u':
+          c = hexChar(4);
+          break;
+        case 'x':
+          c = hexChar(2);
+          break;
+        default:
+          break;
+        }
+        if (decode) {
+          decoded.append(c);
+        }
+        break;
+      default:
+        if (c == quote) {
+          return escaped;
+        }
+        if (decode) {
+          decoded.append(c);
+        }
+      }
+    }
+  }
+
+  private char hexChar(int digits) throws ScanException {
+    if (pos + digits > len) {
+      throw INVALID_DOCUMENT;
+    }
+    int value = 0;
+    for (int i = 0; i < digits; i++) {
+      int digit = Character.digit(buf[pos + i], 16);
+      if (digit < 0) {
+        // let Integer.parseInt() decide, as org.json does
+        try {
+          value = Integer.parseInt(new String(buf, pos, digits), 16);
+        } catch (NumberFormatException e) {
+          throw INVALID_DOCUMENT;
+        }
+        break;
+      }
+      value = value * 16 + digit;
+    }
+    pos += digits;
+    return (char) value;
+  }
+
+  private boolean regionEquals(String key, int start) {
+    for (int i = 0; i < key.length(); i++) {
+      if (key.charAt(i) != buf[start + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records a key of the object whose keys start at frame, failing on a
+   * duplicate like JSONObject.putOnce() does.
+   */
+  private void addKey(int frame, int start, int end) throws ScanException {
+    int length = end - start;
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + buf[i];
+    }
+    for (int k = frame; k < keyTop; k++) {
+      if (keyHashes[k] == hash && keyLengths[k] == length) {
+        int other = keyStarts[k];
+        boolean same = true;
+        for (int i = 0; i < length; i++) {
+          if (buf[other + i] != buf[start + i]) {
+            same = false;
+            break;
+          }
+        }
+        if (same) {
+          throw INVALID_DOCUMENT;
+        }
+      }
+    }
+    if (keyTop == keyStarts.length) {
+      int[] grownStarts = new int[keyStarts.length * 2];
+      int[] grownLengths = new int[keyLengths.length * 2];
+      int[] grownHashes = new int[keyHashes.length * 2];
+      System.arraycopy(keyStarts, 0, grownStarts, 0, keyTop);
+      System.arraycopy(keyLengths, 0, grownLengths, 0, keyTop);
+      System.arraycopy(keyHashes, 0, grownHashes, 0, keyTop);
+      keyStarts = grownStarts;
+      keyLengths = grownLengths;
+      keyHashes = grownHashes;
+    }
+    keyStarts[keyTop] = start;
+    keyLengths[keyTop] = length;
+    keyHashes[keyTop] = hash;
+    keyTop++;
+  }
+
+  /**
+   * Builds the JSONObject or JSONArray for the container that starts at start
+   * and ends right before pos.
+   */
+  private Object materialize(int start, char open) throws JSONException {
+    String text = new String(buf, start, pos - start);
+    return open == '{' ? new JSONObject(text) : new JSONArray(text);
+  }
+}
@@ -0,0 +1,1143 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.io.Text;
+
+/**
+ * TextPatternMatcher matches a LIKE pattern or a regular expression against
+ * the UTF-8 bytes of a Text, without decoding it into a String. It is
+ * compiled once per pattern and reused for every row.
+ *
+ * Patterns are parsed with a strict subset of the java.util.regex syntax:
+ * literals, ".", character classes, \d \w \s and their negations, groups,
+ * alternation, greedy and reluctant quantifiers, a leading "^" and a trailing
+ * "$". Within that subset the outcome of a match does not depend on
+ * backtracking order, so patterns made of literals and wildcards become byte
+ * searches and all others a lazily built DFA. compile methods return null for
+ * anything else, and callers keep using java.util.regex for such patterns.
+ *
+ * {@link #match(Text)} returns {@link #UNKNOWN} when it cannot decide the same
+ * way java.util.regex would, which only happens for text that is not
+ * well-formed UTF-8 (decoding replaces the bad bytes) or when the DFA grows
+ * too large.
+ */
+public abstract class TextPatternMatcher {
+
+  /** The pattern matches. */
+  public static final int MATCH = 1;
+  /** The pattern does not match. */
+  public static final int NO_MATCH = 0;
+  /** The caller has to match the decoded String itself. */
+  public static final int UNKNOWN = -1;
+
+  /**
+   * The number of rows a regular expression argument has to stay the same
+   * for before it is compiled. Compiling builds an NFA, which is wasted on a
+   * regex that changes on almost every row, so until then java.util.regex is
+   * used alone.
+   */
+  public static final int COMPILE_AFTER_ROWS = 8;
+
+  // the largest number of DFA states built for one pattern
+  private static final int MAX_DFA_STATES = 1000;
+  // the largest {n,m} bound and NFA size accepted
+  private static final int MAX_REPEAT = 100;
+  private static final int MAX_NFA_STATES = 5000;
+
+  // the code points "." does not match
+  private static final int[] DOT = {0, 0x09, 0x0B, 0x0C, 0x0E, 0x84, 0x86,
+      0x2027, 0x202A, Character.MAX_CODE_POINT};
+  private static final int[] DIGIT = {'0', '9'};
+  private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+  private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+
+  /**
+   * Matches s against the pattern, returning MATCH, NO_MATCH or UNKNOWN.
+   */
+  public abstract int match(Text s);
+
+  /**
+   * Compiles a LIKE pattern, which has to match the whole string, or returns
+   * null if it is not supported.
+   */
+  public static TextPatternMatcher compileLike(String likePattern) {
+    return compile(UDFLike.likePatternToRegExp(likePattern), true);
+  }
+
+  /**
+   * Compiles a regular expression to be found anywhere in the string, as
+   * Matcher.find() does, or returns null if it is not supported.
+   */
+  public static TextPatternMatcher compileRegex(String regex) {
+    return compile(regex, false);
+  }
+
+  private static TextPatternMatcher compile(String regex, boolean whole) {
+    Parser parser = new Parser(regex);
+    Node node = parser.parse();
+    if (node == null) {
+      return null;
+    }
+    if (whole) {
+      if (parser.anchorStart || parser.anchorEnd) {
+        return null;
+      }
+      TextPatternMatcher glob = GlobMatcher.create(node);
+      if (glob != null) {
+        return glob;
+      }
+    } else if (!parser.anchorEnd) {
+      byte[] literal = getLiteral(node);
+      if (literal != null && literal.length > 0) {
+        return new LiteralMatcher(literal, parser.anchorStart);
+      }
+    }
+    Nfa nfa = new Nfa();
+    int start = nfa.build(node, nfa.addMatch());
+    if (start < 0) {
+      return null;
+    }
+    return new DfaMatcher(nfa, start, whole, parser.anchorStart,
+        parser.anchorEnd);
+  }
+
+  // Syntax tree of a parsed pattern
+
+  private static class Node {
+  }
+
+  /** One code point out of a set of ranges [lo0, hi0, lo1, hi1, ...]. */
+  private static final class CharNode extends Node {
+    final int[] ranges;
+
+    CharNode(int[] ranges) {
+      this.ranges = ranges;
+    }
+
+    boolean isLiteral() {
+      return ranges.length == 2 && ranges[0] == ranges[1];
+    }
+
+    boolean isDot() {
+      return ranges == DOT;
+    }
+  }
+
+  private static final class ConcatNode extends Node {
+    final List<Node> children;
+
+    ConcatNode(List<Node> children) {
+      this.children = children;
+    }
+  }
+
+  private static final class AltNode extends Node {
+    final List<Node> children;
+
+    AltNode(List<Node> children) {
+      this.children = children;
+    }
+  }
+
+  /** child{min,max}, where max is -1 for unbounded. */
+  private static final class RepeatNode extends Node {
+    final Node child;
+    final int min;
+    final int max;
+
+    RepeatNode(Node child, int min, int max) {
+      this.child = child;
+      this.min = min;
+      this.max = max;
+    }
+  }
+
+  /**
+   * Returns the UTF-8 bytes of a pattern made only of literal characters, or
+   * null.
+   */
+  private static byte[] getLiteral(Node node) {
+    List<Node> items = node instanceof ConcatNode
+        ? ((ConcatNode) node).children : Arrays.asList(node);
+    StringBuilder sb = new StringBuilder();
+    for (Node item : items) {
+      if (!(item instanceof CharNode) || !((CharNode) item).isLiteral()) {
+        return null;
+      }
+      sb.appendCodePoint(((CharNode) item).ranges[0]);
+    }
+    Text text = new Text(sb.toString());
+    return Arrays.copyOf(text.getBytes(), text.getLength());
+  }
+
+  /**
+   * Parser for the supported subset of java.util.regex. Anything outside of
+   * it, including everything Pattern.compile() rejects, makes parse() return
+   * null.
+   */
+  private static final class Parser {
+    private final String regex;
+    private int pos;
+    private int end;
+    boolean anchorStart;
+    boolean anchorEnd;
+
+    private static final class UnsupportedException extends Exception {
+      private static final long serialVersionUID = 1L;
+    }
+
+    Parser(String regex) {
+      this.regex = regex;
+    }
+
+    Node parse() {
+      try {
+        end = regex.length();
+        if (end > 0 && regex.charAt(0) == '^') {
+          anchorStart = true;
+          pos = 1;
+        }
+        if (end > pos && regex.charAt(end - 1) == '$') {
+          int backslashes = 0;
+          while (end - 2 - backslashes >= pos
+              && regex.charAt(end - 2 - backslashes) == '\\') {
+            backslashes++;
+          }
+          if (backslashes % 2 == 0) {
+            anchorEnd = true;
+            end--;
+          }
+        }
+        Node node = parseAlternation();
+        if (pos != end) {
+          throw new UnsupportedException();
+        }
+        // "^a|b" anchors only its first branch
+        if ((anchorStart || anchorEnd) && node instanceof AltNode) {
+          throw new UnsupportedException();
+        }
+        return node;
+      } catch (UnsupportedException e) {
+        return null;
+      }
+    }
+
+    private Node parseAlternation() throws UnsupportedException {
+      List<Node> branches = new ArrayList<Node>();
+      branches.add(parseConcatenation());
+      while (pos < end && regex.charAt(pos) == '|') {
+        pos++;
+        branches.add(parseConcatenation());
+      }
+      return branches.size() == 1 ? branches.get(0) : new AltNode(branches);
+    }
+
+    private Node parseConcatenation() throws UnsupportedException {
+      List<Node> items = new ArrayList<Node>();
+      while (pos < end && regex.charAt(pos) != '|'
+          && regex.charAt(pos) != ')') {
+        items.add(parseQuantifier(parseAtom()));
+      }
+      return items.size() == 1 ? items.get(0) : new ConcatNode(items);
+    }
+
+    private Node parseAtom() throws UnsupportedException {
+      int c = regex.codePointAt(pos);
+      switch (c) {
+      case '(':
+        pos++;
+        if (pos < end && regex.charAt(pos) == '?') {
+          if (pos + 1 < end && regex.charAt(pos + 1) == ':') {
+            pos += 2;
+          } else {
+            // flags, lookaround and the like
+            throw new UnsupportedException();
+          }
+        }
+        Node group = parseAlternation();
+        if (pos >= end || regex.charAt(pos) != ')') {
+          throw new UnsupportedException();
+        }
+        pos++;
+        return group;
+      case '[':
+        return parseClass();
+      case '.':
+        pos++;
+        return new CharNode(DOT);
+      case '\\':
+        pos++;
+        int[] ranges = parseEscape();
+        if (ranges == null) {
+          throw new UnsupportedException();
+        }
+        return new CharNode(ranges);
+      case '^':
+      case '$':
+      case '*':
+      case '+':
+      case '?':
+      case '{':
+        throw new UnsupportedException();
+      default:
+        pos += Character.charCount(c);
+        return new CharNode(new int[] {c, c});
+      }
+    }
+
+    private Node parseQuantifier(Node atom) throws UnsupportedException {
+      if (pos >= end) {
+        return atom;
+      }
+      int min;
+      int max;
+      switch (regex.charAt(pos)) {
+      case '*':
+        min = 0;
+        max = -1;
+        pos++;
+        break;
+      case '+':
+        min = 1;
+        max = -1;
+        pos++;
+        break;
+      case '?':
+        min = 0;
+        max = 1;
+        pos++;
+        break;
+      case '{':
+        pos++;
+        min = parseNumber();
+        max = min;
+        if (pos < end && regex.charAt(pos) == ',') {
+          pos++;
+          max = pos < end && regex.charAt(pos) == '}' ? -1 : parseNumber();
+        }
+        if (pos >= end || regex.charAt(pos) != '}'
+            || (max >= 0 && max < min)) {
+          throw new UnsupportedException();
+        }
+        pos++;
+        break;
+      default:
+        return atom;
+      }
+      if (pos < end && regex.charAt(pos) == '?') {
+        // reluctant quantifiers match the same strings
+        pos++;
+      }
+      if (pos < end && "*+?{".indexOf(regex.charAt(pos)) >= 0) {
+        // possessive quantifiers and stacked quantifiers
+        throw new UnsupportedException();
+      }
+      return new RepeatNode(atom, min, max);
+    }
+
+    private int parseNumber() throws UnsupportedException {
+      int start = pos;
+      while (pos < end && pos - start < 4 && regex.charAt(pos) >= '0'
+          && regex.charAt(pos) <= '9') {
+        pos++;
+      }
+      if (pos == start) {
+        throw new UnsupportedException();
+      }
+      int n = Integer.parseInt(regex.substring(start, pos));
+      if (n > MAX_REPEAT) {
+        throw new UnsupportedException();
+      }
+      return n;
+    }
+
+    /**
+     * Parses the escape after a backslash, returning its ranges or null.
+     */
+    private int[] parseEscape() {
+      if (pos >= end) {
+        return null;
+      }
+      char c = regex.charAt(pos++);
+      switch (c) {
+      case 'd':
+        return DIGIT;
+      case 'D':
+        return complement(DIGIT);
+      case 'w':
+        return WORD;
+      case 'W':
+        return complement(WORD);
+      case 's':
+        return SPACE;
+      case 'S':
+        return complement(SPACE);
+      case 't':
+        return new int[] {'\t', '\t'};
+      case 'n':
+        return new int[] {'\n', '\n'};
+      case 'r':
+        return new int[] {'\r', '\r'};
+      case 'f':
+        return new int[] {'\f', '\f'};
+      default:
+        // other letters and digits are escapes of their own
+        if (c < 0x80 && !Character.isLetterOrDigit(c)) {
+          return new int[] {c, c};
+        }
+        return null;
+      }
+    }
+
+    private Node parseClass() throws UnsupportedException {
+      pos++;
+      boolean negate = false;
+      if (pos < end && regex.charAt(pos) == '^') {
+        negate = true;
+        pos++;
+      }
+      int first = pos;
+      List<int[]> parts = new ArrayList<int[]>();
+      for (;;) {
+        if (pos >= end) {
+          throw new UnsupportedException();
+        }
+        int c = regex.codePointAt(pos);
+        if (c == ']' && pos > first) {
+          pos++;
+          break;
+        }
+        if (c == '[' || c == ']' || (c == '&' && pos + 1 < end
+            && regex.charAt(pos + 1) == '&')) {
+          // unions, intersections and a leading ']'
+          throw new UnsupportedException();
+        }
+        if (c == '-' && pos > first && !(pos + 1 < end
+            && regex.charAt(pos + 1) == ']')) {
+          throw new UnsupportedException();
+        }
+        if (c == '\\') {
+          pos++;
+          int[] ranges = parseEscape();
+          if (ranges == null) {
+            throw new UnsupportedException();
+          }
+          parts.add(ranges);
+          if (pos < end && regex.charAt(pos) == '-' && pos + 1 < end
+              && regex.charAt(pos + 1) != ']') {
+            throw new UnsupportedException();
+          }
+          continue;
+        }
+        pos += Character.charCount(c);
+        int hi = c;
+        if (pos + 1 < end && regex.charAt(pos) == '-'
+            && regex.charAt(pos + 1) != ']') {
+          hi = regex.codePointAt(pos + 1);
+          if (hi == '\\' || hi == '[' || hi < c) {
+            throw new UnsupportedException();
+          }
+          pos += 1 + Character.charCount(hi);
+        }
+        parts.add(new int[] {c, hi});
+      }
+      int[] ranges = union(parts);
+      return new CharNode(negate ? complement(ranges) : ranges);
+    }
+  }
+
+  /**
+   * Returns the sorted, merged union of several range lists.
+   */
+  private static int[] union(List<int[]> parts) {
+    List<int[]> all = new ArrayList<int[]>();
+    for (int[] part : parts) {
+      for (int i = 0; i < part.length; i += 2) {
+        all.add(new int[] {part[i], part[i + 1]});
+      }
+    }
+    java.util.Collections.sort(all, new java.util.Comparator<int[]>() {
+      @Override
+      public int compare(int[] a, int[] b) {
+        return a[0] < b[0] ? -1 : a[0] > b[0] ? 1 : 0;
+      }
+    });
+    int[] merged = new int[all.size() * 2];
+    int n = 0;
+    for (int[] r : all) {
+      if (n > 0 && r[0] <= merged[n - 1] + 1) {
+        merged[n - 1] = Math.max(merged[n - 1], r[1]);
+      } else {
+        merged[n++] = r[0];
+        merged[n++] = r[1];
+      }
+    }
+    return Arrays.copyOf(merged, n);
+  }
+
+  private static int[] complement(int[] ranges) {
+    int[] result = new int[ranges.length + 2];
+    int n = 0;
+    int next = 0;
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (ranges[i] > next) {
+        result[n++] = next;
+        result[n++] = ranges[i] - 1;
+      }
+      next = ranges[i + 1] + 1;
+    }
+    if (next <= Character.MAX_CODE_POINT) {
+      result[n++] = next;
+      result[n++] = Character.MAX_CODE_POINT;
+    }
+    return Arrays.copyOf(result, n);
+  }
+
+  private static boolean contains(int[] ranges, int c) {
+    int lo = 0;
+    int hi = ranges.length / 2 - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      if (c < ranges[2 * mid]) {
+        hi = mid - 1;
+      } else if (c > ranges[2 * mid + 1]) {
+        lo = mid + 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the length of the well-formed UTF-8 sequence at data[i], or -1.
+   */
+  private static int sequenceLength(byte[] data, int i, int end) {
+    int b = data[i] & 0xFF;
+    if (b < 0x80) {
+      return 1;
+    }
+    int size;
+    int min = 0x80;
+    int max = 0xBF;
+    if (b < 0xC2) {
+      return -1;
+    } else if (b < 0xE0) {
+      size = 2;
+    } else if (b < 0xF0) {
+      size = 3;
+      if (b == 0xE0) {
+        min = 0xA0;
+      } else if (b == 0xED) {
+        max = 0x9F;
+      }
+    } else if (b < 0xF5) {
+      size = 4;
+      if (b == 0xF0) {
+        min = 0x90;
+      } else if (b == 0xF4) {
+        max = 0x8F;
+      }
+    } else {
+      return -1;
+    }
+    if (i + size > end) {
+      return -1;
+    }
+    int second = data[i + 1] & 0xFF;
+    if (second < min || second > max) {
+      return -1;
+    }
+    for (int k = 2; k < size; k++) {
+      if ((data[i + k] & 0xC0) != 0x80) {
+        return -1;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns -1 if data[0, length) is not well-formed UTF-8, 1 if it contains
+   * a line terminator that "." does not match, and 0 otherwise.
+   */
+  private static int checkText(byte[] data, int length) {
+    int result = 0;
+    int i = 0;
+    while (i < length) {
+      int b = data[i];
+      if (b >= 0) {
+        if (b == '\n' || b == '\r') {
+          result = 1;
+        }
+        i++;
+        continue;
+      }
+      int size = sequenceLength(data, i, length);
+      if (size < 0) {
+        return -1;
+      }
+      if ((size == 2 && data[i] == (byte) 0xC2 && data[i + 1] == (byte) 0x85)
+          || (size == 3 && data[i] == (byte) 0xE2 && data[i + 1] == (byte) 0x80
+          && (data[i + 2] == (byte) 0xA8 || data[i + 2] == (byte) 0xA9))) {
+        result = 1;
+      }
+      i += size;
+    }
+    return result;
+  }
+
+  /**
+   * Finds a literal anywhere in the text, or at its start.
+   */
+  private static final class LiteralMatcher extends TextPatternMatcher {
+    private final byte[] literal;
+    private final boolean prefix;
+
+    LiteralMatcher(byte[] literal, boolean prefix) {
+      this.literal = literal;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public int match(Text s) {
+      byte[] data = s.getBytes();
+      int length = s.getLength();
+      if (checkText(data, length) < 0) {
+        return UNKNOWN;
+      }
+      int last = prefix ? Math.min(0, length - literal.length)
+          : length - literal.length;
+      for (int i = 0; i <= last; i++) {
+        if (regionMatches(data, i, literal)) {
+          return MATCH;
+        }
+      }
+      return NO_MATCH;
+    }
+  }
+
+  private static boolean regionMatches(byte[] data, int offset,
+      byte[] literal) {
+    for (int j = 0; j < literal.length; j++) {
+      if (data[offset + j] != literal[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Matches whole strings against literals separated by "." and ".*", which
+   * covers LIKE patterns with '_' and '%'. The literals are searched for as
+   * bytes, leftmost first.
+   */
+  private static final class GlobMatcher extends TextPatternMatcher {
+    // each segment is a sequence of literals, with null standing for "."
+    private final byte[][][] segments;
+    private final boolean leadingStar;
+    private final boolean trailingStar;
+    private final boolean hasStar;
+
+    private GlobMatcher(byte[][][] segments, boolean leadingStar,
+        boolean trailingStar, boolean hasStar) {
+      this.segments = segments;
+      this.leadingStar = leadingStar;
+      this.trailingStar = trailingStar;
+      this.hasStar = hasStar;
+    }
+
+    static GlobMatcher create(Node node) {
+      List<Node> items = node instanceof ConcatNode
+          ? ((ConcatNode) node).children : Arrays.asList(node);
+      List<byte[][]> segments = new ArrayList<byte[][]>();
+      List<byte[]> segment = new ArrayList<byte[]>();
+      StringBuilder literal = new StringBuilder();
+      boolean leadingStar = false;
+      boolean trailingStar = false;
+      boolean hasStar = false;
+      for (int i = 0; i < items.size(); i++) {
+        Node item = items.get(i);
+        if (item instanceof CharNode && ((CharNode) item).isLiteral()) {
+          int c = ((CharNode) item).ranges[0];
+          if (!contains(DOT, c)) {
+            // "." cannot skip over line terminators, which would make the
+            // leftmost search wrong
+            return null;
+          }
+          literal.appendCodePoint(c);
+          continue;
+        }
+        flushLiteral(literal, segment);
+        if (item instanceof CharNode && ((CharNode) item).isDot()) {
+          segment.add(null);
+        } else if (item instanceof RepeatNode
+            && ((RepeatNode) item).min == 0 && ((RepeatNode) item).max == -1
+            && ((RepeatNode) item).child instanceof CharNode
+            && ((CharNode) ((RepeatNode) item).child).isDot()) {
+          hasStar = true;
+          if (i == 0) {
+            leadingStar = true;
+          }
+          if (i == items.size() - 1) {
+            trailingStar = true;
+          }
+          if (!segment.isEmpty()) {
+            segments.add(segment.toArray(new byte[segment.size()][]));
+            segment.clear();
+          }
+        } else {
+          return null;
+        }
+      }
+      flushLiteral(literal, segment);
+      if (!segment.isEmpty()) {
+        segments.add(segment.toArray(new byte[segment.size()][]));
+      }
+      return new GlobMatcher(segments.toArray(new byte[segments.size()][][]),
+          leadingStar, trailingStar, hasStar);
+    }
+
+    private static void flushLiteral(StringBuilder literal,
+        List<byte[]> segment) {
+      if (literal.length() > 0) {
+        Text text = new Text(literal.toString());
+        segment.add(Arrays.copyOf(text.getBytes(), text.getLength()));
+        literal.setLength(0);
+      }
+    }
+
+    @Override
+    public int match(Text s) {
+      byte[] data = s.getBytes();
+      int end = s.getLength();
+      int check = checkText(data, end);
+      if (check < 0) {
+        return UNKNOWN;
+      }
+      if (check > 0) {
+        // nothing in the pattern matches a line terminator
+        return NO_MATCH;
+      }
+
+      int first = 0;
+      int last = segments.length - 1;
+      int pos = 0;
+      if (!hasStar) {
+        if (segments.length == 0) {
+          return end == 0 ? MATCH : NO_MATCH;
+        }
+        return matchForward(segments[0], data, 0, end) == end ? MATCH
+            : NO_MATCH;
+      }
+      if (!leadingStar) {
+        pos = matchForward(segments[first++], data, 0, end);
+        if (pos < 0) {
+          return NO_MATCH;
+        }
+      }
+      if (!trailingStar) {
+        end = matchBackward(segments[last--], data, pos, end);
+        if (end < 0) {
+          return NO_MATCH;
+        }
+      }
+      for (int i = first; i <= last; i++) {
+        pos = find(segments[i], data, pos, end);
+        if (pos < 0) {
+          return NO_MATCH;
+        }
+      }
+      return MATCH;
+    }
+
+    /**
+     * Matches a segment at data[pos], returning where it ends or -1.
+     */
+    private static int matchForward(byte[][] segment, byte[] data, int pos,
+        int end) {
+      for (byte[] literal : segment) {
+        if (literal == null) {
+          if (pos >= end) {
+            return -1;
+          }
+          pos += sequenceLength(data, pos, end);
+        } else {
+          if (end - pos < literal.length || !regionMatches(data, pos, literal)) {
+            return -1;
+          }
+          pos += literal.length;
+        }
+      }
+      return pos;
+    }
+
+    /**
+     * Matches a segment ending at data[end], returning where it starts or -1
+     * if it does not fit after start.
+     */
+    private static int matchBackward(byte[][] segment, byte[] data,
+        int start, int end) {
+      for (int k = segment.length - 1; k >= 0; k--) {
+        byte[] literal = segment[k];
+        if (literal == null) {
+          if (end <= start) {
+            return -1;
+          }
+          end--;
+          while (end > start && (data[end] & 0xC0) == 0x80) {
+            end--;
+          }
+        } else {
+          if (end - start < literal.length
+              || !regionMatches(data, end - literal.length, literal)) {
+            return -1;
+          }
+          end -= literal.length;
+        }
+      }
+      return end;
+    }
+
+    /**
+     * Finds the leftmost match of a segment in data[pos, end), returning
+     * where it ends or -1.
+     */
+    private static int find(byte[][] segment, byte[] data, int pos, int end) {
+      while (pos < end) {
+        int matchEnd = matchForward(segment, data, pos, end);
+        if (matchEnd >= 0) {
+          return matchEnd;
+        }
+        pos += sequenceLength(data, pos, end);
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * Thompson NFA over code points. State i is a character state when
+   * ranges[i] is set, a match state when it is MATCH_STATE, and otherwise
+   * an epsilon state leading to all of targets[i].
+   */
+  private static final class Nfa {
+    static final int[] MATCH_STATE = new int[0];
+
+    final List<int[]> ranges = new ArrayList<int[]>();
+    final List<int[]> targets = new ArrayList<int[]>();
+
+    int add(int[] stateRanges, int[] stateTargets) {
+      ranges.add(stateRanges);
+      targets.add(stateTargets);
+      return ranges.size() - 1;
+    }
+
+    int addMatch() {
+      return add(MATCH_STATE, null);
+    }
+
+    /**
+     * Builds the states for node followed by next, returning the first
+     * state, or -1 if the NFA gets too large.
+     */
+    int build(Node node, int next) {
+      if (next < 0 || ranges.size() > MAX_NFA_STATES) {
+        return -1;
+      }
+      if (node instanceof CharNode) {
+        return add(((CharNode) node).ranges, new int[] {next});
+      }
+      if (node instanceof ConcatNode) {
+        List<Node> children = ((ConcatNode) node).children;
+        for (int i = children.size() - 1; i >= 0; i--) {
+          next = build(children.get(i), next);
+        }
+        return next;
+      }
+      if (node instanceof AltNode) {
+        List<Node> children = ((AltNode) node).children;
+        int[] branches = new int[children.size()];
+        for (int i = 0; i < branches.length; i++) {
+          branches[i] = build(children.get(i), next);
+          if (branches[i] < 0) {
+            return -1;
+          }
+        }
+        return add(null, branches);
+      }
+      RepeatNode repeat = (RepeatNode) node;
+      if (repeat.max < 0) {
+        // a loop back to an epsilon state that either repeats or leaves
+        int loop = add(null, null);
+        int body = build(repeat.child, loop);
+        if (body < 0) {
+          return -1;
+        }
+        targets.set(loop, new int[] {body, next});
+        next = loop;
+      } else {
+        int optional = next;
+        for (int i = repeat.min; i < repeat.max; i++) {
+          int body = build(repeat.child, optional);
+          if (body < 0) {
+            return -1;
+          }
+          optional = add(null, new int[] {body, next});
+        }
+        next = optional;
+      }
+      for (int i = 0; i < repeat.min; i++) {
+        next = build(repeat.child, next);
+      }
+      return next;
+    }
+  }
+
+  /**
+   * Runs an NFA as a DFA whose states are built on first use and kept for
+   * the following rows.
+   */
+  private static final class DfaMatcher extends TextPatternMatcher {
+
+    private static final class State {
+      // the character and match states of the NFA, sorted
+      final int[] nfaStates;
+      final boolean accepting;
+      final State[] ascii = new State[128];
+      Map<Integer, State> other;
+
+      State(int[] nfaStates, boolean accepting) {
+        this.nfaStates = nfaStates;
+        this.accepting = accepting;
+      }
+    }
+
+    private static final class Key {
+      final int[] states;
+      final int hash;
+
+      Key(int[] states) {
+        this.states = states;
+        hash = Arrays.hashCode(states);
+      }
+
+      @Override
+      public int hashCode() {
+        return hash;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        return o instanceof Key && Arrays.equals(states, ((Key) o).states);
+      }
+    }
+
+    private final int[][] ranges;
+    private final int[][] targets;
+    private final int start;
+    private final boolean whole;
+    private final boolean anchorStart;
+    private final boolean anchorEnd;
+
+    private final Map<Key, State> states = new HashMap<Key, State>();
+    private final State initial;
+    private boolean tooLarge;
+
+    // scratch space for closures
+    private final int[] mark;
+    private int generation;
+    private final int[] stack;
+    private final int[] found;
+    private int numFound;
+
+    DfaMatcher(Nfa nfa, int start, boolean whole, boolean anchorStart,
+        boolean anchorEnd) {
+      int n = nfa.ranges.size();
+      ranges = nfa.ranges.toArray(new int[n][]);
+      targets = nfa.targets.toArray(new int[n][]);
+      this.start = start;
+      this.whole = whole;
+      this.anchorStart = anchorStart;
+      this.anchorEnd = anchorEnd;
+      mark = new int[n];
+      stack = new int[n];
+      found = new int[n];
+      numFound = 0;
+      generation++;
+      addClosure(start);
+      initial = intern();
+    }
+
+    private void addClosure(int state) {
+      if (mark[state] == generation) {
+        return;
+      }
+      mark[state] = generation;
+      int top = 0;
+      stack[top++] = state;
+      while (top > 0) {
+        int s = stack[--top];
+        if (ranges[s] != null) {
+          found[numFound++] = s;
+        } else {
+          for (int t : targets[s]) {
+            if (mark[t] != generation) {
+              mark[t] = generation;
+              stack[top++] = t;
+            }
+          }
+        }
+      }
+    }
+
+    private State intern() {
+      int[] set = Arrays.copyOf(found, numFound);
+      Arrays.sort(set);
+      Key key = new Key(set);
+      State state = states.get(key);
+      if (state == null) {
+        boolean accepting = false;
+        for (int s : set) {
+          if (ranges[s] == Nfa.MATCH_STATE) {
+            accepting = true;
+          }
+        }
+        state = new State(set, accepting);
+        states.put(key, state);
+        if (states.size() > MAX_DFA_STATES) {
+          tooLarge = true;
+        }
+      }
+      return state;
+    }
+
+    private State step(State state, int c) {
+      numFound = 0;
+      generation++;
+      for (int s : state.nfaStates) {
+        if (ranges[s] != Nfa.MATCH_STATE && contains(ranges[s], c)) {
+          addClosure(targets[s][0]);
+        }
+      }
+      if (!whole && !anchorStart) {
+        // a match may also start at the next character
+        addClosure(start);
+      }
+      State next = intern();
+      if (c < 128) {
+        state.ascii[c] = next;
+      } else {
+        if (state.other == null) {
+          state.other = new HashMap<Integer, State>();
+        }
+        state.other.put(c, next);
+      }
+      return next;
+    }
+
+    @Override
+    public int match(Text s) {
+      if (tooLarge) {
+        return UNKNOWN;
+      }
+      byte[] data = s.getBytes();
+      int length = s.getLength();
+      // "$" also matches before a line terminator that ends the text
+      int beforeTerminator = anchorEnd ? finalTerminator(data, length) : -1;
+      boolean earlyMatch = !whole && !anchorEnd;
+
+      State state = initial;
+      if (earlyMatch && state.accepting) {
+        return MATCH;
+      }
+      boolean acceptedBeforeTerminator = false;
+      int i = 0;
+      while (i < length) {
+        if (i == beforeTerminator && state.accepting) {
+          acceptedBeforeTerminator = true;
+        }
+        int c = data[i];
+        State next;
+        if (c >= 0) {
+          i++;
+          next = state.ascii[c];
+        } else {
+          int size = sequenceLength(data, i, length);
+          if (size < 0) {
+            return UNKNOWN;
+          }
+          c = decode(data, i, size);
+          i += size;
+          next = state.other == null ? null : state.other.get(c);
+        }
+        if (next == null) {
+          next = step(state, c);
+          if (tooLarge) {
+            return UNKNOWN;
+          }
+        }
+        state = next;
+        if (state.nfaStates.length == 0) {
+          return acceptedBeforeTerminator ? MATCH : NO_MATCH;
+        }
+        if (earlyMatch && state.accepting) {
+          return MATCH;
+        }
+      }
+      return state.accepting || acceptedBeforeTerminator ? MATCH : NO_MATCH;
+    }
+
+    private static int decode(byte[] data, int i, int size) {
+      int c = data[i] & (0xFF >> (size + 1));
+      for (int k = 1; k < size; k++) {
+        c = (c << 6) | (data[i + k] & 0x3F);
+      }
+      return c;
+    }
+
+    /**
+     * Returns where the line terminator that ends the text starts, or -1.
+     */
+    private static int finalTerminator(byte[] data, int length) {
+      if (length >= 2 && data[length - 2] == '\r' && data[length - 1] == '\n') {
+        return length - 2;
+      }
+      if (length >= 1 && (data[length - 1] == '\n' || data[length - 1] == '\r')) {
+        return length - 1;
+      }
+      if (length >= 2 && data[length - 2] == (byte) 0xC2
+          && data[length - 1] == (byte) 0x85) {
+        return length - 2;
+      }
+      if (length >= 3 && data[length - 3] == (byte) 0xE2
+          && data[length - 2] == (byte) 0x80
+          && (data[length - 1] == (byte) 0xA8
+          || data[length - 1] == (byte) 0xA9)) {
+        return length - 3;
+      }
+      return -1;
+    }
+  }
+}
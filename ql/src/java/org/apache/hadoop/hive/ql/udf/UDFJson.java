@@ -84,6 +84,10 @@ public class UDFJson extends UDF {
   static Map<String, String> mKeyGroup1Cache = new HashCache<String, String>();
   static Map<String, Boolean> mKeyMatchesCache = new HashCache<String, Boolean>();
 
+  // Streaming extractors for the paths seen by this instance
+  Map<String, JSONPathExtractor> extractorCache =
+      new HashCache<String, JSONPathExtractor>();
+
   Text result = new Text();
 
   public UDFJson() {
@@ -116,6 +120,28 @@ public class UDFJson extends UDF {
     }
 
     try {
+      // Resolve plain key and subscript paths with a single scan
+      JSONPathExtractor extractor = extractorCache.get(pathString);
+      if (extractor == null) {
+        extractor = new JSONPathExtractor(new String[] {pathString});
+        extractorCache.put(pathString, extractor);
+      }
+      if (extractor.isSupported(0)) {
+        JSONPathExtractor.Status status = extractor.extract(jsonString);
+        if (status == JSONPathExtractor.Status.INVALID) {
+          return null;
+        }
+        if (status == JSONPathExtractor.Status.OK && extractor.isResolved(0)) {
+          Object value = extractor.getValue(0);
+          String text = value == null ? null : value.toString();
+          if (text == null) {
+            return null;
+          }
+          result.set(text);
+          return result;
+        }
+      }
+
       // Cache pathExpr
       String[] pathExpr = pathExprCache.get(pathString);
       if (pathExpr == null) {
@@ -37,7 +37,11 @@ import org.apache.hadoop.io.Text;
     + "  27      val_27  2008-04-08      12")
 public class UDFLike extends UDF {
   private final Text lastLikePattern = new Text();
+  private String lastRegExp = null;
   private Pattern p = null;
+  // byte-level matcher for complex patterns, or null if it does not support
+  // the pattern
+  private TextPatternMatcher matcher = null;
 
   // Doing characters comparison directly instead of regular expression
   // matching for simple patterns like "%abc%".
@@ -49,7 +53,8 @@ public class UDFLike extends UDF {
     COMPLEX, // all other cases, such as "ab%c_de"
   }
 
-  private PatternType type = PatternType.COMPLEX;
+  // lastLikePattern starts out empty, so start with what parsing "" gives
+  private PatternType type = PatternType.NONE;
   private final Text simplePattern = new Text();
 
   private final BooleanWritable result = new BooleanWritable();
@@ -183,13 +188,26 @@ public class UDFLike extends UDF {
 
       parseSimplePattern(strLikePattern);
       if (type == PatternType.COMPLEX) {
-        p = Pattern.compile(likePatternToRegExp(strLikePattern));
+        lastRegExp = likePatternToRegExp(strLikePattern);
+        matcher = TextPatternMatcher.compileLike(strLikePattern);
+        // the regular expression is only needed when the matcher cannot
+        // decide, so only compile it up front if there is no matcher
+        p = matcher == null ? Pattern.compile(lastRegExp) : null;
       }
     }
 
     if (type == PatternType.COMPLEX) {
-      Matcher m = p.matcher(s.toString());
-      result.set(m.matches());
+      int match = matcher == null ? TextPatternMatcher.UNKNOWN : matcher
+          .match(s);
+      if (match == TextPatternMatcher.UNKNOWN) {
+        if (p == null) {
+          p = Pattern.compile(lastRegExp);
+        }
+        Matcher m = p.matcher(s.toString());
+        result.set(m.matches());
+      } else {
+        result.set(match == TextPatternMatcher.MATCH);
+      }
     } else {
       int startS = 0;
       int endS = s.getLength();
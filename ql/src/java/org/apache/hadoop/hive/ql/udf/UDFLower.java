@@ -20,6 +20,7 @@ package org.apache.hadoop.hive.ql.udf;
 
 import org.apache.hadoop.hive.ql.exec.Description;
 import org.apache.hadoop.hive.ql.exec.UDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFUtils;
 import org.apache.hadoop.io.Text;
 
 /**
@@ -32,6 +33,8 @@ import org.apache.hadoop.io.Text;
     + "  > SELECT _FUNC_('Facebook') FROM src LIMIT 1;\n" + "  'facebook'")
 public class UDFLower extends UDF {
   private Text t = new Text();
+  private final boolean asciiCaseMapping = GenericUDFUtils
+      .hasAsciiCaseMapping();
 
   public UDFLower() {
   }
@@ -40,7 +43,20 @@ public class UDFLower extends UDF {
     if (s == null) {
       return null;
     }
-    t.set(s.toString().toLowerCase());
+    byte[] data = s.getBytes();
+    if (!asciiCaseMapping || !GenericUDFUtils.isAscii(data, 0, s.getLength())) {
+      t.set(s.toString().toLowerCase());
+      return t;
+    }
+
+    // map ASCII letters in place
+    t.set(s);
+    data = t.getBytes();
+    for (int i = 0; i < t.getLength(); i++) {
+      if (data[i] >= 'A' && data[i] <= 'Z') {
+        data[i] = (byte) (data[i] + ('a' - 'A'));
+      }
+    }
     return t;
   }
 
@@ -21,6 +21,7 @@ package org.apache.hadoop.hive.ql.udf;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.hive.ql.exec.Description;
 import org.apache.hadoop.hive.ql.exec.UDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFUtils;
 import org.apache.hadoop.io.Text;
 
 /**
@@ -42,7 +43,19 @@ public class UDFRTrim extends UDF {
     if (s == null) {
       return null;
     }
-    result.set(StringUtils.stripEnd(s.toString(), " "));
+    byte[] data = s.getBytes();
+    int start = 0;
+    int end = s.getLength();
+    if (GenericUDFUtils.getUtf16Length(data, start, end) < 0) {
+      // decoding replaces malformed bytes
+      result.set(StringUtils.stripEnd(s.toString(), " "));
+      return result;
+    }
+
+    while (end > start && data[end - 1] == ' ') {
+      end--;
+    }
+    result.set(data, start, end - start);
     return result;
   }
 
@@ -41,6 +41,9 @@ public class UDFRegExp extends UDF {
 
   private final Text lastRegex = new Text();
   private Pattern p = null;
+  private TextPatternMatcher matcher = null;
+  // the number of rows seen with lastRegex, up to COMPILE_AFTER_ROWS
+  private int regexRows = 0;
   private boolean warned = false;
 
   private BooleanWritable result = new BooleanWritable();
@@ -64,9 +67,22 @@ public class UDFRegExp extends UDF {
     if (!regex.equals(lastRegex) || p == null) {
       lastRegex.set(regex);
       p = Pattern.compile(regex.toString());
+      matcher = null;
+      regexRows = 0;
+    }
+    // only compile the byte matcher for a regex that stays the same
+    if (regexRows < TextPatternMatcher.COMPILE_AFTER_ROWS
+        && ++regexRows == TextPatternMatcher.COMPILE_AFTER_ROWS) {
+      matcher = TextPatternMatcher.compileRegex(regex.toString());
+    }
+    int match = matcher == null ? TextPatternMatcher.UNKNOWN : matcher
+        .match(s);
+    if (match == TextPatternMatcher.UNKNOWN) {
+      Matcher m = p.matcher(s.toString());
+      result.set(m.find(0));
+    } else {
+      result.set(match == TextPatternMatcher.MATCH);
     }
-    Matcher m = p.matcher(s.toString());
-    result.set(m.find(0));
     return result;
   }
 
@@ -23,6 +23,7 @@ import java.util.regex.Pattern;
 
 import org.apache.hadoop.hive.ql.exec.Description;
 import org.apache.hadoop.hive.ql.exec.UDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFUtils;
 import org.apache.hadoop.io.Text;
 
 /**
@@ -38,6 +39,9 @@ public class UDFRegExpReplace extends UDF {
 
   private final Text lastRegex = new Text();
   private Pattern p = null;
+  private TextPatternMatcher matcher = null;
+  // the number of rows seen with lastRegex, up to COMPILE_AFTER_ROWS
+  private int regexRows = 0;
 
   private final Text lastReplacement = new Text();
   private String replacementString = "";
@@ -55,6 +59,20 @@ public class UDFRegExpReplace extends UDF {
     if (!regex.equals(lastRegex) || p == null) {
       lastRegex.set(regex);
       p = Pattern.compile(regex.toString());
+      matcher = null;
+      regexRows = 0;
+    }
+    // only compile the byte matcher for a regex that stays the same
+    if (regexRows < TextPatternMatcher.COMPILE_AFTER_ROWS
+        && ++regexRows == TextPatternMatcher.COMPILE_AFTER_ROWS) {
+      matcher = TextPatternMatcher.compileRegex(regex.toString());
+    }
+    // Rows the regex does not match come back unchanged, which is only
+    // byte-for-byte the same if they are well-formed UTF-8.
+    if (matcher != null && matcher.match(s) == TextPatternMatcher.NO_MATCH
+        && GenericUDFUtils.getUtf16Length(s.getBytes(), 0, s.getLength()) >= 0) {
+      result.set(s);
+      return result;
     }
     Matcher m = p.matcher(s.toString());
     // If the replacement is changed, make sure we redo toString again.
@@ -20,6 +20,7 @@ package org.apache.hadoop.hive.ql.udf;
 
 import org.apache.hadoop.hive.ql.exec.Description;
 import org.apache.hadoop.hive.ql.exec.UDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFUtils;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.io.Text;
 
@@ -40,12 +41,44 @@ import org.apache.hadoop.io.Text;
     + "  > SELECT _FUNC_('Facebook', 5, 1) FROM src LIMIT 1;\n"
     + "  'b'")
 public class UDFSubstr extends UDF {
+  private final int[] index;
   private Text r;
 
   public UDFSubstr() {
+    index = new int[2];
     r = new Text();
   }
 
+  /**
+   * Computes the [start, end) char range of the substring of a string of the
+   * given length into index. Returns false if the substring is empty.
+   */
+  private boolean makeIndex(int pos, int len, int length) {
+    if ((Math.abs(pos) > length)) {
+      return false;
+    }
+
+    int start, end;
+
+    if (pos > 0) {
+      start = pos - 1;
+    } else if (pos < 0) {
+      start = length + pos;
+    } else {
+      start = 0;
+    }
+
+    if ((length - start) < len) {
+      end = length;
+    } else {
+      end = start + len;
+    }
+
+    index[0] = start;
+    index[1] = end;
+    return true;
+  }
+
   public Text evaluate(Text t, IntWritable pos, IntWritable len) {
 
     if ((t == null) || (pos == null) || (len == null)) {
@@ -57,28 +90,35 @@ public class UDFSubstr extends UDF {
       return r;
     }
 
-    String s = t.toString();
-    if ((Math.abs(pos.get()) > s.length())) {
+    // Positions count the chars of the decoded String. As long as the bytes
+    // are well-formed UTF-8 they can be located without decoding.
+    byte[] data = t.getBytes();
+    int length = GenericUDFUtils.getUtf16Length(data, 0, t.getLength());
+    if (length < 0) {
+      String s = t.toString();
+      if (makeIndex(pos.get(), len.get(), s.length())) {
+        r.set(s.substring(index[0], index[1]));
+      }
       return r;
     }
 
-    int start, end;
-
-    if (pos.get() > 0) {
-      start = pos.get() - 1;
-    } else if (pos.get() < 0) {
-      start = s.length() + pos.get();
-    } else {
-      start = 0;
+    if (!makeIndex(pos.get(), len.get(), length)) {
+      return r;
     }
-
-    if ((s.length() - start) < len.get()) {
-      end = s.length();
+    if (length == t.getLength()) {
+      // ASCII
+      r.set(data, index[0], index[1] - index[0]);
+      return r;
+    }
+    int start = GenericUDFUtils.getUtf8Offset(data, 0, index[0]);
+    int end = start < 0 ? -1 : GenericUDFUtils.getUtf8Offset(data, start,
+        index[1] - index[0]);
+    if (end < 0) {
+      // the substring splits a surrogate pair
+      r.set(t.toString().substring(index[0], index[1]));
     } else {
-      end = start + len.get();
+      r.set(data, start, end - start);
     }
-
-    r.set(s.substring(start, end));
     return r;
   }
 
@@ -20,6 +20,7 @@ package org.apache.hadoop.hive.ql.udf;
 
 import org.apache.hadoop.hive.ql.exec.Description;
 import org.apache.hadoop.hive.ql.exec.UDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFUtils;
 import org.apache.hadoop.io.Text;
 
 /**
@@ -33,6 +34,8 @@ import org.apache.hadoop.io.Text;
 public class UDFUpper extends UDF {
 
   Text t = new Text();
+  private final boolean asciiCaseMapping = GenericUDFUtils
+      .hasAsciiCaseMapping();
 
   public UDFUpper() {
   }
@@ -41,7 +44,20 @@ public class UDFUpper extends UDF {
     if (s == null) {
       return null;
     }
-    t.set(s.toString().toUpperCase());
+    byte[] data = s.getBytes();
+    if (!asciiCaseMapping || !GenericUDFUtils.isAscii(data, 0, s.getLength())) {
+      t.set(s.toString().toUpperCase());
+      return t;
+    }
+
+    // map ASCII letters in place
+    t.set(s);
+    data = t.getBytes();
+    for (int i = 0; i < t.getLength(); i++) {
+      if (data[i] >= 'a' && data[i] <= 'z') {
+        data[i] = (byte) (data[i] - ('a' - 'A'));
+      }
+    }
     return t;
   }
 
@@ -23,6 +23,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 
 import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
+import org.apache.hadoop.hive.ql.exec.MethodInvoker;
 import org.apache.hadoop.hive.ql.exec.UDAF;
 import org.apache.hadoop.hive.ql.exec.UDAFEvaluator;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
@@ -95,6 +96,11 @@ public class GenericUDAFBridge extends AbstractGenericUDAFResolver {
     transient Method terminatePartialMethod;
     transient Method terminateMethod;
 
+    transient MethodInvoker iterateInvoker;
+    transient MethodInvoker mergeInvoker;
+    transient MethodInvoker terminatePartialInvoker;
+    transient MethodInvoker terminateInvoker;
+
     transient ConversionHelper conversionHelper;
 
     @Override
@@ -119,6 +125,11 @@ public class GenericUDAFBridge extends AbstractGenericUDAFResolver {
         }
       }
 
+      iterateInvoker = getInvoker(iterateMethod);
+      mergeInvoker = getInvoker(mergeMethod);
+      terminatePartialInvoker = getInvoker(terminatePartialMethod);
+      terminateInvoker = getInvoker(terminateMethod);
+
       // Input: do Java/Writable conversion if needed
       Method aggregateMethod = null;
       if (mode == Mode.PARTIAL1 || mode == Mode.COMPLETE) {
@@ -146,6 +157,10 @@ public class GenericUDAFBridge extends AbstractGenericUDAFResolver {
       }
     }
 
+    private static MethodInvoker getInvoker(Method method) {
+      return method == null ? null : MethodInvoker.get(method);
+    }
+
     /** class for storing UDAFEvaluator value. */
     static class UDAFAgg implements AggregationBuffer {
       UDAFEvaluator ueObject;
@@ -167,24 +182,24 @@ public class GenericUDAFBridge extends AbstractGenericUDAFResolver {
 
     @Override
     public void iterate(AggregationBuffer agg, Object[] parameters) throws HiveException {
-      FunctionRegistry.invoke(iterateMethod, ((UDAFAgg) agg).ueObject,
+      FunctionRegistry.invoke(iterateInvoker, ((UDAFAgg) agg).ueObject,
           conversionHelper.convertIfNecessary(parameters));
     }
 
     @Override
     public void merge(AggregationBuffer agg, Object partial) throws HiveException {
-      FunctionRegistry.invoke(mergeMethod, ((UDAFAgg) agg).ueObject,
+      FunctionRegistry.invoke(mergeInvoker, ((UDAFAgg) agg).ueObject,
           conversionHelper.convertIfNecessary(partial));
     }
 
     @Override
     public Object terminate(AggregationBuffer agg) throws HiveException {
-      return FunctionRegistry.invoke(terminateMethod, ((UDAFAgg) agg).ueObject);
+      return FunctionRegistry.invoke(terminateInvoker, ((UDAFAgg) agg).ueObject);
     }
 
     @Override
     public Object terminatePartial(AggregationBuffer agg) throws HiveException {
-      return FunctionRegistry.invoke(terminatePartialMethod,
+      return FunctionRegistry.invoke(terminatePartialInvoker,
           ((UDAFAgg) agg).ueObject);
     }
 
@@ -0,0 +1,178 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf.generic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.hive.ql.exec.Description;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentTypeException;
+import org.apache.hadoop.hive.ql.index.bitmap.EWAHBitmap;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.parse.SemanticException;
+import org.apache.hadoop.hive.serde2.objectinspector.ListObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorUtils;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.io.LongWritable;
+
+/**
+ * GenericUDAFEWAHBitmap: builds a compressed bitmap of the row positions, as
+ * stored by bitmap indexes.
+ */
+@Description(name = "ewah_bitmap",
+    value = "_FUNC_(expr) - Returns an EWAH-compressed bitmap of the positions "
+    + "given by expr")
+public class GenericUDAFEWAHBitmap extends AbstractGenericUDAFResolver {
+
+  @Override
+  public GenericUDAFEvaluator getEvaluator(TypeInfo[] parameters)
+      throws SemanticException {
+    if (parameters.length != 1) {
+      throw new UDFArgumentTypeException(parameters.length - 1,
+          "Exactly one argument is expected.");
+    }
+    if (parameters[0].getCategory() != ObjectInspector.Category.PRIMITIVE) {
+      throw new UDFArgumentTypeException(0,
+          "Only primitive type arguments are accepted but "
+          + parameters[0].getTypeName() + " was passed as parameter 1.");
+    }
+    switch (((PrimitiveTypeInfo) parameters[0]).getPrimitiveCategory()) {
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+      break;
+    default:
+      throw new UDFArgumentTypeException(0,
+          "Only integer type arguments are accepted but "
+          + parameters[0].getTypeName() + " was passed as parameter 1.");
+    }
+    return new GenericUDAFEWAHBitmapEvaluator();
+  }
+
+  public static class GenericUDAFEWAHBitmapEvaluator extends GenericUDAFEvaluator {
+
+    // For PARTIAL1 and COMPLETE: ObjectInspector for the positions
+    private PrimitiveObjectInspector inputOI;
+    // For PARTIAL2 and FINAL: ObjectInspector for partial bitmaps
+    private ListObjectInspector internalMergeOI;
+
+    @Override
+    public ObjectInspector init(Mode m, ObjectInspector[] parameters)
+        throws HiveException {
+      super.init(m, parameters);
+      if (m == Mode.PARTIAL1 || m == Mode.COMPLETE) {
+        inputOI = (PrimitiveObjectInspector) parameters[0];
+      } else {
+        internalMergeOI = (ListObjectInspector) parameters[0];
+      }
+      return ObjectInspectorFactory.getStandardListObjectInspector(
+          PrimitiveObjectInspectorFactory.writableLongObjectInspector);
+    }
+
+    static class BitmapAggregationBuffer implements AggregationBuffer {
+      EWAHBitmap bitmap;
+    }
+
+    @Override
+    public void reset(AggregationBuffer agg) throws HiveException {
+      ((BitmapAggregationBuffer) agg).bitmap = new EWAHBitmap();
+    }
+
+    @Override
+    public AggregationBuffer getNewAggregationBuffer() throws HiveException {
+      BitmapAggregationBuffer ret = new BitmapAggregationBuffer();
+      reset(ret);
+      return ret;
+    }
+
+    @Override
+    public void iterate(AggregationBuffer agg, Object[] parameters)
+        throws HiveException {
+      assert (parameters.length == 1);
+      Object p = parameters[0];
+      if (p == null) {
+        return;
+      }
+      long position = PrimitiveObjectInspectorUtils.getLong(p, inputOI);
+      if (position < 0 || position > Integer.MAX_VALUE) {
+        throw new HiveException("Invalid bitmap position " + position);
+      }
+      BitmapAggregationBuffer myagg = (BitmapAggregationBuffer) agg;
+      // positions usually come in increasing order
+      if (!myagg.bitmap.set((int) position)) {
+        EWAHBitmap single = new EWAHBitmap();
+        single.set((int) position);
+        myagg.bitmap = myagg.bitmap.or(single);
+      }
+    }
+
+    @Override
+    public Object terminatePartial(AggregationBuffer agg) throws HiveException {
+      return terminate(agg);
+    }
+
+    @Override
+    public void merge(AggregationBuffer agg, Object partial)
+        throws HiveException {
+      if (partial == null) {
+        return;
+      }
+      BitmapAggregationBuffer myagg = (BitmapAggregationBuffer) agg;
+      myagg.bitmap = myagg.bitmap.or(readBitmap(internalMergeOI, partial));
+    }
+
+    @Override
+    public Object terminate(AggregationBuffer agg) throws HiveException {
+      return writeBitmap(((BitmapAggregationBuffer) agg).bitmap);
+    }
+  }
+
+  /**
+   * @return the bitmap stored in an array of bigint
+   */
+  static EWAHBitmap readBitmap(ListObjectInspector listOI, Object list) {
+    PrimitiveObjectInspector elementOI =
+      (PrimitiveObjectInspector) listOI.getListElementObjectInspector();
+    List<?> elements = listOI.getList(list);
+    long[] words = new long[elements.size()];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = PrimitiveObjectInspectorUtils.getLong(elements.get(i),
+          elementOI);
+    }
+    return EWAHBitmap.fromWords(words);
+  }
+
+  /**
+   * @return the bitmap as an array of bigint
+   */
+  static ArrayList<LongWritable> writeBitmap(EWAHBitmap bitmap) {
+    long[] words = bitmap.toWords();
+    ArrayList<LongWritable> ret = new ArrayList<LongWritable>(words.length);
+    for (long word : words) {
+      ret.add(new LongWritable(word));
+    }
+    return ret;
+  }
+}
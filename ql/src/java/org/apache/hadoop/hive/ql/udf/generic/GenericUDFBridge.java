@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 
 import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
+import org.apache.hadoop.hive.ql.exec.MethodInvoker;
 import org.apache.hadoop.hive.ql.exec.UDF;
 import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
@@ -107,6 +108,11 @@ public class GenericUDFBridge extends GenericUDF implements Serializable {
    */
   transient Method udfMethod;
 
+  /**
+   * Invoker for udfMethod, generated at initialization time.
+   */
+  transient MethodInvoker udfInvoker;
+
   /**
    * Helper to convert the parameters before passing to udfMethod.
    */
@@ -134,6 +140,7 @@ public class GenericUDFBridge extends GenericUDF implements Serializable {
     }
     udfMethod = udf.getResolver().getEvalMethod(argumentTypeInfos);
     udfMethod.setAccessible(true);
+    udfInvoker = MethodInvoker.get(udfMethod);
 
     // Create parameter converters
     conversionHelper = new ConversionHelper(udfMethod, arguments);
@@ -159,7 +166,7 @@ public class GenericUDFBridge extends GenericUDF implements Serializable {
     }
 
     // Call the function
-    Object result = FunctionRegistry.invoke(udfMethod, udf, conversionHelper
+    Object result = FunctionRegistry.invoke(udfInvoker, udf, conversionHelper
         .convertIfNecessary(realArguments));
 
     return result;
@@ -0,0 +1,88 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf.generic;
+
+import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentTypeException;
+import org.apache.hadoop.hive.ql.index.bitmap.EWAHBitmap;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.serde.Constants;
+import org.apache.hadoop.hive.serde2.objectinspector.ListObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+
+/**
+ * GenericUDFEWAHBitmapBop: base class of the binary operations on the bitmaps
+ * built by ewah_bitmap.
+ */
+public abstract class GenericUDFEWAHBitmapBop extends GenericUDF {
+
+  private final String name;
+  private ListObjectInspector[] bitmapOIs;
+
+  GenericUDFEWAHBitmapBop(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the result of the operation on two bitmaps
+   */
+  protected abstract EWAHBitmap bitmapBop(EWAHBitmap a, EWAHBitmap b);
+
+  @Override
+  public ObjectInspector initialize(ObjectInspector[] arguments)
+      throws UDFArgumentException {
+    if (arguments.length != 2) {
+      throw new UDFArgumentException("The function " + name
+          + " accepts 2 arguments.");
+    }
+    bitmapOIs = new ListObjectInspector[2];
+    for (int i = 0; i < 2; i++) {
+      if (arguments[i].getCategory() != Category.LIST) {
+        throw new UDFArgumentTypeException(i, "\"" + Constants.LIST_TYPE_NAME
+            + "\" expected at function " + name + ", but \""
+            + arguments[i].getTypeName() + "\" is found");
+      }
+      bitmapOIs[i] = (ListObjectInspector) arguments[i];
+    }
+    return ObjectInspectorFactory.getStandardListObjectInspector(
+        PrimitiveObjectInspectorFactory.writableLongObjectInspector);
+  }
+
+  @Override
+  public Object evaluate(DeferredObject[] arguments) throws HiveException {
+    Object a = arguments[0].get();
+    Object b = arguments[1].get();
+    if (a == null || b == null) {
+      return null;
+    }
+    EWAHBitmap result = bitmapBop(
+        GenericUDAFEWAHBitmap.readBitmap(bitmapOIs[0], a),
+        GenericUDAFEWAHBitmap.readBitmap(bitmapOIs[1], b));
+    return GenericUDAFEWAHBitmap.writeBitmap(result);
+  }
+
+  @Override
+  public String getDisplayString(String[] children) {
+    assert (children.length == 2);
+    return name + "(" + children[0] + ", " + children[1] + ")";
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf.generic;
+
+import org.apache.hadoop.hive.ql.exec.Description;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentTypeException;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.serde.Constants;
+import org.apache.hadoop.hive.serde2.objectinspector.ListObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.io.BooleanWritable;
+
+/**
+ * GenericUDFEWAHBitmapEmpty.
+ *
+ */
+@Description(name = "ewah_bitmap_empty",
+    value = "_FUNC_(bitmap) - Returns true if no bit is set in the bitmap")
+public class GenericUDFEWAHBitmapEmpty extends GenericUDF {
+
+  private ListObjectInspector bitmapOI;
+  private final BooleanWritable result = new BooleanWritable();
+
+  @Override
+  public ObjectInspector initialize(ObjectInspector[] arguments)
+      throws UDFArgumentException {
+    if (arguments.length != 1) {
+      throw new UDFArgumentException(
+          "The function EWAH_BITMAP_EMPTY accepts 1 argument.");
+    }
+    if (arguments[0].getCategory() != Category.LIST) {
+      throw new UDFArgumentTypeException(0, "\"" + Constants.LIST_TYPE_NAME
+          + "\" expected at function EWAH_BITMAP_EMPTY, but \""
+          + arguments[0].getTypeName() + "\" is found");
+    }
+    bitmapOI = (ListObjectInspector) arguments[0];
+    return PrimitiveObjectInspectorFactory.writableBooleanObjectInspector;
+  }
+
+  @Override
+  public Object evaluate(DeferredObject[] arguments) throws HiveException {
+    Object bitmap = arguments[0].get();
+    if (bitmap == null) {
+      return null;
+    }
+    result.set(GenericUDAFEWAHBitmap.readBitmap(bitmapOI, bitmap).isEmpty());
+    return result;
+  }
+
+  @Override
+  public String getDisplayString(String[] children) {
+    assert (children.length == 1);
+    return "EWAH_BITMAP_EMPTY(" + children[0] + ")";
+  }
+}
@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf.generic;
+
+import java.util.Arrays;
+
+import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentLengthException;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentTypeException;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.udf.JSONPathExtractor;
+import org.apache.hadoop.hive.ql.udf.UDFJson;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorConverters;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.io.Text;
+
+/**
+ * GenericUDFGetJsonObject: get_json_object(json, path) for a call that belongs
+ * to a group of get_json_object calls on the same input. It is not registered
+ * as a function; SharedJsonParseOptimizer puts it in place of the UDFJson
+ * bridge when an operator extracts several constant paths from one
+ * expression.
+ *
+ * The arguments are the JSON text, the path of this call and then the paths
+ * of the whole group. The optimizer gives the calls of a group the same
+ * SharedScan, so the text of a row is scanned once by whichever call comes
+ * first, and the others read their values from that scan. The instance is
+ * part of the plan, so it is shared only by the calls of one operator and is
+ * released with the plan. A call without one, such as a clone, scans alone.
+ */
+public class GenericUDFGetJsonObject extends GenericUDF {
+
+  /**
+   * The last scan done for a group of paths.
+   */
+  public static class SharedScan {
+    JSONPathExtractor extractor;
+    final Text document = new Text();
+    boolean scanned = false;
+    JSONPathExtractor.Status status;
+  }
+
+  private SharedScan sharedScan;
+
+  ObjectInspectorConverters.Converter[] converters;
+  SharedScan scan;
+  String path;
+  int pathIndex;
+  UDFJson fallback;
+  Text result = new Text();
+
+  @Override
+  public ObjectInspector initialize(ObjectInspector[] arguments)
+      throws UDFArgumentException {
+    if (arguments.length < 3) {
+      throw new UDFArgumentLengthException(
+          "The function GET_JSON_OBJECT accepts a json string, a path and the "
+          + "paths of its group.");
+    }
+
+    converters = new ObjectInspectorConverters.Converter[arguments.length];
+    for (int i = 0; i < arguments.length; i++) {
+      if (arguments[i].getCategory() != Category.PRIMITIVE) {
+        throw new UDFArgumentTypeException(i, "The "
+            + GenericUDFUtils.getOrdinal(i + 1)
+            + " argument of function GET_JSON_OBJECT is expected to a "
+            + Category.PRIMITIVE.toString().toLowerCase() + " type, but "
+            + arguments[i].getCategory().toString().toLowerCase()
+            + " is found");
+      }
+      converters[i] = ObjectInspectorConverters.getConverter(arguments[i],
+          PrimitiveObjectInspectorFactory.writableStringObjectInspector);
+    }
+    scan = null;
+    return PrimitiveObjectInspectorFactory.writableStringObjectInspector;
+  }
+
+  @Override
+  public Object evaluate(DeferredObject[] arguments) throws HiveException {
+    Object json = arguments[0].get();
+    if (json == null) {
+      return null;
+    }
+    // the paths are constants, so read them for the first row only
+    if (scan == null) {
+      String[] paths = new String[arguments.length - 2];
+      for (int i = 0; i < paths.length; i++) {
+        Object p = arguments[i + 2].get();
+        paths[i] = p == null ? null : converters[i + 2].convert(p).toString();
+      }
+      Object p = arguments[1].get();
+      path = p == null ? null : converters[1].convert(p).toString();
+      pathIndex = Arrays.asList(paths).indexOf(path);
+      if (path == null || pathIndex < 0) {
+        throw new HiveException("get_json_object path " + path
+            + " is not in its group " + Arrays.toString(paths));
+      }
+      scan = sharedScan != null ? sharedScan : new SharedScan();
+      if (scan.extractor == null) {
+        scan.extractor = new JSONPathExtractor(paths);
+      }
+      fallback = new UDFJson();
+    }
+
+    Text document = (Text) converters[0].convert(json);
+    if (!scan.scanned || !scan.document.equals(document)) {
+      scan.document.set(document);
+      scan.status = scan.extractor.extract(document.toString());
+      scan.scanned = true;
+    }
+
+    JSONPathExtractor extractor = scan.extractor;
+    if (scan.status == JSONPathExtractor.Status.INVALID) {
+      return null;
+    }
+    if (scan.status == JSONPathExtractor.Status.OK
+        && extractor.isResolved(pathIndex)) {
+      Object value = extractor.getValue(pathIndex);
+      String text = value == null ? null : value.toString();
+      if (text == null) {
+        return null;
+      }
+      result.set(text);
+      return result;
+    }
+    return fallback.evaluate(document.toString(), path);
+  }
+
+  public SharedScan getSharedScan() {
+    return sharedScan;
+  }
+
+  public void setSharedScan(SharedScan sharedScan) {
+    this.sharedScan = sharedScan;
+  }
+
+  @Override
+  public String getDisplayString(String[] children) {
+    assert (children.length >= 2);
+    return "get_json_object(" + children[0] + ", " + children[1] + ")";
+  }
+}
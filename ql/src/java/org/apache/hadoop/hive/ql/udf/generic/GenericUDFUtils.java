@@ -24,6 +24,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.Locale;
 
 import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
 import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
@@ -54,6 +55,127 @@ public final class GenericUDFUtils {
     return (b & 0xC0) != 0x80;
   }
 
+  /**
+   * Returns the number of chars that the UTF-8 bytes data[start, end) decode
+   * to, i.e. the length of the String returned by Text.toString(), counting
+   * characters outside the Basic Multilingual Plane as two. Returns -1 if the
+   * bytes are not well-formed UTF-8, because decoding would then replace
+   * them and the String would not round-trip to the same bytes.
+   */
+  public static int getUtf16Length(byte[] data, int start, int end) {
+    int length = 0;
+    int i = start;
+    while (i < end) {
+      if (data[i] >= 0) {
+        i++;
+        length++;
+        continue;
+      }
+      int size = getUtf8SequenceLength(data, i, end);
+      if (size < 0) {
+        return -1;
+      }
+      i += size;
+      length += size == 4 ? 2 : 1;
+    }
+    return length;
+  }
+
+  /**
+   * Returns the length of the well-formed UTF-8 sequence that starts with the
+   * non-ASCII byte data[i], or -1. Overlong forms, surrogates and code points
+   * above U+10FFFF are rejected like the JDK decoder does.
+   */
+  private static int getUtf8SequenceLength(byte[] data, int i, int end) {
+    int b = data[i] & 0xFF;
+    int size;
+    int min = 0x80;
+    int max = 0xBF;
+    if (b < 0xC2) {
+      return -1;
+    } else if (b < 0xE0) {
+      size = 2;
+    } else if (b < 0xF0) {
+      size = 3;
+      if (b == 0xE0) {
+        min = 0xA0;
+      } else if (b == 0xED) {
+        max = 0x9F;
+      }
+    } else if (b < 0xF5) {
+      size = 4;
+      if (b == 0xF0) {
+        min = 0x90;
+      } else if (b == 0xF4) {
+        max = 0x8F;
+      }
+    } else {
+      return -1;
+    }
+    if (i + size > end) {
+      return -1;
+    }
+    int second = data[i + 1] & 0xFF;
+    if (second < min || second > max) {
+      return -1;
+    }
+    for (int k = 2; k < size; k++) {
+      if ((data[i + k] & 0xC0) != 0x80) {
+        return -1;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the offset reached by skipping count chars, as counted by
+   * getUtf16Length(), of well-formed UTF-8 starting at data[start]. Returns
+   * -1 if that would end in the middle of a surrogate pair.
+   */
+  public static int getUtf8Offset(byte[] data, int start, int count) {
+    int i = start;
+    int chars = 0;
+    while (chars < count) {
+      int b = data[i] & 0xFF;
+      if (b < 0x80) {
+        i++;
+        chars++;
+      } else if (b < 0xE0) {
+        i += 2;
+        chars++;
+      } else if (b < 0xF0) {
+        i += 3;
+        chars++;
+      } else {
+        i += 4;
+        chars += 2;
+      }
+    }
+    return chars == count ? i : -1;
+  }
+
+  /**
+   * Checks if all bytes in data[start, end) are ASCII.
+   */
+  public static boolean isAscii(byte[] data, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (data[i] < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if String.toUpperCase() and String.toLowerCase() map ASCII text to
+   * the ASCII case mapping in the default locale. They do not in Turkish and
+   * Azeri, which have a dotted and a dotless i.
+   */
+  public static boolean hasAsciiCaseMapping() {
+    String language = Locale.getDefault().getLanguage();
+    return !"tr".equals(language) && !"az".equals(language);
+  }
+
   /**
    * This class helps to find the return ObjectInspector for a GenericUDF.
    * 
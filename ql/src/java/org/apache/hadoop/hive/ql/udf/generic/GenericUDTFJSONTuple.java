@@ -25,6 +25,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.hive.ql.exec.Description;
 import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
 import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.udf.JSONPathExtractor;
 import org.apache.hadoop.hive.serde.Constants;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
@@ -52,6 +53,7 @@ public class GenericUDTFJSONTuple extends GenericUDTF {
   Text[] cols;    // object pool of non-null Text, avoid creating objects all the time
   Object[] nullCols; // array of null column values
   ObjectInspector[] inputOIs; // input ObjectInspectors
+  JSONPathExtractor extractor; // resolves all paths in one scan
   boolean pathParsed = false;
   boolean seenErrors = false;
 
@@ -115,6 +117,7 @@ public class GenericUDTFJSONTuple extends GenericUDTF {
       for (int i = 0;i < numCols; ++i) {
         paths[i] = ((StringObjectInspector) inputOIs[i+1]).getPrimitiveJavaObject(o[i+1]);
       }
+      extractor = JSONPathExtractor.forFieldNames(paths);
       pathParsed = true;
     }
 
@@ -124,6 +127,27 @@ public class GenericUDTFJSONTuple extends GenericUDTF {
       return;
     }
     try {
+      JSONPathExtractor.Status status = extractor.extract(jsonStr);
+      if (status == JSONPathExtractor.Status.INVALID) {
+        throw new JSONException("invalid JSON text");
+      }
+      if (status == JSONPathExtractor.Status.OK) {
+        for (int i = 0; i < numCols; ++i) {
+          Object value = extractor.getValue(i);
+          if (value == null || value == JSONObject.NULL) {
+            retCols[i] = null;
+          } else {
+            if (retCols[i] == null) {
+              retCols[i] = cols[i];
+            }
+            retCols[i].set(value.toString());
+          }
+        }
+        forward(retCols);
+        return;
+      }
+
+      // syntax the extractor leaves to org.json
       JSONObject jsonObj = new JSONObject(jsonStr);
 
       for (int i = 0; i < numCols; ++i) {
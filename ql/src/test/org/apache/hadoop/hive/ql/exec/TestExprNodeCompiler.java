@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.ql.parse.TypeCheckProcFactory;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeNullDesc;
+import org.apache.hadoop.hive.serde.Constants;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorUtils;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorUtils.ObjectInspectorCopyOption;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+
+/**
+ * TestExprNodeCompiler.
+ *
+ */
+public class TestExprNodeCompiler extends TestCase {
+
+  private final ObjectInspector rowOI;
+  private final List<List<Object>> rows = new ArrayList<List<Object>>();
+
+  private final ExprNodeDesc a = new ExprNodeColumnDesc(
+      TypeInfoFactory.intTypeInfo, "a", "", false);
+  private final ExprNodeDesc b = new ExprNodeColumnDesc(
+      TypeInfoFactory.intTypeInfo, "b", "", false);
+  private final ExprNodeDesc c = new ExprNodeColumnDesc(
+      TypeInfoFactory.longTypeInfo, "c", "", false);
+  private final ExprNodeDesc d = new ExprNodeColumnDesc(
+      TypeInfoFactory.doubleTypeInfo, "d", "", false);
+  private final ExprNodeDesc s = new ExprNodeColumnDesc(
+      TypeInfoFactory.stringTypeInfo, "s", "", false);
+
+  public TestExprNodeCompiler() {
+    List<ObjectInspector> ois = new ArrayList<ObjectInspector>();
+    ois.add(PrimitiveObjectInspectorFactory.javaIntObjectInspector);
+    ois.add(PrimitiveObjectInspectorFactory.javaIntObjectInspector);
+    ois.add(PrimitiveObjectInspectorFactory.javaLongObjectInspector);
+    ois.add(PrimitiveObjectInspectorFactory.javaDoubleObjectInspector);
+    ois.add(PrimitiveObjectInspectorFactory.javaStringObjectInspector);
+    rowOI = ObjectInspectorFactory.getStandardStructObjectInspector(Arrays
+        .asList("a", "b", "c", "d", "s"), ois);
+
+    rows.add(Arrays.<Object> asList(1, 2, 3L, 0.5, "x"));
+    rows.add(Arrays.<Object> asList(-7, 0, 10000000000L, -0.0, ""));
+    rows.add(Arrays.<Object> asList(Integer.MAX_VALUE, 1, -3L, Double.NaN,
+        "xy"));
+    rows.add(Arrays.<Object> asList(null, 5, null, 1.5, null));
+    rows.add(Arrays.<Object> asList(4, null, 4L, null, "x"));
+    rows.add(Arrays.<Object> asList(null, null, null, null, null));
+  }
+
+  private static ExprNodeDesc func(String name, ExprNodeDesc... children)
+      throws Exception {
+    return TypeCheckProcFactory.DefaultExprProcessor.getFuncExprNodeDesc(
+        name, children);
+  }
+
+  private static ExprNodeDesc constant(Object value) {
+    return new ExprNodeConstantDesc(value);
+  }
+
+  /**
+   * Check that the expression compiles and gives the same results as the
+   * interpreter on all rows.
+   */
+  private void verify(ExprNodeDesc expr) throws Exception {
+    ExprNodeEvaluator compiled = ExprNodeCompiler.compile(expr);
+    assertNotNull("not compiled: " + expr.getExprString(), compiled);
+    ExprNodeEvaluator interpreted = ExprNodeEvaluatorFactory.get(expr);
+    ObjectInspector compiledOI = compiled.initialize(rowOI);
+    ObjectInspector interpretedOI = interpreted.initialize(rowOI);
+
+    for (List<Object> row : rows) {
+      Object expected = ObjectInspectorUtils.copyToStandardObject(
+          interpreted.evaluate(row), interpretedOI,
+          ObjectInspectorCopyOption.JAVA);
+      Object actual = ObjectInspectorUtils.copyToStandardObject(compiled
+          .evaluate(row), compiledOI, ObjectInspectorCopyOption.JAVA);
+      assertEquals(expr.getExprString() + " on " + row, expected, actual);
+    }
+  }
+
+  public void testArithmetic() throws Exception {
+    verify(func("+", a, b));
+    verify(func("*", func("-", a, constant(1)), c));
+    verify(func("/", a, b));
+    verify(func("%", c, constant(7)));
+    verify(func("negative", func("+", d, a)));
+  }
+
+  public void testComparisons() throws Exception {
+    verify(func(">", func("*", func("+", a, b), constant(2)), c));
+    verify(func("=", a, b));
+    verify(func("<=", a, c));
+    verify(func("<>", d, constant(0.5)));
+    verify(func("=", s, constant("x")));
+    verify(func("=", a, new ExprNodeNullDesc()));
+  }
+
+  public void testLogic() throws Exception {
+    verify(func("and", func(">", a, constant(0)), func("<", d, constant(1.0))));
+    verify(func("or", func("=", s, constant("x")), func("<", func("/", d, a),
+        constant(1.5))));
+    verify(func("not", func(">=", d, constant(0.5))));
+    verify(func("isnull", a));
+    verify(func("isnotnull", s));
+  }
+
+  public void testConditionals() throws Exception {
+    verify(func("if", func("isnull", a), constant(0), a));
+    verify(func("coalesce", a, b, constant(5)));
+    verify(func("when", func(">", a, constant(1)), d, func(
+        Constants.DOUBLE_TYPE_NAME, b)));
+    verify(func("when", func("=", s, constant("x")), s, func("<", a, b),
+        constant("y")));
+  }
+
+  public void testCasts() throws Exception {
+    verify(func(Constants.INT_TYPE_NAME, d));
+    verify(func(Constants.TINYINT_TYPE_NAME, c));
+    verify(func("and", func(Constants.BOOLEAN_TYPE_NAME, a), func(
+        Constants.BOOLEAN_TYPE_NAME, d)));
+  }
+
+  public void testInterpretedLeaves() throws Exception {
+    // concat is not compiled, but the comparison around it is
+    verify(func("=", func("concat", s, constant("y")), constant("xy")));
+    // nothing to compile
+    assertNull(ExprNodeCompiler.compile(a));
+    assertNull(ExprNodeCompiler.compile(func("concat", s, s)));
+  }
+}
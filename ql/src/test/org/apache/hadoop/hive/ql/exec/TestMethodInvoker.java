@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.ql.udf.UDFConcat;
+import org.apache.hadoop.hive.ql.udf.UDFOPMultiply;
+import org.apache.hadoop.hive.ql.udf.UDFOPPlus;
+import org.apache.hadoop.hive.ql.udf.UDFSubstr;
+import org.apache.hadoop.hive.ql.udf.UDFUpper;
+import org.apache.hadoop.hive.serde2.io.DoubleWritable;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+
+/**
+ * TestMethodInvoker.
+ *
+ */
+public class TestMethodInvoker extends TestCase {
+
+  /**
+   * Class with methods of various shapes to invoke.
+   */
+  public static class Target {
+    public int add(int a, Integer b) {
+      return a + b;
+    }
+
+    public static long square(long x) {
+      return x * x;
+    }
+
+    public String join(String... parts) {
+      StringBuilder sb = new StringBuilder();
+      for (String part : parts) {
+        sb.append(part);
+      }
+      return sb.toString();
+    }
+
+    public void nothing(double d) {
+    }
+
+    public boolean throwing() {
+      throw new IllegalStateException("fail");
+    }
+
+    String hidden() {
+      return "hidden";
+    }
+  }
+
+  private static boolean isGenerated(MethodInvoker invoker) {
+    return !(invoker instanceof MethodInvoker.ReflectionInvoker);
+  }
+
+  public void testGeneratedInvokers() throws Exception {
+    Target target = new Target();
+
+    MethodInvoker add = MethodInvoker.get(Target.class.getMethod("add",
+        int.class, Integer.class));
+    assertTrue(isGenerated(add));
+    assertEquals(Integer.valueOf(7), add.invoke(target, 3, 4));
+
+    MethodInvoker square = MethodInvoker.get(Target.class.getMethod("square",
+        long.class));
+    assertTrue(isGenerated(square));
+    assertEquals(Long.valueOf(81), square.invoke(null, 9L));
+
+    MethodInvoker join = MethodInvoker.get(Target.class.getMethod("join",
+        String[].class));
+    assertTrue(isGenerated(join));
+    assertEquals("ab", join.invoke(target, (Object) new String[] {"a", "b"}));
+
+    MethodInvoker nothing = MethodInvoker.get(Target.class.getMethod(
+        "nothing", double.class));
+    assertNull(nothing.invoke(target, 1.0));
+  }
+
+  public void testExceptionsAreWrapped() throws Exception {
+    MethodInvoker throwing = MethodInvoker.get(Target.class
+        .getMethod("throwing"));
+    assertTrue(isGenerated(throwing));
+    try {
+      throwing.invoke(new Target());
+      fail("expected InvocationTargetException");
+    } catch (InvocationTargetException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  public void testReflectionFallback() throws Exception {
+    MethodInvoker hidden = MethodInvoker.get(Target.class
+        .getDeclaredMethod("hidden"));
+    assertFalse(isGenerated(hidden));
+    assertEquals("hidden", hidden.invoke(new Target()));
+  }
+
+  public void testInvokersAreShared() throws Exception {
+    Method square = Target.class.getMethod("square", long.class);
+    assertSame(MethodInvoker.get(square), MethodInvoker.get(square));
+    Method hidden = Target.class.getDeclaredMethod("hidden");
+    assertSame(MethodInvoker.get(hidden), MethodInvoker.get(hidden));
+  }
+
+  /**
+   * Check generated invokers against Method.invoke on a few arithmetic and
+   * string UDFs.
+   */
+  public void testUDFInvokers() throws Exception {
+    Object[][] cases = {
+        {new UDFOPPlus(), UDFOPPlus.class.getMethod("evaluate",
+        DoubleWritable.class, DoubleWritable.class),
+        new Object[] {new DoubleWritable(1.5), new DoubleWritable(2.5)}},
+        {new UDFOPMultiply(), UDFOPMultiply.class.getMethod("evaluate",
+        LongWritable.class, LongWritable.class),
+        new Object[] {new LongWritable(3), new LongWritable(5)}},
+        {new UDFSubstr(), UDFSubstr.class.getMethod("evaluate", Text.class,
+        IntWritable.class, IntWritable.class),
+        new Object[] {new Text("hello world"), new IntWritable(2),
+        new IntWritable(5)}},
+        {new UDFUpper(), UDFUpper.class.getMethod("evaluate", Text.class),
+        new Object[] {new Text("hello world")}},
+        {new UDFConcat(), UDFConcat.class.getMethod("evaluate", Text[].class),
+        new Object[] {new Text[] {new Text("hello"), new Text(" world")}}}};
+
+    for (Object[] c : cases) {
+      Object udf = c[0];
+      Method method = (Method) c[1];
+      Object[] arguments = (Object[]) c[2];
+      MethodInvoker invoker = MethodInvoker.get(method);
+      assertTrue(isGenerated(invoker));
+      // the UDFs reuse their result object, so keep the first value as text
+      String expected = method.invoke(udf, arguments).toString();
+      assertEquals(expected, invoker.invoke(udf, arguments).toString());
+      assertEquals(expected, FunctionRegistry.invoke(invoker, udf, arguments)
+          .toString());
+    }
+  }
+}
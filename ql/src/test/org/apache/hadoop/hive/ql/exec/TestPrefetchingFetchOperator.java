@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.ql.plan.FetchWork;
+import org.apache.hadoop.hive.serde2.objectinspector.InspectableObject;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.mapred.JobConf;
+
+/**
+ * TestPrefetchingFetchOperator.
+ *
+ */
+public class TestPrefetchingFetchOperator extends TestCase {
+
+  /**
+   * Reads the rows 0 to rowCount - 1, reusing one object as record readers
+   * do, and then throws the given exception, if any.
+   */
+  private static class TestFetchOperator extends PrefetchingFetchOperator {
+    private static final long serialVersionUID = 1L;
+
+    private final int rowCount;
+    private final Throwable error;
+    private final IntWritable value = new IntWritable();
+    private int next;
+    volatile Thread fetchThread;
+
+    TestFetchOperator(int prefetchRows, int rowCount, Throwable error) {
+      super(new FetchWork(), new JobConf(), prefetchRows);
+      this.rowCount = rowCount;
+      this.error = error;
+    }
+
+    @Override
+    InspectableObject fetchRow() throws IOException {
+      fetchThread = Thread.currentThread();
+      if (next < rowCount) {
+        value.set(next++);
+        return new InspectableObject(value,
+            PrimitiveObjectInspectorFactory.writableIntObjectInspector);
+      }
+      if (error instanceof IOException) {
+        throw (IOException) error;
+      }
+      if (error instanceof RuntimeException) {
+        throw (RuntimeException) error;
+      }
+      return null;
+    }
+  }
+
+  private static void assertRows(TestFetchOperator fetch, int rowCount)
+      throws IOException {
+    for (int i = 0; i < rowCount; i++) {
+      InspectableObject row = fetch.getNextRow();
+      assertNotNull(row);
+      assertEquals(new IntWritable(i), row.o);
+    }
+  }
+
+  public void testRowsInOrder() throws Exception {
+    TestFetchOperator fetch = new TestFetchOperator(3, 100, null);
+    assertRows(fetch, 100);
+    assertNull(fetch.getNextRow());
+    assertNull(fetch.getNextRow());
+    assertFalse(fetch.fetchThread.isAlive());
+  }
+
+  public void testClearFetchContextStopsThread() throws Exception {
+    TestFetchOperator fetch = new TestFetchOperator(2, 1000, null);
+    assertRows(fetch, 5);
+    Thread thread = fetch.fetchThread;
+    assertTrue(thread.isAlive());
+    fetch.clearFetchContext();
+    assertFalse(thread.isAlive());
+  }
+
+  public void testIOExceptionAfterRows() throws Exception {
+    IOException error = new IOException("read failed");
+    TestFetchOperator fetch = new TestFetchOperator(4, 10, error);
+    assertRows(fetch, 10);
+    try {
+      fetch.getNextRow();
+      fail("expected an IOException");
+    } catch (IOException e) {
+      assertSame(error, e);
+    }
+    assertNull(fetch.getNextRow());
+  }
+
+  public void testRuntimeExceptionIsWrapped() throws Exception {
+    RuntimeException error = new IllegalStateException("bad row");
+    TestFetchOperator fetch = new TestFetchOperator(4, 3, error);
+    assertRows(fetch, 3);
+    try {
+      fetch.getNextRow();
+      fail("expected an IOException");
+    } catch (IOException e) {
+      assertSame(error, e.getCause());
+    }
+  }
+}
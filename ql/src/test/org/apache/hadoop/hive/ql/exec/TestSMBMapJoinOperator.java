@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.ql.exec.SMBMapJoinOperator.JoinKey;
+import org.apache.hadoop.hive.ql.exec.SMBMapJoinOperator.JoinKeyQueue;
+import org.apache.hadoop.hive.serde.Constants;
+import org.apache.hadoop.hive.serde2.binarysortable.BinarySortableSerDe;
+import org.apache.hadoop.hive.serde2.io.DoubleWritable;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+
+/**
+ * TestSMBMapJoinOperator.
+ *
+ */
+public class TestSMBMapJoinOperator extends TestCase {
+
+  private static JoinKey key(int value) {
+    // big endian with the sign bit flipped sorts like the integers
+    return new JoinKey(new byte[] {(byte) ((value >> 24) ^ 0x80),
+        (byte) (value >> 16), (byte) (value >> 8), (byte) value}, false);
+  }
+
+  public void testMergeKeys() {
+    int[][] streams = new int[][] {
+        {1, 3, 5, 7}, {3, 4, 5}, {0, 3, 5, 9}, {5, 7}};
+    int[] next = new int[streams.length];
+    JoinKeyQueue queue = new JoinKeyQueue(new JoinKey[streams.length]);
+    for (byte alias = 0; alias < streams.length; alias++) {
+      queue.setKey(alias, key(streams[alias][next[alias]++]));
+    }
+
+    List<String> groups = new ArrayList<String>();
+    while (queue.peek() != -1) {
+      int smallest = queue.peek();
+      List<Byte> aliases = queue.pollSmallest();
+      assertEquals(smallest, aliases.get(0).intValue());
+      groups.add(aliases.toString());
+      for (Byte alias : aliases) {
+        int[] stream = streams[alias];
+        queue.setKey(alias, next[alias] < stream.length
+            ? key(stream[next[alias]++]) : null);
+      }
+    }
+    assertEquals(Arrays.asList("[2]", "[0]", "[0, 1, 2]", "[1]",
+        "[0, 1, 2, 3]", "[0, 3]", "[2]"), groups);
+  }
+
+  public void testNullKeysDoNotJoin() {
+    JoinKeyQueue queue = new JoinKeyQueue(new JoinKey[2]);
+    byte[] bytes = new byte[] {0};
+    queue.setKey((byte) 0, new JoinKey(bytes, true));
+    queue.setKey((byte) 1, new JoinKey(bytes.clone(), true));
+    assertEquals(Arrays.asList((byte) 0), queue.pollSmallest());
+    assertEquals(Arrays.asList((byte) 1), queue.pollSmallest());
+    assertEquals(-1, queue.peek());
+    assertTrue(queue.pollSmallest().isEmpty());
+  }
+
+  private static JoinKey doubleKey(BinarySortableSerDe serde,
+      StructObjectInspector oi, double value) throws Exception {
+    ArrayList<Object> key = new ArrayList<Object>();
+    key.add(new DoubleWritable(value));
+    return SMBMapJoinOperator.serializeKey(serde, oi, key);
+  }
+
+  public void testDoubleKeys() throws Exception {
+    Properties props = new Properties();
+    props.setProperty(Constants.LIST_COLUMNS, "key");
+    props.setProperty(Constants.LIST_COLUMN_TYPES, "double");
+    props.setProperty(Constants.SERIALIZATION_SORT_ORDER, "+");
+    BinarySortableSerDe serde = new BinarySortableSerDe();
+    serde.initialize(new Configuration(), props);
+    List<ObjectInspector> ois = new ArrayList<ObjectInspector>();
+    ois.add(PrimitiveObjectInspectorFactory.writableDoubleObjectInspector);
+    StructObjectInspector oi = ObjectInspectorFactory
+        .getStandardStructObjectInspector(Arrays.asList("key"), ois);
+
+    JoinKey zero = doubleKey(serde, oi, 0.0);
+    JoinKey negativeZero = doubleKey(serde, oi, -0.0);
+    assertEquals(0, SMBMapJoinOperator.compareKeys(zero, negativeZero));
+    assertTrue(SMBMapJoinOperator.compareKeys(
+        doubleKey(serde, oi, -1.0), negativeZero) < 0);
+    assertTrue(SMBMapJoinOperator.compareKeys(
+        doubleKey(serde, oi, Double.MIN_VALUE), zero) > 0);
+
+    JoinKey nan = doubleKey(serde, oi, Double.NaN);
+    assertTrue(SMBMapJoinOperator.compareKeys(nan,
+        doubleKey(serde, oi, Double.NaN)) != 0);
+    assertTrue(SMBMapJoinOperator.compareKeys(nan, zero) != 0);
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.ql.io.HiveKey;
+import org.apache.hadoop.hive.ql.plan.JoinCondDesc;
+import org.apache.hadoop.hive.ql.plan.JoinDesc;
+
+/**
+ * TestSkewedJoinKeys.
+ *
+ */
+public class TestSkewedJoinKeys extends TestCase {
+
+  private static JoinDesc join(int type) {
+    JoinDesc desc = new JoinDesc();
+    desc.setConds(new JoinCondDesc[] {new JoinCondDesc(0, 1, type)});
+    return desc;
+  }
+
+  private static byte[] key(int value, int tag) {
+    return new byte[] {(byte) (value >> 8), (byte) value, (byte) tag};
+  }
+
+  private static HiveKey hiveKey(int value, int tag) {
+    byte[] bytes = key(value, tag);
+    HiveKey key = new HiveKey();
+    key.set(bytes, 0, bytes.length);
+    return key;
+  }
+
+  /**
+   * 1000 rows: key 0 makes up 400 rows of tag 0 and 10 of tag 1, the other
+   * keys are unique.
+   */
+  private static List<byte[]> sample() {
+    List<byte[]> sampled = new ArrayList<byte[]>();
+    for (int i = 0; i < 400; i++) {
+      sampled.add(key(0, 0));
+    }
+    for (int i = 0; i < 10; i++) {
+      sampled.add(key(0, 1));
+    }
+    for (int i = 1; i <= 590; i++) {
+      sampled.add(key(i, i % 2));
+    }
+    return sampled;
+  }
+
+  public void testFind() {
+    SkewedJoinKeys keys = SkewedJoinKeys.find(sample(), 10,
+        join(JoinDesc.INNER_JOIN));
+    assertEquals(1, keys.size());
+    assertTrue(keys.lookup(hiveKey(0, 1)));
+    assertEquals(0, keys.getSplitTag());
+    // 410 of 1000 rows is worth 5 of 10 reducers
+    assertEquals(5, keys.getNumSplits());
+    assertFalse(keys.lookup(hiveKey(1, 1)));
+
+    // with two reducers no key exceeds an even share
+    assertTrue(SkewedJoinKeys.find(sample(), 2,
+        join(JoinDesc.INNER_JOIN)).isEmpty());
+  }
+
+  public void testOuterJoins() {
+    // the right input would be replicated, which repeats its unmatched rows
+    assertTrue(SkewedJoinKeys.find(sample(), 10,
+        join(JoinDesc.RIGHT_OUTER_JOIN)).isEmpty());
+    assertTrue(SkewedJoinKeys.find(sample(), 10,
+        join(JoinDesc.FULL_OUTER_JOIN)).isEmpty());
+    // the left input is split and the right one replicated
+    assertEquals(1, SkewedJoinKeys.find(sample(), 10,
+        join(JoinDesc.LEFT_OUTER_JOIN)).size());
+    assertEquals(1, SkewedJoinKeys.find(sample(), 10,
+        join(JoinDesc.LEFT_SEMI_JOIN)).size());
+  }
+
+  public void testReplicationCost() {
+    List<byte[]> sampled = sample();
+    // as many rows of key 0 in both inputs
+    for (int i = 0; i < 390; i++) {
+      sampled.set(410 + i, key(0, 1));
+    }
+    assertTrue(SkewedJoinKeys.find(sampled, 10,
+        join(JoinDesc.INNER_JOIN)).isEmpty());
+  }
+
+  public void testEncode() {
+    SkewedJoinKeys keys = SkewedJoinKeys.find(sample(), 10,
+        join(JoinDesc.INNER_JOIN));
+    SkewedJoinKeys decoded = SkewedJoinKeys.decode(keys.encode());
+    assertEquals("0:5:0000", keys.encode());
+    assertEquals(1, decoded.size());
+    assertTrue(decoded.lookup(hiveKey(0, 0)));
+    assertEquals(0, decoded.getSplitTag());
+    assertEquals(5, decoded.getNumSplits());
+    assertTrue(SkewedJoinKeys.decode("").isEmpty());
+  }
+}
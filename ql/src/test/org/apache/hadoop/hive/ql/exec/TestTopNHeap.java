@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.exec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hive.ql.io.HiveKey;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.JobConf;
+
+/**
+ * TestTopNHeap.
+ *
+ */
+public class TestTopNHeap extends TestCase {
+
+  private static HiveKey key(HiveKey key, int value) {
+    // big endian with the sign bit flipped sorts like the integers
+    byte[] bytes = new byte[] {(byte) ((value >> 24) ^ 0x80),
+        (byte) (value >> 16), (byte) (value >> 8), (byte) value};
+    key.set(bytes, 0, bytes.length);
+    key.setHashCode(value);
+    return key;
+  }
+
+  private static int value(HiveKey key) {
+    byte[] bytes = key.getBytes();
+    return ((bytes[0] ^ 0x80) & 0xff) << 24 | (bytes[1] & 0xff) << 16
+        | (bytes[2] & 0xff) << 8 | (bytes[3] & 0xff);
+  }
+
+  public void testSmallestKeys() {
+    Random random = new Random(5);
+    List<Integer> all = new ArrayList<Integer>();
+    TopNHeap heap = new TopNHeap(10, new JobConf());
+    // the key and value objects are reused, as in the ReduceSinkOperator
+    HiveKey key = new HiveKey();
+    Text value = new Text();
+    for (int i = 0; i < 1000; i++) {
+      int v = random.nextInt(2000) - 1000;
+      all.add(v);
+      key(key, v);
+      value.set(String.valueOf(v));
+      if (heap.accepts(key)) {
+        heap.add(key, value);
+      }
+    }
+    Collections.sort(all);
+
+    assertEquals(10, heap.size());
+    List<Integer> kept = new ArrayList<Integer>();
+    for (int i = 0; i < heap.size(); i++) {
+      int v = value(heap.getKey(i));
+      assertEquals(v, heap.getKey(i).hashCode());
+      assertEquals(String.valueOf(v), heap.getValue(i).toString());
+      kept.add(v);
+    }
+    Collections.sort(kept);
+    assertEquals(all.subList(0, 10), kept);
+  }
+
+  public void testFewerRows() {
+    TopNHeap heap = new TopNHeap(10, new JobConf());
+    BytesWritable value = new BytesWritable(new byte[] {1, 2});
+    for (int i = 3; i > 0; i--) {
+      HiveKey key = key(new HiveKey(), i);
+      assertTrue(heap.accepts(key));
+      heap.add(key, value);
+    }
+    assertEquals(3, heap.size());
+    assertEquals(2, ((BytesWritable) heap.getValue(0)).getLength());
+  }
+
+  public void testEqualKeys() {
+    TopNHeap heap = new TopNHeap(2, new JobConf());
+    HiveKey key = key(new HiveKey(), 1);
+    heap.add(key, new Text("a"));
+    heap.add(key, new Text("b"));
+    // rows with the same key as the last kept row are not needed
+    assertFalse(heap.accepts(key));
+    assertTrue(heap.accepts(key(new HiveKey(), 0)));
+  }
+
+  public void testNoRows() {
+    TopNHeap heap = new TopNHeap(0, new JobConf());
+    assertFalse(heap.accepts(key(new HiveKey(), Integer.MIN_VALUE)));
+    assertEquals(0, heap.size());
+  }
+}
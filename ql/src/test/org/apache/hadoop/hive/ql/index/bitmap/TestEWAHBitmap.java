@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.index.bitmap;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * TestEWAHBitmap.
+ *
+ */
+public class TestEWAHBitmap extends TestCase {
+
+  public void testSetAndPositions() {
+    int[] positions = {0, 3, 63, 64, 200, 100000, 100001};
+    EWAHBitmap bitmap = bitmap(positions);
+    assertTrue(Arrays.equals(positions, bitmap.getPositions()));
+    assertEquals(positions.length, bitmap.cardinality());
+    assertEquals(100002, bitmap.sizeInBits());
+    assertFalse(bitmap.set(5));
+    assertFalse(bitmap.isEmpty());
+    assertTrue(new EWAHBitmap().isEmpty());
+  }
+
+  public void testCompression() {
+    // a few bits far apart, and a long run of ones
+    EWAHBitmap sparse = bitmap(new int[] {1, 10000000});
+    assertTrue(sparse.toWords().length < 10);
+    EWAHBitmap dense = new EWAHBitmap();
+    for (int i = 0; i < 64 * 1000; i++) {
+      dense.set(i);
+    }
+    assertTrue(dense.toWords().length < 10);
+    assertEquals(64 * 1000, dense.cardinality());
+  }
+
+  public void testSerialization() {
+    EWAHBitmap bitmap = bitmap(new int[] {2, 64, 65, 640, 641, 90000});
+    EWAHBitmap copy = EWAHBitmap.fromWords(bitmap.toWords());
+    assertEquals(bitmap, copy);
+    // the copy can still be extended
+    assertTrue(copy.set(100000));
+    assertEquals(bitmap.cardinality() + 1, copy.cardinality());
+  }
+
+  public void testAndOr() {
+    Random rand = new Random(1234);
+    for (int round = 0; round < 50; round++) {
+      BitSet expectedA = new BitSet();
+      BitSet expectedB = new BitSet();
+      EWAHBitmap a = randomBitmap(rand, expectedA);
+      EWAHBitmap b = randomBitmap(rand, expectedB);
+
+      BitSet and = (BitSet) expectedA.clone();
+      and.and(expectedB);
+      assertTrue(Arrays.equals(positions(and), a.and(b).getPositions()));
+      assertEquals(and.isEmpty(), a.and(b).isEmpty());
+
+      BitSet or = (BitSet) expectedA.clone();
+      or.or(expectedB);
+      assertTrue(Arrays.equals(positions(or), a.or(b).getPositions()));
+      assertTrue(Arrays.equals(positions(or), b.or(a).getPositions()));
+    }
+  }
+
+  public void testSetAfterCombine() {
+    // the result of AND ends with clean words, but keeps the size in bits
+    EWAHBitmap and = bitmap(new int[] {1, 700}).and(bitmap(new int[] {1, 701}));
+    assertTrue(Arrays.equals(new int[] {1}, and.getPositions()));
+    assertFalse(and.set(701));
+    assertTrue(and.set(702));
+    assertTrue(Arrays.equals(new int[] {1, 702}, and.getPositions()));
+
+    EWAHBitmap or = bitmap(new int[] {5}).or(bitmap(new int[] {9}));
+    assertTrue(or.set(10));
+    assertTrue(or.set(1000));
+    assertTrue(Arrays.equals(new int[] {5, 9, 10, 1000}, or.getPositions()));
+  }
+
+  private EWAHBitmap bitmap(int[] positions) {
+    EWAHBitmap bitmap = new EWAHBitmap();
+    for (int position : positions) {
+      assertTrue(bitmap.set(position));
+    }
+    return bitmap;
+  }
+
+  /**
+   * @return a bitmap mixing sparse areas, dense areas and empty areas
+   */
+  private EWAHBitmap randomBitmap(Random rand, BitSet expected) {
+    EWAHBitmap bitmap = new EWAHBitmap();
+    int position = 0;
+    int areas = rand.nextInt(20);
+    for (int i = 0; i < areas; i++) {
+      int length = rand.nextInt(2000);
+      int kind = rand.nextInt(3);
+      for (int j = 0; j < length; j++, position++) {
+        if (kind == 0 || (kind == 1 && rand.nextInt(10) == 0)) {
+          bitmap.set(position);
+          expected.set(position);
+        }
+      }
+    }
+    return bitmap;
+  }
+
+  private int[] positions(BitSet bits) {
+    int[] positions = new int[bits.cardinality()];
+    int count = 0;
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      positions[count++] = i;
+    }
+    return positions;
+  }
+}
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.io;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.exec.PartitionKeySampler;
+import org.apache.hadoop.mapred.JobConf;
+
+/**
+ * TestHiveTotalOrderPartitioner.
+ *
+ */
+public class TestHiveTotalOrderPartitioner extends TestCase {
+
+  private JobConf job;
+  private Path file;
+
+  @Override
+  protected void setUp() throws Exception {
+    job = new JobConf(TestHiveTotalOrderPartitioner.class);
+    file = new Path(System.getProperty("test.data.dir", ".")
+        + "/mapred/partition-keys");
+    FileSystem.getLocal(job).delete(file, false);
+  }
+
+  private static HiveKey key(int value) {
+    HiveKey key = new HiveKey();
+    // big endian with the sign bit flipped sorts like the integers
+    byte[] bytes = new byte[] {(byte) ((value >> 24) ^ 0x80),
+        (byte) (value >> 16), (byte) (value >> 8), (byte) value};
+    key.set(bytes, 0, bytes.length);
+    key.setHashCode(value);
+    return key;
+  }
+
+  private HiveTotalOrderPartitioner partitioner(PartitionKeySampler sampler,
+      int numPartitions) throws Exception {
+    assertTrue(sampler.writePartitionKeys(file, job, numPartitions));
+    job.set(HiveTotalOrderPartitioner.PARTITION_FILE, file.toString());
+    HiveTotalOrderPartitioner partitioner = new HiveTotalOrderPartitioner();
+    partitioner.configure(job);
+    return partitioner;
+  }
+
+  public void testRanges() throws Exception {
+    PartitionKeySampler sampler = new PartitionKeySampler(1000, 10);
+    // sample in descending order, the sampler sorts the keys
+    for (int i = 999; i >= 0; i--) {
+      sampler.collect(key(i * 10 - 5000), null);
+    }
+    HiveTotalOrderPartitioner partitioner = partitioner(sampler, 4);
+
+    int[] counts = new int[4];
+    int last = 0;
+    for (int i = -6000; i < 6000; i++) {
+      int partition = partitioner.getPartition(key(i), null, 4);
+      assertTrue("keys out of order at " + i, partition >= last);
+      last = partition;
+      if (i >= -5000 && i < 5000) {
+        counts[partition]++;
+      }
+    }
+    assertEquals(3, last);
+    for (int count : counts) {
+      assertEquals(2500, count);
+    }
+  }
+
+  public void testDuplicateKeys() throws Exception {
+    PartitionKeySampler sampler = new PartitionKeySampler(1000, 10);
+    for (int i = 0; i < 400; i++) {
+      sampler.collect(key(i), null);
+      sampler.collect(key(i + 1000), null);
+    }
+    for (int i = 0; i < 200; i++) {
+      sampler.collect(key(500), null);
+    }
+    HiveTotalOrderPartitioner partitioner = partitioner(sampler, 8);
+
+    // all rows of a key go to the same reducer
+    assertEquals(3, partitioner.getPartition(key(499), null, 8));
+    assertEquals(4, partitioner.getPartition(key(500), null, 8));
+    assertEquals(4, partitioner.getPartition(key(1000), null, 8));
+    assertEquals(5, partitioner.getPartition(key(1025), null, 8));
+    assertEquals(0, partitioner.getPartition(key(Integer.MIN_VALUE), null, 8));
+    assertEquals(7, partitioner.getPartition(key(Integer.MAX_VALUE), null, 8));
+  }
+
+  public void testSingleKey() throws Exception {
+    PartitionKeySampler sampler = new PartitionKeySampler(1000, 10);
+    for (int i = 0; i < 100; i++) {
+      sampler.collect(key(42), null);
+    }
+    // one range only, the sort should run on a single reducer
+    assertFalse(sampler.writePartitionKeys(file, job, 4));
+  }
+}
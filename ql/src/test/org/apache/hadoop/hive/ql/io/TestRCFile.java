@@ -21,6 +21,7 @@ package org.apache.hadoop.hive.ql.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 
@@ -33,6 +34,16 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.exec.FunctionRegistry;
+import org.apache.hadoop.hive.ql.exec.UDFArgumentException;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
 import org.apache.hadoop.hive.serde.Constants;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
 import org.apache.hadoop.hive.serde2.SerDeException;
@@ -42,16 +53,20 @@ import org.apache.hadoop.hive.serde2.columnar.ColumnarSerDe;
 import org.apache.hadoop.hive.serde2.io.ByteWritable;
 import org.apache.hadoop.hive.serde2.io.DoubleWritable;
 import org.apache.hadoop.hive.serde2.io.ShortWritable;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorUtils;
 import org.apache.hadoop.hive.serde2.objectinspector.StructField;
 import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorUtils.ObjectInspectorCopyOption;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.io.compress.CompressionCodec;
 import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
@@ -217,6 +232,51 @@ public class TestRCFile extends TestCase {
     partialReadTest(fs, 10000, file);
   }
 
+  public void testWriteAndCoalescedRead() throws IOException, SerDeException {
+    writeTest(fs, 10000, file, bytesArray);
+    conf.setBoolean(RCFile.COALESCED_READ_CONF_STR, true);
+    try {
+      partialReadTest(fs, 10000, file);
+      fullyReadTest(fs, 10000, file);
+    } finally {
+      conf.setBoolean(RCFile.COALESCED_READ_CONF_STR, false);
+    }
+  }
+
+  public void testCoalescedReadCounters() throws IOException, SerDeException {
+    writeTest(fs, 10000, file, bytesArray);
+    ArrayList<Integer> readCols = new ArrayList<Integer>();
+    readCols.add(Integer.valueOf(2));
+    readCols.add(Integer.valueOf(3));
+    readCols.add(Integer.valueOf(5));
+
+    Configuration cloneConf = new Configuration(conf);
+    ColumnProjectionUtils.setReadColumnIDs(cloneConf, readCols);
+    long[] sequential = readAllRows(cloneConf);
+
+    cloneConf.setBoolean(RCFile.COALESCED_READ_CONF_STR, true);
+    cloneConf.setInt(RCFile.COALESCED_READ_MAX_GAP_CONF_STR, 0);
+    long[] coalesced = readAllRows(cloneConf);
+
+    assertTrue("some bytes should be skipped", sequential[1] > 0);
+    assertEquals("bytes read", sequential[0], coalesced[0]);
+    assertEquals("bytes skipped", sequential[1], coalesced[1]);
+  }
+
+  private long[] readAllRows(Configuration readConf) throws IOException {
+    RCFile.Reader reader = new RCFile.Reader(fs, file, readConf);
+    LongWritable rowID = new LongWritable();
+    BytesRefArrayWritable cols = new BytesRefArrayWritable();
+    int actualRead = 0;
+    while (reader.next(rowID)) {
+      reader.getCurrentRow(cols);
+      actualRead++;
+    }
+    reader.close();
+    assertEquals("rows read", 10000, actualRead);
+    return new long[] {reader.getBytesRead(), reader.getBytesSkipped()};
+  }
+
   /** For debugging and testing. */
   public static void main(String[] args) throws Exception {
     int count = 10000;
@@ -347,7 +407,7 @@ public class TestRCFile extends TestCase {
       throws IOException, SerDeException {
     LOG.debug("reading " + count + " records");
     long start = System.currentTimeMillis();
-    java.util.ArrayList<Integer> readCols = new java.util.ArrayList<Integer>();
+    ArrayList<Integer> readCols = new ArrayList<Integer>();
     readCols.add(Integer.valueOf(2));
     readCols.add(Integer.valueOf(3));
     ColumnProjectionUtils.setReadColumnIDs(conf, readCols);
@@ -465,6 +525,191 @@ public class TestRCFile extends TestCase {
   }
   
 
+  public void testRowGroupIndex() throws IOException {
+    Path testDir = new Path(System.getProperty("test.data.dir", ".")
+        + "/mapred/testrowgroupindex");
+    Path testFile = new Path(testDir, "test_rcfile");
+    fs.delete(testFile, true);
+    Configuration cloneConf = new Configuration(conf);
+    RCFileOutputFormat.setColumnNumber(cloneConf, bytesArray.length);
+    cloneConf.setInt(RCFile.RECORD_INTERVAL_CONF_STR, 500);
+    cloneConf.setBoolean(RCFile.WRITE_INDEX_CONF_STR, true);
+
+    int writeCount = 10000;
+    RCFile.Writer writer = new RCFile.Writer(fs, cloneConf, testFile, null,
+        new DefaultCodec());
+    BytesRefArrayWritable bytes = new BytesRefArrayWritable(bytesArray.length);
+    for (int i = 0; i < bytesArray.length; i++) {
+      bytes.set(i, new BytesRefWritable(bytesArray[i], 0, bytesArray[i].length));
+    }
+    for (int i = 0; i < writeCount; i++) {
+      writer.append(bytes);
+    }
+    writer.close();
+
+    ColumnProjectionUtils.setFullyReadColumns(cloneConf);
+    RCFile.Reader reader = new RCFile.Reader(fs, testFile, cloneConf);
+    RCFile.RowGroupIndex index = reader.getRowGroupIndex();
+    assertNotNull("index should be present", index);
+    assertEquals("row groups", writeCount / 500, index.getNumRowGroups());
+    assertEquals("total rows", writeCount, index.getTotalRows());
+
+    LongWritable rowID = new LongWritable();
+    BytesRefArrayWritable cols = new BytesRefArrayWritable();
+    int readCount = 0;
+    while (reader.next(rowID)) {
+      reader.getCurrentRow(cols);
+      readCount++;
+    }
+    assertEquals("rows read before the index", writeCount, readCount);
+
+    reader.seekToRowGroup(3);
+    assertTrue(reader.next(rowID));
+    assertEquals("first row of row group 3", 1500, rowID.get());
+    reader.getCurrentRow(cols);
+    assertEquals("column 5", new String(bytesArray[5], "UTF-8"), new String(
+        cols.get(5).getBytesCopy(), "UTF-8"));
+    reader.close();
+
+    JobConf jobConf = new JobConf(cloneConf);
+    jobConf.set("mapred.input.dir", testDir.toString());
+    jobConf.setLong("mapred.min.split.size", 1);
+    assertEquals("rows read from splits", writeCount, readBySplits(jobConf, 7));
+
+    jobConf.setBoolean(RCFile.INDEX_SPLITS_CONF_STR, true);
+    assertEquals("rows read from aligned splits", writeCount, readBySplits(
+        jobConf, 7));
+
+    ColumnProjectionUtils.setReadNoColumns(jobConf, true);
+    assertEquals("rows counted from splits", writeCount, readBySplits(jobConf,
+        7));
+  }
+
+  private int readBySplits(JobConf jobConf, int numSplits) throws IOException {
+    RCFileInputFormat inputFormat = new RCFileInputFormat();
+    InputSplit[] splits = inputFormat.getSplits(jobConf, numSplits);
+    int readCount = 0;
+    for (InputSplit split : splits) {
+      RecordReader rr = inputFormat.getRecordReader(split, jobConf,
+          Reporter.NULL);
+      Object key = rr.createKey();
+      Object value = rr.createValue();
+      while (rr.next(key, value)) {
+        readCount++;
+      }
+      rr.close();
+    }
+    return readCount;
+  }
+
+  public void testPushedFilter() throws Exception {
+    Path testFile = new Path(file.getParent(), "test_rcfile_filter");
+    fs.delete(testFile, true);
+    Configuration cloneConf = new Configuration(conf);
+    RCFileOutputFormat.setColumnNumber(cloneConf, bytesArray.length);
+
+    // aint is the row number
+    int writeCount = 1000;
+    RCFile.Writer writer = new RCFile.Writer(fs, cloneConf, testFile, null,
+        new DefaultCodec());
+    for (int i = 0; i < writeCount; i++) {
+      BytesRefArrayWritable bytes = new BytesRefArrayWritable(bytesArray.length);
+      for (int j = 0; j < bytesArray.length; j++) {
+        byte[] field = j == 2 ? String.valueOf(i).getBytes("UTF-8")
+            : bytesArray[j];
+        bytes.set(j, new BytesRefWritable(field, 0, field.length));
+      }
+      writer.append(bytes);
+    }
+    writer.close();
+    ColumnProjectionUtils.setFullyReadColumns(cloneConf);
+
+    ExprNodeDesc aint = new ExprNodeColumnDesc(TypeInfoFactory.intTypeInfo,
+        "aint", "", false);
+    List<ExprNodeDesc> children = new ArrayList<ExprNodeDesc>();
+    children.add(aint);
+    children.add(new ExprNodeConstantDesc(Integer.valueOf(100)));
+    ExprNodeDesc lessThan = new ExprNodeGenericFuncDesc(
+        TypeInfoFactory.booleanTypeInfo, new GenericUDFOPLessThan(), children);
+    List<Integer> values = readFiltered(cloneConf, testFile, lessThan);
+    assertEquals("rows passing the filter", 100, values.size());
+    for (Integer value : values) {
+      assertTrue("row " + value + " should be filtered", value < 100);
+    }
+
+    // a conjunct on a column which is not stored in the file is left to the
+    // operator tree
+    children = new ArrayList<ExprNodeDesc>();
+    children.add(new ExprNodeColumnDesc(TypeInfoFactory.stringTypeInfo, "ds",
+        "", true));
+    children.add(new ExprNodeConstantDesc("2008-04-08"));
+    ExprNodeDesc partFilter = new ExprNodeGenericFuncDesc(
+        TypeInfoFactory.booleanTypeInfo, new GenericUDFOPEqual(), children);
+    children = new ArrayList<ExprNodeDesc>();
+    children.add(lessThan);
+    children.add(partFilter);
+    ExprNodeDesc and = new ExprNodeGenericFuncDesc(
+        TypeInfoFactory.booleanTypeInfo, FunctionRegistry
+        .getGenericUDFForAnd(), children);
+    assertEquals("rows passing the file conjunct", 100, readFiltered(cloneConf,
+        testFile, and).size());
+    assertEquals("rows without a file conjunct", writeCount, readFiltered(
+        cloneConf, testFile, partFilter).size());
+
+    // a failing filter is dropped at the first failure
+    children = new ArrayList<ExprNodeDesc>();
+    children.add(aint);
+    ExprNodeDesc failing = new ExprNodeGenericFuncDesc(
+        TypeInfoFactory.booleanTypeInfo, new FailingUDF(), children);
+    FailingUDF.calls = 0;
+    assertEquals("rows with a failing filter", writeCount, readFiltered(
+        cloneConf, testFile, failing).size());
+    assertEquals("evaluations of the failing filter", 1, FailingUDF.calls);
+  }
+
+  private List<Integer> readFiltered(Configuration readConf, Path testFile,
+      ExprNodeDesc filter) throws IOException {
+    FileSplit split = new FileSplit(testFile, 0, fs.getFileStatus(testFile)
+        .getLen(), (String[]) null);
+    RCFileRecordReader<LongWritable, BytesRefArrayWritable> reader =
+        new RCFileRecordReader<LongWritable, BytesRefArrayWritable>(readConf,
+        split);
+    reader.setPushedFilter(filter, serDe);
+    LongWritable key = reader.createKey();
+    BytesRefArrayWritable value = reader.createValue();
+    List<Integer> values = new ArrayList<Integer>();
+    while (reader.next(key, value)) {
+      values.add(Integer.valueOf(new String(value.get(2).getBytesCopy(),
+          "UTF-8")));
+    }
+    reader.close();
+    return values;
+  }
+
+  /**
+   * A deterministic function failing on every row.
+   */
+  public static class FailingUDF extends GenericUDF {
+    static int calls = 0;
+
+    @Override
+    public ObjectInspector initialize(ObjectInspector[] arguments)
+        throws UDFArgumentException {
+      return PrimitiveObjectInspectorFactory.javaBooleanObjectInspector;
+    }
+
+    @Override
+    public Object evaluate(DeferredObject[] arguments) throws HiveException {
+      calls++;
+      throw new HiveException("failing on purpose");
+    }
+
+    @Override
+    public String getDisplayString(String[] children) {
+      return "failing()";
+    }
+  }
+
   // adopted Hadoop-5476 (calling new SequenceFile.Reader(...) leaves an
   // InputStream open, if the given sequence file is broken) to RCFile 
   private static class TestFSDataInputStream extends FSDataInputStream {
@@ -29,6 +29,7 @@ import junit.framework.TestCase;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 import org.apache.hadoop.hive.metastore.MetaStoreUtils;
 import org.apache.hadoop.hive.metastore.Warehouse;
 import org.apache.hadoop.hive.metastore.api.Database;
@@ -374,4 +375,53 @@ public class TestHive extends TestCase {
       throw e;
     }
   }
+
+  /**
+   * Tests that the query cache answers repeated lookups, is shared by nested
+   * queries and is emptied by changes made through Hive.
+   */
+  public void testQueryCache() throws Throwable {
+    String tableName = "table_for_testquerycache";
+    String otherName = "table_for_testquerycache2";
+    hm.dropTable(MetaStoreUtils.DEFAULT_DATABASE_NAME, tableName, true, true);
+    hm.dropTable(MetaStoreUtils.DEFAULT_DATABASE_NAME, otherName, true, true);
+    hm.createTable(createTestTable(MetaStoreUtils.DEFAULT_DATABASE_NAME,
+        tableName));
+    HiveMetaStoreClient msc = new HiveMetaStoreClient(hiveConf);
+    try {
+      org.apache.hadoop.hive.metastore.api.Table tTable;
+      hm.startQueryCache();
+      try {
+        assertNull(hm.getTable(tableName).getProperty("changed"));
+
+        // a change made behind the cache is not seen
+        tTable = msc.getTable(MetaStoreUtils.DEFAULT_DATABASE_NAME, tableName);
+        tTable.getParameters().put("changed", "true");
+        msc.alter_table(MetaStoreUtils.DEFAULT_DATABASE_NAME, tableName, tTable);
+        assertNull(hm.getTable(tableName).getProperty("changed"));
+
+        // a nested query shares the cache and leaves it in place
+        hm.startQueryCache();
+        assertNull(hm.getTable(tableName).getProperty("changed"));
+        hm.endQueryCache();
+        assertNull(hm.getTable(tableName).getProperty("changed"));
+
+        // any change made through Hive empties it
+        hm.createTable(createTestTable(MetaStoreUtils.DEFAULT_DATABASE_NAME,
+            otherName));
+        assertEquals("true", hm.getTable(tableName).getProperty("changed"));
+      } finally {
+        hm.endQueryCache();
+      }
+
+      tTable = msc.getTable(MetaStoreUtils.DEFAULT_DATABASE_NAME, tableName);
+      tTable.getParameters().put("changed", "again");
+      msc.alter_table(MetaStoreUtils.DEFAULT_DATABASE_NAME, tableName, tTable);
+      assertEquals("again", hm.getTable(tableName).getProperty("changed"));
+    } finally {
+      msc.close();
+      hm.dropTable(MetaStoreUtils.DEFAULT_DATABASE_NAME, tableName);
+      hm.dropTable(MetaStoreUtils.DEFAULT_DATABASE_NAME, otherName);
+    }
+  }
 }
@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf;
+
+import junit.framework.TestCase;
+
+import org.json.JSONObject;
+
+/**
+ * JUnit test for JSONPathExtractor.
+ */
+public class TestJSONPathExtractor extends TestCase {
+
+  private static final String DOC = "{\"a\": {\"b\": [1, {\"c\": \"x\"}]},"
+      + " \"d\": \"e\\u0041\\t\", \"n\": null, \"f\": 2.50, \"t\": TRUE}";
+
+  public void testPaths() {
+    String[] paths = {"$.a.b[1].c", "$.d", "$.n", "$.f", "$.t", "$.a.b[5]",
+        "$.missing", "$.a.b", "$.d.e", "x.a"};
+    JSONPathExtractor extractor = new JSONPathExtractor(paths);
+    assertEquals(JSONPathExtractor.Status.OK, extractor.extract(DOC));
+    for (int i = 0; i < paths.length; i++) {
+      assertTrue(paths[i], extractor.isResolved(i));
+    }
+    assertEquals("x", extractor.getValue(0));
+    assertEquals("eA\t", extractor.getValue(1));
+    assertEquals(JSONObject.NULL, extractor.getValue(2));
+    assertEquals(new Double(2.5), extractor.getValue(3));
+    assertEquals(Boolean.TRUE, extractor.getValue(4));
+    assertNull(extractor.getValue(5));
+    assertNull(extractor.getValue(6));
+    assertEquals("[1,{\"c\":\"x\"}]", extractor.getValue(7).toString());
+    assertNull(extractor.getValue(8));
+    assertNull(extractor.getValue(9));
+
+    // the extractor is reused for the next document
+    assertEquals(JSONPathExtractor.Status.OK, extractor.extract("{\"d\": 1}"));
+    assertNull(extractor.getValue(0));
+    assertEquals(new Integer(1), extractor.getValue(1));
+  }
+
+  public void testFieldNames() {
+    JSONPathExtractor extractor = JSONPathExtractor.forFieldNames(
+        new String[] {"d", "a", "zz", null});
+    assertEquals(JSONPathExtractor.Status.OK, extractor.extract(DOC));
+    assertEquals("eA\t", extractor.getValue(0));
+    assertEquals("{\"b\":[1,{\"c\":\"x\"}]}", extractor.getValue(1).toString());
+    assertNull(extractor.getValue(2));
+    assertNull(extractor.getValue(3));
+  }
+
+  public void testLenientSyntax() {
+    // accepted by org.json, so accepted here
+    JSONPathExtractor extractor = new JSONPathExtractor(
+        new String[] {"$.a", "$.b[1]", "$.c"});
+    assertEquals(JSONPathExtractor.Status.OK, extractor.extract(
+        "{'a' => 'x'; \"b\" = [1; two ,], \"c\": {},} and more"));
+    assertEquals("x", extractor.getValue(0));
+    assertEquals("two", extractor.getValue(1));
+    assertEquals("{}", extractor.getValue(2).toString());
+  }
+
+  public void testInvalid() {
+    JSONPathExtractor extractor = new JSONPathExtractor(new String[] {"$.a"});
+    String[] invalid = {"", "[1]", "{\"a\": 1", "{\"a\": 1, \"a\": 2}",
+        "{\"a\": 1, \"b\": 1e999}", "{\"a\": \"x\ny\"}", "{\"a\": }",
+        "{\"a\": [1}", "{\"a\": \"\\u12\"}", "{\"a\" 1}"};
+    for (String doc : invalid) {
+      assertEquals(doc, JSONPathExtractor.Status.INVALID,
+          extractor.extract(doc));
+      assertNull(extractor.getValue(0));
+    }
+    // org.json does not check numbers in arrays
+    assertEquals(JSONPathExtractor.Status.OK,
+        extractor.extract("{\"a\": [1e999]}"));
+  }
+
+  public void testUnresolved() {
+    JSONPathExtractor extractor = new JSONPathExtractor(
+        new String[] {"$.a[*]", "$.a.b", "$.c[0]", "$.d"});
+    assertEquals(JSONPathExtractor.Status.OK, extractor.extract(
+        "{\"a\": [{\"b\": 1}], \"c\": {\"x\": 1}, \"d\": 2}"));
+    assertFalse(extractor.isSupported(0));
+    assertFalse(extractor.isResolved(0));
+    // keys applied to arrays and subscripts applied to objects
+    assertFalse(extractor.isResolved(1));
+    assertFalse(extractor.isResolved(2));
+    assertTrue(extractor.isResolved(3));
+
+    // unquoted keys are left to org.json
+    assertEquals(JSONPathExtractor.Status.UNSUPPORTED,
+        extractor.extract("{d: 1}"));
+    assertFalse(extractor.isResolved(3));
+  }
+
+  public void testUDFJson() {
+    UDFJson udf = new UDFJson();
+    String doc = "{\"a\": [{\"b\": 1}, {\"b\": [2, 3]}], \"c\": \"x\"}";
+    assertEquals("x", udf.evaluate(doc, "$.c").toString());
+    assertEquals("1", udf.evaluate(doc, "$.a[0].b").toString());
+    assertEquals("[1,2,3]", udf.evaluate(doc, "$.a.b").toString());
+    assertEquals("[1,2,3]", udf.evaluate(doc, "$.a[*].b").toString());
+    assertEquals("x", udf.evaluate("{c: 'x'}", "$.c").toString());
+    assertNull(udf.evaluate(doc, "$.a[2]"));
+    assertNull(udf.evaluate("{\"c\": 1, \"c\": 2}", "$.c"));
+  }
+}
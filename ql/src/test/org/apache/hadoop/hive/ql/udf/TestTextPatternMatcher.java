@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.io.Text;
+
+/**
+ * JUnit test for TextPatternMatcher and the LIKE and regular expression UDFs
+ * that use it. Every result is checked against java.util.regex.
+ */
+public class TestTextPatternMatcher extends TestCase {
+
+  // LIKE patterns that are not plain prefix, suffix or substring searches
+  private static final String[] LIKE_PATTERNS = {"_", "a%b", "%foo%bar%",
+      "foo%bar", "%a_c%", "_%_", "a_c", "%\u00e9_", "\\%a%_", "a\\__%",
+      "%\ud83d\ude00%_", "a%b%c%d", "%.%_", "[a]%_", "a+_%", "a%\n",
+      "%(x|y)_%", "%_%_%"};
+
+  private static final String[] REGEXES = {"a", "foo", "^foo", "foo$",
+      "^foo$", "^$", ".", "a.c", "a.*c", "f(o|oo)b", "[a-c]+x", "[^a-c]",
+      "\\d{2,3}", "\\w+@\\w+", "\\s", "(?:ab)*c", "x?y??z", "a{0}b",
+      "\u00e9+", ".\ud83d\ude00", "[\\-\\]]", "^.*$", "(a|b)*abb",
+      "a++", "(?i)foo", "\\bfoo", "(a)\\1", "[a&&b]", "\\p{L}"};
+
+  private static final String[] STRINGS = {"", "a", "abc", "foo", "xfoobar",
+      "foo\n", "foo\r\n", "\nfoo", "foo\u2028", "a\u0085c", "aac", "abb",
+      "babb", "12", "1234", "x@y", "tab\there", "ababc", "xz", "xyz",
+      "\u00e9\u00e9", "a\ud83d\ude00", "-]", "ABC", "FOO", "a+b", "[a]b",
+      "(x|y)", "a.b", "_%"};
+
+  private static List<Text> inputs() {
+    List<Text> inputs = new ArrayList<Text>();
+    for (String s : STRINGS) {
+      inputs.add(new Text(s));
+    }
+    // malformed UTF-8 is decoded with replacement characters, so the
+    // matchers leave it to java.util.regex
+    byte[][] malformed = {{'f', 'o', 'o', (byte) 0x80},
+        {(byte) 0xE4, (byte) 0xB8, 'a', 'c'}, {(byte) 0xC0, (byte) 0xAF}};
+    for (byte[] bytes : malformed) {
+      Text t = new Text();
+      t.set(bytes);
+      inputs.add(t);
+    }
+    return inputs;
+  }
+
+  public void testLike() throws Exception {
+    UDFLike udf = new UDFLike();
+    for (String pattern : LIKE_PATTERNS) {
+      Pattern p = Pattern.compile(UDFLike.likePatternToRegExp(pattern));
+      for (Text s : inputs()) {
+        assertEquals(pattern + " on " + s, p.matcher(s.toString()).matches(),
+            udf.evaluate(s, new Text(pattern)).get());
+      }
+    }
+  }
+
+  public void testRegExp() throws Exception {
+    UDFRegExp udf = new UDFRegExp();
+    for (String regex : REGEXES) {
+      Pattern p = Pattern.compile(regex);
+      for (Text s : inputs()) {
+        assertEquals(regex + " on " + s, p.matcher(s.toString()).find(),
+            udf.evaluate(s, new Text(regex)).get());
+      }
+    }
+  }
+
+  public void testRegExpReplace() throws Exception {
+    UDFRegExpReplace udf = new UDFRegExpReplace();
+    Text replacement = new Text("<$0>");
+    for (String regex : REGEXES) {
+      Pattern p = Pattern.compile(regex);
+      for (Text s : inputs()) {
+        String expected = p.matcher(s.toString()).replaceAll("<$0>");
+        assertEquals(regex + " on " + s, new Text(expected), udf.evaluate(s,
+            new Text(regex), replacement));
+      }
+    }
+  }
+
+  public void testChangingRegExp() throws Exception {
+    // a regex that changes on every row is never compiled to a byte matcher
+    UDFRegExp udf = new UDFRegExp();
+    UDFRegExpReplace replaceUdf = new UDFRegExpReplace();
+    Text replacement = new Text("<$0>");
+    List<Text> inputs = inputs();
+    for (int i = 0; i < REGEXES.length * inputs.size(); i++) {
+      String regex = REGEXES[i % REGEXES.length];
+      Text s = inputs.get(i % inputs.size());
+      Pattern p = Pattern.compile(regex);
+      assertEquals(regex + " on " + s, p.matcher(s.toString()).find(), udf
+          .evaluate(s, new Text(regex)).get());
+      assertEquals(regex + " on " + s, new Text(p.matcher(s.toString())
+          .replaceAll("<$0>")), replaceUdf.evaluate(s, new Text(regex),
+          replacement));
+    }
+  }
+
+  public void testMatcher() throws Exception {
+    for (String regex : REGEXES) {
+      TextPatternMatcher matcher = TextPatternMatcher.compileRegex(regex);
+      if (matcher == null) {
+        continue;
+      }
+      Pattern p = Pattern.compile(regex);
+      for (Text s : inputs()) {
+        int match = matcher.match(s);
+        if (match != TextPatternMatcher.UNKNOWN) {
+          assertEquals(regex + " on " + s, p.matcher(s.toString()).find(),
+              match == TextPatternMatcher.MATCH);
+        }
+      }
+    }
+  }
+
+  public void testUnsupported() throws Exception {
+    // all of these need backtracking or features outside of the subset
+    String[] unsupported = {"a++", "(?i)foo", "\\bfoo", "(a)\\1", "[a&&b]",
+        "\\p{L}", "a|^b", "a(?=b)", "a{2", "*a", "[]a]"};
+    for (String regex : unsupported) {
+      assertNull(regex, TextPatternMatcher.compileRegex(regex));
+    }
+    assertNotNull(TextPatternMatcher.compileLike("%foo%bar%"));
+    assertNotNull(TextPatternMatcher.compileLike("a+%"));
+  }
+
+  public void testMalformed() throws Exception {
+    Text t = new Text();
+    t.set(new byte[] {'f', 'o', 'o', (byte) 0xFF});
+    assertEquals(TextPatternMatcher.UNKNOWN, TextPatternMatcher.compileLike(
+        "%o_o%").match(t));
+    assertEquals(TextPatternMatcher.UNKNOWN, TextPatternMatcher.compileRegex(
+        "foo").match(t));
+  }
+}
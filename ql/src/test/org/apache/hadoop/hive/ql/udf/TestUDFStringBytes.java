@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hive.ql.udf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.Text;
+
+/**
+ * JUnit test for the string UDFs that work on UTF-8 bytes. Each one is
+ * checked against the String based implementation it replaced.
+ */
+public class TestUDFStringBytes extends TestCase {
+
+  // ASCII, two and three byte characters, characters with special case
+  // mappings, and characters outside the BMP (surrogate pairs in a String)
+  private static final String[] STRINGS = {"", " ", "   ", "Facebook",
+      "  hello world  ", "MiXeD cAsE 123 !@#", "\u00e9t\u00e9",
+      " \u00c9T\u00c9 ", "\u4e2d\u6587 \u5b57\u7b26", "\u00df\u0130\u03a3",
+      "a\ud83d\ude00b\ud83d\ude01c", " \ud834\udd1e ", "\t tab\t "};
+
+  private static List<Text> inputs() {
+    List<Text> inputs = new ArrayList<Text>();
+    for (String s : STRINGS) {
+      inputs.add(new Text(s));
+    }
+    // malformed UTF-8: stray continuation byte, truncated sequence, overlong
+    // encoding, encoded surrogate
+    byte[][] malformed = {{' ', (byte) 0x80, 'a', ' '},
+        {'a', 'b', (byte) 0xE4, (byte) 0xB8}, {(byte) 0xC0, (byte) 0xAF, ' '},
+        {' ', (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'x'}};
+    for (byte[] bytes : malformed) {
+      Text t = new Text();
+      t.set(bytes);
+      inputs.add(t);
+    }
+    return inputs;
+  }
+
+  private static void assertText(String expected, Text actual) {
+    assertEquals(new Text(expected), actual);
+  }
+
+  public void testSubstr() throws Exception {
+    UDFSubstr udf = new UDFSubstr();
+    int[] positions = {-20, -7, -3, -1, 0, 1, 2, 3, 5, 8, 20};
+    int[] lengths = {-1, 0, 1, 2, 3, 5, Integer.MAX_VALUE};
+    for (Text t : inputs()) {
+      String s = t.toString();
+      for (int pos : positions) {
+        for (int len : lengths) {
+          String expected;
+          if (len <= 0 || Math.abs(pos) > s.length()) {
+            expected = "";
+          } else {
+            int start = pos > 0 ? pos - 1 : pos < 0 ? s.length() + pos : 0;
+            int end = s.length() - start < len ? s.length() : start + len;
+            expected = s.substring(start, end);
+          }
+          assertText(expected, udf.evaluate(t, new IntWritable(pos),
+              new IntWritable(len)));
+        }
+      }
+    }
+  }
+
+  public void testUpperLower() throws Exception {
+    UDFUpper upper = new UDFUpper();
+    UDFLower lower = new UDFLower();
+    for (Text t : inputs()) {
+      assertText(t.toString().toUpperCase(), upper.evaluate(t));
+      assertText(t.toString().toLowerCase(), lower.evaluate(t));
+    }
+  }
+
+  public void testTrim() throws Exception {
+    UDFTrim trim = new UDFTrim();
+    UDFLTrim ltrim = new UDFLTrim();
+    UDFRTrim rtrim = new UDFRTrim();
+    for (Text t : inputs()) {
+      assertText(StringUtils.strip(t.toString(), " "), trim.evaluate(t));
+      assertText(StringUtils.stripStart(t.toString(), " "), ltrim.evaluate(t));
+      assertText(StringUtils.stripEnd(t.toString(), " "), rtrim.evaluate(t));
+    }
+  }
+
+  public void testNull() {
+    assertNull(new UDFSubstr().evaluate(null, new IntWritable(1)));
+    assertNull(new UDFUpper().evaluate(null));
+    assertNull(new UDFLower().evaluate(null));
+    assertNull(new UDFTrim().evaluate(null));
+    assertNull(new UDFLTrim().evaluate(null));
+    assertNull(new UDFRTrim().evaluate(null));
+  }
+}
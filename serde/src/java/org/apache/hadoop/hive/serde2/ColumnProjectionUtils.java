@@ -31,6 +31,8 @@ public final class ColumnProjectionUtils {
 
   public static final String READ_COLUMN_IDS_CONF_STR = "hive.io.file.readcolumn.ids";
 
+  public static final String READ_NO_COLUMNS_CONF_STR = "hive.io.file.read.nocolumns";
+
   /**
    * Sets read columns' ids(start from zero) for RCFile's Reader. Once a column
    * is included in the list, RCFile's reader will not skip its value.
@@ -104,6 +106,22 @@ public final class ColumnProjectionUtils {
     return result;
   }
 
+  /**
+   * Sets whether the readers only need the number of rows and none of the
+   * columns. An empty read column list alone means all columns are read.
+   */
+  public static void setReadNoColumns(Configuration conf, boolean noColumns) {
+    conf.setBoolean(READ_NO_COLUMNS_CONF_STR, noColumns);
+  }
+
+  /**
+   * Returns whether the readers only need the number of rows and none of the
+   * columns.
+   */
+  public static boolean isReadNoColumns(Configuration conf) {
+    return conf.getBoolean(READ_NO_COLUMNS_CONF_STR, false);
+  }
+
   /**
    * Clears the read column ids set in the conf, and will read all columns.
    */